@@ -0,0 +1,28 @@
+package com.teamlms.backend.domain.alarm.api;
+
+import com.teamlms.backend.domain.alarm.service.AlarmMessageRenderer;
+import com.teamlms.backend.domain.alarm.service.AlarmMessageRenderer.AlarmTemplateCacheStats;
+import com.teamlms.backend.global.api.ApiResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+/**
+ * 관리자: 알림 처리 상태 조회 API
+ */
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/v1/admin/alarms")
+@PreAuthorize("hasAuthority('LOG_MANAGE')")
+public class AlarmAdminController {
+
+    private final AlarmMessageRenderer messageRenderer;
+
+    /**
+     * 알림 메시지 템플릿 캐시 상태 (적중률, 크기, JSON 인자 해석 건수)
+     */
+    @GetMapping("/template-cache/stats")
+    public ApiResponse<AlarmTemplateCacheStats> getTemplateCacheStats() {
+        return ApiResponse.ok(messageRenderer.getStats());
+    }
+}
@@ -1,9 +1,11 @@
 package com.teamlms.backend.domain.alarm.api;
 
+import com.teamlms.backend.domain.account.enums.AccountType;
 import com.teamlms.backend.domain.alarm.api.dto.AlarmResponse;
 import com.teamlms.backend.domain.alarm.api.dto.AlarmUnreadCountResponse;
 import com.teamlms.backend.domain.alarm.service.AlarmCommandService;
 import com.teamlms.backend.domain.alarm.service.AlarmQueryService;
+import com.teamlms.backend.domain.alarm.service.AlarmStreamService;
 import com.teamlms.backend.global.api.ApiResponse;
 import com.teamlms.backend.global.api.PageMeta;
 import com.teamlms.backend.global.security.principal.AuthUser;
@@ -12,8 +14,10 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
+import org.springframework.http.MediaType;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.util.Map;
 
@@ -24,6 +28,7 @@ public class AlarmController {
 
     private final AlarmQueryService queryService;
     private final AlarmCommandService commandService;
+    private final AlarmStreamService streamService;
 
     @GetMapping
     public ApiResponse<java.util.List<AlarmResponse>> getMyAlarms(
@@ -52,6 +57,16 @@ public class AlarmController {
         return ApiResponse.ok(new AlarmUnreadCountResponse(unreadCount));
     }
 
+    // 새 알림(alarm)/안 읽은 수(unread-count) 이벤트 스트림, 연결 직후 현재 안 읽은 수 1회 전송
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter stream(
+            @AuthenticationPrincipal AuthUser user
+    ) {
+        SseEmitter emitter = streamService.connect(user.getAccountId(), AccountType.valueOf(user.getAccountType()));
+        streamService.pushUnreadCount(user.getAccountId(), queryService.getUnreadCount(user.getAccountId()));
+        return emitter;
+    }
+
     @PatchMapping("/{alarmId}/read")
     public ApiResponse<Map<String, Boolean>> markRead(
             @AuthenticationPrincipal AuthUser user,
@@ -2,6 +2,7 @@ package com.teamlms.backend.domain.alarm.api.dto;
 
 import com.teamlms.backend.domain.alarm.entity.Alarm;
 import com.teamlms.backend.domain.alarm.enums.AlarmType;
+import com.teamlms.backend.domain.alarm.repository.AlarmBroadcastRepository.FeedRow;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
@@ -49,4 +50,18 @@ public class AlarmResponse {
                 .actorAccountId(alarm.getCreatedBy())
                 .build();
     }
+
+    public static AlarmResponse of(FeedRow row, String title, String message) {
+        return AlarmResponse.builder()
+                .alarmId(row.alarmId())
+                .type(row.type())
+                .title(title)
+                .message(message)
+                .linkUrl(row.linkUrl())
+                .read(row.isRead())
+                .readAt(row.readAt())
+                .createdAt(row.createdAt())
+                .actorAccountId(row.createdBy())
+                .build();
+    }
 }
@@ -0,0 +1,287 @@
+package com.teamlms.backend.domain.alarm.repository;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import com.teamlms.backend.domain.account.enums.AccountType;
+import com.teamlms.backend.domain.alarm.enums.AlarmType;
+
+/**
+ * 방송 알림(전체 공지형) JDBC 저장소
+ * - 발송은 대상 계정 유형별 alarm_broadcast 1행 (수신자 수와 무관)
+ * - 계정별 노출/읽음은 조회 시 계산: 대상 유형 일치 + 계정 생성 이후 발송 + 기준선(cursor)/개별 기록(receipt)
+ * - 내 알림 목록은 개인 알림(alarm)과 UNION ALL 로 합쳐 최신순 페이징
+ * - 기준선은 발송 시각(created_at) 기준: alarm_id 는 커밋 순서가 아니므로 모두 읽음/삭제 시
+ *   (처리 시각 - 커밋 유예) 까지만 기준선으로 잡고, 유예 구간 안의 방송은 receipt 로 개별 기록
+ */
+@Repository
+public class AlarmBroadcastRepository {
+
+    // 계정에 노출되는 방송 알림 (:accountId 기준, b/a/c/r 별칭 사용)
+    private static final String VISIBLE_BROADCAST = """
+            FROM alarm_broadcast b
+            JOIN account a ON a.account_id = :accountId
+            LEFT JOIN alarm_broadcast_cursor c ON c.account_id = a.account_id
+            LEFT JOIN alarm_broadcast_receipt r ON r.alarm_id = b.alarm_id AND r.account_id = a.account_id
+            WHERE (b.target_account_type IS NULL OR b.target_account_type = a.account_type)
+              AND b.created_at >= a.created_at
+              AND (c.cleared_through_created_at IS NULL OR b.created_at > c.cleared_through_created_at)
+              AND r.deleted_at IS NULL
+            """;
+
+    private static final String UNREAD_CONDITION = """
+              AND (c.read_through_created_at IS NULL OR b.created_at > c.read_through_created_at)
+              AND r.read_at IS NULL
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedJdbcTemplate;
+    private final Duration commitGrace;
+
+    public AlarmBroadcastRepository(
+            DataSource dataSource,
+            @Value("${alarm.broadcast.commit-grace-seconds:60}") long commitGraceSeconds
+    ) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.namedJdbcTemplate = new NamedParameterJdbcTemplate(jdbcTemplate);
+        this.commitGrace = Duration.ofSeconds(Math.max(0, commitGraceSeconds));
+    }
+
+    /**
+     * 내 알림 목록 1행 (개인/방송 공통)
+     */
+    public record FeedRow(
+            Long alarmId,
+            AlarmType type,
+            String title,
+            String message,
+            String titleKey,
+            String messageKey,
+            String messageArgs,
+            String linkUrl,
+            LocalDateTime readAt,
+            LocalDateTime createdAt,
+            Long createdBy
+    ) {
+        public boolean isRead() {
+            return readAt != null;
+        }
+    }
+
+    /**
+     * 계정의 읽지 않은 알림 수 (개인/방송 분리) + 계정 유형
+     */
+    public record UnreadSnapshot(AccountType accountType, long personalUnread, long broadcastUnread) {
+    }
+
+    /**
+     * 방송 알림 1건 저장 (targetAccountType 이 null 이면 전체 계정)
+     */
+    public int insert(
+            AccountType targetAccountType,
+            AlarmType type,
+            String title,
+            String message,
+            String titleKey,
+            String messageKey,
+            String messageArgs,
+            String linkUrl,
+            Long actorAccountId,
+            LocalDateTime createdAt
+    ) {
+        Timestamp now = Timestamp.valueOf(createdAt);
+        return jdbcTemplate.update("""
+                INSERT INTO alarm_broadcast (
+                    target_account_type, alarm_type, title, message,
+                    title_key, message_key, message_args, link_url,
+                    created_at, created_by, updated_at, updated_by
+                )
+                VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)
+                """,
+                targetAccountType != null ? targetAccountType.name() : null,
+                type.name(), title, message, titleKey, messageKey, messageArgs, linkUrl,
+                now, actorAccountId, now, actorAccountId);
+    }
+
+    // 개인 + 방송 알림 최신순 페이지
+    public List<FeedRow> findFeed(Long accountId, long offset, int limit) {
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("accountId", accountId)
+                .addValue("offset", offset)
+                .addValue("limit", limit);
+        return namedJdbcTemplate.query("""
+                SELECT * FROM (
+                    SELECT p.alarm_id, p.alarm_type, p.title, p.message, p.title_key, p.message_key,
+                           p.message_args, p.link_url, p.read_at, p.created_at, p.created_by
+                    FROM alarm p
+                    WHERE p.recipient_account_id = :accountId
+                    UNION ALL
+                    SELECT b.alarm_id, b.alarm_type, b.title, b.message, b.title_key, b.message_key,
+                           b.message_args, b.link_url,
+                           COALESCE(r.read_at,
+                                    CASE WHEN b.created_at <= c.read_through_created_at THEN c.read_through_at END) AS read_at,
+                           b.created_at, b.created_by
+                """ + VISIBLE_BROADCAST + """
+                ) feed
+                ORDER BY feed.created_at DESC, feed.alarm_id DESC
+                LIMIT :limit OFFSET :offset
+                """, params, AlarmBroadcastRepository::mapFeedRow);
+    }
+
+    // 노출되는 방송 알림 수 (목록 전체 건수 계산용)
+    public long countVisible(Long accountId) {
+        Long count = namedJdbcTemplate.queryForObject(
+                "SELECT COUNT(*) " + VISIBLE_BROADCAST,
+                new MapSqlParameterSource("accountId", accountId), Long.class);
+        return count != null ? count : 0L;
+    }
+
+    // 읽지 않은 방송 알림 수
+    public long countUnread(Long accountId) {
+        Long count = namedJdbcTemplate.queryForObject(
+                "SELECT COUNT(*) " + VISIBLE_BROADCAST + UNREAD_CONDITION,
+                new MapSqlParameterSource("accountId", accountId), Long.class);
+        return count != null ? count : 0L;
+    }
+
+    // 읽지 않은 개인/방송 알림 수를 한 번에 조회 (계정이 없으면 empty)
+    public Optional<UnreadSnapshot> findUnreadSnapshot(Long accountId) {
+        return namedJdbcTemplate.query("""
+                SELECT acc.account_type,
+                       (SELECT COUNT(*) FROM alarm p
+                        WHERE p.recipient_account_id = acc.account_id AND p.read_at IS NULL) AS personal_unread,
+                       (SELECT COUNT(*)
+                """ + VISIBLE_BROADCAST + UNREAD_CONDITION + """
+                       ) AS broadcast_unread
+                FROM account acc
+                WHERE acc.account_id = :accountId
+                """, new MapSqlParameterSource("accountId", accountId), (rs, rowNum) -> new UnreadSnapshot(
+                        AccountType.valueOf(rs.getString("account_type")),
+                        rs.getLong("personal_unread"),
+                        rs.getLong("broadcast_unread")))
+                .stream().findFirst();
+    }
+
+    /**
+     * 방송 알림 개별 읽음 (계정에 노출되는 알림일 때만 기록)
+     *
+     * @return 0 이면 계정의 방송 알림이 아님
+     */
+    public int markRead(Long accountId, Long alarmId, LocalDateTime now) {
+        return upsertReceipt(accountId, alarmId, now, """
+                read_at = COALESCE(alarm_broadcast_receipt.read_at, EXCLUDED.updated_at)
+                """, "?, NULL");
+    }
+
+    /**
+     * 방송 알림 개별 삭제 (이후 목록/카운트에서 제외)
+     *
+     * @return 0 이면 계정의 방송 알림이 아님
+     */
+    public int markDeleted(Long accountId, Long alarmId, LocalDateTime now) {
+        return upsertReceipt(accountId, alarmId, now, """
+                deleted_at = COALESCE(alarm_broadcast_receipt.deleted_at, EXCLUDED.updated_at)
+                """, "NULL, ?");
+    }
+
+    // 모두 읽음: (now - 커밋 유예) 까지 읽음 기준선 이동 + 유예 구간 안의 노출 방송은 개별 읽음 기록
+    public void markAllRead(Long accountId, LocalDateTime now) {
+        MapSqlParameterSource params = cursorParams(accountId, now);
+        namedJdbcTemplate.update("""
+                INSERT INTO alarm_broadcast_cursor (account_id, read_through_created_at, read_through_at, updated_at)
+                VALUES (:accountId, :cutoff, :now, :now)
+                ON CONFLICT (account_id) DO UPDATE SET
+                    read_through_created_at = GREATEST(alarm_broadcast_cursor.read_through_created_at,
+                                                       EXCLUDED.read_through_created_at),
+                    read_through_at = EXCLUDED.read_through_at,
+                    updated_at = EXCLUDED.updated_at
+                """, params);
+        namedJdbcTemplate.update("""
+                INSERT INTO alarm_broadcast_receipt (alarm_id, account_id, read_at, deleted_at, created_at, updated_at)
+                SELECT b.alarm_id, a.account_id, :now, NULL, :now, :now
+                """ + VISIBLE_BROADCAST + """
+                  AND b.created_at > :cutoff
+                  AND r.read_at IS NULL
+                ON CONFLICT (alarm_id, account_id) DO UPDATE SET
+                    read_at = COALESCE(alarm_broadcast_receipt.read_at, EXCLUDED.read_at),
+                    updated_at = EXCLUDED.updated_at
+                """, params);
+    }
+
+    // 모두 삭제: (now - 커밋 유예) 까지 숨김 기준선 이동 + 유예 구간 안의 노출 방송은 개별 삭제 기록
+    public void clearAll(Long accountId, LocalDateTime now) {
+        MapSqlParameterSource params = cursorParams(accountId, now);
+        namedJdbcTemplate.update("""
+                INSERT INTO alarm_broadcast_cursor (account_id, cleared_through_created_at, updated_at)
+                VALUES (:accountId, :cutoff, :now)
+                ON CONFLICT (account_id) DO UPDATE SET
+                    cleared_through_created_at = GREATEST(alarm_broadcast_cursor.cleared_through_created_at,
+                                                          EXCLUDED.cleared_through_created_at),
+                    updated_at = EXCLUDED.updated_at
+                """, params);
+        namedJdbcTemplate.update("""
+                INSERT INTO alarm_broadcast_receipt (alarm_id, account_id, read_at, deleted_at, created_at, updated_at)
+                SELECT b.alarm_id, a.account_id, NULL, :now, :now, :now
+                """ + VISIBLE_BROADCAST + """
+                  AND b.created_at > :cutoff
+                ON CONFLICT (alarm_id, account_id) DO UPDATE SET
+                    deleted_at = COALESCE(alarm_broadcast_receipt.deleted_at, EXCLUDED.deleted_at),
+                    updated_at = EXCLUDED.updated_at
+                """, params);
+    }
+
+    // 기준선은 커밋 유예만큼 과거로: 그 안에서 발송됐지만 아직 커밋 전인 방송은 기준선에 포함되지 않음
+    private MapSqlParameterSource cursorParams(Long accountId, LocalDateTime now) {
+        return new MapSqlParameterSource()
+                .addValue("accountId", accountId)
+                .addValue("now", Timestamp.valueOf(now))
+                .addValue("cutoff", Timestamp.valueOf(now.minus(commitGrace)));
+    }
+
+    private int upsertReceipt(Long accountId, Long alarmId, LocalDateTime now, String onConflictSet,
+            String readDeletedValues) {
+        Timestamp ts = Timestamp.valueOf(now);
+        return jdbcTemplate.update("""
+                INSERT INTO alarm_broadcast_receipt (alarm_id, account_id, read_at, deleted_at, created_at, updated_at)
+                SELECT b.alarm_id, a.account_id, %s, ?, ?
+                FROM alarm_broadcast b
+                JOIN account a ON a.account_id = ?
+                WHERE b.alarm_id = ?
+                  AND (b.target_account_type IS NULL OR b.target_account_type = a.account_type)
+                  AND b.created_at >= a.created_at
+                ON CONFLICT (alarm_id, account_id) DO UPDATE SET
+                    %s,
+                    updated_at = EXCLUDED.updated_at
+                """.formatted(readDeletedValues, onConflictSet), ts, ts, ts, accountId, alarmId);
+    }
+
+    private static FeedRow mapFeedRow(ResultSet rs, int rowNum) throws SQLException {
+        Timestamp readAt = rs.getTimestamp("read_at");
+        Timestamp createdAt = rs.getTimestamp("created_at");
+        return new FeedRow(
+                rs.getLong("alarm_id"),
+                AlarmType.valueOf(rs.getString("alarm_type")),
+                rs.getString("title"),
+                rs.getString("message"),
+                rs.getString("title_key"),
+                rs.getString("message_key"),
+                rs.getString("message_args"),
+                rs.getString("link_url"),
+                readAt != null ? readAt.toLocalDateTime() : null,
+                createdAt != null ? createdAt.toLocalDateTime() : null,
+                rs.getObject("created_by", Long.class));
+    }
+}
@@ -0,0 +1,81 @@
+package com.teamlms.backend.domain.alarm.repository;
+
+import java.sql.PreparedStatement;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import javax.sql.DataSource;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import com.teamlms.backend.domain.alarm.enums.AlarmType;
+
+/**
+ * 알림 다건 저장 JDBC 저장소
+ * - 수신자/본문/인자를 배열로 넘겨 INSERT ... SELECT unnest 1건으로 저장
+ */
+@Repository
+public class AlarmBulkRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public AlarmBulkRepository(DataSource dataSource) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+    }
+
+    /**
+     * message/messageArgs 는 해석이 끝난 값
+     */
+    public record AlarmRow(long recipientAccountId, String message, String messageArgs) {
+    }
+
+    public int insertAll(
+            AlarmType type,
+            String title,
+            String titleKey,
+            String messageKey,
+            String linkUrl,
+            List<AlarmRow> rows,
+            Long actorAccountId,
+            LocalDateTime createdAt
+    ) {
+        if (rows.isEmpty()) {
+            return 0;
+        }
+        Long[] recipients = rows.stream().map(AlarmRow::recipientAccountId).toArray(Long[]::new);
+        String[] messages = rows.stream().map(AlarmRow::message).toArray(String[]::new);
+        String[] messageArgs = rows.stream().map(AlarmRow::messageArgs).toArray(String[]::new);
+        Timestamp now = Timestamp.valueOf(createdAt);
+
+        return jdbcTemplate.update(con -> {
+            PreparedStatement ps = con.prepareStatement("""
+                    INSERT INTO alarm (
+                        recipient_account_id, alarm_type, title, message,
+                        title_key, message_key, message_args, link_url,
+                        created_at, created_by, updated_at, updated_by
+                    )
+                    SELECT r.recipient_account_id, ?, ?, r.message,
+                           ?, ?, r.message_args, ?,
+                           ?, ?, ?, ?
+                    FROM unnest(CAST(? AS BIGINT[]), CAST(? AS VARCHAR[]), CAST(? AS TEXT[]))
+                        AS r(recipient_account_id, message, message_args)
+                    """);
+            ps.setString(1, type.name());
+            ps.setString(2, title);
+            ps.setString(3, titleKey);
+            ps.setString(4, messageKey);
+            ps.setString(5, linkUrl);
+            ps.setTimestamp(6, now);
+            ps.setObject(7, actorAccountId, Types.BIGINT);
+            ps.setTimestamp(8, now);
+            ps.setObject(9, actorAccountId, Types.BIGINT);
+            ps.setArray(10, con.createArrayOf("bigint", recipients));
+            ps.setArray(11, con.createArrayOf("varchar", messages));
+            ps.setArray(12, con.createArrayOf("text", messageArgs));
+            return ps;
+        });
+    }
+}
@@ -19,6 +19,8 @@ public interface AlarmRepository extends JpaRepository<Alarm, Long> {
 
     long deleteByAlarmIdAndRecipientAccountId(Long alarmId, Long recipientAccountId);
 
+    long countByRecipientAccountId(Long recipientAccountId);
+
     long countByRecipientAccountIdAndReadAtIsNull(Long recipientAccountId);
 
     @Modifying
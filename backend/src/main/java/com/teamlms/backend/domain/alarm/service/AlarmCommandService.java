@@ -1,19 +1,29 @@
 package com.teamlms.backend.domain.alarm.service;
 
+import com.teamlms.backend.domain.account.enums.AccountType;
+import com.teamlms.backend.domain.alarm.api.dto.AlarmResponse;
 import com.teamlms.backend.domain.alarm.entity.Alarm;
 import com.teamlms.backend.domain.alarm.enums.AlarmType;
+import com.teamlms.backend.domain.alarm.repository.AlarmBroadcastRepository;
+import com.teamlms.backend.domain.alarm.repository.AlarmBulkRepository;
+import com.teamlms.backend.domain.alarm.repository.AlarmBulkRepository.AlarmRow;
 import com.teamlms.backend.domain.alarm.repository.AlarmRepository;
 import com.teamlms.backend.global.exception.base.BusinessException;
 import com.teamlms.backend.global.exception.code.ErrorCode;
 import com.teamlms.backend.global.i18n.LocaleUtil;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
-import org.springframework.context.MessageSource;
+import org.springframework.data.domain.AuditorAware;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
 import java.util.Locale;
+import java.util.Map;
 
 @Service
 @RequiredArgsConstructor
@@ -21,8 +31,11 @@ import java.util.Locale;
 public class AlarmCommandService {
 
     private final AlarmRepository alarmRepository;
-    private final MessageSource messageSource;
-    private final ObjectMapper objectMapper;
+    private final AlarmMessageRenderer messageRenderer;
+    private final AlarmBulkRepository alarmBulkRepository;
+    private final AlarmBroadcastRepository alarmBroadcastRepository;
+    private final AuditorAware<Long> auditorProvider;
+    private final AlarmUnreadCounter unreadCounter;
 
     public Long createAlarm(Long recipientAccountId, AlarmType type, String title, String message, String linkUrl) {
         Alarm alarm = Alarm.builder()
@@ -33,7 +46,9 @@ public class AlarmCommandService {
                 .linkUrl(linkUrl)
                 .build();
 
-        return alarmRepository.save(alarm).getAlarmId();
+        Alarm saved = alarmRepository.save(alarm);
+        unreadCounter.onCreated(recipientAccountId, AlarmResponse.from(saved));
+        return saved.getAlarmId();
     }
 
     public Long createAlarmI18n(
@@ -61,50 +76,154 @@ public class AlarmCommandService {
                 .linkUrl(linkUrl)
                 .build();
 
-        return alarmRepository.save(alarm).getAlarmId();
+        Alarm saved = alarmRepository.save(alarm);
+        unreadCounter.onCreated(recipientAccountId, AlarmResponse.from(saved));
+        return saved.getAlarmId();
+    }
+
+    /**
+     * 같은 종류의 알림을 여러 수신자에게 한 번에 생성 (INSERT 1건)
+     * - 제목은 1회, 본문은 서로 다른 인자 조합마다 1회만 해석
+     *
+     * @return 생성된 알림 수
+     */
+    public int createAlarmsI18n(
+            AlarmType type,
+            String titleKey,
+            String messageKey,
+            Map<Long, Object[]> messageArgsByRecipient,
+            String linkUrl,
+            String fallbackTitle,
+            String fallbackMessage
+    ) {
+        if (messageArgsByRecipient.isEmpty()) {
+            return 0;
+        }
+        Locale locale = LocaleUtil.toLocale(LocaleUtil.getCurrentLocale());
+        String resolvedTitle = resolveMessage(titleKey, null, fallbackTitle, locale);
+
+        Map<List<Object>, String[]> templates = new HashMap<>();
+        List<AlarmRow> rows = new ArrayList<>(messageArgsByRecipient.size());
+        messageArgsByRecipient.forEach((recipientAccountId, args) -> {
+            List<Object> argsKey = args == null ? List.of() : Arrays.asList(args);
+            String[] resolved = templates.computeIfAbsent(argsKey, k -> new String[] {
+                    resolveMessage(messageKey, args, fallbackMessage, locale),
+                    serializeArgs(messageKey, args)
+            });
+            rows.add(new AlarmRow(recipientAccountId, resolved[0] != null ? resolved[0] : "", resolved[1]));
+        });
+
+        int created = alarmBulkRepository.insertAll(
+                type,
+                resolvedTitle != null ? resolvedTitle : "",
+                titleKey,
+                messageKey,
+                linkUrl,
+                rows,
+                auditorProvider.getCurrentAuditor().orElse(null),
+                LocalDateTime.now());
+        unreadCounter.onCreated(messageArgsByRecipient.keySet());
+        return created;
+    }
+
+    /**
+     * 방송 알림 생성 - 대상 계정 유형별 1건만 저장 (수신자 수와 무관)
+     * - 계정별 노출/읽음은 조회 시 계산 (계정 생성 이후 발송된 알림만 노출)
+     *
+     * @return 저장된 방송 알림 수
+     */
+    public int createBroadcastAlarmI18n(
+            Collection<AccountType> targetAccountTypes,
+            AlarmType type,
+            String titleKey,
+            String messageKey,
+            Object[] messageArgs,
+            String linkUrl,
+            String fallbackTitle,
+            String fallbackMessage
+    ) {
+        Locale locale = LocaleUtil.toLocale(LocaleUtil.getCurrentLocale());
+        String resolvedTitle = resolveMessage(titleKey, null, fallbackTitle, locale);
+        String resolvedMessage = resolveMessage(messageKey, messageArgs, fallbackMessage, locale);
+        String serializedArgs = serializeArgs(messageKey, messageArgs);
+        Long actorAccountId = auditorProvider.getCurrentAuditor().orElse(null);
+        LocalDateTime now = LocalDateTime.now();
+
+        int created = 0;
+        for (AccountType target : targetAccountTypes) {
+            created += alarmBroadcastRepository.insert(
+                    target,
+                    type,
+                    resolvedTitle != null ? resolvedTitle : "",
+                    resolvedMessage != null ? resolvedMessage : "",
+                    titleKey,
+                    messageKey,
+                    serializedArgs,
+                    linkUrl,
+                    actorAccountId,
+                    now);
+        }
+        unreadCounter.onBroadcast(targetAccountTypes);
+        return created;
     }
 
     private String resolveMessage(String key, Object[] args, String fallback, Locale locale) {
         if (key == null || key.isBlank()) {
             return fallback;
         }
-        try {
-            return messageSource.getMessage(key, args, locale);
-        } catch (Exception e) {
-            return fallback != null ? fallback : key;
+        String resolved = messageRenderer.render(key, args, locale);
+        if (resolved != null) {
+            return resolved;
         }
+        return fallback != null ? fallback : key;
     }
 
     private String serializeArgs(String key, Object[] args) {
-        if (key == null || key.isBlank() || args == null || args.length == 0) {
-            return null;
-        }
-        try {
-            return objectMapper.writeValueAsString(args);
-        } catch (Exception e) {
+        if (key == null || key.isBlank()) {
             return null;
         }
+        return messageRenderer.encodeArgs(args);
     }
 
+    // 개인 알림이 아니면 방송 알림으로 처리 (alarm_id 시퀀스 공유)
     public void markRead(Long accountId, Long alarmId) {
-        Alarm alarm = alarmRepository.findByAlarmIdAndRecipientAccountId(alarmId, accountId)
-                .orElseThrow(() -> new BusinessException(ErrorCode.NOT_FOUND));
-
-        alarm.markRead(LocalDateTime.now());
+        LocalDateTime now = LocalDateTime.now();
+        Alarm alarm = alarmRepository.findByAlarmIdAndRecipientAccountId(alarmId, accountId).orElse(null);
+        if (alarm != null) {
+            if (!alarm.isRead()) {
+                alarm.markRead(now);
+                unreadCounter.onRead(accountId);
+            }
+            return;
+        }
+        if (alarmBroadcastRepository.markRead(accountId, alarmId, now) == 0) {
+            throw new BusinessException(ErrorCode.NOT_FOUND);
+        }
+        unreadCounter.invalidate(accountId);
     }
 
     public int markAllRead(Long accountId) {
-        return alarmRepository.markAllRead(accountId, LocalDateTime.now());
+        LocalDateTime now = LocalDateTime.now();
+        long unreadBroadcasts = alarmBroadcastRepository.countUnread(accountId);
+        alarmBroadcastRepository.markAllRead(accountId, now);
+        int updated = alarmRepository.markAllRead(accountId, now) + (int) unreadBroadcasts;
+        unreadCounter.reset(accountId);
+        return updated;
     }
 
     public void deleteAlarm(Long accountId, Long alarmId) {
         long deleted = alarmRepository.deleteByAlarmIdAndRecipientAccountId(alarmId, accountId);
-        if (deleted == 0) {
+        if (deleted == 0 && alarmBroadcastRepository.markDeleted(accountId, alarmId, LocalDateTime.now()) == 0) {
             throw new BusinessException(ErrorCode.NOT_FOUND);
         }
+        unreadCounter.invalidate(accountId);
     }
 
     public int deleteAll(Long accountId) {
-        return alarmRepository.deleteAllByRecipientAccountId(accountId);
+        long visibleBroadcasts = alarmBroadcastRepository.countVisible(accountId);
+        alarmBroadcastRepository.clearAll(accountId, LocalDateTime.now());
+        int deleted = alarmRepository.deleteAllByRecipientAccountId(accountId) + (int) visibleBroadcasts;
+        unreadCounter.reset(accountId);
+        return deleted;
     }
 }
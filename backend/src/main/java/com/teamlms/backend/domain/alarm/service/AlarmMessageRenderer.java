@@ -0,0 +1,203 @@
+package com.teamlms.backend.domain.alarm.service;
+
+import java.math.BigDecimal;
+import java.text.MessageFormat;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.springframework.context.MessageSource;
+import org.springframework.context.NoSuchMessageException;
+import org.springframework.stereotype.Component;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 알림 제목/본문 렌더링
+ * - (메시지 키, locale) 별 원문 패턴과 컴파일된 MessageFormat 을 캐시 (없는 키도 캐시)
+ * - 메시지 인자는 길이 접두 문자열(~s4:Hongl3:100)로 저장해 JSON 파싱 없이 복원
+ *   (기존 JSON 배열로 저장된 알림은 ObjectMapper 로 읽음)
+ * - 인자가 없으면 원문 그대로, 있으면 MessageFormat 적용 (MessageSource.getMessage 와 같은 결과)
+ */
+@Component
+@RequiredArgsConstructor
+public class AlarmMessageRenderer {
+
+    private static final char COMPACT_PREFIX = '~';
+
+    private static final Template MISSING = new Template(null, null);
+
+    private final MessageSource messageSource;
+    private final ObjectMapper objectMapper;
+
+    private final Map<TemplateKey, Template> templates = new ConcurrentHashMap<>();
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder legacyArgDecodes = new LongAdder();
+
+    record TemplateKey(String key, Locale locale) {
+    }
+
+    // format 이 null 이면 인자와 관계없이 pattern 그대로 (중괄호/따옴표 없음)
+    record Template(String pattern, MessageFormat format) {
+    }
+
+    /**
+     * 키 해석 + 인자 적용, 키가 없거나 인자가 맞지 않으면 null
+     */
+    public String render(String key, Object[] args, Locale locale) {
+        Template template = template(key, locale);
+        if (template.pattern() == null) {
+            return null;
+        }
+        if (args == null || args.length == 0 || template.format() == null) {
+            return template.pattern();
+        }
+        try {
+            synchronized (template.format()) {
+                return template.format().format(args);
+            }
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    /**
+     * 저장된 인자 문자열로 렌더링
+     */
+    public String renderEncoded(String key, String encodedArgs, Locale locale) {
+        return render(key, decodeArgs(encodedArgs), locale);
+    }
+
+    /**
+     * 인자 저장 형식으로 변환 (인자가 없으면 null)
+     */
+    public String encodeArgs(Object[] args) {
+        if (args == null || args.length == 0) {
+            return null;
+        }
+        StringBuilder sb = new StringBuilder().append(COMPACT_PREFIX);
+        for (Object arg : args) {
+            char type;
+            String value;
+            if (arg == null) {
+                type = 'n';
+                value = "";
+            } else if (arg instanceof Integer || arg instanceof Long || arg instanceof Short || arg instanceof Byte) {
+                type = 'l';
+                value = arg.toString();
+            } else if (arg instanceof Double || arg instanceof Float) {
+                type = 'd';
+                value = arg.toString();
+            } else if (arg instanceof BigDecimal decimal) {
+                type = 'b';
+                value = decimal.toPlainString();
+            } else {
+                type = 's';
+                value = arg.toString();
+            }
+            sb.append(type).append(value.length()).append(':').append(value);
+        }
+        return sb.toString();
+    }
+
+    /**
+     * 저장된 인자 복원 (길이 접두 형식 또는 기존 JSON 배열), 읽을 수 없으면 null
+     */
+    public Object[] decodeArgs(String encoded) {
+        if (encoded == null || encoded.isEmpty()) {
+            return null;
+        }
+        if (encoded.charAt(0) != COMPACT_PREFIX) {
+            return decodeLegacy(encoded);
+        }
+        List<Object> args = new ArrayList<>();
+        int pos = 1;
+        try {
+            while (pos < encoded.length()) {
+                char type = encoded.charAt(pos);
+                int colon = encoded.indexOf(':', pos + 1);
+                int length = Integer.parseInt(encoded, pos + 1, colon, 10);
+                String value = encoded.substring(colon + 1, colon + 1 + length);
+                args.add(switch (type) {
+                    case 'n' -> null;
+                    case 'l' -> Long.valueOf(value);
+                    case 'd' -> Double.valueOf(value);
+                    case 'b' -> new BigDecimal(value);
+                    default -> value;
+                });
+                pos = colon + 1 + length;
+            }
+        } catch (RuntimeException e) {
+            return null;
+        }
+        return args.toArray();
+    }
+
+    public AlarmTemplateCacheStats getStats() {
+        long hitCount = hits.sum();
+        long missCount = misses.sum();
+        long total = hitCount + missCount;
+        return new AlarmTemplateCacheStats(
+                templates.size(),
+                hitCount,
+                missCount,
+                total == 0 ? 0.0 : (double) hitCount / total,
+                legacyArgDecodes.sum());
+    }
+
+    private Template template(String key, Locale locale) {
+        TemplateKey templateKey = new TemplateKey(key, locale);
+        Template cached = templates.get(templateKey);
+        if (cached != null) {
+            hits.increment();
+            return cached;
+        }
+        misses.increment();
+        return templates.computeIfAbsent(templateKey, k -> compile(key, locale));
+    }
+
+    private Template compile(String key, Locale locale) {
+        String pattern;
+        try {
+            // 인자 없이 조회하면 MessageFormat 을 거치지 않은 원문
+            pattern = messageSource.getMessage(key, null, locale);
+        } catch (NoSuchMessageException e) {
+            return MISSING;
+        }
+        if (pattern.indexOf('{') < 0 && pattern.indexOf('\'') < 0) {
+            return new Template(pattern, null);
+        }
+        try {
+            return new Template(pattern, new MessageFormat(pattern, locale));
+        } catch (IllegalArgumentException e) {
+            return new Template(pattern, null);
+        }
+    }
+
+    private Object[] decodeLegacy(String json) {
+        legacyArgDecodes.increment();
+        try {
+            return objectMapper.readValue(json, Object[].class);
+        } catch (Exception e) {
+            return null;
+        }
+    }
+
+    /**
+     * 알림 메시지 템플릿 캐시 상태 (적중률, 크기, JSON 인자 해석 건수)
+     */
+    public record AlarmTemplateCacheStats(
+            int size,
+            long hitCount,
+            long missCount,
+            double hitRate,
+            long legacyArgDecodeCount
+    ) {}
+}
@@ -1,16 +1,18 @@
 package com.teamlms.backend.domain.alarm.service;
 
 import com.teamlms.backend.domain.alarm.api.dto.AlarmResponse;
+import com.teamlms.backend.domain.alarm.repository.AlarmBroadcastRepository;
+import com.teamlms.backend.domain.alarm.repository.AlarmBroadcastRepository.FeedRow;
 import com.teamlms.backend.domain.alarm.repository.AlarmRepository;
 import com.teamlms.backend.global.i18n.LocaleUtil;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
-import org.springframework.context.MessageSource;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
 import java.util.Locale;
 
 @Service
@@ -19,56 +21,48 @@ import java.util.Locale;
 public class AlarmQueryService {
 
     private final AlarmRepository alarmRepository;
-    private final MessageSource messageSource;
-    private final ObjectMapper objectMapper;
+    private final AlarmMessageRenderer messageRenderer;
+    private final AlarmBroadcastRepository alarmBroadcastRepository;
+    private final AlarmUnreadCounter unreadCounter;
 
+    // 개인 알림 + 방송 알림을 최신순으로 합쳐 페이징
     public Page<AlarmResponse> getMyAlarms(Long accountId, Pageable pageable) {
         Locale locale = LocaleUtil.toLocale(LocaleUtil.getCurrentLocale());
-        return alarmRepository.findByRecipientAccountId(accountId, pageable)
-                .map(alarm -> AlarmResponse.of(
-                        alarm,
-                        resolveTitle(alarm, locale),
-                        resolveMessage(alarm, locale)
-                ));
+        List<AlarmResponse> content = alarmBroadcastRepository
+                .findFeed(accountId, pageable.getOffset(), pageable.getPageSize())
+                .stream()
+                .map(row -> AlarmResponse.of(
+                        row,
+                        resolveTitle(row, locale),
+                        resolveMessage(row, locale)
+                ))
+                .toList();
+        long total = alarmRepository.countByRecipientAccountId(accountId)
+                + alarmBroadcastRepository.countVisible(accountId);
+        return new PageImpl<>(content, pageable, total);
     }
 
+    // 메모리 카운터 (처음 조회 시 DB 적재, 이후 알림 변경 시 증감)
     public long getUnreadCount(Long accountId) {
-        return alarmRepository.countByRecipientAccountIdAndReadAtIsNull(accountId);
+        return unreadCounter.get(accountId);
     }
 
-    private String resolveTitle(com.teamlms.backend.domain.alarm.entity.Alarm alarm, Locale locale) {
-        String key = alarm.getTitleKey();
+    // 템플릿 캐시로 렌더링 (JSON 파싱/MessageFormat 컴파일 없음), 해석 실패 시 저장된 문구
+    private String resolveTitle(FeedRow alarm, Locale locale) {
+        String key = alarm.titleKey();
         if (key == null || key.isBlank()) {
-            return alarm.getTitle();
-        }
-        try {
-            return messageSource.getMessage(key, null, locale);
-        } catch (Exception e) {
-            return alarm.getTitle();
+            return alarm.title();
         }
+        String resolved = messageRenderer.render(key, null, locale);
+        return resolved != null ? resolved : alarm.title();
     }
 
-    private String resolveMessage(com.teamlms.backend.domain.alarm.entity.Alarm alarm, Locale locale) {
-        String key = alarm.getMessageKey();
+    private String resolveMessage(FeedRow alarm, Locale locale) {
+        String key = alarm.messageKey();
         if (key == null || key.isBlank()) {
-            return alarm.getMessage();
-        }
-        Object[] args = parseArgs(alarm.getMessageArgs());
-        try {
-            return messageSource.getMessage(key, args, locale);
-        } catch (Exception e) {
-            return alarm.getMessage();
-        }
-    }
-
-    private Object[] parseArgs(String json) {
-        if (json == null || json.isBlank()) {
-            return null;
-        }
-        try {
-            return objectMapper.readValue(json, Object[].class);
-        } catch (Exception e) {
-            return null;
+            return alarm.message();
         }
+        String resolved = messageRenderer.renderEncoded(key, alarm.messageArgs(), locale);
+        return resolved != null ? resolved : alarm.message();
     }
 }
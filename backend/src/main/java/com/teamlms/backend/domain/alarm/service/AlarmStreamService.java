@@ -0,0 +1,220 @@
+package com.teamlms.backend.domain.alarm.service;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import com.teamlms.backend.domain.account.enums.AccountType;
+import com.teamlms.backend.domain.alarm.api.dto.AlarmResponse;
+import com.teamlms.backend.domain.alarm.api.dto.AlarmUnreadCountResponse;
+import com.teamlms.backend.global.exception.base.RetryableBusinessException;
+import com.teamlms.backend.global.exception.code.ErrorCode;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 알림 SSE 연결 관리
+ * - 계정별 연결 목록을 메모리에 보관하고 새 알림(alarm)/안 읽은 수(unread-count) 이벤트를 push
+ * - 전체 연결 수는 max-connections 로 제한 (초과 시 Retry-After 와 함께 거절)
+ * - 계정당 연결 수는 max-connections-per-account, 초과 시 가장 오래된 연결을 닫음 (탭 여러 개)
+ * - heartbeat-interval 마다 comment 를 보내 유휴 연결 유지 및 끊긴 연결 정리
+ * - 인스턴스 로컬 상태 (해당 인스턴스에 연결된 클라이언트에만 push)
+ * - 계정의 마지막 연결이 닫히면 등록된 리스너에 계정 ID 통지 (안 읽은 수 카운터 정리용)
+ */
+@Slf4j
+@Component
+public class AlarmStreamService {
+
+    public static final String EVENT_ALARM = "alarm";
+    public static final String EVENT_UNREAD_COUNT = "unread-count";
+
+    private static final long RETRY_AFTER_SECONDS = 10;
+
+    @Value("${alarm.stream.max-connections:10000}")
+    private int maxConnections;
+
+    @Value("${alarm.stream.max-connections-per-account:5}")
+    private int maxConnectionsPerAccount;
+
+    @Value("${alarm.stream.heartbeat-interval-seconds:25}")
+    private long heartbeatIntervalSeconds;
+
+    @Value("${alarm.stream.timeout-minutes:30}")
+    private long timeoutMinutes;
+
+    private final Map<Long, List<Connection>> connections = new ConcurrentHashMap<>();
+    private final AtomicInteger connectionCount = new AtomicInteger();
+    private final AtomicLong rejected = new AtomicLong();
+    private final List<Consumer<Long>> disconnectListeners = new CopyOnWriteArrayList<>();
+
+    private ScheduledExecutorService heartbeat;
+
+    final class Connection {
+        private final Long accountId;
+        private final AccountType accountType;
+        private final SseEmitter emitter;
+
+        private Connection(Long accountId, AccountType accountType, SseEmitter emitter) {
+            this.accountId = accountId;
+            this.accountType = accountType;
+            this.emitter = emitter;
+        }
+
+        SseEmitter emitter() {
+            return emitter;
+        }
+    }
+
+    public record StreamStats(int connections, int accounts, int maxConnections, long rejected) {}
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        ScheduledThreadPoolExecutor executor = new ScheduledThreadPoolExecutor(1, r -> {
+            Thread t = new Thread(r, "alarm-stream-heartbeat");
+            t.setDaemon(true);
+            return t;
+        });
+        executor.setExecuteExistingDelayedTasksAfterShutdownPolicy(false);
+        heartbeat = executor;
+        heartbeat.scheduleWithFixedDelay(this::heartbeatSafely,
+                heartbeatIntervalSeconds, heartbeatIntervalSeconds, TimeUnit.SECONDS);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        if (heartbeat != null) {
+            heartbeat.shutdownNow();
+        }
+        connections.values().forEach(list -> list.forEach(c -> c.emitter.complete()));
+        connections.clear();
+        connectionCount.set(0);
+    }
+
+    /**
+     * 스트림 연결 (연결 수 한도 초과 시 RetryableBusinessException)
+     */
+    public SseEmitter connect(Long accountId, AccountType accountType) {
+        if (connectionCount.incrementAndGet() > maxConnections) {
+            connectionCount.decrementAndGet();
+            rejected.incrementAndGet();
+            throw new RetryableBusinessException(
+                    ErrorCode.ALARM_STREAM_LIMIT_EXCEEDED, RETRY_AFTER_SECONDS, RETRY_AFTER_SECONDS);
+        }
+
+        SseEmitter emitter = new SseEmitter(TimeUnit.MINUTES.toMillis(timeoutMinutes));
+        Connection connection = new Connection(accountId, accountType, emitter);
+        List<Connection> list = connections.computeIfAbsent(accountId, k -> new CopyOnWriteArrayList<>());
+        list.add(connection);
+
+        emitter.onCompletion(() -> remove(connection));
+        emitter.onTimeout(() -> remove(connection));
+        emitter.onError(e -> remove(connection));
+
+        // 계정당 한도 초과분은 오래된 연결부터 정리
+        while (list.size() > maxConnectionsPerAccount) {
+            Connection oldest = list.get(0);
+            remove(oldest);
+            oldest.emitter.complete();
+        }
+        return emitter;
+    }
+
+    /**
+     * 계정의 마지막 연결이 닫힐 때 호출할 리스너 등록
+     */
+    public void onDisconnected(Consumer<Long> listener) {
+        disconnectListeners.add(listener);
+    }
+
+    public void pushUnreadCount(Long accountId, long unreadCount) {
+        send(accountId, EVENT_UNREAD_COUNT, new AlarmUnreadCountResponse(unreadCount));
+    }
+
+    public void pushAlarm(Long accountId, AlarmResponse alarm) {
+        send(accountId, EVENT_ALARM, alarm);
+    }
+
+    // 지정 유형(null 이면 전체) 계정 중 연결된 계정 ID
+    public List<Long> connectedAccountIds(AccountType accountType) {
+        return connections.entrySet().stream()
+                .filter(e -> e.getValue().stream()
+                        .anyMatch(c -> accountType == null || accountType == c.accountType))
+                .map(Map.Entry::getKey)
+                .toList();
+    }
+
+    public boolean isConnected(Long accountId) {
+        return connections.containsKey(accountId);
+    }
+
+    public StreamStats getStats() {
+        return new StreamStats(connectionCount.get(), connections.size(), maxConnections, rejected.get());
+    }
+
+    void heartbeatSafely() {
+        try {
+            for (List<Connection> list : connections.values()) {
+                for (Connection connection : list) {
+                    trySend(connection, SseEmitter.event().comment("heartbeat"));
+                }
+            }
+        } catch (RuntimeException e) {
+            log.warn("Alarm stream heartbeat failed", e);
+        }
+    }
+
+    private void send(Long accountId, String eventName, Object data) {
+        List<Connection> list = connections.get(accountId);
+        if (list == null) {
+            return;
+        }
+        for (Connection connection : list) {
+            trySend(connection, SseEmitter.event().name(eventName).data(data));
+        }
+    }
+
+    private void trySend(Connection connection, SseEmitter.SseEventBuilder event) {
+        try {
+            connection.emitter.send(event);
+        } catch (IOException | IllegalStateException e) {
+            // 끊긴 연결
+            remove(connection);
+            connection.emitter.completeWithError(e);
+        }
+    }
+
+    private void remove(Connection connection) {
+        boolean[] lastClosed = {false};
+        connections.computeIfPresent(connection.accountId, (k, list) -> {
+            if (list.remove(connection)) {
+                connectionCount.decrementAndGet();
+                lastClosed[0] = list.isEmpty();
+            }
+            return list.isEmpty() ? null : list;
+        });
+        if (lastClosed[0]) {
+            for (Consumer<Long> listener : disconnectListeners) {
+                try {
+                    listener.accept(connection.accountId);
+                } catch (RuntimeException e) {
+                    log.warn("Alarm stream disconnect listener failed. accountId={}", connection.accountId, e);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,309 @@
+package com.teamlms.backend.domain.alarm.service;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.teamlms.backend.domain.account.enums.AccountType;
+import com.teamlms.backend.domain.alarm.api.dto.AlarmResponse;
+import com.teamlms.backend.domain.alarm.repository.AlarmBroadcastRepository;
+import com.teamlms.backend.domain.alarm.repository.AlarmBroadcastRepository.UnreadSnapshot;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 계정별 읽지 않은 알림 수 메모리 카운터
+ * - 처음 조회 시 개인/방송 미읽음 수를 1회 조회해 적재, 이후 알림 생성/읽음/모두 읽음/삭제 커밋 시 증감
+ * - 방송 개별 읽음/개별 삭제처럼 증감을 알 수 없는 변경은 stale 표시 후 다음 조회에서 다시 적재
+ * - reconcile-interval 마다 SSE 연결 계정의 카운터는 다시 적재, 연결 없는 계정의 카운터는 제거 (동시 변경으로 생긴 오차 제거)
+ * - 계정의 마지막 SSE 연결이 닫히면 카운터 제거 (한 번 본 계정이 계속 쌓이지 않도록)
+ * - 값이 바뀌면 SSE 로 연결된 계정에 unread-count 이벤트 push (방송 알림은 대상이 많아 별도 스레드에서 push)
+ * - max-entries 를 넘으면 적재하지 않고 DB 조회로 대체
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class AlarmUnreadCounter {
+
+    private final AlarmBroadcastRepository alarmBroadcastRepository;
+    private final AlarmStreamService streamService;
+
+    @Value("${alarm.unread-cache.max-entries:100000}")
+    private int maxEntries;
+
+    @Value("${alarm.unread-cache.reconcile-interval-seconds:60}")
+    private long reconcileIntervalSeconds;
+
+    private final Map<Long, Counter> counters = new ConcurrentHashMap<>();
+    private ScheduledExecutorService reconciler;
+    private ScheduledExecutorService pusher;
+
+    static final class Counter {
+        private final AccountType accountType;
+        private final AtomicLong personal;
+        private final AtomicLong broadcast;
+        private volatile boolean stale;
+
+        Counter(AccountType accountType, long personal, long broadcast) {
+            this.accountType = accountType;
+            this.personal = new AtomicLong(personal);
+            this.broadcast = new AtomicLong(broadcast);
+        }
+
+        long total() {
+            return Math.max(personal.get(), 0) + Math.max(broadcast.get(), 0);
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        ScheduledThreadPoolExecutor executor = new ScheduledThreadPoolExecutor(1, r -> {
+            Thread t = new Thread(r, "alarm-unread-reconcile");
+            t.setDaemon(true);
+            return t;
+        });
+        executor.setExecuteExistingDelayedTasksAfterShutdownPolicy(false);
+        reconciler = executor;
+        reconciler.scheduleWithFixedDelay(this::reconcileSafely,
+                reconcileIntervalSeconds, reconcileIntervalSeconds, TimeUnit.SECONDS);
+
+        ScheduledThreadPoolExecutor pushExecutor = new ScheduledThreadPoolExecutor(1, r -> {
+            Thread t = new Thread(r, "alarm-unread-push");
+            t.setDaemon(true);
+            return t;
+        });
+        pushExecutor.setExecuteExistingDelayedTasksAfterShutdownPolicy(false);
+        pusher = pushExecutor;
+    }
+
+    @PostConstruct
+    void registerStreamListener() {
+        streamService.onDisconnected(this::evict);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        if (reconciler != null) {
+            reconciler.shutdownNow();
+        }
+        if (pusher != null) {
+            pusher.shutdownNow();
+        }
+    }
+
+    /**
+     * 읽지 않은 알림 수 (개인 + 방송)
+     */
+    public long get(Long accountId) {
+        Counter cached = counters.get(accountId);
+        if (cached != null && !cached.stale) {
+            return cached.total();
+        }
+        if (cached == null && counters.size() >= maxEntries) {
+            return alarmBroadcastRepository.findUnreadSnapshot(accountId)
+                    .map(s -> s.personalUnread() + s.broadcastUnread())
+                    .orElse(0L);
+        }
+        Counter counter = counters.compute(accountId,
+                (k, existing) -> existing != null && !existing.stale ? existing : load(k));
+        return counter != null ? counter.total() : 0L;
+    }
+
+    /**
+     * 개인 알림 생성 커밋 후 +1, 연결된 계정에는 알림 내용도 push
+     */
+    public void onCreated(Long accountId, AlarmResponse alarm) {
+        afterCommit(() -> {
+            incrementPersonal(accountId);
+            if (alarm != null) {
+                streamService.pushAlarm(accountId, alarm);
+            }
+            pushCount(accountId);
+        });
+    }
+
+    /**
+     * 개인 알림 다건 생성 커밋 후 수신자별 +1
+     */
+    public void onCreated(Collection<Long> accountIds) {
+        List<Long> recipients = List.copyOf(accountIds);
+        afterCommit(() -> recipients.forEach(accountId -> {
+            incrementPersonal(accountId);
+            pushCount(accountId);
+        }));
+    }
+
+    /**
+     * 방송 알림 생성 커밋 후 대상 유형(null 이면 전체) 계정 +1
+     * - push 는 연결 계정 수만큼 SSE 전송이라 커밋한 요청 스레드를 붙잡지 않도록 push 스레드로 넘김
+     */
+    public void onBroadcast(Collection<AccountType> targetAccountTypes) {
+        List<AccountType> targets = new ArrayList<>(targetAccountTypes);
+        afterCommit(() -> {
+            List<Long> connected = new ArrayList<>();
+            counters.forEach((accountId, counter) -> {
+                if (targets.stream().anyMatch(t -> t == null || t == counter.accountType)) {
+                    counter.broadcast.incrementAndGet();
+                    if (streamService.isConnected(accountId)) {
+                        connected.add(accountId);
+                    }
+                }
+            });
+            if (!connected.isEmpty()) {
+                pushCountsAsync(connected);
+            }
+        });
+    }
+
+    /**
+     * 읽지 않은 개인 알림 읽음 커밋 후 -1
+     */
+    public void onRead(Long accountId) {
+        afterCommit(() -> {
+            Counter counter = counters.get(accountId);
+            if (counter != null) {
+                counter.personal.updateAndGet(v -> Math.max(v - 1, 0));
+            }
+            pushCount(accountId);
+        });
+    }
+
+    /**
+     * 증감을 알 수 없는 변경(방송 개별 읽음, 개별 삭제) 커밋 후 다음 조회에서 다시 적재
+     */
+    public void invalidate(Long accountId) {
+        afterCommit(() -> {
+            Counter counter = counters.get(accountId);
+            if (counter != null) {
+                counter.stale = true;
+            }
+            pushCount(accountId);
+        });
+    }
+
+    /**
+     * 모두 읽음/모두 삭제 커밋 후 0
+     */
+    public void reset(Long accountId) {
+        afterCommit(() -> {
+            Counter counter = counters.get(accountId);
+            if (counter != null) {
+                counter.personal.set(0);
+                counter.broadcast.set(0);
+            }
+            pushCount(accountId);
+        });
+    }
+
+    /**
+     * SSE 연결 계정은 개인/방송 수를 함께 다시 적재해 값이 바뀌었으면 push, 연결 없는 계정은 카운터 제거
+     * (폴링 계정은 다음 조회에서 다시 적재)
+     */
+    public void reconcile() {
+        counters.forEach((accountId, counter) -> {
+            if (!streamService.isConnected(accountId)) {
+                counters.remove(accountId, counter);
+                return;
+            }
+            long before = counter.total();
+            counter.stale = true;
+            if (get(accountId) != before) {
+                pushCount(accountId);
+            }
+        });
+    }
+
+    /**
+     * 계정의 마지막 SSE 연결이 닫히면 카운터 제거
+     */
+    void evict(Long accountId) {
+        counters.remove(accountId);
+    }
+
+    int size() {
+        return counters.size();
+    }
+
+    private Counter load(Long accountId) {
+        return alarmBroadcastRepository.findUnreadSnapshot(accountId)
+                .map(this::toCounter)
+                .orElse(null);
+    }
+
+    private Counter toCounter(UnreadSnapshot snapshot) {
+        return new Counter(snapshot.accountType(), snapshot.personalUnread(), snapshot.broadcastUnread());
+    }
+
+    private void incrementPersonal(Long accountId) {
+        Counter counter = counters.get(accountId);
+        if (counter != null) {
+            counter.personal.incrementAndGet();
+        }
+    }
+
+    private void pushCount(Long accountId) {
+        if (streamService.isConnected(accountId)) {
+            streamService.pushUnreadCount(accountId, get(accountId));
+        }
+    }
+
+    // push 스레드가 없으면(기동 전) 현재 스레드에서 push, 종료 중이면 생략
+    private void pushCountsAsync(List<Long> accountIds) {
+        Runnable push = () -> accountIds.forEach(accountId -> runSafely(() -> pushCount(accountId)));
+        if (pusher == null) {
+            push.run();
+            return;
+        }
+        try {
+            pusher.execute(push);
+        } catch (RejectedExecutionException e) {
+            log.debug("Alarm unread push skipped (executor shut down)");
+        }
+    }
+
+    private void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    runSafely(action);
+                }
+            });
+        } else {
+            runSafely(action);
+        }
+    }
+
+    private void runSafely(Runnable action) {
+        try {
+            action.run();
+        } catch (RuntimeException e) {
+            log.warn("Alarm unread counter update failed", e);
+        }
+    }
+
+    private void reconcileSafely() {
+        try {
+            reconcile();
+        } catch (RuntimeException e) {
+            log.warn("Alarm unread counter reconcile failed", e);
+        }
+    }
+}
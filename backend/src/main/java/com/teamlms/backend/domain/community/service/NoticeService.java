@@ -24,7 +24,6 @@ import org.springframework.web.multipart.MultipartFile;
 import java.io.IOException;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
-import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
@@ -35,6 +34,8 @@ import java.util.stream.Collectors;
 @Transactional(readOnly = true)
 public class NoticeService {
 
+    private static final List<AccountType> NOTICE_ALARM_TARGETS = List.of(AccountType.STUDENT, AccountType.PROFESSOR);
+
     private final NoticeRepository noticeRepository;
     private final NoticeCategoryRepository categoryRepository;
     private final NoticeAttachmentRepository attachmentRepository;
@@ -158,12 +159,8 @@ public class NoticeService {
             return 0;
         }
 
-        List<Account> recipients = new ArrayList<>();
-        recipients.addAll(accountRepository.findAllByAccountType(AccountType.STUDENT));
-        recipients.addAll(accountRepository.findAllByAccountType(AccountType.PROFESSOR));
-
         for (Notice notice : notices) {
-            sendNoticeAlarmToRecipients(recipients, notice);
+            broadcastNoticeAlarm(notice);
             notice.markAlarmSentAt(now);
         }
 
@@ -270,36 +267,28 @@ public class NoticeService {
         LocalDateTime now = LocalDateTime.now();
 
         if (isNoticeVisibleForAlarm(notice, now)) {
-            List<Account> recipients = new ArrayList<>();
-            recipients.addAll(accountRepository.findAllByAccountType(AccountType.STUDENT));
-            recipients.addAll(accountRepository.findAllByAccountType(AccountType.PROFESSOR));
-            sendNoticeAlarmToRecipients(recipients, notice);
+            broadcastNoticeAlarm(notice);
             notice.markAlarmSentAt(now);
         }
     }
 
-    private void sendNoticeAlarmToRecipients(List<Account> recipients, Notice notice) {
-        if (recipients == null || recipients.isEmpty()) {
-            return;
-        }
-
+    // 학생/교수 전체 대상 방송 알림 (수신자별 행을 만들지 않음)
+    private void broadcastNoticeAlarm(Notice notice) {
         String title = notice.getTitle();
         String message = buildNoticeMessage(notice.getContent());
         String messageKey = message == null ? "notice.alarm.message.default" : null;
         String linkUrl = "/community/notices/" + notice.getId();
 
-        for (Account recipient : recipients) {
-            alarmCommandService.createAlarmI18n(
-                    recipient.getAccountId(),
-                    AlarmType.NOTICE_NEW,
-                    null,
-                    messageKey,
-                    null,
-                    linkUrl,
-                    title,
-                    message
-            );
-        }
+        alarmCommandService.createBroadcastAlarmI18n(
+                NOTICE_ALARM_TARGETS,
+                AlarmType.NOTICE_NEW,
+                null,
+                messageKey,
+                null,
+                linkUrl,
+                title,
+                message
+        );
     }
 
     private String extractKeyFromUrl(String url) {
@@ -11,6 +11,7 @@ import org.springframework.web.bind.annotation.*;
 
 import com.teamlms.backend.domain.competency.api.dto.*;
 import com.teamlms.backend.domain.competency.service.CompetencyQueryService;
+import com.teamlms.backend.domain.competency.service.CompetencyRecalcJobService;
 import com.teamlms.backend.global.api.ApiResponse;
 import com.teamlms.backend.global.api.PageMeta;
 
@@ -23,6 +24,7 @@ public class AdminCompetencyController {
 
     private final CompetencyQueryService competencyQueryService;
     private final com.teamlms.backend.domain.competency.service.CompetencySummaryService competencySummaryService;
+    private final CompetencyRecalcJobService competencyRecalcJobService;
 
     /**
      * 0-1. 학생 목록 조회
@@ -65,6 +67,33 @@ public class AdminCompetencyController {
         return ApiResponse.ok(null);
     }
 
+    /**
+     * 0-3-1. 학기별 역량 점수 재계산 작업 시작 (비동기, 청크 병렬)
+     */
+    @PostMapping("/api/v1/admin/competencies/recalculate/jobs") // ?semesterId={id}
+    @PreAuthorize("hasAuthority('DIAGNOSIS_MANAGE')")
+    public ApiResponse<CompetencyRecalcJobResponse> startRecalculateJob(@RequestParam Long semesterId) {
+        return ApiResponse.ok(competencyRecalcJobService.startJob(semesterId));
+    }
+
+    /**
+     * 0-3-2. 재계산 작업 진행 상황 조회
+     */
+    @GetMapping("/api/v1/admin/competencies/recalculate/jobs/{jobId}")
+    @PreAuthorize("hasAuthority('DIAGNOSIS_READ')")
+    public ApiResponse<CompetencyRecalcJobResponse> getRecalculateJob(@PathVariable Long jobId) {
+        return ApiResponse.ok(competencyRecalcJobService.getJob(jobId));
+    }
+
+    /**
+     * 0-3-3. 실패한 재계산 작업 재개 (커밋된 청크 건너뜀)
+     */
+    @PostMapping("/api/v1/admin/competencies/recalculate/jobs/{jobId}/resume")
+    @PreAuthorize("hasAuthority('DIAGNOSIS_MANAGE')")
+    public ApiResponse<CompetencyRecalcJobResponse> resumeRecalculateJob(@PathVariable Long jobId) {
+        return ApiResponse.ok(competencyRecalcJobService.resumeJob(jobId));
+    }
+
     /**
      * 0-4. 역량 종합 관리용 역량 통계 조회
      */
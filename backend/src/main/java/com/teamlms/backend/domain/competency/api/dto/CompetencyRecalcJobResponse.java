@@ -0,0 +1,24 @@
+package com.teamlms.backend.domain.competency.api.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+import java.time.LocalDateTime;
+
+@Getter
+@Builder
+public class CompetencyRecalcJobResponse {
+    private Long jobId;
+    private Long semesterId;
+    private String status;
+    private Integer totalStudents;
+    private Long processedStudents;
+    private Integer totalChunks;
+    private Long completedChunks;
+    private Double progressRate; // 0~100 (%)
+    private Double studentsPerSecond;
+    private Long avgChunkLatencyMs;
+    private Long maxChunkLatencyMs;
+    private LocalDateTime startedAt;
+    private LocalDateTime finishedAt;
+    private String errorMessage;
+}
@@ -0,0 +1,96 @@
+package com.teamlms.backend.domain.competency.entitiy;
+
+import java.time.LocalDateTime;
+
+import com.teamlms.backend.domain.competency.enums.CompetencyRecalcJobStatus;
+import com.teamlms.backend.global.audit.BaseEntity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+@Builder
+@Entity
+@Table(name = "competency_recalc_job", indexes = {
+        @Index(name = "idx_recalc_job_semester_status", columnList = "semester_id, status")
+})
+public class CompetencyRecalcJob extends BaseEntity {
+
+    private static final int ERROR_MESSAGE_MAX_LENGTH = 1000;
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "job_id")
+    private Long jobId;
+
+    @Column(name = "semester_id", nullable = false)
+    private Long semesterId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false, length = 20)
+    private CompetencyRecalcJobStatus status;
+
+    @Column(name = "chunk_size", nullable = false)
+    private Integer chunkSize;
+
+    @Builder.Default
+    @Column(name = "total_students", nullable = false)
+    private Integer totalStudents = 0;
+
+    @Builder.Default
+    @Column(name = "total_chunks", nullable = false)
+    private Integer totalChunks = 0;
+
+    @Column(name = "started_at", nullable = false)
+    private LocalDateTime startedAt;
+
+    @Column(name = "finished_at")
+    private LocalDateTime finishedAt;
+
+    @Column(name = "error_message", length = ERROR_MESSAGE_MAX_LENGTH)
+    private String errorMessage;
+
+    // 실행 중인 인스턴스 식별자 (재시작 시 자기 작업만 실패 처리)
+    @Column(name = "owner_id", length = 100)
+    private String ownerId;
+
+    @Column(name = "heartbeat_at")
+    private LocalDateTime heartbeatAt;
+
+    // 청크 계획 당시 대상 학생 집합 해시 (재개 시 비교)
+    @Column(name = "student_set_hash", length = 64)
+    private String studentSetHash;
+
+    // domain method
+    public void plan(int totalStudents, int totalChunks, String studentSetHash) {
+        this.totalStudents = totalStudents;
+        this.totalChunks = totalChunks;
+        this.studentSetHash = studentSetHash;
+    }
+
+    public void complete(LocalDateTime now) {
+        this.status = CompetencyRecalcJobStatus.COMPLETED;
+        this.finishedAt = now;
+        this.errorMessage = null;
+    }
+
+    public void fail(String errorMessage, LocalDateTime now) {
+        this.status = CompetencyRecalcJobStatus.FAILED;
+        this.finishedAt = now;
+        this.errorMessage = errorMessage != null && errorMessage.length() > ERROR_MESSAGE_MAX_LENGTH
+                ? errorMessage.substring(0, ERROR_MESSAGE_MAX_LENGTH)
+                : errorMessage;
+    }
+
+    // 실패한 작업 재개 (커밋된 청크는 유지)
+    public void resume(String ownerId, LocalDateTime now) {
+        this.status = CompetencyRecalcJobStatus.RUNNING;
+        this.ownerId = ownerId;
+        this.heartbeatAt = now;
+        this.startedAt = now;
+        this.finishedAt = null;
+        this.errorMessage = null;
+    }
+}
@@ -0,0 +1,39 @@
+package com.teamlms.backend.domain.competency.entitiy;
+
+import java.time.LocalDateTime;
+
+import com.teamlms.backend.global.audit.BaseEntity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+@Builder
+@Entity
+@Table(name = "competency_recalc_job_chunk", uniqueConstraints = {
+        @UniqueConstraint(name = "uq_recalc_job_chunk", columnNames = { "job_id", "chunk_no" })
+})
+public class CompetencyRecalcJobChunk extends BaseEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "chunk_id")
+    private Long chunkId;
+
+    @Column(name = "job_id", nullable = false)
+    private Long jobId;
+
+    @Column(name = "chunk_no", nullable = false)
+    private Integer chunkNo;
+
+    @Column(name = "student_count", nullable = false)
+    private Integer studentCount;
+
+    @Column(name = "elapsed_ms", nullable = false)
+    private Long elapsedMs;
+
+    @Column(name = "committed_at", nullable = false)
+    private LocalDateTime committedAt;
+}
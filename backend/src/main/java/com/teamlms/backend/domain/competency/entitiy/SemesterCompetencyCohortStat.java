@@ -1,6 +1,8 @@
 package com.teamlms.backend.domain.competency.entitiy;
 
 import java.math.BigDecimal;
+import java.math.MathContext;
+import java.math.RoundingMode;
 import java.time.LocalDateTime;
 
 import com.teamlms.backend.domain.semester.entity.Semester;
@@ -60,6 +62,83 @@ public class SemesterCompetencyCohortStat extends BaseEntity {
     @Column(name = "stddev")
     private BigDecimal stddev;
 
+    @Column(name = "p25")
+    private BigDecimal p25;
+
+    @Column(name = "p75")
+    private BigDecimal p75;
+
+    @Column(name = "p90")
+    private BigDecimal p90;
+
+    // 증분 갱신용 누적 합계 (null 이면 mean/stddev 로부터 복원)
+    @Column(name = "score_sum")
+    private BigDecimal scoreSum;
+
+    @Column(name = "score_sum_sq")
+    private BigDecimal scoreSumSq;
+
     @Column(name = "calculated_at", nullable = false)
     private LocalDateTime calculatedAt;
+
+    // domain method
+
+    /**
+     * 학생 1명의 총점 변화를 평균/표준편차/최고점에 반영 (before 가 null 이면 신규 학생)
+     * - 중앙값/분위수는 증분 계산이 불가하므로 비우고 다음 전체 통계 계산 시 재산출
+     *
+     * @return 기존 최고점이 낮아져 최고점 재조회가 필요하면 true
+     */
+    public boolean applyScoreChange(BigDecimal before, BigDecimal after, LocalDateTime now) {
+        int count = calculatedCount;
+        BigDecimal sum = scoreSum;
+        BigDecimal sumSq = scoreSumSq;
+        if (sum == null || sumSq == null) {
+            // 누적값이 없던 기존 통계: sum = mean * n, sumSq = n * (stddev^2 + mean^2)
+            BigDecimal n = BigDecimal.valueOf(count);
+            BigDecimal sd = stddev != null ? stddev : BigDecimal.ZERO;
+            sum = mean.multiply(n);
+            sumSq = n.multiply(sd.multiply(sd).add(mean.multiply(mean)));
+        }
+
+        if (before == null) {
+            count++;
+        } else {
+            sum = sum.subtract(before);
+            sumSq = sumSq.subtract(before.multiply(before));
+        }
+        sum = sum.add(after);
+        sumSq = sumSq.add(after.multiply(after));
+
+        this.calculatedCount = count;
+        this.scoreSum = sum;
+        this.scoreSumSq = sumSq;
+        this.median = null;
+        this.p25 = null;
+        this.p75 = null;
+        this.p90 = null;
+        this.calculatedAt = now;
+
+        if (count == 0) {
+            this.mean = BigDecimal.ZERO;
+            this.stddev = BigDecimal.ZERO;
+        } else {
+            BigDecimal n = BigDecimal.valueOf(count);
+            BigDecimal exactMean = sum.divide(n, MathContext.DECIMAL64);
+            double variance = sumSq.divide(n, MathContext.DECIMAL64)
+                    .subtract(exactMean.multiply(exactMean)).doubleValue();
+            this.mean = exactMean.setScale(2, RoundingMode.HALF_UP);
+            this.stddev = BigDecimal.valueOf(Math.sqrt(Math.max(variance, 0.0))).setScale(2, RoundingMode.HALF_UP);
+        }
+
+        if (after.compareTo(maxScore) > 0) {
+            this.maxScore = after;
+            return false;
+        }
+        return before != null && before.compareTo(maxScore) == 0 && after.compareTo(before) < 0;
+    }
+
+    public void refreshMaxScore(BigDecimal maxScore) {
+        this.maxScore = maxScore != null ? maxScore : BigDecimal.ZERO;
+    }
 }
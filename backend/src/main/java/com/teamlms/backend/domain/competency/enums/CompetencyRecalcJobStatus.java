@@ -0,0 +1,7 @@
+package com.teamlms.backend.domain.competency.enums;
+
+public enum CompetencyRecalcJobStatus {
+    RUNNING,
+    COMPLETED,
+    FAILED
+}
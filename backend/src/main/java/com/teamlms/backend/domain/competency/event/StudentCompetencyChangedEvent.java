@@ -0,0 +1,17 @@
+package com.teamlms.backend.domain.competency.event;
+
+/**
+ * 학생의 학기 역량 점수에 영향을 주는 변경 (성적 확정, 비교과 이수, 진단 제출)
+ * - 커밋 후 해당 학생의 역량 요약만 재계산
+ */
+public record StudentCompetencyChangedEvent(
+        Long semesterId,
+        Long studentAccountId,
+        Cause cause) {
+
+    public enum Cause {
+        GRADE_CONFIRMED,
+        EXTRA_COMPLETION_RECORDED,
+        DIAGNOSIS_SUBMITTED
+    }
+}
@@ -0,0 +1,20 @@
+package com.teamlms.backend.domain.competency.event;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+/**
+ * 학생 역량 요약 재계산 결과 (역량별 총점 변화)
+ * - 코호트 통계를 전체 재조회 없이 증분 갱신하는 데 사용
+ */
+public record StudentCompetencySummaryUpdatedEvent(
+        Long semesterId,
+        Long studentAccountId,
+        List<ScoreChange> changes) {
+
+    /**
+     * before 가 null 이면 새로 생성된 요약
+     */
+    public record ScoreChange(Long competencyId, BigDecimal before, BigDecimal after) {
+    }
+}
@@ -0,0 +1,13 @@
+package com.teamlms.backend.domain.competency.event;
+
+import java.util.List;
+
+/**
+ * 여러 학생의 학기 역량 점수에 한 번에 영향을 주는 변경 (개설교과 성적 일괄 확정 등)
+ * - 커밋 후 대상 학생들의 역량 요약을 한 번에 재계산
+ */
+public record StudentsCompetencyChangedEvent(
+        Long semesterId,
+        List<Long> studentAccountIds,
+        StudentCompetencyChangedEvent.Cause cause) {
+}
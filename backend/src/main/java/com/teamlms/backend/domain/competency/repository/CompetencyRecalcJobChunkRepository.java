@@ -0,0 +1,44 @@
+package com.teamlms.backend.domain.competency.repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import com.teamlms.backend.domain.competency.entitiy.CompetencyRecalcJobChunk;
+
+public interface CompetencyRecalcJobChunkRepository extends JpaRepository<CompetencyRecalcJobChunk, Long> {
+
+    // 커밋 완료된 청크 번호
+    @Query("""
+                SELECT c.chunkNo
+                FROM CompetencyRecalcJobChunk c
+                WHERE c.jobId = :jobId
+            """)
+    List<Integer> findChunkNosByJobId(@Param("jobId") Long jobId);
+
+    // 완료 청크 수, 처리 학생 수, 평균/최대 청크 지연(ms)
+    @Query("""
+                SELECT COUNT(c), COALESCE(SUM(c.studentCount), 0), COALESCE(AVG(c.elapsedMs), 0), COALESCE(MAX(c.elapsedMs), 0)
+                FROM CompetencyRecalcJobChunk c
+                WHERE c.jobId = :jobId
+            """)
+    List<Object[]> summarizeByJobId(@Param("jobId") Long jobId);
+
+    // 특정 시점 이후 커밋된 학생 수 (처리량 계산용)
+    @Query("""
+                SELECT COALESCE(SUM(c.studentCount), 0)
+                FROM CompetencyRecalcJobChunk c
+                WHERE c.jobId = :jobId
+                  AND c.committedAt >= :since
+            """)
+    long sumStudentCountByJobIdSince(@Param("jobId") Long jobId, @Param("since") LocalDateTime since);
+
+    // 재개 시 대상 학생이 바뀌어 청크 경계가 달라진 경우 기록 초기화
+    @Modifying
+    @Query("DELETE FROM CompetencyRecalcJobChunk c WHERE c.jobId = :jobId")
+    int deleteByJobId(@Param("jobId") Long jobId);
+}
@@ -0,0 +1,57 @@
+package com.teamlms.backend.domain.competency.repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import com.teamlms.backend.domain.competency.entitiy.CompetencyRecalcJob;
+import com.teamlms.backend.domain.competency.enums.CompetencyRecalcJobStatus;
+
+public interface CompetencyRecalcJobRepository extends JpaRepository<CompetencyRecalcJob, Long> {
+
+    boolean existsBySemesterIdAndStatus(Long semesterId, CompetencyRecalcJobStatus status);
+
+    // 이 인스턴스 소유이거나 heartbeat 가 끊긴 실행 중 작업을 실패 처리 (재개 가능 상태로)
+    @Modifying
+    @Query("""
+                UPDATE CompetencyRecalcJob j
+                SET j.status = com.teamlms.backend.domain.competency.enums.CompetencyRecalcJobStatus.FAILED,
+                    j.finishedAt = :now,
+                    j.errorMessage = :errorMessage
+                WHERE j.status = com.teamlms.backend.domain.competency.enums.CompetencyRecalcJobStatus.RUNNING
+                  AND (j.ownerId = :ownerId
+                       OR j.heartbeatAt IS NULL
+                       OR j.heartbeatAt < :staleBefore)
+            """)
+    int failOwnedOrStale(@Param("ownerId") String ownerId, @Param("staleBefore") LocalDateTime staleBefore,
+            @Param("errorMessage") String errorMessage, @Param("now") LocalDateTime now);
+
+    // heartbeat 가 끊긴 실행 중 작업을 실패 처리 (다른 인스턴스가 죽은 경우)
+    @Modifying
+    @Query("""
+                UPDATE CompetencyRecalcJob j
+                SET j.status = com.teamlms.backend.domain.competency.enums.CompetencyRecalcJobStatus.FAILED,
+                    j.finishedAt = :now,
+                    j.errorMessage = :errorMessage
+                WHERE j.status = com.teamlms.backend.domain.competency.enums.CompetencyRecalcJobStatus.RUNNING
+                  AND (j.heartbeatAt IS NULL OR j.heartbeatAt < :staleBefore)
+            """)
+    int failStale(@Param("staleBefore") LocalDateTime staleBefore,
+            @Param("errorMessage") String errorMessage, @Param("now") LocalDateTime now);
+
+    // 실행 중인 작업 heartbeat 갱신
+    @Modifying
+    @Query("""
+                UPDATE CompetencyRecalcJob j
+                SET j.heartbeatAt = :now
+                WHERE j.jobId IN :jobIds
+                  AND j.ownerId = :ownerId
+                  AND j.status = com.teamlms.backend.domain.competency.enums.CompetencyRecalcJobStatus.RUNNING
+            """)
+    int touchHeartbeat(@Param("jobIds") Collection<Long> jobIds, @Param("ownerId") String ownerId,
+            @Param("now") LocalDateTime now);
+}
@@ -0,0 +1,280 @@
+package com.teamlms.backend.domain.competency.repository;
+
+import java.math.BigDecimal;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.function.Consumer;
+
+import javax.sql.DataSource;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * 학기 단위 역량 요약 일괄 계산용 JDBC 저장소
+ * - 조회는 fetch size 기반 커서로 스트리밍 (엔티티 로딩 없음)
+ * - 저장은 JDBC batch insert
+ * - studentIds 가 주어지면 해당 학생(청크)만 대상으로 조회/삭제
+ */
+@Repository
+public class CompetencySummaryBulkRepository {
+
+    private static final int FETCH_SIZE = 1_000;
+    private static final int BATCH_SIZE = 1_000;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedJdbcTemplate;
+
+    public CompetencySummaryBulkRepository(DataSource dataSource) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.jdbcTemplate.setFetchSize(FETCH_SIZE);
+        this.namedJdbcTemplate = new NamedParameterJdbcTemplate(jdbcTemplate);
+    }
+
+    // 학기 진단 제출 학생 ID 목록
+    public List<Long> findSubmittedStudentIdsBySemesterId(Long semesterId) {
+        return jdbcTemplate.queryForList("""
+                SELECT DISTINCT s.student_account_id
+                FROM diagnosis_submission s
+                JOIN diagnosis_run r ON r.run_id = s.run_id
+                WHERE r.semester_id = ?
+                """, Long.class, semesterId);
+    }
+
+    // 학생 프로필(학과/학년) 전체
+    public void streamStudentProfiles(Consumer<StudentProfileRow> consumer) {
+        jdbcTemplate.query("""
+                SELECT account_id, dept_id, grade_level
+                FROM student_profile
+                """, (RowCallbackHandler) rs -> {
+            consumer.accept(new StudentProfileRow(
+                    rs.getLong("account_id"),
+                    rs.getObject("dept_id", Long.class),
+                    rs.getObject("grade_level", Integer.class)));
+        });
+    }
+
+    // 학기 진단 답변 (채점은 run 별 DiagnosisScoringMatrix 로 수행)
+    public void streamDiagnosisAnswers(Long semesterId, Collection<Long> studentIds,
+            Consumer<DiagnosisAnswerRow> consumer) {
+        namedJdbcTemplate.query("""
+                SELECT s.run_id, s.student_account_id, a.question_id, a.scale_value, a.is_correct
+                FROM diagnosis_answer a
+                JOIN diagnosis_submission s ON s.submission_id = a.submission_id
+                JOIN diagnosis_run r ON r.run_id = s.run_id
+                WHERE r.semester_id = :semesterId
+                """ + studentFilter("s.student_account_id", studentIds),
+                params(semesterId, studentIds), (RowCallbackHandler) rs -> {
+            consumer.accept(new DiagnosisAnswerRow(
+                    rs.getLong("run_id"),
+                    rs.getLong("student_account_id"),
+                    rs.getLong("question_id"),
+                    rs.getObject("scale_value", Integer.class),
+                    rs.getObject("is_correct", Boolean.class)));
+        });
+    }
+
+    // 학기 교과 개설의 역량 가중치
+    public void streamCurricularWeights(Long semesterId, Consumer<CompetencyWeightRow> consumer) {
+        jdbcTemplate.query("""
+                SELECT m.offering_id, m.competency_id, m.weight
+                FROM curricular_offering_competency_map m
+                JOIN curricular_offering o ON o.offering_id = m.offering_id
+                WHERE o.semester_id = ?
+                """, (RowCallbackHandler) rs -> {
+            consumer.accept(new CompetencyWeightRow(
+                    rs.getLong("offering_id"),
+                    rs.getLong("competency_id"),
+                    rs.getInt("weight")));
+        }, semesterId);
+    }
+
+    // 학기 비교과 개설의 역량 가중치
+    public void streamExtraWeights(Long semesterId, Consumer<CompetencyWeightRow> consumer) {
+        jdbcTemplate.query("""
+                SELECT m.extra_offering_id, m.competency_id, m.weight
+                FROM extra_curricular_offering_competency_map m
+                JOIN extra_curricular_offering o ON o.extra_offering_id = m.extra_offering_id
+                WHERE o.semester_id = ?
+                """, (RowCallbackHandler) rs -> {
+            consumer.accept(new CompetencyWeightRow(
+                    rs.getLong("extra_offering_id"),
+                    rs.getLong("competency_id"),
+                    rs.getInt("weight")));
+        }, semesterId);
+    }
+
+    // 학기 수강(ENROLLED) 중 점수가 입력된 건
+    public void streamScoredEnrollments(Long semesterId, Collection<Long> studentIds,
+            Consumer<OfferingScoreRow> consumer) {
+        namedJdbcTemplate.query("""
+                SELECT e.student_account_id, e.offering_id, e.raw_score
+                FROM enrollment e
+                JOIN curricular_offering o ON o.offering_id = e.offering_id
+                WHERE o.semester_id = :semesterId
+                  AND e.enrollment_status = 'ENROLLED'
+                  AND e.raw_score IS NOT NULL
+                """ + studentFilter("e.student_account_id", studentIds),
+                params(semesterId, studentIds), (RowCallbackHandler) rs -> {
+            consumer.accept(new OfferingScoreRow(
+                    rs.getLong("student_account_id"),
+                    rs.getLong("offering_id"),
+                    rs.getLong("raw_score")));
+        });
+    }
+
+    // 학기 비교과 신청별 획득 포인트 합 (이수 기록이 있는 신청만)
+    public void streamExtraEarnedPoints(Long semesterId, Collection<Long> studentIds,
+            Consumer<OfferingScoreRow> consumer) {
+        namedJdbcTemplate.query("""
+                SELECT a.student_account_id, a.extra_offering_id, SUM(c.earned_point) AS total_points
+                FROM extra_curricular_application a
+                JOIN extra_curricular_offering o ON o.extra_offering_id = a.extra_offering_id
+                JOIN extra_curricular_session_completion c ON c.application_id = a.application_id
+                WHERE o.semester_id = :semesterId
+                """ + studentFilter("a.student_account_id", studentIds) + """
+
+                GROUP BY a.application_id, a.student_account_id, a.extra_offering_id
+                """, params(semesterId, studentIds), (RowCallbackHandler) rs -> {
+            consumer.accept(new OfferingScoreRow(
+                    rs.getLong("student_account_id"),
+                    rs.getLong("extra_offering_id"),
+                    rs.getLong("total_points")));
+        });
+    }
+
+    // 학기 학생 역량 총점 (코호트 통계 단일 패스용)
+    public void streamTotalScores(Long semesterId, Consumer<TotalScoreRow> consumer) {
+        jdbcTemplate.query("""
+                SELECT competency_id, total_score
+                FROM semester_student_competency_summary
+                WHERE semester_id = ?
+                """, (RowCallbackHandler) rs -> {
+            consumer.accept(new TotalScoreRow(
+                    rs.getLong("competency_id"),
+                    rs.getBigDecimal("total_score")));
+        }, semesterId);
+    }
+
+    // 특정 학기의 모든 학생 요약 삭제 (단일 DELETE)
+    public int deleteBySemesterId(Long semesterId) {
+        return jdbcTemplate.update(
+                "DELETE FROM semester_student_competency_summary WHERE semester_id = ?",
+                semesterId);
+    }
+
+    // 특정 학기, 특정 학생들(청크)의 요약 삭제
+    public int deleteBySemesterIdAndStudentIds(Long semesterId, Collection<Long> studentIds) {
+        return namedJdbcTemplate.update("""
+                DELETE FROM semester_student_competency_summary
+                WHERE semester_id = :semesterId
+                """ + studentFilter("student_account_id", studentIds),
+                params(semesterId, studentIds));
+    }
+
+    // 특정 학기에서 대상 학생 집합 밖의 요약 삭제 (청크 작업 1회, 대상에서 빠진 학생의 잔여 행 정리)
+    public int deleteBySemesterIdExcludingStudentIds(Long semesterId, Collection<Long> studentIds) {
+        Long[] keep = studentIds.toArray(Long[]::new);
+        return jdbcTemplate.update(con -> {
+            PreparedStatement ps = con.prepareStatement("""
+                    DELETE FROM semester_student_competency_summary
+                    WHERE semester_id = ?
+                      AND student_account_id <> ALL (CAST(? AS BIGINT[]))
+                    """);
+            ps.setLong(1, semesterId);
+            ps.setArray(2, con.createArrayOf("bigint", keep));
+            return ps;
+        });
+    }
+
+    // 학생 역량 요약 batch insert
+    public void batchInsert(Long semesterId, List<SummaryRow> rows, Long auditorId, LocalDateTime now) {
+        Timestamp ts = Timestamp.valueOf(now);
+        jdbcTemplate.batchUpdate("""
+                INSERT INTO semester_student_competency_summary (
+                  semester_id, student_account_id, competency_id,
+                  diagnosis_skill_score, diagnosis_aptitude_score, diagnosis_score,
+                  curricular_score, extra_score, self_extra_score, total_score,
+                  calculated_at, created_at, created_by, updated_at, updated_by
+                ) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)
+                """, rows, BATCH_SIZE, (PreparedStatement ps, SummaryRow row) -> {
+            ps.setLong(1, semesterId);
+            ps.setLong(2, row.studentAccountId());
+            ps.setLong(3, row.competencyId());
+            ps.setLong(4, row.diagnosisSkillScore());
+            ps.setLong(5, row.diagnosisAptitudeScore());
+            ps.setLong(6, row.diagnosisScore());
+            ps.setLong(7, row.curricularScore());
+            ps.setLong(8, row.extraScore());
+            ps.setLong(9, row.selfExtraScore());
+            ps.setLong(10, row.totalScore());
+            ps.setTimestamp(11, ts);
+            ps.setTimestamp(12, ts);
+            setNullableLong(ps, 13, auditorId);
+            ps.setTimestamp(14, ts);
+            setNullableLong(ps, 15, auditorId);
+        });
+    }
+
+    private static String studentFilter(String column, Collection<Long> studentIds) {
+        return studentIds == null ? "" : "  AND " + column + " IN (:studentIds)";
+    }
+
+    private static MapSqlParameterSource params(Long semesterId, Collection<Long> studentIds) {
+        MapSqlParameterSource params = new MapSqlParameterSource("semesterId", semesterId);
+        if (studentIds != null) {
+            params.addValue("studentIds", studentIds);
+        }
+        return params;
+    }
+
+    private static void setNullableLong(PreparedStatement ps, int index, Long value) throws SQLException {
+        if (value == null) {
+            ps.setNull(index, Types.BIGINT);
+        } else {
+            ps.setLong(index, value);
+        }
+    }
+
+    // === Rows ===
+
+    public record StudentProfileRow(long accountId, Long deptId, Integer gradeLevel) {
+    }
+
+    public record DiagnosisAnswerRow(
+            long runId,
+            long studentAccountId,
+            long questionId,
+            Integer scaleValue,
+            Boolean isCorrect) {
+    }
+
+    public record CompetencyWeightRow(long offeringId, long competencyId, int weight) {
+    }
+
+    public record OfferingScoreRow(long studentAccountId, long offeringId, long score) {
+    }
+
+    public record TotalScoreRow(long competencyId, BigDecimal totalScore) {
+    }
+
+    public record SummaryRow(
+            long studentAccountId,
+            long competencyId,
+            long diagnosisSkillScore,
+            long diagnosisAptitudeScore,
+            long diagnosisScore,
+            long curricularScore,
+            long extraScore,
+            long selfExtraScore,
+            long totalScore) {
+    }
+}
@@ -1,11 +1,14 @@
 package com.teamlms.backend.domain.competency.repository;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
 import com.teamlms.backend.domain.competency.entitiy.SemesterCompetencyCohortStat;
 
+import jakarta.persistence.LockModeType;
+
 import java.util.List;
 import java.util.Optional;
 
@@ -19,6 +22,29 @@ public interface SemesterCompetencyCohortStatRepository extends JpaRepository<Se
 
     List<SemesterCompetencyCohortStat> findBySemesterSemesterId(Long semesterId);
 
+    /**
+     * 학기 단위 역량 요약/통계 갱신 직렬화 (트랜잭션 advisory lock, 커밋/롤백 시 해제)
+     * - 통계 행이 아직 없는 학기(첫 재계산)도 잠김
+     */
+    @Query(value = """
+                SELECT 1
+                FROM (SELECT pg_advisory_xact_lock(hashtext('semester_competency_cohort_stat'),
+                                                   CAST(:semesterId AS integer))) l
+            """, nativeQuery = true)
+    Integer lockSemester(@Param("semesterId") Long semesterId);
+
+    /**
+     * 학기 코호트 통계 행 잠금 조회 (역량 ID 순으로 잠가 동시 증분 갱신 간 교착 방지)
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("""
+                SELECT s
+                FROM SemesterCompetencyCohortStat s
+                WHERE s.semester.semesterId = :semesterId
+                ORDER BY s.competency.competencyId
+            """)
+    List<SemesterCompetencyCohortStat> findBySemesterIdForUpdate(@Param("semesterId") Long semesterId);
+
     @Query("""
                 SELECT s
                 FROM SemesterCompetencyCohortStat s
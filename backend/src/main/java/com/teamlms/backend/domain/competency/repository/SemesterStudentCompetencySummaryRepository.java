@@ -7,6 +7,8 @@ import org.springframework.data.repository.query.Param;
 import com.teamlms.backend.domain.competency.entitiy.SemesterStudentCompetencySummary;
 import com.teamlms.backend.domain.account.enums.AcademicStatus;
 
+import java.math.BigDecimal;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -20,6 +22,11 @@ public interface SemesterStudentCompetencySummaryRepository
       Long semesterId,
       Long studentAccountId);
 
+  // 특정 학기, 여러 학생의 역량 요약 목록 조회
+  List<SemesterStudentCompetencySummary> findBySemesterSemesterIdAndStudentAccountIdIn(
+      Long semesterId,
+      Collection<Long> studentAccountIds);
+
   // 특정 학기, 특정 학생, 특정 역량 요약 조회
   Optional<SemesterStudentCompetencySummary> findBySemesterSemesterIdAndStudentAccountIdAndCompetencyCompetencyId(
       Long semesterId,
@@ -183,4 +190,15 @@ public interface SemesterStudentCompetencySummaryRepository
   List<SemesterStudentCompetencySummary> findBySemesterAndCompetencyOrderByScore(
       @Param("semesterId") Long semesterId,
       @Param("competencyId") Long competencyId);
+
+  // 특정 학기, 특정 역량의 최고 총점 (코호트 통계 최고점 재산출용)
+  @Query("""
+          SELECT MAX(s.totalScore)
+          FROM SemesterStudentCompetencySummary s
+          WHERE s.semester.semesterId = :semesterId
+            AND s.competency.competencyId = :competencyId
+      """)
+  BigDecimal findMaxTotalScore(
+      @Param("semesterId") Long semesterId,
+      @Param("competencyId") Long competencyId);
 }
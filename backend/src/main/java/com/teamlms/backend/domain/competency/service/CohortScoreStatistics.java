@@ -0,0 +1,77 @@
+package com.teamlms.backend.domain.competency.service;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+/**
+ * 역량별 코호트 통계 단일 패스 누적기 (점수 목록을 보관하지 않음)
+ * - 분산: Welford 알고리즘
+ * - 평균: 증분 갱신용 누적 합계(scoreSum)와 일치하도록 BigDecimal 합계로 계산
+ * - 중앙값/분위수: ScoreQuantileSketch
+ */
+final class CohortScoreStatistics {
+
+    private long count;
+    private double welfordMean;
+    private double m2;
+    private BigDecimal sum = BigDecimal.ZERO;
+    private BigDecimal sumSq = BigDecimal.ZERO;
+    private BigDecimal max;
+    private final ScoreQuantileSketch quantiles;
+
+    CohortScoreStatistics() {
+        this(new ScoreQuantileSketch());
+    }
+
+    CohortScoreStatistics(ScoreQuantileSketch quantiles) {
+        this.quantiles = quantiles;
+    }
+
+    void add(BigDecimal score) {
+        count++;
+        double x = score.doubleValue();
+        double delta = x - welfordMean;
+        welfordMean += delta / count;
+        m2 += delta * (x - welfordMean);
+
+        sum = sum.add(score);
+        sumSq = sumSq.add(score.multiply(score));
+        if (max == null || score.compareTo(max) > 0) {
+            max = score;
+        }
+        quantiles.add(score);
+    }
+
+    int count() {
+        return (int) count;
+    }
+
+    BigDecimal mean() {
+        return count > 0
+                ? sum.divide(BigDecimal.valueOf(count), 2, RoundingMode.HALF_UP)
+                : BigDecimal.ZERO;
+    }
+
+    // 모표준편차 (sqrt(M2 / n))
+    BigDecimal stddev() {
+        return count > 0
+                ? BigDecimal.valueOf(Math.sqrt(m2 / count)).setScale(2, RoundingMode.HALF_UP)
+                : BigDecimal.ZERO;
+    }
+
+    BigDecimal max() {
+        return max != null ? max : BigDecimal.ZERO;
+    }
+
+    BigDecimal sum() {
+        return sum;
+    }
+
+    BigDecimal sumSq() {
+        return sumSq;
+    }
+
+    BigDecimal quantile(double p) {
+        return quantiles.quantile(p);
+    }
+}
@@ -0,0 +1,334 @@
+package com.teamlms.backend.domain.competency.service;
+
+import java.nio.ByteBuffer;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.teamlms.backend.domain.competency.api.dto.CompetencyRecalcJobResponse;
+import com.teamlms.backend.domain.competency.entitiy.CompetencyRecalcJob;
+import com.teamlms.backend.domain.competency.enums.CompetencyRecalcJobStatus;
+import com.teamlms.backend.domain.competency.repository.CompetencyRecalcJobChunkRepository;
+import com.teamlms.backend.domain.competency.repository.CompetencyRecalcJobRepository;
+import com.teamlms.backend.domain.competency.service.CompetencySummaryBatchEngine.SemesterContext;
+import com.teamlms.backend.global.exception.base.BusinessException;
+import com.teamlms.backend.global.exception.code.ErrorCode;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 학기 역량 요약 재계산 작업 (비동기, 청크 단위 병렬)
+ * - 대상 학생을 ID 순으로 chunk-size 만큼 나눠 워커 풀에서 처리
+ * - 청크마다 독립 트랜잭션으로 커밋되며, 실패 시 커밋된 청크를 건너뛰고 재개 가능
+ * - 워커 큐가 가득 차면 제출 스레드가 직접 처리 (백프레셔)
+ * - 실행 중인 작업은 소유 인스턴스가 주기적으로 heartbeat 를 남기고, 끊긴 작업은 다른 인스턴스가 실패 처리
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class CompetencyRecalcJobService {
+
+    private static final String INTERRUPTED_MESSAGE = "서버 재시작으로 중단된 작업입니다.";
+    private static final String STALE_MESSAGE = "작업을 실행하던 서버의 응답이 끊겨 중단된 작업입니다.";
+
+    private final CompetencyRecalcJobRepository jobRepository;
+    private final CompetencyRecalcJobChunkRepository chunkRepository;
+    private final CompetencyRecalcJobWriter jobWriter;
+    private final CompetencySummaryBatchEngine batchEngine;
+    private final CompetencySummaryService competencySummaryService;
+
+    @Value("${competency.recalc.worker-threads:4}")
+    private int workerThreads;
+
+    @Value("${competency.recalc.chunk-size:500}")
+    private int chunkSize;
+
+    // 작업 소유 인스턴스 식별자 (비어 있으면 기동마다 임의 값 - 재시작 후에는 heartbeat 만료로만 정리됨)
+    @Value("${competency.recalc.instance-id:}")
+    private String instanceId;
+
+    @Value("${competency.recalc.heartbeat-interval-seconds:30}")
+    private long heartbeatIntervalSeconds;
+
+    @Value("${competency.recalc.heartbeat-timeout-seconds:120}")
+    private long heartbeatTimeoutSeconds;
+
+    // 같은 학기 작업의 동시 실행 방지 (단일 인스턴스 기준)
+    private final Set<Long> activeSemesters = ConcurrentHashMap.newKeySet();
+    // 이 인스턴스에서 실행 중인 작업 (heartbeat 대상)
+    private final Set<Long> activeJobs = ConcurrentHashMap.newKeySet();
+
+    private String ownerId;
+    private ExecutorService coordinator;
+    private ThreadPoolExecutor workers;
+    private ScheduledExecutorService heartbeat;
+
+    @PostConstruct
+    void initExecutors() {
+        ownerId = instanceId == null || instanceId.isBlank() ? UUID.randomUUID().toString() : instanceId;
+        int threads = Math.max(1, workerThreads);
+        AtomicInteger seq = new AtomicInteger();
+        coordinator = Executors.newSingleThreadExecutor(r -> new Thread(r, "competency-recalc-coordinator"));
+        workers = new ThreadPoolExecutor(
+                threads,
+                threads,
+                0L,
+                TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(threads * 2),
+                r -> new Thread(r, "competency-recalc-worker-" + seq.incrementAndGet()),
+                new ThreadPoolExecutor.CallerRunsPolicy());
+
+        ScheduledThreadPoolExecutor executor = new ScheduledThreadPoolExecutor(1, r -> {
+            Thread t = new Thread(r, "competency-recalc-heartbeat");
+            t.setDaemon(true);
+            return t;
+        });
+        executor.setExecuteExistingDelayedTasksAfterShutdownPolicy(false);
+        heartbeat = executor;
+    }
+
+    @PreDestroy
+    void shutdownExecutors() {
+        heartbeat.shutdownNow();
+        coordinator.shutdownNow();
+        workers.shutdownNow();
+    }
+
+    // 재시작 전 이 인스턴스가 RUNNING 으로 남긴 작업과 heartbeat 가 끊긴 작업만 FAILED 로 바꿔 재개할 수 있게 함
+    // (다른 인스턴스에서 정상 실행 중인 작업은 건드리지 않음)
+    @EventListener(ApplicationReadyEvent.class)
+    public void failInterruptedJobs() {
+        int count = jobWriter.failOwnedOrStale(ownerId, Duration.ofSeconds(heartbeatTimeoutSeconds), INTERRUPTED_MESSAGE);
+        if (count > 0) {
+            log.warn("Marked interrupted competency recalculation jobs as failed. ownerId={}, count={}", ownerId, count);
+        }
+        long interval = Math.max(1, heartbeatIntervalSeconds);
+        heartbeat.scheduleWithFixedDelay(this::heartbeatSafely, interval, interval, TimeUnit.SECONDS);
+    }
+
+    // 실행 중인 작업 heartbeat 갱신 + 다른 인스턴스가 남긴 끊긴 작업 정리
+    void heartbeatSafely() {
+        try {
+            if (!activeJobs.isEmpty()) {
+                jobWriter.touchHeartbeat(List.copyOf(activeJobs), ownerId);
+            }
+            int count = jobWriter.failStale(Duration.ofSeconds(heartbeatTimeoutSeconds), STALE_MESSAGE);
+            if (count > 0) {
+                log.warn("Marked stale competency recalculation jobs as failed. count={}", count);
+            }
+        } catch (Exception e) {
+            log.warn("Competency recalculation heartbeat failed.", e);
+        }
+    }
+
+    /**
+     * 재계산 작업 시작
+     */
+    public CompetencyRecalcJobResponse startJob(Long semesterId) {
+        if (!activeSemesters.add(semesterId)) {
+            throw new BusinessException(ErrorCode.COMPETENCY_RECALC_JOB_ALREADY_RUNNING, semesterId);
+        }
+        CompetencyRecalcJob job;
+        try {
+            job = jobWriter.create(semesterId, Math.max(1, chunkSize), ownerId);
+        } catch (RuntimeException e) {
+            activeSemesters.remove(semesterId);
+            throw e;
+        }
+        submit(job);
+        return toResponse(job, 0L, 0L, 0L, 0L, null);
+    }
+
+    /**
+     * 실패한 작업 재개 (커밋된 청크는 건너뜀)
+     */
+    public CompetencyRecalcJobResponse resumeJob(Long jobId) {
+        CompetencyRecalcJob found = jobRepository.findById(jobId)
+                .orElseThrow(() -> new BusinessException(ErrorCode.COMPETENCY_RECALC_JOB_NOT_FOUND, jobId));
+        Long semesterId = found.getSemesterId();
+        if (!activeSemesters.add(semesterId)) {
+            throw new BusinessException(ErrorCode.COMPETENCY_RECALC_JOB_ALREADY_RUNNING, semesterId);
+        }
+        CompetencyRecalcJob job;
+        try {
+            job = jobWriter.resume(jobId, ownerId);
+        } catch (RuntimeException e) {
+            activeSemesters.remove(semesterId);
+            throw e;
+        }
+        submit(job);
+        return getJob(jobId);
+    }
+
+    /**
+     * 작업 진행률/처리량/청크 지연 조회
+     */
+    @Transactional(readOnly = true)
+    public CompetencyRecalcJobResponse getJob(Long jobId) {
+        CompetencyRecalcJob job = jobRepository.findById(jobId)
+                .orElseThrow(() -> new BusinessException(ErrorCode.COMPETENCY_RECALC_JOB_NOT_FOUND, jobId));
+
+        Object[] summary = chunkRepository.summarizeByJobId(jobId).get(0);
+        long completedChunks = ((Number) summary[0]).longValue();
+        long processedStudents = ((Number) summary[1]).longValue();
+        long avgLatencyMs = Math.round(((Number) summary[2]).doubleValue());
+        long maxLatencyMs = ((Number) summary[3]).longValue();
+
+        // 처리량은 이번 실행(startedAt 이후)에 커밋된 학생 기준
+        LocalDateTime end = job.getFinishedAt() != null ? job.getFinishedAt() : LocalDateTime.now();
+        long elapsedMs = Duration.between(job.getStartedAt(), end).toMillis();
+        long runStudents = chunkRepository.sumStudentCountByJobIdSince(jobId, job.getStartedAt());
+        Double studentsPerSecond = elapsedMs > 0 ? runStudents * 1000.0 / elapsedMs : null;
+
+        return toResponse(job, processedStudents, completedChunks, avgLatencyMs, maxLatencyMs, studentsPerSecond);
+    }
+
+    private void submit(CompetencyRecalcJob job) {
+        Long jobId = job.getJobId();
+        Long semesterId = job.getSemesterId();
+        int size = job.getChunkSize();
+        activeJobs.add(jobId);
+        try {
+            coordinator.execute(() -> {
+                try {
+                    runJob(jobId, semesterId, size);
+                } finally {
+                    activeJobs.remove(jobId);
+                    activeSemesters.remove(semesterId);
+                }
+            });
+        } catch (RuntimeException e) {
+            activeJobs.remove(jobId);
+            activeSemesters.remove(semesterId);
+            jobWriter.fail(jobId, e.getMessage());
+            throw e;
+        }
+    }
+
+    void runJob(Long jobId, Long semesterId, int size) {
+        long startedAt = System.nanoTime();
+        try {
+            SemesterContext ctx = batchEngine.loadContext(semesterId);
+            List<Long> studentIds = batchEngine.findTargetStudentIds(ctx);
+            List<List<Long>> chunks = partition(studentIds, size);
+            int totalStudents = studentIds.size();
+            Set<Integer> committed = new HashSet<>(
+                    jobWriter.plan(jobId, totalStudents, chunks.size(), studentSetHash(studentIds)));
+
+            // 청크는 자기 학생 행만 교체하므로 대상에서 빠진 학생의 요약은 작업당 1회 따로 삭제
+            batchEngine.deleteOutsideStudents(semesterId, studentIds);
+
+            AtomicReference<Throwable> failure = new AtomicReference<>();
+            List<CompletableFuture<Void>> futures = new ArrayList<>();
+            for (int chunkNo = 0; chunkNo < chunks.size() && failure.get() == null; chunkNo++) {
+                if (committed.contains(chunkNo)) {
+                    continue;
+                }
+                int no = chunkNo;
+                List<Long> chunk = chunks.get(chunkNo);
+                futures.add(CompletableFuture.runAsync(() -> {
+                    if (failure.get() != null) {
+                        return;
+                    }
+                    try {
+                        jobWriter.processChunk(jobId, no, ctx, chunk);
+                    } catch (Throwable t) {
+                        failure.compareAndSet(null, t);
+                    }
+                }, workers));
+            }
+            CompletableFuture.allOf(futures.toArray(new CompletableFuture<?>[0])).join();
+
+            if (failure.get() != null) {
+                throw new IllegalStateException(failure.get().getMessage(), failure.get());
+            }
+
+            competencySummaryService.calculateCohortStatistics(semesterId);
+            jobWriter.complete(jobId);
+
+            log.info("Competency recalculation job completed. jobId={}, semesterId={}, students={}, chunks={}, skipped={}, elapsedMs={}",
+                    jobId, semesterId, totalStudents, chunks.size(), committed.size(),
+                    (System.nanoTime() - startedAt) / 1_000_000);
+        } catch (Exception e) {
+            log.error("Competency recalculation job failed. jobId={}, semesterId={}", jobId, semesterId, e);
+            jobWriter.fail(jobId, e.getMessage() != null ? e.getMessage() : e.getClass().getSimpleName());
+        }
+    }
+
+    static List<List<Long>> partition(List<Long> studentIds, int size) {
+        List<List<Long>> chunks = new ArrayList<>((studentIds.size() + size - 1) / size);
+        for (int from = 0; from < studentIds.size(); from += size) {
+            chunks.add(List.copyOf(studentIds.subList(from, Math.min(from + size, studentIds.size()))));
+        }
+        return chunks;
+    }
+
+    // 대상 학생 집합 해시 (정렬된 ID 목록의 SHA-256) - 재개 시 청크 경계가 같은지 판단
+    static String studentSetHash(List<Long> studentIds) {
+        long[] sorted = studentIds.stream().mapToLong(Long::longValue).sorted().toArray();
+        ByteBuffer buffer = ByteBuffer.allocate(sorted.length * Long.BYTES);
+        for (long id : sorted) {
+            buffer.putLong(id);
+        }
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(buffer.array()));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static CompetencyRecalcJobResponse toResponse(CompetencyRecalcJob job, long processedStudents,
+            long completedChunks, long avgLatencyMs, long maxLatencyMs, Double studentsPerSecond) {
+        int totalChunks = job.getTotalChunks();
+        double progressRate = 0.0;
+        if (job.getStatus() == CompetencyRecalcJobStatus.COMPLETED) {
+            progressRate = 100.0;
+        } else if (totalChunks > 0) {
+            progressRate = Math.round(completedChunks * 1000.0 / totalChunks) / 10.0;
+        }
+
+        return CompetencyRecalcJobResponse.builder()
+                .jobId(job.getJobId())
+                .semesterId(job.getSemesterId())
+                .status(job.getStatus().name())
+                .totalStudents(job.getTotalStudents())
+                .processedStudents(processedStudents)
+                .totalChunks(totalChunks)
+                .completedChunks(completedChunks)
+                .progressRate(progressRate)
+                .studentsPerSecond(studentsPerSecond)
+                .avgChunkLatencyMs(avgLatencyMs)
+                .maxChunkLatencyMs(maxLatencyMs)
+                .startedAt(job.getStartedAt())
+                .finishedAt(job.getFinishedAt())
+                .errorMessage(job.getErrorMessage())
+                .build();
+    }
+}
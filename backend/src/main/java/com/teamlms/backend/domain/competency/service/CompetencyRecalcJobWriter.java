@@ -0,0 +1,124 @@
+package com.teamlms.backend.domain.competency.service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.teamlms.backend.domain.competency.entitiy.CompetencyRecalcJob;
+import com.teamlms.backend.domain.competency.entitiy.CompetencyRecalcJobChunk;
+import com.teamlms.backend.domain.competency.enums.CompetencyRecalcJobStatus;
+import com.teamlms.backend.domain.competency.repository.CompetencyRecalcJobChunkRepository;
+import com.teamlms.backend.domain.competency.repository.CompetencyRecalcJobRepository;
+import com.teamlms.backend.domain.competency.service.CompetencySummaryBatchEngine.SemesterContext;
+import com.teamlms.backend.global.exception.base.BusinessException;
+import com.teamlms.backend.global.exception.code.ErrorCode;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 재계산 작업 상태/청크 저장 (워커 스레드에서 호출되므로 메서드마다 개별 트랜잭션)
+ */
+@Component
+@RequiredArgsConstructor
+public class CompetencyRecalcJobWriter {
+
+    private final CompetencyRecalcJobRepository jobRepository;
+    private final CompetencyRecalcJobChunkRepository chunkRepository;
+    private final CompetencySummaryBatchEngine batchEngine;
+
+    @Transactional
+    public CompetencyRecalcJob create(Long semesterId, int chunkSize, String ownerId) {
+        if (jobRepository.existsBySemesterIdAndStatus(semesterId, CompetencyRecalcJobStatus.RUNNING)) {
+            throw new BusinessException(ErrorCode.COMPETENCY_RECALC_JOB_ALREADY_RUNNING, semesterId);
+        }
+        LocalDateTime now = LocalDateTime.now();
+        return jobRepository.save(CompetencyRecalcJob.builder()
+                .semesterId(semesterId)
+                .status(CompetencyRecalcJobStatus.RUNNING)
+                .chunkSize(chunkSize)
+                .ownerId(ownerId)
+                .heartbeatAt(now)
+                .startedAt(now)
+                .build());
+    }
+
+    @Transactional
+    public CompetencyRecalcJob resume(Long jobId, String ownerId) {
+        CompetencyRecalcJob job = getJob(jobId);
+        if (job.getStatus() != CompetencyRecalcJobStatus.FAILED) {
+            throw new BusinessException(ErrorCode.COMPETENCY_RECALC_JOB_NOT_RESUMABLE, jobId);
+        }
+        job.resume(ownerId, LocalDateTime.now());
+        return job;
+    }
+
+    /**
+     * 청크 계획 확정. 재개 시 대상 학생 집합이 달라졌다면 청크 경계가 바뀌므로 기존 청크 기록을 버림
+     * (학생 수가 같아도 구성이 바뀌면 같은 청크 번호에 다른 학생이 들어가므로 집합 해시로 비교)
+     *
+     * @return 이미 커밋되어 건너뛸 청크 번호
+     */
+    @Transactional
+    public List<Integer> plan(Long jobId, int totalStudents, int totalChunks, String studentSetHash) {
+        CompetencyRecalcJob job = getJob(jobId);
+        if (!studentSetHash.equals(job.getStudentSetHash()) || job.getTotalChunks() != totalChunks) {
+            chunkRepository.deleteByJobId(jobId);
+        }
+        job.plan(totalStudents, totalChunks, studentSetHash);
+        return chunkRepository.findChunkNosByJobId(jobId);
+    }
+
+    /**
+     * 청크 재계산과 청크 완료 기록을 같은 트랜잭션으로 커밋
+     */
+    @Transactional
+    public void processChunk(Long jobId, int chunkNo, SemesterContext ctx, List<Long> studentIds) {
+        long startedAt = System.nanoTime();
+        batchEngine.recalculateChunk(ctx, studentIds);
+        long elapsedMs = (System.nanoTime() - startedAt) / 1_000_000;
+
+        chunkRepository.save(CompetencyRecalcJobChunk.builder()
+                .jobId(jobId)
+                .chunkNo(chunkNo)
+                .studentCount(studentIds.size())
+                .elapsedMs(elapsedMs)
+                .committedAt(LocalDateTime.now())
+                .build());
+    }
+
+    @Transactional
+    public void complete(Long jobId) {
+        getJob(jobId).complete(LocalDateTime.now());
+    }
+
+    @Transactional
+    public void fail(Long jobId, String errorMessage) {
+        getJob(jobId).fail(errorMessage, LocalDateTime.now());
+    }
+
+    @Transactional
+    public int failOwnedOrStale(String ownerId, Duration heartbeatTimeout, String errorMessage) {
+        LocalDateTime now = LocalDateTime.now();
+        return jobRepository.failOwnedOrStale(ownerId, now.minus(heartbeatTimeout), errorMessage, now);
+    }
+
+    @Transactional
+    public int failStale(Duration heartbeatTimeout, String errorMessage) {
+        LocalDateTime now = LocalDateTime.now();
+        return jobRepository.failStale(now.minus(heartbeatTimeout), errorMessage, now);
+    }
+
+    @Transactional
+    public int touchHeartbeat(Collection<Long> jobIds, String ownerId) {
+        return jobRepository.touchHeartbeat(jobIds, ownerId, LocalDateTime.now());
+    }
+
+    private CompetencyRecalcJob getJob(Long jobId) {
+        return jobRepository.findById(jobId)
+                .orElseThrow(() -> new BusinessException(ErrorCode.COMPETENCY_RECALC_JOB_NOT_FOUND, jobId));
+    }
+}
@@ -0,0 +1,155 @@
+package com.teamlms.backend.domain.competency.service;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.teamlms.backend.domain.competency.entitiy.Competency;
+import com.teamlms.backend.domain.competency.repository.CompetencySummaryBulkRepository.DiagnosisAnswerRow;
+import com.teamlms.backend.domain.competency.repository.CompetencySummaryBulkRepository.SummaryRow;
+
+/**
+ * 학기 전체 학생 x 역량 점수 누적판 (primitive 배열)
+ * - 교과/비교과 인덱스: student * competencyCount + competency
+ * - 진단 인덱스: student * 6 + 채점표 컬럼(C1~C6), 저장 시 역량으로 매핑
+ * - 점수 규칙은 CompetencySummaryService 학생 단위 계산과 동일
+ */
+final class CompetencyScoreBoard {
+
+    private static final long MULTIPLIER = 10L;
+
+    private final long[] studentIds;
+    private final Map<Long, Integer> studentIndex;
+
+    private final long[] competencyIds;
+    private final Map<Long, Integer> competencyIndex;
+    // 역량 인덱스 -> 채점표 컬럼(C1~C6 = 0~5), 그 외 코드는 -1
+    private final int[] diagnosisColumns;
+
+    private final long[] diagnosisSkill;
+    private final long[] diagnosisAptitude;
+    private final long[] curricular;
+    private final long[] extra;
+
+    CompetencyScoreBoard(List<Long> studentIds, List<Competency> competencies) {
+        int studentCount = studentIds.size();
+        int competencyCount = competencies.size();
+
+        this.studentIds = new long[studentCount];
+        this.studentIndex = new HashMap<>(studentCount * 2);
+        for (int i = 0; i < studentCount; i++) {
+            this.studentIds[i] = studentIds.get(i);
+            this.studentIndex.put(studentIds.get(i), i);
+        }
+
+        this.competencyIds = new long[competencyCount];
+        this.competencyIndex = new HashMap<>(competencyCount * 2);
+        this.diagnosisColumns = new int[competencyCount];
+        for (int c = 0; c < competencyCount; c++) {
+            Competency competency = competencies.get(c);
+            this.competencyIds[c] = competency.getCompetencyId();
+            this.competencyIndex.put(competency.getCompetencyId(), c);
+            this.diagnosisColumns[c] = DiagnosisScoringMatrix.columnOf(competency.getCode());
+        }
+
+        int diagnosisSize = studentCount * DiagnosisScoringMatrix.COLUMN_COUNT;
+        this.diagnosisSkill = new long[diagnosisSize];
+        this.diagnosisAptitude = new long[diagnosisSize];
+
+        int size = studentCount * competencyCount;
+        this.curricular = new long[size];
+        this.extra = new long[size];
+    }
+
+    int studentCount() {
+        return studentIds.length;
+    }
+
+    int competencyCount() {
+        return competencyIds.length;
+    }
+
+    long studentIdAt(int studentIdx) {
+        return studentIds[studentIdx];
+    }
+
+    int indexOfStudent(long studentAccountId) {
+        Integer idx = studentIndex.get(studentAccountId);
+        return idx != null ? idx : -1;
+    }
+
+    int indexOfCompetency(long competencyId) {
+        Integer idx = competencyIndex.get(competencyId);
+        return idx != null ? idx : -1;
+    }
+
+    /**
+     * 진단 답변 1건을 채점표로 학생의 C1~C6 에 한 번에 반영 (채점표에 없는 문항은 무시)
+     */
+    void addDiagnosisAnswer(int studentIdx, DiagnosisScoringMatrix matrix, DiagnosisAnswerRow row) {
+        int q = matrix.indexOf(row.questionId());
+        if (q < 0) {
+            return;
+        }
+        matrix.addAnswerScores(q, row.scaleValue(), row.isCorrect(),
+                matrix.isSkill(q) ? diagnosisSkill : diagnosisAptitude,
+                studentIdx * DiagnosisScoringMatrix.COLUMN_COUNT);
+    }
+
+    /**
+     * 역량별 가중치 벡터(weights[competencyIdx]) * 점수를 교과 점수에 반영
+     */
+    void addCurricular(int studentIdx, int[] weights, long rawScore) {
+        addWeighted(curricular, studentIdx, weights, rawScore);
+    }
+
+    /**
+     * 역량별 가중치 벡터(weights[competencyIdx]) * 포인트를 비교과 점수에 반영
+     */
+    void addExtra(int studentIdx, int[] weights, long earnedPoints) {
+        addWeighted(extra, studentIdx, weights, earnedPoints);
+    }
+
+    /**
+     * 저장용 행 변환 (진단/비교과 x10, 교과 그대로, 수정점수 0)
+     */
+    List<SummaryRow> toSummaryRows() {
+        List<SummaryRow> rows = new ArrayList<>(studentIds.length * competencyIds.length);
+
+        for (int s = 0; s < studentIds.length; s++) {
+            int base = s * competencyIds.length;
+            int diagnosisBase = s * DiagnosisScoringMatrix.COLUMN_COUNT;
+            for (int c = 0; c < competencyIds.length; c++) {
+                int i = base + c;
+                int column = diagnosisColumns[c];
+                long skill = column >= 0 ? diagnosisSkill[diagnosisBase + column] : 0L;
+                long aptitude = column >= 0 ? diagnosisAptitude[diagnosisBase + column] : 0L;
+                long scaledSkill = skill * MULTIPLIER;
+                long scaledAptitude = aptitude * MULTIPLIER;
+                long diagnosisScore = scaledSkill + scaledAptitude;
+                long scaledExtra = extra[i] * MULTIPLIER;
+                long selfExtra = 0L;
+
+                rows.add(new SummaryRow(
+                        studentIds[s],
+                        competencyIds[c],
+                        scaledSkill,
+                        scaledAptitude,
+                        diagnosisScore,
+                        curricular[i],
+                        scaledExtra,
+                        selfExtra,
+                        diagnosisScore + scaledExtra + curricular[i] + selfExtra));
+            }
+        }
+        return rows;
+    }
+
+    private void addWeighted(long[] target, int studentIdx, int[] weights, long value) {
+        int base = studentIdx * competencyIds.length;
+        for (int c = 0; c < weights.length; c++) {
+            target[base + c] += value * weights[c];
+        }
+    }
+}
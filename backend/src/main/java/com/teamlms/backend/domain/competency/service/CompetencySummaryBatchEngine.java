@@ -0,0 +1,219 @@
+package com.teamlms.backend.domain.competency.service;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.data.domain.AuditorAware;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.teamlms.backend.domain.competency.entitiy.Competency;
+import com.teamlms.backend.domain.competency.repository.CompetencyRepository;
+import com.teamlms.backend.domain.competency.repository.CompetencySummaryBulkRepository;
+import com.teamlms.backend.domain.competency.repository.CompetencySummaryBulkRepository.CompetencyWeightRow;
+import com.teamlms.backend.domain.competency.repository.CompetencySummaryBulkRepository.StudentProfileRow;
+import com.teamlms.backend.domain.competency.repository.CompetencySummaryBulkRepository.SummaryRow;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 학기 전체 학생 역량 요약 일괄 계산 엔진
+ * - 학기 데이터(답변/수강/비교과/가중치)를 몇 개의 스트리밍 쿼리로 읽고
+ * - 메모리(primitive 배열)에서 C1~C6 점수를 계산한 뒤
+ * - semester_student_competency_summary 에 JDBC batch 로 저장
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional
+public class CompetencySummaryBatchEngine {
+
+    private static final long NO_RUN = -1L;
+
+    private final CompetencyRepository competencyRepository;
+    private final CompetencySummaryBulkRepository bulkRepository;
+    private final AuditorAware<Long> auditorProvider;
+    private final DiagnosisScoringMatrixCache scoringMatrixCache;
+    private final DiagnosisRunIndexCache runIndexCache;
+
+    /**
+     * 학기별 전체 학생 역량 요약 재계산 (기존 요약 삭제 후 재생성)
+     *
+     * @return 계산된 학생 수
+     */
+    public int recalculate(Long semesterId) {
+        long startedAt = System.nanoTime();
+
+        SemesterContext ctx = loadContext(semesterId);
+        List<Long> studentIds = findTargetStudentIds(ctx);
+
+        CompetencyScoreBoard board = accumulate(ctx, studentIds, null);
+
+        List<SummaryRow> rows = board.toSummaryRows();
+        bulkRepository.deleteBySemesterId(semesterId);
+        bulkRepository.batchInsert(
+                semesterId,
+                rows,
+                auditorProvider.getCurrentAuditor().orElse(null),
+                LocalDateTime.now());
+
+        long elapsedMs = (System.nanoTime() - startedAt) / 1_000_000;
+        log.info("Recalculated competency summaries. semesterId={}, students={}, rows={}, elapsedMs={}",
+                semesterId, board.studentCount(), rows.size(), elapsedMs);
+
+        return board.studentCount();
+    }
+
+    /**
+     * 청크(학생 ID 묶음) 단위 재계산 - 해당 학생들의 요약만 삭제 후 재생성
+     *
+     * @return 저장된 행 수
+     */
+    public int recalculateChunk(SemesterContext ctx, List<Long> studentIds) {
+        CompetencyScoreBoard board = accumulate(ctx, studentIds, studentIds);
+
+        List<SummaryRow> rows = board.toSummaryRows();
+        bulkRepository.deleteBySemesterIdAndStudentIds(ctx.semesterId(), studentIds);
+        bulkRepository.batchInsert(
+                ctx.semesterId(),
+                rows,
+                auditorProvider.getCurrentAuditor().orElse(null),
+                LocalDateTime.now());
+        return rows.size();
+    }
+
+    /**
+     * 대상 학생 집합 밖의 요약 삭제 - 청크는 자기 학생만 지우므로 작업당 1회 호출
+     *
+     * @return 삭제된 행 수
+     */
+    public int deleteOutsideStudents(Long semesterId, List<Long> studentIds) {
+        return bulkRepository.deleteBySemesterIdExcludingStudentIds(semesterId, studentIds);
+    }
+
+    /**
+     * 학기 공통 데이터(역량/진단/프로필/가중치) 1회 로딩 - 청크 간 공유 (읽기 전용)
+     */
+    @Transactional(readOnly = true)
+    public SemesterContext loadContext(Long semesterId) {
+        List<Competency> competencies = competencyRepository.findAll();
+        DiagnosisRunIndex runIndex = runIndexCache.get(semesterId);
+
+        Map<Long, StudentProfileRow> profiles = new HashMap<>();
+        bulkRepository.streamStudentProfiles(p -> profiles.put(p.accountId(), p));
+
+        Map<Long, Integer> competencyIndex = new HashMap<>();
+        for (int c = 0; c < competencies.size(); c++) {
+            competencyIndex.put(competencies.get(c).getCompetencyId(), c);
+        }
+
+        Map<Long, int[]> curricularWeights = new HashMap<>();
+        bulkRepository.streamCurricularWeights(semesterId,
+                row -> putWeight(curricularWeights, competencyIndex, competencies.size(), row));
+
+        Map<Long, int[]> extraWeights = new HashMap<>();
+        bulkRepository.streamExtraWeights(semesterId,
+                row -> putWeight(extraWeights, competencyIndex, competencies.size(), row));
+
+        Map<Long, DiagnosisScoringMatrix> matrices = new HashMap<>();
+        for (Long runId : runIndex.runIds()) {
+            matrices.put(runId, scoringMatrixCache.get(runId));
+        }
+
+        return new SemesterContext(
+                semesterId,
+                List.copyOf(competencies),
+                runIndex,
+                Map.copyOf(profiles),
+                Map.copyOf(curricularWeights),
+                Map.copyOf(extraWeights),
+                Map.copyOf(matrices));
+    }
+
+    /**
+     * 재계산 대상 학생 (진단이 없으면 전체 학생, 있으면 제출 학생) - ID 오름차순
+     */
+    @Transactional(readOnly = true)
+    public List<Long> findTargetStudentIds(SemesterContext ctx) {
+        List<Long> studentIds = new ArrayList<>(ctx.runIndex().isEmpty()
+                ? ctx.profiles().keySet()
+                : bulkRepository.findSubmittedStudentIdsBySemesterId(ctx.semesterId()));
+        Collections.sort(studentIds);
+        return studentIds;
+    }
+
+    /**
+     * studentFilter 가 null 이면 학기 전체 스트리밍, 아니면 해당 학생만 조회
+     */
+    private CompetencyScoreBoard accumulate(SemesterContext ctx, List<Long> studentIds, List<Long> studentFilter) {
+        Long semesterId = ctx.semesterId();
+        CompetencyScoreBoard board = new CompetencyScoreBoard(studentIds, ctx.competencies());
+
+        // 1) 학생별 적용 진단 (학과+학년 -> 학과 -> 학년 -> 전체)
+        long[] runByStudent = new long[board.studentCount()];
+        for (int s = 0; s < board.studentCount(); s++) {
+            StudentProfileRow profile = ctx.profiles().get(board.studentIdAt(s));
+            Long runId = ctx.runIndex().resolve(
+                    profile != null ? profile.deptId() : null,
+                    profile != null ? profile.gradeLevel() : null);
+            runByStudent[s] = runId != null ? runId : NO_RUN;
+        }
+
+        // 2) 진단 점수 (적용 진단의 답변만, run 별 채점표)
+        bulkRepository.streamDiagnosisAnswers(semesterId, studentFilter, row -> {
+            int s = board.indexOfStudent(row.studentAccountId());
+            if (s >= 0 && runByStudent[s] == row.runId()) {
+                board.addDiagnosisAnswer(s, ctx.matrices().get(row.runId()), row);
+            }
+        });
+
+        // 3) 교과 점수
+        bulkRepository.streamScoredEnrollments(semesterId, studentFilter, row -> {
+            int s = board.indexOfStudent(row.studentAccountId());
+            int[] weights = ctx.curricularWeights().get(row.offeringId());
+            if (s >= 0 && weights != null) {
+                board.addCurricular(s, weights, row.score());
+            }
+        });
+
+        // 4) 비교과 점수
+        bulkRepository.streamExtraEarnedPoints(semesterId, studentFilter, row -> {
+            int s = board.indexOfStudent(row.studentAccountId());
+            int[] weights = ctx.extraWeights().get(row.offeringId());
+            if (s >= 0 && weights != null) {
+                board.addExtra(s, weights, row.score());
+            }
+        });
+
+        return board;
+    }
+
+    private static void putWeight(Map<Long, int[]> weights, Map<Long, Integer> competencyIndex,
+            int competencyCount, CompetencyWeightRow row) {
+        Integer c = competencyIndex.get(row.competencyId());
+        if (c == null) {
+            return;
+        }
+        weights.computeIfAbsent(row.offeringId(), k -> new int[competencyCount])[c] = row.weight();
+    }
+
+    /**
+     * 학기 재계산 공통 데이터 (불변, 청크 워커 간 공유)
+     * - 가중치 벡터 인덱스는 competencies 순서와 동일
+     * - matrices: run ID -> 진단 채점표
+     */
+    public record SemesterContext(
+            Long semesterId,
+            List<Competency> competencies,
+            DiagnosisRunIndex runIndex,
+            Map<Long, StudentProfileRow> profiles,
+            Map<Long, int[]> curricularWeights,
+            Map<Long, int[]> extraWeights,
+            Map<Long, DiagnosisScoringMatrix> matrices) {
+    }
+}
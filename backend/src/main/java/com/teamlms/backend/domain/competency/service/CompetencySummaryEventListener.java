@@ -0,0 +1,68 @@
+package com.teamlms.backend.domain.competency.service;
+
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.teamlms.backend.domain.competency.event.StudentCompetencyChangedEvent;
+import com.teamlms.backend.domain.competency.event.StudentCompetencySummaryUpdatedEvent;
+import com.teamlms.backend.domain.competency.event.StudentsCompetencyChangedEvent;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 역량 요약 증분 갱신
+ * 1) 원본 변경 커밋 후 해당 학생의 역량 요약만 재계산
+ * 2) 재계산된 총점 변화로 코호트 통계(평균/표준편차/최고점)를 누적값으로 갱신
+ * 3) 여러 학생 변경(성적 일괄 확정)은 청크 재계산 1회 + 통계 갱신 1회로 처리
+ * 4) 재계산은 CompetencySummaryIncrementalUpdater 의 새 트랜잭션에서 실행
+ *    → 실패하면 그 트랜잭션만 롤백된 뒤 여기서 기록하고 삼킴 (원본 변경 요청에는 영향 없음)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CompetencySummaryEventListener {
+
+    private final CompetencySummaryIncrementalUpdater incrementalUpdater;
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onStudentCompetencyChanged(StudentCompetencyChangedEvent event) {
+        if (event.semesterId() == null || event.studentAccountId() == null) {
+            return;
+        }
+
+        try {
+            incrementalUpdater.updateStudent(event.semesterId(), event.studentAccountId());
+        } catch (RuntimeException e) {
+            // 원본 변경은 이미 커밋됨 - 요약은 다음 학기 재계산에서 보정
+            log.warn("Incremental competency summary update failed. semesterId={}, studentId={}, cause={}",
+                    event.semesterId(), event.studentAccountId(), event.cause(), e);
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onStudentsCompetencyChanged(StudentsCompetencyChangedEvent event) {
+        if (event.semesterId() == null || event.studentAccountIds() == null
+                || event.studentAccountIds().isEmpty()) {
+            return;
+        }
+
+        try {
+            incrementalUpdater.updateStudents(event.semesterId(), event.studentAccountIds());
+        } catch (RuntimeException e) {
+            // 원본 변경은 이미 커밋됨 - 요약은 다음 학기 재계산에서 보정
+            log.warn("Bulk competency summary update failed. semesterId={}, students={}, cause={}",
+                    event.semesterId(), event.studentAccountIds().size(), event.cause(), e);
+        }
+    }
+
+    /**
+     * 같은 트랜잭션에서 코호트 통계 증분 반영 (통계가 아직 없는 학기는 전체 계산에 맡김)
+     */
+    @EventListener
+    public void onStudentCompetencySummaryUpdated(StudentCompetencySummaryUpdatedEvent event) {
+        incrementalUpdater.applyScoreChanges(event.semesterId(), event.changes());
+    }
+}
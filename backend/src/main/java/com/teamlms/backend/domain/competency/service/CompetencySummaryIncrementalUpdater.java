@@ -0,0 +1,141 @@
+package com.teamlms.backend.domain.competency.service;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.teamlms.backend.domain.competency.entitiy.SemesterCompetencyCohortStat;
+import com.teamlms.backend.domain.competency.entitiy.SemesterStudentCompetencySummary;
+import com.teamlms.backend.domain.competency.event.StudentCompetencySummaryUpdatedEvent;
+import com.teamlms.backend.domain.competency.event.StudentCompetencySummaryUpdatedEvent.ScoreChange;
+import com.teamlms.backend.domain.competency.repository.SemesterCompetencyCohortStatRepository;
+import com.teamlms.backend.domain.competency.repository.SemesterStudentCompetencySummaryRepository;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 역량 요약 증분 갱신 (원본 커밋 후 새 트랜잭션에서 실행)
+ * - 실패 시 이 트랜잭션만 롤백되고 예외는 호출한 리스너로 전달 (리스너가 기록 후 삼킴)
+ * - 재계산 전 학기 advisory lock 으로 같은 학기 증분 갱신/전체 통계 계산을 직렬화
+ *   (통계 행이 아직 없는 첫 재계산 포함, 누적 합계 유실 + 같은 학생 동시 재계산 시 이전 총점 중복 차감 방지)
+ */
+@Component
+@RequiredArgsConstructor
+public class CompetencySummaryIncrementalUpdater {
+
+    private final CompetencySummaryService competencySummaryService;
+    private final CompetencySummaryBatchEngine batchEngine;
+    private final SemesterStudentCompetencySummaryRepository summaryRepository;
+    private final SemesterCompetencyCohortStatRepository statRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    /**
+     * 학생 1명 재계산 후 총점 변화 발행 (통계는 같은 트랜잭션의 이벤트 리스너가 반영)
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void updateStudent(Long semesterId, Long studentAccountId) {
+        statRepository.lockSemester(semesterId);
+        Map<Long, BigDecimal> before = totalScores(semesterId, studentAccountId);
+        competencySummaryService.recalculateStudentSummary(semesterId, studentAccountId);
+        Map<Long, BigDecimal> after = totalScores(semesterId, studentAccountId);
+
+        List<ScoreChange> changes = new ArrayList<>();
+        after.forEach((competencyId, score) -> {
+            BigDecimal prev = before.get(competencyId);
+            if (prev == null || prev.compareTo(score) != 0) {
+                changes.add(new ScoreChange(competencyId, prev, score));
+            }
+        });
+
+        if (!changes.isEmpty()) {
+            eventPublisher.publishEvent(new StudentCompetencySummaryUpdatedEvent(
+                    semesterId, studentAccountId, changes));
+        }
+    }
+
+    /**
+     * 여러 학생 청크 재계산 1회 + 통계 갱신 1회
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void updateStudents(Long semesterId, List<Long> studentAccountIds) {
+        statRepository.lockSemester(semesterId);
+        Map<Long, Map<Long, BigDecimal>> before = totalScoresByStudent(semesterId, studentAccountIds);
+        batchEngine.recalculateChunk(batchEngine.loadContext(semesterId), studentAccountIds);
+        Map<Long, Map<Long, BigDecimal>> after = totalScoresByStudent(semesterId, studentAccountIds);
+
+        List<ScoreChange> changes = new ArrayList<>();
+        after.forEach((studentId, scores) -> {
+            Map<Long, BigDecimal> prevScores = before.getOrDefault(studentId, Map.of());
+            scores.forEach((competencyId, score) -> {
+                BigDecimal prev = prevScores.get(competencyId);
+                if (prev == null || prev.compareTo(score) != 0) {
+                    changes.add(new ScoreChange(competencyId, prev, score));
+                }
+            });
+        });
+
+        applyScoreChanges(semesterId, changes);
+    }
+
+    /**
+     * 호출 트랜잭션에서 코호트 통계 증분 반영 (통계가 아직 없는 학기는 전체 계산에 맡김)
+     * - 최고점 재조회는 역량별로 마지막에 1회 (재계산 결과가 이미 저장된 뒤)
+     */
+    public void applyScoreChanges(Long semesterId, List<ScoreChange> changes) {
+        if (changes.isEmpty()) {
+            return;
+        }
+        statRepository.lockSemester(semesterId);
+        Map<Long, SemesterCompetencyCohortStat> stats = new HashMap<>();
+        for (SemesterCompetencyCohortStat stat : statRepository.findBySemesterIdForUpdate(semesterId)) {
+            stats.put(stat.getCompetency().getCompetencyId(), stat);
+        }
+        if (stats.isEmpty()) {
+            return;
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        Set<Long> maxRefresh = new HashSet<>();
+        for (ScoreChange change : changes) {
+            SemesterCompetencyCohortStat stat = stats.get(change.competencyId());
+            if (stat == null) {
+                continue;
+            }
+            if (stat.applyScoreChange(change.before(), change.after(), now)) {
+                maxRefresh.add(change.competencyId());
+            }
+        }
+        for (Long competencyId : maxRefresh) {
+            stats.get(competencyId).refreshMaxScore(summaryRepository.findMaxTotalScore(semesterId, competencyId));
+        }
+    }
+
+    private Map<Long, Map<Long, BigDecimal>> totalScoresByStudent(Long semesterId, List<Long> studentAccountIds) {
+        Map<Long, Map<Long, BigDecimal>> scores = new HashMap<>();
+        for (SemesterStudentCompetencySummary summary : summaryRepository
+                .findBySemesterSemesterIdAndStudentAccountIdIn(semesterId, studentAccountIds)) {
+            scores.computeIfAbsent(summary.getStudent().getAccountId(), k -> new HashMap<>())
+                    .put(summary.getCompetency().getCompetencyId(), summary.getTotalScore());
+        }
+        return scores;
+    }
+
+    private Map<Long, BigDecimal> totalScores(Long semesterId, Long studentAccountId) {
+        Map<Long, BigDecimal> scores = new HashMap<>();
+        for (SemesterStudentCompetencySummary summary : summaryRepository
+                .findBySemesterSemesterIdAndStudentAccountId(semesterId, studentAccountId)) {
+            scores.put(summary.getCompetency().getCompetencyId(), summary.getTotalScore());
+        }
+        return scores;
+    }
+}
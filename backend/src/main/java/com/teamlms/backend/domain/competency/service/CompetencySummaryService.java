@@ -8,8 +8,6 @@ import com.teamlms.backend.domain.account.repository.AccountRepository;
 import com.teamlms.backend.domain.account.entity.StudentProfile;
 import com.teamlms.backend.domain.account.repository.StudentProfileRepository;
 import com.teamlms.backend.domain.competency.entitiy.*;
-import com.teamlms.backend.domain.competency.enums.DiagnosisQuestionDomain;
-import com.teamlms.backend.domain.competency.enums.DiagnosisQuestionType;
 import com.teamlms.backend.domain.competency.repository.*;
 import com.teamlms.backend.domain.curricular.entity.Enrollment;
 import com.teamlms.backend.domain.curricular.repository.CurricularOfferingCompetencyMapRepository;
@@ -19,7 +17,6 @@ import com.teamlms.backend.domain.extracurricular.repository.ExtraCurricularAppl
 import com.teamlms.backend.domain.extracurricular.repository.ExtraCurricularOfferingCompetencyMapRepository;
 import com.teamlms.backend.domain.extracurricular.repository.ExtraCurricularOfferingRepository;
 import com.teamlms.backend.domain.extracurricular.repository.ExtraCurricularSessionCompletionRepository;
-import com.teamlms.backend.domain.extracurricular.entity.ExtraCurricularSessionCompletion;
 import com.teamlms.backend.domain.semester.entity.Semester;
 import com.teamlms.backend.domain.semester.repository.SemesterRepository;
 import com.teamlms.backend.global.exception.base.BusinessException;
@@ -28,11 +25,10 @@ import com.teamlms.backend.global.exception.code.ErrorCode;
 import lombok.RequiredArgsConstructor;
 
 import java.math.BigDecimal;
-import java.math.RoundingMode;
 import java.time.LocalDateTime;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.stream.Collectors;
 
 /**
  * 역량 요약 및 통계 서비스
@@ -49,7 +45,6 @@ public class CompetencySummaryService {
         private final AccountRepository accountRepository;
         private final StudentProfileRepository studentProfileRepository;
 
-        private final DiagnosisRunRepository diagnosisRunRepository;
         private final DiagnosisSubmissionRepository diagnosisSubmissionRepository;
         private final DiagnosisAnswerRepository diagnosisAnswerRepository;
         private final DiagnosisTargetRepository diagnosisTargetRepository;
@@ -63,6 +58,11 @@ public class CompetencySummaryService {
 
         private final ExtraCurricularOfferingCompetencyMapRepository extraOfferingCompetencyMapRepository;
 
+        private final CompetencySummaryBulkRepository bulkRepository;
+        private final CompetencySummaryBatchEngine batchEngine;
+        private final DiagnosisScoringMatrixCache scoringMatrixCache;
+        private final DiagnosisRunIndexCache runIndexCache;
+
         /**
          * 학생별 학기별 역량 요약 생성/업데이트
          */
@@ -153,41 +153,38 @@ public class CompetencySummaryService {
                 StudentProfile profile = studentProfileRepository.findById(studentAccountId).orElse(null);
                 Long deptId = profile != null ? profile.getDeptId() : null;
                 Integer grade = profile != null ? profile.getGradeLevel() : null;
-                DiagnosisRun run = resolveDiagnosisRun(semesterId, deptId, grade);
-
-                for (Competency comp : competencies) {
-
-                        String code = comp.getCode();
-
-                        BigDecimal diagSkill = BigDecimal.ZERO;
-                        BigDecimal diagAptitude = BigDecimal.ZERO;
+                Long runId = runIndexCache.get(semesterId).resolve(deptId, grade);
+
+                // 1) 진단 점수: 제출 답변을 채점표로 한 번에 C1~C6 채점
+                DiagnosisScoringMatrix.DiagnosisScore diagnosis = null;
+                if (runId != null) {
+                        var submission = diagnosisSubmissionRepository
+                                        .findByRunRunIdAndStudentAccountId(runId, studentAccountId);
+                        if (submission.isPresent()) {
+                                List<DiagnosisAnswer> answers = diagnosisAnswerRepository
+                                                .findBySubmissionSubmissionId(submission.get().getSubmissionId());
+                                diagnosis = scoringMatrixCache.get(runId).score(answers);
+                        }
+                }
 
-                        if (run != null) {
-                                var submission = diagnosisSubmissionRepository
-                                                .findByRunRunIdAndStudentAccountId(run.getRunId(), studentAccountId);
+                List<Enrollment> enrollments = enrollmentRepository
+                                .findByStudentAccountIdAndSemesterId(studentAccountId, semesterId);
+                var applications = extraApplicationRepository
+                                .findByStudentAccountIdAndSemesterId(studentAccountId, semesterId);
 
-                                if (submission.isPresent()) {
-                                        List<DiagnosisAnswer> answers = diagnosisAnswerRepository
-                                                        .findBySubmissionSubmissionId(
-                                                                        submission.get().getSubmissionId());
+                for (Competency comp : competencies) {
 
-                                        for (DiagnosisAnswer ans : answers) {
-                                                BigDecimal score = calculateQuestionScore(ans, code);
-                                                if (ans.getQuestion().getDomain() == DiagnosisQuestionDomain.SKILL) {
-                                                        diagSkill = diagSkill.add(score);
-                                                } else {
-                                                        diagAptitude = diagAptitude.add(score);
-                                                }
-                                        }
-                                }
-                        }
+                        int column = DiagnosisScoringMatrix.columnOf(comp.getCode());
+                        BigDecimal diagSkill = diagnosis != null
+                                        ? BigDecimal.valueOf(diagnosis.skillAt(column))
+                                        : BigDecimal.ZERO;
+                        BigDecimal diagAptitude = diagnosis != null
+                                        ? BigDecimal.valueOf(diagnosis.aptitudeAt(column))
+                                        : BigDecimal.ZERO;
 
                         // 2) 교과 점수
                         BigDecimal curricular = BigDecimal.ZERO;
 
-                        List<Enrollment> enrollments = enrollmentRepository
-                                        .findByStudentAccountIdAndSemesterId(studentAccountId, semesterId);
-
                         for (Enrollment e : enrollments) {
                                 if (e.getRawScore() == null)
                                         continue;
@@ -206,9 +203,6 @@ public class CompetencySummaryService {
                         // 3) 비교과 점수
                         BigDecimal extra = BigDecimal.ZERO;
 
-                        var applications = extraApplicationRepository
-                                        .findByStudentAccountIdAndSemesterId(studentAccountId, semesterId);
-
                         for (var app : applications) {
 
                                 var completionList = extraCompletionRepository
@@ -252,132 +246,12 @@ public class CompetencySummaryService {
 
         /**
          * 학기별 전체 학생 역량 요약 재계산
+         * - 학생 x 역량 단위 조회 대신 CompetencySummaryBatchEngine 으로 일괄 계산
          */
         @Transactional
         public void recalculateAllSummaries(Long semesterId) {
 
-                List<Competency> competencies = competencyRepository.findAll();
-                List<DiagnosisRun> runs = diagnosisRunRepository.findAllBySemesterSemesterId(semesterId);
-
-                summaryRepository.deleteBySemesterSemesterId(semesterId);
-
-                List<Long> studentIds;
-                if (!runs.isEmpty()) {
-                        List<Long> runIds = runs.stream()
-                                        .map(DiagnosisRun::getRunId)
-                                        .collect(Collectors.toList());
-                        studentIds = diagnosisSubmissionRepository.findByRunRunIdIn(runIds).stream()
-                                        .map(submission -> submission.getStudent().getAccountId())
-                                        .distinct()
-                                        .collect(Collectors.toList());
-                } else {
-                        studentIds = studentProfileRepository.findAll().stream()
-                                        .map(StudentProfile::getAccountId)
-                                        .collect(Collectors.toList());
-                }
-
-                for (Long studentId : studentIds) {
-                        StudentProfile profile = studentProfileRepository.findById(studentId).orElse(null);
-                        Long deptId = profile != null ? profile.getDeptId() : null;
-                        Integer grade = profile != null ? profile.getGradeLevel() : null;
-                        DiagnosisRun runForStudent = resolveDiagnosisRun(semesterId, deptId, grade);
-
-                        for (Competency comp : competencies) {
-
-                                String code = comp.getCode();
-
-                                BigDecimal diagSkill = BigDecimal.ZERO;
-                                BigDecimal diagAptitude = BigDecimal.ZERO;
-
-                                if (runForStudent != null) {
-                                        var submission = diagnosisSubmissionRepository
-                                                        .findByRunRunIdAndStudentAccountId(runForStudent.getRunId(), studentId);
-
-                                        if (submission.isPresent()) {
-                                                List<DiagnosisAnswer> answers = diagnosisAnswerRepository
-                                                                .findBySubmissionSubmissionId(
-                                                                                submission.get().getSubmissionId());
-
-                                                for (DiagnosisAnswer ans : answers) {
-                                                        BigDecimal score = calculateQuestionScore(ans, code);
-                                                        if (ans.getQuestion()
-                                                                        .getDomain() == DiagnosisQuestionDomain.SKILL) {
-                                                                diagSkill = diagSkill.add(score);
-                                                        } else {
-                                                                diagAptitude = diagAptitude.add(score);
-                                                        }
-                                                }
-                                        }
-                                }
-
-                                // 2) 교과 점수
-                                BigDecimal curricular = BigDecimal.ZERO;
-
-                                List<Enrollment> enrollments = enrollmentRepository
-                                                .findByStudentAccountIdAndSemesterId(studentId, semesterId);
-
-                                for (Enrollment e : enrollments) {
-                                        if (e.getRawScore() == null)
-                                                continue;
-
-                                        var weightMap = curricularCompetencyMapRepository
-                                                        .findByIdOfferingIdAndIdCompetencyId(e.getOfferingId(),
-                                                                        comp.getCompetencyId());
-
-                                        if (weightMap.isPresent()) {
-                                                curricular = curricular.add(
-                                                                BigDecimal.valueOf((long) e.getRawScore()
-                                                                                * weightMap.get().getWeight()));
-                                        }
-                                }
-
-                                // 3) 비교과 점수
-                                BigDecimal extra = BigDecimal.ZERO;
-
-                                var applications = extraApplicationRepository
-                                                .findByStudentAccountIdAndSemesterId(studentId, semesterId);
-
-                                for (var app : applications) {
-
-                                        var completionList = extraCompletionRepository
-                                                        .findByApplicationId(app.getApplicationId());
-                                        if (completionList.isEmpty())
-                                                continue;
-
-                                        ExtraCurricularOffering offering = extraOfferingRepository
-                                                        .findById(app.getExtraOfferingId())
-                                                        .orElse(null);
-                                        if (offering == null)
-                                                continue;
-
-                                        var weightMap = extraOfferingCompetencyMapRepository
-                                                        .findByIdExtraOfferingIdAndIdCompetencyId(
-                                                                        offering.getExtraOfferingId(),
-                                                                        comp.getCompetencyId());
-
-                                        if (weightMap.isPresent()) {
-                                                long totalPoints = completionList.stream()
-                                                                .mapToLong(ExtraCurricularSessionCompletion::getEarnedPoint)
-                                                                .sum();
-
-                                                extra = extra.add(
-                                                                BigDecimal.valueOf(totalPoints
-                                                                                * weightMap.get().getWeight()));
-                                        }
-                                }
-
-                                // 4) 저장
-                                updateStudentCompetencySummary(
-                                                semesterId,
-                                                studentId,
-                                                comp.getCompetencyId(),
-                                                diagSkill,
-                                                diagAptitude,
-                                                curricular,
-                                                extra,
-                                                BigDecimal.ZERO);
-                        }
-                }
+                batchEngine.recalculate(semesterId);
 
                 // 학기별 전체 통계
                 calculateCohortStatistics(semesterId);
@@ -385,206 +259,56 @@ public class CompetencySummaryService {
 
         /**
          * 특정 학기의 역량별 코호트 통계 계산
+         * - 요약 엔티티 대신 (역량, 총점) 커서를 한 번만 읽어 역량별 누적기에 반영 (메모리 상한 고정)
          */
         @Transactional
         public void calculateCohortStatistics(Long semesterId) {
 
+                // 증분 갱신과 직렬화 (통계 행 생성/교체 중 누적값 반영 유실 방지)
+                statRepository.lockSemester(semesterId);
+
                 Semester semester = semesterRepository.findById(semesterId)
                                 .orElseThrow(() -> new BusinessException(ErrorCode.SEMESTER_NOT_FOUND, semesterId));
 
                 List<Competency> competencies = competencyRepository.findAll();
-                List<SemesterStudentCompetencySummary> allSummaries = summaryRepository
-                                .findBySemesterSemesterId(semesterId);
-                List<DiagnosisRun> runs = diagnosisRunRepository.findAllBySemesterSemesterId(semesterId);
-                int totalTarget = !runs.isEmpty()
+                int totalTarget = !runIndexCache.get(semesterId).isEmpty()
                                 ? (int) diagnosisTargetRepository.countDistinctStudentBySemesterId(semesterId)
                                 : (int) studentProfileRepository.count();
 
-                Map<Long, List<SemesterStudentCompetencySummary>> groupedByComp = allSummaries.stream()
-                                .collect(Collectors.groupingBy(s -> s.getCompetency().getCompetencyId()));
+                Map<Long, CohortScoreStatistics> statsByComp = new HashMap<>();
+                bulkRepository.streamTotalScores(semesterId, row -> statsByComp
+                                .computeIfAbsent(row.competencyId(), k -> new CohortScoreStatistics())
+                                .add(row.totalScore()));
 
                 for (Competency comp : competencies) {
 
-                        List<SemesterStudentCompetencySummary> compSummaries = groupedByComp
-                                        .getOrDefault(comp.getCompetencyId(), List.of());
-
-                        int calculatedCount = compSummaries.size();
-
-                        BigDecimal mean = BigDecimal.ZERO;
-                        BigDecimal median = BigDecimal.ZERO;
-                        BigDecimal stddev = BigDecimal.ZERO;
-                        BigDecimal maxScore = BigDecimal.ZERO;
-
-                        if (!compSummaries.isEmpty()) {
-
-                                BigDecimal totalScore = compSummaries.stream()
-                                                .map(SemesterStudentCompetencySummary::getTotalScore)
-                                                .reduce(BigDecimal.ZERO, BigDecimal::add);
-
-                                mean = totalScore.divide(BigDecimal.valueOf(calculatedCount), 2, RoundingMode.HALF_UP);
-
-                                List<BigDecimal> scores = compSummaries.stream()
-                                                .map(SemesterStudentCompetencySummary::getTotalScore)
-                                                .sorted()
-                                                .collect(Collectors.toList());
-
-                                int size = scores.size();
-
-                                if (size % 2 == 0) {
-                                        median = scores.get(size / 2 - 1).add(scores.get(size / 2))
-                                                        .divide(BigDecimal.valueOf(2), 2, RoundingMode.HALF_UP);
-                                } else {
-                                        median = scores.get(size / 2);
-                                }
-
-                                double meanDouble = mean.doubleValue();
-                                double sumSquaredDiff = 0;
-
-                                for (BigDecimal score : scores) {
-                                        double diff = score.doubleValue() - meanDouble;
-                                        sumSquaredDiff += diff * diff;
-                                }
-
-                                double variance = sumSquaredDiff / size;
-                                stddev = BigDecimal.valueOf(Math.sqrt(variance)).setScale(2, RoundingMode.HALF_UP);
-
-                                maxScore = scores.get(size - 1);
-                        }
+                        CohortScoreStatistics scores = statsByComp
+                                        .computeIfAbsent(comp.getCompetencyId(), k -> new CohortScoreStatistics());
 
                         SemesterCompetencyCohortStat stat = statRepository
                                         .findBySemesterSemesterIdAndCompetencyCompetencyId(semesterId,
                                                         comp.getCompetencyId())
                                         .orElse(null);
 
-                        if (stat == null) {
-                                stat = SemesterCompetencyCohortStat.builder()
-                                                .semester(semester)
-                                                .competency(comp)
-                                                .targetCount(totalTarget)
-                                                .calculatedCount(calculatedCount)
-                                                .mean(mean)
-                                                .median(median)
-                                                .stddev(stddev)
-                                                .maxScore(maxScore)
-                                                .calculatedAt(LocalDateTime.now())
-                                                .build();
-                        } else {
-                                stat = SemesterCompetencyCohortStat.builder()
-                                                .statId(stat.getStatId())
-                                                .semester(stat.getSemester())
-                                                .competency(stat.getCompetency())
-                                                .targetCount(totalTarget)
-                                                .calculatedCount(calculatedCount)
-                                                .mean(mean)
-                                                .median(median)
-                                                .stddev(stddev)
-                                                .maxScore(maxScore)
-                                                .calculatedAt(LocalDateTime.now())
-                                                .build();
-                        }
+                        stat = SemesterCompetencyCohortStat.builder()
+                                        .statId(stat != null ? stat.getStatId() : null)
+                                        .semester(stat != null ? stat.getSemester() : semester)
+                                        .competency(stat != null ? stat.getCompetency() : comp)
+                                        .targetCount(totalTarget)
+                                        .calculatedCount(scores.count())
+                                        .mean(scores.mean())
+                                        .median(scores.quantile(0.5))
+                                        .stddev(scores.stddev())
+                                        .p25(scores.quantile(0.25))
+                                        .p75(scores.quantile(0.75))
+                                        .p90(scores.quantile(0.9))
+                                        .maxScore(scores.max())
+                                        .scoreSum(scores.sum())
+                                        .scoreSumSq(scores.sumSq())
+                                        .calculatedAt(LocalDateTime.now())
+                                        .build();
 
                         statRepository.save(stat);
                 }
         }
-
-        private DiagnosisRun resolveDiagnosisRun(Long semesterId, Long deptId, Integer targetGrade) {
-                Integer normalizedGrade = targetGrade != null && targetGrade > 0 ? targetGrade : null;
-
-                if (deptId != null && normalizedGrade != null) {
-                        DiagnosisRun run = diagnosisRunRepository
-                                        .findBySemesterSemesterIdAndDeptIdAndTargetGrade(semesterId, deptId, normalizedGrade)
-                                        .orElse(null);
-                        if (run != null) {
-                                return run;
-                        }
-                }
-
-                if (deptId != null) {
-                        DiagnosisRun run = diagnosisRunRepository
-                                        .findBySemesterSemesterIdAndDeptIdAndTargetGradeIsNull(semesterId, deptId)
-                                        .orElse(null);
-                        if (run != null) {
-                                return run;
-                        }
-                        run = diagnosisRunRepository
-                                        .findBySemesterSemesterIdAndDeptIdAndTargetGrade(semesterId, deptId, 0)
-                                        .orElse(null);
-                        if (run != null) {
-                                return run;
-                        }
-                }
-
-                if (normalizedGrade != null) {
-                        DiagnosisRun run = diagnosisRunRepository
-                                        .findBySemesterSemesterIdAndDeptIdIsNullAndTargetGrade(semesterId, normalizedGrade)
-                                        .orElse(null);
-                        if (run != null) {
-                                return run;
-                        }
-                }
-
-                DiagnosisRun run = diagnosisRunRepository
-                                .findBySemesterSemesterIdAndDeptIdIsNullAndTargetGradeIsNull(semesterId)
-                                .orElse(null);
-                if (run != null) {
-                        return run;
-                }
-
-                return diagnosisRunRepository
-                                .findBySemesterSemesterIdAndDeptIdIsNullAndTargetGrade(semesterId, 0)
-                                .orElse(null);
-        }
-
-        /**
-         * 문항별 점수 계산 (공통 로직)
-         */
-        private BigDecimal calculateQuestionScore(DiagnosisAnswer ans, String compCode) {
-                DiagnosisQuestion q = ans.getQuestion();
-                int weight = getQuestionWeight(q, compCode);
-                if (weight <= 0)
-                        return BigDecimal.ZERO;
-
-                if (q.getQuestionType() == DiagnosisQuestionType.SCALE) {
-                        // 객관식: 선택된 번호에 해당하는 점수(score1~5) * 가중치(weight)
-                        Integer choiceScore = getChoiceScore(q, ans.getScaleValue());
-                        return choiceScore != null
-                                        ? BigDecimal.valueOf(choiceScore * (long) weight)
-                                        : BigDecimal.ZERO;
-                } else if (q.getQuestionType() == DiagnosisQuestionType.SHORT) {
-                        // 단답형: 정답일 경우 1 * weight
-                        return Boolean.TRUE.equals(ans.getIsCorrect())
-                                        ? BigDecimal.valueOf(weight)
-                                        : BigDecimal.ZERO;
-                }
-
-                return BigDecimal.ZERO;
-        }
-
-        private Integer getChoiceScore(DiagnosisQuestion q, Integer scaleValue) {
-                if (scaleValue == null)
-                        return null;
-                // UI에서 1(매우 아니다) ~ 5(매우 그렇다) 형태의 강도로 넘어올 경우,
-                // 등록된 score1(5점) ~ score5(1점) 매핑과 반전되도록 처리
-                return switch (scaleValue) {
-                        case 5 -> q.getScore1() != null ? q.getScore1() : 5;
-                        case 4 -> q.getScore2() != null ? q.getScore2() : 4;
-                        case 3 -> q.getScore3() != null ? q.getScore3() : 3;
-                        case 2 -> q.getScore4() != null ? q.getScore4() : 2;
-                        case 1 -> q.getScore5() != null ? q.getScore5() : 1;
-                        default -> 0;
-                };
-        }
-
-        private int getQuestionWeight(DiagnosisQuestion q, String code) {
-
-                return switch (code) {
-                        case "C1" -> q.getC1MaxScore();
-                        case "C2" -> q.getC2MaxScore();
-                        case "C3" -> q.getC3MaxScore();
-                        case "C4" -> q.getC4MaxScore();
-                        case "C5" -> q.getC5MaxScore();
-                        case "C6" -> q.getC6MaxScore();
-                        default -> 0;
-                };
-        }
 }
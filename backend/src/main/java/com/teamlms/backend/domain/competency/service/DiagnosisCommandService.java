@@ -1,5 +1,6 @@
 package com.teamlms.backend.domain.competency.service;
 
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import jakarta.validation.Valid;
@@ -10,6 +11,7 @@ import com.teamlms.backend.domain.competency.entitiy.DiagnosisTarget;
 import com.teamlms.backend.domain.competency.entitiy.DiagnosisSubmission;
 import com.teamlms.backend.domain.competency.entitiy.DiagnosisAnswer;
 import com.teamlms.backend.domain.competency.enums.DiagnosisRunStatus;
+import com.teamlms.backend.domain.competency.event.StudentCompetencyChangedEvent;
 import com.teamlms.backend.domain.competency.enums.DiagnosisTargetStatus;
 import com.teamlms.backend.domain.competency.repository.DiagnosisRunRepository;
 import com.teamlms.backend.domain.competency.repository.DiagnosisQuestionRepository;
@@ -52,7 +54,9 @@ public class DiagnosisCommandService {
     private final DiagnosisAnswerRepository diagnosisAnswerRepository;
     private final SemesterRepository semesterRepository;
     private final StudentProfileRepository studentProfileRepository;
-    private final CompetencySummaryService competencySummaryService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final DiagnosisScoringMatrixCache scoringMatrixCache;
+    private final DiagnosisRunIndexCache runIndexCache;
 
     /**
      * 진단지 생성 (DTO 버전)
@@ -142,6 +146,7 @@ public class DiagnosisCommandService {
                 .build();
 
         DiagnosisRun savedRun = diagnosisRunRepository.save(diagnosisRun);
+        runIndexCache.evict(semesterId);
 
         // 문항 생성
         if (questions != null && !questions.isEmpty()) {
@@ -212,6 +217,9 @@ public class DiagnosisCommandService {
                 .build();
 
         diagnosisRunRepository.save(updated);
+        if (status != diagnosisRun.getStatus()) {
+            evictRunIndex(diagnosisRun);
+        }
 
         // 3. 문항 수정 (DRAFT 상태일 때만 가능)
         if (questions != null) {
@@ -238,9 +246,11 @@ public class DiagnosisCommandService {
         // 문항 삭제
         diagnosisQuestionRepository.deleteByRunRunId(diagnosisId);
         diagnosisTargetRepository.deleteByRunRunId(diagnosisId);
+        scoringMatrixCache.evict(diagnosisId);
 
         // 진단 삭제
         diagnosisRunRepository.delete(diagnosisRun);
+        evictRunIndex(diagnosisRun);
     }
 
     /**
@@ -309,12 +319,21 @@ public class DiagnosisCommandService {
 
         diagnosisTargetRepository.save(updatedTarget);
 
-        // 5. 역량 점수 실시간 재계산
-        competencySummaryService.recalculateStudentSummary(target.getRun().getSemester().getSemesterId(), accountId);
+        // 5. 역량 점수 재계산 (커밋 후 해당 학생만 증분 갱신)
+        eventPublisher.publishEvent(new StudentCompetencyChangedEvent(
+                target.getRun().getSemester().getSemesterId(),
+                accountId,
+                StudentCompetencyChangedEvent.Cause.DIAGNOSIS_SUBMITTED));
     }
 
     // === Private Helper Methods ===
 
+    private void evictRunIndex(DiagnosisRun diagnosisRun) {
+        if (diagnosisRun.getSemester() != null) {
+            runIndexCache.evict(diagnosisRun.getSemester().getSemesterId());
+        }
+    }
+
     private void generateTargets(DiagnosisRun diagnosisRun) {
         // 재학 중인(ENROLLED) 학생 중 조건에 맞는 학생 대상 생성
         List<StudentProfile> studentProfiles = studentProfileRepository
@@ -379,8 +398,9 @@ public class DiagnosisCommandService {
     }
 
     private void updateQuestions(DiagnosisRun diagnosisRun, List<QuestionUpdateData> questions) {
-        // 기존 문항 삭제
+        // 기존 문항 삭제 (채점표 캐시 무효화)
         diagnosisQuestionRepository.deleteByRunRunId(diagnosisRun.getRunId());
+        scoringMatrixCache.evict(diagnosisRun.getRunId());
 
         // 새 문항 생성
         for (int i = 0; i < questions.size(); i++) {
@@ -10,7 +10,6 @@ import com.teamlms.backend.domain.account.repository.StudentProfileRepository;
 import com.teamlms.backend.domain.competency.api.dto.*;
 import com.teamlms.backend.domain.competency.entitiy.*;
 import com.teamlms.backend.domain.competency.enums.DiagnosisRunStatus;
-import com.teamlms.backend.domain.competency.enums.DiagnosisQuestionType;
 import com.teamlms.backend.domain.competency.repository.*;
 import com.teamlms.backend.domain.dept.entity.Dept;
 import com.teamlms.backend.domain.dept.repository.DeptRepository;
@@ -512,53 +511,6 @@ public class DiagnosisQueryService {
                 return BigDecimal.valueOf(Math.sqrt(variance)).setScale(2, RoundingMode.HALF_UP);
         }
 
-        private BigDecimal calculateQuestionScore(DiagnosisAnswer ans, String compCode) {
-                DiagnosisQuestion q = ans.getQuestion();
-                int weight = getQuestionWeight(q, compCode);
-                if (weight <= 0) {
-                        return BigDecimal.ZERO;
-                }
-
-                if (q.getQuestionType() == DiagnosisQuestionType.SCALE) {
-                        Integer choiceScore = getChoiceScore(q, ans.getScaleValue());
-                        return choiceScore != null
-                                        ? BigDecimal.valueOf(choiceScore * (long) weight)
-                                        : BigDecimal.ZERO;
-                } else if (q.getQuestionType() == DiagnosisQuestionType.SHORT) {
-                        return Boolean.TRUE.equals(ans.getIsCorrect())
-                                        ? BigDecimal.valueOf(weight)
-                                        : BigDecimal.ZERO;
-                }
-
-                return BigDecimal.ZERO;
-        }
-
-        private Integer getChoiceScore(DiagnosisQuestion q, Integer scaleValue) {
-                if (scaleValue == null) {
-                        return null;
-                }
-                return switch (scaleValue) {
-                        case 5 -> q.getScore1() != null ? q.getScore1() : 5;
-                        case 4 -> q.getScore2() != null ? q.getScore2() : 4;
-                        case 3 -> q.getScore3() != null ? q.getScore3() : 3;
-                        case 2 -> q.getScore4() != null ? q.getScore4() : 2;
-                        case 1 -> q.getScore5() != null ? q.getScore5() : 1;
-                        default -> 0;
-                };
-        }
-
-        private int getQuestionWeight(DiagnosisQuestion q, String code) {
-                return switch (code) {
-                        case "C1" -> q.getC1MaxScore();
-                        case "C2" -> q.getC2MaxScore();
-                        case "C3" -> q.getC3MaxScore();
-                        case "C4" -> q.getC4MaxScore();
-                        case "C5" -> q.getC5MaxScore();
-                        case "C6" -> q.getC6MaxScore();
-                        default -> 0;
-                };
-        }
-
         private Long toLong(Object value) {
                 if (value == null) {
                         return null;
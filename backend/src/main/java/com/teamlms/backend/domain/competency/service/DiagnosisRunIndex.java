@@ -0,0 +1,82 @@
+package com.teamlms.backend.domain.competency.service;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.teamlms.backend.domain.competency.entitiy.DiagnosisRun;
+
+/**
+ * 학기별 진단(run) 선택 인덱스 (불변)
+ * - (학과, 학년) -> run ID, 엔티티 대신 ID만 보관 (트랜잭션 간 공유)
+ * - 적용 진단 선택 규칙: 학과+학년 -> 학과 -> 학년 -> 전체 (학년 0 은 전체 학년과 동일 취급)
+ */
+public final class DiagnosisRunIndex {
+
+    private static final DiagnosisRunIndex EMPTY = new DiagnosisRunIndex(List.of());
+
+    private final Map<RunKey, Long> runIdByKey;
+    private final List<Long> runIds;
+
+    private DiagnosisRunIndex(List<DiagnosisRun> runs) {
+        this.runIdByKey = new HashMap<>(runs.size() * 2);
+        List<Long> ids = new ArrayList<>(runs.size());
+        for (DiagnosisRun run : runs) {
+            // 같은 조건의 진단이 여러 개면 먼저 조회된 진단 우선 (기존 단건 조회와 동일)
+            runIdByKey.putIfAbsent(new RunKey(run.getDeptId(), run.getTargetGrade()), run.getRunId());
+            ids.add(run.getRunId());
+        }
+        this.runIds = List.copyOf(ids);
+    }
+
+    public static DiagnosisRunIndex of(List<DiagnosisRun> runs) {
+        return runs.isEmpty() ? EMPTY : new DiagnosisRunIndex(runs);
+    }
+
+    public boolean isEmpty() {
+        return runIds.isEmpty();
+    }
+
+    public List<Long> runIds() {
+        return runIds;
+    }
+
+    /**
+     * 학생(학과, 학년)에게 적용되는 진단 ID, 없으면 null
+     */
+    public Long resolve(Long deptId, Integer targetGrade) {
+        Integer normalizedGrade = targetGrade != null && targetGrade > 0 ? targetGrade : null;
+
+        if (deptId != null && normalizedGrade != null) {
+            Long runId = runIdByKey.get(new RunKey(deptId, normalizedGrade));
+            if (runId != null) {
+                return runId;
+            }
+        }
+
+        if (deptId != null) {
+            Long runId = firstOf(new RunKey(deptId, null), new RunKey(deptId, 0));
+            if (runId != null) {
+                return runId;
+            }
+        }
+
+        if (normalizedGrade != null) {
+            Long runId = runIdByKey.get(new RunKey(null, normalizedGrade));
+            if (runId != null) {
+                return runId;
+            }
+        }
+
+        return firstOf(new RunKey(null, null), new RunKey(null, 0));
+    }
+
+    private Long firstOf(RunKey primary, RunKey fallback) {
+        Long runId = runIdByKey.get(primary);
+        return runId != null ? runId : runIdByKey.get(fallback);
+    }
+
+    private record RunKey(Long deptId, Integer targetGrade) {
+    }
+}
@@ -0,0 +1,123 @@
+package com.teamlms.backend.domain.competency.service;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.teamlms.backend.domain.competency.repository.DiagnosisRunRepository;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 학기별 진단 선택 인덱스 캐시
+ * - 진단 생성/수정(마감)/삭제 시 evict
+ * - 트랜잭션 안에서 적재한 인덱스는 커밋 후에만 공유 캐시에 넣음 (그 전까지는 트랜잭션 안에서만 재사용)
+ * - 적재 이후 evict 가 있었으면(세대 비교) 넣지 않음 → 다른 트랜잭션이 읽은 이전 진단 목록으로 덮어쓰지 않음
+ */
+@Component
+@RequiredArgsConstructor
+public class DiagnosisRunIndexCache {
+
+    private final DiagnosisRunRepository diagnosisRunRepository;
+
+    private final Map<Long, DiagnosisRunIndex> indexes = new ConcurrentHashMap<>();
+    private final AtomicLong evictions = new AtomicLong();
+
+    private record Loaded(DiagnosisRunIndex index, long generation) {
+    }
+
+    public DiagnosisRunIndex get(Long semesterId) {
+        DiagnosisRunIndex cached = indexes.get(semesterId);
+        if (cached != null) {
+            return cached;
+        }
+        if (!inTransaction()) {
+            long generation = evictions.get();
+            DiagnosisRunIndex loaded = load(semesterId);
+            return install(semesterId, loaded, generation);
+        }
+        PendingIndexes pending = pendingIndexes();
+        Loaded loaded = pending.loaded.get(semesterId);
+        if (loaded == null) {
+            long generation = evictions.get();
+            loaded = new Loaded(load(semesterId), generation);
+            pending.loaded.put(semesterId, loaded);
+        }
+        return loaded.index();
+    }
+
+    /**
+     * 즉시 제거 + 커밋 후 한 번 더 제거 (트랜잭션 중 다른 요청이 이전 목록으로 다시 적재하는 경우 대비)
+     */
+    public void evict(Long semesterId) {
+        if (semesterId == null) {
+            return;
+        }
+        evictions.incrementAndGet();
+        indexes.remove(semesterId);
+        if (inTransaction()) {
+            pendingIndexes().loaded.remove(semesterId);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    evictions.incrementAndGet();
+                    indexes.remove(semesterId);
+                }
+            });
+        }
+    }
+
+    private DiagnosisRunIndex load(Long semesterId) {
+        return DiagnosisRunIndex.of(diagnosisRunRepository.findAllBySemesterSemesterId(semesterId));
+    }
+
+    // 적재 이후 evict 가 없었을 때만 공유 캐시에 넣음 (넣은 직후 evict 가 끼어들면 다시 제거)
+    private DiagnosisRunIndex install(Long semesterId, DiagnosisRunIndex index, long generation) {
+        if (evictions.get() != generation) {
+            return index;
+        }
+        DiagnosisRunIndex installed = indexes.putIfAbsent(semesterId, index);
+        if (installed != null) {
+            return installed;
+        }
+        if (evictions.get() != generation) {
+            indexes.remove(semesterId, index);
+        }
+        return index;
+    }
+
+    private static boolean inTransaction() {
+        return TransactionSynchronizationManager.isSynchronizationActive()
+                && TransactionSynchronizationManager.isActualTransactionActive();
+    }
+
+    // 현재 트랜잭션에 등록된 적재 목록 (없으면 등록)
+    private PendingIndexes pendingIndexes() {
+        for (TransactionSynchronization synchronization : TransactionSynchronizationManager.getSynchronizations()) {
+            if (synchronization instanceof PendingIndexes pending && pending.owner() == this) {
+                return pending;
+            }
+        }
+        PendingIndexes pending = new PendingIndexes();
+        TransactionSynchronizationManager.registerSynchronization(pending);
+        return pending;
+    }
+
+    private final class PendingIndexes implements TransactionSynchronization {
+        private final Map<Long, Loaded> loaded = new HashMap<>();
+
+        DiagnosisRunIndexCache owner() {
+            return DiagnosisRunIndexCache.this;
+        }
+
+        @Override
+        public void afterCommit() {
+            loaded.forEach((semesterId, l) -> install(semesterId, l.index(), l.generation()));
+        }
+    }
+}
@@ -0,0 +1,165 @@
+package com.teamlms.backend.domain.competency.service;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.teamlms.backend.domain.competency.entitiy.DiagnosisAnswer;
+import com.teamlms.backend.domain.competency.entitiy.DiagnosisQuestion;
+import com.teamlms.backend.domain.competency.enums.DiagnosisQuestionDomain;
+import com.teamlms.backend.domain.competency.enums.DiagnosisQuestionType;
+
+/**
+ * 진단(run) 단위로 미리 컴파일한 채점표 (불변)
+ * - weights[question][C1~C6]: 문항별 역량 가중치
+ * - choiceScores[question][scaleValue-1]: 선택 강도별 점수 (score1~5 반전 매핑과 기본값 반영)
+ * - 답변 1건을 int 배열 한 번 순회로 C1~C6 점수에 동시에 반영
+ */
+public final class DiagnosisScoringMatrix {
+
+    public static final int COLUMN_COUNT = 6;
+
+    private static final int SCALE_SIZE = 5;
+    private static final byte TYPE_OTHER = 0;
+    private static final byte TYPE_SCALE = 1;
+    private static final byte TYPE_SHORT = 2;
+
+    private final Map<Long, Integer> questionIndex;
+    private final int[][] weights;
+    private final int[][] choiceScores;
+    private final boolean[] skill;
+    private final byte[] types;
+
+    private DiagnosisScoringMatrix(List<DiagnosisQuestion> questions) {
+        int size = questions.size();
+        this.questionIndex = new HashMap<>(size * 2);
+        this.weights = new int[size][COLUMN_COUNT];
+        this.choiceScores = new int[size][SCALE_SIZE];
+        this.skill = new boolean[size];
+        this.types = new byte[size];
+
+        for (int q = 0; q < size; q++) {
+            DiagnosisQuestion question = questions.get(q);
+            questionIndex.put(question.getQuestionId(), q);
+
+            weights[q][0] = nonNull(question.getC1MaxScore());
+            weights[q][1] = nonNull(question.getC2MaxScore());
+            weights[q][2] = nonNull(question.getC3MaxScore());
+            weights[q][3] = nonNull(question.getC4MaxScore());
+            weights[q][4] = nonNull(question.getC5MaxScore());
+            weights[q][5] = nonNull(question.getC6MaxScore());
+
+            // UI 강도(5=매우 그렇다)와 등록 점수(score1~5)를 반전 매핑
+            choiceScores[q][4] = question.getScore1() != null ? question.getScore1() : 5;
+            choiceScores[q][3] = question.getScore2() != null ? question.getScore2() : 4;
+            choiceScores[q][2] = question.getScore3() != null ? question.getScore3() : 3;
+            choiceScores[q][1] = question.getScore4() != null ? question.getScore4() : 2;
+            choiceScores[q][0] = question.getScore5() != null ? question.getScore5() : 1;
+
+            skill[q] = question.getDomain() == DiagnosisQuestionDomain.SKILL;
+            types[q] = question.getQuestionType() == DiagnosisQuestionType.SCALE ? TYPE_SCALE
+                    : question.getQuestionType() == DiagnosisQuestionType.SHORT ? TYPE_SHORT
+                    : TYPE_OTHER;
+        }
+    }
+
+    public static DiagnosisScoringMatrix of(List<DiagnosisQuestion> questions) {
+        return new DiagnosisScoringMatrix(questions);
+    }
+
+    /**
+     * 역량 코드(C1~C6) -> 채점표 컬럼(0~5), 그 외는 -1
+     */
+    public static int columnOf(String competencyCode) {
+        if (competencyCode == null) {
+            return -1;
+        }
+        return switch (competencyCode) {
+            case "C1" -> 0;
+            case "C2" -> 1;
+            case "C3" -> 2;
+            case "C4" -> 3;
+            case "C5" -> 4;
+            case "C6" -> 5;
+            default -> -1;
+        };
+    }
+
+    public int questionCount() {
+        return types.length;
+    }
+
+    public int indexOf(long questionId) {
+        Integer idx = questionIndex.get(questionId);
+        return idx != null ? idx : -1;
+    }
+
+    public boolean isSkill(int questionIdx) {
+        return skill[questionIdx];
+    }
+
+    /**
+     * 답변 1건의 C1~C6 점수를 out[offset ~ offset+5] 에 누적
+     * - 객관식: 선택 점수 * 가중치, 단답형: 정답이면 1 * 가중치
+     */
+    public void addAnswerScores(int questionIdx, Integer scaleValue, Boolean isCorrect, long[] out, int offset) {
+        int base = baseScore(questionIdx, scaleValue, isCorrect);
+        if (base == 0) {
+            return;
+        }
+        int[] w = weights[questionIdx];
+        for (int c = 0; c < COLUMN_COUNT; c++) {
+            if (w[c] > 0) {
+                out[offset + c] += (long) base * w[c];
+            }
+        }
+    }
+
+    /**
+     * 제출 답변 전체 채점 (숙련도/소양 x C1~C6), 채점표에 없는 문항은 무시
+     */
+    public DiagnosisScore score(List<DiagnosisAnswer> answers) {
+        long[] skillScores = new long[COLUMN_COUNT];
+        long[] aptitudeScores = new long[COLUMN_COUNT];
+        for (DiagnosisAnswer answer : answers) {
+            if (answer.getQuestion() == null || answer.getQuestion().getQuestionId() == null) {
+                continue;
+            }
+            int q = indexOf(answer.getQuestion().getQuestionId());
+            if (q < 0) {
+                continue;
+            }
+            addAnswerScores(q, answer.getScaleValue(), answer.getIsCorrect(),
+                    skill[q] ? skillScores : aptitudeScores, 0);
+        }
+        return new DiagnosisScore(skillScores, aptitudeScores);
+    }
+
+    private int baseScore(int questionIdx, Integer scaleValue, Boolean isCorrect) {
+        return switch (types[questionIdx]) {
+            case TYPE_SCALE -> scaleValue != null && scaleValue >= 1 && scaleValue <= SCALE_SIZE
+                    ? choiceScores[questionIdx][scaleValue - 1]
+                    : 0;
+            case TYPE_SHORT -> Boolean.TRUE.equals(isCorrect) ? 1 : 0;
+            default -> 0;
+        };
+    }
+
+    private static int nonNull(Integer value) {
+        return value != null ? value : 0;
+    }
+
+    /**
+     * 컬럼(C1~C6) 순서의 진단 점수 (배율 적용 전)
+     */
+    public record DiagnosisScore(long[] skill, long[] aptitude) {
+
+        public long skillAt(int column) {
+            return column >= 0 ? skill[column] : 0L;
+        }
+
+        public long aptitudeAt(int column) {
+            return column >= 0 ? aptitude[column] : 0L;
+        }
+    }
+}
@@ -0,0 +1,124 @@
+package com.teamlms.backend.domain.competency.service;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.teamlms.backend.domain.competency.repository.DiagnosisQuestionRepository;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 진단(run)별 채점표 캐시
+ * - 문항 추가/수정/삭제, 진단 삭제 시 evict
+ * - 트랜잭션 안에서 적재한 채점표는 커밋 후에만 공유 캐시에 넣음 (그 전까지는 트랜잭션 안에서만 재사용)
+ *   → 롤백된 문항 변경이 캐시에 남지 않음
+ * - 적재 이후 evict 가 있었으면(세대 비교) 넣지 않음 → 다른 트랜잭션이 읽은 이전 문항으로 덮어쓰지 않음
+ */
+@Component
+@RequiredArgsConstructor
+public class DiagnosisScoringMatrixCache {
+
+    private final DiagnosisQuestionRepository diagnosisQuestionRepository;
+
+    private final Map<Long, DiagnosisScoringMatrix> matrices = new ConcurrentHashMap<>();
+    private final AtomicLong evictions = new AtomicLong();
+
+    private record Loaded(DiagnosisScoringMatrix matrix, long generation) {
+    }
+
+    public DiagnosisScoringMatrix get(Long runId) {
+        DiagnosisScoringMatrix cached = matrices.get(runId);
+        if (cached != null) {
+            return cached;
+        }
+        if (!inTransaction()) {
+            long generation = evictions.get();
+            DiagnosisScoringMatrix loaded = load(runId);
+            return install(runId, loaded, generation);
+        }
+        PendingMatrices pending = pendingMatrices();
+        Loaded loaded = pending.loaded.get(runId);
+        if (loaded == null) {
+            long generation = evictions.get();
+            loaded = new Loaded(load(runId), generation);
+            pending.loaded.put(runId, loaded);
+        }
+        return loaded.matrix();
+    }
+
+    /**
+     * 즉시 제거 + 커밋 후 한 번 더 제거 (트랜잭션 중 다른 요청이 이전 문항으로 다시 적재하는 경우 대비)
+     */
+    public void evict(Long runId) {
+        if (runId == null) {
+            return;
+        }
+        evictions.incrementAndGet();
+        matrices.remove(runId);
+        if (inTransaction()) {
+            pendingMatrices().loaded.remove(runId);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    evictions.incrementAndGet();
+                    matrices.remove(runId);
+                }
+            });
+        }
+    }
+
+    private DiagnosisScoringMatrix load(Long runId) {
+        return DiagnosisScoringMatrix.of(diagnosisQuestionRepository.findByRunRunIdOrderBySortOrderAsc(runId));
+    }
+
+    // 적재 이후 evict 가 없었을 때만 공유 캐시에 넣음 (넣은 직후 evict 가 끼어들면 다시 제거)
+    private DiagnosisScoringMatrix install(Long runId, DiagnosisScoringMatrix matrix, long generation) {
+        if (evictions.get() != generation) {
+            return matrix;
+        }
+        DiagnosisScoringMatrix installed = matrices.putIfAbsent(runId, matrix);
+        if (installed != null) {
+            return installed;
+        }
+        if (evictions.get() != generation) {
+            matrices.remove(runId, matrix);
+        }
+        return matrix;
+    }
+
+    private static boolean inTransaction() {
+        return TransactionSynchronizationManager.isSynchronizationActive()
+                && TransactionSynchronizationManager.isActualTransactionActive();
+    }
+
+    // 현재 트랜잭션에 등록된 적재 목록 (없으면 등록)
+    private PendingMatrices pendingMatrices() {
+        for (TransactionSynchronization synchronization : TransactionSynchronizationManager.getSynchronizations()) {
+            if (synchronization instanceof PendingMatrices pending && pending.owner() == this) {
+                return pending;
+            }
+        }
+        PendingMatrices pending = new PendingMatrices();
+        TransactionSynchronizationManager.registerSynchronization(pending);
+        return pending;
+    }
+
+    private final class PendingMatrices implements TransactionSynchronization {
+        private final Map<Long, Loaded> loaded = new HashMap<>();
+
+        DiagnosisScoringMatrixCache owner() {
+            return DiagnosisScoringMatrixCache.this;
+        }
+
+        @Override
+        public void afterCommit() {
+            loaded.forEach((runId, l) -> install(runId, l.matrix(), l.generation()));
+        }
+    }
+}
@@ -0,0 +1,104 @@
+package com.teamlms.backend.domain.competency.service;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * 점수 분위수 계산용 히스토그램 (메모리 상한 고정)
+ * - 점수를 0.01 단위 정수로 환산해 값별 개수만 보관 -> 서로 다른 점수가 maxBins 이하이면 정확한 분위수
+ * - maxBins 초과 시 구간 폭을 2배씩 넓혀 인접 구간 병합 (오차는 구간 폭 이하)
+ */
+final class ScoreQuantileSketch {
+
+    static final int DEFAULT_MAX_BINS = 4_096;
+
+    private static final int SCALE = 2;
+    private static final BigDecimal TWO = BigDecimal.valueOf(2);
+
+    private final int maxBins;
+    private TreeMap<Long, long[]> bins = new TreeMap<>();
+    private long width = 1; // 구간 폭 (0.01 단위)
+    private long count;
+    private long min = Long.MAX_VALUE;
+    private long max = Long.MIN_VALUE;
+
+    ScoreQuantileSketch() {
+        this(DEFAULT_MAX_BINS);
+    }
+
+    ScoreQuantileSketch(int maxBins) {
+        this.maxBins = maxBins;
+    }
+
+    void add(BigDecimal score) {
+        long unscaled = score.setScale(SCALE, RoundingMode.HALF_UP).unscaledValue().longValueExact();
+        bins.computeIfAbsent(Math.floorDiv(unscaled, width), k -> new long[1])[0]++;
+        count++;
+        min = Math.min(min, unscaled);
+        max = Math.max(max, unscaled);
+        if (bins.size() > maxBins) {
+            compact();
+        }
+    }
+
+    long count() {
+        return count;
+    }
+
+    boolean isExact() {
+        return width == 1;
+    }
+
+    /**
+     * p 분위수 (0~1), 인접 순위 사이 선형 보간
+     * - p = 0.5 이고 개수가 짝수이면 가운데 두 값의 평균
+     */
+    BigDecimal quantile(double p) {
+        if (count == 0) {
+            return BigDecimal.ZERO;
+        }
+        double h = (count - 1) * p;
+        long lowRank = (long) Math.floor(h);
+        long highRank = (long) Math.ceil(h);
+
+        BigDecimal low = null;
+        BigDecimal high = null;
+        long seen = 0;
+        for (Map.Entry<Long, long[]> bin : bins.entrySet()) {
+            seen += bin.getValue()[0];
+            if (low == null && lowRank < seen) {
+                low = valueOf(bin.getKey());
+            }
+            if (highRank < seen) {
+                high = valueOf(bin.getKey());
+                break;
+            }
+        }
+
+        BigDecimal fraction = BigDecimal.valueOf(h - lowRank);
+        return low.add(high.subtract(low).multiply(fraction)).setScale(SCALE, RoundingMode.HALF_UP);
+    }
+
+    // 구간 대표값: 정확 모드면 점수 그대로, 병합 후에는 구간 중앙 (관측 최소/최대 범위로 제한)
+    private BigDecimal valueOf(long key) {
+        if (width == 1) {
+            return BigDecimal.valueOf(key, SCALE);
+        }
+        long lower = Math.max(key * width, min);
+        long upper = Math.min(key * width + width - 1, max);
+        return BigDecimal.valueOf(lower + upper, SCALE).divide(TWO);
+    }
+
+    private void compact() {
+        while (bins.size() > maxBins) {
+            TreeMap<Long, long[]> merged = new TreeMap<>();
+            for (Map.Entry<Long, long[]> bin : bins.entrySet()) {
+                merged.computeIfAbsent(Math.floorDiv(bin.getKey(), 2L), k -> new long[1])[0] += bin.getValue()[0];
+            }
+            bins = merged;
+            width *= 2;
+        }
+    }
+}
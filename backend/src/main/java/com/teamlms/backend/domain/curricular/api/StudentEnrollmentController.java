@@ -16,12 +16,14 @@ import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import com.teamlms.backend.domain.curricular.api.dto.EnrollListItem;
+import com.teamlms.backend.domain.curricular.api.dto.StudentTimetableResponse;
 import com.teamlms.backend.domain.curricular.service.EnrollmentCommandService;
 import com.teamlms.backend.domain.curricular.service.EnrollmentQueryService;
 import com.teamlms.backend.domain.semester.api.dto.SemesterListItem;
 import com.teamlms.backend.global.api.ApiResponse;
 import com.teamlms.backend.global.api.PageMeta;
-import com.teamlms.backend.global.api.dto.SuccessResponse;
+import com.teamlms.backend.global.admission.EnrollmentAdmissionGate;
+import com.teamlms.backend.global.admission.api.dto.EnrollmentAdmissionResponse;
 import com.teamlms.backend.global.security.principal.AuthUser;
 
 import lombok.RequiredArgsConstructor;
@@ -33,25 +35,30 @@ public class StudentEnrollmentController {
 
     private final EnrollmentCommandService enrollmentCommandService;
     private final EnrollmentQueryService enrollmentQueryService;
+    private final EnrollmentAdmissionGate admissionGate;
 
     // 수강 신청 버튼
     @PostMapping("/{offeringId}/enroll")
     @PreAuthorize("hasAuthority('CURRICULAR_CLASS')")
-    public ApiResponse<SuccessResponse> enroll(
+    public ApiResponse<EnrollmentAdmissionResponse> enroll(
             @PathVariable Long offeringId,
             @AuthenticationPrincipal AuthUser authUser) {
-        enrollmentCommandService.enroll(offeringId, authUser.getAccountId());
-        return ApiResponse.ok(new SuccessResponse());
+        try (EnrollmentAdmissionGate.Ticket ticket = admissionGate.admit(EnrollmentAdmissionGate.curricularKey(offeringId))) {
+            enrollmentCommandService.enroll(offeringId, authUser.getAccountId());
+            return ApiResponse.ok(EnrollmentAdmissionResponse.of(ticket));
+        }
     }
 
     // 수강 취소 버튼
     @PostMapping("/{offeringId}/cancel")
     @PreAuthorize("hasAuthority('CURRICULAR_CLASS')")
-    public ApiResponse<SuccessResponse> cancel(
+    public ApiResponse<EnrollmentAdmissionResponse> cancel(
             @PathVariable Long offeringId,
             @AuthenticationPrincipal AuthUser authUser) {
-        enrollmentCommandService.cancel(offeringId, authUser.getAccountId());
-        return ApiResponse.ok(new SuccessResponse());
+        try (EnrollmentAdmissionGate.Ticket ticket = admissionGate.admit(EnrollmentAdmissionGate.curricularKey(offeringId))) {
+            enrollmentCommandService.cancel(offeringId, authUser.getAccountId());
+            return ApiResponse.ok(EnrollmentAdmissionResponse.of(ticket));
+        }
     }
 
     // 신청현황
@@ -97,4 +104,13 @@ public class StudentEnrollmentController {
 
         return ApiResponse.of(result.getContent(), PageMeta.from(result));
     }
+
+    // 내 시간표
+    @GetMapping("/timetable")
+    @PreAuthorize("hasAuthority('CURRICULAR_READ')")
+    public ApiResponse<StudentTimetableResponse> getMyTimetable(
+            @AuthenticationPrincipal AuthUser authUser,
+            @RequestParam Long semesterId) {
+        return ApiResponse.ok(enrollmentQueryService.getMyTimetable(authUser.getAccountId(), semesterId));
+    }
 }
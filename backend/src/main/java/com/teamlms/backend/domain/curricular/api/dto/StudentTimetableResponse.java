@@ -0,0 +1,8 @@
+package com.teamlms.backend.domain.curricular.api.dto;
+
+import java.util.List;
+
+public record StudentTimetableResponse(
+        Long semesterId,
+        List<TimetableSlotItem> slots
+) {}
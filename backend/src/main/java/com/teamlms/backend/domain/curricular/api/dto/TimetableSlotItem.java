@@ -0,0 +1,12 @@
+package com.teamlms.backend.domain.curricular.api.dto;
+
+import com.teamlms.backend.domain.curricular.enums.DayOfWeekType;
+
+public record TimetableSlotItem(
+        Long offeringId,
+        String offeringCode,
+        String curricularName,
+        DayOfWeekType dayOfWeek,
+        Integer period,
+        String location
+) {}
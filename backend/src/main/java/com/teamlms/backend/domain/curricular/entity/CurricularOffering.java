@@ -46,6 +46,10 @@ public class CurricularOffering extends BaseEntity {
     @Column(name = "capacity", nullable = false)  // 최대 수강 인원
     private Integer capacity;
 
+    // 현재 ENROLLED 인원 (수강신청 엔진이 SQL 로만 갱신)
+    @Column(name = "enrolled_count", insertable = false, updatable = false)
+    private Integer enrolledCount;
+
     @Column(name = "location", length = 255, nullable = false)
     private String location;
 
@@ -25,6 +25,10 @@ public interface EnrollmentRepository extends JpaRepository<Enrollment, Long>, E
       Long offeringId,
       Long studentAccountId);
 
+  boolean existsByOfferingIdAndStudentAccountId(
+      Long offeringId,
+      Long studentAccountId);
+
   @org.springframework.data.jpa.repository.Query("""
           SELECT e FROM Enrollment e
           JOIN CurricularOffering o ON e.offeringId = o.offeringId
@@ -1,9 +1,14 @@
 package com.teamlms.backend.domain.curricular.repository;
 
+import java.util.List;
+import java.util.Optional;
+
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
 import com.teamlms.backend.domain.curricular.api.dto.OfferingStudentListItem;
+import com.teamlms.backend.domain.curricular.api.dto.TimetableSlotItem;
+import com.teamlms.backend.domain.curricular.entity.CurricularOffering;
 
 public interface EnrollmentRepositoryCustom {
     Page<OfferingStudentListItem> findStudentsByOffering(
@@ -11,4 +16,18 @@ public interface EnrollmentRepositoryCustom {
             String keyword,
             Pageable pageable
     );
+
+    // 학생의 학기 시간표 (ENROLLED 교과)
+    List<TimetableSlotItem> findTimetableSlots(Long studentAccountId, Long semesterId);
+
+    // 수강신청 대상 교과 + 교과목명 (신청 검증과 시간표 칸 구성을 조회 1건으로)
+    Optional<EnrollTarget> findEnrollTarget(Long offeringId);
+
+    record EnrollTarget(CurricularOffering offering, String curricularName) {
+
+        public TimetableSlotItem slot() {
+            return new TimetableSlotItem(offering.getOfferingId(), offering.getOfferingCode(), curricularName,
+                    offering.getDayOfWeek(), offering.getPeriod(), offering.getLocation());
+        }
+    }
 }
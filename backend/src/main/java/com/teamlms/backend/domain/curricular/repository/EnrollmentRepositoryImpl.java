@@ -1,11 +1,14 @@
 package com.teamlms.backend.domain.curricular.repository;
 
 import java.util.List;
+import java.util.Optional;
 
 import org.springframework.data.domain.*;
 import org.springframework.stereotype.Repository;
 
 import com.teamlms.backend.domain.curricular.api.dto.OfferingStudentListItem;
+import com.teamlms.backend.domain.curricular.api.dto.TimetableSlotItem;
+import com.teamlms.backend.domain.curricular.entity.CurricularOffering;
 
 import jakarta.persistence.EntityManager;
 import jakarta.persistence.TypedQuery;
@@ -77,6 +80,46 @@ public class EnrollmentRepositoryImpl
         return new PageImpl<>(content, pageable, total);
     }
 
+    @Override
+    public List<TimetableSlotItem> findTimetableSlots(Long studentAccountId, Long semesterId) {
+        return em.createQuery("""
+            select new com.teamlms.backend.domain.curricular.api.dto.TimetableSlotItem(
+                o.offeringId,
+                o.offeringCode,
+                c.curricularName,
+                o.dayOfWeek,
+                o.period,
+                o.location
+            )
+            from Enrollment e
+            join CurricularOffering o
+                on o.offeringId = e.offeringId
+            join Curricular c
+                on c.curricularId = o.curricularId
+            where e.studentAccountId = :studentAccountId
+              and e.enrollmentStatus = com.teamlms.backend.domain.curricular.enums.EnrollmentStatus.ENROLLED
+              and o.semesterId = :semesterId
+        """, TimetableSlotItem.class)
+                .setParameter("studentAccountId", studentAccountId)
+                .setParameter("semesterId", semesterId)
+                .getResultList();
+    }
+
+    @Override
+    public Optional<EnrollTarget> findEnrollTarget(Long offeringId) {
+        return em.createQuery("""
+            select o, c.curricularName
+            from CurricularOffering o
+            join Curricular c
+                on c.curricularId = o.curricularId
+            where o.offeringId = :offeringId
+        """, Object[].class)
+                .setParameter("offeringId", offeringId)
+                .getResultStream()
+                .findFirst()
+                .map(row -> new EnrollTarget((CurricularOffering) row[0], (String) row[1]));
+    }
+
     // ================= private =================
 
     private String buildWhere(String keyword) {
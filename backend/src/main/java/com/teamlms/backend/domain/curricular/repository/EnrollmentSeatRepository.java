@@ -0,0 +1,203 @@
+package com.teamlms.backend.domain.curricular.repository;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import javax.sql.DataSource;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import com.teamlms.backend.domain.curricular.enums.OfferingStatus;
+
+/**
+ * 수강신청 좌석 JDBC 저장소
+ * - curricular_offering.enrolled_count 가 정원 판정의 기준 (행 잠금 후 갱신)
+ * - 신청 저장은 학생 ID 배열 1건으로 묶어 upsert (CANCELED 행은 ENROLLED 로 복구)
+ * - 시간표 겹침의 최종 판정도 같은 upsert 에서 (같은 학기/요일/교시에 ENROLLED 교과가 있으면 저장하지 않음)
+ */
+@Repository
+public class EnrollmentSeatRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedJdbcTemplate;
+
+    public EnrollmentSeatRepository(DataSource dataSource) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.namedJdbcTemplate = new NamedParameterJdbcTemplate(jdbcTemplate);
+    }
+
+    public record SeatState(long offeringId, int capacity, int enrolledCount, OfferingStatus status) {
+
+        public int remaining() {
+            return Math.max(0, capacity - enrolledCount);
+        }
+    }
+
+    // 좌석 상태 조회 (잠금 없음, 카운터 시드용)
+    public Optional<SeatState> findSeatState(Long offeringId) {
+        return jdbcTemplate.query("""
+                SELECT offering_id, capacity, enrolled_count, status
+                FROM curricular_offering
+                WHERE offering_id = ?
+                """, EnrollmentSeatRepository::mapSeatState, offeringId).stream().findFirst();
+    }
+
+    // 좌석 상태 일괄 조회 (카운터 보정용)
+    public List<SeatState> findSeatStates(Collection<Long> offeringIds) {
+        if (offeringIds.isEmpty()) {
+            return List.of();
+        }
+        return namedJdbcTemplate.query("""
+                SELECT offering_id, capacity, enrolled_count, status
+                FROM curricular_offering
+                WHERE offering_id IN (:offeringIds)
+                """, new MapSqlParameterSource("offeringIds", offeringIds), EnrollmentSeatRepository::mapSeatState);
+    }
+
+    // 좌석 상태 조회 + 행 잠금 (트랜잭션 안에서만 호출)
+    public Optional<SeatState> lockSeatState(Long offeringId) {
+        return jdbcTemplate.query("""
+                SELECT offering_id, capacity, enrolled_count, status
+                FROM curricular_offering
+                WHERE offering_id = ?
+                FOR UPDATE
+                """, EnrollmentSeatRepository::mapSeatState, offeringId).stream().findFirst();
+    }
+
+    /**
+     * 신청 일괄 저장, 실제로 ENROLLED 가 된 학생 ID 반환
+     * - 이미 ENROLLED 인 학생, 시간표가 겹치는 학생은 저장하지 않음 (반환 목록에서 빠짐)
+     * - studentAccountIds 에 중복이 없어야 함
+     */
+    public Set<Long> upsertEnrollments(Long offeringId, List<Long> studentAccountIds, LocalDateTime appliedAt) {
+        if (studentAccountIds.isEmpty()) {
+            return Set.of();
+        }
+        Long[] ids = studentAccountIds.toArray(Long[]::new);
+        Timestamp now = Timestamp.valueOf(appliedAt);
+        return new HashSet<>(jdbcTemplate.query(con -> {
+            PreparedStatement ps = con.prepareStatement("""
+                    INSERT INTO enrollment (
+                        offering_id, student_account_id, enrollment_status, completion_status,
+                        is_grade_confirmed, applied_at, created_at, updated_at
+                    )
+                    SELECT ?, s.student_account_id, 'ENROLLED', 'IN_PROGRESS', false, ?, ?, ?
+                    FROM unnest(CAST(? AS BIGINT[])) AS s(student_account_id)
+                    WHERE NOT EXISTS (
+                        SELECT 1
+                        FROM enrollment e
+                        JOIN curricular_offering o ON o.offering_id = e.offering_id
+                        JOIN curricular_offering t ON t.offering_id = ?
+                        WHERE e.student_account_id = s.student_account_id
+                          AND e.enrollment_status = 'ENROLLED'
+                          AND o.semester_id = t.semester_id
+                          AND o.day_of_week = t.day_of_week
+                          AND o.period = t.period
+                          AND o.offering_id <> t.offering_id
+                    )
+                    ON CONFLICT (offering_id, student_account_id) DO UPDATE SET
+                        enrollment_status = 'ENROLLED',
+                        applied_at = EXCLUDED.applied_at,
+                        raw_score = NULL,
+                        grade = NULL,
+                        completion_status = 'IN_PROGRESS',
+                        is_grade_confirmed = false,
+                        grade_confirmed_at = NULL,
+                        grade_confirmed_by = NULL,
+                        updated_at = EXCLUDED.updated_at
+                    WHERE enrollment.enrollment_status <> 'ENROLLED'
+                    RETURNING student_account_id
+                    """);
+            ps.setLong(1, offeringId);
+            ps.setTimestamp(2, now);
+            ps.setTimestamp(3, now);
+            ps.setTimestamp(4, now);
+            ps.setArray(5, con.createArrayOf("bigint", ids));
+            ps.setLong(6, offeringId);
+            return ps;
+        }, (rs, rowNum) -> rs.getLong(1)));
+    }
+
+    /**
+     * 시간표가 겹쳐 저장되지 않은 학생 ID (upsert 에서 빠진 학생이 있을 때만 호출)
+     */
+    public Set<Long> findScheduleConflicts(Long offeringId, Collection<Long> studentAccountIds) {
+        if (studentAccountIds.isEmpty()) {
+            return Set.of();
+        }
+        return new HashSet<>(namedJdbcTemplate.queryForList("""
+                SELECT DISTINCT e.student_account_id
+                FROM enrollment e
+                JOIN curricular_offering o ON o.offering_id = e.offering_id
+                JOIN curricular_offering t ON t.offering_id = :offeringId
+                WHERE e.student_account_id IN (:studentAccountIds)
+                  AND e.enrollment_status = 'ENROLLED'
+                  AND o.semester_id = t.semester_id
+                  AND o.day_of_week = t.day_of_week
+                  AND o.period = t.period
+                  AND o.offering_id <> t.offering_id
+                """, new MapSqlParameterSource()
+                        .addValue("offeringId", offeringId)
+                        .addValue("studentAccountIds", studentAccountIds), Long.class));
+    }
+
+    // 잠금 후 계산한 인원/상태 반영
+    public void updateSeatState(Long offeringId, int enrolledCount, OfferingStatus status) {
+        jdbcTemplate.update("""
+                UPDATE curricular_offering
+                SET enrolled_count = ?, status = ?, updated_at = now()
+                WHERE offering_id = ?
+                """, enrolledCount, status.name(), offeringId);
+    }
+
+    /**
+     * ENROLLED 인 신청만 CANCELED 로 변경 (조건부 UPDATE, 동시 취소 중 1건만 성공)
+     *
+     * @return 실제로 취소했으면 true (이미 취소/드랍이면 false)
+     */
+    public boolean cancelEnrollment(Long offeringId, Long studentAccountId) {
+        return jdbcTemplate.update("""
+                UPDATE enrollment
+                SET enrollment_status = 'CANCELED',
+                    updated_at = now()
+                WHERE offering_id = ?
+                  AND student_account_id = ?
+                  AND enrollment_status = 'ENROLLED'
+                """, offeringId, studentAccountId) == 1;
+    }
+
+    /**
+     * 취소 1건 반납, 정원 미만이 되면 ENROLLMENT_CLOSED -> OPEN
+     */
+    public void releaseSeat(Long offeringId) {
+        jdbcTemplate.update("""
+                UPDATE curricular_offering
+                SET enrolled_count = GREATEST(enrolled_count - 1, 0),
+                    status = CASE
+                        WHEN status = 'ENROLLMENT_CLOSED' AND enrolled_count - 1 < capacity THEN 'OPEN'
+                        ELSE status
+                    END,
+                    updated_at = now()
+                WHERE offering_id = ?
+                """, offeringId);
+    }
+
+    private static SeatState mapSeatState(ResultSet rs, int rowNum) throws SQLException {
+        return new SeatState(
+                rs.getLong("offering_id"),
+                rs.getInt("capacity"),
+                rs.getInt("enrolled_count"),
+                OfferingStatus.valueOf(rs.getString("status")));
+    }
+}
@@ -0,0 +1,105 @@
+package com.teamlms.backend.domain.curricular.repository;
+
+import java.sql.PreparedStatement;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import javax.sql.DataSource;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import com.teamlms.backend.domain.curricular.enums.CompletionStatus;
+
+/**
+ * 개설교과 성적 일괄 확정 JDBC 저장소
+ * - 점수 구간표(min~max -> 등급/이수 여부)를 배열로 넘겨 UPDATE ... FROM 1건으로 확정
+ * - 확정된 학생/등급은 RETURNING 으로 받아 알림/역량 갱신에 사용
+ */
+@Repository
+public class GradeConfirmationBulkRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public GradeConfirmationBulkRepository(DataSource dataSource) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+    }
+
+    public record ScoreBand(int minScore, int maxScore, String grade, CompletionStatus completionStatus) {
+    }
+
+    public record ConfirmedGrade(long enrollmentId, long studentAccountId, String grade) {
+    }
+
+    // 확정 대상(ENROLLED, 미확정) 중 점수 미입력 1건
+    public Optional<Long> findFirstUnscoredEnrollmentId(Long offeringId) {
+        return jdbcTemplate.query("""
+                SELECT enrollment_id
+                FROM enrollment
+                WHERE offering_id = ?
+                  AND enrollment_status = 'ENROLLED'
+                  AND is_grade_confirmed = false
+                  AND raw_score IS NULL
+                ORDER BY enrollment_id
+                LIMIT 1
+                """, (rs, rowNum) -> rs.getLong(1), offeringId).stream().findFirst();
+    }
+
+    /**
+     * 미확정 수강 전체를 점수 구간으로 확정, 확정된 행 반환 (이미 확정된 행은 건드리지 않음)
+     */
+    public List<ConfirmedGrade> confirmByScoreBands(
+            Long offeringId,
+            List<ScoreBand> bands,
+            Long actorAccountId,
+            LocalDateTime confirmedAt
+    ) {
+        Integer[] minScores = bands.stream().map(ScoreBand::minScore).toArray(Integer[]::new);
+        Integer[] maxScores = bands.stream().map(ScoreBand::maxScore).toArray(Integer[]::new);
+        String[] grades = bands.stream().map(ScoreBand::grade).toArray(String[]::new);
+        String[] completions = bands.stream().map(b -> b.completionStatus().name()).toArray(String[]::new);
+        Timestamp now = Timestamp.valueOf(confirmedAt);
+
+        return jdbcTemplate.query(con -> {
+            PreparedStatement ps = con.prepareStatement("""
+                    UPDATE enrollment e
+                    SET grade = b.grade,
+                        completion_status = b.completion_status,
+                        is_grade_confirmed = true,
+                        grade_confirmed_by = ?,
+                        grade_confirmed_at = ?,
+                        updated_by = ?,
+                        updated_at = ?
+                    FROM unnest(
+                        CAST(? AS INT[]), CAST(? AS INT[]), CAST(? AS VARCHAR[]), CAST(? AS VARCHAR[])
+                    ) AS b(min_score, max_score, grade, completion_status)
+                    WHERE e.offering_id = ?
+                      AND e.enrollment_status = 'ENROLLED'
+                      AND e.is_grade_confirmed = false
+                      AND e.raw_score BETWEEN b.min_score AND b.max_score
+                    RETURNING e.enrollment_id, e.student_account_id, e.grade
+                    """);
+            if (actorAccountId != null) {
+                ps.setLong(1, actorAccountId);
+                ps.setLong(3, actorAccountId);
+            } else {
+                ps.setNull(1, Types.BIGINT);
+                ps.setNull(3, Types.BIGINT);
+            }
+            ps.setTimestamp(2, now);
+            ps.setTimestamp(4, now);
+            ps.setArray(5, con.createArrayOf("integer", minScores));
+            ps.setArray(6, con.createArrayOf("integer", maxScores));
+            ps.setArray(7, con.createArrayOf("varchar", grades));
+            ps.setArray(8, con.createArrayOf("varchar", completions));
+            ps.setLong(9, offeringId);
+            return ps;
+        }, (rs, rowNum) -> new ConfirmedGrade(
+                rs.getLong("enrollment_id"),
+                rs.getLong("student_account_id"),
+                rs.getString("grade")));
+    }
+}
@@ -1,8 +1,11 @@
 package com.teamlms.backend.domain.curricular.service;
 
 import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -12,6 +15,8 @@ import com.teamlms.backend.domain.account.repository.AccountRepository;
 import com.teamlms.backend.domain.account.repository.ProfessorProfileRepository;
 import com.teamlms.backend.domain.alarm.enums.AlarmType;
 import com.teamlms.backend.domain.alarm.service.AlarmCommandService;
+import com.teamlms.backend.domain.competency.event.StudentCompetencyChangedEvent;
+import com.teamlms.backend.domain.competency.event.StudentsCompetencyChangedEvent;
 import com.teamlms.backend.domain.competency.repository.CompetencyRepository;
 import com.teamlms.backend.domain.curricular.api.dto.CurricularOfferingUpdateRequest;
 import com.teamlms.backend.domain.curricular.api.dto.OfferingCompetencyMappingBulkUpdateRequest;
@@ -29,6 +34,8 @@ import com.teamlms.backend.domain.curricular.repository.CurricularOfferingCompet
 import com.teamlms.backend.domain.curricular.repository.CurricularOfferingRepository;
 import com.teamlms.backend.domain.curricular.repository.CurricularRepository;
 import com.teamlms.backend.domain.curricular.repository.EnrollmentRepository;
+import com.teamlms.backend.domain.curricular.repository.GradeConfirmationBulkRepository;
+import com.teamlms.backend.domain.curricular.repository.GradeConfirmationBulkRepository.ConfirmedGrade;
 import com.teamlms.backend.domain.semester.repository.SemesterRepository;
 import com.teamlms.backend.global.exception.base.BusinessException;
 import com.teamlms.backend.global.exception.code.ErrorCode;
@@ -48,9 +55,11 @@ public class CurricularOfferingCommandService {
     private final ProfessorProfileRepository professorProfileRepository;
 
     private final EnrollmentRepository enrollmentRepository;
+    private final GradeConfirmationBulkRepository gradeConfirmationBulkRepository;
     private final CurricularOfferingCompetencyMapRepository competencyMapRepository;
     private final CompetencyRepository competencyRepository;
     private final AlarmCommandService alarmCommandService;
+    private final ApplicationEventPublisher eventPublisher;
 
     // =====================
     // Create offering
@@ -224,76 +233,77 @@ public class CurricularOfferingCommandService {
 
     // =====================
     // COMPLETED transition requires all scores and grade confirmation
+    // - 점수 구간 UPDATE 1건 + 알림 INSERT 1건 + 역량 갱신 이벤트 1건 (수강 인원과 무관)
     // =====================
     private void confirmGrades(CurricularOffering offering, Long actorAccountId) {
 
-        List<Enrollment> enrollments = enrollmentRepository.findByOfferingId(offering.getOfferingId());
-        String curricularName = curricularRepository.findById(offering.getCurricularId())
-                .map(Curricular::getCurricularName)
-                .orElse("\uad50\uacfc");
-
-        for (Enrollment e : enrollments) {
+        Long offeringId = offering.getOfferingId();
 
-            // 1) Skip non-enrolled students
-            if (e.getEnrollmentStatus() != EnrollmentStatus.ENROLLED) {
-                continue;
-            }
-
-            // 2) Idempotent: skip already confirmed
-            if (Boolean.TRUE.equals(e.getIsGradeConfirmed())) {
-                continue;
-            }
+        // 1) Raw score required (ENROLLED, not yet confirmed)
+        gradeConfirmationBulkRepository.findFirstUnscoredEnrollmentId(offeringId)
+                .ifPresent(enrollmentId -> {
+                    throw new BusinessException(ErrorCode.GRADE_NOT_INPUTTED, enrollmentId);
+                });
 
-            // 3) Raw score required
-            if (e.getRawScore() == null) {
-                throw new BusinessException(
-                        ErrorCode.GRADE_NOT_INPUTTED,
-                        e.getEnrollmentId()
-                );
-            }
+        // 2) Confirm by score band (already confirmed rows are skipped)
+        List<ConfirmedGrade> confirmed = gradeConfirmationBulkRepository.confirmByScoreBands(
+                offeringId,
+                GradeCalculator.bands(),
+                actorAccountId,
+                LocalDateTime.now()
+        );
+        if (confirmed.isEmpty()) {
+            return;
+        }
 
-            String grade = GradeCalculator.fromScore(e.getRawScore());
-            CompletionStatus completionStatus =
-                    GradeCalculator.isPassed(grade) ? CompletionStatus.PASSED : CompletionStatus.FAILED;
+        String curricularName = curricularRepository.findById(offering.getCurricularId())
+                .map(Curricular::getCurricularName)
+                .orElse("\uad50\uacfc");
 
-            e.confirmGrade(
-                    grade,
-                    completionStatus,
-                    actorAccountId,
-                    LocalDateTime.now()
-            );
+        notifyCurricularGradesConfirmed(confirmed, curricularName);
+        publishGradesConfirmed(offering.getSemesterId(), confirmed);
+    }
 
-            notifyCurricularGradeConfirmed(e.getStudentAccountId(), curricularName, grade);
-        }
+    // 성적 확정 -> 커밋 후 해당 학생 역량 요약만 재계산
+    private void publishGradeConfirmed(Long semesterId, Long studentAccountId) {
+        eventPublisher.publishEvent(new StudentCompetencyChangedEvent(
+                semesterId,
+                studentAccountId,
+                StudentCompetencyChangedEvent.Cause.GRADE_CONFIRMED
+        ));
     }
 
-    private void notifyCurricularGradeConfirmed(Long studentAccountId, String curricularName, String grade) {
-        if (studentAccountId == null) {
-            return;
-        }
+    // 일괄 성적 확정 -> 커밋 후 확정된 학생들의 역량 요약을 한 번에 재계산
+    private void publishGradesConfirmed(Long semesterId, List<ConfirmedGrade> confirmed) {
+        eventPublisher.publishEvent(new StudentsCompetencyChangedEvent(
+                semesterId,
+                confirmed.stream().map(ConfirmedGrade::studentAccountId).distinct().toList(),
+                StudentCompetencyChangedEvent.Cause.GRADE_CONFIRMED
+        ));
+    }
 
+    private void notifyCurricularGradesConfirmed(List<ConfirmedGrade> confirmed, String curricularName) {
         String safeName = curricularName == null ? null : curricularName.trim();
         boolean hasName = safeName != null && !safeName.isBlank();
 
         String titleKey = "curricular.alarm.grade.confirmed.title";
-        String messageKey;
-        Object[] messageArgs;
-
-        if (hasName) {
-            messageKey = "curricular.alarm.grade.confirmed.message";
-            messageArgs = new Object[] { safeName, grade };
-        } else {
-            messageKey = "curricular.alarm.grade.confirmed.message.default";
-            messageArgs = new Object[] { grade };
+        String messageKey = hasName
+                ? "curricular.alarm.grade.confirmed.message"
+                : "curricular.alarm.grade.confirmed.message.default";
+
+        Map<Long, Object[]> messageArgsByStudent = new LinkedHashMap<>();
+        for (ConfirmedGrade c : confirmed) {
+            messageArgsByStudent.put(c.studentAccountId(), hasName
+                    ? new Object[] { safeName, c.grade() }
+                    : new Object[] { c.grade() });
         }
         String linkUrl = "/curricular/grade-reports";
 
-        alarmCommandService.createAlarmI18n(
-                studentAccountId,
+        alarmCommandService.createAlarmsI18n(
                 AlarmType.CURRICULAR_GRADE_CONFIRMED,
                 titleKey,
                 messageKey,
-                messageArgs,
+                messageArgsByStudent,
                 linkUrl,
                 null,
                 null
@@ -418,6 +428,7 @@ public class CurricularOfferingCommandService {
                         LocalDateTime.now()
                 );
             }
+            publishGradeConfirmed(offering.getSemesterId(), e.getStudentAccountId());
         }
 
         // 점수 입력 알림은 보내지 않음 (성적 확정 알림만 유지)
@@ -425,23 +436,3 @@ public class CurricularOfferingCommandService {
 
 
 }
-// ===============================
-// GradeCalculator
-// ===============================
-final class GradeCalculator {
-
-    private GradeCalculator() {}
-
-    // 90+ A, 80+ B, 70+ C, 60+ D, else F
-    public static String fromScore(int score) {
-        if (score >= 90) return "A";
-        if (score >= 80) return "B";
-        if (score >= 70) return "C";
-        if (score >= 60) return "D";
-        return "F";
-    }
-
-    public static boolean isPassed(String grade) {
-        return !"F".equalsIgnoreCase(grade);
-    }
-}
@@ -1,17 +1,17 @@
 package com.teamlms.backend.domain.curricular.service;
 
-import java.time.LocalDateTime;
 import java.util.Optional;
 
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import com.teamlms.backend.domain.curricular.entity.CurricularOffering;
-import com.teamlms.backend.domain.curricular.entity.Enrollment;
-import com.teamlms.backend.domain.curricular.enums.EnrollmentStatus;
 import com.teamlms.backend.domain.curricular.enums.OfferingStatus;
 import com.teamlms.backend.domain.curricular.repository.CurricularOfferingRepository;
 import com.teamlms.backend.domain.curricular.repository.EnrollmentRepository;
+import com.teamlms.backend.domain.curricular.repository.EnrollmentRepositoryCustom.EnrollTarget;
+import com.teamlms.backend.domain.curricular.repository.EnrollmentSeatRepository;
 import com.teamlms.backend.global.exception.base.BusinessException;
 import com.teamlms.backend.global.exception.code.ErrorCode;
 
@@ -24,72 +24,59 @@ public class EnrollmentCommandService {
 
     private final CurricularOfferingRepository offeringRepository;
     private final EnrollmentRepository enrollmentRepository;
-
-    // 수강신청 (선착순)
+    private final EnrollmentSeatRepository seatRepository;
+    private final EnrollmentRegistrationEngine registrationEngine;
+    private final StudentTimetableCache timetableCache;
+
+    /**
+     * 수강신청 (선착순)
+     * - 상태/시간표 검증 후 좌석 배정과 저장은 EnrollmentRegistrationEngine 에 위임 (교과 단위로 묶어 저장)
+     * - 재신청(CANCELED -> ENROLLED) 도 같은 경로로 좌석을 다시 배정받음
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public void enroll(Long offeringId, Long studentAccountId) {
 
-        CurricularOffering offering = offeringRepository.findById(offeringId)
+        EnrollTarget target = enrollmentRepository.findEnrollTarget(offeringId)
                 .orElseThrow(() -> new BusinessException(ErrorCode.CURRICULAR_OFFERING_NOT_FOUND, offeringId));
+        CurricularOffering offering = target.offering();
 
         // 1) 상태 체크 (OPEN만 신청 가능)
         if (offering.getStatus() != OfferingStatus.OPEN) {
             throw new BusinessException(ErrorCode.OFFERING_NOT_ENROLLABLE, offeringId, offering.getStatus());
         }
 
-        // 2) 기존 신청 여부 (유니크키 때문에 "재신청"은 update로 처리)
-        long scheduleConflictCount = enrollmentRepository.countScheduleConflictEnrollment(
-                studentAccountId,
-                offering.getSemesterId(),
-                offering.getDayOfWeek(),
-                offering.getPeriod(),
-                offeringId
-        );
-        if (scheduleConflictCount > 0) {
+        // 2) 시간표 겹침 체크 (학생-학기 시간표 비트맵, 캐시가 가득 찼을 때만 DB 조회)
+        if (hasScheduleConflict(offeringId, studentAccountId, offering)) {
             throw new BusinessException(ErrorCode.ENROLLMENT_SCHEDULE_CONFLICT);
         }
 
-        Optional<Enrollment> opt = enrollmentRepository.findByOfferingIdAndStudentAccountId(offeringId, studentAccountId);
-
-        if (opt.isPresent()) {
-            Enrollment e = opt.get();
-
-            // 이미 신청 상태면 중복
-            if (e.getEnrollmentStatus() == EnrollmentStatus.ENROLLED) {
-                throw new BusinessException(ErrorCode.ENROLLMENT_ALREADY_EXISTS, offeringId, studentAccountId);
-            }
-
-            // CANCELED -> ENROLLED 로 복구 (재신청 허용 정책)
-            // 점수/성적 관련은 초기화(아직 수업 전이므로)
-            e.reEnroll(LocalDateTime.now());; // 아래에 setter 없으면 엔티티 메서드 만들거나 reflection 안쓰고 필드 접근 불가니 메서드 추가 필요
-            // e.resetGradeInfo(); 같은 거 만들어도 됨 (선택)
-            // appliedAt 갱신은 정책 선택: 재신청 시점 기록하려면 갱신
-            // e.setAppliedAt(LocalDateTime.now());
-        } else {
-            // 3) 정원 체크 (현재 ENROLLED count)
-            long enrolledCount = enrollmentRepository.countByOfferingIdAndEnrollmentStatus(offeringId, EnrollmentStatus.ENROLLED);
-            if (enrolledCount >= offering.getCapacity()) {
-                // 꽉 찼으면 CLOSE로 바꾸고 충돌 응답
-                offering.changeStatus(OfferingStatus.ENROLLMENT_CLOSED);
-                throw new BusinessException(ErrorCode.OFFERING_CAPACITY_FULL, offeringId);
+        // 3) 좌석 배정 + 저장 (정원 초과/중복 신청/시간표 겹침 최종 판정은 엔진에서 예외)
+        try {
+            registrationEngine.register(offeringId, studentAccountId);
+        } catch (BusinessException e) {
+            if (e.getErrorCode() == ErrorCode.ENROLLMENT_SCHEDULE_CONFLICT) {
+                // 캐시가 다른 인스턴스의 신청을 몰랐음 -> 다음 조회에서 다시 적재
+                timetableCache.evict(studentAccountId, offering.getSemesterId());
             }
-
-            Enrollment e = Enrollment.builder()
-                    .offeringId(offeringId)
-                    .studentAccountId(studentAccountId)
-                    .enrollmentStatus(EnrollmentStatus.ENROLLED)
-                    .completionStatus(com.teamlms.backend.domain.curricular.enums.CompletionStatus.IN_PROGRESS)
-                    .isGradeConfirmed(false)
-                    .appliedAt(LocalDateTime.now())
-                    .build();
-
-            enrollmentRepository.save(e);
+            throw e;
         }
+        timetableCache.onEnrolled(studentAccountId, offering.getSemesterId(), target.slot());
+    }
 
-        // 4) 신청 후 정원 꽉 찼으면 ENROLLMENT_CLOSED로 자동 전환
-        long afterCount = enrollmentRepository.countByOfferingIdAndEnrollmentStatus(offeringId, EnrollmentStatus.ENROLLED);
-        if (afterCount >= offering.getCapacity()) {
-            offering.changeStatus(OfferingStatus.ENROLLMENT_CLOSED);
+    // 캐시는 인스턴스별이라 ttl 동안 다른 인스턴스의 신청을 모를 수 있지만,
+    // 저장 upsert 가 같은 학기/요일/교시의 ENROLLED 교과를 다시 확인하므로 "겹치지 않음" 도 그대로 신뢰
+    private boolean hasScheduleConflict(Long offeringId, Long studentAccountId, CurricularOffering offering) {
+        Optional<StudentTimetable> timetable = timetableCache.get(studentAccountId, offering.getSemesterId());
+        if (timetable.isPresent()) {
+            return timetable.get().conflicts(offering.getDayOfWeek(), offering.getPeriod(), offeringId);
         }
+        return enrollmentRepository.countScheduleConflictEnrollment(
+                studentAccountId,
+                offering.getSemesterId(),
+                offering.getDayOfWeek(),
+                offering.getPeriod(),
+                offeringId
+        ) > 0;
     }
 
     // 신청 취소 (status 변경만)
@@ -112,27 +99,20 @@ public class EnrollmentCommandService {
             // 일반적으로 "취소 불가 기간"은 명확히 409/403으로 알려주는 게 UX/정책상 좋음
         }
 
-        Enrollment e = enrollmentRepository.findByOfferingIdAndStudentAccountId(offeringId, studentAccountId)
-                .orElseThrow(() -> new BusinessException(
-                        ErrorCode.ENROLLMENT_NOT_FOUND, offeringId, studentAccountId
-                ));
+        if (!enrollmentRepository.existsByOfferingIdAndStudentAccountId(offeringId, studentAccountId)) {
+            throw new BusinessException(ErrorCode.ENROLLMENT_NOT_FOUND, offeringId, studentAccountId);
+        }
 
         // 이미 취소/드랍 상태면 idemponent 처리
-        if (e.getEnrollmentStatus() != EnrollmentStatus.ENROLLED) {
+        // ENROLLED 조건부 UPDATE 로 동시 취소 중 1건만 좌석을 반납
+        if (!seatRepository.cancelEnrollment(offeringId, studentAccountId)) {
             return;
         }
 
-        e.cancel();
-
-        // ✅ 취소로 인해 자리 생기면 ENROLLMENT_CLOSED -> OPEN 자동 전환(정책)
-        if (offering.getStatus() == OfferingStatus.ENROLLMENT_CLOSED) {
-            long enrolledCount = enrollmentRepository.countByOfferingIdAndEnrollmentStatus(
-                    offeringId, EnrollmentStatus.ENROLLED
-            );
-            if (enrolledCount < offering.getCapacity()) {
-                offering.changeStatus(OfferingStatus.OPEN);
-            }
-        }
+        // ✅ 좌석 반납, 자리 생기면 ENROLLMENT_CLOSED -> OPEN 자동 전환(정책) - enrolled_count 기준
+        seatRepository.releaseSeat(offeringId);
+        registrationEngine.releaseAfterCommit(offeringId);
+        timetableCache.onCanceled(studentAccountId, offering.getSemesterId(), offeringId);
     }
 
 }
@@ -5,7 +5,9 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 
 import com.teamlms.backend.domain.curricular.api.dto.EnrollListItem;
+import com.teamlms.backend.domain.curricular.api.dto.StudentTimetableResponse;
 import com.teamlms.backend.domain.curricular.repository.CurricularOfferingRepository;
+import com.teamlms.backend.domain.curricular.repository.EnrollmentRepository;
 
 import lombok.RequiredArgsConstructor;
 
@@ -14,6 +16,8 @@ import lombok.RequiredArgsConstructor;
 public class EnrollmentQueryService {
 
     private final CurricularOfferingRepository curricularOfferingRepository;
+    private final EnrollmentRepository enrollmentRepository;
+    private final StudentTimetableCache timetableCache;
 
     // 신청목록 (Student)
     public Page<EnrollListItem> listEnrollments(
@@ -30,4 +34,11 @@ public class EnrollmentQueryService {
     ) {
         return curricularOfferingRepository.findOfferingCurrentEnrollments(accountId, pageable);
     }
+
+    // 내 시간표 (Student) - 수강신청 시간표 겹침 검사와 같은 캐시 사용
+    public StudentTimetableResponse getMyTimetable(Long accountId, Long semesterId) {
+        StudentTimetable timetable = timetableCache.get(accountId, semesterId)
+                .orElseGet(() -> StudentTimetable.of(enrollmentRepository.findTimetableSlots(accountId, semesterId)));
+        return new StudentTimetableResponse(semesterId, timetable.slots());
+    }
 }
@@ -0,0 +1,366 @@
+package com.teamlms.backend.domain.curricular.service;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.teamlms.backend.domain.curricular.enums.OfferingStatus;
+import com.teamlms.backend.domain.curricular.repository.EnrollmentSeatRepository;
+import com.teamlms.backend.domain.curricular.repository.EnrollmentSeatRepository.SeatState;
+import com.teamlms.backend.global.exception.base.BusinessException;
+import com.teamlms.backend.global.exception.code.ErrorCode;
+
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 수강신청 좌석 엔진
+ * - 교과별 메모리 좌석 카운터(DB 시드, reconcile-interval 마다 보정)로 빈 자리가 없으면 DB 접근 없이 바로 거절
+ * - 카운터를 통과한 신청은 교과별 대기열에 쌓이고, 먼저 잠금을 잡은 요청 스레드가 대기분을 묶어 한 트랜잭션으로 저장
+ *   (교과 행 FOR UPDATE -> 학생 ID 배열 upsert -> enrolled_count/상태 갱신)
+ * - 시간표 겹침 최종 판정은 upsert 가 함께 수행 (겹친 학생은 ENROLLMENT_SCHEDULE_CONFLICT)
+ * - 정원 판정 기준은 DB 의 enrolled_count, 메모리 카운터는 조기 거절용 (인스턴스가 여러 대여도 초과 신청 없음)
+ * - OPEN -> ENROLLMENT_CLOSED 전환은 정원에 도달하는 배치에서 한 번만 수행
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class EnrollmentRegistrationEngine {
+
+    private static final long COMBINE_WAIT_MILLIS = 5;
+
+    private final EnrollmentSeatRepository seatRepository;
+    private final PlatformTransactionManager transactionManager;
+
+    @Value("${curricular.registration.batch-size:100}")
+    private int batchSize;
+
+    @Value("${curricular.registration.reconcile-interval-seconds:30}")
+    private long reconcileIntervalSeconds;
+
+    private final Map<Long, OfferingSeats> offerings = new ConcurrentHashMap<>();
+    private ScheduledExecutorService reconciler;
+
+    // 교과별 메모리 좌석 카운터 + 신청 대기열
+    static final class OfferingSeats {
+        private final AtomicInteger available = new AtomicInteger();
+        private final AtomicInteger inFlight = new AtomicInteger();
+        private final Queue<Pending> queue = new ConcurrentLinkedQueue<>();
+        private final ReentrantLock combineLock = new ReentrantLock();
+
+        private boolean tryReserve() {
+            while (true) {
+                int current = available.get();
+                if (current <= 0) {
+                    return false;
+                }
+                if (available.compareAndSet(current, current - 1)) {
+                    inFlight.incrementAndGet();
+                    return true;
+                }
+            }
+        }
+
+        // 예약 좌석이 저장됨
+        private void commit() {
+            inFlight.decrementAndGet();
+        }
+
+        // 예약 좌석을 쓰지 못함
+        private void release() {
+            inFlight.decrementAndGet();
+            available.incrementAndGet();
+        }
+
+        // DB 기준으로 남은 좌석 재설정 (처리 중 예약분 제외)
+        private void sync(SeatState state) {
+            available.set(Math.max(0, state.remaining() - inFlight.get()));
+        }
+
+        int available() {
+            return available.get();
+        }
+    }
+
+    private static final class Pending {
+        private final Long studentAccountId;
+        private final CompletableFuture<Void> future = new CompletableFuture<>();
+
+        private Pending(Long studentAccountId) {
+            this.studentAccountId = studentAccountId;
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        ScheduledThreadPoolExecutor executor = new ScheduledThreadPoolExecutor(1, r -> {
+            Thread t = new Thread(r, "enrollment-seat-reconcile");
+            t.setDaemon(true);
+            return t;
+        });
+        executor.setExecuteExistingDelayedTasksAfterShutdownPolicy(false);
+        reconciler = executor;
+        reconciler.scheduleWithFixedDelay(this::reconcileSafely,
+                reconcileIntervalSeconds, reconcileIntervalSeconds, TimeUnit.SECONDS);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        if (reconciler != null) {
+            reconciler.shutdownNow();
+        }
+    }
+
+    /**
+     * 좌석 신청 (저장 완료 또는 실패까지 대기)
+     * - 상태/시간표 검증은 호출 측에서 먼저 수행
+     */
+    public void register(Long offeringId, Long studentAccountId) {
+        OfferingSeats seats = seatsFor(offeringId);
+        if (!seats.tryReserve()) {
+            throw new BusinessException(ErrorCode.OFFERING_CAPACITY_FULL, offeringId);
+        }
+
+        Pending pending = new Pending(studentAccountId);
+        seats.queue.add(pending);
+
+        boolean interrupted = false;
+        while (!pending.future.isDone()) {
+            if (seats.combineLock.tryLock()) {
+                try {
+                    flush(offeringId, seats, drain(seats));
+                } finally {
+                    seats.combineLock.unlock();
+                }
+            } else {
+                try {
+                    pending.future.get(COMBINE_WAIT_MILLIS, TimeUnit.MILLISECONDS);
+                } catch (TimeoutException | ExecutionException ignored) {
+                    // 완료 여부는 루프 조건에서 확인, 결과는 아래에서 전달
+                } catch (InterruptedException e) {
+                    interrupted = true;
+                }
+            }
+        }
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+
+        try {
+            pending.future.join();
+        } catch (RuntimeException e) {
+            Throwable cause = e.getCause() != null ? e.getCause() : e;
+            if (cause instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * 취소로 반납된 좌석을 커밋 후 카운터에 반영
+     */
+    public void releaseAfterCommit(Long offeringId) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    freeSeat(offeringId);
+                }
+            });
+        } else {
+            freeSeat(offeringId);
+        }
+    }
+
+    /**
+     * 메모리 카운터를 DB enrolled_count 기준으로 보정, 더 이상 신청 대상이 아닌 교과는 제거
+     */
+    public void reconcile() {
+        if (offerings.isEmpty()) {
+            return;
+        }
+        Set<Long> missing = new HashSet<>(offerings.keySet());
+        for (SeatState state : seatRepository.findSeatStates(List.copyOf(offerings.keySet()))) {
+            missing.remove(state.offeringId());
+            if (state.status() != OfferingStatus.OPEN && state.status() != OfferingStatus.ENROLLMENT_CLOSED) {
+                offerings.remove(state.offeringId());
+                continue;
+            }
+            OfferingSeats seats = offerings.get(state.offeringId());
+            if (seats != null) {
+                seats.sync(state);
+            }
+        }
+        missing.forEach(offerings::remove);
+    }
+
+    OfferingSeats seatsFor(Long offeringId) {
+        OfferingSeats seats = offerings.get(offeringId);
+        if (seats != null) {
+            return seats;
+        }
+        SeatState state = seatRepository.findSeatState(offeringId)
+                .orElseThrow(() -> new BusinessException(ErrorCode.CURRICULAR_OFFERING_NOT_FOUND, offeringId));
+        OfferingSeats created = new OfferingSeats();
+        created.sync(state);
+        OfferingSeats existing = offerings.putIfAbsent(offeringId, created);
+        return existing != null ? existing : created;
+    }
+
+    private List<Pending> drain(OfferingSeats seats) {
+        int max = Math.max(1, batchSize);
+        List<Pending> batch = new ArrayList<>(Math.min(max, 64));
+        Pending next;
+        while (batch.size() < max && (next = seats.queue.poll()) != null) {
+            batch.add(next);
+        }
+        return batch;
+    }
+
+    /**
+     * 대기분 1배치 저장 (선착순: 배치 안에서도 도착 순서대로 좌석 배정)
+     */
+    private void flush(Long offeringId, OfferingSeats seats, List<Pending> batch) {
+        if (batch.isEmpty()) {
+            return;
+        }
+
+        // 같은 학생의 중복 요청은 먼저 온 1건만 저장 대상
+        List<Pending> unique = new ArrayList<>(batch.size());
+        Set<Long> seen = new HashSet<>();
+        for (Pending p : batch) {
+            if (seen.add(p.studentAccountId)) {
+                unique.add(p);
+            } else {
+                seats.release();
+                p.future.completeExceptionally(
+                        new BusinessException(ErrorCode.ENROLLMENT_ALREADY_EXISTS, offeringId, p.studentAccountId));
+            }
+        }
+
+        TransactionTemplate tx = new TransactionTemplate(transactionManager);
+        tx.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+
+        FlushResult result;
+        try {
+            result = tx.execute(status -> save(offeringId, unique));
+        } catch (RuntimeException e) {
+            log.warn("Enrollment batch save failed. offeringId={}, size={}", offeringId, unique.size(), e);
+            for (Pending p : unique) {
+                seats.release();
+                p.future.completeExceptionally(e);
+            }
+            return;
+        }
+
+        for (int i = 0; i < unique.size(); i++) {
+            Pending p = unique.get(i);
+            if (i < result.attempted() && result.enrolled().contains(p.studentAccountId)) {
+                seats.commit();
+                p.future.complete(null);
+            } else if (i < result.attempted() && result.conflicted().contains(p.studentAccountId)) {
+                seats.release();
+                p.future.completeExceptionally(new BusinessException(ErrorCode.ENROLLMENT_SCHEDULE_CONFLICT));
+            } else if (i < result.attempted()) {
+                seats.release();
+                p.future.completeExceptionally(
+                        new BusinessException(ErrorCode.ENROLLMENT_ALREADY_EXISTS, offeringId, p.studentAccountId));
+            } else {
+                seats.release();
+                p.future.completeExceptionally(result.state().status() == OfferingStatus.OPEN
+                        || result.state().status() == OfferingStatus.ENROLLMENT_CLOSED
+                        ? new BusinessException(ErrorCode.OFFERING_CAPACITY_FULL, offeringId)
+                        : new BusinessException(ErrorCode.OFFERING_NOT_ENROLLABLE, offeringId, result.state().status()));
+            }
+        }
+        if (result.attempted() < unique.size()) {
+            // 메모리 카운터가 DB 보다 앞서 있었음 -> DB 기준으로 맞춤
+            seats.sync(result.state());
+        }
+    }
+
+    /**
+     * 남은 좌석만큼 도착 순서대로 저장
+     * - 이미 ENROLLED 인 학생에게 돌아간 좌석은 쓰이지 않았으므로 다음 대기분에 다시 배정
+     */
+    private FlushResult save(Long offeringId, List<Pending> unique) {
+        SeatState state = seatRepository.lockSeatState(offeringId)
+                .orElseThrow(() -> new BusinessException(ErrorCode.CURRICULAR_OFFERING_NOT_FOUND, offeringId));
+        if (state.status() != OfferingStatus.OPEN) {
+            return new FlushResult(state, 0, Set.of(), Set.of());
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        Set<Long> enrolled = new HashSet<>();
+        int remaining = state.remaining();
+        int attempted = 0;
+        while (remaining > 0 && attempted < unique.size()) {
+            int end = Math.min(unique.size(), attempted + remaining);
+            List<Long> studentIds = unique.subList(attempted, end).stream().map(p -> p.studentAccountId).toList();
+            Set<Long> saved = seatRepository.upsertEnrollments(offeringId, studentIds, now);
+            enrolled.addAll(saved);
+            remaining -= saved.size();
+            attempted = end;
+        }
+        // 저장되지 않은 학생만 시간표 겹침 여부 확인 (나머지는 이미 ENROLLED)
+        List<Long> skipped = unique.subList(0, attempted).stream()
+                .map(p -> p.studentAccountId)
+                .filter(id -> !enrolled.contains(id))
+                .toList();
+        Set<Long> conflicted = skipped.isEmpty() ? Set.of() : seatRepository.findScheduleConflicts(offeringId, skipped);
+        if (enrolled.isEmpty()) {
+            return new FlushResult(state, attempted, enrolled, conflicted);
+        }
+
+        int enrolledCount = state.enrolledCount() + enrolled.size();
+        OfferingStatus status = enrolledCount >= state.capacity() ? OfferingStatus.ENROLLMENT_CLOSED : state.status();
+        seatRepository.updateSeatState(offeringId, enrolledCount, status);
+        return new FlushResult(new SeatState(offeringId, state.capacity(), enrolledCount, status), attempted, enrolled,
+                conflicted);
+    }
+
+    private void freeSeat(Long offeringId) {
+        OfferingSeats seats = offerings.get(offeringId);
+        if (seats != null) {
+            seats.available.incrementAndGet();
+        }
+    }
+
+    private void reconcileSafely() {
+        try {
+            reconcile();
+        } catch (RuntimeException e) {
+            log.warn("Enrollment seat reconcile failed", e);
+        }
+    }
+
+    // attempted: 도착 순 앞에서부터 저장을 시도한 건수 (그 뒤는 정원 초과)
+    private record FlushResult(SeatState state, int attempted, Set<Long> enrolled, Set<Long> conflicted) {
+    }
+}
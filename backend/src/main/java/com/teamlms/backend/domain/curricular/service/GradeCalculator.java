@@ -0,0 +1,46 @@
+package com.teamlms.backend.domain.curricular.service;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.teamlms.backend.domain.curricular.enums.CompletionStatus;
+import com.teamlms.backend.domain.curricular.repository.GradeConfirmationBulkRepository.ScoreBand;
+
+/**
+ * 점수 -> 등급 환산 (성적 확정용)
+ */
+final class GradeCalculator {
+
+    private GradeCalculator() {}
+
+    // 90+ A, 80+ B, 70+ C, 60+ D, else F
+    private static final int[] MIN_SCORES = { 90, 80, 70, 60, 0 };
+    private static final String[] GRADES = { "A", "B", "C", "D", "F" };
+    private static final int MAX_SCORE = 100;
+
+    public static String fromScore(int score) {
+        for (int i = 0; i < MIN_SCORES.length - 1; i++) {
+            if (score >= MIN_SCORES[i]) return GRADES[i];
+        }
+        return GRADES[GRADES.length - 1];
+    }
+
+    // 일괄 확정용 점수 구간표 (fromScore 와 같은 기준)
+    public static List<ScoreBand> bands() {
+        List<ScoreBand> bands = new ArrayList<>(GRADES.length);
+        int upper = MAX_SCORE;
+        for (int i = 0; i < GRADES.length; i++) {
+            bands.add(new ScoreBand(
+                    MIN_SCORES[i],
+                    upper,
+                    GRADES[i],
+                    isPassed(GRADES[i]) ? CompletionStatus.PASSED : CompletionStatus.FAILED));
+            upper = MIN_SCORES[i] - 1;
+        }
+        return bands;
+    }
+
+    public static boolean isPassed(String grade) {
+        return !"F".equalsIgnoreCase(grade);
+    }
+}
@@ -0,0 +1,92 @@
+package com.teamlms.backend.domain.curricular.service;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+import com.teamlms.backend.domain.curricular.api.dto.TimetableSlotItem;
+import com.teamlms.backend.domain.curricular.enums.DayOfWeekType;
+
+/**
+ * 학생-학기 시간표 (불변)
+ * - 요일 x 교시(1~6) 를 long 비트로 표현, 시간표 겹침은 비트 AND 로 판정
+ * - 변경 시 새 인스턴스 반환 (캐시에서 통째로 교체)
+ */
+public final class StudentTimetable {
+
+    static final int PERIODS = 6;
+
+    private static final Comparator<TimetableSlotItem> SLOT_ORDER = Comparator
+            .comparing(TimetableSlotItem::dayOfWeek)
+            .thenComparing(TimetableSlotItem::period)
+            .thenComparing(TimetableSlotItem::offeringId);
+
+    private final long bits;
+    private final List<TimetableSlotItem> slots;
+
+    private StudentTimetable(List<TimetableSlotItem> slots) {
+        List<TimetableSlotItem> sorted = new ArrayList<>(slots);
+        sorted.sort(SLOT_ORDER);
+        long b = 0L;
+        for (TimetableSlotItem slot : sorted) {
+            b |= bit(slot.dayOfWeek(), slot.period());
+        }
+        this.bits = b;
+        this.slots = List.copyOf(sorted);
+    }
+
+    public static StudentTimetable of(List<TimetableSlotItem> slots) {
+        return new StudentTimetable(slots);
+    }
+
+    static long bit(DayOfWeekType dayOfWeek, Integer period) {
+        if (dayOfWeek == null || period == null || period < 1 || period > PERIODS) {
+            return 0L;
+        }
+        return 1L << (dayOfWeek.ordinal() * PERIODS + period - 1);
+    }
+
+    /**
+     * 같은 요일/교시에 다른 교과가 있으면 true (같은 교과 자신은 제외)
+     */
+    public boolean conflicts(DayOfWeekType dayOfWeek, Integer period, Long offeringId) {
+        long b = bit(dayOfWeek, period);
+        if ((bits & b) == 0L) {
+            return false;
+        }
+        for (TimetableSlotItem slot : slots) {
+            if (slot.dayOfWeek() == dayOfWeek && slot.period().equals(period) && !slot.offeringId().equals(offeringId)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    public boolean contains(Long offeringId) {
+        return slots.stream().anyMatch(s -> s.offeringId().equals(offeringId));
+    }
+
+    public StudentTimetable with(TimetableSlotItem slot) {
+        if (contains(slot.offeringId())) {
+            return this;
+        }
+        List<TimetableSlotItem> next = new ArrayList<>(slots);
+        next.add(slot);
+        return new StudentTimetable(next);
+    }
+
+    public StudentTimetable without(Long offeringId) {
+        if (!contains(offeringId)) {
+            return this;
+        }
+        return new StudentTimetable(slots.stream().filter(s -> !s.offeringId().equals(offeringId)).toList());
+    }
+
+    public long bits() {
+        return bits;
+    }
+
+    public List<TimetableSlotItem> slots() {
+        return slots;
+    }
+}
@@ -0,0 +1,154 @@
+package com.teamlms.backend.domain.curricular.service;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.teamlms.backend.domain.curricular.api.dto.TimetableSlotItem;
+import com.teamlms.backend.domain.curricular.repository.EnrollmentRepository;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 학생-학기 시간표 캐시
+ * - 처음 조회 시 학생의 학기 수강 교과를 1회 조회해 적재 (조회는 맵 잠금 밖에서, 반영만 compute)
+ * - 적재 쿼리 도중 같은 키에 신청/취소/제거가 있었으면(변경 버전 비교) 조회 결과를 캐시에 넣지 않음
+ * - 수강신청/취소 시 적재된 시간표만 갱신 (조회 없이 신청 교과의 칸을 추가), 학기 상태가 바뀌면 해당 학기 전체 제거
+ * - max-entries 를 넘으면 적재하지 않음 (호출 측은 DB 조회로 대체)
+ * - 인스턴스별 캐시라 다른 인스턴스의 신청/취소는 모름
+ *   → 적재 후 ttl-seconds 가 지나면 DB 에서 다시 적재, 그 사이 놓친 겹침은 신청 저장(upsert) 단계에서 DB 가 거절
+ */
+@Component
+@RequiredArgsConstructor
+public class StudentTimetableCache {
+
+    private final EnrollmentRepository enrollmentRepository;
+
+    @Value("${curricular.timetable.cache-max-entries:50000}")
+    private int maxEntries;
+
+    @Value("${curricular.timetable.cache-ttl-seconds:60}")
+    private long ttlSeconds;
+
+    private static final int CHANGE_STRIPES = 256;
+
+    private final Map<Key, Entry> timetables = new ConcurrentHashMap<>();
+    // 학생-학기 변경 버전 (키 해시로 나눈 구간별, 적재되지 않은 키의 변경도 감지)
+    private final AtomicLongArray changeVersions = new AtomicLongArray(CHANGE_STRIPES);
+
+    record Key(Long studentAccountId, Long semesterId) {
+    }
+
+    // loadedAt: DB 에서 적재한 시각 (System.nanoTime), 신청/취소 반영으로는 갱신하지 않음
+    private record Entry(StudentTimetable timetable, long loadedAt) {
+
+        Entry replace(StudentTimetable next) {
+            return next == timetable ? this : new Entry(next, loadedAt);
+        }
+    }
+
+    /**
+     * 시간표 조회 (없거나 ttl 이 지났으면 적재), 캐시가 가득 찼으면 empty
+     */
+    public Optional<StudentTimetable> get(Long studentAccountId, Long semesterId) {
+        Key key = new Key(studentAccountId, semesterId);
+        long now = System.nanoTime();
+        Entry cached = timetables.get(key);
+        if (cached != null && isFresh(cached, now)) {
+            return Optional.of(cached.timetable());
+        }
+        if (cached == null && timetables.size() >= maxEntries) {
+            return Optional.empty();
+        }
+        long version = changeVersions.get(stripe(key));
+        Entry loaded = new Entry(load(studentAccountId, semesterId), now);
+        Entry installed = timetables.compute(key, (k, current) -> {
+            if (current != null && isFresh(current, System.nanoTime())) {
+                return current;
+            }
+            return changeVersions.get(stripe(k)) == version ? loaded : null;
+        });
+        return Optional.of(installed != null ? installed.timetable() : loaded.timetable());
+    }
+
+    /**
+     * 적재된 시간표 제거 (DB 와 다르다고 확인된 경우, 다음 조회에서 다시 적재)
+     */
+    public void evict(Long studentAccountId, Long semesterId) {
+        Key key = new Key(studentAccountId, semesterId);
+        changeVersions.incrementAndGet(stripe(key));
+        timetables.remove(key);
+    }
+
+    /**
+     * 신청 완료 후 호출 (적재된 시간표에만 교과 칸 추가, 추가 조회 없음)
+     */
+    public void onEnrolled(Long studentAccountId, Long semesterId, TimetableSlotItem slot) {
+        Key key = new Key(studentAccountId, semesterId);
+        changeVersions.incrementAndGet(stripe(key));
+        timetables.computeIfPresent(key, (k, entry) -> entry.timetable().contains(slot.offeringId())
+                ? entry
+                : entry.replace(entry.timetable().with(slot)));
+    }
+
+    /**
+     * 취소 커밋 후 교과 칸 제거
+     */
+    public void onCanceled(Long studentAccountId, Long semesterId, Long offeringId) {
+        Key key = new Key(studentAccountId, semesterId);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    removeSlot(key, offeringId);
+                }
+            });
+        } else {
+            removeSlot(key, offeringId);
+        }
+    }
+
+    /**
+     * 학기 전환(상태 변경) 시 해당 학기 시간표 전체 제거
+     */
+    public void evictSemester(Long semesterId) {
+        if (semesterId == null) {
+            return;
+        }
+        timetables.keySet().removeIf(key -> {
+            if (!semesterId.equals(key.semesterId())) {
+                return false;
+            }
+            changeVersions.incrementAndGet(stripe(key));
+            return true;
+        });
+    }
+
+    int size() {
+        return timetables.size();
+    }
+
+    private void removeSlot(Key key, Long offeringId) {
+        changeVersions.incrementAndGet(stripe(key));
+        timetables.computeIfPresent(key, (k, entry) -> entry.replace(entry.timetable().without(offeringId)));
+    }
+
+    private static int stripe(Key key) {
+        return Math.floorMod(key.hashCode(), CHANGE_STRIPES);
+    }
+
+    private boolean isFresh(Entry entry, long now) {
+        return now - entry.loadedAt() < TimeUnit.SECONDS.toNanos(ttlSeconds);
+    }
+
+    private StudentTimetable load(Long studentAccountId, Long semesterId) {
+        return StudentTimetable.of(enrollmentRepository.findTimetableSlots(studentAccountId, semesterId));
+    }
+}
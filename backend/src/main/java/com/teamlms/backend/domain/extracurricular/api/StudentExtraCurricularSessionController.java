@@ -17,8 +17,11 @@ import org.springframework.web.bind.annotation.RestController;
 
 import com.teamlms.backend.domain.extracurricular.api.dto.ExtraCurricularSessionDetailResponse;
 import com.teamlms.backend.domain.extracurricular.api.dto.ExtraCurricularSessionListItem;
+import com.teamlms.backend.domain.extracurricular.api.dto.ExtraSessionWatchHeartbeatRequest;
+import com.teamlms.backend.domain.extracurricular.api.dto.ExtraSessionWatchProgressResponse;
 import com.teamlms.backend.domain.extracurricular.api.dto.StudentExtraCurricularSessionListItem;
 import com.teamlms.backend.domain.extracurricular.api.dto.StudentExtraSessionAttendanceRequest;
+import com.teamlms.backend.domain.extracurricular.service.ExtraSessionWatchProgressService;
 import com.teamlms.backend.domain.extracurricular.service.StudentExtraCurricularSessionCommandService;
 import com.teamlms.backend.domain.extracurricular.service.StudentExtraCurricularSessionQueryService;
 import com.teamlms.backend.global.api.ApiResponse;
@@ -36,6 +39,7 @@ public class StudentExtraCurricularSessionController {
 
     private final StudentExtraCurricularSessionQueryService queryService;
     private final StudentExtraCurricularSessionCommandService commandService;
+    private final ExtraSessionWatchProgressService watchProgressService;
 
     // 세션 목록 (학생)
     @GetMapping("/{extraOfferingId}/sessions")
@@ -84,4 +88,19 @@ public class StudentExtraCurricularSessionController {
                 req);
         return ApiResponse.ok(new SuccessResponse());
     }
+
+    // 시청 구간 heartbeat (플레이어가 주기적으로 전송, 시청 구간이 기준에 닿으면 자동 출석)
+    @PostMapping("/{extraOfferingId}/sessions/{sessionId}/watch-progress")
+    @PreAuthorize("hasAuthority('EXTRA_CURRICULAR_CLASS')")
+    public ApiResponse<ExtraSessionWatchProgressResponse> recordWatchProgress(
+            @AuthenticationPrincipal AuthUser authUser,
+            @PathVariable Long extraOfferingId,
+            @PathVariable Long sessionId,
+            @Valid @RequestBody ExtraSessionWatchHeartbeatRequest req) {
+        return ApiResponse.ok(watchProgressService.heartbeat(
+                authUser.getAccountId(),
+                extraOfferingId,
+                sessionId,
+                req.segments()));
+    }
 }
@@ -20,7 +20,8 @@ import com.teamlms.backend.domain.extracurricular.service.ExtraEnrollmentCommand
 import com.teamlms.backend.domain.extracurricular.service.ExtraEnrollmentQueryService;
 import com.teamlms.backend.global.api.ApiResponse;
 import com.teamlms.backend.global.api.PageMeta;
-import com.teamlms.backend.global.api.dto.SuccessResponse;
+import com.teamlms.backend.global.admission.EnrollmentAdmissionGate;
+import com.teamlms.backend.global.admission.api.dto.EnrollmentAdmissionResponse;
 import com.teamlms.backend.global.security.principal.AuthUser;
 
 import lombok.RequiredArgsConstructor;
@@ -32,23 +33,28 @@ public class StudentExtraEnrollmentController {
 
     private final ExtraEnrollmentCommandService enrollmentCommandService;
     private final ExtraEnrollmentQueryService enrollmentQueryService;
+    private final EnrollmentAdmissionGate admissionGate;
 
     @PostMapping("/{offeringId}/enroll")
     @PreAuthorize("hasAuthority('EXTRA_CURRICULAR_CLASS')")
-    public ApiResponse<SuccessResponse> enroll(
+    public ApiResponse<EnrollmentAdmissionResponse> enroll(
             @PathVariable Long offeringId,
             @AuthenticationPrincipal AuthUser authUser) {
-        enrollmentCommandService.enroll(offeringId, authUser.getAccountId());
-        return ApiResponse.ok(new SuccessResponse());
+        try (EnrollmentAdmissionGate.Ticket ticket = admissionGate.admit(EnrollmentAdmissionGate.extraCurricularKey(offeringId))) {
+            enrollmentCommandService.enroll(offeringId, authUser.getAccountId());
+            return ApiResponse.ok(EnrollmentAdmissionResponse.of(ticket));
+        }
     }
 
     @PostMapping("/{offeringId}/cancel")
     @PreAuthorize("hasAuthority('EXTRA_CURRICULAR_CLASS')")
-    public ApiResponse<SuccessResponse> cancel(
+    public ApiResponse<EnrollmentAdmissionResponse> cancel(
             @PathVariable Long offeringId,
             @AuthenticationPrincipal AuthUser authUser) {
-        enrollmentCommandService.cancel(offeringId, authUser.getAccountId());
-        return ApiResponse.ok(new SuccessResponse());
+        try (EnrollmentAdmissionGate.Ticket ticket = admissionGate.admit(EnrollmentAdmissionGate.extraCurricularKey(offeringId))) {
+            enrollmentCommandService.cancel(offeringId, authUser.getAccountId());
+            return ApiResponse.ok(EnrollmentAdmissionResponse.of(ticket));
+        }
     }
 
     // 신청현황
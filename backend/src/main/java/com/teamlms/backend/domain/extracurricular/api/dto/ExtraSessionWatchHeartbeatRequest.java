@@ -0,0 +1,12 @@
+package com.teamlms.backend.domain.extracurricular.api.dto;
+
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+/**
+ * 플레이어 시청 구간 묶음 (직전 전송 이후 재생한 구간)
+ * - [시작초, 종료초, 시작초, 종료초, ...] 로 펼친 배열, 종료초는 포함하지 않음
+ */
+public record ExtraSessionWatchHeartbeatRequest(
+    @NotNull @Size(max = 128) int[] segments
+) {}
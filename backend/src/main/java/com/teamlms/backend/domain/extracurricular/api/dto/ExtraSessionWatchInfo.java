@@ -0,0 +1,16 @@
+package com.teamlms.backend.domain.extracurricular.api.dto;
+
+import com.teamlms.backend.domain.extracurricular.enums.ExtraSessionStatus;
+
+// 시청 진행 처리용 회차 정보 (회차 + 동영상 길이/storageKey + 운영 학기)
+// videoKey: 동영상 식별자 (교체되면 바뀜, 시청 구간이 어느 동영상 기준인지 구분)
+public record ExtraSessionWatchInfo(
+    Long sessionId,
+    Long extraOfferingId,
+    ExtraSessionStatus status,
+    Integer durationSeconds,
+    String videoKey,
+    Long rewardPoint,
+    Long recognizedHours,
+    Long semesterId
+) {}
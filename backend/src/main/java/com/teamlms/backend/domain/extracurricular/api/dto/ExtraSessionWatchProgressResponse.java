@@ -0,0 +1,9 @@
+package com.teamlms.backend.domain.extracurricular.api.dto;
+
+// 회차 동영상 시청 진행 (서버 기준 시청 구간, 출석 인정에 필요한 초)
+public record ExtraSessionWatchProgressResponse(
+    int coveredSeconds,
+    int durationSeconds,
+    int requiredSeconds,
+    boolean attended
+) {}
@@ -0,0 +1,70 @@
+package com.teamlms.backend.domain.extracurricular.repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import javax.sql.DataSource;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * 비교과 운영 이수 일괄 판정 JDBC 저장소
+ * - 신청자별 출석 회차 수를 GROUP BY 1회로 집계해 UPDATE ... FROM 1건으로 PASSED/FAILED 확정
+ * - 유효 회차(CANCELED 제외)를 모두 출석했으면 PASSED
+ * - 판정된 신청/학생은 RETURNING 으로 받아 알림에 사용
+ */
+@Repository
+public class ExtraCompletionEvaluationRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public ExtraCompletionEvaluationRepository(DataSource dataSource) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+    }
+
+    public record EvaluatedApplication(long applicationId, long studentAccountId, boolean passed) {
+    }
+
+    /**
+     * 신청(APPLIED) 전체 이수 판정, 판정된 행 반환
+     */
+    public List<EvaluatedApplication> evaluate(Long extraOfferingId, LocalDateTime evaluatedAt) {
+        Timestamp now = Timestamp.valueOf(evaluatedAt);
+        return jdbcTemplate.query("""
+                WITH valid_session AS (
+                    SELECT s.session_id
+                    FROM extra_curricular_session s
+                    WHERE s.extra_offering_id = ?
+                      AND s.status <> 'CANCELED'
+                ),
+                attended AS (
+                    SELECT c.application_id, count(*) AS attended_count
+                    FROM extra_curricular_session_completion c
+                    JOIN valid_session v ON v.session_id = c.session_id
+                    WHERE c.is_attended = true
+                    GROUP BY c.application_id
+                ),
+                result AS (
+                    SELECT a.application_id,
+                           COALESCE(t.attended_count, 0) = (SELECT count(*) FROM valid_session) AS passed
+                    FROM extra_curricular_application a
+                    LEFT JOIN attended t ON t.application_id = a.application_id
+                    WHERE a.extra_offering_id = ?
+                      AND a.apply_status = 'APPLIED'
+                )
+                UPDATE extra_curricular_application a
+                SET completion_status = CASE WHEN r.passed THEN 'PASSED' ELSE 'FAILED' END,
+                    passed_at = CASE WHEN r.passed THEN CAST(? AS TIMESTAMP) ELSE NULL END,
+                    updated_at = ?
+                FROM result r
+                WHERE a.application_id = r.application_id
+                RETURNING a.application_id, a.student_account_id, r.passed
+                """, (rs, rowNum) -> new EvaluatedApplication(
+                        rs.getLong("application_id"),
+                        rs.getLong("student_account_id"),
+                        rs.getBoolean("passed")),
+                extraOfferingId, extraOfferingId, now, now);
+    }
+}
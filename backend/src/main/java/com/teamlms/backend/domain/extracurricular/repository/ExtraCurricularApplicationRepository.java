@@ -1,17 +1,14 @@
 package com.teamlms.backend.domain.extracurricular.repository;
 
-import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
 import org.springframework.data.jpa.repository.JpaRepository;
-import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
 
 import com.teamlms.backend.domain.extracurricular.entity.ExtraCurricularApplication;
-import com.teamlms.backend.domain.extracurricular.enums.CompletionStatus;
 import com.teamlms.backend.domain.extracurricular.enums.ExtraApplicationApplyStatus;
 import com.teamlms.backend.domain.extracurricular.api.dto.StudentExtraEnrollmentListItem;
 
@@ -43,22 +40,6 @@ public interface ExtraCurricularApplicationRepository
             @Param("applyStatus") ExtraApplicationApplyStatus applyStatus
     );
 
-    /**
-     * 이수 결과 확정
-     */
-    @Modifying(flushAutomatically = true)
-    @Query("""
-        update ExtraCurricularApplication a
-        set a.completionStatus = :completionStatus,
-            a.passedAt = :passedAt
-        where a.applicationId = :applicationId
-    """)
-    void updateCompletionStatusAndPassedAt(
-            @Param("applicationId") Long applicationId,
-            @Param("completionStatus") CompletionStatus completionStatus,
-            @Param("passedAt") LocalDateTime passedAt
-    );
-    
     Optional<ExtraCurricularApplication> findByExtraOfferingIdAndStudentAccountId(Long extraOfferingId, Long studentAccountId);
 
     boolean existsByExtraOfferingIdAndStudentAccountId(Long extraOfferingId, Long studentAccountId);
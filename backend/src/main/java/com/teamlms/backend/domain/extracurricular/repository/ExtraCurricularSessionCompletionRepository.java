@@ -16,21 +16,6 @@ public interface ExtraCurricularSessionCompletionRepository
 
     List<ExtraCurricularSessionCompletion> findByApplicationId(Long applicationId);
     
-    /**
-     * 신청자별 출석 완료 세션 수
-     */
-    @Query("""
-        select count(c)
-        from ExtraCurricularSessionCompletion c
-        where c.applicationId = :applicationId
-          and c.sessionId in :sessionIds
-          and c.isAttended = true
-    """)
-    long countAttendedByApplicationIdAndSessionIds(
-            @Param("applicationId") Long applicationId,
-            @Param("sessionIds") List<Long> sessionIds
-    );
-
     Optional<ExtraCurricularSessionCompletion> findBySessionIdAndApplicationId(Long sessionId, Long applicationId);
 
     @Modifying(clearAutomatically = true, flushAutomatically = true)
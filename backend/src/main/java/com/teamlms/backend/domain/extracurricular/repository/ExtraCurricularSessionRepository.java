@@ -6,13 +6,17 @@ import java.util.Optional;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
 import com.teamlms.backend.domain.extracurricular.api.dto.AdminExtraCurricularSessionDetailRow;
 import com.teamlms.backend.domain.extracurricular.api.dto.ExtraCurricularSessionListItem;
+import com.teamlms.backend.domain.extracurricular.api.dto.ExtraSessionWatchInfo;
 import com.teamlms.backend.domain.extracurricular.entity.ExtraCurricularSession;
 
+import jakarta.persistence.LockModeType;
+
 public interface ExtraCurricularSessionRepository extends JpaRepository<ExtraCurricularSession, Long>, ExtraCurricularSessionAggregateRepository, ExtraCurricularSessionRepositoryCustom {
 
     boolean existsByExtraOfferingIdAndSessionName(Long extraOfferingId, String sessionName);
@@ -47,4 +51,34 @@ public interface ExtraCurricularSessionRepository extends JpaRepository<ExtraCur
     Integer findVideoDurationSeconds(Long sessionId);
 
     Optional<ExtraCurricularSession> findBySessionIdAndExtraOfferingId(Long sessionId, Long extraOfferingId);
+
+    /**
+     * 회차 행 잠금 조회 (동영상 교체/취소로 이수 기록을 지우는 동안 시청 진행 저장과 직렬화)
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("""
+        select s
+        from ExtraCurricularSession s
+        where s.sessionId = :sessionId
+          and s.extraOfferingId = :extraOfferingId
+    """)
+    Optional<ExtraCurricularSession> findBySessionIdAndExtraOfferingIdForUpdate(
+        @Param("sessionId") Long sessionId,
+        @Param("extraOfferingId") Long extraOfferingId
+    );
+
+    /**
+     * 시청 진행 처리용 회차 정보 (동영상 길이, 보상, 운영 학기를 한 번에)
+     */
+    @Query("""
+        select new com.teamlms.backend.domain.extracurricular.api.dto.ExtraSessionWatchInfo(
+            s.sessionId, s.extraOfferingId, s.status, v.durationSeconds, v.storageKey,
+            s.rewardPoint, s.recognizedHours, o.semesterId
+        )
+        from ExtraCurricularSession s
+        join ExtraCurricularOffering o on o.extraOfferingId = s.extraOfferingId
+        left join ExtraCurricularSessionVideo v on v.sessionId = s.sessionId
+        where s.sessionId = :sessionId
+    """)
+    Optional<ExtraSessionWatchInfo> findWatchInfo(@Param("sessionId") Long sessionId);
 }
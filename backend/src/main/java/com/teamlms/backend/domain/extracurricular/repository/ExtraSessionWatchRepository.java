@@ -0,0 +1,207 @@
+package com.teamlms.backend.domain.extracurricular.repository;
+
+import java.sql.PreparedStatement;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import javax.sql.DataSource;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * 회차 동영상 시청 진행 JDBC 저장소
+ * - 시청자 첫 heartbeat 에 신청(APPLIED) + 기존 이수 기록을 한 번에 조회
+ * - 시청 구간/출석을 (session_id, application_id) 기준 batch upsert (엔티티/영속성 컨텍스트를 거치지 않음)
+ * - 시청 구간은 BIT VARYING 으로 저장하고 upsert 에서 기존 값과 OR 병합 (여러 인스턴스가 같은 시청자를 저장해도 구간 유실 없음)
+ */
+@Repository
+public class ExtraSessionWatchRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public ExtraSessionWatchRepository(DataSource dataSource) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+    }
+
+    /**
+     * 신청 + 이수 기록 (이수 기록이 없으면 coverage/videoKey = null, attended = false)
+     *
+     * @param coverage 시청 구간 비트 문자열 (왼쪽에서 i 번째 = 초 i)
+     * @param videoKey coverage 가 기준으로 한 동영상 storage_key
+     */
+    public record ViewerState(Long applicationId, String coverage, String videoKey, boolean attended) {
+    }
+
+    /**
+     * 저장된 시청 구간 (병합 결과 재조회용)
+     */
+    public record StoredCoverage(Long sessionId, Long applicationId, String coverage, String videoKey,
+            boolean attended) {
+    }
+
+    /**
+     * 저장할 시청 진행 (출석 전이면 earnedPoint/earnedHours = 0)
+     *
+     * @param videoKey 구간을 쌓은 동영상 storage_key (현재 동영상과 다르면 저장하지 않음)
+     */
+    public record CompletionWrite(
+            Long sessionId,
+            Long applicationId,
+            String videoKey,
+            String coverage,
+            int watchedSeconds,
+            boolean attended,
+            LocalDateTime attendedAt,
+            long earnedPoint,
+            long earnedHours,
+            Long actorAccountId
+    ) {
+    }
+
+    public Optional<ViewerState> findViewerState(Long extraOfferingId, Long sessionId, Long studentAccountId) {
+        List<ViewerState> rows = jdbcTemplate.query("""
+                SELECT a.application_id, CAST(c.watch_coverage AS TEXT) AS watch_coverage, c.watch_video_key,
+                       COALESCE(c.is_attended, FALSE) AS is_attended
+                FROM extra_curricular_application a
+                LEFT JOIN extra_curricular_session_completion c
+                  ON c.application_id = a.application_id
+                 AND c.session_id = ?
+                WHERE a.extra_offering_id = ?
+                  AND a.student_account_id = ?
+                  AND a.apply_status = 'APPLIED'
+                """, (rs, rowNum) -> new ViewerState(
+                        rs.getLong("application_id"),
+                        rs.getString("watch_coverage"),
+                        rs.getString("watch_video_key"),
+                        rs.getBoolean("is_attended")),
+                sessionId, extraOfferingId, studentAccountId);
+        return rows.stream().findFirst();
+    }
+
+    /**
+     * (session_id, application_id) 목록의 저장된 시청 구간 (다른 인스턴스가 병합한 결과 포함)
+     */
+    public List<StoredCoverage> findCoverages(List<Long> sessionIds, List<Long> applicationIds) {
+        return jdbcTemplate.query(con -> {
+            PreparedStatement ps = con.prepareStatement("""
+                    SELECT c.session_id, c.application_id, CAST(c.watch_coverage AS TEXT) AS watch_coverage,
+                           c.watch_video_key, c.is_attended
+                    FROM unnest(CAST(? AS BIGINT[]), CAST(? AS BIGINT[])) AS k(session_id, application_id)
+                    JOIN extra_curricular_session_completion c
+                      ON c.session_id = k.session_id
+                     AND c.application_id = k.application_id
+                    """);
+            ps.setArray(1, con.createArrayOf("bigint", sessionIds.toArray()));
+            ps.setArray(2, con.createArrayOf("bigint", applicationIds.toArray()));
+            return ps;
+        }, (rs, rowNum) -> new StoredCoverage(
+                rs.getLong("session_id"),
+                rs.getLong("application_id"),
+                rs.getString("watch_coverage"),
+                rs.getString("watch_video_key"),
+                rs.getBoolean("is_attended")));
+    }
+
+    /**
+     * 이수 기록 batch upsert ((session_id, application_id) 순으로 정렬된 목록 기준, 동시 upsert 간 잠금 순서 고정)
+     * - 호출 트랜잭션 안에서 회차 행을 FOR SHARE 로 먼저 잠금: 관리자 동영상 교체/취소(회차 FOR UPDATE 후 이수 기록 삭제)와 직렬화
+     * - 신청이 취소됐거나, 회차가 취소됐거나, 동영상이 write.videoKey 와 다르면 저장하지 않음
+     * - 같은 동영상 기준 구간은 기존 값과 OR 병합, 시청 초는 병합 결과 비트 수
+     * - 이미 출석한 기록의 출석 시각/획득 포인트/시간은 유지
+     *
+     * @return 저장하지 않은 (조건 불일치) 항목
+     */
+    public List<CompletionWrite> batchUpsertCompletions(List<CompletionWrite> writes, LocalDateTime now) {
+        lockSessions(writes.stream().map(CompletionWrite::sessionId).distinct().sorted().toList());
+
+        Timestamp updatedAt = Timestamp.valueOf(now);
+        int[][] counts = jdbcTemplate.batchUpdate("""
+                INSERT INTO extra_curricular_session_completion AS c (
+                  session_id, application_id, is_attended, attended_at,
+                  earned_point, earned_hours, watched_seconds, watch_coverage, watch_video_key,
+                  created_at, created_by, updated_at, updated_by
+                )
+                SELECT s.session_id, a.application_id, ?, ?, ?, ?, ?, CAST(? AS BIT VARYING), v.storage_key,
+                       ?, ?, ?, ?
+                FROM extra_curricular_application a
+                JOIN extra_curricular_session s ON s.extra_offering_id = a.extra_offering_id
+                JOIN extra_curricular_session_video v ON v.session_id = s.session_id
+                WHERE a.application_id = ?
+                  AND a.apply_status = 'APPLIED'
+                  AND s.session_id = ?
+                  AND s.status <> 'CANCELED'
+                  AND v.storage_key IS NOT DISTINCT FROM ?
+                ON CONFLICT (session_id, application_id)
+                DO UPDATE SET
+                  is_attended = c.is_attended OR EXCLUDED.is_attended,
+                  attended_at = COALESCE(c.attended_at, EXCLUDED.attended_at),
+                  earned_point = CASE WHEN c.is_attended THEN c.earned_point ELSE EXCLUDED.earned_point END,
+                  earned_hours = CASE WHEN c.is_attended THEN c.earned_hours ELSE EXCLUDED.earned_hours END,
+                  watched_seconds = CASE
+                    WHEN c.watch_video_key IS NOT DISTINCT FROM EXCLUDED.watch_video_key
+                     AND length(c.watch_coverage) = length(EXCLUDED.watch_coverage)
+                    THEN bit_count(c.watch_coverage | EXCLUDED.watch_coverage)
+                    ELSE GREATEST(c.watched_seconds, EXCLUDED.watched_seconds)
+                  END,
+                  watch_coverage = CASE
+                    WHEN c.watch_video_key IS NOT DISTINCT FROM EXCLUDED.watch_video_key
+                     AND length(c.watch_coverage) = length(EXCLUDED.watch_coverage)
+                    THEN c.watch_coverage | EXCLUDED.watch_coverage
+                    ELSE EXCLUDED.watch_coverage
+                  END,
+                  watch_video_key = EXCLUDED.watch_video_key,
+                  updated_at = EXCLUDED.updated_at,
+                  updated_by = EXCLUDED.updated_by
+                """, writes, writes.size(), (PreparedStatement ps, CompletionWrite write) -> {
+            ps.setBoolean(1, write.attended());
+            if (write.attendedAt() != null) {
+                ps.setTimestamp(2, Timestamp.valueOf(write.attendedAt()));
+            } else {
+                ps.setNull(2, Types.TIMESTAMP);
+            }
+            ps.setLong(3, write.earnedPoint());
+            ps.setLong(4, write.earnedHours());
+            ps.setInt(5, write.watchedSeconds());
+            ps.setString(6, write.coverage());
+            ps.setTimestamp(7, updatedAt);
+            ps.setLong(8, write.actorAccountId());
+            ps.setTimestamp(9, updatedAt);
+            ps.setLong(10, write.actorAccountId());
+            ps.setLong(11, write.applicationId());
+            ps.setLong(12, write.sessionId());
+            ps.setString(13, write.videoKey());
+        });
+
+        // batchUpdate 는 batch 크기(= 전체) 단위 1묶음, 0 이면 조건 불일치로 저장 안 됨
+        List<CompletionWrite> skipped = new ArrayList<>();
+        int index = 0;
+        for (int[] batch : counts) {
+            for (int count : batch) {
+                if (count == 0) {
+                    skipped.add(writes.get(index));
+                }
+                index++;
+            }
+        }
+        return skipped;
+    }
+
+    private void lockSessions(List<Long> sessionIds) {
+        jdbcTemplate.query(con -> {
+            PreparedStatement ps = con.prepareStatement("""
+                    SELECT s.session_id
+                    FROM extra_curricular_session s
+                    WHERE s.session_id = ANY(CAST(? AS BIGINT[]))
+                    ORDER BY s.session_id
+                    FOR SHARE
+                    """);
+            ps.setArray(1, con.createArrayOf("bigint", sessionIds.toArray()));
+            return ps;
+        }, (rs, rowNum) -> rs.getLong("session_id"));
+    }
+}
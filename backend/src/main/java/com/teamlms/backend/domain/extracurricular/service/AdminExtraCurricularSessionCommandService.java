@@ -1,7 +1,9 @@
 package com.teamlms.backend.domain.extracurricular.service;
 
 import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 
 import org.springframework.stereotype.Service;
@@ -36,6 +38,7 @@ public class AdminExtraCurricularSessionCommandService {
     private final ExtraCurricularSessionCompletionRepository completionRepository;
     private final ExtraCurricularApplicationRepository applicationRepository;
     private final AlarmCommandService alarmCommandService;
+    private final ExtraSessionWatchProgressService watchProgressService;
 
     @Transactional
     public void create(Long offeringId, ExtraCurricularSessionCreateRequest req) {
@@ -115,7 +118,8 @@ public class AdminExtraCurricularSessionCommandService {
             throw new BusinessException(ErrorCode.EXTRA_CURRICULAR_OFFERING_NOT_EDITABLE);
         }
 
-        ExtraCurricularSession session = sessionRepository.findBySessionIdAndExtraOfferingId(sessionId, extraOfferingId)
+        // 회차 행 잠금: 이수 기록 삭제 전후로 시청 진행 저장이 끼어들지 않게 함
+        ExtraCurricularSession session = sessionRepository.findBySessionIdAndExtraOfferingIdForUpdate(sessionId, extraOfferingId)
             .orElseThrow(() -> new BusinessException(ErrorCode.EXTRA_SESSION_NOT_FOUND));
 
         if (session.getStatus() != ExtraSessionStatus.OPEN) {
@@ -170,6 +174,9 @@ public class AdminExtraCurricularSessionCommandService {
             completionRepository.deleteAllBySessionId(sessionId);
             notifySessionVideoUploaded(offering, session);
         }
+
+        // 시청 진행 캐시 갱신 (동영상이 바뀌면 시청 구간도 초기화)
+        watchProgressService.onSessionChanged(sessionId, videoChanged);
     }
 
     @Transactional
@@ -182,7 +189,8 @@ public class AdminExtraCurricularSessionCommandService {
             throw new BusinessException(ErrorCode.EXTRA_CURRICULAR_OFFERING_STATUS_LOCKED);
         }
 
-        ExtraCurricularSession session = sessionRepository.findBySessionIdAndExtraOfferingId(sessionId, offeringId)
+        // 회차 행 잠금: 이수 기록 삭제 전후로 시청 진행 저장이 끼어들지 않게 함
+        ExtraCurricularSession session = sessionRepository.findBySessionIdAndExtraOfferingIdForUpdate(sessionId, offeringId)
             .orElseThrow(() -> new BusinessException(ErrorCode.EXTRA_SESSION_NOT_FOUND));
 
         ExtraSessionStatus current = session.getStatus();
@@ -200,6 +208,8 @@ public class AdminExtraCurricularSessionCommandService {
         if (targetStatus == ExtraSessionStatus.CANCELED) {
             completionRepository.deleteAllBySessionId(sessionId);
         }
+
+        watchProgressService.onSessionChanged(sessionId, targetStatus == ExtraSessionStatus.CANCELED);
     }
 
     private void notifySessionCreated(ExtraCurricularOffering offering, ExtraCurricularSession session) {
@@ -239,22 +249,23 @@ public class AdminExtraCurricularSessionCommandService {
         }
         String linkUrl = "/extra-curricular/offerings/" + offering.getExtraOfferingId();
 
+        // 신청자 전원 같은 문구 -> INSERT 1건
+        Map<Long, Object[]> messageArgsByStudent = new LinkedHashMap<>();
         for (Long studentAccountId : studentAccountIds) {
-            if (studentAccountId == null) {
-                continue;
+            if (studentAccountId != null) {
+                messageArgsByStudent.put(studentAccountId, messageArgs);
             }
-
-            alarmCommandService.createAlarmI18n(
-                    studentAccountId,
-                    AlarmType.EXTRA_SESSION_CREATED,
-                    titleKey,
-                    messageKey,
-                    messageArgs,
-                    linkUrl,
-                    null,
-                    null
-            );
         }
+
+        alarmCommandService.createAlarmsI18n(
+                AlarmType.EXTRA_SESSION_CREATED,
+                titleKey,
+                messageKey,
+                messageArgsByStudent,
+                linkUrl,
+                null,
+                null
+        );
     }
 
     private void notifySessionVideoUploaded(ExtraCurricularOffering offering, ExtraCurricularSession session) {
@@ -294,22 +305,23 @@ public class AdminExtraCurricularSessionCommandService {
         }
         String linkUrl = "/extra-curricular/offerings/" + offering.getExtraOfferingId();
 
+        // 신청자 전원 같은 문구 -> INSERT 1건
+        Map<Long, Object[]> messageArgsByStudent = new LinkedHashMap<>();
         for (Long studentAccountId : studentAccountIds) {
-            if (studentAccountId == null) {
-                continue;
+            if (studentAccountId != null) {
+                messageArgsByStudent.put(studentAccountId, messageArgs);
             }
-
-            alarmCommandService.createAlarmI18n(
-                    studentAccountId,
-                    AlarmType.EXTRA_SESSION_VIDEO_UPLOADED,
-                    titleKey,
-                    messageKey,
-                    messageArgs,
-                    linkUrl,
-                    null,
-                    null
-            );
         }
+
+        alarmCommandService.createAlarmsI18n(
+                AlarmType.EXTRA_SESSION_VIDEO_UPLOADED,
+                titleKey,
+                messageKey,
+                messageArgsByStudent,
+                linkUrl,
+                null,
+                null
+        );
     }
 
     private String normalizeName(String value) {
@@ -1,7 +1,9 @@
 package com.teamlms.backend.domain.extracurricular.service;
 
 import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -13,17 +15,14 @@ import com.teamlms.backend.domain.extracurricular.api.dto.ExtraCurricularOfferin
 import com.teamlms.backend.domain.extracurricular.api.dto.ExtraCurricularOfferingPatchRequest;
 import com.teamlms.backend.domain.extracurricular.api.dto.ExtraOfferingCompetencyMappingBulkUpdateRequest;
 import com.teamlms.backend.domain.extracurricular.api.dto.ExtraOfferingCompetencyMappingPatchRequest;
-import com.teamlms.backend.domain.extracurricular.entity.ExtraCurricularApplication;
 import com.teamlms.backend.domain.extracurricular.entity.ExtraCurricularOffering;
 import com.teamlms.backend.domain.extracurricular.entity.ExtraCurricularOfferingCompetencyMap;
 import com.teamlms.backend.domain.extracurricular.entity.ExtraCurricularOfferingCompetencyMapId;
-import com.teamlms.backend.domain.extracurricular.enums.CompletionStatus;
-import com.teamlms.backend.domain.extracurricular.enums.ExtraApplicationApplyStatus;
 import com.teamlms.backend.domain.extracurricular.enums.ExtraOfferingStatus;
-import com.teamlms.backend.domain.extracurricular.repository.ExtraCurricularApplicationRepository;
+import com.teamlms.backend.domain.extracurricular.repository.ExtraCompletionEvaluationRepository;
+import com.teamlms.backend.domain.extracurricular.repository.ExtraCompletionEvaluationRepository.EvaluatedApplication;
 import com.teamlms.backend.domain.extracurricular.repository.ExtraCurricularOfferingCompetencyMapRepository;
 import com.teamlms.backend.domain.extracurricular.repository.ExtraCurricularOfferingRepository;
-import com.teamlms.backend.domain.extracurricular.repository.ExtraCurricularSessionCompletionRepository;
 import com.teamlms.backend.domain.extracurricular.repository.ExtraCurricularSessionRepository;
 import com.teamlms.backend.global.exception.base.BusinessException;
 import com.teamlms.backend.global.exception.code.ErrorCode;
@@ -36,8 +35,7 @@ public class ExtraCurricularOfferingCommandService {
 
     private final ExtraCurricularOfferingRepository offeringRepository;
     private final ExtraCurricularSessionRepository sessionRepository;
-    private final ExtraCurricularSessionCompletionRepository completionRepository;
-    private final ExtraCurricularApplicationRepository applicationRepository;
+    private final ExtraCompletionEvaluationRepository completionEvaluationRepository;
 
     private final CompetencyRepository competencyRepository;
     private final ExtraCurricularOfferingCompetencyMapRepository competencyMapRepository;
@@ -214,6 +212,7 @@ public class ExtraCurricularOfferingCommandService {
     // COMPLETED 확정
     // - apply_status=APPLIED 대상만
     // - CANCELED 제외 모든 세션 출석 완료 => PASSED
+    // - 출석 집계 + 판정 UPDATE 1건 + 결과별 알림 INSERT 1건 (신청 인원과 무관)
     // =====================
     private void confirmExtraCompletions(ExtraCurricularOffering offering) {
 
@@ -223,77 +222,54 @@ public class ExtraCurricularOfferingCommandService {
             throw new BusinessException(ErrorCode.EXTRA_CURRICULAR_OFFERING_NOT_COMPLETABLE, "no valid session");
         }
 
-        List<ExtraCurricularApplication> applications = applicationRepository.findAllByExtraOfferingIdAndApplyStatus(
+        List<EvaluatedApplication> evaluated = completionEvaluationRepository.evaluate(
                 offering.getExtraOfferingId(),
-                ExtraApplicationApplyStatus.APPLIED
+                LocalDateTime.now()
         );
 
-        for (ExtraCurricularApplication application : applications) {
-            Long applicationId = application.getApplicationId();
-
-            long attendedCount = completionRepository.countAttendedByApplicationIdAndSessionIds(
-                    applicationId, validSessionIds
-            );
-
-            boolean passed = (attendedCount == validSessionIds.size());
-
-            if (passed) {
-                applicationRepository.updateCompletionStatusAndPassedAt(
-                        applicationId,
-                        CompletionStatus.PASSED,
-                        LocalDateTime.now()
-                );
-            } else {
-                applicationRepository.updateCompletionStatusAndPassedAt(
-                        applicationId,
-                        CompletionStatus.FAILED,
-                        null
-                );
-            }
-
-            notifyExtraCompletionResult(application.getStudentAccountId(), offering.getExtraOfferingName(), passed);
-        }
+        notifyExtraCompletionResults(evaluated, offering.getExtraOfferingName());
     }
 
-    private void notifyExtraCompletionResult(Long studentAccountId, String offeringName, boolean passed) {
-        if (studentAccountId == null) {
+    private void notifyExtraCompletionResults(List<EvaluatedApplication> evaluated, String offeringName) {
+        if (evaluated.isEmpty()) {
             return;
         }
 
         String safeName = normalizeName(offeringName);
         boolean hasName = safeName != null && !safeName.isBlank();
+        Object[] messageArgs = hasName ? new Object[] { safeName } : null;
 
-        String titleKey = "extra.curricular.alarm.completed.title";
-        String messageKey;
-        Object[] messageArgs = null;
-
-        if (passed) {
-            if (hasName) {
-                messageKey = "extra.curricular.alarm.completed.passed";
-                messageArgs = new Object[] { safeName };
-            } else {
-                messageKey = "extra.curricular.alarm.completed.passed.default";
-            }
-        } else {
-            if (hasName) {
-                messageKey = "extra.curricular.alarm.completed.failed";
-                messageArgs = new Object[] { safeName };
-            } else {
-                messageKey = "extra.curricular.alarm.completed.failed.default";
-            }
+        Map<Long, Object[]> passed = new LinkedHashMap<>();
+        Map<Long, Object[]> failed = new LinkedHashMap<>();
+        for (EvaluatedApplication e : evaluated) {
+            (e.passed() ? passed : failed).put(e.studentAccountId(), messageArgs);
         }
+
+        String titleKey = "extra.curricular.alarm.completed.title";
         String linkUrl = "/extra-curricular/grade-reports";
 
-        alarmCommandService.createAlarmI18n(
-                studentAccountId,
-                AlarmType.EXTRA_OFFERING_COMPLETED,
-                titleKey,
-                messageKey,
-                messageArgs,
-                linkUrl,
-                null,
-                null
-        );
+        if (!passed.isEmpty()) {
+            alarmCommandService.createAlarmsI18n(
+                    AlarmType.EXTRA_OFFERING_COMPLETED,
+                    titleKey,
+                    hasName ? "extra.curricular.alarm.completed.passed" : "extra.curricular.alarm.completed.passed.default",
+                    passed,
+                    linkUrl,
+                    null,
+                    null
+            );
+        }
+        if (!failed.isEmpty()) {
+            alarmCommandService.createAlarmsI18n(
+                    AlarmType.EXTRA_OFFERING_COMPLETED,
+                    titleKey,
+                    hasName ? "extra.curricular.alarm.completed.failed" : "extra.curricular.alarm.completed.failed.default",
+                    failed,
+                    linkUrl,
+                    null,
+                    null
+            );
+        }
     }
 
     private String normalizeName(String value) {
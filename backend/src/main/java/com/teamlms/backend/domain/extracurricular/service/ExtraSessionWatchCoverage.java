@@ -0,0 +1,95 @@
+package com.teamlms.backend.domain.extracurricular.service;
+
+/**
+ * 회차 동영상 시청 구간 비트맵 (1초 = 1비트)
+ * - 같은 구간을 여러 번 봐도 한 번만 셈
+ * - 저장 형식: 길이 = 동영상 길이인 BIT VARYING, 왼쪽에서 i 번째 비트 = 초 i (watch_coverage 컬럼, DB 에서 | 로 병합)
+ * - 스레드 안전하지 않음 (시청자 단위 잠금 안에서만 사용)
+ */
+final class ExtraSessionWatchCoverage {
+
+    private final long[] words;
+    private final int durationSeconds;
+    private int covered;
+
+    ExtraSessionWatchCoverage(int durationSeconds) {
+        this.durationSeconds = durationSeconds;
+        this.words = new long[(durationSeconds + 63) >>> 6];
+    }
+
+    /**
+     * 저장된 비트 문자열 복원 (동영상 길이를 넘는 비트는 버림)
+     */
+    static ExtraSessionWatchCoverage fromBits(String stored, int durationSeconds) {
+        ExtraSessionWatchCoverage coverage = new ExtraSessionWatchCoverage(durationSeconds);
+        coverage.or(stored);
+        return coverage;
+    }
+
+    /**
+     * 저장된 비트 문자열을 OR 병합 (다른 인스턴스가 저장한 구간 반영)
+     *
+     * @return 새로 채운 초 수
+     */
+    int or(String stored) {
+        if (stored == null) {
+            return 0;
+        }
+        int end = Math.min(stored.length(), durationSeconds);
+        int added = 0;
+        for (int second = 0; second < end; second++) {
+            if (stored.charAt(second) != '1') {
+                continue;
+            }
+            long mask = 1L << second;
+            if ((words[second >>> 6] & mask) == 0) {
+                words[second >>> 6] |= mask;
+                added++;
+            }
+        }
+        covered += added;
+        return added;
+    }
+
+    String toBits() {
+        StringBuilder out = new StringBuilder(durationSeconds);
+        for (int second = 0; second < durationSeconds; second++) {
+            out.append((words[second >>> 6] & (1L << second)) != 0 ? '1' : '0');
+        }
+        return out.toString();
+    }
+
+    /**
+     * [from, to) 초 구간 추가, 새로 채운 초가 limit 에 닿으면 멈춤
+     *
+     * @return 새로 채운 초 수
+     */
+    int add(int from, int to, int limit) {
+        int end = Math.min(to, durationSeconds);
+        int added = 0;
+        int second = Math.max(from, 0);
+        while (second < end && added < limit) {
+            int index = second >>> 6;
+            if (words[index] == -1L) {
+                second = (index + 1) << 6; // 이미 다 본 64초 묶음은 건너뜀
+                continue;
+            }
+            long mask = 1L << second;
+            if ((words[index] & mask) == 0) {
+                words[index] |= mask;
+                added++;
+            }
+            second++;
+        }
+        covered += added;
+        return added;
+    }
+
+    int covered() {
+        return covered;
+    }
+
+    int durationSeconds() {
+        return durationSeconds;
+    }
+}
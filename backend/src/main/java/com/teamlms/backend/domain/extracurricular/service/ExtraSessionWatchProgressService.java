@@ -0,0 +1,510 @@
+package com.teamlms.backend.domain.extracurricular.service;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.teamlms.backend.domain.competency.event.StudentCompetencyChangedEvent;
+import com.teamlms.backend.domain.extracurricular.api.dto.ExtraSessionWatchInfo;
+import com.teamlms.backend.domain.extracurricular.api.dto.ExtraSessionWatchProgressResponse;
+import com.teamlms.backend.domain.extracurricular.repository.ExtraSessionWatchRepository;
+import com.teamlms.backend.domain.extracurricular.repository.ExtraSessionWatchRepository.CompletionWrite;
+import com.teamlms.backend.domain.extracurricular.repository.ExtraSessionWatchRepository.StoredCoverage;
+import com.teamlms.backend.global.exception.base.BusinessException;
+import com.teamlms.backend.global.exception.base.RetryableBusinessException;
+import com.teamlms.backend.global.exception.code.ErrorCode;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 회차 동영상 시청 진행 (heartbeat)
+ * - 요청 스레드: 시청 구간을 (회차, 학생) 별 메모리 비트맵에 병합만 함 (회차 정보는 ExtraSessionWatchTable, DB 조회는 시청자 첫 heartbeat 1회)
+ * - 새로 인정하는 초는 재생 속도 상한 기준으로 적립한 만큼만 (구간을 한꺼번에 보내 건너뛰기 방지)
+ * - 시청 구간이 required-coverage-percent 에 닿으면 출석 확정
+ * - flush 스레드: 변경된 시청자만 JDBC batch upsert, 출석 확정분은 같은 트랜잭션에서 역량 재계산 이벤트 발행
+ * - 저장은 DB 에서 기존 구간과 OR 병합, 저장 후 병합 결과를 다시 읽어 다른 인스턴스가 받은 구간도 반영
+ * - 시청자는 동영상(videoKey) 기준으로 구분, 동영상이 바뀌었거나 회차가 취소돼 저장이 거절되면 시청자를 버리고 다시 적재
+ * - 오래 heartbeat 가 없는 시청자는 메모리에서 제거, 종료 시 남은 변경분 저장
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ExtraSessionWatchProgressService {
+
+    private static final long RETRY_AFTER_SECONDS = 30;
+    private static final int FLUSH_BATCH_SIZE = 500;
+
+    private final ExtraSessionWatchTable watchTable;
+    private final ExtraSessionWatchRepository watchRepository;
+    private final PlatformTransactionManager transactionManager;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Value("${extra.watch.required-coverage-percent:95}")
+    private int requiredCoveragePercent;
+
+    @Value("${extra.watch.max-playback-rate:2.0}")
+    private double maxPlaybackRate;
+
+    @Value("${extra.watch.burst-seconds:60}")
+    private int burstSeconds;
+
+    @Value("${extra.watch.max-viewers:20000}")
+    private int maxViewers;
+
+    @Value("${extra.watch.flush-interval-ms:5000}")
+    private long flushIntervalMs;
+
+    @Value("${extra.watch.idle-evict-minutes:30}")
+    private long idleEvictMinutes;
+
+    // false 면 heartbeat 를 보내지 않는 이전 클라이언트의 보고 시청 초(duration - 1 이상)도 출석으로 인정
+    @Value("${extra.watch.enforce-coverage:false}")
+    private boolean enforceCoverage;
+
+    private final Map<ViewerKey, Viewer> viewers = new ConcurrentHashMap<>();
+    private ScheduledExecutorService flusher;
+
+    private final LongAdder secondsThrottled = new LongAdder();
+    private final LongAdder completionsWritten = new LongAdder();
+    private final LongAdder writeFailures = new LongAdder();
+
+    private record ViewerKey(Long sessionId, Long studentAccountId) {
+    }
+
+    private record CompletionKey(Long sessionId, Long applicationId) {
+    }
+
+    /**
+     * 시청자 단위 상태 (필드는 인스턴스 잠금 안에서만 읽고 씀)
+     */
+    private static final class Viewer {
+        private final Long applicationId;
+        private final String videoKey;      // 구간을 쌓는 동영상 (저장 시 현재 동영상과 비교)
+        private final ExtraSessionWatchCoverage coverage;
+        private double credit;              // 새로 인정할 수 있는 초
+        private long lastHeartbeatMillis;
+        private boolean attended;
+        private boolean attendedPersisted;
+        private LocalDateTime attendedAt;
+        private boolean dirty;
+        private boolean removed;
+
+        private Viewer(Long applicationId, String videoKey, ExtraSessionWatchCoverage coverage, boolean attended,
+                double credit, long nowMillis) {
+            this.applicationId = applicationId;
+            this.videoKey = videoKey;
+            this.coverage = coverage;
+            this.attended = attended;
+            this.attendedPersisted = attended;
+            this.credit = credit;
+            this.lastHeartbeatMillis = nowMillis;
+        }
+
+        // 지난 heartbeat 이후 경과 시간 x 재생 속도 상한 만큼 적립 (burst 까지)
+        private void refill(long nowMillis, double rate, int burst) {
+            long elapsed = Math.max(nowMillis - lastHeartbeatMillis, 0);
+            credit = Math.min(burst, credit + elapsed / 1000.0 * rate);
+            lastHeartbeatMillis = nowMillis;
+        }
+    }
+
+    private record Pending(ViewerKey key, Viewer viewer, CompletionWrite write, boolean newlyAttended,
+            Long semesterId) {
+    }
+
+    @PostConstruct
+    void start() {
+        ScheduledThreadPoolExecutor executor = new ScheduledThreadPoolExecutor(1, r -> {
+            Thread t = new Thread(r, "extra-watch-flusher");
+            t.setDaemon(true);
+            return t;
+        });
+        executor.setExecuteExistingDelayedTasksAfterShutdownPolicy(false);
+        flusher = executor;
+        flusher.scheduleWithFixedDelay(this::flushSafely, flushIntervalMs, flushIntervalMs, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        flusher.shutdown();
+        try {
+            if (!flusher.awaitTermination(5, TimeUnit.SECONDS)) {
+                flusher.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            flusher.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+        flushSafely();
+        log.info("extra watch progress drained: viewers={}, written={}, failures={}, throttledSeconds={}",
+                viewers.size(), completionsWritten.sum(), writeFailures.sum(), secondsThrottled.sum());
+    }
+
+    /**
+     * 시청 구간 반영 (DB 쓰기 없음)
+     *
+     * @param segments [시작초, 종료초, ...] (종료초 미포함)
+     */
+    public ExtraSessionWatchProgressResponse heartbeat(Long studentAccountId, Long extraOfferingId, Long sessionId,
+            int[] segments) {
+        if (segments.length % 2 != 0) {
+            throw new BusinessException(ErrorCode.VALIDATION_ERROR);
+        }
+        // 락을 잡기 전에 flush/discard/회차 변경으로 제거된 시청자면 다시 조회 (제거된 시청자에 쌓은 구간은 저장되지 않음)
+        while (true) {
+            ExtraSessionWatchInfo info = watchTable.get(extraOfferingId, sessionId);
+            Viewer viewer = viewer(studentAccountId, extraOfferingId, info);
+            int required = requiredSeconds(info.durationSeconds());
+
+            synchronized (viewer) {
+                if (viewer.removed) {
+                    continue;
+                }
+                viewer.refill(System.currentTimeMillis(), maxPlaybackRate, burstSeconds);
+                for (int i = 0; i < segments.length; i += 2) {
+                    int requested = Math.max(segments[i + 1] - segments[i], 0);
+                    int added = viewer.coverage.add(segments[i], segments[i + 1], (int) viewer.credit);
+                    viewer.credit -= added;
+                    if (added > 0) {
+                        viewer.dirty = true;
+                    }
+                    if (added < requested && viewer.credit < 1) {
+                        secondsThrottled.add(requested - added);
+                    }
+                }
+                if (!viewer.attended && viewer.coverage.covered() >= required) {
+                    viewer.attended = true;
+                    viewer.attendedAt = LocalDateTime.now();
+                    viewer.dirty = true;
+                }
+                return new ExtraSessionWatchProgressResponse(
+                        viewer.coverage.covered(), info.durationSeconds(), required, viewer.attended);
+            }
+        }
+    }
+
+    /**
+     * 출석 확정 요청 (서버 시청 구간 기준, 호출 트랜잭션 안에서 바로 저장)
+     *
+     * @param reportedWatchedSeconds 클라이언트 보고 시청 초 (enforce-coverage=false 일 때만 사용, 없으면 null)
+     */
+    public void completeAttendance(Long studentAccountId, Long extraOfferingId, Long sessionId,
+            Integer reportedWatchedSeconds) {
+        ExtraSessionWatchInfo info = watchTable.get(extraOfferingId, sessionId);
+        Viewer viewer = viewer(studentAccountId, extraOfferingId, info);
+
+        // 다른 인스턴스가 받은 구간까지 합쳐서 판단
+        absorbStored(List.of(new ViewerKey(sessionId, studentAccountId)), List.of(viewer));
+
+        CompletionWrite write;
+        synchronized (viewer) {
+            if (viewer.attendedPersisted) {
+                return; // 이미 출석
+            }
+            if (!viewer.attended) {
+                if (viewer.coverage.covered() < requiredSeconds(info.durationSeconds())
+                        && !legacyWatched(reportedWatchedSeconds, info.durationSeconds())) {
+                    throw new BusinessException(
+                            ErrorCode.EXTRA_SESSION_WATCH_NOT_COMPLETED,
+                            viewer.coverage.covered(), info.durationSeconds());
+                }
+                viewer.attended = true;
+                viewer.attendedAt = LocalDateTime.now();
+            }
+            write = toWrite(info, studentAccountId, viewer);
+            viewer.dirty = false;
+        }
+
+        List<CompletionWrite> skipped;
+        try {
+            skipped = watchRepository.batchUpsertCompletions(List.of(write), LocalDateTime.now());
+        } catch (RuntimeException e) {
+            synchronized (viewer) {
+                viewer.dirty = true;
+            }
+            throw e;
+        }
+        if (!skipped.isEmpty()) {
+            // 동영상 교체/회차 취소/신청 취소가 먼저 커밋됨
+            discard(new ViewerKey(sessionId, studentAccountId), viewer);
+            throw new BusinessException(ErrorCode.EXTRA_SESSION_NOT_FOUND);
+        }
+        synchronized (viewer) {
+            viewer.attendedPersisted = true;
+        }
+        publishCompetencyChanged(info.semesterId(), studentAccountId);
+    }
+
+    /**
+     * 회차 보상/동영상/상태 변경 커밋 후 회차 정보 캐시 무효화
+     *
+     * @param resetProgress true 면 해당 회차 시청 구간도 버림 (동영상 교체/취소로 이수 기록 삭제 시)
+     */
+    public void onSessionChanged(Long sessionId, boolean resetProgress) {
+        Runnable apply = () -> {
+            watchTable.invalidate(sessionId);
+            if (resetProgress) {
+                viewers.entrySet().removeIf(entry -> {
+                    if (!entry.getKey().sessionId().equals(sessionId)) {
+                        return false;
+                    }
+                    Viewer viewer = entry.getValue();
+                    synchronized (viewer) {
+                        viewer.removed = true;
+                    }
+                    return true;
+                });
+            }
+        };
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    apply.run();
+                }
+            });
+        } else {
+            apply.run();
+        }
+    }
+
+    /**
+     * 변경된 시청자 저장 + 오래된 시청자 제거
+     */
+    void flush() {
+        long now = System.currentTimeMillis();
+        long idleMillis = TimeUnit.MINUTES.toMillis(idleEvictMinutes);
+
+        List<Pending> pending = new ArrayList<>();
+        for (Map.Entry<ViewerKey, Viewer> entry : viewers.entrySet()) {
+            ViewerKey key = entry.getKey();
+            Viewer viewer = entry.getValue();
+            ExtraSessionWatchInfo info = watchTable.find(key.sessionId());
+            synchronized (viewer) {
+                if (viewer.removed) {
+                    continue;
+                }
+                if (info == null) {
+                    viewer.removed = true; // 회차 삭제
+                    viewers.remove(key, viewer);
+                } else if (viewer.dirty) {
+                    pending.add(new Pending(key, viewer, toWrite(info, key.studentAccountId(), viewer),
+                            viewer.attended && !viewer.attendedPersisted, info.semesterId()));
+                    viewer.dirty = false;
+                } else if (now - viewer.lastHeartbeatMillis >= idleMillis) {
+                    viewer.removed = true;
+                    viewers.remove(key, viewer);
+                }
+            }
+        }
+        if (pending.isEmpty()) {
+            return;
+        }
+
+        pending.sort(Comparator.comparing((Pending p) -> p.write().sessionId())
+                .thenComparing(p -> p.write().applicationId()));
+        for (int from = 0; from < pending.size(); from += FLUSH_BATCH_SIZE) {
+            write(pending.subList(from, Math.min(from + FLUSH_BATCH_SIZE, pending.size())));
+        }
+    }
+
+    private void write(List<Pending> batch) {
+        TransactionTemplate tx = new TransactionTemplate(transactionManager);
+        List<CompletionWrite> skipped;
+        try {
+            skipped = tx.execute(status -> {
+                List<CompletionWrite> rejected = watchRepository.batchUpsertCompletions(
+                        batch.stream().map(Pending::write).toList(), LocalDateTime.now());
+                for (Pending p : batch) {
+                    if (p.newlyAttended() && !rejected.contains(p.write())) {
+                        publishCompetencyChanged(p.semesterId(), p.key().studentAccountId());
+                    }
+                }
+                return rejected;
+            });
+        } catch (RuntimeException e) {
+            writeFailures.add(batch.size());
+            for (Pending p : batch) {
+                synchronized (p.viewer()) {
+                    p.viewer().dirty = true; // 다음 flush 에서 다시 저장
+                }
+            }
+            log.warn("extra session completion batch upsert failed: size={}", batch.size(), e);
+            return;
+        }
+
+        completionsWritten.add(batch.size() - skipped.size());
+        List<ViewerKey> keys = new ArrayList<>(batch.size());
+        List<Viewer> saved = new ArrayList<>(batch.size());
+        for (Pending p : batch) {
+            if (skipped.contains(p.write())) {
+                // 이 시청자가 쌓던 동영상/회차가 더 이상 유효하지 않음 → 다음 heartbeat 에 다시 적재
+                watchTable.invalidate(p.key().sessionId());
+                discard(p.key(), p.viewer());
+                continue;
+            }
+            if (p.newlyAttended()) {
+                synchronized (p.viewer()) {
+                    p.viewer().attendedPersisted = true;
+                }
+            }
+            keys.add(p.key());
+            saved.add(p.viewer());
+        }
+        try {
+            absorbStored(keys, saved);
+        } catch (RuntimeException e) {
+            log.warn("extra session coverage reload failed: size={}", saved.size(), e);
+        }
+    }
+
+    /**
+     * DB 에 병합된 시청 구간/출석을 메모리 시청자에 반영
+     * - 다른 인스턴스가 저장한 구간까지 합쳐 기준에 닿으면 출석 확정 (다음 flush 에서 저장 + 이벤트)
+     * - 다른 인스턴스가 이미 출석을 저장했으면 저장된 것으로 표시
+     */
+    private void absorbStored(List<ViewerKey> keys, List<Viewer> targets) {
+        if (targets.isEmpty()) {
+            return;
+        }
+        Map<CompletionKey, Viewer> byCompletion = new HashMap<>(targets.size() * 2);
+        List<Long> sessionIds = new ArrayList<>(targets.size());
+        List<Long> applicationIds = new ArrayList<>(targets.size());
+        for (int i = 0; i < targets.size(); i++) {
+            Long sessionId = keys.get(i).sessionId();
+            Long applicationId = targets.get(i).applicationId;
+            byCompletion.put(new CompletionKey(sessionId, applicationId), targets.get(i));
+            sessionIds.add(sessionId);
+            applicationIds.add(applicationId);
+        }
+
+        for (StoredCoverage stored : watchRepository.findCoverages(sessionIds, applicationIds)) {
+            Viewer viewer = byCompletion.get(new CompletionKey(stored.sessionId(), stored.applicationId()));
+            if (viewer == null) {
+                continue;
+            }
+            synchronized (viewer) {
+                if (viewer.removed || !Objects.equals(viewer.videoKey, stored.videoKey())) {
+                    continue;
+                }
+                viewer.coverage.or(stored.coverage());
+                if (stored.attended()) {
+                    viewer.attended = true;
+                    viewer.attendedPersisted = true;
+                } else if (!viewer.attended
+                        && viewer.coverage.covered() >= requiredSeconds(viewer.coverage.durationSeconds())) {
+                    viewer.attended = true;
+                    viewer.attendedAt = LocalDateTime.now();
+                    viewer.dirty = true;
+                }
+            }
+        }
+    }
+
+    private void discard(ViewerKey key, Viewer viewer) {
+        synchronized (viewer) {
+            viewer.removed = true;
+        }
+        viewers.remove(key, viewer);
+    }
+
+    private void flushSafely() {
+        try {
+            flush();
+        } catch (RuntimeException e) {
+            log.warn("extra watch progress flush failed", e);
+        }
+    }
+
+    // 메모리 시청자 (없거나 동영상이 바뀌었으면 DB 에서 적재)
+    private Viewer viewer(Long studentAccountId, Long extraOfferingId, ExtraSessionWatchInfo info) {
+        ViewerKey key = new ViewerKey(info.sessionId(), studentAccountId);
+        Viewer current = viewers.get(key);
+        if (current != null
+                && Objects.equals(current.videoKey, info.videoKey())
+                && current.coverage.durationSeconds() == info.durationSeconds()) {
+            return current;
+        }
+        if (current == null && viewers.size() >= maxViewers) {
+            throw new RetryableBusinessException(
+                    ErrorCode.EXTRA_SESSION_WATCH_CAPACITY_EXCEEDED, RETRY_AFTER_SECONDS, RETRY_AFTER_SECONDS);
+        }
+
+        ExtraSessionWatchRepository.ViewerState state = watchRepository
+                .findViewerState(extraOfferingId, info.sessionId(), studentAccountId)
+                .orElseThrow(() -> new BusinessException(ErrorCode.EXTRA_SESSION_NOT_FOUND));
+        // 다른 동영상 기준으로 저장된 구간은 버림
+        String storedCoverage = Objects.equals(state.videoKey(), info.videoKey()) ? state.coverage() : null;
+        Viewer loaded = new Viewer(
+                state.applicationId(),
+                info.videoKey(),
+                ExtraSessionWatchCoverage.fromBits(storedCoverage, info.durationSeconds()),
+                state.attended(),
+                burstSeconds,
+                System.currentTimeMillis());
+
+        Viewer result = viewers.compute(key, (k, existing) ->
+                existing == null || existing == current ? loaded : existing);
+        if (current != null && result != current) {
+            synchronized (current) {
+                current.removed = true;
+            }
+        }
+        return result;
+    }
+
+    // 이전 클라이언트 기준 (1초 허용)
+    private boolean legacyWatched(Integer reportedWatchedSeconds, int durationSeconds) {
+        return !enforceCoverage
+                && reportedWatchedSeconds != null
+                && reportedWatchedSeconds >= Math.max(durationSeconds - 1, 0);
+    }
+
+    private int requiredSeconds(int durationSeconds) {
+        return (int) Math.ceil(durationSeconds * requiredCoveragePercent / 100.0);
+    }
+
+    private static CompletionWrite toWrite(ExtraSessionWatchInfo info, Long studentAccountId, Viewer viewer) {
+        return new CompletionWrite(
+                info.sessionId(),
+                viewer.applicationId,
+                viewer.videoKey,
+                viewer.coverage.toBits(),
+                viewer.coverage.covered(),
+                viewer.attended,
+                viewer.attendedAt,
+                viewer.attended && info.rewardPoint() != null ? info.rewardPoint() : 0L,
+                viewer.attended && info.recognizedHours() != null ? info.recognizedHours() : 0L,
+                studentAccountId);
+    }
+
+    private void publishCompetencyChanged(Long semesterId, Long studentAccountId) {
+        if (semesterId == null) {
+            return;
+        }
+        eventPublisher.publishEvent(new StudentCompetencyChangedEvent(
+                semesterId,
+                studentAccountId,
+                StudentCompetencyChangedEvent.Cause.EXTRA_COMPLETION_RECORDED));
+    }
+}
@@ -0,0 +1,81 @@
+package com.teamlms.backend.domain.extracurricular.service;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.teamlms.backend.domain.extracurricular.api.dto.ExtraSessionWatchInfo;
+import com.teamlms.backend.domain.extracurricular.enums.ExtraSessionStatus;
+import com.teamlms.backend.domain.extracurricular.repository.ExtraCurricularSessionRepository;
+import com.teamlms.backend.global.exception.base.BusinessException;
+import com.teamlms.backend.global.exception.code.ErrorCode;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 시청 진행용 회차 정보 캐시 (회차 ID 기준)
+ * - heartbeat 요청마다 회차/동영상/운영을 조회하지 않도록 처음 조회 시 한 번만 적재
+ * - 회차 수정/상태 변경 커밋 후 무효화, ttl 이 지나면 다시 적재 (다른 인스턴스 변경 반영)
+ * - 적재 중 무효화되면 적재 결과는 그 요청에만 사용하고 보관하지 않음
+ */
+@Component
+@RequiredArgsConstructor
+public class ExtraSessionWatchTable {
+
+    private final ExtraCurricularSessionRepository sessionRepository;
+
+    @Value("${extra.watch.session-ttl-seconds:300}")
+    private long ttlSeconds;
+
+    private final Map<Long, Entry> sessions = new ConcurrentHashMap<>();
+    private final AtomicLong version = new AtomicLong();
+
+    private record Entry(ExtraSessionWatchInfo info, long loadedAtMillis) {
+    }
+
+    /**
+     * 시청 가능한 회차 (운영 불일치/취소/없음이면 EXTRA_SESSION_NOT_FOUND, 동영상이 없으면 EXTRA_SESSION_VIDEO_NOT_FOUND)
+     */
+    ExtraSessionWatchInfo get(Long extraOfferingId, Long sessionId) {
+        ExtraSessionWatchInfo info = find(sessionId);
+        if (info == null
+                || !info.extraOfferingId().equals(extraOfferingId)
+                || info.status() == ExtraSessionStatus.CANCELED) {
+            throw new BusinessException(ErrorCode.EXTRA_SESSION_NOT_FOUND);
+        }
+        if (info.durationSeconds() == null || info.durationSeconds() <= 0) {
+            throw new BusinessException(ErrorCode.EXTRA_SESSION_VIDEO_NOT_FOUND);
+        }
+        return info;
+    }
+
+    /**
+     * 회차 정보 (없으면 null)
+     */
+    ExtraSessionWatchInfo find(Long sessionId) {
+        long now = System.currentTimeMillis();
+        Entry entry = sessions.get(sessionId);
+        if (entry != null && now - entry.loadedAtMillis() < ttlSeconds * 1000) {
+            return entry.info();
+        }
+
+        long loadingVersion = version.get();
+        ExtraSessionWatchInfo info = sessionRepository.findWatchInfo(sessionId).orElse(null);
+        if (info == null) {
+            sessions.remove(sessionId);
+            return null;
+        }
+        if (version.get() == loadingVersion) {
+            sessions.put(sessionId, new Entry(info, now));
+        }
+        return info;
+    }
+
+    void invalidate(Long sessionId) {
+        version.incrementAndGet();
+        sessions.remove(sessionId);
+    }
+}
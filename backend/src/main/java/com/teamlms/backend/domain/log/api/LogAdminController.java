@@ -1,7 +1,9 @@
 package com.teamlms.backend.domain.log.api;
 
 import com.teamlms.backend.domain.log.api.dto.LogExportRequest;
+import com.teamlms.backend.domain.log.api.dto.LogIngestionStatsResponse;
 import com.teamlms.backend.domain.log.service.ExcelDownloadService;
+import com.teamlms.backend.domain.log.service.LogIngestionPipeline;
 import com.teamlms.backend.global.api.ApiResponse;
 import com.teamlms.backend.global.security.principal.AuthUser;
 import jakarta.validation.Valid;
@@ -10,6 +12,7 @@ import org.springframework.http.*;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
@@ -25,6 +28,7 @@ import java.time.format.DateTimeFormatter;
 public class LogAdminController {
 
     private final ExcelDownloadService excelDownloadService;
+    private final LogIngestionPipeline logIngestionPipeline;
 
     @PostMapping(value = "/export") // produces 제거하여 유연하게 대응
     public ResponseEntity<byte[]> exportLogs(
@@ -43,4 +47,34 @@ public class LogAdminController {
                 .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"" + filename + "\"")
                 .body(bytes);
     }
+
+    /**
+     * 스트리밍 CSV 다운로드 (행 수 제한 없음)
+     * - 커서로 읽은 행을 응답에 바로 기록, gzip=true 면 .csv.gz 로 압축 전송
+     */
+    @PostMapping("/export/stream")
+    public ResponseEntity<StreamingResponseBody> exportLogsStream(
+            @AuthenticationPrincipal AuthUser authUser,
+            @RequestParam(defaultValue = "false") boolean gzip,
+            @Valid @RequestBody LogExportRequest request) {
+        StreamingResponseBody body = excelDownloadService.streamLogsAsCsv(authUser.getAccountId(), request, gzip);
+
+        String ts = LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMdd_HHmmss"));
+        String filename = "logs_" + request.getResourceCode() + "_" + ts + (gzip ? ".csv.gz" : ".csv");
+
+        return ResponseEntity.ok()
+                .contentType(gzip
+                        ? MediaType.parseMediaType("application/gzip")
+                        : MediaType.parseMediaType("text/csv; charset=UTF-8"))
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"" + filename + "\"")
+                .body(body);
+    }
+
+    /**
+     * 접근 로그/사용자 활동 적재 파이프라인 상태 (큐 적재량, 버린 건수, flush 지연)
+     */
+    @GetMapping("/ingestion/stats")
+    public ApiResponse<LogIngestionStatsResponse> getIngestionStats() {
+        return ApiResponse.ok(logIngestionPipeline.getStats());
+    }
 }
@@ -0,0 +1,18 @@
+package com.teamlms.backend.domain.log.api.dto;
+
+/**
+ * 로그 적재 파이프라인 상태 (큐 적재량/버린 건수/flush 지연)
+ */
+public record LogIngestionStatsResponse(
+        int queueDepth,
+        int capacity,
+        long submittedCount,
+        long droppedCount,
+        long accessLogsWritten,
+        long userActivitiesWritten,
+        long userActivitiesCoalesced,
+        long writeFailureCount,
+        long flushCount,
+        long lastFlushMillis,
+        long maxFlushMillis
+) {}
@@ -0,0 +1,71 @@
+package com.teamlms.backend.domain.log.repository;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import javax.sql.DataSource;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 접근 로그 CSV 스트리밍 export 용 JDBC 저장소
+ * - (accessed_at, log_id) 키셋 페이지 단위 조회 (엔티티 적재 없음, 전체 행 수 제한 없음)
+ * - 페이지마다 짧은 단건 쿼리라 다운로드가 끝날 때까지 커넥션/트랜잭션을 잡지 않음
+ */
+@Repository
+public class AccessLogExportRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public AccessLogExportRepository(DataSource dataSource) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+    }
+
+    /**
+     * 기간(+선택 계정) 접근 로그 한 페이지, 최신순
+     *
+     * @param after 이전 페이지의 마지막 행 (첫 페이지면 null)
+     */
+    public List<AccessLogExportRow> findAccessLogPage(LocalDateTime from, LocalDateTime to, Long accountId,
+            AccessLogExportRow after, int limit) {
+        List<Object> args = new ArrayList<>(List.of(Timestamp.valueOf(from), Timestamp.valueOf(to)));
+        args.add(accountId);
+        args.add(accountId);
+        String cursor = "";
+        if (after != null) {
+            cursor = "  AND (accessed_at, log_id) < (?, ?)\n";
+            args.add(Timestamp.valueOf(after.accessedAt()));
+            args.add(after.logId());
+        }
+        args.add(limit);
+
+        return jdbcTemplate.query("""
+                SELECT log_id, account_id, accessed_at, access_url, ip, os, user_agent
+                FROM account_access_log
+                WHERE accessed_at >= ? AND accessed_at <= ?
+                  AND (CAST(? AS BIGINT) IS NULL OR account_id = ?)
+                """ + cursor + """
+                ORDER BY accessed_at DESC, log_id DESC
+                LIMIT ?
+                """, (rs, rowNum) -> new AccessLogExportRow(
+                rs.getLong("log_id"),
+                rs.getObject("account_id", Long.class),
+                rs.getTimestamp("accessed_at").toLocalDateTime(),
+                rs.getString("access_url"),
+                rs.getString("ip"),
+                rs.getString("os"),
+                rs.getString("user_agent")), args.toArray());
+    }
+
+    public record AccessLogExportRow(
+            long logId,
+            Long accountId,
+            LocalDateTime accessedAt,
+            String accessUrl,
+            String ip,
+            String os,
+            String userAgent) {
+    }
+}
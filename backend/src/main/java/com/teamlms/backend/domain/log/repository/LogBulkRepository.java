@@ -0,0 +1,103 @@
+package com.teamlms.backend.domain.log.repository;
+
+import com.teamlms.backend.domain.log.service.LogRecord;
+import com.teamlms.backend.domain.log.service.PresenceTracker;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import javax.sql.DataSource;
+import java.sql.PreparedStatement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 접근 로그 / 사용자 활동 일괄 저장용 JDBC 저장소
+ * - JDBC batch (reWriteBatchedInserts 로 multi-row INSERT 로 재작성)
+ * - 엔티티/영속성 컨텍스트를 거치지 않음
+ */
+@Repository
+public class LogBulkRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public LogBulkRepository(DataSource dataSource) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+    }
+
+    // account_access_log batch insert
+    public void batchInsertAccessLogs(List<LogRecord.AccessLog> logs) {
+        jdbcTemplate.batchUpdate("""
+                INSERT INTO account_access_log (account_id, accessed_at, access_url, ip, os, user_agent)
+                VALUES (?, ?, ?, ?, ?, ?)
+                """, logs, logs.size(), (PreparedStatement ps, LogRecord.AccessLog log) -> {
+            ps.setLong(1, log.accountId());
+            ps.setTimestamp(2, Timestamp.valueOf(log.accessedAt()));
+            ps.setString(3, log.accessUrl());
+            ps.setString(4, log.ip());
+            ps.setString(5, log.os());
+            ps.setString(6, log.userAgent());
+        });
+    }
+
+    // user_activity batch upsert (계정 ID 순으로 정렬된 목록 기준, 동시 upsert 간 잠금 순서 고정)
+    public void batchUpsertUserActivities(List<LogRecord.UserActivity> activities) {
+        jdbcTemplate.batchUpdate("""
+                INSERT INTO user_activity (
+                  account_id, first_activity_at, last_activity_at,
+                  last_request_path, last_ip, last_user_agent, updated_at
+                )
+                VALUES (?, ?, ?, ?, ?, ?, ?)
+                ON CONFLICT (account_id)
+                DO UPDATE SET
+                  last_activity_at = EXCLUDED.last_activity_at,
+                  last_request_path = EXCLUDED.last_request_path,
+                  last_ip = EXCLUDED.last_ip,
+                  last_user_agent = EXCLUDED.last_user_agent,
+                  updated_at = EXCLUDED.updated_at
+                WHERE user_activity.last_activity_at <= EXCLUDED.last_activity_at
+                """, activities, activities.size(), (PreparedStatement ps, LogRecord.UserActivity activity) -> {
+            Timestamp last = Timestamp.valueOf(activity.lastActivityAt());
+            ps.setLong(1, activity.accountId());
+            ps.setTimestamp(2, Timestamp.valueOf(activity.firstActivityAt()));
+            ps.setTimestamp(3, last);
+            ps.setString(4, activity.path());
+            ps.setString(5, activity.ip());
+            ps.setString(6, activity.userAgent());
+            ps.setTimestamp(7, last);
+        });
+    }
+
+    // presence 주기 동기화: last_activity_at 만 upsert (계정 ID 순 정렬 목록 기준, 과거 값으로 덮어쓰지 않음)
+    // - user_activity 행이 아직 없는 계정은 새로 생성 (삭제된 계정은 account 조인으로 건너뜀)
+    public void batchUpsertLastActivityAt(List<PresenceTracker.LastSeen> entries) {
+        jdbcTemplate.batchUpdate("""
+                INSERT INTO user_activity (account_id, first_activity_at, last_activity_at, updated_at)
+                SELECT a.account_id, ?, ?, ?
+                FROM account a
+                WHERE a.account_id = ?
+                ON CONFLICT (account_id)
+                DO UPDATE SET
+                  last_activity_at = EXCLUDED.last_activity_at,
+                  updated_at = EXCLUDED.updated_at
+                WHERE user_activity.last_activity_at < EXCLUDED.last_activity_at
+                """, entries, entries.size(), (PreparedStatement ps, PresenceTracker.LastSeen entry) -> {
+            Timestamp last = Timestamp.valueOf(entry.lastActivityAt());
+            ps.setTimestamp(1, last);
+            ps.setTimestamp(2, last);
+            ps.setTimestamp(3, last);
+            ps.setLong(4, entry.accountId());
+        });
+    }
+
+    // presence 기동 시 적재용: since 이후 활동한 계정
+    public List<PresenceTracker.LastSeen> findActivitiesSince(LocalDateTime since) {
+        return jdbcTemplate.query("""
+                SELECT account_id, last_activity_at
+                FROM user_activity
+                WHERE last_activity_at >= ?
+                """, (rs, rowNum) -> new PresenceTracker.LastSeen(
+                rs.getLong("account_id"),
+                rs.getTimestamp("last_activity_at").toLocalDateTime()), Timestamp.valueOf(since));
+    }
+}
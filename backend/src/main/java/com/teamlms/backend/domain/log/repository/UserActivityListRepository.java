@@ -5,6 +5,7 @@ import com.teamlms.backend.domain.log.repository.projection.UserActivityRow;
 import com.teamlms.backend.domain.log.repository.projection.UserActivitySummaryRow;
 import com.teamlms.backend.domain.log.repository.projection.UserHeaderRow;
 
+import java.util.Collection;
 import java.util.Optional;
 
 import org.springframework.data.domain.*;
@@ -141,4 +142,34 @@ public interface UserActivityListRepository extends JpaRepository<Account, Long>
       )
       """, nativeQuery = true)
   UserActivitySummaryRow findSummary(@Param("keyword") String keyword);
+
+  // 키워드 조건을 만족하는 계정 중 accountIds 에 포함된 수 (presence 온라인 계정 집계용)
+  @Query(value = """
+      SELECT COUNT(*)
+      FROM account a
+      LEFT JOIN student_profile sp
+      ON sp.account_id = a.account_id
+      AND a.account_type = 'STUDENT'
+
+      LEFT JOIN professor_profile pp
+      ON pp.account_id = a.account_id
+      AND a.account_type = 'PROFESSOR'
+
+      LEFT JOIN admin_profile ap
+      ON ap.account_id = a.account_id
+      AND a.account_type = 'ADMIN'
+
+      WHERE a.account_id IN (:accountIds)
+      AND (:keyword IS NULL OR :keyword = ''
+      OR a.login_id ILIKE CONCAT('%', :keyword, '%')
+      OR (CASE a.account_type
+              WHEN 'STUDENT' THEN sp.name
+              WHEN 'PROFESSOR' THEN pp.name
+              WHEN 'ADMIN' THEN ap.name
+          END) ILIKE CONCAT('%', :keyword, '%')
+      )
+      """, nativeQuery = true)
+  long countByKeywordAndAccountIdIn(
+      @Param("keyword") String keyword,
+      @Param("accountIds") Collection<Long> accountIds);
 }
@@ -0,0 +1,229 @@
+package com.teamlms.backend.domain.log.service;
+
+import java.util.Arrays;
+
+/**
+ * long -> long 동시성 맵 (boxing 없음)
+ * - 세그먼트별 open addressing(linear probing) 배열, 세그먼트 단위 락
+ * - 삭제는 backward shift 방식 (tombstone 없음)
+ * - Long.MIN_VALUE 는 빈 슬롯 표시용이라 키로 사용 불가
+ */
+final class ConcurrentLongLongMap {
+
+    static final long NO_VALUE = Long.MIN_VALUE;
+
+    private static final long EMPTY_KEY = Long.MIN_VALUE;
+    private static final int SEGMENT_BITS = 5;
+    private static final int SEGMENT_COUNT = 1 << SEGMENT_BITS;
+    private static final int INITIAL_SEGMENT_CAPACITY = 64;
+
+    @FunctionalInterface
+    interface EntryConsumer {
+        void accept(long key, long value);
+    }
+
+    private final Segment[] segments = new Segment[SEGMENT_COUNT];
+
+    ConcurrentLongLongMap() {
+        for (int i = 0; i < SEGMENT_COUNT; i++) {
+            segments[i] = new Segment();
+        }
+    }
+
+    /**
+     * @return 값, 없으면 NO_VALUE
+     */
+    long get(long key) {
+        return segmentFor(key).get(key);
+    }
+
+    /**
+     * 키가 없거나, value 가 기존 값보다 크고 그 차이가 minDelta 이상일 때만 저장
+     * - minDelta = 0 이면 max 갱신
+     *
+     * @return 저장했으면 true
+     */
+    boolean advance(long key, long value, long minDelta) {
+        checkKey(key);
+        return segmentFor(key).advance(key, value, minDelta);
+    }
+
+    /**
+     * 현재 값이 expected 와 같을 때만 삭제
+     */
+    boolean remove(long key, long expected) {
+        return segmentFor(key).remove(key, expected);
+    }
+
+    /**
+     * 세그먼트별 스냅샷을 떠서 락 밖에서 순회 (순회 중 갱신/삭제 허용)
+     */
+    void forEach(EntryConsumer consumer) {
+        for (Segment segment : segments) {
+            long[][] snapshot = segment.snapshot();
+            long[] keys = snapshot[0];
+            long[] values = snapshot[1];
+            for (int i = 0; i < keys.length; i++) {
+                if (keys[i] != EMPTY_KEY) {
+                    consumer.accept(keys[i], values[i]);
+                }
+            }
+        }
+    }
+
+    /**
+     * value >= threshold 인 항목 수
+     */
+    long countAtLeast(long threshold) {
+        long count = 0;
+        for (Segment segment : segments) {
+            count += segment.countAtLeast(threshold);
+        }
+        return count;
+    }
+
+    int size() {
+        int size = 0;
+        for (Segment segment : segments) {
+            size += segment.size();
+        }
+        return size;
+    }
+
+    private Segment segmentFor(long key) {
+        return segments[(int) (hash(key) >>> (64 - SEGMENT_BITS))];
+    }
+
+    private static long hash(long key) {
+        long h = key * 0x9E3779B97F4A7C15L;
+        return h ^ (h >>> 29);
+    }
+
+    private static void checkKey(long key) {
+        if (key == EMPTY_KEY) {
+            throw new IllegalArgumentException("key must not be Long.MIN_VALUE");
+        }
+    }
+
+    private static final class Segment {
+
+        private long[] keys;
+        private long[] values;
+        private int mask;
+        private int size;
+
+        Segment() {
+            allocate(INITIAL_SEGMENT_CAPACITY);
+        }
+
+        synchronized long get(long key) {
+            int idx = indexOf(key);
+            return idx < 0 ? NO_VALUE : values[idx];
+        }
+
+        synchronized boolean advance(long key, long value, long minDelta) {
+            int idx = home(key);
+            while (keys[idx] != EMPTY_KEY) {
+                if (keys[idx] == key) {
+                    long current = values[idx];
+                    if (value > current && value - current >= minDelta) {
+                        values[idx] = value;
+                        return true;
+                    }
+                    return false;
+                }
+                idx = (idx + 1) & mask;
+            }
+            keys[idx] = key;
+            values[idx] = value;
+            if (++size * 2 > keys.length) {
+                resize();
+            }
+            return true;
+        }
+
+        synchronized boolean remove(long key, long expected) {
+            int idx = indexOf(key);
+            if (idx < 0 || values[idx] != expected) {
+                return false;
+            }
+            // backward shift: 뒤따르는 클러스터 항목을 빈 자리로 당김
+            int hole = idx;
+            int next = idx;
+            while (true) {
+                next = (next + 1) & mask;
+                if (keys[next] == EMPTY_KEY) {
+                    break;
+                }
+                int home = home(keys[next]);
+                boolean stays = hole <= next
+                        ? (hole < home && home <= next)
+                        : (hole < home || home <= next);
+                if (!stays) {
+                    keys[hole] = keys[next];
+                    values[hole] = values[next];
+                    hole = next;
+                }
+            }
+            keys[hole] = EMPTY_KEY;
+            size--;
+            return true;
+        }
+
+        synchronized long[][] snapshot() {
+            return new long[][] { keys.clone(), values.clone() };
+        }
+
+        synchronized long countAtLeast(long threshold) {
+            long count = 0;
+            for (int i = 0; i < keys.length; i++) {
+                if (keys[i] != EMPTY_KEY && values[i] >= threshold) {
+                    count++;
+                }
+            }
+            return count;
+        }
+
+        synchronized int size() {
+            return size;
+        }
+
+        private int indexOf(long key) {
+            int idx = home(key);
+            while (keys[idx] != EMPTY_KEY) {
+                if (keys[idx] == key) {
+                    return idx;
+                }
+                idx = (idx + 1) & mask;
+            }
+            return -1;
+        }
+
+        private int home(long key) {
+            return (int) hash(key) & mask;
+        }
+
+        private void resize() {
+            long[] oldKeys = keys;
+            long[] oldValues = values;
+            allocate(oldKeys.length << 1);
+            for (int i = 0; i < oldKeys.length; i++) {
+                if (oldKeys[i] != EMPTY_KEY) {
+                    int idx = home(oldKeys[i]);
+                    while (keys[idx] != EMPTY_KEY) {
+                        idx = (idx + 1) & mask;
+                    }
+                    keys[idx] = oldKeys[i];
+                    values[idx] = oldValues[i];
+                }
+            }
+        }
+
+        private void allocate(int capacity) {
+            keys = new long[capacity];
+            values = new long[capacity];
+            Arrays.fill(keys, EMPTY_KEY);
+            mask = capacity - 1;
+        }
+    }
+}
@@ -4,16 +4,26 @@ import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.teamlms.backend.domain.log.api.dto.LogExportRequest;
 import com.teamlms.backend.domain.log.entity.AccountAccessLog;
+import com.teamlms.backend.domain.log.repository.AccessLogExportRepository;
+import com.teamlms.backend.domain.log.repository.AccessLogExportRepository.AccessLogExportRow;
 import com.teamlms.backend.domain.log.repository.AccountAccessLogRepository;
 import com.teamlms.backend.global.exception.base.BusinessException;
 import com.teamlms.backend.global.exception.code.ErrorCode;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
 import java.nio.charset.StandardCharsets;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.zip.GZIPOutputStream;
 
 /**
  * 로그 다운로드 유스케이스 서비스
@@ -21,34 +31,34 @@ import java.util.List;
  * - (2) 로그 조회
  * - (3) CSV 생성
  * - (4) excel_download_log 저장(사유/조건/리소스코드)
+ * - 스트리밍 모드: 행 수 제한 없이 키셋 페이지 단위로 읽어 응답 스트림에 바로 기록
+ *   (메모리 사용량 일정, 페이지 조회 사이에는 커넥션을 잡지 않아 느린 클라이언트가 풀을 점유하지 않음)
  */
+@Slf4j
 @Service
 @RequiredArgsConstructor
 @Transactional
 public class ExcelDownloadService {
 
     private static final int EXPORT_LIMIT = 50_000; // 너무 큰 다운로드 방지(필요하면 조정)
+    private static final int STREAM_BUFFER_SIZE = 64 * 1024;
+    private static final int STREAM_PAGE_SIZE = 1_000;
+    private static final String ACCESS_LOG_CSV_HEADER = "logId,accountId,accessedAt,accessUrl,ip,os,userAgent\n";
 
     private final LogCommandService logCommandService;
     private final AccountAccessLogRepository accountAccessLogRepository;
+    private final AccessLogExportRepository accessLogExportRepository;
     private final ObjectMapper objectMapper;
 
     public byte[] exportLogsAsCsv(Long actorAccountId, LogExportRequest req) {
         validate(req);
 
         // 감사 로그용: "요청 조건 그대로" 저장
-        String filterJson = "";
-        try {
-            filterJson = objectMapper.writeValueAsString(req.getFilter());
-        } catch (Exception e) {
-            System.err.println("[ERROR-EXPORT] serialization failed: " + e.getMessage());
-            filterJson = "{\"error\":\"serialization failed\"}";
-        }
+        String filterJson = toFilterJson(req);
 
-        System.out.println("[DEBUG-EXPORT] Fetching logs for resource: " + req.getResourceCode());
         // 현재는 ACCESS_LOG만 구현(원하면 LOGIN_LOG 등 추가 가능)
         List<AccountAccessLog> rows = fetchLogs(req);
-        System.out.println("[DEBUG-EXPORT] Fetched rows: " + (rows != null ? rows.size() : 0));
+        log.debug("Fetched logs for export. resourceCode={}, rows={}", req.getResourceCode(), rows.size());
 
         byte[] fileBytes = buildAccessLogCsv(rows);
 
@@ -62,6 +72,65 @@ public class ExcelDownloadService {
         return fileBytes;
     }
 
+    /**
+     * 스트리밍 CSV export (행 수 제한 없음)
+     * - 검증 + excel_download_log 저장은 지금(요청 스레드, 현재 트랜잭션) 수행
+     * - 반환된 본문은 응답 시점에 트랜잭션 없이 페이지(STREAM_PAGE_SIZE 행)마다 조회해 기록
+     *
+     * @param gzip true 면 gzip 으로 압축해 기록
+     */
+    public StreamingResponseBody streamLogsAsCsv(Long actorAccountId, LogExportRequest req, boolean gzip) {
+        validate(req);
+        LocalDateTime[] period = resolvePeriod(req);
+        Long targetAccountId = req.getFilter().getTargetAccountId();
+
+        logCommandService.saveExcelDownloadLog(
+                actorAccountId,
+                req.getResourceCode(),
+                req.getReason(),
+                toFilterJson(req));
+
+        return out -> {
+            if (!gzip) {
+                writeAccessLogCsv(out, period[0], period[1], targetAccountId);
+                return;
+            }
+            // 예외로 끝나도 Deflater 네이티브 메모리를 반납하도록 close (finish 포함)
+            try (GZIPOutputStream gzipOut = new GZIPOutputStream(out, STREAM_BUFFER_SIZE)) {
+                writeAccessLogCsv(gzipOut, period[0], period[1], targetAccountId);
+            }
+        };
+    }
+
+    // 키셋 페이지 단위로 조회해 기록 (페이지마다 flush)
+    private void writeAccessLogCsv(OutputStream out, LocalDateTime from, LocalDateTime to, Long targetAccountId)
+            throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8), STREAM_BUFFER_SIZE);
+        writer.write(ACCESS_LOG_CSV_HEADER);
+
+        AccessLogExportRow last = null;
+        List<AccessLogExportRow> page;
+        do {
+            page = accessLogExportRepository.findAccessLogPage(from, to, targetAccountId, last, STREAM_PAGE_SIZE);
+            for (AccessLogExportRow row : page) {
+                writeRow(writer, row);
+            }
+            writer.flush();
+            if (!page.isEmpty()) {
+                last = page.get(page.size() - 1);
+            }
+        } while (page.size() == STREAM_PAGE_SIZE);
+    }
+
+    private String toFilterJson(LogExportRequest req) {
+        try {
+            return objectMapper.writeValueAsString(req.getFilter());
+        } catch (JsonProcessingException e) {
+            log.error("Failed to serialize log export filter. resourceCode={}", req.getResourceCode(), e);
+            return "{\"error\":\"serialization failed\"}";
+        }
+    }
+
     private void validate(LogExportRequest req) {
         if (req.getFilter() == null) {
             throw new BusinessException(ErrorCode.LOG_EXPORT_FILTER_REQUIRED);
@@ -80,9 +149,23 @@ public class ExcelDownloadService {
     }
 
     private List<AccountAccessLog> fetchLogs(LogExportRequest req) {
+        LocalDateTime[] period = resolvePeriod(req);
+        Long targetAccountId = req.getFilter().getTargetAccountId();
+
+        if (targetAccountId != null) {
+            return accountAccessLogRepository.findForExportByAccountId(targetAccountId, period[0], period[1], EXPORT_LIMIT);
+        }
+        return accountAccessLogRepository.findForExport(period[0], period[1], EXPORT_LIMIT);
+    }
+
+    /**
+     * export 기간 보정/검증
+     *
+     * @return [from, to]
+     */
+    private LocalDateTime[] resolvePeriod(LogExportRequest req) {
         LocalDateTime from = req.getFilter().getFrom();
         LocalDateTime to = req.getFilter().getTo();
-        Long targetAccountId = req.getFilter().getTargetAccountId();
 
         // 기간이 없으면 너무 커질 수 있어서 기본 기간을 잡아도 됨(정책 선택)
         // 여기선 "둘 다 null 가능"로 두고 전체 조회는 금지 -> 필요하면 막자.
@@ -97,11 +180,7 @@ public class ExcelDownloadService {
         if (from == null) {
             throw new BusinessException(ErrorCode.LOG_EXPORT_PERIOD_REQUIRED);
         }
-
-        if (targetAccountId != null) {
-            return accountAccessLogRepository.findForExportByAccountId(targetAccountId, from, to, EXPORT_LIMIT);
-        }
-        return accountAccessLogRepository.findForExport(from, to, EXPORT_LIMIT);
+        return new LocalDateTime[] { from, to };
     }
 
     /**
@@ -110,7 +189,7 @@ public class ExcelDownloadService {
      */
     private byte[] buildAccessLogCsv(List<AccountAccessLog> rows) {
         StringBuilder sb = new StringBuilder();
-        sb.append("logId,accountId,accessedAt,accessUrl,ip,os,userAgent\n");
+        sb.append(ACCESS_LOG_CSV_HEADER);
 
         for (AccountAccessLog r : rows) {
             sb.append(n(r.getLogId())).append(',')
@@ -126,6 +205,23 @@ public class ExcelDownloadService {
         return sb.toString().getBytes(StandardCharsets.UTF_8);
     }
 
+    private void writeRow(Writer writer, AccessLogExportRow r) throws IOException {
+        writer.write(String.valueOf(r.logId()));
+        writer.write(',');
+        writer.write(n(r.accountId()));
+        writer.write(',');
+        writer.write(csv(r.accessedAt()));
+        writer.write(',');
+        writer.write(csv(r.accessUrl()));
+        writer.write(',');
+        writer.write(csv(r.ip()));
+        writer.write(',');
+        writer.write(csv(r.os()));
+        writer.write(',');
+        writer.write(csv(r.userAgent()));
+        writer.write('\n');
+    }
+
     private String n(Object v) {
         return v == null ? "" : String.valueOf(v);
     }
@@ -5,7 +5,6 @@ import com.teamlms.backend.domain.log.entity.ExcelDownloadLog;
 import com.teamlms.backend.domain.log.repository.AccountAccessLogRepository;
 import com.teamlms.backend.domain.log.repository.ExcelDownloadLogRepository;
 import com.teamlms.backend.domain.log.repository.UserActivityRepository;
-import com.teamlms.backend.global.logging.util.RequestInfoExtractor;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
@@ -27,76 +26,43 @@ public class LogCommandService {
     private final UserActivityRepository userActivityRepository;
     private final AccountAccessLogRepository accountAccessLogRepository;
     private final ExcelDownloadLogRepository excelDownloadLogRepository;
+    private final PresenceTracker presenceTracker;
 
     /**
-     * user_activity upsert
-     * - 인증된 요청마다 호출되는 스냅샷 갱신
+     * user_activity upsert (동기)
+     * - 로그인 등 즉시 반영이 필요한 경우에 사용, 일반 요청은 LogIngestionPipeline 으로 적재
      */
     public void upsertUserActivity(Long accountId, HttpServletRequest request) {
-        LocalDateTime now = LocalDateTime.now();
-
-        String path = truncate(RequestInfoExtractor.getRequestPath(request), 255);
-        String ip = truncate(RequestInfoExtractor.getClientIp(request), 50);
-        String userAgent = truncate(RequestInfoExtractor.getUserAgent(request), 255);
-
-        userActivityRepository.upsert(accountId, now, path, ip, userAgent);
+        LogRecord.UserActivity activity = LogRecord.userActivity(accountId, request, LocalDateTime.now());
+
+        userActivityRepository.upsert(
+                accountId,
+                activity.lastActivityAt(),
+                activity.path(),
+                activity.ip(),
+                activity.userAgent());
+        presenceTracker.touch(accountId, activity.lastActivityAt());
     }
 
     /**
-     * account_access_log insert (append-only)
-     * - 정책 대상 요청만 Interceptor가 골라서 호출
+     * account_access_log insert (append-only, 동기)
+     * - 로그인 등 즉시 반영이 필요한 경우에 사용, 일반 요청은 LogIngestionPipeline 으로 적재
      */
     public void saveAccountAccessLog(Long accountId, HttpServletRequest request, HttpServletResponse response) {
-        LocalDateTime now = LocalDateTime.now();
-
-        String path = RequestInfoExtractor.getRequestPath(request);
-        String qs = RequestInfoExtractor.getQueryString(request);
-        String accessUrlRaw = (qs == null || qs.isBlank()) ? path : path + "?" + qs;
-        String accessUrl = truncate(accessUrlRaw, 255);
-
-        String ip = truncate(RequestInfoExtractor.getClientIp(request), 50);
-        String userAgent = truncate(RequestInfoExtractor.getUserAgent(request), 255);
-        String os = truncate(parseOs(userAgent), 50);
+        LogRecord.AccessLog record = LogRecord.accessLog(accountId, request, LocalDateTime.now());
 
         AccountAccessLog log = AccountAccessLog.builder()
-                .accountId(accountId)
-                .accessedAt(now)
-                .accessUrl(accessUrl)
-                .ip(ip)
-                .userAgent(userAgent)
-                .os(os)
+                .accountId(record.accountId())
+                .accessedAt(record.accessedAt())
+                .accessUrl(record.accessUrl())
+                .ip(record.ip())
+                .userAgent(record.userAgent())
+                .os(record.os())
                 .build();
 
         accountAccessLogRepository.save(log);
     }
 
-    private String parseOs(String userAgent) {
-        if (userAgent == null)
-            return "Unknown";
-        String ua = userAgent.toLowerCase();
-        if (ua.contains("windows"))
-            return "Windows";
-        if (ua.contains("mac os"))
-            return "macOS";
-        if (ua.contains("linux"))
-            return "Linux";
-        if (ua.contains("android"))
-            return "Android";
-        if (ua.contains("iphone") || ua.contains("ipad"))
-            return "iOS";
-
-        // 디버깅용: 감지 실패 시 UA 앞부분 일부 표시
-        String snippet = userAgent.length() > 20 ? userAgent.substring(0, 20) : userAgent;
-        return "Other (" + snippet + ")";
-    }
-
-    private String truncate(String value, int maxLength) {
-        if (value != null && value.length() > maxLength) {
-            return value.substring(0, maxLength);
-        }
-        return value;
-    }
-
     /**
      * excel_download_log insert (append-only)
      * - 엑셀 다운로드 유스케이스 서비스에서 호출(사유/조건 포함)
@@ -0,0 +1,193 @@
+package com.teamlms.backend.domain.log.service;
+
+import com.teamlms.backend.domain.log.api.dto.LogIngestionStatsResponse;
+import com.teamlms.backend.domain.log.repository.LogBulkRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 접근 로그 / 사용자 활동 비동기 적재 파이프라인
+ * - 요청 스레드: 경량 레코드를 링 버퍼에 넣기만 함 (가득 차면 버리고 drop 카운트 증가)
+ * - flush 스레드: batch-size 만큼 쌓이거나 flush-interval 이 지나면 JDBC batch 로 저장
+ * - user_activity 는 flush 구간 내 계정별로 병합해 계정당 1건만 upsert
+ * - 종료 시 남은 레코드를 모두 저장 후 종료
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class LogIngestionPipeline {
+
+    private final LogBulkRepository logBulkRepository;
+    private final PresenceTracker presenceTracker;
+
+    @Value("${log.ingest.capacity:8192}")
+    private int capacity;
+
+    @Value("${log.ingest.batch-size:500}")
+    private int batchSize;
+
+    @Value("${log.ingest.flush-interval-ms:1000}")
+    private long flushIntervalMs;
+
+    private LogRingBuffer<LogRecord> buffer;
+    private ScheduledExecutorService flusher;
+    private final AtomicBoolean flushRequested = new AtomicBoolean();
+
+    private final LongAdder submitted = new LongAdder();
+    private final LongAdder dropped = new LongAdder();
+    private final LongAdder accessLogsWritten = new LongAdder();
+    private final LongAdder activitiesWritten = new LongAdder();
+    private final LongAdder activitiesCoalesced = new LongAdder();
+    private final LongAdder writeFailures = new LongAdder();
+    private final AtomicLong flushCount = new AtomicLong();
+    private final AtomicLong lastFlushMillis = new AtomicLong();
+    private final AtomicLong maxFlushMillis = new AtomicLong();
+
+    @PostConstruct
+    void start() {
+        buffer = new LogRingBuffer<>(capacity);
+        ScheduledThreadPoolExecutor executor = new ScheduledThreadPoolExecutor(1, r -> {
+            Thread t = new Thread(r, "log-ingest-flusher");
+            t.setDaemon(true);
+            return t;
+        });
+        executor.setExecuteExistingDelayedTasksAfterShutdownPolicy(false);
+        flusher = executor;
+        flusher.scheduleWithFixedDelay(this::flushSafely, flushIntervalMs, flushIntervalMs, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        flusher.shutdown();
+        try {
+            if (!flusher.awaitTermination(5, TimeUnit.SECONDS)) {
+                flusher.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            flusher.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+        // 남은 레코드 drain (flush 스레드 종료 후 단일 스레드로 수행)
+        flushSafely();
+        log.info("log ingestion drained: remaining={}, dropped={}", buffer.size(), dropped.sum());
+    }
+
+    /**
+     * 레코드 적재 (요청 스레드에서 호출, 대기 없음)
+     *
+     * @return 버퍼가 가득 차 버려졌으면 false
+     */
+    public boolean submit(LogRecord record) {
+        if (!buffer.offer(record)) {
+            dropped.increment();
+            return false;
+        }
+        submitted.increment();
+        if (buffer.size() >= batchSize && flushRequested.compareAndSet(false, true)) {
+            try {
+                flusher.execute(this::flushSafely);
+            } catch (RuntimeException e) {
+                // 종료 중: 남은 레코드는 shutdown drain 에서 처리
+                flushRequested.set(false);
+            }
+        }
+        return true;
+    }
+
+    public LogIngestionStatsResponse getStats() {
+        return new LogIngestionStatsResponse(
+                buffer.size(),
+                buffer.capacity(),
+                submitted.sum(),
+                dropped.sum(),
+                accessLogsWritten.sum(),
+                activitiesWritten.sum(),
+                activitiesCoalesced.sum(),
+                writeFailures.sum(),
+                flushCount.get(),
+                lastFlushMillis.get(),
+                maxFlushMillis.get());
+    }
+
+    /**
+     * 버퍼가 빌 때까지 batch-size 단위로 저장
+     */
+    void flush() {
+        flushRequested.set(false);
+        List<LogRecord> batch = new ArrayList<>(batchSize);
+        while (buffer.drainTo(batch, batchSize) > 0) {
+            long startedAt = System.nanoTime();
+            write(batch);
+            long elapsedMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt);
+
+            flushCount.incrementAndGet();
+            lastFlushMillis.set(elapsedMs);
+            maxFlushMillis.accumulateAndGet(elapsedMs, Math::max);
+            batch.clear();
+        }
+    }
+
+    private void flushSafely() {
+        try {
+            flush();
+        } catch (RuntimeException e) {
+            log.warn("log ingestion flush failed", e);
+        }
+    }
+
+    private void write(List<LogRecord> batch) {
+        List<LogRecord.AccessLog> accessLogs = new ArrayList<>();
+        Map<Long, LogRecord.UserActivity> activities = new HashMap<>();
+        int activityCount = 0;
+        for (LogRecord record : batch) {
+            if (record instanceof LogRecord.AccessLog accessLog) {
+                accessLogs.add(accessLog);
+            } else if (record instanceof LogRecord.UserActivity activity) {
+                activities.merge(activity.accountId(), activity, LogRecord.UserActivity::mergeWith);
+                activityCount++;
+            }
+        }
+
+        if (!accessLogs.isEmpty()) {
+            try {
+                logBulkRepository.batchInsertAccessLogs(accessLogs);
+                accessLogsWritten.add(accessLogs.size());
+            } catch (RuntimeException e) {
+                writeFailures.add(accessLogs.size());
+                log.warn("account_access_log batch insert failed: size={}", accessLogs.size(), e);
+            }
+        }
+
+        if (!activities.isEmpty()) {
+            List<LogRecord.UserActivity> upserts = new ArrayList<>(activities.values());
+            upserts.sort(Comparator.comparing(LogRecord.UserActivity::accountId));
+            try {
+                logBulkRepository.batchUpsertUserActivities(upserts);
+                for (LogRecord.UserActivity activity : upserts) {
+                    presenceTracker.markPersisted(activity.accountId(), activity.lastActivityAt());
+                }
+                activitiesWritten.add(upserts.size());
+                activitiesCoalesced.add(activityCount - upserts.size());
+            } catch (RuntimeException e) {
+                writeFailures.add(upserts.size());
+                log.warn("user_activity batch upsert failed: size={}", upserts.size(), e);
+            }
+        }
+    }
+}
@@ -0,0 +1,101 @@
+package com.teamlms.backend.domain.log.service;
+
+import com.teamlms.backend.global.logging.util.RequestInfoExtractor;
+import jakarta.servlet.http.HttpServletRequest;
+
+import java.time.LocalDateTime;
+
+/**
+ * 로그 적재 파이프라인에 넣는 경량 레코드
+ * - 요청 스레드에서 HttpServletRequest 값을 복사/절단해 두고 (요청 객체는 재사용되므로 보관 불가)
+ * - DB 쓰기는 LogIngestionPipeline 의 flush 스레드가 수행
+ */
+public sealed interface LogRecord {
+
+    Long accountId();
+
+    /**
+     * account_access_log 1행
+     */
+    record AccessLog(
+            Long accountId,
+            LocalDateTime accessedAt,
+            String accessUrl,
+            String ip,
+            String os,
+            String userAgent) implements LogRecord {
+    }
+
+    /**
+     * user_activity upsert 1건 (flush 구간 내 같은 계정은 1건으로 병합)
+     */
+    record UserActivity(
+            Long accountId,
+            LocalDateTime firstActivityAt,
+            LocalDateTime lastActivityAt,
+            String path,
+            String ip,
+            String userAgent) implements LogRecord {
+
+        UserActivity mergeWith(UserActivity later) {
+            LocalDateTime first = firstActivityAt.isBefore(later.firstActivityAt)
+                    ? firstActivityAt
+                    : later.firstActivityAt;
+            return later.lastActivityAt.isBefore(lastActivityAt)
+                    ? new UserActivity(accountId, first, lastActivityAt, path, ip, userAgent)
+                    : new UserActivity(accountId, first, later.lastActivityAt, later.path, later.ip, later.userAgent);
+        }
+    }
+
+    static AccessLog accessLog(Long accountId, HttpServletRequest request, LocalDateTime now) {
+        String path = RequestInfoExtractor.getRequestPath(request);
+        String qs = RequestInfoExtractor.getQueryString(request);
+        String accessUrlRaw = (qs == null || qs.isBlank()) ? path : path + "?" + qs;
+
+        String userAgent = truncate(RequestInfoExtractor.getUserAgent(request), 255);
+        return new AccessLog(
+                accountId,
+                now,
+                truncate(accessUrlRaw, 255),
+                truncate(RequestInfoExtractor.getClientIp(request), 50),
+                truncate(parseOs(userAgent), 50),
+                userAgent);
+    }
+
+    static UserActivity userActivity(Long accountId, HttpServletRequest request, LocalDateTime now) {
+        return new UserActivity(
+                accountId,
+                now,
+                now,
+                truncate(RequestInfoExtractor.getRequestPath(request), 255),
+                truncate(RequestInfoExtractor.getClientIp(request), 50),
+                truncate(RequestInfoExtractor.getUserAgent(request), 255));
+    }
+
+    private static String parseOs(String userAgent) {
+        if (userAgent == null)
+            return "Unknown";
+        String ua = userAgent.toLowerCase();
+        if (ua.contains("windows"))
+            return "Windows";
+        if (ua.contains("mac os"))
+            return "macOS";
+        if (ua.contains("linux"))
+            return "Linux";
+        if (ua.contains("android"))
+            return "Android";
+        if (ua.contains("iphone") || ua.contains("ipad"))
+            return "iOS";
+
+        // 디버깅용: 감지 실패 시 UA 앞부분 일부 표시
+        String snippet = userAgent.length() > 20 ? userAgent.substring(0, 20) : userAgent;
+        return "Other (" + snippet + ")";
+    }
+
+    private static String truncate(String value, int maxLength) {
+        if (value != null && value.length() > maxLength) {
+            return value.substring(0, maxLength);
+        }
+        return value;
+    }
+}
@@ -0,0 +1,96 @@
+package com.teamlms.backend.domain.log.service;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * 고정 크기 lock-free 링 버퍼 (다중 생산자 / 단일 소비자)
+ * - 슬롯별 시퀀스 번호로 생산자끼리 CAS 경쟁만 수행 (락/할당 없음)
+ * - 가득 차면 offer 가 false 반환 -> 요청 스레드는 대기하지 않고 버림
+ */
+final class LogRingBuffer<E> {
+
+    private final int capacity;
+    private final int mask;
+    private final AtomicReferenceArray<E> slots;
+    private final AtomicLongArray sequences;
+    private final AtomicLong enqueuePos = new AtomicLong();
+    private final AtomicLong dequeuePos = new AtomicLong();
+
+    LogRingBuffer(int requestedCapacity) {
+        this.capacity = Integer.highestOneBit(Math.max(2, requestedCapacity - 1)) << 1;
+        this.mask = capacity - 1;
+        this.slots = new AtomicReferenceArray<>(capacity);
+        this.sequences = new AtomicLongArray(capacity);
+        for (int i = 0; i < capacity; i++) {
+            sequences.set(i, i);
+        }
+    }
+
+    boolean offer(E element) {
+        long pos;
+        int idx;
+        while (true) {
+            pos = enqueuePos.get();
+            idx = (int) (pos & mask);
+            long diff = sequences.get(idx) - pos;
+            if (diff == 0) {
+                if (enqueuePos.compareAndSet(pos, pos + 1)) {
+                    break;
+                }
+            } else if (diff < 0) {
+                return false; // 가득 참
+            }
+        }
+        slots.set(idx, element);
+        sequences.set(idx, pos + 1);
+        return true;
+    }
+
+    E poll() {
+        long pos;
+        int idx;
+        while (true) {
+            pos = dequeuePos.get();
+            idx = (int) (pos & mask);
+            long diff = sequences.get(idx) - (pos + 1);
+            if (diff == 0) {
+                if (dequeuePos.compareAndSet(pos, pos + 1)) {
+                    break;
+                }
+            } else if (diff < 0) {
+                return null; // 비어 있음
+            }
+        }
+        E element = slots.get(idx);
+        slots.set(idx, null);
+        sequences.set(idx, pos + capacity);
+        return element;
+    }
+
+    /**
+     * 최대 maxElements 개를 꺼내 target 에 추가
+     *
+     * @return 꺼낸 개수
+     */
+    int drainTo(List<? super E> target, int maxElements) {
+        int drained = 0;
+        E element;
+        while (drained < maxElements && (element = poll()) != null) {
+            target.add(element);
+            drained++;
+        }
+        return drained;
+    }
+
+    int size() {
+        long size = enqueuePos.get() - dequeuePos.get();
+        return (int) Math.max(0, Math.min(size, capacity));
+    }
+
+    int capacity() {
+        return capacity;
+    }
+}
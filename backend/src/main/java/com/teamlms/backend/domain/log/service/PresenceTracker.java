@@ -0,0 +1,201 @@
+package com.teamlms.backend.domain.log.service;
+
+import com.teamlms.backend.domain.log.repository.LogBulkRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 접속 상태(presence) 메모리 추적기
+ * - 계정별 마지막 활동 시각을 long -> long 맵(epoch millis)에 보관, 온라인 여부/온라인 수는 메모리에서 응답
+ * - user_activity 전체 upsert 는 계정당 persist-interval 에 한 번만 (touch 가 true 를 반환할 때)
+ * - DB 반영 시각은 쓰기가 성공한 뒤에만 전진 (파이프라인 upsert 성공 통지 또는 주기 동기화)
+ * - 반영되지 않은 활동은 주기 동기화에서 last_activity_at 만 batch upsert (행이 없는 신규 계정은 생성),
+ *   온라인 창이 지난 항목은 메모리에서 제거
+ * - 기동 시 온라인 창 안의 user_activity 를 적재해 재시작 직후에도 온라인 상태 유지
+ * - 인스턴스 로컬 상태이므로 다중 인스턴스에서는 조회 시 DB 값과 병합해서 사용
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PresenceTracker {
+
+    private static final ZoneId ZONE = ZoneId.systemDefault();
+
+    private final LogBulkRepository logBulkRepository;
+
+    @Value("${log.presence.online-window-seconds:300}")
+    private long onlineWindowSeconds;
+
+    @Value("${log.presence.persist-interval-seconds:60}")
+    private long persistIntervalSeconds;
+
+    // accountId -> 마지막 활동 시각
+    private final ConcurrentLongLongMap lastSeen = new ConcurrentLongLongMap();
+    // accountId -> 마지막으로 전체 upsert 를 요청한 시각 (persist-interval 판단용, 쓰기 성공과 무관)
+    private final ConcurrentLongLongMap upsertRequestedAt = new ConcurrentLongLongMap();
+    // accountId -> DB 에 반영된 마지막 활동 시각 (쓰기 성공 후에만 전진)
+    private final ConcurrentLongLongMap persistedAt = new ConcurrentLongLongMap();
+
+    private ScheduledExecutorService syncer;
+
+    /**
+     * 메모리/DB 간 마지막 활동 시각
+     */
+    public record LastSeen(long accountId, LocalDateTime lastActivityAt) {
+    }
+
+    @PostConstruct
+    void start() {
+        warmUp(LocalDateTime.now());
+
+        ScheduledThreadPoolExecutor executor = new ScheduledThreadPoolExecutor(1, r -> {
+            Thread t = new Thread(r, "presence-sync");
+            t.setDaemon(true);
+            return t;
+        });
+        executor.setExecuteExistingDelayedTasksAfterShutdownPolicy(false);
+        syncer = executor;
+        syncer.scheduleWithFixedDelay(this::syncSafely,
+                persistIntervalSeconds, persistIntervalSeconds, TimeUnit.SECONDS);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        syncer.shutdown();
+        try {
+            if (!syncer.awaitTermination(5, TimeUnit.SECONDS)) {
+                syncer.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            syncer.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+        syncSafely();
+    }
+
+    /**
+     * 활동 기록 (요청 스레드에서 호출, DB 접근 없음)
+     *
+     * @return user_activity 전체 upsert 가 필요하면 true (계정당 persist-interval 에 한 번)
+     */
+    public boolean touch(Long accountId, LocalDateTime at) {
+        long millis = toMillis(at);
+        lastSeen.advance(accountId, millis, 0);
+        return upsertRequestedAt.advance(accountId, millis, TimeUnit.SECONDS.toMillis(persistIntervalSeconds));
+    }
+
+    /**
+     * user_activity 쓰기 성공 후 호출 (파이프라인 flush 스레드)
+     */
+    public void markPersisted(Long accountId, LocalDateTime at) {
+        persistedAt.advance(accountId, toMillis(at), 0);
+    }
+
+    /**
+     * @return 메모리상 마지막 활동 시각, 모르면 null
+     */
+    public LocalDateTime lastSeenAt(Long accountId) {
+        long millis = lastSeen.get(accountId);
+        return millis == ConcurrentLongLongMap.NO_VALUE ? null : toLocalDateTime(millis);
+    }
+
+    public boolean isOnline(LocalDateTime lastActivityAt, LocalDateTime now) {
+        return lastActivityAt != null && !lastActivityAt.isBefore(onlineSince(now));
+    }
+
+    public long onlineCount(LocalDateTime now) {
+        return lastSeen.countAtLeast(toMillis(onlineSince(now)));
+    }
+
+    public List<Long> onlineAccountIds(LocalDateTime now) {
+        long threshold = toMillis(onlineSince(now));
+        List<Long> ids = new ArrayList<>();
+        lastSeen.forEach((accountId, millis) -> {
+            if (millis >= threshold) {
+                ids.add(accountId);
+            }
+        });
+        return ids;
+    }
+
+    /**
+     * 주기 동기화
+     * - DB 에 반영되지 않은 활동 시각은 last_activity_at 만 batch upsert (실패하면 다음 주기에 다시 시도)
+     * - 온라인 창이 지났고 DB 에 반영 완료된 항목은 메모리에서 제거
+     */
+    void sync(LocalDateTime now) {
+        long staleBefore = toMillis(onlineSince(now));
+        List<LastSeen> dirty = new ArrayList<>();
+
+        lastSeen.forEach((accountId, seen) -> {
+            long persisted = persistedAt.get(accountId);
+            if (persisted == ConcurrentLongLongMap.NO_VALUE || seen > persisted) {
+                dirty.add(new LastSeen(accountId, toLocalDateTime(seen)));
+            } else if (seen < staleBefore && lastSeen.remove(accountId, seen)) {
+                persistedAt.remove(accountId, persisted);
+                long requested = upsertRequestedAt.get(accountId);
+                if (requested != ConcurrentLongLongMap.NO_VALUE && requested <= seen) {
+                    upsertRequestedAt.remove(accountId, requested);
+                }
+            }
+        });
+
+        if (dirty.isEmpty()) {
+            return;
+        }
+        dirty.sort(Comparator.comparingLong(LastSeen::accountId));
+        logBulkRepository.batchUpsertLastActivityAt(dirty);
+        for (LastSeen entry : dirty) {
+            persistedAt.advance(entry.accountId(), toMillis(entry.lastActivityAt()), 0);
+        }
+        log.debug("presence synced: updated={}, tracked={}", dirty.size(), lastSeen.size());
+    }
+
+    private void syncSafely() {
+        try {
+            sync(LocalDateTime.now());
+        } catch (RuntimeException e) {
+            log.warn("presence sync failed", e);
+        }
+    }
+
+    private void warmUp(LocalDateTime now) {
+        try {
+            for (LastSeen entry : logBulkRepository.findActivitiesSince(onlineSince(now))) {
+                long millis = toMillis(entry.lastActivityAt());
+                lastSeen.advance(entry.accountId(), millis, 0);
+                upsertRequestedAt.advance(entry.accountId(), millis, 0);
+                persistedAt.advance(entry.accountId(), millis, 0);
+            }
+            log.info("presence warmed up: tracked={}", lastSeen.size());
+        } catch (RuntimeException e) {
+            log.warn("presence warm-up failed, starting empty", e);
+        }
+    }
+
+    private LocalDateTime onlineSince(LocalDateTime now) {
+        return now.minusSeconds(onlineWindowSeconds);
+    }
+
+    private static long toMillis(LocalDateTime at) {
+        return at.atZone(ZONE).toInstant().toEpochMilli();
+    }
+
+    private static LocalDateTime toLocalDateTime(long millis) {
+        return LocalDateTime.ofInstant(Instant.ofEpochMilli(millis), ZONE);
+    }
+}
@@ -17,6 +17,7 @@ import org.springframework.data.domain.*;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 @Service
@@ -26,27 +27,68 @@ public class UserActivityQueryService {
 
         private final UserActivityListRepository userActivityListRepository;
         private final AccountAccessLogRepository accountAccessLogRepository;
+        private final PresenceTracker presenceTracker;
 
+        // IN 절 바인딩 파라미터 수 제한
+        private static final int ONLINE_ID_CHUNK_SIZE = 1_000;
+
+        /**
+         * 사용자 활동 목록
+         * - DB 페이지 결과에 메모리 presence 의 최신 활동 시각을 병합 (DB 는 persist-interval 만큼 늦을 수 있음)
+         */
         public Page<UserActivityListItem> list(String keyword, Pageable pageable) {
 
                 Page<UserActivityRow> rows = userActivityListRepository.findUserActivityRows(keyword, pageable);
-
-                return rows.map(r -> new UserActivityListItem(
-                                r.getAccountId(),
-                                r.getLoginId(),
-                                r.getAccountType(),
-                                r.getName(),
-                                r.getLastActivityAt(),
-                                Boolean.TRUE.equals(r.getIsOnline())));
+                LocalDateTime now = LocalDateTime.now();
+
+                return rows.map(r -> {
+                        LocalDateTime lastActivityAt = latest(r.getLastActivityAt(),
+                                        presenceTracker.lastSeenAt(r.getAccountId()));
+                        return new UserActivityListItem(
+                                        r.getAccountId(),
+                                        r.getLoginId(),
+                                        r.getAccountType(),
+                                        r.getName(),
+                                        lastActivityAt,
+                                        Boolean.TRUE.equals(r.getIsOnline())
+                                                        || presenceTracker.isOnline(lastActivityAt, now));
+                });
         }
 
+        /**
+         * 계정 요약
+         * - 전체 수는 DB, 온라인 수는 presence 메모리 기준 (키워드가 있으면 온라인 계정 중 키워드 일치 수만 DB 에서 계산)
+         */
         public UserActivitySummary summary(String keyword) {
                 UserActivitySummaryRow row = userActivityListRepository.findSummary(keyword);
 
                 long total = (row == null || row.getTotalAccounts() == null) ? 0L : row.getTotalAccounts();
-                long online = (row == null || row.getOnlineAccounts() == null) ? 0L : row.getOnlineAccounts();
+                long dbOnline = (row == null || row.getOnlineAccounts() == null) ? 0L : row.getOnlineAccounts();
+
+                return new UserActivitySummary(total, Math.max(dbOnline, countOnline(keyword)));
+        }
+
+        private long countOnline(String keyword) {
+                LocalDateTime now = LocalDateTime.now();
+                if (keyword == null || keyword.isBlank()) {
+                        return presenceTracker.onlineCount(now);
+                }
+
+                List<Long> onlineIds = presenceTracker.onlineAccountIds(now);
+                long online = 0L;
+                for (int from = 0; from < onlineIds.size(); from += ONLINE_ID_CHUNK_SIZE) {
+                        List<Long> chunk = onlineIds.subList(from,
+                                        Math.min(from + ONLINE_ID_CHUNK_SIZE, onlineIds.size()));
+                        online += userActivityListRepository.countByKeywordAndAccountIdIn(keyword, chunk);
+                }
+                return online;
+        }
 
-                return new UserActivitySummary(total, online);
+        private static LocalDateTime latest(LocalDateTime db, LocalDateTime memory) {
+                if (db == null) {
+                        return memory;
+                }
+                return (memory == null || memory.isBefore(db)) ? db : memory;
         }
 
         /**
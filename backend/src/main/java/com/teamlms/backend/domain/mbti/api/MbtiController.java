@@ -4,11 +4,13 @@ import com.teamlms.backend.domain.mbti.api.dto.MbtiQuestionResponse;
 import com.teamlms.backend.domain.mbti.api.dto.InterestKeywordResponse;
 import com.teamlms.backend.domain.mbti.api.dto.MbtiJobRecommendationRequest;
 import com.teamlms.backend.domain.mbti.api.dto.MbtiJobRecommendationResponse;
+import com.teamlms.backend.domain.mbti.api.dto.MbtiRecommendationJobResponse;
 import com.teamlms.backend.domain.mbti.api.dto.MbtiResultResponse;
 import com.teamlms.backend.domain.mbti.api.dto.MbtiSubmitRequest;
 import com.teamlms.backend.domain.mbti.dto.MbtiSubmitCommand;
 import com.teamlms.backend.domain.mbti.service.MbtiCommandService;
 import com.teamlms.backend.domain.mbti.service.MbtiQueryService;
+import com.teamlms.backend.domain.mbti.service.MbtiRecommendationJobService;
 import com.teamlms.backend.domain.mbti.service.MbtiRecommendationService;
 import com.teamlms.backend.domain.mbti.service.MbtiI18nService;
 import com.teamlms.backend.global.api.ApiResponse;
@@ -30,6 +32,7 @@ public class MbtiController {
     private final MbtiQueryService queryService;
     private final MbtiCommandService commandService;
     private final MbtiRecommendationService recommendationService;
+    private final MbtiRecommendationJobService recommendationJobService;
     private final MbtiI18nService i18nService;
 
     /**
@@ -83,7 +86,33 @@ public class MbtiController {
             @RequestParam(value = "locale", required = false) String locale
     ) {
         String currentLocale = locale != null ? locale : LocaleUtil.getCurrentLocale();
-        return ApiResponse.ok(recommendationService.generateRecommendation(authUser.getAccountId(), request.keywordIds(), currentLocale));
+        return ApiResponse.ok(recommendationJobService.generate(authUser.getAccountId(), request.keywordIds(), currentLocale));
+    }
+
+    /**
+     * 직업 추천 비동기 생성 - 작업 ID 즉시 반환 (동일 조건 요청은 생성 결과 공유)
+     */
+    @PostMapping("/recommendations/async")
+    @PreAuthorize("hasAuthority('MBTI_MANAGE')")
+    public ApiResponse<MbtiRecommendationJobResponse> createRecommendationAsync(
+            @AuthenticationPrincipal AuthUser authUser,
+            @RequestBody MbtiJobRecommendationRequest request,
+            @RequestParam(value = "locale", required = false) String locale
+    ) {
+        String currentLocale = locale != null ? locale : LocaleUtil.getCurrentLocale();
+        return ApiResponse.ok(recommendationJobService.submit(authUser.getAccountId(), request.keywordIds(), currentLocale));
+    }
+
+    /**
+     * 비동기 생성 작업 상태 조회 (DONE 이면 추천 결과 포함)
+     */
+    @GetMapping("/recommendations/jobs/{jobId}")
+    @PreAuthorize("hasAuthority('MBTI_READ')")
+    public ApiResponse<MbtiRecommendationJobResponse> getRecommendationJob(
+            @AuthenticationPrincipal AuthUser authUser,
+            @PathVariable String jobId
+    ) {
+        return ApiResponse.ok(recommendationJobService.getJob(authUser.getAccountId(), jobId));
     }
 
     @GetMapping("/recommendations/latest")
@@ -0,0 +1,14 @@
+package com.teamlms.backend.domain.mbti.api.dto;
+
+import java.time.LocalDateTime;
+
+public record MbtiRecommendationJobResponse(
+        String jobId,
+        String status,
+        boolean cached, // 동일 조건 생성 결과 재사용 여부
+        MbtiJobRecommendationResponse result, // DONE 일 때만
+        String errorMessage, // FAILED 일 때만
+        LocalDateTime requestedAt,
+        LocalDateTime finishedAt
+) {
+}
@@ -0,0 +1,8 @@
+package com.teamlms.backend.domain.mbti.enums;
+
+public enum MbtiRecommendationJobStatus {
+    PENDING, // 생성 대기 (워커 큐)
+    RUNNING, // AI 생성 또는 저장 중
+    DONE,
+    FAILED
+}
@@ -15,5 +15,18 @@ public interface MbtiQuestionRepository extends JpaRepository<MbtiQuestion, Long
 
     @Query("SELECT q FROM MbtiQuestion q ORDER BY q.sortOrder ASC")
     List<MbtiQuestion> findAllOrderBySortOrder();
+
+    /**
+     * 질문/선택지/다국어 테이블 변경 감지용 시그니처 (건수, 최대 ID, 점수 합, 최종 수정 시각)
+     */
+    @Query(value = """
+            SELECT CONCAT_WS('|',
+                (SELECT COUNT(*) || ':' || COALESCE(MAX(question_id), 0) || ':' || COALESCE(CAST(MAX(updated_at) AS TEXT), '') FROM mbti_question),
+                (SELECT COUNT(*) || ':' || COALESCE(MAX(choice_id), 0) || ':' || COALESCE(SUM(score_a), 0) || ':' || COALESCE(SUM(score_b), 0)
+                        || ':' || COALESCE(CAST(MAX(updated_at) AS TEXT), '') FROM mbti_choice),
+                (SELECT COUNT(*) || ':' || COALESCE(CAST(MAX(updated_at) AS TEXT), '') FROM mbti_question_i18n),
+                (SELECT COUNT(*) || ':' || COALESCE(CAST(MAX(updated_at) AS TEXT), '') FROM mbti_choice_i18n))
+            """, nativeQuery = true)
+    String findScoringTableSignature();
 }
 
@@ -0,0 +1,215 @@
+package com.teamlms.backend.domain.mbti.service;
+
+import com.teamlms.backend.domain.mbti.entity.InterestKeywordMaster;
+import com.teamlms.backend.domain.mbti.entity.JobCatalog;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+
+/**
+ * 직업 카탈로그 버전별 후보 선정 인덱스 (불변)
+ * - 직업별 소문자 변환 필드를 한 번만 만들어 보관
+ * - 1/2글자 n-gram 역색인으로 키워드가 포함될 수 있는 직업만 추린 뒤 contains 로 확인
+ * - 점수 규칙: jobName 5, searchText 4, 대/중/소분류명 2 (키워드별 합산)
+ * - 상위 N 개는 크기 N 힙으로 선정, 점수 0 직업은 ID 순으로 뒤를 채움
+ * - 엔티티는 보관하지 않음 (ID 만 반환, 엔티티는 호출 측 트랜잭션에서 조회)
+ */
+final class JobCandidateIndex {
+
+    private static final int[] EMPTY = new int[0];
+
+    // 점수 -> 매칭 키워드 수 -> 직업 ID 순
+    private static final Comparator<Ranked> RANKING = Comparator
+            .comparingInt(Ranked::score).reversed()
+            .thenComparing(Comparator.comparingInt((Ranked r) -> r.matchedKeywords.size()).reversed())
+            .thenComparingLong(Ranked::jobId);
+
+    private final String version;
+    private final long[] jobIds;        // 직업 ID 오름차순
+    private final String[] jobNames;
+    private final String[] searchTexts;
+    private final String[] categoryNames; // [major, middle, minor] * n
+    private final Map<String, int[]> postings; // gram -> 직업 index 오름차순
+
+    /**
+     * 후보 직업 (ID + 점수 + 매칭 키워드)
+     */
+    record RankedJob(long jobId, int score, List<String> matchedKeywords) {
+    }
+
+    private record Ranked(long jobId, int score, List<String> matchedKeywords) {
+    }
+
+    private JobCandidateIndex(String version, long[] jobIds, String[] jobNames, String[] searchTexts,
+            String[] categoryNames, Map<String, int[]> postings) {
+        this.version = version;
+        this.jobIds = jobIds;
+        this.jobNames = jobNames;
+        this.searchTexts = searchTexts;
+        this.categoryNames = categoryNames;
+        this.postings = postings;
+    }
+
+    static JobCandidateIndex build(String version, List<JobCatalog> jobs) {
+        List<JobCatalog> sorted = new ArrayList<>(jobs);
+        sorted.sort(Comparator.comparing(JobCatalog::getId));
+
+        int n = sorted.size();
+        long[] jobIds = new long[n];
+        String[] jobNames = new String[n];
+        String[] searchTexts = new String[n];
+        String[] categoryNames = new String[n * 3];
+        Map<String, List<Integer>> grams = new HashMap<>();
+
+        for (int i = 0; i < n; i++) {
+            JobCatalog job = sorted.get(i);
+            jobIds[i] = job.getId();
+            jobNames[i] = lower(job.getJobName());
+            searchTexts[i] = lower(job.getSearchText());
+            categoryNames[i * 3] = lower(job.getMajorName());
+            categoryNames[i * 3 + 1] = lower(job.getMiddleName());
+            categoryNames[i * 3 + 2] = lower(job.getMinorName());
+
+            Set<String> jobGrams = new LinkedHashSet<>();
+            collectGrams(jobNames[i], jobGrams);
+            collectGrams(searchTexts[i], jobGrams);
+            for (int f = 0; f < 3; f++) {
+                collectGrams(categoryNames[i * 3 + f], jobGrams);
+            }
+            for (String gram : jobGrams) {
+                grams.computeIfAbsent(gram, k -> new ArrayList<>()).add(i);
+            }
+        }
+
+        Map<String, int[]> postings = new HashMap<>(grams.size() * 2);
+        grams.forEach((gram, list) -> postings.put(gram, list.stream().mapToInt(Integer::intValue).toArray()));
+        return new JobCandidateIndex(version, jobIds, jobNames, searchTexts, categoryNames, postings);
+    }
+
+    String version() {
+        return version;
+    }
+
+    int size() {
+        return jobIds.length;
+    }
+
+    /**
+     * 키워드 점수 상위 limit 개 직업
+     */
+    List<RankedJob> topCandidates(List<InterestKeywordMaster> selectedKeywords, int limit) {
+        int n = jobIds.length;
+        int[] scores = new int[n];
+        Map<Integer, Set<String>> matched = new HashMap<>();
+
+        for (InterestKeywordMaster keyword : selectedKeywords) {
+            String kw = lower(keyword.getKeyword());
+            if (kw.isBlank()) {
+                continue;
+            }
+            for (int i : candidatesFor(kw)) {
+                int score = 0;
+                if (searchTexts[i].contains(kw)) {
+                    score += 4;
+                }
+                if (jobNames[i].contains(kw)) {
+                    score += 5;
+                }
+                if (categoryNames[i * 3].contains(kw)
+                        || categoryNames[i * 3 + 1].contains(kw)
+                        || categoryNames[i * 3 + 2].contains(kw)) {
+                    score += 2;
+                }
+                if (score > 0) {
+                    scores[i] += score;
+                    matched.computeIfAbsent(i, k -> new LinkedHashSet<>()).add(keyword.getKeyword());
+                }
+            }
+        }
+
+        int size = Math.min(limit, n);
+        List<RankedJob> result = new ArrayList<>(size);
+
+        // 매칭된 직업: 크기 limit 힙 (가장 낮은 순위가 head)
+        PriorityQueue<Ranked> heap = new PriorityQueue<>(Math.max(1, size), RANKING.reversed());
+        matched.forEach((i, keywords) -> {
+            heap.offer(new Ranked(jobIds[i], scores[i], new ArrayList<>(keywords)));
+            if (heap.size() > size) {
+                heap.poll();
+            }
+        });
+        List<Ranked> top = new ArrayList<>(heap);
+        top.sort(RANKING);
+        for (Ranked r : top) {
+            result.add(new RankedJob(r.jobId(), r.score(), r.matchedKeywords()));
+        }
+
+        // 점수 0 직업은 ID 순으로 채움
+        for (int i = 0; i < n && result.size() < size; i++) {
+            if (!matched.containsKey(i)) {
+                result.add(new RankedJob(jobIds[i], 0, new ArrayList<>()));
+            }
+        }
+        return result;
+    }
+
+    /**
+     * 키워드를 포함할 수 있는 직업 index (n-gram posting 교집합)
+     */
+    private int[] candidatesFor(String kw) {
+        if (kw.length() == 1) {
+            return postings.getOrDefault(kw, EMPTY);
+        }
+        int[] result = null;
+        for (int i = 0; i + 2 <= kw.length(); i++) {
+            int[] posting = postings.get(kw.substring(i, i + 2));
+            if (posting == null) {
+                return EMPTY;
+            }
+            result = result == null ? posting : intersect(result, posting);
+            if (result.length == 0) {
+                return EMPTY;
+            }
+        }
+        return result;
+    }
+
+    private static int[] intersect(int[] a, int[] b) {
+        int[] out = new int[Math.min(a.length, b.length)];
+        int i = 0;
+        int j = 0;
+        int k = 0;
+        while (i < a.length && j < b.length) {
+            if (a[i] < b[j]) {
+                i++;
+            } else if (a[i] > b[j]) {
+                j++;
+            } else {
+                out[k++] = a[i];
+                i++;
+                j++;
+            }
+        }
+        return k == out.length ? out : Arrays.copyOf(out, k);
+    }
+
+    private static void collectGrams(String text, Set<String> target) {
+        for (int i = 0; i < text.length(); i++) {
+            target.add(text.substring(i, i + 1));
+            if (i + 2 <= text.length()) {
+                target.add(text.substring(i, i + 2));
+            }
+        }
+    }
+
+    private static String lower(String value) {
+        return value == null ? "" : value.toLowerCase();
+    }
+}
@@ -0,0 +1,48 @@
+package com.teamlms.backend.domain.mbti.service;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.springframework.stereotype.Component;
+
+import com.teamlms.backend.domain.mbti.entity.JobCatalog;
+import com.teamlms.backend.domain.mbti.repository.JobCatalogRepository;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 최신 직업 카탈로그 버전의 후보 인덱스 캐시
+ * - 요청마다 최신 버전만 확인하고, 버전이 바뀌었을 때만 다시 만들어 통째로 교체
+ */
+@Component
+@RequiredArgsConstructor
+public class JobCandidateIndexCache {
+
+    private final JobCatalogRepository jobCatalogRepository;
+
+    private final AtomicReference<JobCandidateIndex> current = new AtomicReference<>();
+
+    JobCandidateIndex current() {
+        String latestVersion = jobCatalogRepository.findLatestVersion();
+        JobCandidateIndex index = current.get();
+        if (index != null && Objects.equals(index.version(), latestVersion)) {
+            return index;
+        }
+        return rebuild(latestVersion);
+    }
+
+    private synchronized JobCandidateIndex rebuild(String latestVersion) {
+        // 대기 중 다른 스레드가 이미 만든 경우 재사용
+        JobCandidateIndex index = current.get();
+        if (index != null && Objects.equals(index.version(), latestVersion)) {
+            return index;
+        }
+        List<JobCatalog> jobs = latestVersion == null
+                ? jobCatalogRepository.findAll()
+                : jobCatalogRepository.findByVersionOrderByIdAsc(latestVersion);
+        JobCandidateIndex rebuilt = JobCandidateIndex.build(latestVersion, jobs);
+        current.set(rebuilt);
+        return rebuilt;
+    }
+}
@@ -2,11 +2,8 @@ package com.teamlms.backend.domain.mbti.service;
 
 import com.teamlms.backend.domain.mbti.api.dto.MbtiResultResponse;
 import com.teamlms.backend.domain.mbti.dto.MbtiSubmitCommand;
-import com.teamlms.backend.domain.mbti.entity.MbtiChoice;
-import com.teamlms.backend.domain.mbti.entity.MbtiQuestion;
 import com.teamlms.backend.domain.mbti.entity.MbtiResult;
 import com.teamlms.backend.domain.mbti.repository.MbtiJobRecommendationRepository;
-import com.teamlms.backend.domain.mbti.repository.MbtiChoiceRepository;
 import com.teamlms.backend.domain.mbti.repository.MbtiResultRepository;
 import com.teamlms.backend.global.exception.base.BusinessException;
 import com.teamlms.backend.global.exception.code.ErrorCode;
@@ -14,7 +11,6 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.util.List;
 import java.util.Objects;
 
 @Service
@@ -22,7 +18,7 @@ import java.util.Objects;
 @Transactional
 public class MbtiCommandService {
 
-    private final MbtiChoiceRepository choiceRepository;
+    private final MbtiScoringTableCache scoringTableCache;
     private final MbtiResultRepository resultRepository;
     private final MbtiJobRecommendationRepository recommendationRepository;
 
@@ -37,38 +33,13 @@ public class MbtiCommandService {
             throw new BusinessException(ErrorCode.MBTI_SUBMIT_INVALID);
         }
 
-        List<MbtiChoice> selectedChoices = choiceRepository.findAllById(command.answerChoiceIds());
-        if (selectedChoices.size() != command.answerChoiceIds().size()) {
+        // 채점표로 메모리에서 채점 (선택지/질문 조회 없음)
+        int[] scores = scoringTableCache.current().score(command.answerChoiceIds());
+        if (scores == null) {
             throw new BusinessException(ErrorCode.MBTI_ANSWER_NOT_FOUND);
         }
-
-        // Calculate Scores
-        int e = 0, i = 0, s = 0, n = 0, t = 0, f = 0, j = 0, p = 0;
-
-        for (MbtiChoice choice : selectedChoices) {
-            MbtiQuestion question = choice.getQuestion();
-            if (question == null)
-                continue;
-
-            switch (question.getDimension()) {
-                case EI -> {
-                    e += choice.getScoreA();
-                    i += choice.getScoreB();
-                }
-                case SN -> {
-                    s += choice.getScoreA();
-                    n += choice.getScoreB();
-                }
-                case TF -> {
-                    t += choice.getScoreA();
-                    f += choice.getScoreB();
-                }
-                case JP -> {
-                    j += choice.getScoreA();
-                    p += choice.getScoreB();
-                }
-            }
-        }
+        int e = scores[0], i = scores[1], s = scores[2], n = scores[3];
+        int t = scores[4], f = scores[5], j = scores[6], p = scores[7];
 
         // Determine Type
         StringBuilder typeParam = new StringBuilder();
@@ -9,6 +9,7 @@ import com.teamlms.backend.domain.mbti.api.dto.MbtiQuestionResponse;
 import com.teamlms.backend.global.i18n.LocaleUtil;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
@@ -27,51 +28,18 @@ public class MbtiI18nService {
     private final MbtiChoiceRepository choiceRepository;
     private final JobCatalogRepository jobCatalogRepository;
     private final InterestKeywordMasterRepository interestKeywordRepository;
+    private final MbtiScoringTableCache scoringTableCache;
 
     /**
      * 모든 MBTI 질문 조회 (locale별) - DTO 변환 포함
+     * 채점표 캐시에 미리 만들어 둔 locale별 응답을 반환 (DB 조회 없음)
      * @param locale locale code (ko, en, ja)
      * @return MBTI 질문 Response 목록 (DTO 변환 완료)
      */
+    @Transactional(propagation = Propagation.SUPPORTS)
     public List<MbtiQuestionResponse> getAllQuestionsWithI18nAsDto(String locale) {
         String normalizedLocale = LocaleUtil.normalize(locale);
-        List<MbtiQuestion> questions = questionRepository.findAllOrderBySortOrder();
-
-        if (questions.isEmpty()) {
-            return List.of();
-        }
-
-        // 모든 질문 ID 추출
-        List<Long> questionIds = questions.stream()
-                .map(MbtiQuestion::getQuestionId)
-                .toList();
-        
-        // 배치로 모든 선택지 로드
-        List<MbtiChoice> allChoices = choiceRepository.findByQuestionIdsOrderByQuestionAndChoiceId(questionIds);
-        
-        // 질문별로 선택지 그룹화
-        Map<Long, List<MbtiChoice>> choicesByQuestionId = allChoices.stream()
-                .collect(Collectors.groupingBy(c -> c.getQuestion().getQuestionId()));
-
-        // 질문 엔티티를 DTO로 변환 (Transaction 내에서 수행)
-        return questions.stream()
-                .map(question -> {
-                    List<MbtiChoice> questionChoices = choicesByQuestionId.getOrDefault(question.getQuestionId(), List.of());
-                    return new MbtiQuestionResponse(
-                            question.getQuestionId(),
-                            this.getQuestionContent(question, normalizedLocale),
-                            question.getSortOrder(),
-                            questionChoices.stream()
-                                    .map(choice -> new com.teamlms.backend.domain.mbti.api.dto.MbtiChoiceResponse(
-                                            choice.getChoiceId(),
-                                            this.getChoiceContent(choice, normalizedLocale)
-                                    ))
-                                    .toList(),
-                            question.getCreatedAt(),
-                            question.getUpdatedAt()
-                    );
-                })
-                .toList();
+        return scoringTableCache.current().questions(normalizedLocale);
     }
 
     /**
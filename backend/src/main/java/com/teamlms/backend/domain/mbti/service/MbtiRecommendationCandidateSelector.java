@@ -10,10 +10,10 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.ArrayList;
-import java.util.Comparator;
-import java.util.LinkedHashSet;
 import java.util.List;
-import java.util.Set;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
@@ -23,62 +23,31 @@ public class MbtiRecommendationCandidateSelector {
     private static final int CANDIDATE_SIZE = 40;
 
     private final JobCatalogRepository jobCatalogRepository;
+    private final JobCandidateIndexCache candidateIndexCache;
 
+    /**
+     * 최신 카탈로그 버전 인덱스로 상위 후보 선정 후, 후보 직업 엔티티만 현재 트랜잭션에서 조회
+     */
     public List<MbtiRecommendationCandidate> selectCandidates(List<InterestKeywordMaster> selectedKeywords) {
-        String latestVersion = jobCatalogRepository.findLatestVersion();
-        List<JobCatalog> jobs = latestVersion == null
-                ? jobCatalogRepository.findAll()
-                : jobCatalogRepository.findByVersionOrderByIdAsc(latestVersion);
+        JobCandidateIndex index = candidateIndexCache.current();
 
-        if (jobs.size() < 5) {
+        if (index.size() < 5) {
             throw new BusinessException(ErrorCode.MBTI_JOB_CATALOG_EMPTY);
         }
 
-        List<MbtiRecommendationCandidate> scored = new ArrayList<>();
-        for (JobCatalog job : jobs) {
-            int score = 0;
-            Set<String> matched = new LinkedHashSet<>();
-            String searchText = lower(job.getSearchText());
-            String jobName = lower(job.getJobName());
-            String major = lower(job.getMajorName());
-            String middle = lower(job.getMiddleName());
-            String minor = lower(job.getMinorName());
-
-            for (InterestKeywordMaster keyword : selectedKeywords) {
-                String kw = lower(keyword.getKeyword());
-                if (kw.isBlank()) {
-                    continue;
-                }
-                boolean hit = false;
-                if (searchText.contains(kw)) {
-                    score += 4;
-                    hit = true;
-                }
-                if (jobName.contains(kw)) {
-                    score += 5;
-                    hit = true;
-                }
-                if (major.contains(kw) || middle.contains(kw) || minor.contains(kw)) {
-                    score += 2;
-                    hit = true;
-                }
-                if (hit) {
-                    matched.add(keyword.getKeyword());
-                }
+        List<JobCandidateIndex.RankedJob> ranked = index.topCandidates(selectedKeywords, CANDIDATE_SIZE);
+        Map<Long, JobCatalog> jobs = jobCatalogRepository
+                .findAllById(ranked.stream().map(JobCandidateIndex.RankedJob::jobId).toList())
+                .stream()
+                .collect(Collectors.toMap(JobCatalog::getId, Function.identity()));
+
+        List<MbtiRecommendationCandidate> candidates = new ArrayList<>(ranked.size());
+        for (JobCandidateIndex.RankedJob r : ranked) {
+            JobCatalog job = jobs.get(r.jobId());
+            if (job != null) {
+                candidates.add(new MbtiRecommendationCandidate(job, r.score(), r.matchedKeywords()));
             }
-
-            scored.add(new MbtiRecommendationCandidate(job, score, new ArrayList<>(matched)));
         }
-
-        scored.sort(Comparator
-                .comparingInt(MbtiRecommendationCandidate::score).reversed()
-                .thenComparing((MbtiRecommendationCandidate c) -> c.matchedKeywords().size(), Comparator.reverseOrder())
-                .thenComparing(c -> c.job().getId()));
-
-        return scored.subList(0, Math.min(CANDIDATE_SIZE, scored.size()));
-    }
-
-    private String lower(String value) {
-        return value == null ? "" : value.toLowerCase();
+        return candidates;
     }
 }
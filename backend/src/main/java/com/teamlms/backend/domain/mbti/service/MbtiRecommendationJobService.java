@@ -0,0 +1,289 @@
+package com.teamlms.backend.domain.mbti.service;
+
+import com.teamlms.backend.domain.mbti.api.dto.MbtiJobRecommendationResponse;
+import com.teamlms.backend.domain.mbti.api.dto.MbtiRecommendationJobResponse;
+import com.teamlms.backend.domain.mbti.entity.InterestKeywordMaster;
+import com.teamlms.backend.domain.mbti.enums.MbtiRecommendationJobStatus;
+import com.teamlms.backend.domain.mbti.service.MbtiRecommendationService.GeneratedRecommendation;
+import com.teamlms.backend.domain.mbti.service.MbtiRecommendationService.GenerationInput;
+import com.teamlms.backend.global.exception.base.BusinessException;
+import com.teamlms.backend.global.exception.code.ErrorCode;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * MBTI 직업 추천 비동기 생성
+ * - 요청은 입력 검증 후 작업 ID 를 바로 반환, AI 호출은 전용 워커 풀에서 DB 트랜잭션 없이 실행 (저장만 짧은 트랜잭션)
+ * - 동기 생성(generate)도 같은 단계를 거침: 읽기 트랜잭션 → 트랜잭션 밖 AI 호출 → 쓰기 트랜잭션
+ * - (MBTI 유형, 정렬된 키워드 ID, locale, 카탈로그 버전) 이 같은 요청은 진행 중인 생성 1건을 공유
+ * - AI 생성 결과는 같은 키로 LRU 캐시에 보관, 적중 시 AI 호출 없이 계정별 저장만 수행 (템플릿 대체 결과는 캐시하지 않음)
+ * - 작업 상태는 인스턴스 메모리에만 보관, 끝난 작업은 job-ttl 이후 정리
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class MbtiRecommendationJobService {
+
+    private static final String DEFAULT_ERROR_MESSAGE = "추천 생성에 실패했습니다.";
+
+    private final MbtiRecommendationService recommendationService;
+
+    @Value("${mbti.recommendation.async.worker-threads:8}")
+    private int workerThreads;
+
+    @Value("${mbti.recommendation.async.queue-capacity:500}")
+    private int queueCapacity;
+
+    @Value("${mbti.recommendation.async.cache-size:1000}")
+    private int cacheSize;
+
+    @Value("${mbti.recommendation.async.job-ttl-minutes:30}")
+    private long jobTtlMinutes;
+
+    private final Map<String, Job> jobs = new ConcurrentHashMap<>();
+    private final Map<GenerationKey, Generation> inFlight = new ConcurrentHashMap<>();
+    private final AtomicReference<LocalDateTime> lastPurgedAt = new AtomicReference<>(LocalDateTime.MIN);
+
+    private Map<GenerationKey, GeneratedRecommendation> resultCache;
+    private ThreadPoolExecutor workers;
+
+    /**
+     * 생성 결과 공유 키
+     */
+    record GenerationKey(String mbtiType, List<Long> keywordIds, String locale, String catalogVersion) {
+    }
+
+    // 같은 키 요청이 함께 기다리는 생성 1건
+    private static final class Generation {
+        private final CompletableFuture<GeneratedRecommendation> future = new CompletableFuture<>();
+        private volatile boolean started;
+    }
+
+    private static final class Job {
+        private final String id;
+        private final Long accountId;
+        private final LocalDateTime requestedAt;
+        private volatile Generation generation;
+        private volatile boolean cached;
+        private volatile MbtiJobRecommendationResponse result;
+        private volatile String errorMessage;
+        private volatile LocalDateTime finishedAt;
+
+        private Job(String id, Long accountId, LocalDateTime requestedAt) {
+            this.id = id;
+            this.accountId = accountId;
+            this.requestedAt = requestedAt;
+        }
+
+        private MbtiRecommendationJobStatus status() {
+            if (finishedAt != null) {
+                return result != null ? MbtiRecommendationJobStatus.DONE : MbtiRecommendationJobStatus.FAILED;
+            }
+            Generation g = generation;
+            if (g == null || g.started || g.future.isDone()) {
+                return MbtiRecommendationJobStatus.RUNNING;
+            }
+            return MbtiRecommendationJobStatus.PENDING;
+        }
+
+        private void complete(MbtiJobRecommendationResponse response) {
+            result = response;
+            finishedAt = LocalDateTime.now();
+        }
+
+        private void fail(String message) {
+            errorMessage = message == null || message.isBlank() ? DEFAULT_ERROR_MESSAGE : message;
+            finishedAt = LocalDateTime.now();
+        }
+    }
+
+    @PostConstruct
+    void start() {
+        int threads = Math.max(1, workerThreads);
+        int maxCacheSize = Math.max(1, cacheSize);
+        resultCache = Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<GenerationKey, GeneratedRecommendation> eldest) {
+                return size() > maxCacheSize;
+            }
+        });
+
+        AtomicInteger seq = new AtomicInteger();
+        workers = new ThreadPoolExecutor(
+                threads,
+                threads,
+                0L,
+                TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(Math.max(1, queueCapacity)),
+                r -> {
+                    Thread t = new Thread(r, "mbti-recommendation-" + seq.incrementAndGet());
+                    t.setDaemon(true);
+                    return t;
+                });
+    }
+
+    @PreDestroy
+    void shutdown() {
+        workers.shutdownNow();
+    }
+
+    /**
+     * 추천 생성 작업 등록
+     * - MBTI 결과/키워드 검증은 요청 스레드에서 수행해 잘못된 요청은 바로 실패
+     * - 캐시 적중 시 저장까지 마치고 DONE 으로 반환
+     */
+    public MbtiRecommendationJobResponse submit(Long accountId, List<Long> keywordIds, String locale) {
+        purgeFinishedJobs(LocalDateTime.now());
+
+        GenerationInput input = recommendationService.prepareGeneration(accountId, keywordIds, locale);
+        GenerationKey key = keyOf(input);
+        Job job = new Job(UUID.randomUUID().toString(), accountId, LocalDateTime.now());
+
+        GeneratedRecommendation cached = resultCache.get(key);
+        if (cached != null) {
+            job.cached = true;
+            jobs.put(job.id, job);
+            save(job, input, cached);
+            return toResponse(job);
+        }
+
+        Generation generation = generationFor(key, input);
+        job.generation = generation;
+        jobs.put(job.id, job);
+        generation.future.whenComplete((generated, error) -> {
+            if (error != null) {
+                Throwable cause = error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+                job.fail(cause.getMessage());
+            } else {
+                save(job, input, generated);
+            }
+        });
+        return toResponse(job);
+    }
+
+    /**
+     * 추천 동기 생성 (호출 스레드에서 AI 호출까지 수행)
+     * - 입력 준비/저장은 각각 짧은 트랜잭션, AI 호출 중에는 트랜잭션/커넥션을 잡지 않음
+     * - 같은 조건의 생성 결과가 캐시에 있으면 AI 호출 없이 저장만 수행
+     */
+    public MbtiJobRecommendationResponse generate(Long accountId, List<Long> keywordIds, String locale) {
+        GenerationInput input = recommendationService.prepareGeneration(accountId, keywordIds, locale);
+        GenerationKey key = keyOf(input);
+
+        GeneratedRecommendation generated = resultCache.get(key);
+        if (generated == null) {
+            generated = recommendationService.generate(input);
+            if (!generated.fallback()) {
+                resultCache.put(key, generated);
+            }
+        }
+        return recommendationService.saveGenerated(input, generated);
+    }
+
+    /**
+     * 작업 상태 조회 (본인 작업만)
+     */
+    public MbtiRecommendationJobResponse getJob(Long accountId, String jobId) {
+        Job job = jobs.get(jobId);
+        if (job == null || !job.accountId.equals(accountId)) {
+            throw new BusinessException(ErrorCode.MBTI_RECOMMENDATION_JOB_NOT_FOUND, jobId);
+        }
+        return toResponse(job);
+    }
+
+    private Generation generationFor(GenerationKey key, GenerationInput input) {
+        Generation created = new Generation();
+        Generation existing = inFlight.putIfAbsent(key, created);
+        if (existing != null) {
+            return existing;
+        }
+
+        try {
+            workers.execute(() -> generate(key, input, created));
+        } catch (RejectedExecutionException e) {
+            inFlight.remove(key, created);
+            created.future.completeExceptionally(new BusinessException(ErrorCode.MBTI_RECOMMENDATION_BUSY));
+            throw new BusinessException(ErrorCode.MBTI_RECOMMENDATION_BUSY);
+        }
+        return created;
+    }
+
+    private void generate(GenerationKey key, GenerationInput input, Generation generation) {
+        generation.started = true;
+        try {
+            // 큐에서 기다리는 동안 같은 키 생성이 먼저 끝났으면 재사용
+            GeneratedRecommendation generated = resultCache.get(key);
+            if (generated == null) {
+                generated = recommendationService.generate(input);
+                if (!generated.fallback()) {
+                    resultCache.put(key, generated);
+                }
+            }
+            inFlight.remove(key, generation);
+            generation.future.complete(generated);
+        } catch (RuntimeException e) {
+            log.warn("MBTI recommendation generation failed. key={}", key, e);
+            inFlight.remove(key, generation);
+            generation.future.completeExceptionally(e);
+        }
+    }
+
+    private void save(Job job, GenerationInput input, GeneratedRecommendation generated) {
+        try {
+            job.complete(recommendationService.saveGenerated(input, generated));
+        } catch (RuntimeException e) {
+            log.warn("MBTI recommendation save failed. jobId={}, accountId={}", job.id, job.accountId, e);
+            job.fail(e.getMessage());
+        }
+    }
+
+    // 끝난 작업 정리 (최대 1분에 한 번)
+    private void purgeFinishedJobs(LocalDateTime now) {
+        LocalDateTime last = lastPurgedAt.get();
+        if (last.isAfter(now.minusMinutes(1)) || !lastPurgedAt.compareAndSet(last, now)) {
+            return;
+        }
+        LocalDateTime threshold = now.minusMinutes(jobTtlMinutes);
+        jobs.values().removeIf(job -> job.finishedAt != null && job.finishedAt.isBefore(threshold));
+    }
+
+    private static GenerationKey keyOf(GenerationInput input) {
+        List<Long> keywordIds = input.selectedKeywords().stream()
+                .map(InterestKeywordMaster::getId)
+                .sorted()
+                .toList();
+        return new GenerationKey(input.mbtiResult().getMbtiType(), keywordIds, input.locale(), input.catalogVersion());
+    }
+
+    private static MbtiRecommendationJobResponse toResponse(Job job) {
+        return new MbtiRecommendationJobResponse(
+                job.id,
+                job.status().name(),
+                job.cached,
+                job.result,
+                job.errorMessage,
+                job.requestedAt,
+                job.finishedAt
+        );
+    }
+}
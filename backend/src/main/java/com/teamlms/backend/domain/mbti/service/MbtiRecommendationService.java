@@ -16,8 +16,10 @@ import com.teamlms.backend.global.exception.code.ErrorCode;
 import com.teamlms.backend.global.i18n.LocaleUtil;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.hibernate.Hibernate;
 import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
@@ -52,23 +54,79 @@ public class MbtiRecommendationService {
         return keywordService.getActiveInterestKeywords();
     }
 
-    @Transactional
-    public MbtiJobRecommendationResponse generateRecommendation(Long accountId, List<Long> keywordIds, String locale) {
+    /**
+     * 생성 입력 준비 (짧은 읽기 트랜잭션)
+     * - 트랜잭션 밖에서 AI 호출에 쓰이므로 키워드/후보 직업의 다국어 컬렉션까지 초기화
+     * - 준비/생성/저장은 MbtiRecommendationJobService 가 프록시를 거쳐 단계별로 호출 (같은 빈 안에서 묶으면
+     *   self-invocation 으로 트랜잭션 경계가 무시되어 AI 호출 동안 커넥션을 점유)
+     */
+    public GenerationInput prepareGeneration(Long accountId, List<Long> keywordIds, String locale) {
         String normalizedLocale = LocaleUtil.normalize(locale);
         MbtiResult mbtiResult = mbtiResultRepository.findTopByAccountIdOrderByCreatedAtDesc(accountId)
                 .orElseThrow(() -> new BusinessException(ErrorCode.MBTI_RESULT_NOT_FOUND));
 
         List<InterestKeywordMaster> selectedKeywords = keywordService.getValidatedKeywords(keywordIds);
         List<MbtiRecommendationCandidate> candidates = candidateSelector.selectCandidates(selectedKeywords);
-        List<ResolvedRecommendation> resolved = generateByAiWithFallback(
-                mbtiResult,
-                selectedKeywords,
-                candidates,
-                normalizedLocale
+        selectedKeywords.forEach(k -> Hibernate.initialize(k.getI18nContents()));
+        candidates.forEach(c -> Hibernate.initialize(c.job().getI18nContents()));
+
+        String catalogVersion = candidates.isEmpty() ? null : candidates.get(0).job().getVersion();
+        return new GenerationInput(accountId, mbtiResult, selectedKeywords, candidates, catalogVersion, normalizedLocale);
+    }
+
+    /**
+     * AI 추천 생성 (재시도/템플릿 대체 포함, DB 트랜잭션 없이 실행)
+     * - 결과는 엔티티 없이 직업 ID/코드/이름/사유만 담아 캐시 가능
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public GeneratedRecommendation generate(GenerationInput input) {
+        List<ResolvedRecommendation> resolved = generateByAi(
+                input.mbtiResult(),
+                input.selectedKeywords(),
+                input.candidates(),
+                input.locale()
         );
+        boolean fallback = resolved == null;
+        if (fallback) {
+            resolved = fallbackRecommendations(input.mbtiResult(), input.selectedKeywords(), input.candidates(), input.locale());
+        }
+
+        List<GeneratedItem> items = resolved.stream()
+                .map(rec -> new GeneratedItem(
+                        rec.job().getId(),
+                        rec.job().getJobCode(),
+                        rec.job().getJobName(),
+                        limitReasonText(rec.reason())
+                ))
+                .toList();
+        List<String> candidateJobCodes = input.candidates().stream().map(c -> c.job().getJobCode()).toList();
+        return new GeneratedRecommendation(candidateJobCodes, items, fallback);
+    }
+
+    /**
+     * 생성 결과 저장 (짧은 쓰기 트랜잭션)
+     */
+    @Transactional
+    public MbtiJobRecommendationResponse saveGenerated(GenerationInput input, GeneratedRecommendation generated) {
+        MbtiResult mbtiResult = mbtiResultRepository.findById(input.mbtiResult().getResultId())
+                .orElseThrow(() -> new BusinessException(ErrorCode.MBTI_RESULT_NOT_FOUND));
+        return save(mbtiResult, input, generated);
+    }
+
+    public MbtiJobRecommendationResponse getLatestRecommendation(Long accountId, String locale) {
+        String normalizedLocale = LocaleUtil.normalize(locale);
+        return recommendationRepository.findByAccountId(accountId)
+                .map(saved -> toResponse(saved, keywordService.getKeywordsByIds(saved.getSelectedKeywordIds()), normalizedLocale))
+                .orElse(null);
+    }
 
-        List<Long> selectedKeywordIds = selectedKeywords.stream().map(InterestKeywordMaster::getId).toList();
-        List<String> candidateJobCodes = candidates.stream().map(c -> c.job().getJobCode()).toList();
+    private MbtiJobRecommendationResponse save(
+            MbtiResult mbtiResult,
+            GenerationInput input,
+            GeneratedRecommendation generated
+    ) {
+        Long accountId = input.accountId();
+        List<Long> selectedKeywordIds = input.selectedKeywords().stream().map(InterestKeywordMaster::getId).toList();
         LocalDateTime generatedAt = LocalDateTime.now();
 
         MbtiJobRecommendation saved;
@@ -77,8 +135,8 @@ public class MbtiRecommendationService {
                     accountId,
                     mbtiResult,
                     selectedKeywordIds,
-                    candidateJobCodes,
-                    resolved,
+                    generated.candidateJobCodes(),
+                    generated.items(),
                     generatedAt
             );
         } catch (DataIntegrityViolationException e) {
@@ -88,20 +146,13 @@ public class MbtiRecommendationService {
                     accountId,
                     mbtiResult,
                     selectedKeywordIds,
-                    candidateJobCodes,
-                    resolved,
+                    generated.candidateJobCodes(),
+                    generated.items(),
                     generatedAt
             );
         }
 
-        return toResponse(saved, selectedKeywords, normalizedLocale);
-    }
-
-    public MbtiJobRecommendationResponse getLatestRecommendation(Long accountId, String locale) {
-        String normalizedLocale = LocaleUtil.normalize(locale);
-        return recommendationRepository.findByAccountId(accountId)
-                .map(saved -> toResponse(saved, keywordService.getKeywordsByIds(saved.getSelectedKeywordIds()), normalizedLocale))
-                .orElse(null);
+        return toResponse(saved, input.selectedKeywords(), input.locale());
     }
 
     private MbtiJobRecommendation upsertRecommendation(
@@ -109,7 +160,7 @@ public class MbtiRecommendationService {
             MbtiResult mbtiResult,
             List<Long> selectedKeywordIds,
             List<String> candidateJobCodes,
-            List<ResolvedRecommendation> resolved,
+            List<GeneratedItem> generatedItems,
             LocalDateTime generatedAt
     ) {
         MbtiJobRecommendation recommendation = recommendationRepository.findByAccountId(accountId).orElse(null);
@@ -143,15 +194,15 @@ public class MbtiRecommendationService {
         }
 
         List<MbtiJobRecommendationItem> items = new ArrayList<>();
-        for (int i = 0; i < resolved.size(); i++) {
-            ResolvedRecommendation rec = resolved.get(i);
+        for (int i = 0; i < generatedItems.size(); i++) {
+            GeneratedItem rec = generatedItems.get(i);
             items.add(MbtiJobRecommendationItem.builder()
                     .recommendation(recommendation)
                     .rankNo(i + 1)
-                    .jobCatalogId(rec.job().getId())
-                    .jobCode(rec.job().getJobCode())
-                    .jobName(rec.job().getJobName())
-                    .reasonText(limitReasonText(rec.reason()))
+                    .jobCatalogId(rec.jobCatalogId())
+                    .jobCode(rec.jobCode())
+                    .jobName(rec.jobName())
+                    .reasonText(rec.reasonText())
                     .build());
         }
         recommendation.replaceItems(items);
@@ -164,7 +215,8 @@ public class MbtiRecommendationService {
         return recommendation;
     }
 
-    private List<ResolvedRecommendation> generateByAiWithFallback(
+    // AI 응답 검증까지 통과한 추천, 실패 시 null (호출 측에서 템플릿 대체)
+    private List<ResolvedRecommendation> generateByAi(
             MbtiResult mbtiResult,
             List<InterestKeywordMaster> selectedKeywords,
             List<MbtiRecommendationCandidate> candidates,
@@ -172,7 +224,7 @@ public class MbtiRecommendationService {
     ) {
         if (!aiClient.isAvailable()) {
             log.warn("ChatClient.Builder bean not found. Using template fallback recommendations.");
-            return fallbackRecommendations(mbtiResult, selectedKeywords, candidates, locale);
+            return null;
         }
 
         Map<String, MbtiRecommendationCandidate> candidateMap = candidates.stream()
@@ -188,7 +240,7 @@ public class MbtiRecommendationService {
                 log.warn("MBTI recommendation AI attempt {} failed: {}", attempt, e.getMessage());
             }
         }
-        return fallbackRecommendations(mbtiResult, selectedKeywords, candidates, locale);
+        return null;
     }
 
     private List<ResolvedRecommendation> parseAndResolve(
@@ -546,6 +598,26 @@ public class MbtiRecommendationService {
 
     private record ResolvedRecommendation(JobCatalog job, String reason) {
     }
+
+    /**
+     * 생성 입력 (계정 최신 MBTI 결과 + 검증된 키워드 + 후보 직업 + 카탈로그 버전)
+     */
+    public record GenerationInput(
+            Long accountId,
+            MbtiResult mbtiResult,
+            List<InterestKeywordMaster> selectedKeywords,
+            List<MbtiRecommendationCandidate> candidates,
+            String catalogVersion,
+            String locale
+    ) {}
+
+    /**
+     * 생성 결과 (엔티티 미포함, 계정과 무관하게 재사용 가능)
+     * - fallback: AI 실패로 템플릿 사유를 쓴 결과
+     */
+    public record GeneratedRecommendation(List<String> candidateJobCodes, List<GeneratedItem> items, boolean fallback) {}
+
+    public record GeneratedItem(Long jobCatalogId, String jobCode, String jobName, String reasonText) {}
 }
 
 
@@ -0,0 +1,141 @@
+package com.teamlms.backend.domain.mbti.service;
+
+import com.teamlms.backend.domain.mbti.api.dto.MbtiChoiceResponse;
+import com.teamlms.backend.domain.mbti.api.dto.MbtiQuestionResponse;
+import com.teamlms.backend.domain.mbti.entity.MbtiChoice;
+import com.teamlms.backend.domain.mbti.entity.MbtiQuestion;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * MBTI 채점표 + 질문 응답 캐시 (불변, 질문/선택지 시그니처 버전별)
+ * - 선택지 ID 오름차순 배열에 차원 index(EI/SN/TF/JP 순) 와 A/B 점수를 보관해 제출 채점 시 DB 조회 없음
+ * - locale 별 질문/선택지 응답을 미리 만들어 그대로 반환
+ */
+final class MbtiScoringTable {
+
+    private static final String DEFAULT_LOCALE = "ko";
+
+    private final String version;
+    private final long[] choiceIds;   // 오름차순
+    private final byte[] dimensions;  // MbtiDimension.ordinal()
+    private final int[] scoreA;
+    private final int[] scoreB;
+    private final Map<String, List<MbtiQuestionResponse>> questionsByLocale;
+
+    private MbtiScoringTable(String version, long[] choiceIds, byte[] dimensions, int[] scoreA, int[] scoreB,
+            Map<String, List<MbtiQuestionResponse>> questionsByLocale) {
+        this.version = version;
+        this.choiceIds = choiceIds;
+        this.dimensions = dimensions;
+        this.scoreA = scoreA;
+        this.scoreB = scoreB;
+        this.questionsByLocale = questionsByLocale;
+    }
+
+    /**
+     * @param questions 정렬 순서대로의 질문 (다국어 컬렉션 접근 가능한 상태)
+     * @param choices   질문 ID, 선택지 ID 순 선택지
+     */
+    static MbtiScoringTable build(String version, List<MbtiQuestion> questions, List<MbtiChoice> choices,
+            Collection<String> locales) {
+        Map<Long, MbtiQuestion> questionMap = new HashMap<>();
+        for (MbtiQuestion question : questions) {
+            questionMap.put(question.getQuestionId(), question);
+        }
+
+        Map<Long, List<MbtiChoice>> choicesByQuestionId = new HashMap<>();
+        List<MbtiChoice> scored = new ArrayList<>(choices.size());
+        for (MbtiChoice choice : choices) {
+            MbtiQuestion question = choice.getQuestion() == null ? null : questionMap.get(choice.getQuestion().getQuestionId());
+            if (question == null || question.getDimension() == null) {
+                continue;
+            }
+            choicesByQuestionId.computeIfAbsent(question.getQuestionId(), k -> new ArrayList<>()).add(choice);
+            scored.add(choice);
+        }
+        scored.sort(Comparator.comparing(MbtiChoice::getChoiceId));
+
+        int n = scored.size();
+        long[] choiceIds = new long[n];
+        byte[] dimensions = new byte[n];
+        int[] scoreA = new int[n];
+        int[] scoreB = new int[n];
+        for (int i = 0; i < n; i++) {
+            MbtiChoice choice = scored.get(i);
+            choiceIds[i] = choice.getChoiceId();
+            dimensions[i] = (byte) questionMap.get(choice.getQuestion().getQuestionId()).getDimension().ordinal();
+            scoreA[i] = choice.getScoreA() == null ? 0 : choice.getScoreA();
+            scoreB[i] = choice.getScoreB() == null ? 0 : choice.getScoreB();
+        }
+
+        Map<String, List<MbtiQuestionResponse>> questionsByLocale = new LinkedHashMap<>();
+        for (String locale : locales) {
+            questionsByLocale.put(locale, render(questions, choicesByQuestionId, locale));
+        }
+        return new MbtiScoringTable(version, choiceIds, dimensions, scoreA, scoreB, Map.copyOf(questionsByLocale));
+    }
+
+    String version() {
+        return version;
+    }
+
+    int choiceCount() {
+        return choiceIds.length;
+    }
+
+    /**
+     * 선택지 ID 목록 -> [E, I, S, N, T, F, J, P] 점수
+     *
+     * @return 없는 선택지 ID 또는 중복 ID 가 있으면 null
+     */
+    int[] score(List<Long> answerChoiceIds) {
+        int[] totals = new int[8];
+        boolean[] seen = new boolean[choiceIds.length];
+        for (Long choiceId : answerChoiceIds) {
+            int idx = choiceId == null ? -1 : Arrays.binarySearch(choiceIds, choiceId);
+            if (idx < 0 || seen[idx]) {
+                return null;
+            }
+            seen[idx] = true;
+            int d = dimensions[idx] * 2;
+            totals[d] += scoreA[idx];
+            totals[d + 1] += scoreB[idx];
+        }
+        return totals;
+    }
+
+    /**
+     * locale 별 질문 응답 (미지원 locale 은 ko)
+     */
+    List<MbtiQuestionResponse> questions(String locale) {
+        List<MbtiQuestionResponse> questions = questionsByLocale.get(locale);
+        return questions != null ? questions : questionsByLocale.getOrDefault(DEFAULT_LOCALE, List.of());
+    }
+
+    private static List<MbtiQuestionResponse> render(List<MbtiQuestion> questions,
+            Map<Long, List<MbtiChoice>> choicesByQuestionId, String locale) {
+        List<MbtiQuestionResponse> responses = new ArrayList<>(questions.size());
+        for (MbtiQuestion question : questions) {
+            List<MbtiChoiceResponse> choices = choicesByQuestionId.getOrDefault(question.getQuestionId(), List.of()).stream()
+                    .map(choice -> new MbtiChoiceResponse(choice.getChoiceId(), choice.getContentByLocale(locale)))
+                    .toList();
+            responses.add(new MbtiQuestionResponse(
+                    question.getQuestionId(),
+                    question.getContentByLocale(locale),
+                    question.getSortOrder(),
+                    choices,
+                    question.getCreatedAt(),
+                    question.getUpdatedAt()
+            ));
+        }
+        return List.copyOf(responses);
+    }
+}
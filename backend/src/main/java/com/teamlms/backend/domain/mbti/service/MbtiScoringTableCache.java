@@ -0,0 +1,108 @@
+package com.teamlms.backend.domain.mbti.service;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.teamlms.backend.domain.mbti.entity.MbtiChoice;
+import com.teamlms.backend.domain.mbti.entity.MbtiQuestion;
+import com.teamlms.backend.domain.mbti.repository.MbtiChoiceRepository;
+import com.teamlms.backend.domain.mbti.repository.MbtiQuestionRepository;
+
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * MBTI 채점표 캐시
+ * - 기동 시 적재, refresh-interval 마다 질문/선택지 시그니처만 확인해 바뀌었을 때만 다시 만들어 통째로 교체
+ * - 요청 경로(제출 채점, 질문 조회)에서는 DB 를 조회하지 않음
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class MbtiScoringTableCache {
+
+    static final List<String> LOCALES = List.of("ko", "en", "ja");
+
+    private final MbtiQuestionRepository questionRepository;
+    private final MbtiChoiceRepository choiceRepository;
+    private final PlatformTransactionManager transactionManager;
+
+    @Value("${mbti.scoring-table.refresh-interval-seconds:60}")
+    private long refreshIntervalSeconds;
+
+    private final AtomicReference<MbtiScoringTable> current = new AtomicReference<>();
+    private ScheduledExecutorService refresher;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        refresh();
+
+        ScheduledThreadPoolExecutor executor = new ScheduledThreadPoolExecutor(1, r -> {
+            Thread t = new Thread(r, "mbti-scoring-table-refresh");
+            t.setDaemon(true);
+            return t;
+        });
+        executor.setExecuteExistingDelayedTasksAfterShutdownPolicy(false);
+        refresher = executor;
+        refresher.scheduleWithFixedDelay(this::refreshSafely,
+                refreshIntervalSeconds, refreshIntervalSeconds, TimeUnit.SECONDS);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        if (refresher != null) {
+            refresher.shutdownNow();
+        }
+    }
+
+    MbtiScoringTable current() {
+        MbtiScoringTable table = current.get();
+        return table != null ? table : refresh();
+    }
+
+    /**
+     * 시그니처가 바뀌었으면 다시 적재 (같으면 기존 표 반환)
+     */
+    synchronized MbtiScoringTable refresh() {
+        TransactionTemplate tx = new TransactionTemplate(transactionManager);
+        tx.setReadOnly(true);
+        return tx.execute(status -> {
+            String signature = questionRepository.findScoringTableSignature();
+            MbtiScoringTable table = current.get();
+            if (table != null && Objects.equals(table.version(), signature)) {
+                return table;
+            }
+
+            List<MbtiQuestion> questions = questionRepository.findAllOrderBySortOrder();
+            List<MbtiChoice> choices = questions.isEmpty()
+                    ? List.of()
+                    : choiceRepository.findByQuestionIdsOrderByQuestionAndChoiceId(
+                            questions.stream().map(MbtiQuestion::getQuestionId).toList());
+            MbtiScoringTable rebuilt = MbtiScoringTable.build(signature, questions, choices, LOCALES);
+            current.set(rebuilt);
+            log.info("MBTI scoring table loaded. questions={}, choices={}, version={}",
+                    questions.size(), rebuilt.choiceCount(), signature);
+            return rebuilt;
+        });
+    }
+
+    private void refreshSafely() {
+        try {
+            refresh();
+        } catch (RuntimeException e) {
+            log.warn("MBTI scoring table refresh failed", e);
+        }
+    }
+}
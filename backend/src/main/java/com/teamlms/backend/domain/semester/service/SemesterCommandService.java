@@ -8,6 +8,7 @@ import com.teamlms.backend.domain.competency.repository.DiagnosisRunRepository;
 import com.teamlms.backend.domain.competency.repository.SemesterCompetencyCohortStatRepository;
 import com.teamlms.backend.domain.competency.repository.SemesterStudentCompetencySummaryRepository;
 import com.teamlms.backend.domain.curricular.repository.CurricularOfferingRepository;
+import com.teamlms.backend.domain.curricular.service.StudentTimetableCache;
 import com.teamlms.backend.domain.extracurricular.repository.ExtraCurricularOfferingRepository;
 import com.teamlms.backend.domain.mentoring.repository.MentoringRecruitmentRepository;
 import com.teamlms.backend.domain.semester.entity.Semester;
@@ -32,6 +33,7 @@ public class SemesterCommandService {
     private final DiagnosisRunRepository diagnosisRunRepository;
     private final SemesterStudentCompetencySummaryRepository semesterStudentCompetencySummaryRepository;
     private final SemesterCompetencyCohortStatRepository semesterCompetencyCohortStatRepository;
+    private final StudentTimetableCache studentTimetableCache;
     
     // 학기 생성
     public void create(int year, Term term, LocalDate startDate, LocalDate endDate) {
@@ -76,6 +78,11 @@ public class SemesterCommandService {
         validateDateRange(nextStart, nextEnd);
         validateCloseAllowed(semester, status);
 
+        // 학기 전환 시 해당 학기 학생 시간표 캐시 제거
+        if (status != null && status != semester.getStatus()) {
+            studentTimetableCache.evictSemester(semesterId);
+        }
+
         semester.patch(startDate, endDate, status);
     }
 
@@ -1,5 +1,6 @@
 package com.teamlms.backend.domain.study_rental.api;
 
+import com.teamlms.backend.domain.study_rental.api.dto.RentalCursorPage;
 import com.teamlms.backend.domain.study_rental.api.dto.RentalProcessRequest;
 import com.teamlms.backend.domain.study_rental.api.dto.RentalResponse;
 import com.teamlms.backend.domain.study_rental.dto.RentalSearchCondition;
@@ -7,6 +8,7 @@ import com.teamlms.backend.domain.study_rental.enums.RentalStatus;
 import com.teamlms.backend.domain.study_rental.service.StudyRentalCommandService;
 import com.teamlms.backend.domain.study_rental.service.StudyRentalQueryService;
 import com.teamlms.backend.global.api.ApiResponse;
+import com.teamlms.backend.global.api.CursorMeta;
 import com.teamlms.backend.global.api.PageMeta;
 import com.teamlms.backend.global.api.dto.SuccessResponse;
 
@@ -53,6 +55,33 @@ public class AdminStudyRentalController {
         return ApiResponse.of(result.getContent(), PageMeta.from(result));
     }
 
+    // 예약 목록 커서 조회 (시작 시각 최신순, 깊은 페이지도 일정한 속도, 건수는 첫 페이지에서만)
+    @GetMapping("/api/v1/admin/spaces-rentals/cursor")
+    @PreAuthorize("hasAuthority('RENTAL_READ')")
+    public ApiResponse<List<RentalResponse>> listRentalsByCursor(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(required = false) String keyword,
+            @RequestParam(required = false) Long spaceId,
+            @RequestParam(required = false) RentalStatus status,
+            @RequestParam(required = false) Long applicantId) {
+        RentalSearchCondition condition = RentalSearchCondition.builder()
+                .keyword(keyword)
+                .spaceId(spaceId)
+                .status(status)
+                .applicantId(applicantId)
+                .build();
+
+        RentalCursorPage result = queryService.getRentalListByCursor(condition, cursor, size);
+        return ApiResponse.of(result.content(), CursorMeta.builder()
+                .size(result.content().size())
+                .nextCursor(result.nextCursor())
+                .hasNext(result.hasNext())
+                .totalElements(result.totalElements())
+                .totalExact(result.totalExact())
+                .build());
+    }
+
     // 예약 상태 변경 (승인/반려)
     @PatchMapping("/api/v1/admin/spaces-rentals/{rentalId}")
     @PreAuthorize("hasAuthority('RENTAL_MANAGE')")
@@ -2,6 +2,7 @@ package com.teamlms.backend.domain.study_rental.api;
 
 import com.teamlms.backend.domain.study_rental.api.dto.RentalApplyRequest;
 import com.teamlms.backend.domain.study_rental.api.dto.RoomDetailResponse;
+import com.teamlms.backend.domain.study_rental.api.dto.SpaceAvailabilityResponse;
 import com.teamlms.backend.domain.study_rental.api.dto.SpaceDetailResponse;
 import com.teamlms.backend.domain.study_rental.api.dto.SpaceListResponse;
 import com.teamlms.backend.domain.study_rental.dto.SpaceSearchCondition;
@@ -18,10 +19,14 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.core.Authentication;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
+import java.time.LocalDate;
 import java.util.List;
 
 @Slf4j
@@ -33,18 +38,24 @@ public class StudySpaceController {
     private final StudySpaceQueryService queryService;
     private final StudyRentalCommandService rentalCommandService;
 
-    // 학습공간 목록 조회
+    // 학습공간 목록 조회 (학습공간 관리 권한이면 비활성 공간 포함, ETag 가 같으면 304)
     @GetMapping({ "/api/v1/student/spaces",
             "/api/v1/admin/spaces" })
     @PreAuthorize("hasAuthority('SPACE_READ')")
     public ApiResponse<List<SpaceListResponse>> listSpaces(
             @RequestParam(defaultValue = "1") int page,
             @RequestParam(defaultValue = "20") int size,
-            @RequestParam(required = false) String keyword) {
+            @RequestParam(required = false) String keyword,
+            Authentication authentication,
+            WebRequest webRequest) {
+        boolean includeInactive = canManageSpace(authentication);
+        if (webRequest.checkNotModified(queryService.getCatalogETag(includeInactive))) {
+            return null;
+        }
         Pageable pageable = PageRequest.of(Math.max(page - 1, 0), size, Sort.by(Sort.Direction.DESC, "createdAt"));
         SpaceSearchCondition condition = SpaceSearchCondition.builder()
                 .keyword(keyword)
-                .isActiveOnly(true)
+                .isActiveOnly(!includeInactive)
                 .build();
         Page<SpaceListResponse> result = queryService.getSpaceList(condition, pageable);
         return ApiResponse.of(result.getContent(), PageMeta.from(result));
@@ -54,17 +65,33 @@ public class StudySpaceController {
     @GetMapping({ "/api/v1/student/spaces/{spaceId}",
             "/api/v1/admin/spaces/{spaceId}" })
     @PreAuthorize("hasAuthority('SPACE_READ')")
-    public ApiResponse<SpaceDetailResponse> getSpaceDetail(@PathVariable Long spaceId) {
+    public ApiResponse<SpaceDetailResponse> getSpaceDetail(@PathVariable Long spaceId, WebRequest webRequest) {
+        if (webRequest.checkNotModified(queryService.getCatalogETag(false))) {
+            return null;
+        }
         return ApiResponse.ok(queryService.getSpaceDetail(spaceId));
     }
 
     // 예약 가능한 룸 목록 조회
     @GetMapping("/api/v1/student/spaces/{spaceId}/rooms")
     @PreAuthorize("hasAuthority('SPACE_READ')")
-    public ApiResponse<List<RoomDetailResponse>> listAvailableRooms(@PathVariable Long spaceId) {
+    public ApiResponse<List<RoomDetailResponse>> listAvailableRooms(@PathVariable Long spaceId, WebRequest webRequest) {
+        if (webRequest.checkNotModified(queryService.getCatalogETag(false))) {
+            return null;
+        }
         return ApiResponse.ok(queryService.getAvailableRooms(spaceId));
     }
 
+    // 날짜별 예약 현황 (공간 내 활성 룸 전체)
+    @GetMapping({ "/api/v1/student/spaces/{spaceId}/availability",
+            "/api/v1/admin/spaces/{spaceId}/availability" })
+    @PreAuthorize("hasAuthority('SPACE_READ')")
+    public ApiResponse<SpaceAvailabilityResponse> getSpaceAvailability(
+            @PathVariable Long spaceId,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date) {
+        return ApiResponse.ok(queryService.getSpaceAvailability(spaceId, date));
+    }
+
     // 예약 신청
     @PostMapping("/api/v1/student/spaces/{spaceId}/rooms")
     @PreAuthorize("hasAuthority('RENTAL_CREATE')")
@@ -77,4 +104,9 @@ public class StudySpaceController {
 
         return ApiResponse.ok(new SuccessResponse());
     }
-}
\ No newline at end of file
+
+    private boolean canManageSpace(Authentication authentication) {
+        return authentication != null && authentication.getAuthorities().stream()
+                .anyMatch(a -> "SPACE_MANAGE".equals(a.getAuthority()));
+    }
+}
@@ -0,0 +1,12 @@
+package com.teamlms.backend.domain.study_rental.api.dto;
+
+import java.util.List;
+
+// 5. 예약 내역 커서 페이지 (totalElements 는 첫 페이지에서만 계산)
+public record RentalCursorPage(
+        List<RentalResponse> content,
+        String nextCursor,
+        boolean hasNext,
+        Long totalElements,
+        Boolean totalExact
+) {}
@@ -0,0 +1,44 @@
+package com.teamlms.backend.domain.study_rental.api.dto;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+
+// 4. 학습공간 날짜별 예약 현황 (룸별 승인/승인 대기/빈 시간)
+@Getter
+@Builder
+public class SpaceAvailabilityResponse {
+    private Long spaceId;
+
+    @JsonFormat(pattern = "yyyy-MM-dd")
+    private LocalDate date;
+
+    private List<RoomAvailabilityResponse> rooms;
+
+    @Getter @Builder
+    public static class RoomAvailabilityResponse {
+        private Long roomId;
+        private String roomName;
+
+        @JsonFormat(pattern = "HH:mm")
+        private LocalTime availableStartTime;
+        @JsonFormat(pattern = "HH:mm")
+        private LocalTime availableEndTime;
+
+        private List<TimeRangeResponse> approved;   // 승인된 예약
+        private List<TimeRangeResponse> requested;  // 승인 대기 예약
+        private List<TimeRangeResponse> free;       // 예약 가능한 시간
+    }
+
+    @Getter @Builder
+    public static class TimeRangeResponse {
+        @JsonFormat(pattern = "HH:mm")
+        private LocalTime startTime;
+        @JsonFormat(pattern = "HH:mm")
+        private LocalTime endTime;
+    }
+}
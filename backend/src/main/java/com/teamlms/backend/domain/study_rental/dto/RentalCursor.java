@@ -0,0 +1,37 @@
+package com.teamlms.backend.domain.study_rental.dto;
+
+import com.teamlms.backend.global.exception.base.BusinessException;
+import com.teamlms.backend.global.exception.code.ErrorCode;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+// 4. 예약 내역 keyset 커서 (마지막 행의 시작 시각 + 예약 ID, 클라이언트에는 불투명 문자열로 전달)
+public record RentalCursor(LocalDateTime startAt, Long rentalId) {
+
+    public String encode() {
+        String raw = startAt + "|" + rentalId;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 비어 있으면 null (첫 페이지), 형식이 잘못되면 VALIDATION_ERROR
+     */
+    public static RentalCursor decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int sep = raw.indexOf('|');
+            if (sep < 0) {
+                throw new BusinessException(ErrorCode.VALIDATION_ERROR);
+            }
+            return new RentalCursor(LocalDateTime.parse(raw.substring(0, sep)), Long.parseLong(raw.substring(sep + 1)));
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new BusinessException(ErrorCode.VALIDATION_ERROR);
+        }
+    }
+}
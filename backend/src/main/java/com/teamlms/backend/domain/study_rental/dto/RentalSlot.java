@@ -0,0 +1,14 @@
+package com.teamlms.backend.domain.study_rental.dto;
+
+import com.teamlms.backend.domain.study_rental.enums.RentalStatus;
+
+import java.time.LocalDateTime;
+
+// 예약 구간 (예약 가능 현황 계산용, Service 내부 로직용)
+public record RentalSlot(
+        Long rentalId,
+        Long roomId,
+        LocalDateTime startAt,
+        LocalDateTime endAt,
+        RentalStatus status
+) {}
@@ -18,7 +18,10 @@ import java.time.LocalDateTime;
 @Table(name = "study_room_rental", indexes = {
         @Index(name = "idx_rental_room_start", columnList = "room_id, start_at"),
         @Index(name = "idx_rental_applicant_applied", columnList = "applicant_account_id, applied_at"),
-        @Index(name = "idx_rental_status_applied", columnList = "status, applied_at")
+        @Index(name = "idx_rental_status_applied", columnList = "status, applied_at"),
+        @Index(name = "idx_rental_start_id", columnList = "start_at, rental_id"),
+        @Index(name = "idx_rental_status_start_id", columnList = "status, start_at, rental_id"),
+        @Index(name = "idx_rental_applicant_start_id", columnList = "applicant_account_id, start_at, rental_id")
 })
 public class StudyRoomRental {
 
@@ -0,0 +1,100 @@
+package com.teamlms.backend.domain.study_rental.repository;
+
+import java.sql.Timestamp;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import javax.sql.DataSource;
+
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import com.teamlms.backend.domain.study_rental.dto.RentalCursor;
+import com.teamlms.backend.domain.study_rental.dto.RentalSearchCondition;
+
+/**
+ * 예약 내역 keyset 검색 JDBC 저장소
+ * - (start_at, rental_id) 내림차순으로 커서 다음 ID 만 조회 (V69 인덱스로 index-only scan, 깊은 페이지도 OFFSET 없음)
+ * - 값이 있는 조건만 SQL 에 넣음 (IS NULL OR ... 패턴 대신 조건별 인덱스 선택)
+ * - 공간/공간명 조건은 룸 ID 목록으로 바꿔 적용 (공간/룸 테이블은 작음)
+ * - 건수는 상한까지만 세고, 넘으면 실행 계획의 예상 건수 사용
+ */
+@Repository
+public class StudyRentalSearchRepository {
+
+    private static final Pattern PLAN_ROWS = Pattern.compile("\"Plan Rows\":\\s*(\\d+)");
+
+    private final NamedParameterJdbcTemplate namedJdbcTemplate;
+
+    public StudyRentalSearchRepository(DataSource dataSource) {
+        this.namedJdbcTemplate = new NamedParameterJdbcTemplate(dataSource);
+    }
+
+    // 커서 다음 예약 ID (시작 시각, ID 내림차순 limit 건)
+    public List<Long> findIds(RentalSearchCondition cond, RentalCursor after, int limit) {
+        MapSqlParameterSource params = new MapSqlParameterSource().addValue("limit", limit);
+        StringBuilder sql = new StringBuilder("SELECT r.rental_id FROM study_room_rental r");
+        appendWhere(sql, cond, params);
+        if (after != null) {
+            sql.append(" AND (r.start_at, r.rental_id) < (:cursorStartAt, :cursorRentalId)");
+            params.addValue("cursorStartAt", Timestamp.valueOf(after.startAt()))
+                    .addValue("cursorRentalId", after.rentalId());
+        }
+        sql.append(" ORDER BY r.start_at DESC, r.rental_id DESC LIMIT :limit");
+        return namedJdbcTemplate.queryForList(sql.toString(), params, Long.class);
+    }
+
+    // 조건에 맞는 건수 (cap 을 넘으면 cap + 1 반환)
+    public long countUpTo(RentalSearchCondition cond, long cap) {
+        MapSqlParameterSource params = new MapSqlParameterSource().addValue("cap", cap + 1);
+        StringBuilder sql = new StringBuilder("SELECT count(*) FROM (SELECT 1 FROM study_room_rental r");
+        appendWhere(sql, cond, params);
+        sql.append(" LIMIT :cap) t");
+        Long count = namedJdbcTemplate.queryForObject(sql.toString(), params, Long.class);
+        return count != null ? count : 0L;
+    }
+
+    // 실행 계획(통계) 기준 예상 건수
+    public long estimateCount(RentalSearchCondition cond) {
+        MapSqlParameterSource params = new MapSqlParameterSource();
+        StringBuilder sql = new StringBuilder("EXPLAIN (FORMAT JSON) SELECT 1 FROM study_room_rental r");
+        appendWhere(sql, cond, params);
+        List<String> plan = namedJdbcTemplate.queryForList(sql.toString(), params, String.class);
+        if (plan.isEmpty()) {
+            return 0L;
+        }
+        Matcher matcher = PLAN_ROWS.matcher(plan.get(0));
+        return matcher.find() ? Long.parseLong(matcher.group(1)) : 0L;
+    }
+
+    private static void appendWhere(StringBuilder sql, RentalSearchCondition cond, MapSqlParameterSource params) {
+        sql.append(" WHERE 1 = 1");
+        if (cond.getStatus() != null) {
+            sql.append(" AND r.status = :status");
+            params.addValue("status", cond.getStatus().name());
+        }
+        if (cond.getApplicantId() != null) {
+            sql.append(" AND r.applicant_account_id = :applicantId");
+            params.addValue("applicantId", cond.getApplicantId());
+        }
+        if (cond.getSpaceId() != null) {
+            sql.append(" AND r.room_id IN (SELECT sr.room_id FROM study_room sr WHERE sr.space_id = :spaceId)");
+            params.addValue("spaceId", cond.getSpaceId());
+        }
+        if (cond.getKeyword() != null && !cond.getKeyword().isBlank()) {
+            sql.append("""
+                     AND r.room_id IN (
+                        SELECT sr.room_id FROM study_room sr
+                        JOIN study_space s ON s.space_id = sr.space_id
+                        WHERE s.space_name LIKE :keyword ESCAPE '\\'
+                    )""");
+            params.addValue("keyword", "%" + escapeLike(cond.getKeyword().trim()) + "%");
+        }
+    }
+
+    private static String escapeLike(String value) {
+        return value.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+    }
+}
@@ -47,6 +47,7 @@ package com.teamlms.backend.domain.study_rental.repository;
 // }
 
 // import com.teamlms.backend.domain.study_rental.dto.RentalSearchCondition;
+import com.teamlms.backend.domain.study_rental.dto.RentalSlot;
 import com.teamlms.backend.domain.study_rental.entity.StudyRoomRental;
 import com.teamlms.backend.domain.study_rental.enums.RentalStatus; // [필수] Enum 임포트 확인!
 import org.springframework.data.domain.Page;
@@ -56,24 +57,44 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 public interface StudyRoomRentalRepository extends JpaRepository<StudyRoomRental, Long> {
        void deleteByStudyRoomId(Long roomId);
 
     /**
-     * 중복 예약 체크
+     * 중복 예약 체크 (건수만 확인, excludeRentalId 는 자기 자신 제외용)
      */
-    @Query("SELECT r FROM StudyRoomRental r " +
+    @Query("SELECT COUNT(r) > 0 FROM StudyRoomRental r " +
            "WHERE r.studyRoom.id = :roomId " +
-           "AND r.status = :status " +  
+           "AND r.status = :status " +
            "AND r.startAt < :endAt " +
-           "AND r.endAt > :startAt")
-    List<StudyRoomRental> findOverlappingRentals(
+           "AND r.endAt > :startAt " +
+           "AND (:excludeRentalId IS NULL OR r.id <> :excludeRentalId)")
+    boolean existsOverlappingRentals(
             @Param("roomId") Long roomId,
-            @Param("status") RentalStatus status, 
+            @Param("status") RentalStatus status,
             @Param("startAt") LocalDateTime startAt,
-            @Param("endAt") LocalDateTime endAt
+            @Param("endAt") LocalDateTime endAt,
+            @Param("excludeRentalId") Long excludeRentalId
+    );
+
+    /**
+     * 여러 룸의 기간 내 예약 구간 (예약 가능 현황 적재용, 엔티티 대신 구간만 조회)
+     */
+    @Query("SELECT new com.teamlms.backend.domain.study_rental.dto.RentalSlot(" +
+           "r.id, r.studyRoom.id, r.startAt, r.endAt, r.status) " +
+           "FROM StudyRoomRental r " +
+           "WHERE r.studyRoom.id IN :roomIds " +
+           "AND r.status IN :statuses " +
+           "AND r.startAt < :windowEnd " +
+           "AND r.endAt > :windowStart")
+    List<RentalSlot> findSlotsInWindow(
+            @Param("roomIds") Collection<Long> roomIds,
+            @Param("statuses") Collection<RentalStatus> statuses,
+            @Param("windowStart") LocalDateTime windowStart,
+            @Param("windowEnd") LocalDateTime windowEnd
     );
 
     /**
@@ -101,9 +122,13 @@ public interface StudyRoomRentalRepository extends JpaRepository<StudyRoomRental
             "AND (:status IS NULL OR r.status = :status) " +
             "AND (:keyword IS NULL OR :keyword = '' OR space.spaceName LIKE %:keyword%)",
             countQuery = "SELECT count(r) FROM StudyRoomRental r " +
+                    "LEFT JOIN r.studyRoom room " +
+                    "LEFT JOIN room.studySpace space " +
                     "LEFT JOIN r.applicant applicant " +
-                    "WHERE (:applicantId IS NULL OR applicant.accountId = :applicantId) " +
-                    "AND (:status IS NULL OR r.status = :status)")
+                    "WHERE (:spaceId IS NULL OR space.id = :spaceId) " +
+                    "AND (:applicantId IS NULL OR applicant.accountId = :applicantId) " +
+                    "AND (:status IS NULL OR r.status = :status) " +
+                    "AND (:keyword IS NULL OR :keyword = '' OR space.spaceName LIKE %:keyword%)")
     Page<StudyRoomRental> search(
             @Param("spaceId") Long spaceId,        
             @Param("applicantId") Long applicantId, 
@@ -113,5 +138,15 @@ public interface StudyRoomRentalRepository extends JpaRepository<StudyRoomRental
     );
               // 리포지토리에 추가
               Page<StudyRoomRental> findByApplicant_AccountId(Long accountId, Pageable pageable);
+
+    /**
+     * keyset 검색으로 얻은 ID 의 예약 (룸/공간/신청자 함께 조회, 순서는 호출 측에서 맞춤)
+     */
+    @Query("SELECT r FROM StudyRoomRental r " +
+           "LEFT JOIN FETCH r.studyRoom room " +
+           "LEFT JOIN FETCH room.studySpace " +
+           "LEFT JOIN FETCH r.applicant " +
+           "WHERE r.id IN :ids")
+    List<StudyRoomRental> findAllWithDetailsByIdIn(@Param("ids") Collection<Long> ids);
 }
 
@@ -1,9 +1,14 @@
 package com.teamlms.backend.domain.study_rental.repository;
 
 import com.teamlms.backend.domain.study_rental.entity.StudyRoom;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.util.List;
+import java.util.Optional;
 
 public interface StudyRoomRepository extends JpaRepository<StudyRoom, Long> {
 
@@ -18,4 +23,13 @@ public interface StudyRoomRepository extends JpaRepository<StudyRoom, Long> {
 
     boolean existsByStudySpaceIdAndRoomName(Long studySpaceId, String roomName);
 
+    // 예약 승인 시 같은 룸 승인 처리를 직렬화 (겹침 확인 ~ 커밋 사이 다른 승인 차단)
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select r from StudyRoom r where r.id = :id")
+    Optional<StudyRoom> findByIdForUpdate(@Param("id") Long id);
+
+    // 학습공간 카탈로그 적재용: 전체 룸 (공간, 룸 ID 순)
+    @Query("select r from StudyRoom r order by r.studySpace.id, r.id")
+    List<StudyRoom> findAllForCatalog();
+
 }
\ No newline at end of file
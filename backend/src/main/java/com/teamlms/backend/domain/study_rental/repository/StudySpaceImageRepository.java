@@ -2,6 +2,7 @@ package com.teamlms.backend.domain.study_rental.repository;
 
 import com.teamlms.backend.domain.study_rental.entity.StudySpaceImage;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 
 import java.util.List;
 
@@ -10,6 +11,10 @@ public interface StudySpaceImageRepository extends JpaRepository<StudySpaceImage
     // 공간별 이미지 조회 (순서 오름차순 정렬)
     List<StudySpaceImage> findByStudySpaceIdOrderBySortOrderAsc(Long spaceId);
 
+    // 학습공간 카탈로그 적재용: 전체 이미지 (공간, 순서 순)
+    @Query("select i from StudySpaceImage i order by i.studySpace.id, i.sortOrder, i.id")
+    List<StudySpaceImage> findAllForCatalog();
+
     // 공간 삭제 시 이미지 일괄 삭제
     void deleteByStudySpaceId(Long spaceId);
 }
\ No newline at end of file
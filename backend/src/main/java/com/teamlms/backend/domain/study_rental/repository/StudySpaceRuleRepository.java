@@ -2,6 +2,7 @@ package com.teamlms.backend.domain.study_rental.repository;
 
 import com.teamlms.backend.domain.study_rental.entity.StudySpaceRule;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 
 import java.util.List;
 
@@ -10,6 +11,10 @@ public interface StudySpaceRuleRepository extends JpaRepository<StudySpaceRule,
     // 공간별 규칙 조회 (순서 오름차순 정렬)
     List<StudySpaceRule> findByStudySpaceIdOrderBySortOrderAsc(Long spaceId);
 
+    // 학습공간 카탈로그 적재용: 전체 규칙 (공간, 순서 순)
+    @Query("select r from StudySpaceRule r order by r.studySpace.id, r.sortOrder, r.id")
+    List<StudySpaceRule> findAllForCatalog();
+
     // 공간 삭제 시 규칙 일괄 삭제
     void deleteByStudySpaceId(Long spaceId);
 }
\ No newline at end of file
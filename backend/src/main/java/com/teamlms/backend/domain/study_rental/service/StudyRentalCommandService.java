@@ -33,6 +33,7 @@ public class StudyRentalCommandService {
     private final StudyRoomRepository roomRepository;
     private final AccountRepository accountRepository; // 요청자/처리자 조회용
     private final AlarmCommandService alarmCommandService;
+    private final StudyRoomAvailabilityEngine availabilityEngine;
 
     // 1. 예약 신청
     public void applyRental(Object principal, RentalApplyRequest req) {
@@ -54,15 +55,8 @@ public class StudyRentalCommandService {
             throw new BusinessException(ErrorCode.STUDY_RENTAL_NOT_ST_TIME);
         }
 
-        // 중복 예약 확인
-        boolean isOverlapped = !rentalRepository.findOverlappingRentals(
-                room.getId(),
-                RentalStatus.APPROVED,
-                startAt,
-                endAt
-        ).isEmpty();
-
-        if (isOverlapped) {
+        // 중복 예약 확인 (메모리 예약 현황, 최종 판정은 승인 시)
+        if (availabilityEngine.hasApprovedOverlap(room.getId(), startAt, endAt, null)) {
             throw new BusinessException(ErrorCode.STUDY_RENTAL_NOT_TIME);
         }
 
@@ -75,6 +69,7 @@ public class StudyRentalCommandService {
                 .build();
 
         rentalRepository.save(rental);
+        availabilityEngine.onChanged(rental);
         notifyRentalRequested(rental);
     }
 
@@ -92,12 +87,17 @@ public class StudyRentalCommandService {
         RentalStatus previousStatus = rental.getStatus();
 
         if (req.getStatus() == RentalStatus.APPROVED) {
-            boolean isOverlapped = !rentalRepository.findOverlappingRentals(
-                    rental.getStudyRoom().getId(),
+            // 같은 룸 승인은 룸 행 잠금으로 직렬화한 뒤 DB 기준으로 겹침 확인 (동시 승인 방지)
+            Long roomId = rental.getStudyRoom().getId();
+            roomRepository.findByIdForUpdate(roomId);
+
+            boolean isOverlapped = rentalRepository.existsOverlappingRentals(
+                    roomId,
                     RentalStatus.APPROVED,
                     rental.getStartAt(),
-                    rental.getEndAt()
-            ).isEmpty();
+                    rental.getEndAt(),
+                    rental.getId()
+            );
 
             if (isOverlapped) {
                 throw new BusinessException(ErrorCode.STUDY_RENTAL_NOT_TIME);
@@ -105,6 +105,7 @@ public class StudyRentalCommandService {
         }
 
         rental.process(req.getStatus(), processor, req.getRejectionReason());
+        availabilityEngine.onChanged(rental);
 
         if (previousStatus != RentalStatus.APPROVED && req.getStatus() == RentalStatus.APPROVED) {
             notifyRentalApproved(rental);
@@ -136,6 +137,7 @@ public class StudyRentalCommandService {
 
         // 4. 취소 처리
         rental.cancel();
+        availabilityEngine.onChanged(rental);
     }
 
     // ==========================================================
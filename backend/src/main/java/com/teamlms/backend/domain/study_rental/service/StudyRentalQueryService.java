@@ -7,23 +7,30 @@ import com.teamlms.backend.domain.account.repository.ProfessorProfileRepository;
 import com.teamlms.backend.domain.account.repository.StudentProfileRepository;
 import com.teamlms.backend.domain.dept.entity.Dept;
 import com.teamlms.backend.domain.dept.repository.DeptRepository;
+import com.teamlms.backend.domain.study_rental.api.dto.RentalCursorPage;
 import com.teamlms.backend.domain.study_rental.api.dto.RentalResponse;
+import com.teamlms.backend.domain.study_rental.dto.RentalCursor;
 import com.teamlms.backend.domain.study_rental.dto.RentalSearchCondition;
 import com.teamlms.backend.domain.study_rental.entity.StudyRoomRental;
 import com.teamlms.backend.domain.study_rental.enums.RentalStatus;
+import com.teamlms.backend.domain.study_rental.repository.StudyRentalSearchRepository;
 import com.teamlms.backend.domain.study_rental.repository.StudyRoomRentalRepository;
 import com.teamlms.backend.global.exception.base.BusinessException;
 import com.teamlms.backend.global.security.principal.AuthUser;
 import com.teamlms.backend.global.exception.code.ErrorCode;
 
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
 import java.util.function.Function;
 import java.util.stream.Collectors;
@@ -37,6 +44,12 @@ public class StudyRentalQueryService {
         private final StudentProfileRepository studentProfileRepository;
         private final ProfessorProfileRepository professorProfileRepository;
         private final DeptRepository deptRepository;
+        private final StudyRentalSearchRepository searchRepository;
+
+        private static final int MAX_CURSOR_PAGE_SIZE = 100;
+
+        @Value("${study.rental.search.exact-count-limit:10000}")
+        private long exactCountLimit;
 
         public Page<RentalResponse> getRentalList(RentalSearchCondition condition, Pageable pageable) {
                 Page<StudyRoomRental> rentals = rentalRepository.search(
@@ -46,11 +59,79 @@ public class StudyRentalQueryService {
                                 condition.getKeyword(),
                                 pageable);
 
+                ApplicantProfiles profiles = loadApplicantProfiles(rentals.getContent());
+                return rentals.map(rental -> toRentalResponse(rental, profiles));
+        }
+
+        /**
+         * 예약 목록 커서 조회 (시작 시각, 예약 ID 내림차순)
+         * - ID 페이지 조회 -> 예약/룸/공간/신청자 1회 조회 -> 프로필/학과 일괄 조회 (페이지당 쿼리 수 고정)
+         * - 건수는 첫 페이지에서만: exact-count-limit 까지는 정확히, 넘으면 통계 기반 예상값
+         */
+        public RentalCursorPage getRentalListByCursor(RentalSearchCondition condition, String cursor, int size) {
+                int limit = Math.min(Math.max(size, 1), MAX_CURSOR_PAGE_SIZE);
+                RentalCursor after = RentalCursor.decode(cursor);
+
+                List<Long> ids = searchRepository.findIds(condition, after, limit + 1);
+                boolean hasNext = ids.size() > limit;
+                if (hasNext) {
+                        ids = ids.subList(0, limit);
+                }
+
+                Map<Long, StudyRoomRental> rentalMap = ids.isEmpty() ? Map.of()
+                                : rentalRepository.findAllWithDetailsByIdIn(ids).stream()
+                                                .collect(Collectors.toMap(StudyRoomRental::getId, Function.identity()));
+                List<StudyRoomRental> rentals = ids.stream()
+                                .map(rentalMap::get)
+                                .filter(Objects::nonNull) // 조회 사이 삭제된 예약 제외
+                                .toList();
+
+                ApplicantProfiles profiles = loadApplicantProfiles(rentals);
+                List<RentalResponse> content = rentals.stream()
+                                .map(rental -> toRentalResponse(rental, profiles))
+                                .toList();
+
+                String nextCursor = null;
+                if (hasNext && !rentals.isEmpty()) {
+                        StudyRoomRental last = rentals.get(rentals.size() - 1);
+                        nextCursor = new RentalCursor(last.getStartAt(), last.getId()).encode();
+                }
+
+                Long total = null;
+                Boolean totalExact = null;
+                if (after == null) {
+                        if (!hasNext) {
+                                total = (long) ids.size();
+                                totalExact = true;
+                        } else {
+                                long counted = searchRepository.countUpTo(condition, exactCountLimit);
+                                totalExact = counted <= exactCountLimit;
+                                total = totalExact ? counted
+                                                : Math.max(searchRepository.estimateCount(condition), counted);
+                        }
+                }
+
+                return new RentalCursorPage(content, nextCursor, hasNext, total, totalExact);
+        }
+
+        /**
+         * 신청자 프로필/학과 (페이지 단위 일괄 조회 결과)
+         */
+        private record ApplicantProfiles(
+                        Map<Long, StudentProfile> studentProfileMap,
+                        Map<Long, ProfessorProfile> professorProfileMap,
+                        Map<Long, String> deptNameMap) {
+        }
+
+        private ApplicantProfiles loadApplicantProfiles(Collection<StudyRoomRental> rentals) {
                 // 1. 예약자 Account ID 수집
-                Set<Long> accountIds = rentals.getContent().stream()
+                Set<Long> accountIds = rentals.stream()
                                 .filter(r -> r.getApplicant() != null)
                                 .map(r -> r.getApplicant().getAccountId())
                                 .collect(Collectors.toSet());
+                if (accountIds.isEmpty()) {
+                        return new ApplicantProfiles(Map.of(), Map.of(), Map.of());
+                }
 
                 // 2. 학생 및 교수 프로필 일괄 조회
                 Map<Long, StudentProfile> studentProfileMap = studentProfileRepository.findAllById(accountIds).stream()
@@ -77,16 +158,10 @@ public class StudyRentalQueryService {
                                 : deptRepository.findAllById(deptIds).stream()
                                                 .collect(Collectors.toMap(Dept::getDeptId, Dept::getDeptName));
 
-                // 4. 변환 (프로필 정보 주입)
-                return rentals.map(rental -> toRentalResponse(rental, studentProfileMap, professorProfileMap,
-                                deptNameMap));
+                return new ApplicantProfiles(studentProfileMap, professorProfileMap, deptNameMap);
         }
 
-        private RentalResponse toRentalResponse(
-                        StudyRoomRental rental,
-                        Map<Long, StudentProfile> studentProfileMap,
-                        Map<Long, ProfessorProfile> professorProfileMap,
-                        Map<Long, String> deptNameMap) {
+        private RentalResponse toRentalResponse(StudyRoomRental rental, ApplicantProfiles profiles) {
 
                 String name = null;
                 String identificationNo = null; // studentNo or professorNo
@@ -94,17 +169,17 @@ public class StudyRentalQueryService {
 
                 if (rental.getApplicant() != null) {
                         Long accountId = rental.getApplicant().getAccountId();
-                        StudentProfile studentProfile = studentProfileMap.get(accountId);
+                        StudentProfile studentProfile = profiles.studentProfileMap().get(accountId);
                         if (studentProfile != null) {
                                 name = studentProfile.getName();
                                 identificationNo = studentProfile.getStudentNo();
-                                deptName = deptNameMap.get(studentProfile.getDeptId());
+                                deptName = profiles.deptNameMap().get(studentProfile.getDeptId());
                         } else {
-                                ProfessorProfile professorProfile = professorProfileMap.get(accountId);
+                                ProfessorProfile professorProfile = profiles.professorProfileMap().get(accountId);
                                 if (professorProfile != null) {
                                         name = professorProfile.getName();
                                         identificationNo = professorProfile.getProfessorNo();
-                                        deptName = deptNameMap.get(professorProfile.getDeptId());
+                                        deptName = profiles.deptNameMap().get(professorProfile.getDeptId());
                                 }
                         }
                 }
@@ -172,31 +247,7 @@ public class StudyRentalQueryService {
                         throw new BusinessException(ErrorCode.ACCESS_DENIED);
                 }
 
-                Set<Long> accountIds = Set.of(accountId);
-                Map<Long, StudentProfile> studentProfileMap = studentProfileRepository.findAllById(accountIds).stream()
-                                .collect(Collectors.toMap(StudentProfile::getAccountId, Function.identity()));
-
-                Set<Long> remainingIds = accountIds.stream()
-                                .filter(id -> !studentProfileMap.containsKey(id))
-                                .collect(Collectors.toSet());
-
-                Map<Long, ProfessorProfile> professorProfileMap = remainingIds.isEmpty() ? Map.of()
-                                : professorProfileRepository.findAllById(remainingIds).stream()
-                                                .collect(Collectors.toMap(ProfessorProfile::getAccountId,
-                                                                Function.identity()));
-
-                Set<Long> deptIds = studentProfileMap.values().stream()
-                                .map(StudentProfile::getDeptId)
-                                .collect(Collectors.toSet());
-                deptIds.addAll(professorProfileMap.values().stream()
-                                .map(ProfessorProfile::getDeptId)
-                                .collect(Collectors.toSet()));
-
-                Map<Long, String> deptNameMap = deptIds.isEmpty() ? Map.of()
-                                : deptRepository.findAllById(deptIds).stream()
-                                                .collect(Collectors.toMap(Dept::getDeptId, Dept::getDeptName));
-
-                return toRentalResponse(rental, studentProfileMap, professorProfileMap, deptNameMap);
+                return toRentalResponse(rental, loadApplicantProfiles(List.of(rental)));
         }
 
         // =================================================================================
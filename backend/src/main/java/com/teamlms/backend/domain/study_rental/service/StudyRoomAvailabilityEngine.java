@@ -0,0 +1,338 @@
+package com.teamlms.backend.domain.study_rental.service;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.teamlms.backend.domain.study_rental.dto.RentalSlot;
+import com.teamlms.backend.domain.study_rental.entity.StudyRoom;
+import com.teamlms.backend.domain.study_rental.entity.StudyRoomRental;
+import com.teamlms.backend.domain.study_rental.enums.RentalStatus;
+import com.teamlms.backend.domain.study_rental.repository.StudyRoomRentalRepository;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 룸-날짜별 예약 현황 캐시 (신청 시 겹침 확인, 빈 시간/공간 단위 예약 현황 계산)
+ * - 처음 조회 시 룸-날짜의 APPROVED/REQUESTED 구간만 1회 조회해 적재 (여러 룸은 쿼리 1건으로 함께 적재)
+ * - 승인 구간은 시작 시각순 배열 + 종료 시각 누적 최댓값으로 보관, 겹침 확인은 이분 탐색
+ * - 신청/승인/반려/취소 커밋 후 적재된 날짜에만 반영, ttl 이 지나면 다시 적재 (다른 인스턴스 변경 반영)
+ * - 승인 시 최종 겹침 판정은 룸 행 잠금 + DB 조회 (이 캐시는 신청 단계 조기 거절/조회용)
+ * - 적재 쿼리 도중 같은 룸-날짜에 변경이 반영됐으면(변경 버전 비교) 조회 결과를 캐시에 넣지 않고,
+ *   다른 요청이 먼저 적재한 유효 항목은 덮어쓰지 않음
+ * - max-entries 를 넘으면 만료 항목을 정리하고, 그래도 가득 차면 적재하지 않고 조회 결과만 사용
+ */
+@Component
+@RequiredArgsConstructor
+public class StudyRoomAvailabilityEngine {
+
+    private static final Set<RentalStatus> ACTIVE_STATUSES = EnumSet.of(RentalStatus.REQUESTED, RentalStatus.APPROVED);
+    private static final int CHANGE_STRIPES = 256;
+
+    private final StudyRoomRentalRepository rentalRepository;
+
+    @Value("${study.rental.availability.max-entries:20000}")
+    private int maxEntries;
+
+    @Value("${study.rental.availability.ttl-seconds:300}")
+    private long ttlSeconds;
+
+    private final Map<Key, RoomDay> days = new ConcurrentHashMap<>();
+    // 룸-날짜 변경 버전 (키 해시로 나눈 구간별, 적재되지 않은 키의 변경도 감지)
+    private final AtomicLongArray changeVersions = new AtomicLongArray(CHANGE_STRIPES);
+
+    record Key(Long roomId, LocalDate date) {
+    }
+
+    public record TimeRange(LocalDateTime startAt, LocalDateTime endAt) {
+    }
+
+    /**
+     * 룸의 하루 예약 현황 (예약 가능 시간 안으로 잘라서 반환)
+     */
+    public record RoomAvailability(
+            Long roomId,
+            List<TimeRange> approved,
+            List<TimeRange> requested,
+            List<TimeRange> free
+    ) {}
+
+    /**
+     * 룸-날짜 예약 구간 (불변, 변경 시 새 인스턴스)
+     */
+    static final class RoomDay {
+        private final RentalSlot[] approved;          // 시작 시각순
+        private final LocalDateTime[] maxEndAt;       // approved[0..i] 의 종료 시각 최댓값
+        private final List<RentalSlot> requested;
+        private final long loadedAtMillis;
+
+        private RoomDay(List<RentalSlot> slots, long loadedAtMillis) {
+            this.approved = slots.stream()
+                    .filter(s -> s.status() == RentalStatus.APPROVED)
+                    .sorted(Comparator.comparing(RentalSlot::startAt))
+                    .toArray(RentalSlot[]::new);
+            this.maxEndAt = new LocalDateTime[approved.length];
+            for (int i = 0; i < approved.length; i++) {
+                LocalDateTime endAt = approved[i].endAt();
+                maxEndAt[i] = i > 0 && maxEndAt[i - 1].isAfter(endAt) ? maxEndAt[i - 1] : endAt;
+            }
+            this.requested = slots.stream()
+                    .filter(s -> s.status() == RentalStatus.REQUESTED)
+                    .sorted(Comparator.comparing(RentalSlot::startAt))
+                    .toList();
+            this.loadedAtMillis = loadedAtMillis;
+        }
+
+        static RoomDay of(List<RentalSlot> slots, long loadedAtMillis) {
+            return new RoomDay(slots, loadedAtMillis);
+        }
+
+        boolean overlapsApproved(LocalDateTime startAt, LocalDateTime endAt, Long excludeRentalId) {
+            // startAt < endAt 인 승인 구간 수
+            int lo = 0;
+            int hi = approved.length;
+            while (lo < hi) {
+                int mid = (lo + hi) >>> 1;
+                if (approved[mid].startAt().isBefore(endAt)) {
+                    lo = mid + 1;
+                } else {
+                    hi = mid;
+                }
+            }
+            for (int i = lo - 1; i >= 0 && maxEndAt[i].isAfter(startAt); i--) {
+                RentalSlot slot = approved[i];
+                if (slot.endAt().isAfter(startAt) && !slot.rentalId().equals(excludeRentalId)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        // 같은 예약은 교체, 반려/취소면 제거
+        RoomDay with(RentalSlot changed) {
+            List<RentalSlot> slots = new ArrayList<>(approved.length + requested.size() + 1);
+            for (RentalSlot slot : approved) {
+                if (!slot.rentalId().equals(changed.rentalId())) {
+                    slots.add(slot);
+                }
+            }
+            for (RentalSlot slot : requested) {
+                if (!slot.rentalId().equals(changed.rentalId())) {
+                    slots.add(slot);
+                }
+            }
+            if (ACTIVE_STATUSES.contains(changed.status())) {
+                slots.add(changed);
+            }
+            return new RoomDay(slots, loadedAtMillis);
+        }
+
+        boolean expired(long now, long ttlMillis) {
+            return now - loadedAtMillis >= ttlMillis;
+        }
+
+        List<RentalSlot> approved() {
+            return Arrays.asList(approved);
+        }
+
+        List<RentalSlot> requested() {
+            return requested;
+        }
+    }
+
+    /**
+     * 승인된 예약과 겹치는지 (excludeRentalId 는 자기 자신 제외용)
+     */
+    public boolean hasApprovedOverlap(Long roomId, LocalDateTime startAt, LocalDateTime endAt, Long excludeRentalId) {
+        for (LocalDate date : spannedDates(startAt, endAt)) {
+            if (day(roomId, date).overlapsApproved(startAt, endAt, excludeRentalId)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 룸 1개의 하루 예약 현황 / 빈 시간
+     */
+    public RoomAvailability availability(StudyRoom room, LocalDate date) {
+        return toAvailability(room, date, day(room.getId(), date));
+    }
+
+    /**
+     * 여러 룸의 하루 예약 현황 (적재되지 않은 룸은 쿼리 1건으로 함께 적재), 입력 순서 유지
+     */
+    public Map<Long, RoomAvailability> availability(List<StudyRoom> rooms, LocalDate date) {
+        Map<Long, RoomDay> loaded = days(rooms.stream().map(StudyRoom::getId).toList(), date);
+        Map<Long, RoomAvailability> result = new LinkedHashMap<>();
+        for (StudyRoom room : rooms) {
+            result.put(room.getId(), toAvailability(room, date, loaded.get(room.getId())));
+        }
+        return result;
+    }
+
+    /**
+     * 예약 신청/상태 변경 커밋 후 적재된 날짜에 반영
+     */
+    public void onChanged(StudyRoomRental rental) {
+        if (rental.getId() == null || rental.getStudyRoom() == null
+                || rental.getStartAt() == null || rental.getEndAt() == null) {
+            return;
+        }
+        RentalSlot slot = new RentalSlot(rental.getId(), rental.getStudyRoom().getId(),
+                rental.getStartAt(), rental.getEndAt(), rental.getStatus());
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    apply(slot);
+                }
+            });
+        } else {
+            apply(slot);
+        }
+    }
+
+    int size() {
+        return days.size();
+    }
+
+    private void apply(RentalSlot slot) {
+        for (LocalDate date : spannedDates(slot.startAt(), slot.endAt())) {
+            Key key = new Key(slot.roomId(), date);
+            changeVersions.incrementAndGet(stripe(key));
+            days.computeIfPresent(key, (k, day) -> day.with(slot));
+        }
+    }
+
+    private RoomDay day(Long roomId, LocalDate date) {
+        RoomDay cached = days.get(new Key(roomId, date));
+        if (cached != null && !cached.expired(System.currentTimeMillis(), ttlSeconds * 1000)) {
+            return cached;
+        }
+        return days(List.of(roomId), date).get(roomId);
+    }
+
+    private Map<Long, RoomDay> days(Collection<Long> roomIds, LocalDate date) {
+        long now = System.currentTimeMillis();
+        long ttlMillis = ttlSeconds * 1000;
+        Map<Long, RoomDay> result = new HashMap<>();
+        List<Long> missing = new ArrayList<>();
+        for (Long roomId : roomIds) {
+            RoomDay cached = days.get(new Key(roomId, date));
+            if (cached != null && !cached.expired(now, ttlMillis)) {
+                result.put(roomId, cached);
+            } else {
+                missing.add(roomId);
+            }
+        }
+        if (missing.isEmpty()) {
+            return result;
+        }
+        long[] versions = new long[missing.size()];
+        for (int i = 0; i < missing.size(); i++) {
+            versions[i] = changeVersions.get(stripe(new Key(missing.get(i), date)));
+        }
+
+        Map<Long, List<RentalSlot>> slotsByRoom = rentalRepository.findSlotsInWindow(
+                        missing, ACTIVE_STATUSES, date.atStartOfDay(), date.plusDays(1).atStartOfDay())
+                .stream()
+                .collect(Collectors.groupingBy(RentalSlot::roomId));
+        if (days.size() + missing.size() > maxEntries) {
+            days.values().removeIf(day -> day.expired(now, ttlMillis));
+        }
+        for (int i = 0; i < missing.size(); i++) {
+            Long roomId = missing.get(i);
+            RoomDay loaded = RoomDay.of(slotsByRoom.getOrDefault(roomId, List.of()), now);
+            RoomDay day = days.size() < maxEntries
+                    ? install(new Key(roomId, date), loaded, versions[i], ttlMillis)
+                    : null;
+            result.put(roomId, day != null ? day : loaded);
+        }
+        return result;
+    }
+
+    // 먼저 적재된 유효 항목은 유지, 조회 이후 변경이 있었으면 캐시하지 않음 (만료 항목도 제거)
+    private RoomDay install(Key key, RoomDay loaded, long loadedVersion, long ttlMillis) {
+        return days.compute(key, (k, existing) -> {
+            if (existing != null && !existing.expired(System.currentTimeMillis(), ttlMillis)) {
+                return existing;
+            }
+            return changeVersions.get(stripe(k)) == loadedVersion ? loaded : null;
+        });
+    }
+
+    private static int stripe(Key key) {
+        return Math.floorMod(key.hashCode(), CHANGE_STRIPES);
+    }
+
+    private RoomAvailability toAvailability(StudyRoom room, LocalDate date, RoomDay day) {
+        boolean operated = Boolean.TRUE.equals(room.getIsActive())
+                && room.getOperationStartDate() != null && !date.isBefore(room.getOperationStartDate())
+                && room.getOperationEndDate() != null && !date.isAfter(room.getOperationEndDate())
+                && room.getRentableStartTime() != null && room.getRentableEndTime() != null
+                && room.getRentableEndTime().isAfter(room.getRentableStartTime());
+        if (!operated) {
+            return new RoomAvailability(room.getId(), List.of(), List.of(), List.of());
+        }
+        LocalDateTime windowStart = date.atTime(room.getRentableStartTime());
+        LocalDateTime windowEnd = date.atTime(room.getRentableEndTime());
+
+        List<TimeRange> approved = clip(day.approved(), windowStart, windowEnd);
+        List<TimeRange> free = new ArrayList<>();
+        LocalDateTime cursor = windowStart;
+        for (TimeRange busy : approved) {
+            if (busy.startAt().isAfter(cursor)) {
+                free.add(new TimeRange(cursor, busy.startAt()));
+            }
+            if (busy.endAt().isAfter(cursor)) {
+                cursor = busy.endAt();
+            }
+        }
+        if (cursor.isBefore(windowEnd)) {
+            free.add(new TimeRange(cursor, windowEnd));
+        }
+        return new RoomAvailability(room.getId(), approved, clip(day.requested(), windowStart, windowEnd), free);
+    }
+
+    private static List<TimeRange> clip(List<RentalSlot> slots, LocalDateTime windowStart, LocalDateTime windowEnd) {
+        List<TimeRange> ranges = new ArrayList<>();
+        for (RentalSlot slot : slots) {
+            if (!slot.startAt().isBefore(windowEnd) || !slot.endAt().isAfter(windowStart)) {
+                continue;
+            }
+            ranges.add(new TimeRange(
+                    slot.startAt().isBefore(windowStart) ? windowStart : slot.startAt(),
+                    slot.endAt().isAfter(windowEnd) ? windowEnd : slot.endAt()));
+        }
+        return ranges;
+    }
+
+    // 구간이 걸치는 날짜 (종료 시각이 자정이면 전날까지)
+    private static List<LocalDate> spannedDates(LocalDateTime startAt, LocalDateTime endAt) {
+        LocalDate first = startAt.toLocalDate();
+        LocalDate last = endAt.isAfter(startAt) ? endAt.minusNanos(1).toLocalDate() : first;
+        List<LocalDate> dates = new ArrayList<>();
+        for (LocalDate date = first; !date.isAfter(last); date = date.plusDays(1)) {
+            dates.add(date);
+        }
+        return dates;
+    }
+}
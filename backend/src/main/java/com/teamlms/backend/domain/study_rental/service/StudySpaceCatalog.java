@@ -0,0 +1,238 @@
+package com.teamlms.backend.domain.study_rental.service;
+
+import com.teamlms.backend.domain.study_rental.api.dto.RoomDetailResponse;
+import com.teamlms.backend.domain.study_rental.api.dto.SpaceDetailResponse;
+import com.teamlms.backend.domain.study_rental.dto.RoomOperationInfo;
+import com.teamlms.backend.domain.study_rental.entity.StudyRoom;
+import com.teamlms.backend.domain.study_rental.entity.StudySpace;
+import com.teamlms.backend.domain.study_rental.entity.StudySpaceImage;
+import com.teamlms.backend.domain.study_rental.entity.StudySpaceRule;
+import org.springframework.util.DigestUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 학습공간 카탈로그 (공간 + 룸 + 이미지 + 규칙, 불변)
+ * - 생성일 내림차순 공간 목록과 공간 ID 별 항목을 보관해 목록/상세/룸 조회 시 DB 조회 없음
+ * - 응답에 나가는 필드로 만든 content hash 를 ETag 로 사용 (다시 적재해도 내용이 같으면 같은 값)
+ */
+final class StudySpaceCatalog {
+
+    private static final char SEP = '\u001f';
+
+    private final List<SpaceEntry> spaces;       // 생성일 내림차순
+    private final Map<Long, SpaceEntry> spacesById;
+    private final String contentHash;
+    private final long loadedAtMillis;
+
+    /**
+     * 룸 응답 + 운영 기간 (예약 가능 여부 계산용)
+     */
+    record RoomEntry(RoomDetailResponse response, RoomOperationInfo operation) {
+    }
+
+    record SpaceEntry(
+            Long spaceId,
+            String spaceName,
+            String location,
+            String description,
+            boolean active,
+            LocalDateTime createdAt,
+            String mainImageUrl,
+            List<RoomEntry> rooms,          // 비활성 포함 전체
+            List<RoomEntry> activeRooms,
+            int minPeople,                  // 활성 룸 기준
+            int maxPeople,
+            List<SpaceDetailResponse.ImageResponse> images,
+            List<SpaceDetailResponse.RuleResponse> rules
+    ) {
+        boolean isRentable(LocalDate date) {
+            return activeRooms.stream().anyMatch(room -> room.operation().isOperated(date));
+        }
+
+        boolean matches(String keyword) {
+            return keyword == null
+                    || (spaceName != null && spaceName.contains(keyword))
+                    || (location != null && location.contains(keyword));
+        }
+    }
+
+    private StudySpaceCatalog(List<SpaceEntry> spaces, String contentHash, long loadedAtMillis) {
+        this.spaces = spaces;
+        this.contentHash = contentHash;
+        this.loadedAtMillis = loadedAtMillis;
+        Map<Long, SpaceEntry> byId = new HashMap<>();
+        for (SpaceEntry space : spaces) {
+            byId.put(space.spaceId(), space);
+        }
+        this.spacesById = byId;
+    }
+
+    /**
+     * @param rooms  공간 ID, 룸 ID 순
+     * @param images 공간 ID, 정렬 순서 순
+     * @param rules  공간 ID, 정렬 순서 순
+     */
+    static StudySpaceCatalog build(List<StudySpace> spaces, List<StudyRoom> rooms,
+            List<StudySpaceImage> images, List<StudySpaceRule> rules, long loadedAtMillis) {
+        Map<Long, List<StudyRoom>> roomsBySpace = new HashMap<>();
+        for (StudyRoom room : rooms) {
+            roomsBySpace.computeIfAbsent(room.getStudySpace().getId(), k -> new ArrayList<>()).add(room);
+        }
+        Map<Long, List<StudySpaceImage>> imagesBySpace = new HashMap<>();
+        for (StudySpaceImage image : images) {
+            imagesBySpace.computeIfAbsent(image.getStudySpace().getId(), k -> new ArrayList<>()).add(image);
+        }
+        Map<Long, List<StudySpaceRule>> rulesBySpace = new HashMap<>();
+        for (StudySpaceRule rule : rules) {
+            rulesBySpace.computeIfAbsent(rule.getStudySpace().getId(), k -> new ArrayList<>()).add(rule);
+        }
+
+        List<StudySpace> sorted = new ArrayList<>(spaces);
+        sorted.sort(Comparator.comparing(StudySpace::getCreatedAt, Comparator.nullsLast(Comparator.reverseOrder()))
+                .thenComparing(StudySpace::getId, Comparator.nullsLast(Comparator.reverseOrder())));
+
+        StringBuilder content = new StringBuilder();
+        List<SpaceEntry> entries = new ArrayList<>(sorted.size());
+        for (StudySpace space : sorted) {
+            List<StudyRoom> spaceRooms = roomsBySpace.getOrDefault(space.getId(), List.of());
+            List<StudySpaceImage> spaceImages = imagesBySpace.getOrDefault(space.getId(), List.of());
+            List<StudySpaceRule> spaceRules = rulesBySpace.getOrDefault(space.getId(), List.of());
+            entries.add(toEntry(space, spaceRooms, spaceImages, spaceRules));
+            appendContent(content, space, spaceRooms, spaceImages, spaceRules);
+        }
+
+        String hash = DigestUtils.md5DigestAsHex(content.toString().getBytes(StandardCharsets.UTF_8));
+        return new StudySpaceCatalog(List.copyOf(entries), hash, loadedAtMillis);
+    }
+
+    /**
+     * @param activeOnly true 면 활성 공간만
+     */
+    List<SpaceEntry> search(String keyword, boolean activeOnly) {
+        List<SpaceEntry> result = new ArrayList<>();
+        for (SpaceEntry space : spaces) {
+            if ((!activeOnly || space.active()) && space.matches(keyword)) {
+                result.add(space);
+            }
+        }
+        return result;
+    }
+
+    SpaceEntry space(Long spaceId) {
+        return spacesById.get(spaceId);
+    }
+
+    /**
+     * 응답 ETag (예약 가능 여부가 날짜에 따라 바뀌므로 날짜 포함, 비활성 포함 여부로 구분)
+     */
+    String etag(LocalDate today, boolean includeInactive) {
+        return "W/\"" + contentHash + "-" + today.format(DateTimeFormatter.BASIC_ISO_DATE)
+                + (includeInactive ? "-all" : "") + "\"";
+    }
+
+    String contentHash() {
+        return contentHash;
+    }
+
+    int size() {
+        return spaces.size();
+    }
+
+    boolean expired(long nowMillis, long ttlMillis) {
+        return nowMillis - loadedAtMillis >= ttlMillis;
+    }
+
+    private static SpaceEntry toEntry(StudySpace space, List<StudyRoom> rooms,
+            List<StudySpaceImage> images, List<StudySpaceRule> rules) {
+        List<RoomEntry> roomEntries = new ArrayList<>(rooms.size());
+        List<RoomEntry> activeRooms = new ArrayList<>();
+        int minPeople = Integer.MAX_VALUE;
+        int maxPeople = 0;
+        for (StudyRoom room : rooms) {
+            boolean active = Boolean.TRUE.equals(room.getIsActive());
+            RoomEntry entry = new RoomEntry(toRoomResponse(room), RoomOperationInfo.builder()
+                    .isActive(active)
+                    .opStart(room.getOperationStartDate())
+                    .opEnd(room.getOperationEndDate())
+                    .minPeople(room.getMinPeople() == null ? 0 : room.getMinPeople())
+                    .maxPeople(room.getMaxPeople() == null ? 0 : room.getMaxPeople())
+                    .build());
+            roomEntries.add(entry);
+            if (active) {
+                activeRooms.add(entry);
+                minPeople = Math.min(minPeople, entry.operation().getMinPeople());
+                maxPeople = Math.max(maxPeople, entry.operation().getMaxPeople());
+            }
+        }
+
+        return new SpaceEntry(
+                space.getId(),
+                space.getSpaceName(),
+                space.getLocation(),
+                space.getDescription(),
+                Boolean.TRUE.equals(space.getIsActive()),
+                space.getCreatedAt(),
+                images.isEmpty() ? null : images.get(0).getImageUrl(),
+                List.copyOf(roomEntries),
+                List.copyOf(activeRooms),
+                activeRooms.isEmpty() ? 0 : minPeople,
+                maxPeople,
+                images.stream().map(img -> SpaceDetailResponse.ImageResponse.builder()
+                        .imageId(img.getId())
+                        .imageUrl(img.getImageUrl())
+                        .sortOrder(img.getSortOrder())
+                        .build()).toList(),
+                rules.stream().map(rule -> SpaceDetailResponse.RuleResponse.builder()
+                        .ruleId(rule.getId())
+                        .content(rule.getContent())
+                        .sortOrder(rule.getSortOrder())
+                        .build()).toList());
+    }
+
+    private static RoomDetailResponse toRoomResponse(StudyRoom room) {
+        return RoomDetailResponse.builder()
+                .roomId(room.getId())
+                .roomName(room.getRoomName())
+                .minPeople(room.getMinPeople())
+                .maxPeople(room.getMaxPeople())
+                .description(room.getDescription())
+                .operationStartDate(room.getOperationStartDate())
+                .operationEndDate(room.getOperationEndDate())
+                .availableStartTime(room.getRentableStartTime())
+                .availableEndTime(room.getRentableEndTime())
+                .build();
+    }
+
+    private static void appendContent(StringBuilder sb, StudySpace space, List<StudyRoom> rooms,
+            List<StudySpaceImage> images, List<StudySpaceRule> rules) {
+        append(sb, "S", space.getId(), space.getSpaceName(), space.getLocation(), space.getDescription(),
+                space.getIsActive(), space.getCreatedAt());
+        for (StudyRoom room : rooms) {
+            append(sb, "R", room.getId(), room.getRoomName(), room.getMinPeople(), room.getMaxPeople(),
+                    room.getDescription(), room.getOperationStartDate(), room.getOperationEndDate(),
+                    room.getRentableStartTime(), room.getRentableEndTime(), room.getIsActive());
+        }
+        for (StudySpaceImage image : images) {
+            append(sb, "I", image.getId(), image.getImageUrl(), image.getSortOrder());
+        }
+        for (StudySpaceRule rule : rules) {
+            append(sb, "U", rule.getId(), rule.getContent(), rule.getSortOrder());
+        }
+    }
+
+    private static void append(StringBuilder sb, Object... values) {
+        for (Object value : values) {
+            sb.append(value).append(SEP);
+        }
+        sb.append('\n');
+    }
+}
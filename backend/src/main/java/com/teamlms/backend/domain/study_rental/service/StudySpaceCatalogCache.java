@@ -0,0 +1,90 @@
+package com.teamlms.backend.domain.study_rental.service;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.teamlms.backend.domain.study_rental.repository.StudyRoomRepository;
+import com.teamlms.backend.domain.study_rental.repository.StudySpaceImageRepository;
+import com.teamlms.backend.domain.study_rental.repository.StudySpaceRepository;
+import com.teamlms.backend.domain.study_rental.repository.StudySpaceRuleRepository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 학습공간 카탈로그 캐시
+ * - 처음 조회 시 공간/룸/이미지/규칙을 전체 조회 4건으로 적재해 통째로 보관
+ * - 학습공간/룸 변경 커밋 후 무효화 (다음 조회 시 다시 적재), ttl 이 지나면 다시 적재 (다른 인스턴스 변경 반영)
+ * - 적재 중 무효화되면 적재 결과는 그 요청에만 사용하고 보관하지 않음
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class StudySpaceCatalogCache {
+
+    private final StudySpaceRepository spaceRepository;
+    private final StudyRoomRepository roomRepository;
+    private final StudySpaceImageRepository imageRepository;
+    private final StudySpaceRuleRepository ruleRepository;
+
+    @Value("${study.space.catalog.ttl-seconds:300}")
+    private long ttlSeconds;
+
+    private final AtomicReference<StudySpaceCatalog> current = new AtomicReference<>();
+    private final AtomicLong version = new AtomicLong();
+
+    StudySpaceCatalog current() {
+        StudySpaceCatalog catalog = current.get();
+        if (catalog != null && !catalog.expired(System.currentTimeMillis(), ttlSeconds * 1000)) {
+            return catalog;
+        }
+        return load();
+    }
+
+    /**
+     * 학습공간/룸/이미지/규칙 변경 커밋 후 무효화
+     */
+    public void invalidate() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    clear();
+                }
+            });
+        } else {
+            clear();
+        }
+    }
+
+    private synchronized StudySpaceCatalog load() {
+        long now = System.currentTimeMillis();
+        StudySpaceCatalog catalog = current.get();
+        if (catalog != null && !catalog.expired(now, ttlSeconds * 1000)) {
+            return catalog; // 대기 중 다른 요청이 적재함
+        }
+
+        long loadingVersion = version.get();
+        StudySpaceCatalog loaded = StudySpaceCatalog.build(
+                spaceRepository.findAll(),
+                roomRepository.findAllForCatalog(),
+                imageRepository.findAllForCatalog(),
+                ruleRepository.findAllForCatalog(),
+                now);
+        if (version.get() == loadingVersion) {
+            current.set(loaded);
+            log.debug("Study space catalog loaded. spaces={}, hash={}", loaded.size(), loaded.contentHash());
+        }
+        return loaded;
+    }
+
+    private void clear() {
+        version.incrementAndGet();
+        current.set(null);
+    }
+}
@@ -25,6 +25,7 @@ public class StudySpaceCommandService {
     private final StudySpaceRuleRepository ruleRepository;
     private final StudySpaceImageRepository imageRepository;
     private final S3Service s3Service;
+    private final StudySpaceCatalogCache catalogCache;
 
     // =======================================================
     // 1. 학습공간 (Space)
@@ -62,6 +63,7 @@ public class StudySpaceCommandService {
             });
         }
 
+        catalogCache.invalidate();
         return savedSpace.getId();
     }
 
@@ -105,6 +107,7 @@ public class StudySpaceCommandService {
                 ruleRepository.save(rule);
             });
         }
+        catalogCache.invalidate();
     }
 
     public void deleteSpace(Long spaceId) {
@@ -134,6 +137,7 @@ public class StudySpaceCommandService {
 
         // 3. 최종적으로 공간 삭제
         spaceRepository.deleteById(spaceId);
+        catalogCache.invalidate();
     }
     // =======================================================
     // 2. 학습 룸 (Room)
@@ -165,6 +169,7 @@ public class StudySpaceCommandService {
                 .build();
 
         roomRepository.save(room);
+        catalogCache.invalidate();
     }
 
     public void updateRoom(Long roomId, RoomRequest request) {
@@ -193,7 +198,7 @@ public class StudySpaceCommandService {
                 request.getOperationEndDate(),
                 request.getAvailableStartTime(),
                 request.getAvailableEndTime());
-
+        catalogCache.invalidate();
     }
 
     private final StudyRoomRentalRepository rentalRepository;
@@ -205,6 +210,7 @@ public class StudySpaceCommandService {
 
         rentalRepository.deleteByStudyRoomId(roomId);
         roomRepository.deleteById(roomId);
+        catalogCache.invalidate();
     }
 
     // =======================================================
@@ -2,20 +2,28 @@ package com.teamlms.backend.domain.study_rental.service;
 
 import com.teamlms.backend.domain.study_rental.api.dto.RoomDetailResponse;
 import com.teamlms.backend.domain.study_rental.api.dto.SpaceDetailResponse;
+import com.teamlms.backend.domain.study_rental.api.dto.SpaceAvailabilityResponse;
 import com.teamlms.backend.domain.study_rental.api.dto.SpaceListResponse;
 import com.teamlms.backend.domain.study_rental.dto.SpaceSearchCondition;
-import com.teamlms.backend.domain.study_rental.entity.*;
-import com.teamlms.backend.domain.study_rental.repository.*;
+import com.teamlms.backend.domain.study_rental.entity.StudyRoom;
+import com.teamlms.backend.domain.study_rental.repository.StudyRoomRepository;
+import com.teamlms.backend.domain.study_rental.repository.StudySpaceRepository;
+import com.teamlms.backend.domain.study_rental.service.StudySpaceCatalog.RoomEntry;
+import com.teamlms.backend.domain.study_rental.service.StudySpaceCatalog.SpaceEntry;
+import com.teamlms.backend.domain.study_rental.service.StudyRoomAvailabilityEngine.RoomAvailability;
+import com.teamlms.backend.domain.study_rental.service.StudyRoomAvailabilityEngine.TimeRange;
 import com.teamlms.backend.global.exception.base.BusinessException;
 import com.teamlms.backend.global.exception.code.ErrorCode;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 @Service
@@ -25,100 +33,107 @@ public class StudySpaceQueryService {
 
     private final StudySpaceRepository spaceRepository;
     private final StudyRoomRepository roomRepository;
-    private final StudySpaceImageRepository imageRepository;
-    private final StudySpaceRuleRepository ruleRepository;
+    private final StudySpaceCatalogCache catalogCache;
+    private final StudyRoomAvailabilityEngine availabilityEngine;
 
-    // 1. 학습공간 목록 조회
+    // 1. 학습공간 목록 조회 (카탈로그에서 검색, 생성일 내림차순)
     public Page<SpaceListResponse> getSpaceList(SpaceSearchCondition condition, Pageable pageable) {
-        Page<StudySpace> spaces = spaceRepository.search(condition, pageable);
-
-        return spaces.map(space -> {
-            // 해당 공간의 "활성 룸" 정보를 가져와서 통계 계산
-            List<StudyRoom> rooms = roomRepository.findByStudySpaceIdAndIsActiveTrue(space.getId());
-            
-            // 이미지 조회 (첫번째 이미지를 썸네일로 사용)
-            List<StudySpaceImage> images = imageRepository.findByStudySpaceIdOrderBySortOrderAsc(space.getId());
-            String mainImageUrl = images.isEmpty() ? null : images.get(0).getImageUrl();
-
-            boolean isRentable = checkRentable(rooms);
-            int minPeople = rooms.stream().mapToInt(StudyRoom::getMinPeople).min().orElse(0);
-            int maxPeople = rooms.stream().mapToInt(StudyRoom::getMaxPeople).max().orElse(0);
-
-            return SpaceListResponse.builder()
-                    .spaceId(space.getId())
-                    .spaceName(space.getSpaceName())
-                    .location(space.getLocation())
-                    .isActive(space.getIsActive())
-                    .mainImageUrl(mainImageUrl)
-                    .isRentable(isRentable)
-                    .minPeople(minPeople)
-                    .maxPeople(maxPeople)
-                    .build();
-        });
+        LocalDate today = LocalDate.now();
+        List<SpaceEntry> matched = catalogCache.current()
+                .search(condition.getKeyword(), Boolean.TRUE.equals(condition.getIsActiveOnly()));
+
+        int from = (int) Math.min(pageable.getOffset(), matched.size());
+        int to = Math.min(from + pageable.getPageSize(), matched.size());
+        List<SpaceListResponse> content = matched.subList(from, to).stream()
+                .map(space -> SpaceListResponse.builder()
+                        .spaceId(space.spaceId())
+                        .spaceName(space.spaceName())
+                        .location(space.location())
+                        .isActive(space.active())
+                        .mainImageUrl(space.mainImageUrl())
+                        .isRentable(space.isRentable(today))
+                        .minPeople(space.minPeople())
+                        .maxPeople(space.maxPeople())
+                        .build())
+                .collect(Collectors.toList());
+        return new PageImpl<>(content, pageable, matched.size());
     }
 
     // 2. 학습공간 상세 조회
     public SpaceDetailResponse getSpaceDetail(Long spaceId) {
-        StudySpace space = spaceRepository.findById(spaceId)
-                .orElseThrow(() -> new BusinessException(ErrorCode.STUDY_RENTAL_NOT_FOUND));
-
-        List<StudySpaceImage> images = imageRepository.findByStudySpaceIdOrderBySortOrderAsc(spaceId);
-        List<StudySpaceRule> rules = ruleRepository.findByStudySpaceIdOrderBySortOrderAsc(spaceId);
-        List<StudyRoom> rooms = roomRepository.findByStudySpaceIdAndIsActiveTrue(spaceId);
+        SpaceEntry space = catalogCache.current().space(spaceId);
+        if (space == null) {
+            throw new BusinessException(ErrorCode.STUDY_RENTAL_NOT_FOUND);
+        }
 
         return SpaceDetailResponse.builder()
-                .spaceId(space.getId())
-                .spaceName(space.getSpaceName())
-                .location(space.getLocation())
-                .description(space.getDescription())
-                .isRentable(checkRentable(rooms))
-                .images(images.stream().map(img -> SpaceDetailResponse.ImageResponse.builder()
-                        .imageId(img.getId())
-                        .imageUrl(img.getImageUrl())
-                        .sortOrder(img.getSortOrder())
-                        .build()).collect(Collectors.toList()))
-                .rules(rules.stream().map(rule -> SpaceDetailResponse.RuleResponse.builder()
-                        .ruleId(rule.getId())
-                        .content(rule.getContent())
-                        .sortOrder(rule.getSortOrder())
-                        .build()).collect(Collectors.toList()))
+                .spaceId(space.spaceId())
+                .spaceName(space.spaceName())
+                .location(space.location())
+                .description(space.description())
+                .isRentable(space.isRentable(LocalDate.now()))
+                .images(space.images())
+                .rules(space.rules())
                 .build();
     }
 
     // 3. 룸 목록 조회 (관리자용 - 전체)
     public List<RoomDetailResponse> getAdminRooms(Long spaceId) {
-        return roomRepository.findByStudySpaceId(spaceId).stream()
-                .map(this::toRoomResponse)
-                .collect(Collectors.toList());
+        return roomResponses(catalogCache.current().space(spaceId), false);
     }
 
     // 4. 룸 목록 조회 (학생용 - Active Only)
     public List<RoomDetailResponse> getAvailableRooms(Long spaceId) {
-        return roomRepository.findByStudySpaceIdAndIsActiveTrue(spaceId).stream()
-                .map(this::toRoomResponse)
-                .collect(Collectors.toList());
+        return roomResponses(catalogCache.current().space(spaceId), true);
     }
 
-    // Helper: 오늘 날짜 기준 예약 가능 여부 계산
-    private boolean checkRentable(List<StudyRoom> rooms) {
-        LocalDate today = LocalDate.now();
-        return rooms.stream().anyMatch(room -> 
-            !today.isBefore(room.getOperationStartDate()) && 
-            !today.isAfter(room.getOperationEndDate())
-        );
+    // 카탈로그 ETag (조회보다 먼저 호출: 사이에 변경되면 ETag 가 응답보다 오래된 값이 되어 다음 요청에서 다시 받음)
+    public String getCatalogETag(boolean includeInactive) {
+        return catalogCache.current().etag(LocalDate.now(), includeInactive);
     }
 
-    private RoomDetailResponse toRoomResponse(StudyRoom room) {
-        return RoomDetailResponse.builder()
-                .roomId(room.getId())
-                .roomName(room.getRoomName())
-                .minPeople(room.getMinPeople())
-                .maxPeople(room.getMaxPeople())
-                .description(room.getDescription())
-                .operationStartDate(room.getOperationStartDate())
-                .operationEndDate(room.getOperationEndDate())
-                .availableStartTime(room.getRentableStartTime())
-                .availableEndTime(room.getRentableEndTime())
+    // 5. 날짜별 예약 현황 (활성 룸 전체, 룸별 조회 없이 예약 현황 캐시에서 계산)
+    public SpaceAvailabilityResponse getSpaceAvailability(Long spaceId, LocalDate date) {
+        if (!spaceRepository.existsById(spaceId)) {
+            throw new BusinessException(ErrorCode.STUDY_RENTAL_SPACE_NOT_FOUND);
+        }
+
+        List<StudyRoom> rooms = roomRepository.findByStudySpaceIdAndIsActiveTrue(spaceId);
+        Map<Long, RoomAvailability> availability = availabilityEngine.availability(rooms, date);
+
+        return SpaceAvailabilityResponse.builder()
+                .spaceId(spaceId)
+                .date(date)
+                .rooms(rooms.stream().map(room -> {
+                    RoomAvailability a = availability.get(room.getId());
+                    return SpaceAvailabilityResponse.RoomAvailabilityResponse.builder()
+                            .roomId(room.getId())
+                            .roomName(room.getRoomName())
+                            .availableStartTime(room.getRentableStartTime())
+                            .availableEndTime(room.getRentableEndTime())
+                            .approved(toTimeRanges(a.approved()))
+                            .requested(toTimeRanges(a.requested()))
+                            .free(toTimeRanges(a.free()))
+                            .build();
+                }).collect(Collectors.toList()))
                 .build();
     }
-}
\ No newline at end of file
+
+    private List<SpaceAvailabilityResponse.TimeRangeResponse> toTimeRanges(List<TimeRange> ranges) {
+        return ranges.stream()
+                .map(r -> SpaceAvailabilityResponse.TimeRangeResponse.builder()
+                        .startTime(r.startAt().toLocalTime())
+                        .endTime(r.endAt().toLocalTime())
+                        .build())
+                .collect(Collectors.toList());
+    }
+
+    private List<RoomDetailResponse> roomResponses(SpaceEntry space, boolean activeOnly) {
+        if (space == null) {
+            return List.of();
+        }
+        return (activeOnly ? space.activeRooms() : space.rooms()).stream()
+                .map(RoomEntry::response)
+                .collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,331 @@
+package com.teamlms.backend.global.admission;
+
+import java.util.ArrayDeque;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.teamlms.backend.global.exception.base.RetryableBusinessException;
+import com.teamlms.backend.global.exception.code.ErrorCode;
+
+import jakarta.annotation.PostConstruct;
+
+/**
+ * 수강신청(교과/비교과) 진입 제어
+ * - 동시 처리 수를 DB 커넥션 풀 크기 - reserved-connections 로 제한 (다른 API 용 커넥션 확보)
+ * - 한도 초과 요청은 교과별 FIFO 대기열에 대기, 자리가 나면 대기 중인 교과를 돌아가며 1건씩 입장 (인기 교과가 독점하지 않음)
+ * - 대기열이 가득 찼거나 max-wait 안에 입장하지 못하면 바로 실패 + Retry-After (평균 처리 시간 기반 추정)
+ * - 상태는 인스턴스 메모리 기준 (인스턴스별 한도)
+ */
+@Component
+public class EnrollmentAdmissionGate {
+
+    private static final long[] LATENCY_BUCKET_MILLIS = {0, 1, 5, 10, 50, 100, 250, 500, 1_000, 3_000};
+    private static final long MAX_RETRY_AFTER_SECONDS = 30;
+    private static final int TOP_QUEUE_SIZE = 10;
+
+    @Value("${spring.datasource.hikari.maximum-pool-size:10}")
+    private int connectionPoolSize;
+
+    @Value("${enrollment.admission.reserved-connections:2}")
+    private int reservedConnections;
+
+    @Value("${enrollment.admission.max-queue-per-offering:200}")
+    private int maxQueuePerOffering;
+
+    @Value("${enrollment.admission.max-waiting:2000}")
+    private int maxWaiting;
+
+    @Value("${enrollment.admission.max-wait-ms:3000}")
+    private long maxWaitMillis;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Map<String, ArrayDeque<Waiter>> queues = new HashMap<>();
+    private final ArrayDeque<String> turns = new ArrayDeque<>();
+    private int maxConcurrent;
+    private int active;
+    private int waiting;
+    private int peakWaiting;
+
+    // 처리 시간 EWMA (Retry-After 추정용)
+    private volatile double avgHoldNanos = TimeUnit.MILLISECONDS.toNanos(50);
+
+    private final LongAdder admittedImmediately = new LongAdder();
+    private final LongAdder admittedAfterWait = new LongAdder();
+    private final LongAdder rejectedQueueFull = new LongAdder();
+    private final LongAdder rejectedTimeout = new LongAdder();
+    private final LongAdder totalWaitNanos = new LongAdder();
+    private final AtomicLong maxWaitNanos = new AtomicLong();
+    private final LongAdder[] latencyBuckets = new LongAdder[LATENCY_BUCKET_MILLIS.length];
+
+    private static final class Waiter {
+        private final Condition admitted;
+        private boolean granted;
+
+        private Waiter(Condition admitted) {
+            this.admitted = admitted;
+        }
+    }
+
+    /**
+     * 입장권 - 처리 후 반드시 close (try-with-resources)
+     */
+    public final class Ticket implements AutoCloseable {
+        private final int queuePosition;
+        private final long waitedMillis;
+        private final long admittedAtNanos = System.nanoTime();
+        private final AtomicBoolean released = new AtomicBoolean();
+
+        private Ticket(int queuePosition, long waitedMillis) {
+            this.queuePosition = queuePosition;
+            this.waitedMillis = waitedMillis;
+        }
+
+        // 대기 시작 시점의 교과 대기열 순번 (0 = 대기 없이 입장)
+        public int queuePosition() {
+            return queuePosition;
+        }
+
+        public long waitedMillis() {
+            return waitedMillis;
+        }
+
+        @Override
+        public void close() {
+            if (released.compareAndSet(false, true)) {
+                release(System.nanoTime() - admittedAtNanos);
+            }
+        }
+    }
+
+    public record AdmissionStats(
+            int maxConcurrent,
+            int active,
+            int waiting,
+            int peakWaiting,
+            long admittedImmediately,
+            long admittedAfterWait,
+            long rejectedQueueFull,
+            long rejectedTimeout,
+            double rejectRate,
+            double avgWaitMillis,
+            long maxWaitMillis,
+            long p50WaitMillis,
+            long p95WaitMillis,
+            long p99WaitMillis,
+            double avgHoldMillis,
+            List<QueueDepth> topQueues
+    ) {}
+
+    public record QueueDepth(String key, int depth) {}
+
+    @PostConstruct
+    void init() {
+        maxConcurrent = Math.max(1, connectionPoolSize - Math.max(0, reservedConnections));
+        for (int i = 0; i < latencyBuckets.length; i++) {
+            latencyBuckets[i] = new LongAdder();
+        }
+    }
+
+    public static String curricularKey(Long offeringId) {
+        return "curricular:" + offeringId;
+    }
+
+    public static String extraCurricularKey(Long extraOfferingId) {
+        return "extra:" + extraOfferingId;
+    }
+
+    /**
+     * 입장 (자리가 없으면 교과 대기열에서 최대 max-wait 대기)
+     */
+    public Ticket admit(String key) {
+        long startedAt = System.nanoTime();
+        lock.lock();
+        try {
+            if (active < maxConcurrent && waiting == 0) {
+                active++;
+                admittedImmediately.increment();
+                recordWait(0);
+                return new Ticket(0, 0);
+            }
+
+            ArrayDeque<Waiter> queue = queues.get(key);
+            int depth = queue == null ? 0 : queue.size();
+            if (depth >= maxQueuePerOffering || waiting >= maxWaiting) {
+                rejectedQueueFull.increment();
+                long retryAfter = retryAfterSeconds();
+                throw new RetryableBusinessException(ErrorCode.ENROLLMENT_ADMISSION_QUEUE_FULL, retryAfter, retryAfter);
+            }
+            if (queue == null) {
+                queue = new ArrayDeque<>();
+                queues.put(key, queue);
+                turns.addLast(key);
+            }
+            Waiter waiter = new Waiter(lock.newCondition());
+            queue.addLast(waiter);
+            int position = queue.size();
+            waiting++;
+            peakWaiting = Math.max(peakWaiting, waiting);
+
+            long remaining = TimeUnit.MILLISECONDS.toNanos(maxWaitMillis);
+            boolean interrupted = false;
+            while (!waiter.granted && remaining > 0) {
+                try {
+                    remaining = waiter.admitted.awaitNanos(remaining);
+                } catch (InterruptedException e) {
+                    interrupted = true;
+                    break;
+                }
+            }
+            if (!waiter.granted) {
+                abandon(key, queue, waiter);
+                rejectedTimeout.increment();
+                if (interrupted) {
+                    Thread.currentThread().interrupt();
+                }
+                long retryAfter = retryAfterSeconds();
+                throw new RetryableBusinessException(ErrorCode.ENROLLMENT_ADMISSION_TIMEOUT, retryAfter, retryAfter);
+            }
+            if (interrupted) {
+                Thread.currentThread().interrupt();
+            }
+
+            long waitedNanos = System.nanoTime() - startedAt;
+            admittedAfterWait.increment();
+            recordWait(waitedNanos);
+            return new Ticket(position, TimeUnit.NANOSECONDS.toMillis(waitedNanos));
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public AdmissionStats getStats() {
+        int activeNow;
+        int waitingNow;
+        int peak;
+        List<QueueDepth> topQueues;
+        lock.lock();
+        try {
+            activeNow = active;
+            waitingNow = waiting;
+            peak = peakWaiting;
+            topQueues = queues.entrySet().stream()
+                    .map(e -> new QueueDepth(e.getKey(), e.getValue().size()))
+                    .sorted(Comparator.comparingInt(QueueDepth::depth).reversed())
+                    .limit(TOP_QUEUE_SIZE)
+                    .toList();
+        } finally {
+            lock.unlock();
+        }
+
+        long immediate = admittedImmediately.sum();
+        long afterWait = admittedAfterWait.sum();
+        long queueFull = rejectedQueueFull.sum();
+        long timeout = rejectedTimeout.sum();
+        long admitted = immediate + afterWait;
+        long total = admitted + queueFull + timeout;
+        return new AdmissionStats(
+                maxConcurrent,
+                activeNow,
+                waitingNow,
+                peak,
+                immediate,
+                afterWait,
+                queueFull,
+                timeout,
+                total == 0 ? 0.0 : (double) (queueFull + timeout) / total,
+                admitted == 0 ? 0.0 : totalWaitNanos.sum() / 1_000_000.0 / admitted,
+                TimeUnit.NANOSECONDS.toMillis(maxWaitNanos.get()),
+                waitPercentile(0.50),
+                waitPercentile(0.95),
+                waitPercentile(0.99),
+                avgHoldNanos / 1_000_000.0,
+                topQueues);
+    }
+
+    private void release(long holdNanos) {
+        avgHoldNanos = avgHoldNanos * 0.9 + holdNanos * 0.1;
+        lock.lock();
+        try {
+            active--;
+            // 대기 교과를 돌아가며 1건씩 입장
+            while (active < maxConcurrent && !turns.isEmpty()) {
+                String key = turns.pollFirst();
+                ArrayDeque<Waiter> queue = queues.get(key);
+                Waiter next = queue.pollFirst();
+                if (queue.isEmpty()) {
+                    queues.remove(key);
+                } else {
+                    turns.addLast(key);
+                }
+                waiting--;
+                active++;
+                next.granted = true;
+                next.admitted.signal();
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void abandon(String key, ArrayDeque<Waiter> queue, Waiter waiter) {
+        queue.remove(waiter);
+        waiting--;
+        if (queue.isEmpty()) {
+            queues.remove(key);
+            turns.remove(key);
+        }
+    }
+
+    // 대기 인원 / 동시 처리 수 x 평균 처리 시간
+    private long retryAfterSeconds() {
+        double drainNanos = (waiting + 1) * avgHoldNanos / maxConcurrent;
+        long seconds = (long) Math.ceil(drainNanos / 1_000_000_000.0);
+        return Math.min(MAX_RETRY_AFTER_SECONDS, Math.max(1, seconds));
+    }
+
+    private void recordWait(long waitedNanos) {
+        totalWaitNanos.add(waitedNanos);
+        maxWaitNanos.accumulateAndGet(waitedNanos, Math::max);
+        long millis = TimeUnit.NANOSECONDS.toMillis(waitedNanos);
+        int bucket = 0;
+        while (bucket + 1 < LATENCY_BUCKET_MILLIS.length && millis >= LATENCY_BUCKET_MILLIS[bucket + 1]) {
+            bucket++;
+        }
+        latencyBuckets[bucket].increment();
+    }
+
+    // 구간 상한 기준 근사 백분위수 (마지막 구간은 최대값)
+    private long waitPercentile(double percentile) {
+        long total = 0;
+        long[] counts = new long[latencyBuckets.length];
+        for (int i = 0; i < counts.length; i++) {
+            counts[i] = latencyBuckets[i].sum();
+            total += counts[i];
+        }
+        if (total == 0) {
+            return 0;
+        }
+        long target = (long) Math.ceil(total * percentile);
+        long seen = 0;
+        for (int i = 0; i < counts.length; i++) {
+            seen += counts[i];
+            if (seen >= target) {
+                return i + 1 < LATENCY_BUCKET_MILLIS.length
+                        ? LATENCY_BUCKET_MILLIS[i + 1]
+                        : TimeUnit.NANOSECONDS.toMillis(maxWaitNanos.get());
+            }
+        }
+        return TimeUnit.NANOSECONDS.toMillis(maxWaitNanos.get());
+    }
+}
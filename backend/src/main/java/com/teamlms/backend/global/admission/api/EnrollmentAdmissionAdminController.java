@@ -0,0 +1,28 @@
+package com.teamlms.backend.global.admission.api;
+
+import com.teamlms.backend.global.admission.EnrollmentAdmissionGate;
+import com.teamlms.backend.global.admission.EnrollmentAdmissionGate.AdmissionStats;
+import com.teamlms.backend.global.api.ApiResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+/**
+ * 관리자: 수강신청 진입 제어 상태 조회 API
+ */
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/v1/admin/enrollment-admission")
+@PreAuthorize("hasAuthority('LOG_MANAGE')")
+public class EnrollmentAdmissionAdminController {
+
+    private final EnrollmentAdmissionGate admissionGate;
+
+    /**
+     * 동시 처리/대기열 깊이, 입장 대기 시간 분포, 거절 건수/비율
+     */
+    @GetMapping("/stats")
+    public ApiResponse<AdmissionStats> getStats() {
+        return ApiResponse.ok(admissionGate.getStats());
+    }
+}
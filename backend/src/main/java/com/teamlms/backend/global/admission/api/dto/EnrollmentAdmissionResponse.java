@@ -0,0 +1,17 @@
+package com.teamlms.backend.global.admission.api.dto;
+
+import com.teamlms.backend.global.admission.EnrollmentAdmissionGate;
+
+/**
+ * 수강신청/취소 처리 결과 + 대기열 정보
+ * - queuePosition: 대기 시작 시 교과 대기열 순번 (0 = 대기 없음)
+ */
+public record EnrollmentAdmissionResponse(
+        boolean success,
+        int queuePosition,
+        long waitedMillis
+) {
+    public static EnrollmentAdmissionResponse of(EnrollmentAdmissionGate.Ticket ticket) {
+        return new EnrollmentAdmissionResponse(true, ticket.queuePosition(), ticket.waitedMillis());
+    }
+}
@@ -0,0 +1,18 @@
+package com.teamlms.backend.global.api;
+
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * 커서(keyset) 페이징 meta
+ * - totalElements 는 첫 페이지에서만 계산 (이후 페이지는 null), totalExact 가 false 면 통계 기반 예상값
+ */
+@Getter
+@Builder
+public class CursorMeta {
+    private int size;
+    private String nextCursor; // 마지막 페이지면 null
+    private boolean hasNext;
+    private Long totalElements;
+    private Boolean totalExact;
+}
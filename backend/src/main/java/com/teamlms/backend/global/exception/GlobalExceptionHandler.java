@@ -1,6 +1,7 @@
 package com.teamlms.backend.global.exception;
 
 import com.teamlms.backend.global.exception.base.BusinessException;
+import com.teamlms.backend.global.exception.base.RetryableBusinessException;
 import com.teamlms.backend.global.exception.code.ErrorCode;
 import com.teamlms.backend.global.exception.dto.ErrorResponse;
 import com.teamlms.backend.global.exception.dto.FieldErrorItem;
@@ -9,6 +10,7 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
 import org.springframework.context.MessageSource;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.http.converter.HttpMessageNotReadableException;
 import org.springframework.security.access.AccessDeniedException;
@@ -68,6 +70,18 @@ public class GlobalExceptionHandler {
                 .body(ErrorResponse.of(ec.getCode(), message));
     }
 
+    /**
+     * 재시도 가능한 비즈니스 예외 (혼잡 등) - Retry-After 헤더 포함
+     */
+    @ExceptionHandler(RetryableBusinessException.class)
+    public ResponseEntity<ErrorResponse> handleRetryable(RetryableBusinessException ex) {
+        ErrorCode ec = ex.getErrorCode();
+        String message = resolveMessage(ec, ex.getArgs(), LocaleContextHolder.getLocaleSafely());
+        return ResponseEntity.status(ec.getHttpStatus())
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(ex.getRetryAfterSeconds()))
+                .body(ErrorResponse.of(ec.getCode(), message));
+    }
+
     /**
      * Spring Security - 인가 실패
      */
@@ -0,0 +1,18 @@
+package com.teamlms.backend.global.exception.base;
+
+import com.teamlms.backend.global.exception.code.ErrorCode;
+import lombok.Getter;
+
+/**
+ * 잠시 후 재시도하면 성공할 수 있는 비즈니스 예외 (응답에 Retry-After 헤더 포함)
+ */
+@Getter
+public class RetryableBusinessException extends BusinessException {
+
+    private final long retryAfterSeconds;
+
+    public RetryableBusinessException(ErrorCode errorCode, long retryAfterSeconds, Object... args) {
+        super(errorCode, args);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+}
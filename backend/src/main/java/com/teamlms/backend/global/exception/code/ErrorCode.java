@@ -91,6 +91,8 @@ public enum ErrorCode {
     ENROLLMENT_OFFERING_MISMATCH(HttpStatus.CONFLICT, "ENROLLMENT_OFFERING_MISMATCH", "해당 수강정보는 요청한 교과 운영에 속하지 않습니다.", "enrollment.offering.mismatch"),
     ENROLLMENT_NOT_GRADEABLE(HttpStatus.CONFLICT, "ENROLLMENT_NOT_GRADEABLE", "취소된 수강 정보에는 성적을 입력할 수 없습니다.", "enrollment.not.gradeable"),
     ENROLLMENT_CANCEL_NOT_ALLOWED_STATUS(HttpStatus.FORBIDDEN, "ENROLLMENT_CANCEL_NOT_ALLOWED_STATUS", "현재 교과 운영 상태에서는 수강 신청을 취소할 수 없습니다.", "enrollment.cancel.notAllowedStatus"),
+    ENROLLMENT_ADMISSION_QUEUE_FULL(HttpStatus.TOO_MANY_REQUESTS, "ENROLLMENT_ADMISSION_QUEUE_FULL", "수강신청 대기열이 가득 찼습니다. 잠시 후 다시 시도해주세요.", "enrollment.admission.queueFull"),
+    ENROLLMENT_ADMISSION_TIMEOUT(HttpStatus.SERVICE_UNAVAILABLE, "ENROLLMENT_ADMISSION_TIMEOUT", "수강신청 대기 시간이 초과되었습니다. 잠시 후 다시 시도해주세요.", "enrollment.admission.timeout"),
     GRADE_NOT_INPUTTED(HttpStatus.BAD_REQUEST, "GRADE_NOT_INPUTTED", "입력되지 않은 성적이 있습니다.", "grade.input.required"),
     GRADE_ALREADY_CONFIRMED(HttpStatus.CONFLICT, "GRADE_ALREADY_CONFIRMED", "이미 성적이 확정된 수강 정보는 수정할 수 없습니다.", "grade.already.confirmed"),
     OFFERING_NOT_GRADEABLE_STATUS(HttpStatus.CONFLICT, "OFFERING_NOT_GRADEABLE_STATUS", "점수입력 상태가 아닙니다.", "offering.gradeinput.mismatch"),
@@ -125,6 +127,7 @@ public enum ErrorCode {
     EXTRA_SESSION_REWARD_POINT_EXCEEDS_OFFERING_CAP(HttpStatus.CONFLICT, "EXTRA_SESSION_REWARD_POINT_EXCEEDS_OFFERING_CAP", "회차 포인트 합계가 비교과 운영의 포인트 상한을 초과합니다.", "extra.curricular.session.rewardPoint.exceedsCap"),
     EXTRA_SESSION_RECOGNIZED_HOURS_EXCEEDS_OFFERING_CAP(HttpStatus.CONFLICT, "EXTRA_SESSION_RECOGNIZED_HOURS_EXCEEDS_OFFERING_CAP", "회차 인정시간 합계가 비교과 운영의 인정시간 상한을 초과합니다.", "extra.curricular.session.recognizedHours.exceedsCap"),
     EXTRA_SESSION_WATCH_NOT_COMPLETED(HttpStatus.CONFLICT, "EXTRA_SESSION_WATCH_NOT_COMPLETED", "동영상 시청이 완료되지 않았습니다.", "extra.curricular.session.watch.notCompleted"),
+    EXTRA_SESSION_WATCH_CAPACITY_EXCEEDED(HttpStatus.SERVICE_UNAVAILABLE, "EXTRA_SESSION_WATCH_CAPACITY_EXCEEDED", "동영상 시청자 수가 한도를 초과했습니다. 잠시 후 다시 시도해주세요.", "extra.curricular.session.watch.capacityExceeded"),
 
     // Video
     EXTRA_SESSION_VIDEO_STORAGE_KEY_ALREADY_EXISTS(HttpStatus.CONFLICT, "EXTRA_SESSION_VIDEO_STORAGE_KEY_ALREADY_EXISTS", "이미 사용 중인 비디오 storageKey 입니다.", "extra.curricular.session.video.storageKey.alreadyExists"),
@@ -166,6 +169,9 @@ public enum ErrorCode {
     CANNOT_MODIFY_QUESTIONS_AFTER_OPEN(HttpStatus.BAD_REQUEST, "CANNOT_MODIFY_QUESTIONS_AFTER_OPEN", "진단이 시작된 후는 문항을 수정할 수 없습니다.", "diagnosis.modify.questions.afterOpen"),
     ALREADY_SUBMITTED_DIAGNOSIS(HttpStatus.CONFLICT, "ALREADY_SUBMITTED_DIAGNOSIS", "이미 제출한 진단입니다.", "diagnosis.alreadySubmitted"),
     INVALID_COMPETENCY_WEIGHT(HttpStatus.BAD_REQUEST, "INVALID_COMPETENCY_WEIGHT", "역량 가중치는 0에서 6 사이여야 합니다.", "competency.weight.invalid"),
+    COMPETENCY_RECALC_JOB_NOT_FOUND(HttpStatus.NOT_FOUND, "COMPETENCY_RECALC_JOB_NOT_FOUND", "역량 재계산 작업을 찾을 수 없습니다.", "competency.recalc.job.notFound"),
+    COMPETENCY_RECALC_JOB_ALREADY_RUNNING(HttpStatus.CONFLICT, "COMPETENCY_RECALC_JOB_ALREADY_RUNNING", "해당 학기의 역량 재계산 작업이 이미 진행 중입니다.", "competency.recalc.job.alreadyRunning"),
+    COMPETENCY_RECALC_JOB_NOT_RESUMABLE(HttpStatus.CONFLICT, "COMPETENCY_RECALC_JOB_NOT_RESUMABLE", "실패한 재계산 작업만 재개할 수 있습니다.", "competency.recalc.job.notResumable"),
 
     // =========================
     // Domain: Study Rental
@@ -204,6 +210,13 @@ public enum ErrorCode {
     MBTI_KEYWORD_MIN_REQUIRED(HttpStatus.BAD_REQUEST, "MBTI_KEYWORD_MIN_REQUIRED", "Select at least two interest keywords.", "mbti.keyword.minRequired"),
     MBTI_KEYWORD_INVALID(HttpStatus.BAD_REQUEST, "MBTI_KEYWORD_INVALID", "One or more selected keywords are invalid.", "mbti.keyword.invalid"),
     MBTI_JOB_CATALOG_EMPTY(HttpStatus.NOT_FOUND, "MBTI_JOB_CATALOG_EMPTY", "Job catalog data is not available.", "mbti.jobCatalog.empty"),
+    MBTI_RECOMMENDATION_BUSY(HttpStatus.SERVICE_UNAVAILABLE, "MBTI_RECOMMENDATION_BUSY", "Too many recommendation requests are in progress.", "mbti.recommendation.busy"),
+    MBTI_RECOMMENDATION_JOB_NOT_FOUND(HttpStatus.NOT_FOUND, "MBTI_RECOMMENDATION_JOB_NOT_FOUND", "Recommendation job not found.", "mbti.recommendation.job.notFound"),
+
+    // =========================
+    // Domain: Alarm
+    // =========================
+    ALARM_STREAM_LIMIT_EXCEEDED(HttpStatus.SERVICE_UNAVAILABLE, "ALARM_STREAM_LIMIT_EXCEEDED", "알림 실시간 연결 수가 한도를 초과했습니다. 잠시 후 다시 시도해주세요.", "alarm.stream.limitExceeded"),
 
     // =========================
     // Domain: Log
@@ -1,6 +1,7 @@
 package com.teamlms.backend.global.logging.interceptor;
 
-import com.teamlms.backend.domain.log.service.LogCommandService;
+import com.teamlms.backend.domain.log.service.LogIngestionPipeline;
+import com.teamlms.backend.domain.log.service.LogRecord;
 import com.teamlms.backend.global.security.principal.AuthUser;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
@@ -10,12 +11,14 @@ import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Component;
 import org.springframework.web.servlet.HandlerInterceptor;
 
+import java.time.LocalDateTime;
+
 /**
  * 접근 이력(account_access_log)을 append-only로 기록하는 인터셉터
  *
  * - 목적: 감사, 보안 사고 추적
  * - 특징: 모든 요청이 아닌 "정책 대상 요청만" 기록
- * - 저장 시점: 요청 완료 후(afterCompletion)
+ * - 저장 시점: 요청 완료 후(afterCompletion) 큐 적재 -> 백그라운드 batch insert
  *
  * ❗ shouldLog() 조건이 핵심 정책 포인트
  */
@@ -23,7 +26,7 @@ import org.springframework.web.servlet.HandlerInterceptor;
 @RequiredArgsConstructor
 public class AccountAccessLogInterceptor implements HandlerInterceptor {
 
-    private final LogCommandService logCommandService;
+    private final LogIngestionPipeline logIngestionPipeline;
 
     @Override
     public void afterCompletion(
@@ -43,8 +46,8 @@ public class AccountAccessLogInterceptor implements HandlerInterceptor {
 
         Long accountId = authUser.getAccountId();
 
-        // 실제 insert 로직은 LogCommandService에 위임
-        logCommandService.saveAccountAccessLog(accountId, request, response);
+        // 요청 정보만 복사해 적재 큐에 넣고, insert 는 LogIngestionPipeline 이 batch 로 처리
+        logIngestionPipeline.submit(LogRecord.accessLog(accountId, request, LocalDateTime.now()));
     }
 
     /**
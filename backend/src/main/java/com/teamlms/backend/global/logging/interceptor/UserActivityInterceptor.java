@@ -1,6 +1,8 @@
 package com.teamlms.backend.global.logging.interceptor;
 
-import com.teamlms.backend.domain.log.service.LogCommandService;
+import com.teamlms.backend.domain.log.service.LogIngestionPipeline;
+import com.teamlms.backend.domain.log.service.LogRecord;
+import com.teamlms.backend.domain.log.service.PresenceTracker;
 import com.teamlms.backend.global.security.principal.AuthUser;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
@@ -10,12 +12,15 @@ import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Component;
 import org.springframework.web.servlet.HandlerInterceptor;
 
+import java.time.LocalDateTime;
+
 /**
  * 인증된 사용자의 "최근 활동 정보(user_activity)"를 갱신하는 인터셉터
  *
  * - 목적: 온라인 여부 판단, 관리자 목록 화면용 스냅샷 유지
  * - 특징: 계정당 1행, upsert 방식
- * - 저장 시점: 요청 처리 완료 후(afterCompletion)
+ * - 온라인 여부: 요청마다 PresenceTracker 메모리만 갱신
+ * - 저장 시점: 계정당 persist-interval 에 한 번 큐 적재 -> 백그라운드 batch upsert
  *
  * ❗ 접근 이력(account_access_log)과는 역할이 다름
  */
@@ -23,7 +28,8 @@ import org.springframework.web.servlet.HandlerInterceptor;
 @RequiredArgsConstructor
 public class UserActivityInterceptor implements HandlerInterceptor {
 
-    private final LogCommandService logCommandService;
+    private final LogIngestionPipeline logIngestionPipeline;
+    private final PresenceTracker presenceTracker;
 
     @Override
     public void afterCompletion(
@@ -38,8 +44,11 @@ public class UserActivityInterceptor implements HandlerInterceptor {
         }
 
         Long accountId = authUser.getAccountId();
+        LocalDateTime now = LocalDateTime.now();
 
-        // 실제 upsert 로직은 LogCommandService에 위임
-        logCommandService.upsertUserActivity(accountId, request);
+        // 온라인 상태는 메모리에만 반영, user_activity upsert 는 persist-interval 이 지난 경우에만 적재
+        if (presenceTracker.touch(accountId, now)) {
+            logIngestionPipeline.submit(LogRecord.userActivity(accountId, request, now));
+        }
     }
 }
@@ -1,7 +1,8 @@
 package com.teamlms.backend.global.security;
 
+import com.teamlms.backend.global.security.jwt.JwtAuthenticationCache;
 import com.teamlms.backend.global.security.jwt.JwtAuthenticationFilter;
-import com.teamlms.backend.global.security.jwt.JwtTokenProvider;
+import jakarta.servlet.DispatcherType;
 import org.springframework.context.annotation.*;
 import org.springframework.http.HttpMethod;
 import org.springframework.security.config.annotation.method.configuration.EnableMethodSecurity;
@@ -18,8 +19,19 @@ import org.springframework.security.web.authentication.UsernamePasswordAuthentic
 @EnableMethodSecurity(prePostEnabled = true) // permission 기반 권한체크
 public class SecurityConfig {
 
+    // 인증 없이 허용하는 경로 (JwtAuthenticationFilter 도 이 경로는 건너뜀)
+    public static final String[] PUBLIC_PATHS = {
+            "/error",
+            "/health",
+            "/swagger-ui.html", "/swagger-ui/**", "/v3/api-docs/**",
+            //auth
+            "/api/v1/auth/login",
+            "/api/v1/auth/password-reset/**"
+    };
+
     @Bean
-    public SecurityFilterChain filterChain(HttpSecurity http, JwtTokenProvider jwtTokenProvider) throws Exception {
+    public SecurityFilterChain filterChain(HttpSecurity http, JwtAuthenticationCache jwtAuthenticationCache)
+            throws Exception {
 
         http.csrf(csrf -> csrf.disable());
         http.sessionManagement(sm -> sm.sessionCreationPolicy(SessionCreationPolicy.STATELESS));
@@ -27,13 +39,12 @@ public class SecurityConfig {
         http.httpBasic(b -> b.disable());
 
         http.authorizeHttpRequests(auth -> auth
-                .requestMatchers("/error").permitAll()
-                .requestMatchers("/health").permitAll()
-                .requestMatchers("/swagger-ui.html", "/swagger-ui/**", "/v3/api-docs/**").permitAll()
+                // SSE 등 비동기 응답의 재디스패치/에러 디스패치는 최초 요청에서 이미 인가됨
+                // (JWT 필터는 재디스패치를 건너뛰고 컨텍스트를 저장하지 않으므로 여기서 다시 검사하면 커밋된 응답에 403)
+                .dispatcherTypeMatchers(DispatcherType.ASYNC, DispatcherType.ERROR).permitAll()
+                .requestMatchers(PUBLIC_PATHS).permitAll()
 
                 //auth
-                .requestMatchers("/api/v1/auth/login").permitAll()
-                .requestMatchers("/api/v1/auth/password-reset/**").permitAll()
                 .requestMatchers(HttpMethod.POST, "/api/v1/auth/logout").authenticated()
                 .requestMatchers(HttpMethod.GET,  "/api/v1/auth/me").authenticated()
 
@@ -46,7 +57,7 @@ public class SecurityConfig {
                 .anyRequest().authenticated()
         );
 
-        http.addFilterBefore(new JwtAuthenticationFilter(jwtTokenProvider), UsernamePasswordAuthenticationFilter.class);
+        http.addFilterBefore(new JwtAuthenticationFilter(jwtAuthenticationCache, PUBLIC_PATHS), UsernamePasswordAuthenticationFilter.class);
 
         return http.build();
     }
@@ -0,0 +1,28 @@
+package com.teamlms.backend.global.security.api;
+
+import com.teamlms.backend.global.api.ApiResponse;
+import com.teamlms.backend.global.security.jwt.JwtAuthenticationCache;
+import com.teamlms.backend.global.security.jwt.JwtAuthenticationCache.JwtAuthCacheStats;
+import lombok.RequiredArgsConstructor;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+/**
+ * 관리자: 인증 처리 상태 조회 API
+ */
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/v1/admin/security")
+@PreAuthorize("hasAuthority('LOG_MANAGE')")
+public class SecurityAdminController {
+
+    private final JwtAuthenticationCache jwtAuthenticationCache;
+
+    /**
+     * JWT 인증 캐시 상태 (적중률, 크기, 만료 정리/거절 건수)
+     */
+    @GetMapping("/auth-cache/stats")
+    public ApiResponse<JwtAuthCacheStats> getAuthCacheStats() {
+        return ApiResponse.ok(jwtAuthenticationCache.getStats());
+    }
+}
@@ -0,0 +1,178 @@
+package com.teamlms.backend.global.security.jwt;
+
+import com.teamlms.backend.global.security.principal.AuthUser;
+import io.jsonwebtoken.Claims;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 검증 완료된 JWT -> Authentication 캐시
+ * - 키: 토큰 SHA-256 digest (원문 토큰은 보관하지 않음)
+ * - 값: 이미 만든 Authentication, 토큰 exp 까지만 유효
+ * - 권한 객체는 권한 문자열별로 1개만 만들어 공유
+ * - max-entries 초과 시 만료 항목부터 정리, 그래도 가득 차면 캐시하지 않음 (서명 검증 경로로 동작)
+ */
+@Component
+@RequiredArgsConstructor
+public class JwtAuthenticationCache {
+
+    private final JwtTokenProvider jwtTokenProvider;
+
+    @Value("${security.jwt.auth-cache.max-entries:10000}")
+    private int maxEntries;
+
+    private final Map<String, CachedAuthentication> cache = new ConcurrentHashMap<>();
+    private final Map<String, GrantedAuthority> authorityPool = new ConcurrentHashMap<>();
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder invalidTokens = new LongAdder();
+    private final LongAdder expiredEvictions = new LongAdder();
+    private final LongAdder rejectedPuts = new LongAdder();
+
+    private static final ThreadLocal<MessageDigest> SHA_256 = ThreadLocal.withInitial(() -> {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    });
+
+    private record CachedAuthentication(Authentication authentication, long expiresAtMillis) {
+    }
+
+    /**
+     * 토큰 -> Authentication (캐시 적중 시 서명 검증/클레임 파싱 생략)
+     *
+     * @throws io.jsonwebtoken.JwtException 서명/만료 등 검증 실패
+     */
+    public Authentication authenticate(String token) {
+        long now = System.currentTimeMillis();
+        String key = digest(token);
+
+        CachedAuthentication cached = cache.get(key);
+        if (cached != null) {
+            if (cached.expiresAtMillis() > now) {
+                hits.increment();
+                return cached.authentication();
+            }
+            if (cache.remove(key, cached)) {
+                expiredEvictions.increment();
+            }
+        }
+        misses.increment();
+
+        Claims claims;
+        try {
+            claims = jwtTokenProvider.parseClaims(token);
+        } catch (RuntimeException e) {
+            invalidTokens.increment();
+            throw e;
+        }
+
+        Authentication auth = toAuthentication(claims);
+        Date exp = claims.getExpiration();
+        if (exp != null) {
+            put(key, new CachedAuthentication(auth, exp.getTime()), now);
+        }
+        return auth;
+    }
+
+    public JwtAuthCacheStats getStats() {
+        long hitCount = hits.sum();
+        long missCount = misses.sum();
+        long total = hitCount + missCount;
+        return new JwtAuthCacheStats(
+                cache.size(),
+                maxEntries,
+                authorityPool.size(),
+                hitCount,
+                missCount,
+                total == 0 ? 0.0 : (double) hitCount / total,
+                invalidTokens.sum(),
+                expiredEvictions.sum(),
+                rejectedPuts.sum());
+    }
+
+    private void put(String key, CachedAuthentication entry, long now) {
+        if (cache.size() >= maxEntries) {
+            purgeExpired(now);
+            if (cache.size() >= maxEntries) {
+                rejectedPuts.increment();
+                return;
+            }
+        }
+        cache.put(key, entry);
+    }
+
+    private void purgeExpired(long now) {
+        cache.entrySet().removeIf(e -> {
+            boolean expired = e.getValue().expiresAtMillis() <= now;
+            if (expired) {
+                expiredEvictions.increment();
+            }
+            return expired;
+        });
+    }
+
+    private Authentication toAuthentication(Claims claims) {
+        Long accountId = Long.valueOf(claims.getSubject());
+        String accountType = String.valueOf(claims.get("accountType"));
+
+        // 1) role(계정타입) authority + 2) permission authority (JWT claim 에서 꺼냄)
+        List<?> permissions = claims.get("permissions", List.class);
+        List<GrantedAuthority> authorities = new ArrayList<>(1 + (permissions == null ? 0 : permissions.size()));
+        authorities.add(authority("ROLE_" + accountType));
+        if (permissions != null) {
+            for (Object p : permissions) {
+                if (p instanceof String permission && !permission.isBlank()) {
+                    authorities.add(authority(permission)); // 예: "DEPT_MANAGE"
+                }
+            }
+        }
+
+        AuthUser principal = new AuthUser(accountId, accountType);
+        return new UsernamePasswordAuthenticationToken(principal, null, Collections.unmodifiableList(authorities));
+    }
+
+    private GrantedAuthority authority(String value) {
+        return authorityPool.computeIfAbsent(value, SimpleGrantedAuthority::new);
+    }
+
+    private static String digest(String token) {
+        byte[] hash = SHA_256.get().digest(token.getBytes(StandardCharsets.US_ASCII));
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(hash);
+    }
+
+    /**
+     * 인증 캐시 상태 (적중률/크기)
+     */
+    public record JwtAuthCacheStats(
+            int size,
+            int maxEntries,
+            int sharedAuthorities,
+            long hitCount,
+            long missCount,
+            double hitRate,
+            long invalidTokenCount,
+            long expiredEvictionCount,
+            long rejectedPutCount
+    ) {}
+}
@@ -1,25 +1,50 @@
 package com.teamlms.backend.global.security.jwt;
 
-import com.teamlms.backend.global.security.principal.AuthUser;
-import io.jsonwebtoken.Claims;
 import jakarta.servlet.*;
 import jakarta.servlet.http.*;
-import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
-import org.springframework.security.core.*;
-import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.http.server.PathContainer;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
 
 import java.io.IOException;
-import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 
+/**
+ * Bearer 토큰 인증 필터
+ * - 검증/Authentication 생성은 JwtAuthenticationCache 에 위임 (같은 토큰 재요청 시 서명 검증 생략)
+ * - SecurityConfig.PUBLIC_PATHS 요청은 필터를 건너뜀
+ */
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
-    private final JwtTokenProvider jwtTokenProvider;
+    private static final String BEARER_PREFIX = "Bearer ";
 
-    public JwtAuthenticationFilter(JwtTokenProvider jwtTokenProvider) {
-        this.jwtTokenProvider = jwtTokenProvider;
+    private final JwtAuthenticationCache jwtAuthenticationCache;
+    private final List<PathPattern> publicPaths;
+
+    public JwtAuthenticationFilter(JwtAuthenticationCache jwtAuthenticationCache, String... publicPaths) {
+        this.jwtAuthenticationCache = jwtAuthenticationCache;
+        this.publicPaths = Arrays.stream(publicPaths)
+                .map(PathPatternParser.defaultInstance::parse)
+                .toList();
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        String uri = request.getRequestURI();
+        String contextPath = request.getContextPath();
+        if (contextPath != null && !contextPath.isEmpty() && uri.startsWith(contextPath)) {
+            uri = uri.substring(contextPath.length());
+        }
+        PathContainer path = PathContainer.parsePath(uri);
+        for (PathPattern pattern : publicPaths) {
+            if (pattern.matches(path)) {
+                return true;
+            }
+        }
+        return false;
     }
 
     @Override
@@ -27,36 +52,11 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
             throws ServletException, IOException {
 
         String header = request.getHeader("Authorization");
-        if (header != null && header.startsWith("Bearer ")) {
-            String token = header.substring(7);
+        if (header != null && header.startsWith(BEARER_PREFIX)) {
+            String token = header.substring(BEARER_PREFIX.length());
 
             try {
-                Claims claims = jwtTokenProvider.parseClaims(token);
-
-                Long accountId = Long.valueOf(claims.getSubject());
-                String accountType = String.valueOf(claims.get("accountType"));
-
-                // ✅ 1) role(계정타입) authority
-                List<GrantedAuthority> authorities = new ArrayList<>();
-                authorities.add(new SimpleGrantedAuthority("ROLE_" + accountType));
-
-                // ✅ 2) permission authority (JWT claim에서 꺼냄)
-                // - JWT에 Set<String> 넣어도 꺼낼 때는 보통 List로 나옴
-                List<String> permissions = claims.get("permissions", List.class);
-                if (permissions != null) {
-                    for (String p : permissions) {
-                        if (p != null && !p.isBlank()) {
-                            authorities.add(new SimpleGrantedAuthority(p)); // 예: "DEPT_MANAGE"
-                        }
-                    }
-                }
-
-                AuthUser principal = new AuthUser(accountId, accountType);
-
-                Authentication auth =
-                        new UsernamePasswordAuthenticationToken(principal, null, authorities);
-                SecurityContextHolder.getContext().setAuthentication(auth);
-
+                SecurityContextHolder.getContext().setAuthentication(jwtAuthenticationCache.authenticate(token));
             } catch (Exception e) {
                 SecurityContextHolder.clearContext();
             }
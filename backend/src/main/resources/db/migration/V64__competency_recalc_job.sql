@@ -0,0 +1,50 @@
+-- =====================================================
+-- V64__competency_recalc_job.sql
+-- 학기 역량 요약 재계산 작업 (청크 단위 병렬 처리 / 재개)
+-- =====================================================
+
+CREATE TABLE competency_recalc_job (
+  job_id BIGINT GENERATED ALWAYS AS IDENTITY PRIMARY KEY,
+
+  semester_id BIGINT NOT NULL,
+  status VARCHAR(20) NOT NULL, -- RUNNING | COMPLETED | FAILED
+
+  chunk_size INT NOT NULL,
+  total_students INT NOT NULL DEFAULT 0,
+  total_chunks INT NOT NULL DEFAULT 0,
+
+  started_at TIMESTAMP NOT NULL,
+  finished_at TIMESTAMP,
+  error_message VARCHAR(1000),
+
+  created_at TIMESTAMP NOT NULL DEFAULT now(),
+  created_by BIGINT,
+  updated_at TIMESTAMP NOT NULL DEFAULT now(),
+  updated_by BIGINT,
+
+  CONSTRAINT fk_recalc_job_semester
+    FOREIGN KEY (semester_id) REFERENCES semester(semester_id)
+);
+
+CREATE INDEX idx_recalc_job_semester_status
+  ON competency_recalc_job (semester_id, status);
+
+-- 커밋된 청크만 기록 (재개 시 건너뜀)
+CREATE TABLE competency_recalc_job_chunk (
+  chunk_id BIGINT GENERATED ALWAYS AS IDENTITY PRIMARY KEY,
+
+  job_id BIGINT NOT NULL,
+  chunk_no INT NOT NULL,
+  student_count INT NOT NULL,
+  elapsed_ms BIGINT NOT NULL,
+  committed_at TIMESTAMP NOT NULL,
+
+  created_at TIMESTAMP NOT NULL DEFAULT now(),
+  created_by BIGINT,
+  updated_at TIMESTAMP NOT NULL DEFAULT now(),
+  updated_by BIGINT,
+
+  CONSTRAINT uq_recalc_job_chunk UNIQUE (job_id, chunk_no),
+  CONSTRAINT fk_recalc_job_chunk_job
+    FOREIGN KEY (job_id) REFERENCES competency_recalc_job(job_id) ON DELETE CASCADE
+);
@@ -0,0 +1,6 @@
+-- V65: 역량 코호트 통계 누적 집계 컬럼 (이벤트 기반 증분 갱신용)
+ALTER TABLE semester_competency_cohort_stat ADD COLUMN score_sum NUMERIC;
+ALTER TABLE semester_competency_cohort_stat ADD COLUMN score_sum_sq NUMERIC;
+
+COMMENT ON COLUMN semester_competency_cohort_stat.score_sum IS '총점 합계 (평균 증분 계산용)';
+COMMENT ON COLUMN semester_competency_cohort_stat.score_sum_sq IS '총점 제곱 합계 (표준편차 증분 계산용)';
@@ -0,0 +1,8 @@
+-- V66: 역량 코호트 통계 분위수 컬럼 (결과 대시보드 분포 표시용)
+ALTER TABLE semester_competency_cohort_stat ADD COLUMN p25 NUMERIC;
+ALTER TABLE semester_competency_cohort_stat ADD COLUMN p75 NUMERIC;
+ALTER TABLE semester_competency_cohort_stat ADD COLUMN p90 NUMERIC;
+
+COMMENT ON COLUMN semester_competency_cohort_stat.p25 IS '총점 25 백분위수';
+COMMENT ON COLUMN semester_competency_cohort_stat.p75 IS '총점 75 백분위수';
+COMMENT ON COLUMN semester_competency_cohort_stat.p90 IS '총점 90 백분위수';
@@ -0,0 +1,17 @@
+-- V67: 교과 정원 카운터 컬럼 (수강신청 시 COUNT 대신 행 잠금 + 카운터로 정원 판정)
+ALTER TABLE curricular_offering ADD COLUMN enrolled_count INT NOT NULL DEFAULT 0;
+
+UPDATE curricular_offering o
+SET enrolled_count = c.cnt
+FROM (
+    SELECT offering_id, COUNT(*) AS cnt
+    FROM enrollment
+    WHERE enrollment_status = 'ENROLLED'
+    GROUP BY offering_id
+) c
+WHERE c.offering_id = o.offering_id;
+
+ALTER TABLE curricular_offering
+    ADD CONSTRAINT ck_curricular_offering_enrolled_count CHECK (enrolled_count >= 0);
+
+COMMENT ON COLUMN curricular_offering.enrolled_count IS '현재 ENROLLED 수강 인원 (수강신청/취소 시 갱신)';
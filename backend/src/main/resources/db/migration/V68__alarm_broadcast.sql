@@ -0,0 +1,57 @@
+-- V68: 전체 공지형 알림 (수신자별 alarm 행 대신 방송 1건 + 계정별 읽음/삭제 기록)
+-- alarm_id 는 alarm 과 같은 시퀀스를 써서 기존 /alarms/{alarmId} API 에서 구분 없이 사용
+
+CREATE TABLE alarm_broadcast (
+  alarm_id BIGINT PRIMARY KEY DEFAULT nextval('alarm_alarm_id_seq'),
+
+  target_account_type VARCHAR(20), -- STUDENT | PROFESSOR | ADMIN, NULL 이면 전체
+  alarm_type VARCHAR(50) NOT NULL,
+  title VARCHAR(200) NOT NULL,
+  message VARCHAR(1000) NOT NULL,
+  title_key VARCHAR(200),
+  message_key VARCHAR(200),
+  message_args TEXT,
+  link_url VARCHAR(500),
+
+  created_at TIMESTAMP NOT NULL DEFAULT NOW(),
+  created_by BIGINT,
+  updated_at TIMESTAMP NOT NULL DEFAULT NOW(),
+  updated_by BIGINT
+);
+
+CREATE INDEX idx_alarm_broadcast_target_created
+  ON alarm_broadcast (target_account_type, created_at DESC);
+
+-- 방송 알림 개별 읽음/삭제 (읽거나 지운 계정만 행 생성)
+CREATE TABLE alarm_broadcast_receipt (
+  alarm_id BIGINT NOT NULL,
+  account_id BIGINT NOT NULL,
+  read_at TIMESTAMP,
+  deleted_at TIMESTAMP,
+
+  created_at TIMESTAMP NOT NULL DEFAULT NOW(),
+  updated_at TIMESTAMP NOT NULL DEFAULT NOW(),
+
+  PRIMARY KEY (alarm_id, account_id),
+
+  CONSTRAINT fk_alarm_broadcast_receipt_alarm
+    FOREIGN KEY (alarm_id) REFERENCES alarm_broadcast(alarm_id) ON DELETE CASCADE,
+  CONSTRAINT fk_alarm_broadcast_receipt_account
+    FOREIGN KEY (account_id) REFERENCES account(account_id)
+);
+
+CREATE INDEX idx_alarm_broadcast_receipt_account
+  ON alarm_broadcast_receipt (account_id);
+
+-- 계정별 방송 알림 기준선 (모두 읽음/모두 삭제 시 당시 최대 alarm_id 까지 처리된 것으로 간주)
+CREATE TABLE alarm_broadcast_cursor (
+  account_id BIGINT PRIMARY KEY,
+  read_through_id BIGINT NOT NULL DEFAULT 0,
+  read_through_at TIMESTAMP,
+  cleared_through_id BIGINT NOT NULL DEFAULT 0,
+
+  updated_at TIMESTAMP NOT NULL DEFAULT NOW(),
+
+  CONSTRAINT fk_alarm_broadcast_cursor_account
+    FOREIGN KEY (account_id) REFERENCES account(account_id)
+);
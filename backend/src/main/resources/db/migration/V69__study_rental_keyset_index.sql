@@ -0,0 +1,19 @@
+-- V69: 예약 내역 keyset 검색 (start_at, rental_id 내림차순) 인덱스
+-- 조건별 선두 컬럼 + (start_at, rental_id), 나머지 필터 컬럼은 INCLUDE 로 넣어 ID 페이지를 index-only scan 으로 조회
+
+-- 조건 없음 / 공간(룸 ID 목록) 조건
+CREATE INDEX IF NOT EXISTS idx_rental_start_id
+  ON study_room_rental (start_at, rental_id)
+  INCLUDE (status, room_id, applicant_account_id);
+
+-- 상태 조건
+CREATE INDEX IF NOT EXISTS idx_rental_status_start_id
+  ON study_room_rental (status, start_at, rental_id)
+  INCLUDE (room_id, applicant_account_id);
+
+-- 신청자(내 예약) 조건
+CREATE INDEX IF NOT EXISTS idx_rental_applicant_start_id
+  ON study_room_rental (applicant_account_id, start_at, rental_id)
+  INCLUDE (status, room_id);
+
+ANALYZE study_room_rental;
@@ -0,0 +1,10 @@
+-- V70: 비교과 회차 동영상 시청 구간 비트맵 (BIT VARYING, 왼쪽에서 i 번째 비트 = 초 i)
+-- heartbeat 로 받은 시청 구간을 서버에서 병합해 저장, 재접속/재시작 후에도 이어서 계산
+-- 여러 인스턴스가 같은 시청자를 저장해도 upsert 에서 기존 구간과 | (OR) 로 병합
+-- watch_video_key: 구간이 어느 동영상(storage_key) 기준인지 기록, 동영상 교체 후 이전 구간 저장 차단
+
+ALTER TABLE extra_curricular_session_completion
+  ADD COLUMN IF NOT EXISTS watch_coverage BIT VARYING;
+
+ALTER TABLE extra_curricular_session_completion
+  ADD COLUMN IF NOT EXISTS watch_video_key VARCHAR(500);
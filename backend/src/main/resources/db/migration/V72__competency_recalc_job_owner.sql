@@ -0,0 +1,11 @@
+-- =====================================================
+-- V72__competency_recalc_job_owner.sql
+-- 재계산 작업 소유 인스턴스/heartbeat, 대상 학생 집합 해시
+-- - 재시작 시 자기 인스턴스 작업이나 heartbeat 가 끊긴 작업만 실패 처리
+-- - 재개 시 대상 학생 집합이 바뀌었으면 청크 기록을 버림 (학생 수만 같아도 경계가 달라질 수 있음)
+-- =====================================================
+
+ALTER TABLE competency_recalc_job
+  ADD COLUMN owner_id VARCHAR(100),
+  ADD COLUMN heartbeat_at TIMESTAMP,
+  ADD COLUMN student_set_hash VARCHAR(64);
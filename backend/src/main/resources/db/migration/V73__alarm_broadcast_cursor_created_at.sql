@@ -0,0 +1,20 @@
+-- V73: 방송 알림 기준선을 alarm_id 대신 발송 시각(created_at) 으로 변경
+-- alarm_id 는 INSERT 시점에 발급되어 커밋 순서와 다르므로, 모두 읽음/삭제 직후 늦게 커밋된 작은 ID 의 방송이 읽음/삭제 처리되던 문제 수정
+-- 기준선은 (처리 시각 - 커밋 유예) 로 잡고, 유예 구간 안의 방송은 receipt 로 개별 기록
+
+ALTER TABLE alarm_broadcast_cursor
+  ADD COLUMN read_through_created_at TIMESTAMP,
+  ADD COLUMN cleared_through_created_at TIMESTAMP;
+
+-- 기존 ID 기준선은 그 ID 까지의 방송 중 가장 늦은 발송 시각으로 옮김
+UPDATE alarm_broadcast_cursor c
+SET read_through_created_at = (
+      SELECT MAX(b.created_at) FROM alarm_broadcast b WHERE b.alarm_id <= c.read_through_id
+    ),
+    cleared_through_created_at = (
+      SELECT MAX(b.created_at) FROM alarm_broadcast b WHERE b.alarm_id <= c.cleared_through_id
+    );
+
+ALTER TABLE alarm_broadcast_cursor
+  DROP COLUMN read_through_id,
+  DROP COLUMN cleared_through_id;
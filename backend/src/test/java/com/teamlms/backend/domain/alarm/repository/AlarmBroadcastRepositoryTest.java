@@ -0,0 +1,109 @@
+package com.teamlms.backend.domain.alarm.repository;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.LocalDateTime;
+
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import com.teamlms.backend.domain.account.enums.AccountType;
+import com.teamlms.backend.domain.alarm.enums.AlarmType;
+
+/**
+ * 실제 PostgreSQL 대상 방송 알림 기준선 SQL 검증
+ * - TEST_DATABASE_URL 을 지정했을 때만 실행 (ExtraCompletionEvaluationRepositoryTest 와 동일)
+ * - 실행마다 전용 스키마에 Flyway 마이그레이션 후 끝나면 스키마 삭제
+ */
+@EnabledIfEnvironmentVariable(named = "TEST_DATABASE_URL", matches = ".+")
+class AlarmBroadcastRepositoryTest {
+
+    private static final long COMMIT_GRACE_SECONDS = 60;
+
+    private String schema;
+    private JdbcTemplate jdbcTemplate;
+    private AlarmBroadcastRepository repository;
+
+    @BeforeEach
+    void setUp() {
+        schema = "it_alarm_broadcast_" + System.nanoTime();
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(
+                System.getenv("TEST_DATABASE_URL"),
+                env("TEST_DATABASE_USER", "postgres"),
+                env("TEST_DATABASE_PASSWORD", "postgres"));
+        dataSource.setSchema(schema);
+
+        Flyway.configure()
+                .dataSource(dataSource)
+                .schemas(schema)
+                .createSchemas(true)
+                .locations("classpath:db/migration")
+                .load()
+                .migrate();
+
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        repository = new AlarmBroadcastRepository(dataSource, COMMIT_GRACE_SECONDS);
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (jdbcTemplate != null) {
+            jdbcTemplate.execute("DROP SCHEMA IF EXISTS " + schema + " CASCADE");
+        }
+    }
+
+    @Test
+    @DisplayName("모두 읽음 - 유예 구간 안의 방송은 개별 읽음, 이후 늦게 커밋된 유예 구간 방송은 안 읽음으로 남음")
+    void markAllRead_LateCommitStaysUnread() {
+        LocalDateTime now = LocalDateTime.of(2026, 3, 1, 12, 0);
+        long accountId = insertStudent("broadcast-read", now.minusDays(1));
+        insertBroadcast(now.minusMinutes(10));
+        insertBroadcast(now.minusSeconds(5));
+
+        repository.markAllRead(accountId, now);
+        // 모두 읽음 직전에 발송됐지만 그 뒤에 커밋된 방송
+        insertBroadcast(now.minusSeconds(10));
+
+        assertEquals(1, repository.countUnread(accountId));
+        assertEquals(3, repository.countVisible(accountId));
+    }
+
+    @Test
+    @DisplayName("모두 삭제 - 유예 구간 안의 방송은 개별 삭제, 이후 늦게 커밋된 유예 구간 방송은 계속 노출")
+    void clearAll_LateCommitStaysVisible() {
+        LocalDateTime now = LocalDateTime.of(2026, 3, 1, 12, 0);
+        long accountId = insertStudent("broadcast-clear", now.minusDays(1));
+        insertBroadcast(now.minusMinutes(10));
+        insertBroadcast(now.minusSeconds(5));
+
+        repository.clearAll(accountId, now);
+        insertBroadcast(now.minusSeconds(10));
+
+        assertEquals(1, repository.countVisible(accountId));
+        assertEquals(1, repository.countUnread(accountId));
+    }
+
+    private long insertStudent(String loginId, LocalDateTime createdAt) {
+        return jdbcTemplate.queryForObject("""
+                INSERT INTO account (login_id, password_hash, account_type, status, created_at)
+                VALUES (?, 'x', 'STUDENT', 'ACTIVE', ?)
+                RETURNING account_id
+                """, Long.class, loginId + "-" + schema, createdAt);
+    }
+
+    private void insertBroadcast(LocalDateTime createdAt) {
+        repository.insert(AccountType.STUDENT, AlarmType.NOTICE_NEW, "title", "message",
+                null, null, null, null, null, createdAt);
+    }
+
+    private static String env(String name, String defaultValue) {
+        String value = System.getenv(name);
+        return value == null || value.isBlank() ? defaultValue : value;
+    }
+}
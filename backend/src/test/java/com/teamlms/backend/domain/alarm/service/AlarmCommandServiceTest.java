@@ -2,26 +2,33 @@ package com.teamlms.backend.domain.alarm.service;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.Mockito.*;
 
 import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Locale;
+import java.util.Map;
 import java.util.Optional;
 
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.context.MessageSource;
+import org.springframework.data.domain.AuditorAware;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.teamlms.backend.domain.account.enums.AccountType;
 import com.teamlms.backend.domain.alarm.entity.Alarm;
 import com.teamlms.backend.domain.alarm.enums.AlarmType;
+import com.teamlms.backend.domain.alarm.repository.AlarmBroadcastRepository;
+import com.teamlms.backend.domain.alarm.repository.AlarmBulkRepository;
+import com.teamlms.backend.domain.alarm.repository.AlarmBulkRepository.AlarmRow;
 import com.teamlms.backend.domain.alarm.repository.AlarmRepository;
 import com.teamlms.backend.global.exception.base.BusinessException;
 import com.teamlms.backend.global.exception.code.ErrorCode;
@@ -37,10 +44,19 @@ class AlarmCommandServiceTest {
     private AlarmRepository alarmRepository;
 
     @Mock
-    private MessageSource messageSource;
+    private AlarmMessageRenderer messageRenderer;
 
     @Mock
-    private ObjectMapper objectMapper;
+    private AlarmBulkRepository alarmBulkRepository;
+
+    @Mock
+    private AuditorAware<Long> auditorProvider;
+
+    @Mock
+    private AlarmBroadcastRepository alarmBroadcastRepository;
+
+    @Mock
+    private AlarmUnreadCounter unreadCounter;
 
     @Test
     @DisplayName("일반 알림 생성 성공")
@@ -63,12 +79,13 @@ class AlarmCommandServiceTest {
         // then
         assertEquals(100L, alarmId);
         verify(alarmRepository, times(1)).save(any(Alarm.class));
+        verify(unreadCounter, times(1)).onCreated(eq(recipientId), any());
     }
 
     // ㅁㄴㅇㅁㄴㅇ
     @Test
     @DisplayName("다국어 알림 생성 성공 (I18n)")
-    void createAlarmI18n_Success() throws JsonProcessingException {
+    void createAlarmI18n_Success() {
         // given
         Long recipientId = 1L;
         AlarmType type = AlarmType.QNA_COMMENT;
@@ -77,10 +94,10 @@ class AlarmCommandServiceTest {
         Object[] args = new Object[] { "Hong" };
         String linkUrl = "/qna/2";
 
-        when(messageSource.getMessage(eq(titleKey), isNull(), any(), any(Locale.class))).thenReturn("알림 제목");
-        when(messageSource.getMessage(eq(messageKey), eq(args), any(), any(Locale.class)))
+        when(messageRenderer.render(eq(titleKey), isNull(), any(Locale.class))).thenReturn("알림 제목");
+        when(messageRenderer.render(eq(messageKey), eq(args), any(Locale.class)))
                 .thenReturn("Hong 님이 등록했습니다.");
-        when(objectMapper.writeValueAsString(args)).thenReturn("[\"Hong\"]");
+        when(messageRenderer.encodeArgs(args)).thenReturn("~s4:Hong");
 
         Alarm savedAlarm = Alarm.builder().build();
         ReflectionTestUtils.setField(savedAlarm, "alarmId", 200L);
@@ -92,7 +109,98 @@ class AlarmCommandServiceTest {
 
         // then
         assertEquals(200L, alarmId);
-        verify(alarmRepository, times(1)).save(any(Alarm.class));
+        ArgumentCaptor<Alarm> saved = ArgumentCaptor.forClass(Alarm.class);
+        verify(alarmRepository, times(1)).save(saved.capture());
+        assertEquals("Hong 님이 등록했습니다.", saved.getValue().getMessage());
+        assertEquals("~s4:Hong", saved.getValue().getMessageArgs());
+    }
+
+    @Test
+    @DisplayName("다건 알림 생성 - 본문은 인자 조합별 1회만 해석, INSERT 1회")
+    void createAlarmsI18n_ResolvesTemplatesOncePerArgs() {
+        // given
+        Map<Long, Object[]> argsByRecipient = new LinkedHashMap<>();
+        argsByRecipient.put(1L, new Object[] { "자료구조", "A" });
+        argsByRecipient.put(2L, new Object[] { "자료구조", "A" });
+        argsByRecipient.put(3L, new Object[] { "자료구조", "F" });
+
+        when(messageRenderer.render(eq("title"), isNull(), any(Locale.class))).thenReturn("교과 성적");
+        when(messageRenderer.render(eq("message"), any(Object[].class), any(Locale.class)))
+                .thenAnswer(inv -> "등급: " + ((Object[]) inv.getArgument(1))[1]);
+        when(messageRenderer.encodeArgs(any())).thenReturn("~");
+        when(auditorProvider.getCurrentAuditor()).thenReturn(Optional.of(7L));
+        when(alarmBulkRepository.insertAll(any(), any(), any(), any(), any(), anyList(), any(), any())).thenReturn(3);
+
+        // when
+        int created = alarmCommandService.createAlarmsI18n(AlarmType.CURRICULAR_GRADE_CONFIRMED, "title", "message",
+                argsByRecipient, "/curricular/grade-reports", null, null);
+
+        // then
+        assertEquals(3, created);
+        verify(messageRenderer, times(1)).render(eq("title"), isNull(), any(Locale.class));
+        verify(messageRenderer, times(2)).render(eq("message"), any(Object[].class), any(Locale.class));
+        verify(alarmRepository, never()).save(any());
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<AlarmRow>> rows = ArgumentCaptor.forClass(List.class);
+        verify(alarmBulkRepository).insertAll(eq(AlarmType.CURRICULAR_GRADE_CONFIRMED), eq("교과 성적"), eq("title"),
+                eq("message"), eq("/curricular/grade-reports"), rows.capture(), eq(7L), any(LocalDateTime.class));
+        assertEquals(List.of(
+                new AlarmRow(1L, "등급: A", "~"),
+                new AlarmRow(2L, "등급: A", "~"),
+                new AlarmRow(3L, "등급: F", "~")), rows.getValue());
+    }
+
+    @Test
+    @DisplayName("방송 알림 생성 - 대상 유형별 1행만 저장, 수신자별 저장/메시지 해석 없음")
+    void createBroadcastAlarmI18n_WritesOneRowPerTarget() {
+        // given
+        when(messageRenderer.render(eq("notice.alarm.message.default"), isNull(), any(Locale.class)))
+                .thenReturn("새 공지사항이 등록되었습니다.");
+        when(auditorProvider.getCurrentAuditor()).thenReturn(Optional.of(7L));
+        when(alarmBroadcastRepository.insert(any(), any(), any(), any(), any(), any(), any(), any(), any(), any()))
+                .thenReturn(1);
+
+        // when
+        int created = alarmCommandService.createBroadcastAlarmI18n(
+                List.of(AccountType.STUDENT, AccountType.PROFESSOR), AlarmType.NOTICE_NEW,
+                null, "notice.alarm.message.default", null, "/community/notices/1", "공지", null);
+
+        // then
+        assertEquals(2, created);
+        verify(alarmBroadcastRepository).insert(eq(AccountType.STUDENT), eq(AlarmType.NOTICE_NEW), eq("공지"),
+                eq("새 공지사항이 등록되었습니다."), isNull(), eq("notice.alarm.message.default"), isNull(),
+                eq("/community/notices/1"), eq(7L), any(LocalDateTime.class));
+        verify(alarmBroadcastRepository).insert(eq(AccountType.PROFESSOR), any(), any(), any(), any(), any(), any(),
+                any(), any(), any());
+        verify(messageRenderer, times(1)).render(any(), any(), any(Locale.class));
+        verify(alarmRepository, never()).save(any());
+    }
+
+    @Test
+    @DisplayName("단일 알림 읽음 처리 성공 - 개인 알림이 아니면 방송 알림 읽음 기록")
+    void markRead_Broadcast_Success() {
+        // given
+        when(alarmRepository.findByAlarmIdAndRecipientAccountId(10L, 1L)).thenReturn(Optional.empty());
+        when(alarmBroadcastRepository.markRead(eq(1L), eq(10L), any(LocalDateTime.class))).thenReturn(1);
+
+        // when & then
+        assertDoesNotThrow(() -> alarmCommandService.markRead(1L, 10L));
+    }
+
+    @Test
+    @DisplayName("모든 알림 읽음 - 방송 알림은 기준선 이동 1회")
+    void markAllRead_MovesBroadcastCursor() {
+        // given
+        when(alarmRepository.markAllRead(eq(1L), any(LocalDateTime.class))).thenReturn(2);
+        when(alarmBroadcastRepository.countUnread(1L)).thenReturn(3L);
+
+        // when
+        int updated = alarmCommandService.markAllRead(1L);
+
+        // then
+        assertEquals(5, updated);
+        verify(alarmBroadcastRepository, times(1)).markAllRead(eq(1L), any(LocalDateTime.class));
     }
 
     @Test
@@ -113,6 +221,22 @@ class AlarmCommandServiceTest {
 
         // then
         assertNotNull(alarm.getReadAt());
+        verify(unreadCounter, times(1)).onRead(accountId);
+    }
+
+    @Test
+    @DisplayName("이미 읽은 알림 읽음 처리 - 카운터 변경 없음")
+    void markRead_AlreadyRead_DoesNotDecrement() {
+        // given
+        Alarm alarm = Alarm.builder().build();
+        alarm.markRead(LocalDateTime.now().minusDays(1));
+        when(alarmRepository.findByAlarmIdAndRecipientAccountId(10L, 1L)).thenReturn(Optional.of(alarm));
+
+        // when
+        alarmCommandService.markRead(1L, 10L);
+
+        // then
+        verify(unreadCounter, never()).onRead(any());
     }
 
     @Test
@@ -144,6 +268,7 @@ class AlarmCommandServiceTest {
         // then
         assertEquals(5, updatedCount);
         verify(alarmRepository, times(1)).markAllRead(eq(accountId), any(LocalDateTime.class));
+        verify(unreadCounter, times(1)).reset(accountId);
     }
 
     @Test
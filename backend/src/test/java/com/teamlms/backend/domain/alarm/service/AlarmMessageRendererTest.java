@@ -0,0 +1,79 @@
+package com.teamlms.backend.domain.alarm.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.math.BigDecimal;
+import java.util.Locale;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.support.StaticMessageSource;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.teamlms.backend.domain.alarm.service.AlarmMessageRenderer.AlarmTemplateCacheStats;
+
+class AlarmMessageRendererTest {
+
+    private StaticMessageSource messageSource;
+    private AlarmMessageRenderer renderer;
+
+    @BeforeEach
+    void setUp() {
+        messageSource = new StaticMessageSource();
+        messageSource.addMessage("alarm.title", Locale.KOREAN, "새 알림");
+        messageSource.addMessage("alarm.msg", Locale.KOREAN, "{0} 님이 {1}건을 등록했습니다.");
+        messageSource.addMessage("alarm.msg", Locale.ENGLISH, "{0} posted {1} items.");
+        messageSource.addMessage("alarm.quote", Locale.KOREAN, "''{0}'' 확인");
+        renderer = new AlarmMessageRenderer(messageSource, new ObjectMapper());
+    }
+
+    @Test
+    @DisplayName("렌더링 결과는 MessageSource.getMessage 와 동일")
+    void render_MatchesMessageSource() {
+        Object[] args = { "Hong", 1200 };
+
+        assertEquals(messageSource.getMessage("alarm.msg", args, Locale.KOREAN),
+                renderer.render("alarm.msg", args, Locale.KOREAN));
+        assertEquals(messageSource.getMessage("alarm.msg", args, Locale.ENGLISH),
+                renderer.render("alarm.msg", args, Locale.ENGLISH));
+        assertEquals(messageSource.getMessage("alarm.quote", new Object[] { "x" }, Locale.KOREAN),
+                renderer.render("alarm.quote", new Object[] { "x" }, Locale.KOREAN));
+        assertEquals("새 알림", renderer.render("alarm.title", null, Locale.KOREAN));
+        assertNull(renderer.render("alarm.unknown", null, Locale.KOREAN));
+    }
+
+    @Test
+    @DisplayName("인자 저장 형식 - 길이 접두 문자열 왕복, 기존 JSON 배열도 읽음")
+    void encodeArgs_RoundTrip() {
+        Object[] args = { "a:b~c", 42, null, 1.5, new BigDecimal("3.10"), "" };
+
+        String encoded = renderer.encodeArgs(args);
+
+        assertEquals('~', encoded.charAt(0));
+        assertArrayEquals(new Object[] { "a:b~c", 42L, null, 1.5, new BigDecimal("3.10"), "" },
+                renderer.decodeArgs(encoded));
+        assertArrayEquals(new Object[] { "Hong", 3 }, renderer.decodeArgs("[\"Hong\",3]"));
+        assertNull(renderer.encodeArgs(new Object[0]));
+        assertNull(renderer.decodeArgs("~s9:short"));
+        assertEquals(1L, renderer.getStats().legacyArgDecodeCount());
+    }
+
+    @Test
+    @DisplayName("알림 100건 페이지 - 템플릿은 (키, locale) 별 1회만 컴파일, JSON 파싱 없음")
+    void renderPage_CompilesEachTemplateOnce() {
+        String encoded = renderer.encodeArgs(new Object[] { "Hong", 3 });
+
+        for (int i = 0; i < 100; i++) {
+            assertEquals("새 알림", renderer.render("alarm.title", null, Locale.KOREAN));
+            assertEquals("Hong 님이 3건을 등록했습니다.", renderer.renderEncoded("alarm.msg", encoded, Locale.KOREAN));
+        }
+
+        AlarmTemplateCacheStats stats = renderer.getStats();
+        assertEquals(2, stats.size());
+        assertEquals(2L, stats.missCount());
+        assertEquals(198L, stats.hitCount());
+        assertEquals(0.99, stats.hitRate(), 1e-9);
+        assertEquals(0L, stats.legacyArgDecodeCount());
+    }
+}
@@ -6,6 +6,7 @@ import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.Mockito.*;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Locale;
 
@@ -15,19 +16,15 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.context.MessageSource;
 import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import com.teamlms.backend.domain.alarm.api.dto.AlarmResponse;
-import com.teamlms.backend.domain.alarm.entity.Alarm;
 import com.teamlms.backend.domain.alarm.enums.AlarmType;
+import com.teamlms.backend.domain.alarm.repository.AlarmBroadcastRepository;
+import com.teamlms.backend.domain.alarm.repository.AlarmBroadcastRepository.FeedRow;
 import com.teamlms.backend.domain.alarm.repository.AlarmRepository;
-import org.springframework.test.util.ReflectionTestUtils;
 
 @ExtendWith(MockitoExtension.class)
 class AlarmQueryServiceTest {
@@ -39,51 +36,42 @@ class AlarmQueryServiceTest {
     private AlarmRepository alarmRepository;
 
     @Mock
-    private MessageSource messageSource;
+    private AlarmMessageRenderer messageRenderer;
 
     @Mock
-    private ObjectMapper objectMapper;
+    private AlarmBroadcastRepository alarmBroadcastRepository;
+
+    @Mock
+    private AlarmUnreadCounter unreadCounter;
 
     @Test
-    @DisplayName("나의 알림 목록 페이징 조회 성공")
-    void getMyAlarms_Success() throws JsonProcessingException {
+    @DisplayName("나의 알림 목록 페이징 조회 성공 - 개인/방송 알림 합산")
+    void getMyAlarms_Success() {
         // given
         Long accountId = 1L;
         Pageable pageable = PageRequest.of(0, 10);
 
-        Alarm alarm1 = Alarm.builder()
-                .recipientAccountId(accountId)
-                .type(AlarmType.QNA_NEW_QUESTION)
-                .title("기본 제목")
-                .message("기본 내용")
-                .linkUrl("/qna")
-                .build();
-        ReflectionTestUtils.setField(alarm1, "alarmId", 101L);
-
-        Alarm alarm2 = Alarm.builder()
-                .recipientAccountId(accountId)
-                .titleKey("alarm.title")
-                .messageKey("alarm.msg")
-                .messageArgs("[]")
-                .type(AlarmType.QNA_COMMENT)
-                .build();
-        ReflectionTestUtils.setField(alarm2, "alarmId", 102L);
+        FeedRow alarm1 = new FeedRow(101L, AlarmType.QNA_NEW_QUESTION, "기본 제목", "기본 내용",
+                null, null, null, "/qna", null, LocalDateTime.now(), null);
+        FeedRow alarm2 = new FeedRow(102L, AlarmType.QNA_COMMENT, "", "",
+                "alarm.title", "alarm.msg", "~s4:Hong", null, null, LocalDateTime.now(), null);
+        FeedRow broadcast = new FeedRow(103L, AlarmType.NOTICE_NEW, "공지 제목", "공지 내용",
+                null, null, null, "/community/notices/1", LocalDateTime.now(), LocalDateTime.now(), 9L);
 
-        Page<Alarm> alarmPage = new PageImpl<>(List.of(alarm1, alarm2), pageable, 2);
-
-        when(alarmRepository.findByRecipientAccountId(accountId, pageable)).thenReturn(alarmPage);
+        when(alarmBroadcastRepository.findFeed(accountId, 0L, 10)).thenReturn(List.of(alarm1, alarm2, broadcast));
+        when(alarmRepository.countByRecipientAccountId(accountId)).thenReturn(2L);
+        when(alarmBroadcastRepository.countVisible(accountId)).thenReturn(1L);
 
         // I18n resolving mocking for alarm2
-        when(objectMapper.readValue("[]", Object[].class)).thenReturn(new Object[0]);
-        when(messageSource.getMessage(eq("alarm.title"), isNull(), any(Locale.class))).thenReturn("다국어 제목");
-        when(messageSource.getMessage(eq("alarm.msg"), any(Object[].class), any(Locale.class))).thenReturn("다국어 내용");
+        when(messageRenderer.render(eq("alarm.title"), isNull(), any(Locale.class))).thenReturn("다국어 제목");
+        when(messageRenderer.renderEncoded(eq("alarm.msg"), eq("~s4:Hong"), any(Locale.class))).thenReturn("다국어 내용");
 
         // when
         Page<AlarmResponse> result = alarmQueryService.getMyAlarms(accountId, pageable);
 
         // then
         assertNotNull(result);
-        assertEquals(2, result.getTotalElements());
+        assertEquals(3, result.getTotalElements());
 
         List<AlarmResponse> responses = result.getContent();
 
@@ -96,20 +84,25 @@ class AlarmQueryServiceTest {
         assertEquals(102L, responses.get(1).getAlarmId());
         assertEquals("다국어 제목", responses.get(1).getTitle());
         assertEquals("다국어 내용", responses.get(1).getMessage());
+
+        // broadcast: read state from receipt/cursor
+        assertEquals(103L, responses.get(2).getAlarmId());
+        assertTrue(responses.get(2).isRead());
+        verify(alarmRepository, never()).findByRecipientAccountId(any(), any());
     }
 
     @Test
-    @DisplayName("읽지 않은 알림 개수 조회 성공")
+    @DisplayName("읽지 않은 알림 개수 조회 성공 - 메모리 카운터 사용")
     void getUnreadCount_Success() {
         // given
         Long accountId = 1L;
-        when(alarmRepository.countByRecipientAccountIdAndReadAtIsNull(accountId)).thenReturn(13L);
+        when(unreadCounter.get(accountId)).thenReturn(15L);
 
         // when
         long count = alarmQueryService.getUnreadCount(accountId);
 
         // then
-        assertEquals(13L, count);
-        verify(alarmRepository, times(1)).countByRecipientAccountIdAndReadAtIsNull(accountId);
+        assertEquals(15L, count);
+        verify(alarmRepository, never()).countByRecipientAccountIdAndReadAtIsNull(any());
     }
 }
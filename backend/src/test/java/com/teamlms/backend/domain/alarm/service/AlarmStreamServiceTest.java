@@ -0,0 +1,118 @@
+package com.teamlms.backend.domain.alarm.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import com.teamlms.backend.domain.account.enums.AccountType;
+import com.teamlms.backend.global.exception.base.RetryableBusinessException;
+import com.teamlms.backend.global.exception.code.ErrorCode;
+
+class AlarmStreamServiceTest {
+
+    private static final int IDLE_STREAMS = 5000;
+
+    private AlarmStreamService streamService;
+
+    @BeforeEach
+    void setUp() {
+        streamService = new AlarmStreamService();
+        ReflectionTestUtils.setField(streamService, "maxConnections", IDLE_STREAMS);
+        ReflectionTestUtils.setField(streamService, "maxConnectionsPerAccount", 2);
+        ReflectionTestUtils.setField(streamService, "heartbeatIntervalSeconds", 25L);
+        ReflectionTestUtils.setField(streamService, "timeoutMinutes", 30L);
+    }
+
+    @AfterEach
+    void tearDown() {
+        streamService.shutdown();
+    }
+
+    @Test
+    @DisplayName("유휴 스트림 수천 개 동시 연결 - 한도까지 유지, heartbeat/push 후에도 유지, 한도 초과는 Retry-After 로 거절")
+    void connect_HoldsThousandsOfIdleStreams() throws Exception {
+        ExecutorService pool = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<SseEmitter>> futures = new ArrayList<>();
+            for (long accountId = 1; accountId <= IDLE_STREAMS; accountId++) {
+                long id = accountId;
+                AccountType type = id % 2 == 0 ? AccountType.STUDENT : AccountType.PROFESSOR;
+                futures.add(pool.submit(() -> streamService.connect(id, type)));
+            }
+            for (Future<SseEmitter> future : futures) {
+                assertNotNull(future.get());
+            }
+        } finally {
+            pool.shutdownNow();
+        }
+
+        assertEquals(IDLE_STREAMS, streamService.getStats().connections());
+        assertEquals(IDLE_STREAMS, streamService.getStats().accounts());
+        assertEquals(IDLE_STREAMS / 2, streamService.connectedAccountIds(AccountType.STUDENT).size());
+
+        streamService.heartbeatSafely();
+        streamService.pushUnreadCount(2L, 3L);
+        assertEquals(IDLE_STREAMS, streamService.getStats().connections());
+
+        RetryableBusinessException ex = assertThrows(RetryableBusinessException.class,
+                () -> streamService.connect(IDLE_STREAMS + 1L, AccountType.STUDENT));
+        assertEquals(ErrorCode.ALARM_STREAM_LIMIT_EXCEEDED, ex.getErrorCode());
+        assertTrue(ex.getRetryAfterSeconds() > 0);
+        assertEquals(1L, streamService.getStats().rejected());
+        assertEquals(IDLE_STREAMS, streamService.getStats().connections());
+    }
+
+    @Test
+    @DisplayName("계정당 연결 한도 초과 - 가장 오래된 연결을 닫고 새 연결 유지")
+    void connect_EvictsOldestPerAccount() {
+        SseEmitter first = streamService.connect(1L, AccountType.STUDENT);
+        streamService.connect(1L, AccountType.STUDENT);
+        streamService.connect(1L, AccountType.STUDENT);
+
+        assertEquals(2, streamService.getStats().connections());
+        assertEquals(1, streamService.getStats().accounts());
+
+        // 닫힌 연결로는 더 이상 보낼 수 없음
+        assertThrows(IllegalStateException.class, () -> first.send(SseEmitter.event().comment("x")));
+    }
+
+    @Test
+    @DisplayName("끊긴 연결 - 전송 실패 시 목록에서 제거")
+    void send_RemovesBrokenConnection() {
+        SseEmitter emitter = streamService.connect(1L, AccountType.STUDENT);
+        emitter.complete();
+
+        streamService.pushUnreadCount(1L, 1L);
+
+        assertFalse(streamService.isConnected(1L));
+        assertEquals(0, streamService.getStats().connections());
+    }
+
+    @Test
+    @DisplayName("연결 종료 통지 - 계정의 마지막 연결이 닫힐 때만 리스너 호출")
+    void remove_NotifiesWhenLastConnectionCloses() {
+        List<Long> disconnected = new ArrayList<>();
+        streamService.onDisconnected(disconnected::add);
+        SseEmitter first = streamService.connect(1L, AccountType.STUDENT);
+        SseEmitter second = streamService.connect(1L, AccountType.STUDENT);
+
+        first.complete();
+        streamService.pushUnreadCount(1L, 1L);
+        assertTrue(disconnected.isEmpty());
+
+        second.complete();
+        streamService.pushUnreadCount(1L, 1L);
+        assertEquals(List.of(1L), disconnected);
+    }
+}
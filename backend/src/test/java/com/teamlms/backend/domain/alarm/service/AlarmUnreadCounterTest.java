@@ -0,0 +1,194 @@
+package com.teamlms.backend.domain.alarm.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.teamlms.backend.domain.account.enums.AccountType;
+import com.teamlms.backend.domain.alarm.api.dto.AlarmResponse;
+import com.teamlms.backend.domain.alarm.repository.AlarmBroadcastRepository;
+import com.teamlms.backend.domain.alarm.repository.AlarmBroadcastRepository.UnreadSnapshot;
+
+@ExtendWith(MockitoExtension.class)
+class AlarmUnreadCounterTest {
+
+    @InjectMocks
+    private AlarmUnreadCounter unreadCounter;
+
+    @Mock
+    private AlarmBroadcastRepository alarmBroadcastRepository;
+
+    @Mock
+    private AlarmStreamService streamService;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(unreadCounter, "maxEntries", 100);
+    }
+
+    @Test
+    @DisplayName("카운터 - 1회 적재 후 생성/읽음/모두 읽음으로 증감 (트랜잭션 밖이면 즉시 반영)")
+    void counter_LoadsOnceAndTracksChanges() {
+        when(alarmBroadcastRepository.findUnreadSnapshot(1L))
+                .thenReturn(Optional.of(new UnreadSnapshot(AccountType.STUDENT, 3, 2)));
+        when(streamService.isConnected(1L)).thenReturn(true);
+
+        assertEquals(5L, unreadCounter.get(1L));
+
+        AlarmResponse alarm = AlarmResponse.builder().alarmId(100L).build();
+        unreadCounter.onCreated(1L, alarm);
+        assertEquals(6L, unreadCounter.get(1L));
+        verify(streamService).pushAlarm(1L, alarm);
+        verify(streamService).pushUnreadCount(1L, 6L);
+
+        unreadCounter.onRead(1L);
+        assertEquals(5L, unreadCounter.get(1L));
+
+        unreadCounter.reset(1L);
+        assertEquals(0L, unreadCounter.get(1L));
+        unreadCounter.onRead(1L);
+        assertEquals(0L, unreadCounter.get(1L));
+
+        verify(alarmBroadcastRepository, times(1)).findUnreadSnapshot(1L);
+    }
+
+    @Test
+    @DisplayName("방송 알림 - 대상 유형 계정만 +1, 다건 생성은 수신자별 +1")
+    void onBroadcast_IncrementsMatchingAccountTypes() {
+        when(alarmBroadcastRepository.findUnreadSnapshot(1L))
+                .thenReturn(Optional.of(new UnreadSnapshot(AccountType.STUDENT, 0, 0)));
+        when(alarmBroadcastRepository.findUnreadSnapshot(2L))
+                .thenReturn(Optional.of(new UnreadSnapshot(AccountType.ADMIN, 0, 0)));
+        unreadCounter.get(1L);
+        unreadCounter.get(2L);
+
+        unreadCounter.onBroadcast(List.of(AccountType.STUDENT, AccountType.PROFESSOR));
+        unreadCounter.onCreated(List.of(1L, 2L, 3L));
+
+        assertEquals(2L, unreadCounter.get(1L));
+        assertEquals(1L, unreadCounter.get(2L));
+        assertEquals(2, unreadCounter.size());
+        verify(streamService, never()).pushUnreadCount(any(), anyLong());
+    }
+
+    @Test
+    @DisplayName("보정 - SSE 연결 없는 계정은 카운터를 제거해 다음 조회에서 개인/방송 수를 한 번에 다시 적재")
+    void reconcile_DropsDisconnectedAccount() {
+        when(alarmBroadcastRepository.findUnreadSnapshot(1L))
+                .thenReturn(Optional.of(new UnreadSnapshot(AccountType.STUDENT, 1, 1)))
+                .thenReturn(Optional.of(new UnreadSnapshot(AccountType.STUDENT, 4, 0)));
+        unreadCounter.get(1L);
+        unreadCounter.onCreated(1L, null);
+
+        unreadCounter.reconcile();
+
+        assertEquals(0, unreadCounter.size());
+        verify(alarmBroadcastRepository, times(1)).findUnreadSnapshot(1L);
+        assertEquals(4L, unreadCounter.get(1L));
+        verify(alarmBroadcastRepository, times(2)).findUnreadSnapshot(1L);
+    }
+
+    @Test
+    @DisplayName("보정 - SSE 연결 계정은 바로 다시 적재하고 값이 바뀌었을 때만 push")
+    void reconcile_PushesConnectedAccountWhenChanged() {
+        when(alarmBroadcastRepository.findUnreadSnapshot(1L))
+                .thenReturn(Optional.of(new UnreadSnapshot(AccountType.STUDENT, 1, 1)))
+                .thenReturn(Optional.of(new UnreadSnapshot(AccountType.STUDENT, 3, 0)))
+                .thenReturn(Optional.of(new UnreadSnapshot(AccountType.STUDENT, 3, 0)));
+        unreadCounter.get(1L);
+        when(streamService.isConnected(1L)).thenReturn(true);
+
+        unreadCounter.reconcile();
+        unreadCounter.reconcile();
+
+        verify(streamService, times(1)).pushUnreadCount(1L, 3L);
+        verify(alarmBroadcastRepository, times(3)).findUnreadSnapshot(1L);
+    }
+
+    @Test
+    @DisplayName("방송 알림 - 카운터는 즉시 +1, 연결 계정 push 는 push 스레드에서 실행")
+    void onBroadcast_PushesOnPushThread() {
+        ScheduledThreadPoolExecutor pusher = new ScheduledThreadPoolExecutor(1);
+        ReflectionTestUtils.setField(unreadCounter, "pusher", pusher);
+        try {
+            when(alarmBroadcastRepository.findUnreadSnapshot(1L))
+                    .thenReturn(Optional.of(new UnreadSnapshot(AccountType.STUDENT, 0, 0)));
+            unreadCounter.get(1L);
+            when(streamService.isConnected(1L)).thenReturn(true);
+            Thread caller = Thread.currentThread();
+            AtomicReference<Thread> pushedOn = new AtomicReference<>();
+            doAnswer(invocation -> {
+                pushedOn.set(Thread.currentThread());
+                return null;
+            }).when(streamService).pushUnreadCount(1L, 1L);
+
+            unreadCounter.onBroadcast(List.of(AccountType.STUDENT));
+
+            assertEquals(1L, unreadCounter.get(1L));
+            verify(streamService, timeout(1000)).pushUnreadCount(1L, 1L);
+            assertNotSame(caller, pushedOn.get());
+        } finally {
+            pusher.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("SSE 마지막 연결 종료 - 카운터 제거")
+    void streamDisconnect_EvictsCounter() {
+        ArgumentCaptor<Consumer<Long>> listener = ArgumentCaptor.captor();
+        unreadCounter.registerStreamListener();
+        verify(streamService).onDisconnected(listener.capture());
+        when(alarmBroadcastRepository.findUnreadSnapshot(1L))
+                .thenReturn(Optional.of(new UnreadSnapshot(AccountType.STUDENT, 1, 0)));
+        unreadCounter.get(1L);
+
+        listener.getValue().accept(1L);
+
+        assertEquals(0, unreadCounter.size());
+    }
+
+    @Test
+    @DisplayName("방송 개별 읽음/삭제 - 다음 조회에서 다시 적재")
+    void invalidate_ReloadsOnNextGet() {
+        when(alarmBroadcastRepository.findUnreadSnapshot(1L))
+                .thenReturn(Optional.of(new UnreadSnapshot(AccountType.STUDENT, 0, 2)))
+                .thenReturn(Optional.of(new UnreadSnapshot(AccountType.STUDENT, 0, 1)));
+        assertEquals(2L, unreadCounter.get(1L));
+
+        unreadCounter.invalidate(1L);
+
+        assertEquals(1L, unreadCounter.get(1L));
+    }
+
+    @Test
+    @DisplayName("카운터 한도 초과 - 적재하지 않고 DB 조회")
+    void get_DoesNotCacheWhenFull() {
+        ReflectionTestUtils.setField(unreadCounter, "maxEntries", 0);
+        when(alarmBroadcastRepository.findUnreadSnapshot(eq(1L)))
+                .thenReturn(Optional.of(new UnreadSnapshot(AccountType.STUDENT, 1, 1)));
+
+        assertEquals(2L, unreadCounter.get(1L));
+        assertEquals(2L, unreadCounter.get(1L));
+
+        assertEquals(0, unreadCounter.size());
+        verify(alarmBroadcastRepository, times(2)).findUnreadSnapshot(1L);
+    }
+}
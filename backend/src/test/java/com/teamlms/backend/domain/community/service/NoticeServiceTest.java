@@ -2,9 +2,11 @@ package com.teamlms.backend.domain.community.service;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 
 import org.junit.jupiter.api.DisplayName;
@@ -16,7 +18,10 @@ import org.mockito.junit.jupiter.MockitoExtension;
 
 import com.teamlms.backend.domain.account.entity.Account;
 import org.springframework.test.util.ReflectionTestUtils;
+import com.teamlms.backend.domain.account.enums.AccountType;
 import com.teamlms.backend.domain.account.repository.AccountRepository;
+import com.teamlms.backend.domain.alarm.enums.AlarmType;
+import com.teamlms.backend.domain.alarm.service.AlarmCommandService;
 import com.teamlms.backend.domain.community.api.dto.ExternalNoticeRequest;
 import com.teamlms.backend.domain.community.api.dto.ExternalNoticeResponse;
 import com.teamlms.backend.domain.community.entity.Notice;
@@ -52,6 +57,9 @@ class NoticeServiceTest {
     @Mock
     private S3Service s3Service;
 
+    @Mock
+    private AlarmCommandService alarmCommandService;
+
     @Test
     @DisplayName("공지사항 생성 성공")
     void createNotice_Success() {
@@ -84,6 +92,13 @@ class NoticeServiceTest {
         verify(categoryRepository).findById(categoryId);
         verify(noticeRepository).save(any(Notice.class));
         assertNotNull(noticeId);
+
+        // 공지 알림은 수신자 수와 무관하게 방송 1회 (계정 전체 조회/수신자별 생성 없음)
+        verify(alarmCommandService, times(1)).createBroadcastAlarmI18n(
+                eq(List.of(AccountType.STUDENT, AccountType.PROFESSOR)), eq(AlarmType.NOTICE_NEW),
+                any(), any(), any(), eq("/community/notices/100"), eq("Test Title"), eq("Test Content"));
+        verify(alarmCommandService, never()).createAlarmI18n(any(), any(), any(), any(), any(), any(), any(), any());
+        verify(accountRepository, never()).findAllByAccountType(any());
     }
 
     @Test
@@ -0,0 +1,88 @@
+package com.teamlms.backend.domain.competency.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CohortScoreStatisticsTest {
+
+    @Test
+    @DisplayName("단일 패스 통계 - 정렬 기반 계산과 같은 평균/중앙값/표준편차/최고점")
+    void matchesSortBasedStatistics() {
+        // given
+        Random random = new Random(7);
+        List<BigDecimal> scores = new ArrayList<>();
+        for (int i = 0; i < 1_000; i++) {
+            scores.add(BigDecimal.valueOf(random.nextInt(50_000), 2));
+        }
+        CohortScoreStatistics stats = new CohortScoreStatistics();
+
+        // when
+        scores.forEach(stats::add);
+
+        // then
+        Collections.sort(scores);
+        BigDecimal sum = scores.stream().reduce(BigDecimal.ZERO, BigDecimal::add);
+        double mean = sum.doubleValue() / scores.size();
+        double squaredDiff = scores.stream().mapToDouble(s -> Math.pow(s.doubleValue() - mean, 2)).sum();
+
+        assertEquals(1_000, stats.count());
+        assertEquals(sum.divide(BigDecimal.valueOf(1_000), 2, RoundingMode.HALF_UP), stats.mean());
+        assertEquals(BigDecimal.valueOf(Math.sqrt(squaredDiff / 1_000)).setScale(2, RoundingMode.HALF_UP),
+                stats.stddev());
+        assertEquals(scores.get(499).add(scores.get(500)).divide(BigDecimal.valueOf(2), 2, RoundingMode.HALF_UP),
+                stats.quantile(0.5));
+        assertEquals(0, scores.get(999).compareTo(stats.max()));
+        assertEquals(sum, stats.sum());
+    }
+
+    @Test
+    @DisplayName("분위수 - 홀수 개 중앙값과 순위 보간")
+    void quantile_InterpolatesBetweenRanks() {
+        CohortScoreStatistics stats = new CohortScoreStatistics();
+        for (int score : new int[] { 40, 10, 30, 20, 50 }) {
+            stats.add(BigDecimal.valueOf(score));
+        }
+
+        assertEquals(new BigDecimal("30.00"), stats.quantile(0.5));
+        assertEquals(new BigDecimal("20.00"), stats.quantile(0.25));
+        assertEquals(new BigDecimal("40.00"), stats.quantile(0.75));
+        assertEquals(new BigDecimal("46.00"), stats.quantile(0.9));
+    }
+
+    @Test
+    @DisplayName("분위수 스케치 - 구간 수 초과 시 병합 후에도 오차는 구간 폭 이내")
+    void sketch_StaysWithinBinWidthAfterCompaction() {
+        // given: 0.00 ~ 99.99 의 서로 다른 점수 10,000개, 구간 최대 64개
+        ScoreQuantileSketch sketch = new ScoreQuantileSketch(64);
+        for (int i = 0; i < 10_000; i++) {
+            sketch.add(BigDecimal.valueOf(i, 2));
+        }
+
+        // then: 구간 폭 2.56 (256 x 0.01) 이하 오차
+        assertFalse(sketch.isExact());
+        assertEquals(10_000, sketch.count());
+        assertEquals(50.0, sketch.quantile(0.5).doubleValue(), 2.56);
+        assertEquals(90.0, sketch.quantile(0.9).doubleValue(), 2.56);
+    }
+
+    @Test
+    @DisplayName("빈 코호트 - 0 으로 채움")
+    void emptyCohort_ReturnsZeros() {
+        CohortScoreStatistics stats = new CohortScoreStatistics();
+
+        assertEquals(0, stats.count());
+        assertEquals(BigDecimal.ZERO, stats.mean());
+        assertEquals(BigDecimal.ZERO, stats.stddev());
+        assertEquals(BigDecimal.ZERO, stats.quantile(0.5));
+        assertEquals(BigDecimal.ZERO, stats.max());
+    }
+}
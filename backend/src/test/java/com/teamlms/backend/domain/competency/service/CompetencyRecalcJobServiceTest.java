@@ -0,0 +1,141 @@
+package com.teamlms.backend.domain.competency.service;
+
+import com.teamlms.backend.domain.competency.repository.CompetencyRecalcJobChunkRepository;
+import com.teamlms.backend.domain.competency.repository.CompetencyRecalcJobRepository;
+import com.teamlms.backend.domain.competency.service.CompetencySummaryBatchEngine.SemesterContext;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class CompetencyRecalcJobServiceTest {
+
+    private static final Long JOB_ID = 1L;
+    private static final Long SEMESTER_ID = 10L;
+    private static final String OWNER_ID = "lms-1";
+
+    @InjectMocks
+    private CompetencyRecalcJobService jobService;
+
+    @Mock
+    private CompetencyRecalcJobRepository jobRepository;
+    @Mock
+    private CompetencyRecalcJobChunkRepository chunkRepository;
+    @Mock
+    private CompetencyRecalcJobWriter jobWriter;
+    @Mock
+    private CompetencySummaryBatchEngine batchEngine;
+    @Mock
+    private CompetencySummaryService competencySummaryService;
+
+    private final SemesterContext ctx = new SemesterContext(SEMESTER_ID, List.of(), DiagnosisRunIndex.of(List.of()), Map.of(), Map.of(),
+            Map.of(), Map.of());
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(jobService, "workerThreads", 2);
+        ReflectionTestUtils.setField(jobService, "instanceId", OWNER_ID);
+        ReflectionTestUtils.setField(jobService, "heartbeatIntervalSeconds", 30L);
+        ReflectionTestUtils.setField(jobService, "heartbeatTimeoutSeconds", 120L);
+        jobService.initExecutors();
+    }
+
+    @AfterEach
+    void tearDown() {
+        jobService.shutdownExecutors();
+    }
+
+    @Test
+    @DisplayName("청크 분할 - 마지막 청크는 남은 학생만 포함")
+    void partition_SplitsByChunkSize() {
+        List<List<Long>> chunks = CompetencyRecalcJobService.partition(List.of(1L, 2L, 3L, 4L, 5L), 2);
+
+        assertEquals(List.of(List.of(1L, 2L), List.of(3L, 4L), List.of(5L)), chunks);
+        assertTrue(CompetencyRecalcJobService.partition(List.of(), 2).isEmpty());
+    }
+
+    @Test
+    @DisplayName("작업 실행 - 커밋된 청크는 건너뛰고 나머지 처리 후 완료")
+    void runJob_SkipsCommittedChunks() {
+        // given
+        when(batchEngine.loadContext(SEMESTER_ID)).thenReturn(ctx);
+        when(batchEngine.findTargetStudentIds(ctx)).thenReturn(List.of(1L, 2L, 3L, 4L, 5L));
+        when(jobWriter.plan(JOB_ID, 5, 3, CompetencyRecalcJobService.studentSetHash(List.of(1L, 2L, 3L, 4L, 5L))))
+                .thenReturn(List.of(0));
+
+        // when
+        jobService.runJob(JOB_ID, SEMESTER_ID, 2);
+
+        // then
+        verify(jobWriter, never()).processChunk(eq(JOB_ID), eq(0), any(), any());
+        verify(jobWriter).processChunk(JOB_ID, 1, ctx, List.of(3L, 4L));
+        verify(jobWriter).processChunk(JOB_ID, 2, ctx, List.of(5L));
+        verify(batchEngine).deleteOutsideStudents(SEMESTER_ID, List.of(1L, 2L, 3L, 4L, 5L));
+        verify(competencySummaryService).calculateCohortStatistics(SEMESTER_ID);
+        verify(jobWriter).complete(JOB_ID);
+        verify(jobWriter, never()).fail(anyLong(), any());
+    }
+
+    @Test
+    @DisplayName("작업 실행 - 청크 실패 시 작업 실패 처리 (통계 미계산)")
+    void runJob_MarksFailedWhenChunkFails() {
+        // given
+        when(batchEngine.loadContext(SEMESTER_ID)).thenReturn(ctx);
+        when(batchEngine.findTargetStudentIds(ctx)).thenReturn(List.of(1L, 2L, 3L));
+        when(jobWriter.plan(eq(JOB_ID), eq(3), eq(3), anyString())).thenReturn(List.of());
+        doThrow(new IllegalStateException("db down"))
+                .when(jobWriter).processChunk(eq(JOB_ID), eq(1), any(), any());
+
+        // when
+        jobService.runJob(JOB_ID, SEMESTER_ID, 1);
+
+        // then
+        verify(jobWriter).fail(JOB_ID, "db down");
+        verify(jobWriter, never()).complete(anyLong());
+        verify(competencySummaryService, never()).calculateCohortStatistics(anyLong());
+    }
+
+    @Test
+    @DisplayName("학생 집합 해시 - 순서와 무관하고, 학생 수가 같아도 구성이 다르면 다름")
+    void studentSetHash_DependsOnMembership() {
+        String hash = CompetencyRecalcJobService.studentSetHash(List.of(1L, 2L, 3L));
+
+        assertEquals(hash, CompetencyRecalcJobService.studentSetHash(List.of(3L, 1L, 2L)));
+        assertNotEquals(hash, CompetencyRecalcJobService.studentSetHash(List.of(1L, 2L, 4L)));
+    }
+
+    @Test
+    @DisplayName("기동 시 - 이 인스턴스 소유이거나 heartbeat 가 끊긴 작업만 실패 처리")
+    void failInterruptedJobs_FailsOnlyOwnedOrStale() {
+        // when
+        jobService.failInterruptedJobs();
+
+        // then
+        verify(jobWriter).failOwnedOrStale(eq(OWNER_ID), eq(Duration.ofSeconds(120)), anyString());
+    }
+
+    @Test
+    @DisplayName("heartbeat - 실행 중인 작업이 없으면 갱신 없이 끊긴 작업만 정리")
+    void heartbeat_SkipsTouchWhenIdle() {
+        // when
+        jobService.heartbeatSafely();
+
+        // then
+        verify(jobWriter, never()).touchHeartbeat(any(), any());
+        verify(jobWriter).failStale(eq(Duration.ofSeconds(120)), anyString());
+    }
+}
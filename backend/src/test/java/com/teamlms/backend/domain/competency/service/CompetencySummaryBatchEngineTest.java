@@ -0,0 +1,456 @@
+package com.teamlms.backend.domain.competency.service;
+
+import com.teamlms.backend.domain.account.entity.Account;
+import com.teamlms.backend.domain.account.entity.StudentProfile;
+import com.teamlms.backend.domain.account.repository.AccountRepository;
+import com.teamlms.backend.domain.account.repository.StudentProfileRepository;
+import com.teamlms.backend.domain.competency.entitiy.*;
+import com.teamlms.backend.domain.competency.enums.DiagnosisQuestionDomain;
+import com.teamlms.backend.domain.competency.enums.DiagnosisQuestionType;
+import com.teamlms.backend.domain.competency.repository.*;
+import com.teamlms.backend.domain.competency.repository.CompetencySummaryBulkRepository.CompetencyWeightRow;
+import com.teamlms.backend.domain.competency.repository.CompetencySummaryBulkRepository.DiagnosisAnswerRow;
+import com.teamlms.backend.domain.competency.repository.CompetencySummaryBulkRepository.OfferingScoreRow;
+import com.teamlms.backend.domain.competency.repository.CompetencySummaryBulkRepository.StudentProfileRow;
+import com.teamlms.backend.domain.competency.repository.CompetencySummaryBulkRepository.SummaryRow;
+import com.teamlms.backend.domain.curricular.entity.CurricularOfferingCompetencyMap;
+import com.teamlms.backend.domain.curricular.entity.CurricularOfferingCompetencyMapId;
+import com.teamlms.backend.domain.curricular.entity.Enrollment;
+import com.teamlms.backend.domain.curricular.repository.CurricularOfferingCompetencyMapRepository;
+import com.teamlms.backend.domain.curricular.repository.EnrollmentRepository;
+import com.teamlms.backend.domain.extracurricular.entity.ExtraCurricularApplication;
+import com.teamlms.backend.domain.extracurricular.entity.ExtraCurricularOffering;
+import com.teamlms.backend.domain.extracurricular.entity.ExtraCurricularOfferingCompetencyMap;
+import com.teamlms.backend.domain.extracurricular.entity.ExtraCurricularOfferingCompetencyMapId;
+import com.teamlms.backend.domain.extracurricular.entity.ExtraCurricularSessionCompletion;
+import com.teamlms.backend.domain.extracurricular.repository.ExtraCurricularApplicationRepository;
+import com.teamlms.backend.domain.extracurricular.repository.ExtraCurricularOfferingCompetencyMapRepository;
+import com.teamlms.backend.domain.extracurricular.repository.ExtraCurricularOfferingRepository;
+import com.teamlms.backend.domain.extracurricular.repository.ExtraCurricularSessionCompletionRepository;
+import com.teamlms.backend.domain.semester.entity.Semester;
+import com.teamlms.backend.domain.semester.repository.SemesterRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.data.domain.AuditorAware;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * 일괄 계산 엔진 결과가 기존 학생 단위 계산(recalculateStudentSummary)과 동일한지 검증
+ */
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class CompetencySummaryBatchEngineTest {
+
+    private static final Long SEMESTER_ID = 10L;
+
+    @InjectMocks
+    private CompetencySummaryService competencySummaryService;
+
+    @Mock
+    private SemesterStudentCompetencySummaryRepository summaryRepository;
+    @Mock
+    private SemesterCompetencyCohortStatRepository statRepository;
+    @Mock
+    private CompetencyRepository competencyRepository;
+    @Mock
+    private SemesterRepository semesterRepository;
+    @Mock
+    private AccountRepository accountRepository;
+    @Mock
+    private StudentProfileRepository studentProfileRepository;
+    @Mock
+    private DiagnosisRunRepository diagnosisRunRepository;
+    @Mock
+    private DiagnosisSubmissionRepository diagnosisSubmissionRepository;
+    @Mock
+    private DiagnosisAnswerRepository diagnosisAnswerRepository;
+    @Mock
+    private DiagnosisTargetRepository diagnosisTargetRepository;
+    @Mock
+    private EnrollmentRepository enrollmentRepository;
+    @Mock
+    private CurricularOfferingCompetencyMapRepository curricularCompetencyMapRepository;
+    @Mock
+    private ExtraCurricularOfferingRepository extraOfferingRepository;
+    @Mock
+    private ExtraCurricularApplicationRepository extraApplicationRepository;
+    @Mock
+    private ExtraCurricularSessionCompletionRepository extraCompletionRepository;
+    @Mock
+    private ExtraCurricularOfferingCompetencyMapRepository extraOfferingCompetencyMapRepository;
+    @Mock
+    private DiagnosisQuestionRepository diagnosisQuestionRepository;
+    @Mock
+    private CompetencySummaryBulkRepository bulkRepository;
+    @Mock
+    private AuditorAware<Long> auditorProvider;
+
+    private CompetencySummaryBatchEngine batchEngine;
+
+    // === Fixture ===
+    private final List<Competency> competencies = new ArrayList<>();
+    private final List<DiagnosisRun> runs = new ArrayList<>();
+    private final List<StudentProfile> profiles = new ArrayList<>();
+    private final List<Long> submittedStudentIds = List.of(1001L, 1002L, 1003L);
+    private final List<DiagnosisQuestion> questions = new ArrayList<>();
+    private final List<AnswerFixture> answers = new ArrayList<>();
+    private final List<Enrollment> enrollments = new ArrayList<>();
+    private final List<CurricularOfferingCompetencyMap> curricularMaps = new ArrayList<>();
+    private final List<ExtraCurricularApplication> applications = new ArrayList<>();
+    private final Map<Long, List<ExtraCurricularSessionCompletion>> completionsByApplication = new HashMap<>();
+    private final List<ExtraCurricularOfferingCompetencyMap> extraMaps = new ArrayList<>();
+
+    private record AnswerFixture(long runId, long studentId, DiagnosisQuestion question, Integer scaleValue,
+            Boolean isCorrect) {
+    }
+
+    @BeforeEach
+    void setUp() {
+        for (int i = 1; i <= 6; i++) {
+            competencies.add(Competency.builder().competencyId((long) i).code("C" + i).sortOrder(i).build());
+        }
+
+        runs.add(DiagnosisRun.builder().runId(100L).build()); // 전체 대상
+        runs.add(DiagnosisRun.builder().runId(200L).deptId(5L).targetGrade(2).build()); // 학과+학년
+
+        profiles.add(profile(1001L, 5L, 2)); // -> run 200
+        profiles.add(profile(1002L, 7L, 1)); // -> run 100
+        // 1003 : 프로필 없음 -> run 100
+
+        DiagnosisQuestion q1 = DiagnosisQuestion.builder().questionId(1L)
+                .domain(DiagnosisQuestionDomain.SKILL).questionType(DiagnosisQuestionType.SCALE)
+                .c1MaxScore(2).c3MaxScore(1)
+                .score1(5).score2(4).score3(3).score4(2).score5(1).build();
+        DiagnosisQuestion q2 = DiagnosisQuestion.builder().questionId(2L)
+                .domain(DiagnosisQuestionDomain.APTITUDE).questionType(DiagnosisQuestionType.SHORT)
+                .c2MaxScore(3).c6MaxScore(1).build();
+        DiagnosisQuestion q3 = DiagnosisQuestion.builder().questionId(3L)
+                .domain(DiagnosisQuestionDomain.SKILL).questionType(DiagnosisQuestionType.SCALE)
+                .c4MaxScore(4).c1MaxScore(1).build(); // 선택지 점수 미등록
+        questions.addAll(List.of(q1, q2, q3));
+
+        answers.add(new AnswerFixture(200L, 1001L, q1, 5, null));
+        answers.add(new AnswerFixture(200L, 1001L, q2, null, true));
+        answers.add(new AnswerFixture(200L, 1001L, q3, 2, null));
+        answers.add(new AnswerFixture(100L, 1001L, q1, 1, null)); // 적용 진단이 아니므로 제외
+        answers.add(new AnswerFixture(100L, 1002L, q1, 3, null));
+        answers.add(new AnswerFixture(100L, 1002L, q2, null, false));
+        answers.add(new AnswerFixture(100L, 1002L, q3, null, null));
+        answers.add(new AnswerFixture(100L, 1003L, q2, null, true));
+
+        enrollments.add(enrollment(1001L, 300L, 80));
+        enrollments.add(enrollment(1002L, 301L, 70));
+        enrollments.add(enrollment(1002L, 302L, null));
+        enrollments.add(enrollment(1003L, 300L, 55));
+
+        curricularMaps.add(curricularMap(300L, 1L, 3));
+        curricularMaps.add(curricularMap(300L, 2L, 2));
+        curricularMaps.add(curricularMap(301L, 3L, 5));
+
+        applications.add(application(900L, 400L, 1001L));
+        applications.add(application(901L, 400L, 1003L));
+        applications.add(application(902L, 401L, 1002L)); // 이수 기록 없음
+        completionsByApplication.put(900L, List.of(completion(900L, 10L), completion(900L, 5L)));
+        completionsByApplication.put(901L, List.of(completion(901L, 3L)));
+
+        extraMaps.add(extraMap(400L, 5L, 4));
+        extraMaps.add(extraMap(400L, 6L, 1));
+        extraMaps.add(extraMap(401L, 1L, 2));
+
+        stubPerStudentPath();
+        stubBulkPath();
+    }
+
+    @Test
+    @DisplayName("일괄 계산 엔진 - 학생 단위 계산과 동일한 결과")
+    void recalculate_MatchesPerStudentPath() {
+        // given: 기존 학생 단위 계산 결과
+        for (Long studentId : submittedStudentIds) {
+            competencySummaryService.recalculateStudentSummary(SEMESTER_ID, studentId);
+        }
+        ArgumentCaptor<SemesterStudentCompetencySummary> saved = ArgumentCaptor
+                .forClass(SemesterStudentCompetencySummary.class);
+        verify(summaryRepository, times(submittedStudentIds.size() * competencies.size())).save(saved.capture());
+
+        Map<String, long[]> expected = new HashMap<>();
+        for (SemesterStudentCompetencySummary s : saved.getAllValues()) {
+            expected.put(key(s.getStudent().getAccountId(), s.getCompetency().getCompetencyId()), new long[] {
+                    s.getDiagnosisSkillScore().longValueExact(),
+                    s.getDiagnosisAptitudeScore().longValueExact(),
+                    s.getDiagnosisScore().longValueExact(),
+                    s.getCurricularScore().longValueExact(),
+                    s.getExtraScore().longValueExact(),
+                    s.getSelfExtraScore().longValueExact(),
+                    s.getTotalScore().longValueExact() });
+        }
+
+        // when
+        int studentCount = batchEngine.recalculate(SEMESTER_ID);
+
+        // then
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<SummaryRow>> rowsCaptor = ArgumentCaptor.forClass(List.class);
+        verify(bulkRepository).deleteBySemesterId(SEMESTER_ID);
+        verify(bulkRepository).batchInsert(eq(SEMESTER_ID), rowsCaptor.capture(), eq(1L), any(LocalDateTime.class));
+
+        assertEquals(submittedStudentIds.size(), studentCount);
+        List<SummaryRow> rows = rowsCaptor.getValue();
+        assertEquals(expected.size(), rows.size());
+        for (SummaryRow row : rows) {
+            long[] exp = expected.get(key(row.studentAccountId(), row.competencyId()));
+            assertNotNull(exp);
+            assertArrayEquals(exp, new long[] {
+                    row.diagnosisSkillScore(),
+                    row.diagnosisAptitudeScore(),
+                    row.diagnosisScore(),
+                    row.curricularScore(),
+                    row.extraScore(),
+                    row.selfExtraScore(),
+                    row.totalScore() },
+                    "student=" + row.studentAccountId() + ", competency=" + row.competencyId());
+        }
+    }
+
+    @Test
+    @DisplayName("일괄 계산 엔진 - 학생 수와 무관하게 고정된 조회 수")
+    void recalculate_UsesConstantNumberOfQueries() {
+        batchEngine.recalculate(SEMESTER_ID);
+
+        verify(competencyRepository, times(1)).findAll();
+        verify(diagnosisRunRepository, times(1)).findAllBySemesterSemesterId(SEMESTER_ID);
+        verify(bulkRepository, times(1)).streamDiagnosisAnswers(eq(SEMESTER_ID), isNull(), any());
+        verify(bulkRepository, times(1)).streamScoredEnrollments(eq(SEMESTER_ID), isNull(), any());
+        verify(bulkRepository, times(1)).streamExtraEarnedPoints(eq(SEMESTER_ID), isNull(), any());
+        verifyNoInteractions(diagnosisSubmissionRepository, diagnosisAnswerRepository, enrollmentRepository,
+                curricularCompetencyMapRepository, extraOfferingRepository, extraCompletionRepository);
+    }
+
+    @Test
+    @DisplayName("청크 단위 재계산 - 전체 재계산과 동일한 행 생성")
+    void recalculateChunk_MatchesFullRecalculation() {
+        // given
+        batchEngine.recalculate(SEMESTER_ID);
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<SummaryRow>> fullCaptor = ArgumentCaptor.forClass(List.class);
+        verify(bulkRepository).batchInsert(eq(SEMESTER_ID), fullCaptor.capture(), eq(1L), any(LocalDateTime.class));
+        Set<SummaryRow> fullRows = new HashSet<>(fullCaptor.getValue());
+        clearInvocations(bulkRepository);
+
+        // when: 학생 1명씩 청크로 분할
+        CompetencySummaryBatchEngine.SemesterContext ctx = batchEngine.loadContext(SEMESTER_ID);
+        List<Long> targets = batchEngine.findTargetStudentIds(ctx);
+        for (Long studentId : targets) {
+            batchEngine.recalculateChunk(ctx, List.of(studentId));
+        }
+
+        // then
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<SummaryRow>> chunkCaptor = ArgumentCaptor.forClass(List.class);
+        verify(bulkRepository, times(targets.size()))
+                .batchInsert(eq(SEMESTER_ID), chunkCaptor.capture(), eq(1L), any(LocalDateTime.class));
+        Set<SummaryRow> chunkRows = new HashSet<>();
+        chunkCaptor.getAllValues().forEach(chunkRows::addAll);
+
+        assertEquals(fullRows, chunkRows);
+        verify(bulkRepository, never()).deleteBySemesterId(anyLong());
+        for (Long studentId : targets) {
+            verify(bulkRepository).deleteBySemesterIdAndStudentIds(SEMESTER_ID, List.of(studentId));
+        }
+    }
+
+    // === Stubs ===
+
+    private void stubPerStudentPath() {
+        when(diagnosisQuestionRepository.findByRunRunIdOrderBySortOrderAsc(anyLong())).thenReturn(questions);
+        ReflectionTestUtils.setField(competencySummaryService, "scoringMatrixCache",
+                new DiagnosisScoringMatrixCache(diagnosisQuestionRepository));
+        ReflectionTestUtils.setField(competencySummaryService, "runIndexCache",
+                new DiagnosisRunIndexCache(diagnosisRunRepository));
+
+        Semester semester = Semester.builder().build();
+        ReflectionTestUtils.setField(semester, "semesterId", SEMESTER_ID);
+
+        when(competencyRepository.findAll()).thenReturn(competencies);
+        when(competencyRepository.findById(anyLong())).thenAnswer(inv -> competencies.stream()
+                .filter(c -> c.getCompetencyId().equals(inv.getArgument(0))).findFirst());
+        when(semesterRepository.findById(SEMESTER_ID)).thenReturn(Optional.of(semester));
+        when(accountRepository.findById(anyLong()))
+                .thenAnswer(inv -> Optional.of(Account.builder().accountId(inv.getArgument(0)).build()));
+        when(summaryRepository.findBySemesterSemesterIdAndStudentAccountIdAndCompetencyCompetencyId(
+                anyLong(), anyLong(), anyLong())).thenReturn(Optional.empty());
+        when(studentProfileRepository.findById(anyLong())).thenAnswer(inv -> profiles.stream()
+                .filter(p -> p.getAccountId().equals(inv.getArgument(0))).findFirst());
+
+        when(diagnosisRunRepository.findAllBySemesterSemesterId(SEMESTER_ID)).thenReturn(runs);
+
+        when(diagnosisSubmissionRepository.findByRunRunIdAndStudentAccountId(anyLong(), anyLong()))
+                .thenAnswer(inv -> {
+                    long runId = inv.getArgument(0);
+                    long studentId = inv.getArgument(1);
+                    boolean submitted = answers.stream()
+                            .anyMatch(a -> a.runId() == runId && a.studentId() == studentId);
+                    return submitted
+                            ? Optional.of(DiagnosisSubmission.builder().submissionId(runId * 10_000 + studentId).build())
+                            : Optional.empty();
+                });
+        when(diagnosisAnswerRepository.findBySubmissionSubmissionId(anyLong())).thenAnswer(inv -> {
+            long submissionId = inv.getArgument(0);
+            return answers.stream()
+                    .filter(a -> a.runId() * 10_000 + a.studentId() == submissionId)
+                    .map(a -> DiagnosisAnswer.builder()
+                            .question(a.question())
+                            .scaleValue(a.scaleValue())
+                            .isCorrect(a.isCorrect())
+                            .build())
+                    .toList();
+        });
+
+        when(enrollmentRepository.findByStudentAccountIdAndSemesterId(anyLong(), eq(SEMESTER_ID)))
+                .thenAnswer(inv -> enrollments.stream()
+                        .filter(e -> e.getStudentAccountId().equals(inv.getArgument(0))).toList());
+        when(curricularCompetencyMapRepository.findByIdOfferingIdAndIdCompetencyId(anyLong(), anyLong()))
+                .thenAnswer(inv -> curricularMaps.stream()
+                        .filter(m -> m.getOfferingId().equals(inv.getArgument(0))
+                                && m.getCompetencyId().equals(inv.getArgument(1)))
+                        .findFirst());
+
+        when(extraApplicationRepository.findByStudentAccountIdAndSemesterId(anyLong(), eq(SEMESTER_ID)))
+                .thenAnswer(inv -> applications.stream()
+                        .filter(a -> a.getStudentAccountId().equals(inv.getArgument(0))).toList());
+        when(extraCompletionRepository.findByApplicationId(anyLong()))
+                .thenAnswer(inv -> completionsByApplication.getOrDefault(inv.getArgument(0), List.of()));
+        when(extraOfferingRepository.findById(anyLong())).thenAnswer(inv -> Optional.of(
+                ExtraCurricularOffering.builder().extraOfferingId(inv.getArgument(0)).build()));
+        when(extraOfferingCompetencyMapRepository.findByIdExtraOfferingIdAndIdCompetencyId(anyLong(), anyLong()))
+                .thenAnswer(inv -> extraMaps.stream()
+                        .filter(m -> m.getExtraOfferingId().equals(inv.getArgument(0))
+                                && m.getCompetencyId().equals(inv.getArgument(1)))
+                        .findFirst());
+    }
+
+    private void stubBulkPath() {
+        batchEngine = new CompetencySummaryBatchEngine(
+                competencyRepository, bulkRepository, auditorProvider,
+                new DiagnosisScoringMatrixCache(diagnosisQuestionRepository),
+                new DiagnosisRunIndexCache(diagnosisRunRepository));
+        when(auditorProvider.getCurrentAuditor()).thenReturn(Optional.of(1L));
+
+        when(bulkRepository.findSubmittedStudentIdsBySemesterId(SEMESTER_ID)).thenReturn(submittedStudentIds);
+        doAnswer(inv -> {
+            Consumer<StudentProfileRow> consumer = inv.getArgument(0);
+            profiles.forEach(p -> consumer.accept(new StudentProfileRow(p.getAccountId(), p.getDeptId(),
+                    p.getGradeLevel())));
+            return null;
+        }).when(bulkRepository).streamStudentProfiles(any());
+        doAnswer(inv -> {
+            Collection<Long> filter = inv.getArgument(1);
+            Consumer<DiagnosisAnswerRow> consumer = inv.getArgument(2);
+            answers.stream()
+                    .filter(a -> filter == null || filter.contains(a.studentId()))
+                    .forEach(a -> consumer.accept(toRow(a)));
+            return null;
+        }).when(bulkRepository).streamDiagnosisAnswers(eq(SEMESTER_ID), any(), any());
+        doAnswer(inv -> {
+            Consumer<CompetencyWeightRow> consumer = inv.getArgument(1);
+            curricularMaps.forEach(m -> consumer.accept(
+                    new CompetencyWeightRow(m.getOfferingId(), m.getCompetencyId(), m.getWeight())));
+            return null;
+        }).when(bulkRepository).streamCurricularWeights(eq(SEMESTER_ID), any());
+        doAnswer(inv -> {
+            Collection<Long> filter = inv.getArgument(1);
+            Consumer<OfferingScoreRow> consumer = inv.getArgument(2);
+            enrollments.stream()
+                    .filter(e -> e.getRawScore() != null)
+                    .filter(e -> filter == null || filter.contains(e.getStudentAccountId()))
+                    .forEach(e -> consumer.accept(
+                            new OfferingScoreRow(e.getStudentAccountId(), e.getOfferingId(), e.getRawScore())));
+            return null;
+        }).when(bulkRepository).streamScoredEnrollments(eq(SEMESTER_ID), any(), any());
+        doAnswer(inv -> {
+            Consumer<CompetencyWeightRow> consumer = inv.getArgument(1);
+            extraMaps.forEach(m -> consumer.accept(
+                    new CompetencyWeightRow(m.getExtraOfferingId(), m.getCompetencyId(), m.getWeight())));
+            return null;
+        }).when(bulkRepository).streamExtraWeights(eq(SEMESTER_ID), any());
+        doAnswer(inv -> {
+            Collection<Long> filter = inv.getArgument(1);
+            Consumer<OfferingScoreRow> consumer = inv.getArgument(2);
+            applications.stream()
+                    .filter(a -> completionsByApplication.containsKey(a.getApplicationId()))
+                    .filter(a -> filter == null || filter.contains(a.getStudentAccountId()))
+                    .forEach(a -> consumer.accept(new OfferingScoreRow(
+                            a.getStudentAccountId(),
+                            a.getExtraOfferingId(),
+                            completionsByApplication.get(a.getApplicationId()).stream()
+                                    .mapToLong(ExtraCurricularSessionCompletion::getEarnedPoint).sum())));
+            return null;
+        }).when(bulkRepository).streamExtraEarnedPoints(eq(SEMESTER_ID), any(), any());
+    }
+
+    // === Helpers ===
+
+    private static DiagnosisAnswerRow toRow(AnswerFixture a) {
+        return new DiagnosisAnswerRow(
+                a.runId(),
+                a.studentId(),
+                a.question().getQuestionId(),
+                a.scaleValue(),
+                a.isCorrect());
+    }
+
+    private static String key(long studentId, long competencyId) {
+        return studentId + ":" + competencyId;
+    }
+
+    private static StudentProfile profile(Long accountId, Long deptId, Integer gradeLevel) {
+        return StudentProfile.builder().accountId(accountId).deptId(deptId).gradeLevel(gradeLevel).build();
+    }
+
+    private static Enrollment enrollment(Long studentId, Long offeringId, Integer rawScore) {
+        return Enrollment.builder().studentAccountId(studentId).offeringId(offeringId).rawScore(rawScore).build();
+    }
+
+    private static CurricularOfferingCompetencyMap curricularMap(Long offeringId, Long competencyId, int weight) {
+        return CurricularOfferingCompetencyMap.builder()
+                .id(new CurricularOfferingCompetencyMapId(offeringId, competencyId))
+                .weight(weight)
+                .build();
+    }
+
+    private static ExtraCurricularOfferingCompetencyMap extraMap(Long extraOfferingId, Long competencyId, int weight) {
+        return ExtraCurricularOfferingCompetencyMap.builder()
+                .id(new ExtraCurricularOfferingCompetencyMapId(extraOfferingId, competencyId))
+                .weight(weight)
+                .build();
+    }
+
+    private static ExtraCurricularApplication application(Long applicationId, Long extraOfferingId, Long studentId) {
+        ExtraCurricularApplication app = ExtraCurricularApplication.createApplied(extraOfferingId, studentId,
+                LocalDateTime.now());
+        ReflectionTestUtils.setField(app, "applicationId", applicationId);
+        return app;
+    }
+
+    private static ExtraCurricularSessionCompletion completion(Long applicationId, Long earnedPoint) {
+        return ExtraCurricularSessionCompletion.builder()
+                .applicationId(applicationId)
+                .earnedPoint(earnedPoint)
+                .build();
+    }
+}
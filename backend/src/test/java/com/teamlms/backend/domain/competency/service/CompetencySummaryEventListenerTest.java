@@ -0,0 +1,77 @@
+package com.teamlms.backend.domain.competency.service;
+
+import com.teamlms.backend.domain.competency.event.StudentCompetencyChangedEvent;
+import com.teamlms.backend.domain.competency.event.StudentCompetencySummaryUpdatedEvent;
+import com.teamlms.backend.domain.competency.event.StudentCompetencySummaryUpdatedEvent.ScoreChange;
+import com.teamlms.backend.domain.competency.event.StudentsCompetencyChangedEvent;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.CannotAcquireLockException;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class CompetencySummaryEventListenerTest {
+
+    private static final Long SEMESTER_ID = 10L;
+    private static final Long STUDENT_ID = 100L;
+
+    @InjectMocks
+    private CompetencySummaryEventListener listener;
+
+    @Mock
+    private CompetencySummaryIncrementalUpdater incrementalUpdater;
+
+    @Test
+    @DisplayName("학생 변경 이벤트 - 새 트랜잭션의 증분 갱신에 위임")
+    void onStudentCompetencyChanged_DelegatesToUpdater() {
+        listener.onStudentCompetencyChanged(new StudentCompetencyChangedEvent(
+                SEMESTER_ID, STUDENT_ID, StudentCompetencyChangedEvent.Cause.GRADE_CONFIRMED));
+
+        verify(incrementalUpdater).updateStudent(SEMESTER_ID, STUDENT_ID);
+    }
+
+    @Test
+    @DisplayName("학생 변경 이벤트 - 증분 갱신 실패(롤백 완료 후)는 기록만 하고 발행자에 전파하지 않음")
+    void onStudentCompetencyChanged_ContainsFailure() {
+        doThrow(new CannotAcquireLockException("lock timeout"))
+                .when(incrementalUpdater).updateStudent(SEMESTER_ID, STUDENT_ID);
+
+        assertDoesNotThrow(() -> listener.onStudentCompetencyChanged(new StudentCompetencyChangedEvent(
+                SEMESTER_ID, STUDENT_ID, StudentCompetencyChangedEvent.Cause.GRADE_CONFIRMED)));
+    }
+
+    @Test
+    @DisplayName("여러 학생 변경 이벤트 - 실패해도 발행자에 전파하지 않음, 빈 목록은 무시")
+    void onStudentsCompetencyChanged_ContainsFailure() {
+        List<Long> studentIds = List.of(STUDENT_ID, 101L);
+        doThrow(new IllegalStateException("recalc failed"))
+                .when(incrementalUpdater).updateStudents(SEMESTER_ID, studentIds);
+
+        assertDoesNotThrow(() -> listener.onStudentsCompetencyChanged(new StudentsCompetencyChangedEvent(
+                SEMESTER_ID, studentIds, StudentCompetencyChangedEvent.Cause.GRADE_CONFIRMED)));
+        listener.onStudentsCompetencyChanged(new StudentsCompetencyChangedEvent(
+                SEMESTER_ID, List.of(), StudentCompetencyChangedEvent.Cause.GRADE_CONFIRMED));
+
+        verify(incrementalUpdater, times(1)).updateStudents(anyLong(), anyList());
+    }
+
+    @Test
+    @DisplayName("총점 변화 이벤트 - 같은 트랜잭션에서 통계 반영")
+    void onStudentCompetencySummaryUpdated_AppliesScoreChanges() {
+        List<ScoreChange> changes = List.of(new ScoreChange(1L, BigDecimal.valueOf(20), BigDecimal.valueOf(50)));
+
+        listener.onStudentCompetencySummaryUpdated(
+                new StudentCompetencySummaryUpdatedEvent(SEMESTER_ID, STUDENT_ID, changes));
+
+        verify(incrementalUpdater).applyScoreChanges(SEMESTER_ID, changes);
+    }
+}
@@ -0,0 +1,173 @@
+package com.teamlms.backend.domain.competency.service;
+
+import com.teamlms.backend.domain.account.entity.Account;
+import com.teamlms.backend.domain.competency.entitiy.Competency;
+import com.teamlms.backend.domain.competency.entitiy.SemesterCompetencyCohortStat;
+import com.teamlms.backend.domain.competency.entitiy.SemesterStudentCompetencySummary;
+import com.teamlms.backend.domain.competency.event.StudentCompetencySummaryUpdatedEvent;
+import com.teamlms.backend.domain.competency.event.StudentCompetencySummaryUpdatedEvent.ScoreChange;
+import com.teamlms.backend.domain.competency.repository.SemesterCompetencyCohortStatRepository;
+import com.teamlms.backend.domain.competency.repository.SemesterStudentCompetencySummaryRepository;
+import com.teamlms.backend.domain.competency.service.CompetencySummaryBatchEngine.SemesterContext;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class CompetencySummaryIncrementalUpdaterTest {
+
+    private static final Long SEMESTER_ID = 10L;
+    private static final Long STUDENT_ID = 100L;
+    private static final Long COMPETENCY_ID = 1L;
+
+    @InjectMocks
+    private CompetencySummaryIncrementalUpdater updater;
+
+    @Mock
+    private CompetencySummaryService competencySummaryService;
+    @Mock
+    private CompetencySummaryBatchEngine batchEngine;
+    @Mock
+    private SemesterStudentCompetencySummaryRepository summaryRepository;
+    @Mock
+    private SemesterCompetencyCohortStatRepository statRepository;
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    private final Competency competency = Competency.builder().competencyId(COMPETENCY_ID).code("C1").build();
+
+    @Test
+    @DisplayName("학생 재계산 - 해당 학생만 재계산 후 총점 변화 발행")
+    void updateStudent_RecalculatesOnlyStudent() {
+        // given
+        when(summaryRepository.findBySemesterSemesterIdAndStudentAccountId(SEMESTER_ID, STUDENT_ID))
+                .thenReturn(List.of(summary(50)))
+                .thenReturn(List.of(summary(80)));
+
+        // when
+        updater.updateStudent(SEMESTER_ID, STUDENT_ID);
+
+        // then
+        verify(competencySummaryService).recalculateStudentSummary(SEMESTER_ID, STUDENT_ID);
+        verify(competencySummaryService, never()).recalculateAllSummaries(anyLong());
+        // 이전 총점을 읽기 전에 학기부터 잠금 (통계 행이 없는 첫 재계산도 직렬화)
+        var order = inOrder(statRepository, summaryRepository);
+        order.verify(statRepository).lockSemester(SEMESTER_ID);
+        order.verify(summaryRepository).findBySemesterSemesterIdAndStudentAccountId(SEMESTER_ID, STUDENT_ID);
+        ArgumentCaptor<StudentCompetencySummaryUpdatedEvent> captor = ArgumentCaptor
+                .forClass(StudentCompetencySummaryUpdatedEvent.class);
+        verify(eventPublisher).publishEvent(captor.capture());
+        assertEquals(List.of(new ScoreChange(COMPETENCY_ID, BigDecimal.valueOf(50), BigDecimal.valueOf(80))),
+                captor.getValue().changes());
+    }
+
+    @Test
+    @DisplayName("여러 학생 재계산 - 청크 재계산 1회, 통계 조회 1회로 변화 합산 반영")
+    void updateStudents_RecalculatesChunkOnce() {
+        // given: 점수 10, 20, 30 -> 학생 100: 20 -> 50, 학생 101: 신규 40
+        SemesterCompetencyCohortStat stat = stat(3, "20.00", "8.16", "30", "60", "1400");
+        SemesterContext ctx = new SemesterContext(SEMESTER_ID, List.of(competency), DiagnosisRunIndex.of(List.of()),
+                Map.of(), Map.of(), Map.of(), Map.of());
+        List<Long> studentIds = List.of(STUDENT_ID, 101L);
+        when(batchEngine.loadContext(SEMESTER_ID)).thenReturn(ctx);
+        when(summaryRepository.findBySemesterSemesterIdAndStudentAccountIdIn(SEMESTER_ID, studentIds))
+                .thenReturn(List.of(summary(STUDENT_ID, 20)))
+                .thenReturn(List.of(summary(STUDENT_ID, 50), summary(101L, 40)));
+        when(statRepository.findBySemesterIdForUpdate(SEMESTER_ID)).thenReturn(List.of(stat));
+
+        // when
+        updater.updateStudents(SEMESTER_ID, studentIds);
+
+        // then: 점수 10, 50, 30, 40
+        verify(batchEngine).recalculateChunk(ctx, studentIds);
+        verify(competencySummaryService, never()).recalculateStudentSummary(any(), any());
+        verify(statRepository, times(1)).findBySemesterIdForUpdate(SEMESTER_ID);
+        verify(eventPublisher, never()).publishEvent(any());
+        assertEquals(4, stat.getCalculatedCount());
+        assertEquals(new BigDecimal("32.50"), stat.getMean());
+        assertEquals(0, BigDecimal.valueOf(50).compareTo(stat.getMaxScore()));
+    }
+
+    @Test
+    @DisplayName("통계 증분 갱신 - 전체 재계산과 같은 평균/표준편차/최고점")
+    void applyScoreChanges_MatchesFullStatistics() {
+        // given: 점수 10, 20, 30 (평균 20, 표준편차 8.16, 최고 30)
+        SemesterCompetencyCohortStat stat = stat(3, "20.00", "8.16", "30", "60", "1400");
+        when(statRepository.findBySemesterIdForUpdate(SEMESTER_ID)).thenReturn(List.of(stat));
+
+        // when: 20 -> 50 변경 + 신규 학생 40 -> 점수 10, 50, 30, 40
+        updater.applyScoreChanges(SEMESTER_ID,
+                List.of(new ScoreChange(COMPETENCY_ID, BigDecimal.valueOf(20), BigDecimal.valueOf(50))));
+        updater.applyScoreChanges(SEMESTER_ID,
+                List.of(new ScoreChange(COMPETENCY_ID, null, BigDecimal.valueOf(40))));
+
+        // then
+        assertEquals(4, stat.getCalculatedCount());
+        assertEquals(new BigDecimal("32.50"), stat.getMean());
+        assertEquals(new BigDecimal("14.79"), stat.getStddev());
+        assertEquals(0, BigDecimal.valueOf(50).compareTo(stat.getMaxScore()));
+        assertNull(stat.getMedian());
+        verify(summaryRepository, never()).findMaxTotalScore(any(), any());
+    }
+
+    @Test
+    @DisplayName("통계 증분 갱신 - 최고점 학생 점수 하락 시 최고점만 재조회")
+    void applyScoreChanges_RefreshesMaxWhenTopScoreDrops() {
+        // given: 점수 10, 20, 30 (누적값 없는 기존 통계)
+        SemesterCompetencyCohortStat stat = stat(3, "20.00", "8.16", "30", null, null);
+        when(statRepository.findBySemesterIdForUpdate(SEMESTER_ID)).thenReturn(List.of(stat));
+        when(summaryRepository.findMaxTotalScore(SEMESTER_ID, COMPETENCY_ID)).thenReturn(BigDecimal.valueOf(20));
+
+        // when: 30 -> 5
+        updater.applyScoreChanges(SEMESTER_ID,
+                List.of(new ScoreChange(COMPETENCY_ID, BigDecimal.valueOf(30), BigDecimal.valueOf(5))));
+
+        // then: 점수 10, 20, 5
+        assertEquals(new BigDecimal("11.67"), stat.getMean());
+        assertEquals(0, BigDecimal.valueOf(20).compareTo(stat.getMaxScore()));
+    }
+
+    private SemesterStudentCompetencySummary summary(Long studentAccountId, long totalScore) {
+        return SemesterStudentCompetencySummary.builder()
+                .student(Account.builder().accountId(studentAccountId).build())
+                .competency(competency)
+                .totalScore(BigDecimal.valueOf(totalScore))
+                .build();
+    }
+
+    private SemesterStudentCompetencySummary summary(long totalScore) {
+        return SemesterStudentCompetencySummary.builder()
+                .competency(competency)
+                .totalScore(BigDecimal.valueOf(totalScore))
+                .build();
+    }
+
+    private SemesterCompetencyCohortStat stat(int count, String mean, String stddev, String max, String sum,
+            String sumSq) {
+        return SemesterCompetencyCohortStat.builder()
+                .competency(competency)
+                .targetCount(count)
+                .calculatedCount(count)
+                .mean(new BigDecimal(mean))
+                .stddev(new BigDecimal(stddev))
+                .maxScore(new BigDecimal(max))
+                .median(new BigDecimal("20"))
+                .scoreSum(sum != null ? new BigDecimal(sum) : null)
+                .scoreSumSq(sumSq != null ? new BigDecimal(sumSq) : null)
+                .calculatedAt(LocalDateTime.now())
+                .build();
+    }
+}
@@ -5,6 +5,7 @@ import com.teamlms.backend.domain.account.repository.StudentProfileRepository;
 import com.teamlms.backend.domain.competency.api.dto.*;
 import com.teamlms.backend.domain.competency.entitiy.*;
 import com.teamlms.backend.domain.competency.enums.*;
+import com.teamlms.backend.domain.competency.event.StudentCompetencyChangedEvent;
 import com.teamlms.backend.domain.competency.repository.*;
 import com.teamlms.backend.domain.semester.entity.Semester;
 import com.teamlms.backend.domain.semester.repository.SemesterRepository;
@@ -16,6 +17,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.test.util.ReflectionTestUtils;
 
 import java.time.LocalDateTime;
@@ -47,7 +49,11 @@ class DiagnosisCommandServiceTest {
     @Mock
     private StudentProfileRepository studentProfileRepository;
     @Mock
-    private CompetencySummaryService competencySummaryService;
+    private ApplicationEventPublisher eventPublisher;
+    @Mock
+    private DiagnosisScoringMatrixCache scoringMatrixCache;
+    @Mock
+    private DiagnosisRunIndexCache runIndexCache;
 
     @Test
     @DisplayName("진단지 생성 성공")
@@ -84,6 +90,7 @@ class DiagnosisCommandServiceTest {
         // then
         assertEquals(100L, runId);
         verify(diagnosisRunRepository).save(any(DiagnosisRun.class));
+        verify(runIndexCache).evict(1L);
         verify(diagnosisQuestionRepository).save(any(DiagnosisQuestion.class));
         verify(studentProfileRepository).findAll(); // generateTargets internally calls this
     }
@@ -231,6 +238,7 @@ class DiagnosisCommandServiceTest {
         verify(diagnosisSubmissionRepository).save(any(DiagnosisSubmission.class));
         verify(diagnosisAnswerRepository).save(any(DiagnosisAnswer.class));
         verify(diagnosisTargetRepository).save(any(DiagnosisTarget.class));
-        verify(competencySummaryService).recalculateStudentSummary(5L, accountId);
+        verify(eventPublisher).publishEvent(new StudentCompetencyChangedEvent(
+                5L, accountId, StudentCompetencyChangedEvent.Cause.DIAGNOSIS_SUBMITTED));
     }
 }
@@ -0,0 +1,131 @@
+package com.teamlms.backend.domain.competency.service;
+
+import com.teamlms.backend.domain.competency.entitiy.DiagnosisRun;
+import com.teamlms.backend.domain.competency.repository.DiagnosisRunRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class DiagnosisRunIndexTest {
+
+    private static final Long SEMESTER_ID = 10L;
+
+    @Mock
+    private DiagnosisRunRepository diagnosisRunRepository;
+
+    @Test
+    @DisplayName("진단 선택 - 학과+학년 -> 학과 -> 학년 -> 전체 순서")
+    void resolve_FollowsFallbackChain() {
+        DiagnosisRunIndex index = DiagnosisRunIndex.of(List.of(
+                run(1L, null, 0),   // 전체 (학년 0)
+                run(2L, null, 3),   // 3학년 전체
+                run(3L, 5L, null),  // 5번 학과 전체 학년
+                run(4L, 5L, 2)));   // 5번 학과 2학년
+
+        assertEquals(4L, index.resolve(5L, 2));
+        assertEquals(3L, index.resolve(5L, 1));
+        assertEquals(3L, index.resolve(5L, null));
+        assertEquals(2L, index.resolve(7L, 3));
+        assertEquals(1L, index.resolve(7L, 1));
+        assertEquals(1L, index.resolve(null, 0));
+        assertEquals(List.of(1L, 2L, 3L, 4L), index.runIds());
+    }
+
+    @Test
+    @DisplayName("진단 선택 - 적용 가능한 진단이 없으면 null")
+    void resolve_ReturnsNullWhenNoRunMatches() {
+        DiagnosisRunIndex index = DiagnosisRunIndex.of(List.of(run(4L, 5L, 2)));
+
+        assertNull(index.resolve(7L, 2));
+        assertNull(index.resolve(null, null));
+        assertTrue(DiagnosisRunIndex.of(List.of()).isEmpty());
+    }
+
+    @Test
+    @DisplayName("진단 선택 인덱스 캐시 - 학기별 1회 적재, evict 후 재적재")
+    void cache_LoadsOncePerSemesterUntilEvicted() {
+        when(diagnosisRunRepository.findAllBySemesterSemesterId(SEMESTER_ID))
+                .thenReturn(List.of(run(1L, null, null)))
+                .thenReturn(List.of(run(1L, null, null), run(2L, 5L, 2)));
+        DiagnosisRunIndexCache cache = new DiagnosisRunIndexCache(diagnosisRunRepository);
+
+        assertEquals(1L, cache.get(SEMESTER_ID).resolve(5L, 2));
+        assertEquals(1L, cache.get(SEMESTER_ID).resolve(5L, 2));
+        verify(diagnosisRunRepository, times(1)).findAllBySemesterSemesterId(SEMESTER_ID);
+
+        cache.evict(SEMESTER_ID);
+        assertEquals(2L, cache.get(SEMESTER_ID).resolve(5L, 2));
+        verify(diagnosisRunRepository, times(2)).findAllBySemesterSemesterId(SEMESTER_ID);
+    }
+
+    @Test
+    @DisplayName("진단 선택 인덱스 캐시 - 트랜잭션 안 적재는 커밋 후에만 공유, 롤백되면 버림")
+    void cache_InstallsOnlyAfterCommit() {
+        when(diagnosisRunRepository.findAllBySemesterSemesterId(SEMESTER_ID))
+                .thenReturn(List.of(run(1L, null, null)));
+        DiagnosisRunIndexCache cache = new DiagnosisRunIndexCache(diagnosisRunRepository);
+
+        // 롤백: 트랜잭션 안에서는 재사용, 끝나면 공유 캐시에 없음
+        DiagnosisRunIndex rolledBack = inTransaction(false, () -> {
+            DiagnosisRunIndex index = cache.get(SEMESTER_ID);
+            assertSame(index, cache.get(SEMESTER_ID));
+            return index;
+        });
+        verify(diagnosisRunRepository, times(1)).findAllBySemesterSemesterId(SEMESTER_ID);
+
+        // 커밋: 커밋 후 공유 캐시 사용
+        DiagnosisRunIndex committed = inTransaction(true, () -> cache.get(SEMESTER_ID));
+        assertNotSame(rolledBack, committed);
+        assertSame(committed, cache.get(SEMESTER_ID));
+        verify(diagnosisRunRepository, times(2)).findAllBySemesterSemesterId(SEMESTER_ID);
+    }
+
+    @Test
+    @DisplayName("진단 선택 인덱스 캐시 - 적재 후 같은 트랜잭션에서 evict 되면 커밋 후에도 넣지 않음")
+    void cache_SkipsInstallWhenEvictedAfterLoad() {
+        when(diagnosisRunRepository.findAllBySemesterSemesterId(SEMESTER_ID))
+                .thenReturn(List.of(run(1L, null, null)));
+        DiagnosisRunIndexCache cache = new DiagnosisRunIndexCache(diagnosisRunRepository);
+
+        inTransaction(true, () -> {
+            cache.get(SEMESTER_ID);
+            cache.evict(SEMESTER_ID);
+            return cache.get(SEMESTER_ID);
+        });
+
+        cache.get(SEMESTER_ID);
+        verify(diagnosisRunRepository, times(3)).findAllBySemesterSemesterId(SEMESTER_ID);
+    }
+
+    // 트랜잭션 동기화만 흉내 (commit 이면 afterCommit 호출)
+    private static <T> T inTransaction(boolean commit, Supplier<T> body) {
+        TransactionSynchronizationManager.initSynchronization();
+        TransactionSynchronizationManager.setActualTransactionActive(true);
+        try {
+            T result = body.get();
+            List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+            if (commit) {
+                synchronizations.forEach(TransactionSynchronization::afterCommit);
+            }
+            return result;
+        } finally {
+            TransactionSynchronizationManager.setActualTransactionActive(false);
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    private DiagnosisRun run(Long runId, Long deptId, Integer targetGrade) {
+        return DiagnosisRun.builder().runId(runId).deptId(deptId).targetGrade(targetGrade).build();
+    }
+}
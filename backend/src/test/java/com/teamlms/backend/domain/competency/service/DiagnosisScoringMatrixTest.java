@@ -0,0 +1,213 @@
+package com.teamlms.backend.domain.competency.service;
+
+import com.teamlms.backend.domain.competency.entitiy.DiagnosisAnswer;
+import com.teamlms.backend.domain.competency.entitiy.DiagnosisQuestion;
+import com.teamlms.backend.domain.competency.enums.DiagnosisQuestionDomain;
+import com.teamlms.backend.domain.competency.enums.DiagnosisQuestionType;
+import com.teamlms.backend.domain.competency.repository.DiagnosisQuestionRepository;
+import com.teamlms.backend.domain.competency.service.DiagnosisScoringMatrix.DiagnosisScore;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class DiagnosisScoringMatrixTest {
+
+    private static final Logger log = LoggerFactory.getLogger(DiagnosisScoringMatrixTest.class);
+
+    private static final Long RUN_ID = 1L;
+
+    @Mock
+    private DiagnosisQuestionRepository diagnosisQuestionRepository;
+
+    @Test
+    @DisplayName("채점표 - 선택 강도 반전 매핑/기본값/단답형/미등록 문항 처리")
+    void score_AppliesChoiceScoresAndWeights() {
+        // given
+        DiagnosisQuestion scale = question(1L, DiagnosisQuestionDomain.SKILL, DiagnosisQuestionType.SCALE, 2, 0, 3);
+        scale = withScores(scale, 10, 8, 6, 4, 2);
+        DiagnosisQuestion defaults = question(2L, DiagnosisQuestionDomain.APTITUDE, DiagnosisQuestionType.SCALE, 1, 1, 0);
+        DiagnosisQuestion shortQ = question(3L, DiagnosisQuestionDomain.SKILL, DiagnosisQuestionType.SHORT, 0, 5, 0);
+        DiagnosisScoringMatrix matrix = DiagnosisScoringMatrix.of(List.of(scale, defaults, shortQ));
+
+        // when
+        DiagnosisScore score = matrix.score(List.of(
+                answer(scale, 5, null),    // 5(매우 그렇다) -> score1 = 10
+                answer(defaults, 2, null), // 2 -> score4 기본값 2
+                answer(shortQ, null, true),
+                answer(question(99L, DiagnosisQuestionDomain.SKILL, DiagnosisQuestionType.SCALE, 9, 9, 9), 5, null)));
+
+        // then
+        assertEquals(10 * 2, score.skillAt(0));
+        assertEquals(5, score.skillAt(1));
+        assertEquals(10 * 3, score.skillAt(2));
+        assertEquals(2, score.aptitudeAt(0));
+        assertEquals(2, score.aptitudeAt(1));
+        assertEquals(0, score.aptitudeAt(2));
+        assertEquals(0, score.skillAt(DiagnosisScoringMatrix.columnOf("X1")));
+    }
+
+    @Test
+    @DisplayName("채점표 - 범위 밖/누락 응답은 0점")
+    void score_IgnoresInvalidAnswers() {
+        DiagnosisQuestion scale = question(1L, DiagnosisQuestionDomain.SKILL, DiagnosisQuestionType.SCALE, 2, 0, 0);
+        DiagnosisQuestion shortQ = question(2L, DiagnosisQuestionDomain.SKILL, DiagnosisQuestionType.SHORT, 3, 0, 0);
+        DiagnosisScoringMatrix matrix = DiagnosisScoringMatrix.of(List.of(scale, shortQ));
+
+        DiagnosisScore score = matrix.score(List.of(
+                answer(scale, 0, null), answer(scale, 6, null), answer(scale, null, null),
+                answer(shortQ, null, false), answer(shortQ, null, null)));
+
+        assertEquals(0, score.skillAt(0));
+    }
+
+    @Test
+    @DisplayName("채점표 캐시 - 진단별 1회 적재, evict 후 재적재")
+    void cache_LoadsOncePerRunUntilEvicted() {
+        DiagnosisQuestion q = question(1L, DiagnosisQuestionDomain.SKILL, DiagnosisQuestionType.SCALE, 1, 0, 0);
+        when(diagnosisQuestionRepository.findByRunRunIdOrderBySortOrderAsc(RUN_ID)).thenReturn(List.of(q));
+        DiagnosisScoringMatrixCache cache = new DiagnosisScoringMatrixCache(diagnosisQuestionRepository);
+
+        DiagnosisScoringMatrix first = cache.get(RUN_ID);
+        assertSame(first, cache.get(RUN_ID));
+        verify(diagnosisQuestionRepository, times(1)).findByRunRunIdOrderBySortOrderAsc(RUN_ID);
+
+        cache.evict(RUN_ID);
+        assertNotSame(first, cache.get(RUN_ID));
+        verify(diagnosisQuestionRepository, times(2)).findByRunRunIdOrderBySortOrderAsc(RUN_ID);
+    }
+
+    @Test
+    @DisplayName("채점표 캐시 - 트랜잭션 안 적재는 커밋 후에만 공유, 롤백되면 버림")
+    void cache_InstallsOnlyAfterCommit() {
+        DiagnosisQuestion q = question(1L, DiagnosisQuestionDomain.SKILL, DiagnosisQuestionType.SCALE, 1, 0, 0);
+        when(diagnosisQuestionRepository.findByRunRunIdOrderBySortOrderAsc(RUN_ID)).thenReturn(List.of(q));
+        DiagnosisScoringMatrixCache cache = new DiagnosisScoringMatrixCache(diagnosisQuestionRepository);
+
+        // 롤백: 트랜잭션 안에서는 재사용, 끝나면 공유 캐시에 없음
+        DiagnosisScoringMatrix rolledBack = inTransaction(false, () -> {
+            DiagnosisScoringMatrix m = cache.get(RUN_ID);
+            assertSame(m, cache.get(RUN_ID));
+            return m;
+        });
+        verify(diagnosisQuestionRepository, times(1)).findByRunRunIdOrderBySortOrderAsc(RUN_ID);
+
+        // 커밋: 커밋 후 공유 캐시 사용
+        DiagnosisScoringMatrix committed = inTransaction(true, () -> cache.get(RUN_ID));
+        assertNotSame(rolledBack, committed);
+        assertSame(committed, cache.get(RUN_ID));
+        verify(diagnosisQuestionRepository, times(2)).findByRunRunIdOrderBySortOrderAsc(RUN_ID);
+    }
+
+    @Test
+    @DisplayName("채점표 캐시 - 적재 후 같은 트랜잭션에서 evict 되면 커밋 후에도 넣지 않음")
+    void cache_SkipsInstallWhenEvictedAfterLoad() {
+        DiagnosisQuestion q = question(1L, DiagnosisQuestionDomain.SKILL, DiagnosisQuestionType.SCALE, 1, 0, 0);
+        when(diagnosisQuestionRepository.findByRunRunIdOrderBySortOrderAsc(RUN_ID)).thenReturn(List.of(q));
+        DiagnosisScoringMatrixCache cache = new DiagnosisScoringMatrixCache(diagnosisQuestionRepository);
+
+        inTransaction(true, () -> {
+            cache.get(RUN_ID);
+            cache.evict(RUN_ID);
+            return cache.get(RUN_ID);
+        });
+
+        cache.get(RUN_ID);
+        verify(diagnosisQuestionRepository, times(3)).findByRunRunIdOrderBySortOrderAsc(RUN_ID);
+    }
+
+    @Test
+    @DisplayName("채점표 처리량 - 대량 답변 채점 시간 기록")
+    void score_Throughput() {
+        // given: 문항 60개 x 학생 2,000명
+        Random random = new Random(42);
+        List<DiagnosisQuestion> questions = new ArrayList<>();
+        for (long id = 1; id <= 60; id++) {
+            questions.add(question(id,
+                    id % 2 == 0 ? DiagnosisQuestionDomain.SKILL : DiagnosisQuestionDomain.APTITUDE,
+                    id % 10 == 0 ? DiagnosisQuestionType.SHORT : DiagnosisQuestionType.SCALE,
+                    random.nextInt(4), random.nextInt(4), random.nextInt(4)));
+        }
+        List<DiagnosisAnswer> answers = new ArrayList<>();
+        for (DiagnosisQuestion q : questions) {
+            answers.add(answer(q, 1 + random.nextInt(5), random.nextBoolean()));
+        }
+        DiagnosisScoringMatrix matrix = DiagnosisScoringMatrix.of(questions);
+
+        // when
+        long checksum = 0;
+        long start = System.nanoTime();
+        for (int student = 0; student < 2_000; student++) {
+            DiagnosisScore score = matrix.score(answers);
+            checksum += score.skillAt(0) + score.aptitudeAt(0);
+        }
+        long elapsedMs = (System.nanoTime() - start) / 1_000_000;
+
+        // then
+        log.info("diagnosis scoring: answers={}, elapsedMs={}, checksum={}", 2_000 * answers.size(), elapsedMs,
+                checksum);
+        assertEquals(2_000 * matrix.score(answers).skillAt(0) + 2_000 * matrix.score(answers).aptitudeAt(0),
+                checksum);
+    }
+
+    // 트랜잭션 동기화만 흉내 (commit 이면 afterCommit 호출)
+    private static <T> T inTransaction(boolean commit, Supplier<T> body) {
+        TransactionSynchronizationManager.initSynchronization();
+        TransactionSynchronizationManager.setActualTransactionActive(true);
+        try {
+            T result = body.get();
+            List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+            if (commit) {
+                synchronizations.forEach(TransactionSynchronization::afterCommit);
+            }
+            return result;
+        } finally {
+            TransactionSynchronizationManager.setActualTransactionActive(false);
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    private DiagnosisQuestion question(Long id, DiagnosisQuestionDomain domain, DiagnosisQuestionType type,
+            int c1, int c2, int c3) {
+        return DiagnosisQuestion.builder()
+                .questionId(id)
+                .domain(domain)
+                .questionType(type)
+                .c1MaxScore(c1).c2MaxScore(c2).c3MaxScore(c3)
+                .c4MaxScore(0).c5MaxScore(0).c6MaxScore(0)
+                .build();
+    }
+
+    private DiagnosisQuestion withScores(DiagnosisQuestion q, int s1, int s2, int s3, int s4, int s5) {
+        return DiagnosisQuestion.builder()
+                .questionId(q.getQuestionId())
+                .domain(q.getDomain())
+                .questionType(q.getQuestionType())
+                .c1MaxScore(q.getC1MaxScore()).c2MaxScore(q.getC2MaxScore()).c3MaxScore(q.getC3MaxScore())
+                .c4MaxScore(0).c5MaxScore(0).c6MaxScore(0)
+                .score1(s1).score2(s2).score3(s3).score4(s4).score5(s5)
+                .build();
+    }
+
+    private DiagnosisAnswer answer(DiagnosisQuestion q, Integer scaleValue, Boolean isCorrect) {
+        return DiagnosisAnswer.builder()
+                .question(q)
+                .scaleValue(scaleValue)
+                .isCorrect(isCorrect)
+                .build();
+    }
+}
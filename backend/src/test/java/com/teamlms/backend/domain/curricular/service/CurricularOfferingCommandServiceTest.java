@@ -3,28 +3,39 @@ package com.teamlms.backend.domain.curricular.service;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.Mockito.*;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
 import com.teamlms.backend.domain.account.entity.Account;
 import com.teamlms.backend.domain.account.enums.AccountType;
 import com.teamlms.backend.domain.account.repository.AccountRepository;
 import com.teamlms.backend.domain.account.repository.ProfessorProfileRepository;
+import com.teamlms.backend.domain.alarm.enums.AlarmType;
+import com.teamlms.backend.domain.alarm.service.AlarmCommandService;
+import com.teamlms.backend.domain.competency.event.StudentCompetencyChangedEvent;
+import com.teamlms.backend.domain.competency.event.StudentsCompetencyChangedEvent;
 import com.teamlms.backend.domain.competency.repository.CompetencyRepository;
 import com.teamlms.backend.domain.curricular.api.dto.CurricularOfferingUpdateRequest;
 import com.teamlms.backend.domain.curricular.api.dto.OfferingCompetencyMappingBulkUpdateRequest;
 import com.teamlms.backend.domain.curricular.api.dto.OfferingCompetencyMappingPatchRequest;
+import com.teamlms.backend.domain.curricular.entity.Curricular;
 import com.teamlms.backend.domain.curricular.entity.CurricularOffering;
 import com.teamlms.backend.domain.curricular.entity.Enrollment;
+import com.teamlms.backend.domain.curricular.enums.CompletionStatus;
 import com.teamlms.backend.domain.curricular.enums.DayOfWeekType;
 import com.teamlms.backend.domain.curricular.enums.EnrollmentStatus;
 import com.teamlms.backend.domain.curricular.enums.OfferingStatus;
@@ -32,6 +43,9 @@ import com.teamlms.backend.domain.curricular.repository.CurricularOfferingCompet
 import com.teamlms.backend.domain.curricular.repository.CurricularOfferingRepository;
 import com.teamlms.backend.domain.curricular.repository.CurricularRepository;
 import com.teamlms.backend.domain.curricular.repository.EnrollmentRepository;
+import com.teamlms.backend.domain.curricular.repository.GradeConfirmationBulkRepository;
+import com.teamlms.backend.domain.curricular.repository.GradeConfirmationBulkRepository.ConfirmedGrade;
+import com.teamlms.backend.domain.curricular.repository.GradeConfirmationBulkRepository.ScoreBand;
 import com.teamlms.backend.domain.semester.repository.SemesterRepository;
 import com.teamlms.backend.global.exception.base.BusinessException;
 import com.teamlms.backend.global.exception.code.ErrorCode;
@@ -58,6 +72,12 @@ class CurricularOfferingCommandServiceTest {
         private CurricularOfferingCompetencyMapRepository competencyMapRepository;
         @Mock
         private CompetencyRepository competencyRepository;
+        @Mock
+        private GradeConfirmationBulkRepository gradeConfirmationBulkRepository;
+        @Mock
+        private AlarmCommandService alarmCommandService;
+        @Mock
+        private ApplicationEventPublisher eventPublisher;
 
         @Test
         @DisplayName("개설교과 생성 성공")
@@ -148,6 +168,95 @@ class CurricularOfferingCommandServiceTest {
                 assertEquals(ErrorCode.CURRICULAR_OFFERING_STATUS_LOCKED, exception.getErrorCode());
         }
 
+        @Test
+        @DisplayName("상태 변경 성공 - IN_PROGRESS -> COMPLETED 성적 일괄 확정 (UPDATE/알림/이벤트 각 1회)")
+        void changeStatus_Completed_ConfirmsGradesInBulk() {
+                // given
+                Long offeringId = 1L;
+                CurricularOffering offering = CurricularOffering.builder()
+                                .offeringId(offeringId)
+                                .curricularId(3L)
+                                .semesterId(10L)
+                                .status(OfferingStatus.IN_PROGRESS)
+                                .build();
+
+                when(curricularOfferingRepository.findById(offeringId)).thenReturn(Optional.of(offering));
+                when(competencyMapRepository.countByIdOfferingId(offeringId)).thenReturn(6L);
+                when(competencyMapRepository.countDistinctWeight1to6(offeringId)).thenReturn(6L);
+                when(gradeConfirmationBulkRepository.findFirstUnscoredEnrollmentId(offeringId))
+                                .thenReturn(Optional.empty());
+                when(gradeConfirmationBulkRepository.confirmByScoreBands(eq(offeringId), anyList(), eq(7L), any()))
+                                .thenReturn(List.of(
+                                                new ConfirmedGrade(1L, 100L, "A"),
+                                                new ConfirmedGrade(2L, 101L, "F")));
+                when(curricularRepository.findById(3L)).thenReturn(Optional.of(
+                                Curricular.builder().curricularName("자료구조").build()));
+
+                // when
+                offeringCommandService.changeStatus(offeringId, OfferingStatus.COMPLETED, 7L);
+
+                // then
+                assertEquals(OfferingStatus.COMPLETED, offering.getStatus());
+                verify(enrollmentRepository, never()).findByOfferingId(any());
+
+                @SuppressWarnings("unchecked")
+                ArgumentCaptor<Map<Long, Object[]>> argsCaptor = ArgumentCaptor.forClass(Map.class);
+                verify(alarmCommandService).createAlarmsI18n(
+                                eq(AlarmType.CURRICULAR_GRADE_CONFIRMED),
+                                eq("curricular.alarm.grade.confirmed.title"),
+                                eq("curricular.alarm.grade.confirmed.message"),
+                                argsCaptor.capture(),
+                                eq("/curricular/grade-reports"),
+                                isNull(),
+                                isNull());
+                assertArrayEquals(new Object[] { "자료구조", "F" }, argsCaptor.getValue().get(101L));
+                verify(alarmCommandService, never()).createAlarmI18n(any(), any(), any(), any(), any(), any(), any(), any());
+
+                verify(eventPublisher).publishEvent(new StudentsCompetencyChangedEvent(
+                                10L, List.of(100L, 101L), StudentCompetencyChangedEvent.Cause.GRADE_CONFIRMED));
+        }
+
+        @Test
+        @DisplayName("상태 변경 실패 - 점수 미입력 수강이 있으면 확정하지 않음")
+        void changeStatus_Completed_Fail_GradeNotInputted() {
+                // given
+                Long offeringId = 1L;
+                CurricularOffering offering = CurricularOffering.builder()
+                                .offeringId(offeringId)
+                                .status(OfferingStatus.IN_PROGRESS)
+                                .build();
+
+                when(curricularOfferingRepository.findById(offeringId)).thenReturn(Optional.of(offering));
+                when(competencyMapRepository.countByIdOfferingId(offeringId)).thenReturn(6L);
+                when(competencyMapRepository.countDistinctWeight1to6(offeringId)).thenReturn(6L);
+                when(gradeConfirmationBulkRepository.findFirstUnscoredEnrollmentId(offeringId))
+                                .thenReturn(Optional.of(55L));
+
+                // when & then
+                BusinessException exception = assertThrows(BusinessException.class,
+                                () -> offeringCommandService.changeStatus(offeringId, OfferingStatus.COMPLETED, 7L));
+                assertEquals(ErrorCode.GRADE_NOT_INPUTTED, exception.getErrorCode());
+                verify(gradeConfirmationBulkRepository, never()).confirmByScoreBands(any(), anyList(), any(), any());
+                assertEquals(OfferingStatus.IN_PROGRESS, offering.getStatus());
+        }
+
+        @Test
+        @DisplayName("점수 구간표 - 0~100 을 빈틈없이 덮고 fromScore 와 같은 등급")
+        void gradeBands_MatchFromScore() {
+                List<ScoreBand> bands = GradeCalculator.bands();
+
+                for (int score = 0; score <= 100; score++) {
+                        int s = score;
+                        List<ScoreBand> matched = bands.stream()
+                                        .filter(b -> s >= b.minScore() && s <= b.maxScore())
+                                        .toList();
+                        assertEquals(1, matched.size(), "score=" + score);
+                        assertEquals(GradeCalculator.fromScore(score), matched.get(0).grade());
+                        assertEquals(score >= 60 ? CompletionStatus.PASSED : CompletionStatus.FAILED,
+                                        matched.get(0).completionStatus());
+                }
+        }
+
         @Test
         @DisplayName("역량 맵핑 성공")
         void patchMapping_Success() {
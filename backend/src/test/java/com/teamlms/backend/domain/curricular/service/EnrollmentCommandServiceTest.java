@@ -4,6 +4,7 @@ import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.*;
 
+import java.util.List;
 import java.util.Optional;
 
 import org.junit.jupiter.api.DisplayName;
@@ -13,13 +14,14 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import com.teamlms.backend.domain.curricular.api.dto.TimetableSlotItem;
 import com.teamlms.backend.domain.curricular.entity.CurricularOffering;
-import com.teamlms.backend.domain.curricular.entity.Enrollment;
 import com.teamlms.backend.domain.curricular.enums.DayOfWeekType;
-import com.teamlms.backend.domain.curricular.enums.EnrollmentStatus;
 import com.teamlms.backend.domain.curricular.enums.OfferingStatus;
 import com.teamlms.backend.domain.curricular.repository.CurricularOfferingRepository;
 import com.teamlms.backend.domain.curricular.repository.EnrollmentRepository;
+import com.teamlms.backend.domain.curricular.repository.EnrollmentRepositoryCustom.EnrollTarget;
+import com.teamlms.backend.domain.curricular.repository.EnrollmentSeatRepository;
 import com.teamlms.backend.global.exception.base.BusinessException;
 import com.teamlms.backend.global.exception.code.ErrorCode;
 
@@ -35,8 +37,17 @@ class EnrollmentCommandServiceTest {
     @Mock
     private EnrollmentRepository enrollmentRepository;
 
+    @Mock
+    private EnrollmentSeatRepository seatRepository;
+
+    @Mock
+    private EnrollmentRegistrationEngine registrationEngine;
+
+    @Mock
+    private StudentTimetableCache timetableCache;
+
     @Test
-    @DisplayName("수강신청 성공 - 신규 신청")
+    @DisplayName("수강신청 성공 - 캐시상 겹치지 않으면 DB 겹침 조회 없이 좌석 엔진에 위임, 시간표는 조회 없이 갱신")
     void enroll_Success_New() {
         // given
         Long offeringId = 1L;
@@ -49,56 +60,100 @@ class EnrollmentCommandServiceTest {
                 .dayOfWeek(DayOfWeekType.MONDAY)
                 .period(1)
                 .build();
-        CurricularOffering spyOffering = spy(offering);
 
-        when(offeringRepository.findById(offeringId)).thenReturn(Optional.of(spyOffering));
-        when(enrollmentRepository.countScheduleConflictEnrollment(studentId, 10L, DayOfWeekType.MONDAY, 1, offeringId))
-                .thenReturn(0L);
-        when(enrollmentRepository.findByOfferingIdAndStudentAccountId(offeringId, studentId))
-                .thenReturn(Optional.empty());
-        when(enrollmentRepository.countByOfferingIdAndEnrollmentStatus(offeringId, EnrollmentStatus.ENROLLED))
-                .thenReturn(10L); // 10명 이미 신청
+        when(enrollmentRepository.findEnrollTarget(offeringId)).thenReturn(Optional.of(new EnrollTarget(offering, "자료구조")));
+        when(timetableCache.get(studentId, 10L)).thenReturn(Optional.of(StudentTimetable.of(List.of())));
 
         // when
         enrollmentCommandService.enroll(offeringId, studentId);
 
         // then
-        verify(enrollmentRepository).save(any(Enrollment.class));
-        verify(spyOffering, never()).changeStatus(OfferingStatus.ENROLLMENT_CLOSED);
+        verify(registrationEngine).register(offeringId, studentId);
+        verify(timetableCache).onEnrolled(studentId, 10L,
+                new TimetableSlotItem(null, null, "자료구조", DayOfWeekType.MONDAY, 1, null));
+        verify(enrollmentRepository, never()).countByOfferingIdAndEnrollmentStatus(any(), any());
+        verify(enrollmentRepository, never()).countScheduleConflictEnrollment(any(), any(), any(), any(), any());
+        verify(timetableCache, never()).evict(any(), any());
+        verifyNoInteractions(offeringRepository);
     }
 
     @Test
-    @DisplayName("수강신청 성공 - 정원 가득 참 (자동 닫힘)")
-    void enroll_Success_FullCapacity() {
+    @DisplayName("수강신청 실패 - 캐시에 없는 다른 인스턴스의 신청과 겹치면 저장 단계에서 거절하고 캐시 제거")
+    void enroll_Fail_ConflictOnlyInDatabase() {
         // given
         Long offeringId = 1L;
         Long studentId = 2L;
 
         CurricularOffering offering = CurricularOffering.builder()
                 .status(OfferingStatus.OPEN)
-                .capacity(30)
                 .semesterId(10L)
                 .dayOfWeek(DayOfWeekType.MONDAY)
                 .period(1)
                 .build();
-        CurricularOffering spyOffering = spy(offering);
 
-        when(offeringRepository.findById(offeringId)).thenReturn(Optional.of(spyOffering));
+        when(enrollmentRepository.findEnrollTarget(offeringId)).thenReturn(Optional.of(new EnrollTarget(offering, "자료구조")));
+        when(timetableCache.get(studentId, 10L)).thenReturn(Optional.of(StudentTimetable.of(List.of())));
+        doThrow(new BusinessException(ErrorCode.ENROLLMENT_SCHEDULE_CONFLICT))
+                .when(registrationEngine).register(offeringId, studentId);
+
+        // when & then
+        BusinessException exception = assertThrows(BusinessException.class,
+                () -> enrollmentCommandService.enroll(offeringId, studentId));
+        assertEquals(ErrorCode.ENROLLMENT_SCHEDULE_CONFLICT, exception.getErrorCode());
+        verify(timetableCache).evict(studentId, 10L);
+        verify(timetableCache, never()).onEnrolled(any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("수강신청 - 시간표 캐시가 가득 차 못 올리면 DB 겹침 조회로 대체")
+    void enroll_FallsBackToConflictQuery() {
+        // given
+        Long offeringId = 1L;
+        Long studentId = 2L;
+
+        CurricularOffering offering = CurricularOffering.builder()
+                .status(OfferingStatus.OPEN)
+                .semesterId(10L)
+                .dayOfWeek(DayOfWeekType.MONDAY)
+                .period(1)
+                .build();
+
+        when(enrollmentRepository.findEnrollTarget(offeringId)).thenReturn(Optional.of(new EnrollTarget(offering, "자료구조")));
+        when(timetableCache.get(studentId, 10L)).thenReturn(Optional.empty());
         when(enrollmentRepository.countScheduleConflictEnrollment(studentId, 10L, DayOfWeekType.MONDAY, 1, offeringId))
                 .thenReturn(0L);
-        when(enrollmentRepository.findByOfferingIdAndStudentAccountId(offeringId, studentId))
-                .thenReturn(Optional.empty());
-        // save 호출 후 count 결과 모의
-        when(enrollmentRepository.countByOfferingIdAndEnrollmentStatus(offeringId, EnrollmentStatus.ENROLLED))
-                .thenReturn(29L) // 처음엔 29명 이었음
-                .thenReturn(30L); // 저장 후엔 30명이 됨
 
         // when
         enrollmentCommandService.enroll(offeringId, studentId);
 
         // then
-        verify(enrollmentRepository).save(any(Enrollment.class));
-        verify(spyOffering).changeStatus(OfferingStatus.ENROLLMENT_CLOSED); // 이제 정원이 꽉 차서 닫힘 검증
+        verify(registrationEngine).register(offeringId, studentId);
+    }
+
+    @Test
+    @DisplayName("수강신청 실패 - 정원 초과 (엔진 예외 전달)")
+    void enroll_Fail_FullCapacity() {
+        // given
+        Long offeringId = 1L;
+        Long studentId = 2L;
+
+        CurricularOffering offering = CurricularOffering.builder()
+                .status(OfferingStatus.OPEN)
+                .capacity(30)
+                .semesterId(10L)
+                .dayOfWeek(DayOfWeekType.MONDAY)
+                .period(1)
+                .build();
+
+        when(enrollmentRepository.findEnrollTarget(offeringId)).thenReturn(Optional.of(new EnrollTarget(offering, "자료구조")));
+        when(timetableCache.get(studentId, 10L)).thenReturn(Optional.of(StudentTimetable.of(List.of())));
+        doThrow(new BusinessException(ErrorCode.OFFERING_CAPACITY_FULL, offeringId))
+                .when(registrationEngine).register(offeringId, studentId);
+
+        // when & then
+        BusinessException exception = assertThrows(BusinessException.class,
+                () -> enrollmentCommandService.enroll(offeringId, studentId));
+        assertEquals(ErrorCode.OFFERING_CAPACITY_FULL, exception.getErrorCode());
     }
 
     @Test
@@ -111,7 +166,7 @@ class EnrollmentCommandServiceTest {
         CurricularOffering offering = CurricularOffering.builder()
                 .status(OfferingStatus.DRAFT)
                 .build();
-        when(offeringRepository.findById(offeringId)).thenReturn(Optional.of(offering));
+        when(enrollmentRepository.findEnrollTarget(offeringId)).thenReturn(Optional.of(new EnrollTarget(offering, "자료구조")));
 
         // when & then
         BusinessException exception = assertThrows(BusinessException.class,
@@ -132,18 +187,20 @@ class EnrollmentCommandServiceTest {
                 .dayOfWeek(DayOfWeekType.MONDAY)
                 .period(1)
                 .build();
-        when(offeringRepository.findById(offeringId)).thenReturn(Optional.of(offering));
-        when(enrollmentRepository.countScheduleConflictEnrollment(studentId, 10L, DayOfWeekType.MONDAY, 1, offeringId))
-                .thenReturn(1L);
+        when(enrollmentRepository.findEnrollTarget(offeringId)).thenReturn(Optional.of(new EnrollTarget(offering, "자료구조")));
+        when(timetableCache.get(studentId, 10L)).thenReturn(Optional.of(StudentTimetable.of(List.of(
+                new TimetableSlotItem(9L, "CS-101", "자료구조", DayOfWeekType.MONDAY, 1, "A-101")))));
 
         // when & then
         BusinessException exception = assertThrows(BusinessException.class,
                 () -> enrollmentCommandService.enroll(offeringId, studentId));
         assertEquals(ErrorCode.ENROLLMENT_SCHEDULE_CONFLICT, exception.getErrorCode());
+        verifyNoInteractions(registrationEngine);
+        verify(enrollmentRepository, never()).countScheduleConflictEnrollment(any(), any(), any(), any(), any());
     }
 
     @Test
-    @DisplayName("수강신청 취소 성공 - 여석 발생으로 인해 상태가 OPEN으로 변경")
+    @DisplayName("수강신청 취소 성공 - 좌석 반납 (OPEN 전환은 enrolled_count 기준 SQL)")
     void cancel_Success_ChangeToOpen() {
         // given
         Long offeringId = 1L;
@@ -152,23 +209,44 @@ class EnrollmentCommandServiceTest {
         CurricularOffering offering = CurricularOffering.builder()
                 .status(OfferingStatus.ENROLLMENT_CLOSED)
                 .capacity(30)
+                .semesterId(10L)
                 .build();
-        CurricularOffering spyOffering = spy(offering);
 
-        Enrollment enrollment = mock(Enrollment.class);
-        when(enrollment.getEnrollmentStatus()).thenReturn(EnrollmentStatus.ENROLLED);
+        when(offeringRepository.findById(offeringId)).thenReturn(Optional.of(offering));
+        when(enrollmentRepository.existsByOfferingIdAndStudentAccountId(offeringId, studentId)).thenReturn(true);
+        when(seatRepository.cancelEnrollment(offeringId, studentId)).thenReturn(true);
+
+        // when
+        enrollmentCommandService.cancel(offeringId, studentId);
 
-        when(offeringRepository.findById(offeringId)).thenReturn(Optional.of(spyOffering));
-        when(enrollmentRepository.findByOfferingIdAndStudentAccountId(offeringId, studentId))
-                .thenReturn(Optional.of(enrollment));
-        when(enrollmentRepository.countByOfferingIdAndEnrollmentStatus(offeringId, EnrollmentStatus.ENROLLED))
-                .thenReturn(29L); // 취소 후 남은 인원
+        // then
+        verify(seatRepository).releaseSeat(offeringId);
+        verify(registrationEngine).releaseAfterCommit(offeringId);
+        verify(timetableCache).onCanceled(studentId, 10L, offeringId);
+    }
+
+    @Test
+    @DisplayName("동시 취소 - 조건부 UPDATE 에서 진 요청은 좌석을 반납하지 않음")
+    void cancel_ConcurrentLoserDoesNotReleaseSeat() {
+        // given: 다른 요청이 먼저 CANCELED 로 바꿈
+        Long offeringId = 1L;
+        Long studentId = 2L;
+
+        CurricularOffering offering = CurricularOffering.builder()
+                .status(OfferingStatus.OPEN)
+                .capacity(30)
+                .semesterId(10L)
+                .build();
+
+        when(offeringRepository.findById(offeringId)).thenReturn(Optional.of(offering));
+        when(enrollmentRepository.existsByOfferingIdAndStudentAccountId(offeringId, studentId)).thenReturn(true);
+        when(seatRepository.cancelEnrollment(offeringId, studentId)).thenReturn(false);
 
         // when
         enrollmentCommandService.cancel(offeringId, studentId);
 
         // then
-        verify(enrollment).cancel();
-        verify(spyOffering).changeStatus(OfferingStatus.OPEN);
+        verify(seatRepository, never()).releaseSeat(anyLong());
+        verifyNoInteractions(registrationEngine, timetableCache);
     }
 }
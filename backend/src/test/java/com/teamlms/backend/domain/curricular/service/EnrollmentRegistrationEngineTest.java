@@ -0,0 +1,293 @@
+package com.teamlms.backend.domain.curricular.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.*;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import com.teamlms.backend.domain.curricular.enums.OfferingStatus;
+import com.teamlms.backend.domain.curricular.repository.EnrollmentSeatRepository;
+import com.teamlms.backend.domain.curricular.repository.EnrollmentSeatRepository.SeatState;
+import com.teamlms.backend.global.exception.base.BusinessException;
+import com.teamlms.backend.global.exception.code.ErrorCode;
+
+@ExtendWith(MockitoExtension.class)
+class EnrollmentRegistrationEngineTest {
+
+    private static final Logger log = LoggerFactory.getLogger(EnrollmentRegistrationEngineTest.class);
+    private static final long OFFERING_ID = 1L;
+
+    @Mock
+    private EnrollmentSeatRepository seatRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private FakeOffering offering;
+
+    @BeforeEach
+    void setUp() {
+        offering = new FakeOffering(150);
+        lenient().when(seatRepository.findSeatState(OFFERING_ID)).thenAnswer(inv -> Optional.of(offering.state()));
+        lenient().when(seatRepository.findSeatStates(anyCollection())).thenAnswer(inv -> List.of(offering.state()));
+        lenient().when(seatRepository.lockSeatState(OFFERING_ID)).thenAnswer(inv -> {
+            offering.rowLock.lock();
+            offering.flushes.incrementAndGet();
+            return Optional.of(offering.state());
+        });
+        lenient().when(seatRepository.upsertEnrollments(eq(OFFERING_ID), anyList(), any())).thenAnswer(inv -> {
+            Thread.sleep(2); // DB 왕복 지연
+            return offering.upsert(inv.getArgument(1));
+        });
+        lenient().doAnswer(inv -> {
+            offering.update(inv.getArgument(1), inv.getArgument(2));
+            return null;
+        }).when(seatRepository).updateSeatState(anyLong(), anyInt(), any());
+        // 커밋/롤백 시 행 잠금 해제
+        lenient().doAnswer(inv -> offering.unlockIfHeld()).when(transactionManager).commit(any());
+        lenient().doAnswer(inv -> offering.unlockIfHeld()).when(transactionManager).rollback(any());
+    }
+
+    @Test
+    @DisplayName("부하 - 학생 2000명 동시 신청, 인스턴스 2대, 초과 신청 없음 + 마감 전환 1회")
+    void register_NoOversellUnderContention() throws Exception {
+        int students = 2_000;
+        int threads = 64; // Java 17: 가상 스레드 대신 고정 크기 플랫폼 스레드 풀
+        List<EnrollmentRegistrationEngine> engines = List.of(engine(50), engine(50));
+
+        AtomicInteger enrolled = new AtomicInteger();
+        AtomicInteger full = new AtomicInteger();
+        AtomicInteger other = new AtomicInteger();
+        CountDownLatch startGate = new CountDownLatch(1);
+
+        ExecutorService pool = Executors.newFixedThreadPool(threads);
+        List<Future<?>> futures = new ArrayList<>(students);
+        for (int i = 0; i < students; i++) {
+            long studentId = 10_000L + i;
+            EnrollmentRegistrationEngine engine = engines.get(i % engines.size());
+            futures.add(pool.submit(() -> {
+                startGate.await();
+                try {
+                    engine.register(OFFERING_ID, studentId);
+                    enrolled.incrementAndGet();
+                } catch (BusinessException e) {
+                    if (e.getErrorCode() == ErrorCode.OFFERING_CAPACITY_FULL) {
+                        full.incrementAndGet();
+                    } else {
+                        other.incrementAndGet();
+                    }
+                }
+                return null;
+            }));
+        }
+
+        long start = System.nanoTime();
+        startGate.countDown();
+        for (Future<?> f : futures) {
+            f.get(30, TimeUnit.SECONDS);
+        }
+        long elapsedNanos = System.nanoTime() - start;
+        pool.shutdown();
+
+        assertEquals(150, enrolled.get());
+        assertEquals(students - 150, full.get());
+        assertEquals(0, other.get());
+        assertEquals(150, offering.enrolledCount);
+        assertEquals(150, offering.students.size());
+        assertEquals(OfferingStatus.ENROLLMENT_CLOSED, offering.status);
+        assertEquals(1, offering.closedTransitions);
+        assertTrue(offering.flushes.get() < 150, "inserts must be batched behind the counter");
+        log.info("enrollment stampede: students={}, capacity=150, threads={}, flushes={}, elapsed={} ms, throughput={} req/s",
+                students, threads, offering.flushes.get(), TimeUnit.NANOSECONDS.toMillis(elapsedNanos),
+                students * 1_000_000_000L / Math.max(1, elapsedNanos));
+    }
+
+    @Test
+    @DisplayName("이미 신청한 학생 - 중복 예외, 좌석은 카운터로 반환")
+    void register_AlreadyEnrolledReturnsSeat() {
+        EnrollmentRegistrationEngine engine = engine(10);
+        engine.register(OFFERING_ID, 7L);
+        int available = engine.seatsFor(OFFERING_ID).available();
+
+        BusinessException e = assertThrows(BusinessException.class, () -> engine.register(OFFERING_ID, 7L));
+
+        assertEquals(ErrorCode.ENROLLMENT_ALREADY_EXISTS, e.getErrorCode());
+        assertEquals(available, engine.seatsFor(OFFERING_ID).available());
+        assertEquals(1, offering.enrolledCount);
+    }
+
+    @Test
+    @DisplayName("같은 배치에 이미 신청한 학생이 섞여도 그 좌석은 뒤 학생에게 다시 배정")
+    void register_DuplicateInBatchDoesNotConsumeSeat() throws Exception {
+        EnrollmentRegistrationEngine engine = engine(10);
+        engine.register(OFFERING_ID, 7L);
+        offering.update(149, OfferingStatus.OPEN); // DB 기준 남은 좌석 1 (카운터는 아직 여유)
+        EnrollmentRegistrationEngine.OfferingSeats seats = engine.seatsFor(OFFERING_ID);
+        ReentrantLock combineLock = (ReentrantLock) ReflectionTestUtils.getField(seats, "combineLock");
+        Queue<?> queue = (Queue<?>) ReflectionTestUtils.getField(seats, "queue");
+
+        // 두 요청이 한 배치로 묶이도록 저장 잠금을 잡은 채 7(중복) -> 8 순서로 대기열에 넣음
+        ExecutorService pool = Executors.newFixedThreadPool(2);
+        combineLock.lock();
+        Future<?> duplicate;
+        Future<?> next;
+        try {
+            duplicate = pool.submit(() -> engine.register(OFFERING_ID, 7L));
+            awaitQueueSize(queue, 1);
+            next = pool.submit(() -> engine.register(OFFERING_ID, 8L));
+            awaitQueueSize(queue, 2);
+        } finally {
+            combineLock.unlock();
+        }
+
+        ExecutionException e = assertThrows(ExecutionException.class, () -> duplicate.get(5, TimeUnit.SECONDS));
+        assertEquals(ErrorCode.ENROLLMENT_ALREADY_EXISTS, ((BusinessException) e.getCause()).getErrorCode());
+        next.get(5, TimeUnit.SECONDS);
+        pool.shutdown();
+
+        assertEquals(150, offering.enrolledCount);
+        assertTrue(offering.students.contains(8L));
+        assertEquals(OfferingStatus.ENROLLMENT_CLOSED, offering.status);
+    }
+
+    @Test
+    @DisplayName("카운터가 DB 보다 앞선 경우 - DB 기준으로 거절하고 카운터 재동기화")
+    void register_DbGuardWinsOverStaleCounter() {
+        EnrollmentRegistrationEngine engine = engine(10);
+        engine.seatsFor(OFFERING_ID); // 150석으로 시드
+        offering.update(150, OfferingStatus.ENROLLMENT_CLOSED); // 다른 인스턴스가 정원 채움
+
+        BusinessException e = assertThrows(BusinessException.class, () -> engine.register(OFFERING_ID, 7L));
+
+        assertEquals(ErrorCode.OFFERING_CAPACITY_FULL, e.getErrorCode());
+        assertEquals(0, engine.seatsFor(OFFERING_ID).available());
+        verify(seatRepository, never()).upsertEnrollments(anyLong(), anyList(), any());
+    }
+
+    @Test
+    @DisplayName("시간표 겹침 - upsert 가 저장하지 않은 학생은 겹침으로 거절하고 좌석 반환")
+    void register_ScheduleConflictRejectedByUpsert() {
+        EnrollmentRegistrationEngine engine = engine(10);
+        offering.conflicted.add(7L);
+        when(seatRepository.findScheduleConflicts(eq(OFFERING_ID), anyCollection())).thenReturn(Set.of(7L));
+
+        BusinessException e = assertThrows(BusinessException.class, () -> engine.register(OFFERING_ID, 7L));
+
+        assertEquals(ErrorCode.ENROLLMENT_SCHEDULE_CONFLICT, e.getErrorCode());
+        assertEquals(0, offering.enrolledCount);
+        assertEquals(150, engine.seatsFor(OFFERING_ID).available());
+
+        engine.register(OFFERING_ID, 8L);
+        assertEquals(1, offering.enrolledCount);
+        verify(seatRepository, times(1)).findScheduleConflicts(eq(OFFERING_ID), anyCollection());
+    }
+
+    @Test
+    @DisplayName("보정/취소 - reconcile 은 DB 인원 기준, 취소는 좌석 1개 반환")
+    void reconcileAndRelease() {
+        EnrollmentRegistrationEngine engine = engine(10);
+        engine.seatsFor(OFFERING_ID);
+        offering.update(100, OfferingStatus.OPEN);
+
+        engine.reconcile();
+        assertEquals(50, engine.seatsFor(OFFERING_ID).available());
+
+        engine.releaseAfterCommit(OFFERING_ID); // 트랜잭션 밖이면 즉시 반영
+        assertEquals(51, engine.seatsFor(OFFERING_ID).available());
+    }
+
+    private static void awaitQueueSize(Queue<?> queue, int size) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (queue.size() < size) {
+            if (System.nanoTime() > deadline) {
+                fail("queue did not reach " + size);
+            }
+            Thread.sleep(1);
+        }
+    }
+
+    private EnrollmentRegistrationEngine engine(int batchSize) {
+        EnrollmentRegistrationEngine engine = new EnrollmentRegistrationEngine(seatRepository, transactionManager);
+        ReflectionTestUtils.setField(engine, "batchSize", batchSize);
+        return engine;
+    }
+
+    /**
+     * curricular_offering 1행 + enrollment 를 흉내내는 저장소 (행 잠금은 ReentrantLock)
+     */
+    private static final class FakeOffering {
+        private final int capacity;
+        private final ReentrantLock rowLock = new ReentrantLock();
+        private final AtomicInteger flushes = new AtomicInteger();
+        private final Set<Long> students = new HashSet<>();
+        private final Set<Long> conflicted = new HashSet<>(); // 같은 학기/요일/교시에 다른 교과를 신청한 학생
+        private volatile int enrolledCount;
+        private volatile OfferingStatus status = OfferingStatus.OPEN;
+        private volatile int closedTransitions;
+
+        private FakeOffering(int capacity) {
+            this.capacity = capacity;
+        }
+
+        private synchronized SeatState state() {
+            return new SeatState(OFFERING_ID, capacity, enrolledCount, status);
+        }
+
+        private synchronized Set<Long> upsert(List<Long> studentIds) {
+            Set<Long> inserted = new HashSet<>();
+            for (Long id : studentIds) {
+                if (!conflicted.contains(id) && students.add(id)) {
+                    inserted.add(id);
+                }
+            }
+            return inserted;
+        }
+
+        private synchronized void update(int count, OfferingStatus next) {
+            if (count > capacity) {
+                throw new IllegalStateException("oversold: " + count);
+            }
+            if (status == OfferingStatus.OPEN && next == OfferingStatus.ENROLLMENT_CLOSED) {
+                closedTransitions++;
+            }
+            enrolledCount = count;
+            status = next;
+        }
+
+        private Object unlockIfHeld() {
+            if (rowLock.isHeldByCurrentThread()) {
+                rowLock.unlock();
+            }
+            return null;
+        }
+    }
+}
@@ -0,0 +1,130 @@
+package com.teamlms.backend.domain.curricular.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.teamlms.backend.domain.curricular.api.dto.TimetableSlotItem;
+import com.teamlms.backend.domain.curricular.enums.DayOfWeekType;
+import com.teamlms.backend.domain.curricular.repository.EnrollmentRepository;
+
+@ExtendWith(MockitoExtension.class)
+class StudentTimetableCacheTest {
+
+    @InjectMocks
+    private StudentTimetableCache timetableCache;
+
+    @Mock
+    private EnrollmentRepository enrollmentRepository;
+
+    private final TimetableSlotItem monday1 = new TimetableSlotItem(9L, "CS-101", "자료구조", DayOfWeekType.MONDAY, 1, "A-101");
+    private final TimetableSlotItem wednesday3 = new TimetableSlotItem(10L, "CS-201", "운영체제", DayOfWeekType.WEDNESDAY, 3, "B-201");
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(timetableCache, "maxEntries", 100);
+        ReflectionTestUtils.setField(timetableCache, "ttlSeconds", 60L);
+    }
+
+    @Test
+    @DisplayName("시간표 비트맵 - 같은 요일/교시의 다른 교과만 겹침 (자기 교과 제외)")
+    void conflicts_ByDayAndPeriodBits() {
+        StudentTimetable timetable = StudentTimetable.of(List.of(wednesday3, monday1));
+
+        assertTrue(timetable.conflicts(DayOfWeekType.MONDAY, 1, 1L));
+        assertFalse(timetable.conflicts(DayOfWeekType.MONDAY, 1, 9L));
+        assertFalse(timetable.conflicts(DayOfWeekType.MONDAY, 2, 1L));
+        assertFalse(timetable.conflicts(DayOfWeekType.TUESDAY, 1, 1L));
+        assertEquals(2, Long.bitCount(timetable.bits()));
+        assertEquals(List.of(monday1, wednesday3), timetable.slots());
+        assertEquals(1L << 41, StudentTimetable.bit(DayOfWeekType.SUNDAY, 6));
+    }
+
+    @Test
+    @DisplayName("캐시 - 1회 적재 후 신청/취소로 갱신, 학기 제거 후 다시 적재")
+    void cache_LoadsOnceAndTracksChanges() {
+        when(enrollmentRepository.findTimetableSlots(2L, 10L)).thenReturn(List.of(monday1));
+
+        StudentTimetable first = timetableCache.get(2L, 10L).orElseThrow();
+        assertSame(first, timetableCache.get(2L, 10L).orElseThrow());
+
+        timetableCache.onEnrolled(2L, 10L, wednesday3);
+        assertTrue(timetableCache.get(2L, 10L).orElseThrow().conflicts(DayOfWeekType.WEDNESDAY, 3, 1L));
+
+        timetableCache.onCanceled(2L, 10L, 9L); // 트랜잭션 밖이면 즉시 반영
+        assertFalse(timetableCache.get(2L, 10L).orElseThrow().conflicts(DayOfWeekType.MONDAY, 1, 1L));
+
+        timetableCache.evictSemester(10L);
+        timetableCache.get(2L, 10L);
+
+        verify(enrollmentRepository, times(2)).findTimetableSlots(2L, 10L);
+    }
+
+    @Test
+    @DisplayName("캐시 한도 초과 - 적재하지 않고 empty (호출 측 DB 조회)")
+    void get_ReturnsEmptyWhenFull() {
+        ReflectionTestUtils.setField(timetableCache, "maxEntries", 1);
+        when(enrollmentRepository.findTimetableSlots(2L, 10L)).thenReturn(List.of());
+
+        assertTrue(timetableCache.get(2L, 10L).isPresent());
+        assertTrue(timetableCache.get(3L, 10L).isEmpty());
+        timetableCache.onEnrolled(3L, 10L, wednesday3); // 적재되지 않은 학생은 무시
+
+        verify(enrollmentRepository, never()).findTimetableSlots(3L, 10L);
+        assertEquals(1, timetableCache.size());
+    }
+
+    @Test
+    @DisplayName("캐시 ttl 경과 - 다른 인스턴스의 변경을 반영하도록 DB 에서 다시 적재")
+    void get_ReloadsAfterTtl() {
+        ReflectionTestUtils.setField(timetableCache, "ttlSeconds", 0L);
+        when(enrollmentRepository.findTimetableSlots(2L, 10L))
+                .thenReturn(List.of(monday1))
+                .thenReturn(List.of(monday1, wednesday3));
+
+        assertFalse(timetableCache.get(2L, 10L).orElseThrow().contains(10L));
+        assertTrue(timetableCache.get(2L, 10L).orElseThrow().contains(10L));
+
+        verify(enrollmentRepository, times(2)).findTimetableSlots(2L, 10L);
+    }
+
+    @Test
+    @DisplayName("적재 쿼리 도중 신청 반영 - 조회 결과는 캐시하지 않고 다음 조회에서 다시 적재")
+    void get_SkipsCachingWhenChangedDuringLoad() {
+        when(enrollmentRepository.findTimetableSlots(2L, 10L))
+                .thenAnswer(invocation -> {
+                    timetableCache.onEnrolled(2L, 10L, wednesday3); // 쿼리가 읽은 뒤 끝난 신청
+                    return List.of(monday1);
+                })
+                .thenReturn(List.of(monday1, wednesday3));
+
+        assertFalse(timetableCache.get(2L, 10L).orElseThrow().contains(10L));
+        assertEquals(0, timetableCache.size());
+
+        assertTrue(timetableCache.get(2L, 10L).orElseThrow().contains(10L));
+        assertEquals(1, timetableCache.size());
+        verify(enrollmentRepository, times(2)).findTimetableSlots(2L, 10L);
+    }
+
+    @Test
+    @DisplayName("캐시 제거 - 다음 조회에서 다시 적재")
+    void evict_ForcesReload() {
+        when(enrollmentRepository.findTimetableSlots(2L, 10L)).thenReturn(List.of(monday1));
+
+        timetableCache.get(2L, 10L);
+        timetableCache.evict(2L, 10L);
+        timetableCache.get(2L, 10L);
+
+        verify(enrollmentRepository, times(2)).findTimetableSlots(2L, 10L);
+    }
+}
@@ -0,0 +1,184 @@
+package com.teamlms.backend.domain.extracurricular.repository;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import com.teamlms.backend.domain.extracurricular.repository.ExtraCompletionEvaluationRepository.EvaluatedApplication;
+
+/**
+ * 실제 PostgreSQL 대상 이수 판정 SQL 검증
+ * - infra/docker-compose.local.yml 의 db 등 PostgreSQL 을 TEST_DATABASE_URL 로 지정했을 때만 실행
+ *   (예: TEST_DATABASE_URL=jdbc:postgresql://localhost:5432/team_lms, TEST_DATABASE_USER/PASSWORD 기본 postgres)
+ * - 실행마다 전용 스키마에 Flyway 마이그레이션 후 끝나면 스키마 삭제
+ */
+@EnabledIfEnvironmentVariable(named = "TEST_DATABASE_URL", matches = ".+")
+class ExtraCompletionEvaluationRepositoryTest {
+
+    private String schema;
+    private JdbcTemplate jdbcTemplate;
+    private ExtraCompletionEvaluationRepository repository;
+
+    @BeforeEach
+    void setUp() {
+        schema = "it_extra_eval_" + System.nanoTime();
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(
+                System.getenv("TEST_DATABASE_URL"),
+                env("TEST_DATABASE_USER", "postgres"),
+                env("TEST_DATABASE_PASSWORD", "postgres"));
+        dataSource.setSchema(schema);
+
+        Flyway.configure()
+                .dataSource(dataSource)
+                .schemas(schema)
+                .createSchemas(true)
+                .locations("classpath:db/migration")
+                .load()
+                .migrate();
+
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        repository = new ExtraCompletionEvaluationRepository(dataSource);
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (jdbcTemplate != null) {
+            jdbcTemplate.execute("DROP SCHEMA IF EXISTS " + schema + " CASCADE");
+        }
+    }
+
+    @Test
+    @DisplayName("유효 회차(CANCELED 제외)를 모두 출석한 신청만 PASSED + passed_at, 나머지 FAILED, 취소 신청은 제외")
+    void evaluate_PassesOnlyFullAttendance() {
+        long offeringId = insertOffering("EVAL-1");
+        long session1 = insertSession(offeringId, "1회차", "OPEN");
+        long session2 = insertSession(offeringId, "2회차", "CLOSED");
+        long canceled = insertSession(offeringId, "3회차", "CANCELED");
+
+        long full = insertApplication(offeringId, insertStudent("eval-full"), "APPLIED");
+        long partial = insertApplication(offeringId, insertStudent("eval-partial"), "APPLIED");
+        long none = insertApplication(offeringId, insertStudent("eval-none"), "APPLIED");
+        long withdrawn = insertApplication(offeringId, insertStudent("eval-withdrawn"), "CANCELED");
+
+        insertCompletion(session1, full, true);
+        insertCompletion(session2, full, true);
+        insertCompletion(session1, partial, true);
+        insertCompletion(canceled, partial, true); // 취소 회차 출석은 세지 않음
+        insertCompletion(session2, partial, false);
+        insertCompletion(session1, withdrawn, true);
+        insertCompletion(session2, withdrawn, true);
+
+        LocalDateTime now = LocalDateTime.of(2026, 2, 1, 10, 0);
+        List<EvaluatedApplication> result = repository.evaluate(offeringId, now);
+
+        Map<Long, Boolean> passedByApplication = result.stream()
+                .collect(Collectors.toMap(EvaluatedApplication::applicationId, EvaluatedApplication::passed));
+        assertEquals(Map.of(full, true, partial, false, none, false), passedByApplication);
+
+        assertEquals("PASSED", completionStatus(full));
+        assertEquals(Timestamp.valueOf(now), passedAt(full));
+        assertEquals("FAILED", completionStatus(partial));
+        assertNull(passedAt(partial));
+        assertEquals("FAILED", completionStatus(none));
+        assertEquals("IN_PROGRESS", completionStatus(withdrawn));
+        assertNull(passedAt(withdrawn));
+    }
+
+    @Test
+    @DisplayName("재판정 - 출석이 취소되면 PASSED 에서 FAILED 로 바뀌고 passed_at 이 비워짐")
+    void evaluate_ReevaluationClearsPassedAt() {
+        long offeringId = insertOffering("EVAL-2");
+        long session = insertSession(offeringId, "1회차", "OPEN");
+        long application = insertApplication(offeringId, insertStudent("eval-again"), "APPLIED");
+        insertCompletion(session, application, true);
+
+        repository.evaluate(offeringId, LocalDateTime.of(2026, 2, 1, 10, 0));
+        jdbcTemplate.update("UPDATE extra_curricular_session_completion SET is_attended = false WHERE application_id = ?",
+                application);
+        List<EvaluatedApplication> result = repository.evaluate(offeringId, LocalDateTime.of(2026, 2, 2, 10, 0));
+
+        assertEquals(1, result.size());
+        assertFalse(result.get(0).passed());
+        assertEquals("FAILED", completionStatus(application));
+        assertNull(passedAt(application));
+    }
+
+    private long insertOffering(String code) {
+        Long extraCurricularId = jdbcTemplate.queryForObject("""
+                INSERT INTO extra_curricular (extra_curricular_code, extra_curricular_name)
+                VALUES (?, ?)
+                RETURNING extra_curricular_id
+                """, Long.class, code, code);
+        return jdbcTemplate.queryForObject("""
+                INSERT INTO extra_curricular_offering (
+                  extra_curricular_id, extra_offering_code, extra_offering_name,
+                  operation_start_at, operation_end_at, status
+                )
+                VALUES (?, ?, ?, TIMESTAMP '2026-01-01 00:00', TIMESTAMP '2026-01-31 00:00', 'IN_PROGRESS')
+                RETURNING extra_offering_id
+                """, Long.class, extraCurricularId, code, code);
+    }
+
+    private long insertSession(long offeringId, String name, String status) {
+        return jdbcTemplate.queryForObject("""
+                INSERT INTO extra_curricular_session (
+                  extra_offering_id, session_name, start_at, end_at, status, reward_point, recognized_hours
+                )
+                VALUES (?, ?, TIMESTAMP '2026-01-01 00:00', TIMESTAMP '2026-01-31 00:00', ?, 10, 1)
+                RETURNING session_id
+                """, Long.class, offeringId, name, status);
+    }
+
+    private long insertStudent(String loginId) {
+        return jdbcTemplate.queryForObject("""
+                INSERT INTO account (login_id, password_hash, account_type, status)
+                VALUES (?, 'x', 'STUDENT', 'ACTIVE')
+                RETURNING account_id
+                """, Long.class, loginId + "-" + schema);
+    }
+
+    private long insertApplication(long offeringId, long studentAccountId, String applyStatus) {
+        return jdbcTemplate.queryForObject("""
+                INSERT INTO extra_curricular_application (extra_offering_id, student_account_id, apply_status)
+                VALUES (?, ?, ?)
+                RETURNING application_id
+                """, Long.class, offeringId, studentAccountId, applyStatus);
+    }
+
+    private void insertCompletion(long sessionId, long applicationId, boolean attended) {
+        jdbcTemplate.update("""
+                INSERT INTO extra_curricular_session_completion (session_id, application_id, is_attended)
+                VALUES (?, ?, ?)
+                """, sessionId, applicationId, attended);
+    }
+
+    private String completionStatus(long applicationId) {
+        return jdbcTemplate.queryForObject(
+                "SELECT completion_status FROM extra_curricular_application WHERE application_id = ?",
+                String.class, applicationId);
+    }
+
+    private Timestamp passedAt(long applicationId) {
+        return jdbcTemplate.queryForObject(
+                "SELECT passed_at FROM extra_curricular_application WHERE application_id = ?",
+                Timestamp.class, applicationId);
+    }
+
+    private static String env(String name, String defaultValue) {
+        String value = System.getenv(name);
+        return value == null || value.isBlank() ? defaultValue : value;
+    }
+}
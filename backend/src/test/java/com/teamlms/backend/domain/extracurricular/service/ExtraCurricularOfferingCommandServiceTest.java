@@ -1,10 +1,14 @@
 package com.teamlms.backend.domain.extracurricular.service;
 
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.Mockito.*;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 
@@ -15,6 +19,8 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import com.teamlms.backend.domain.alarm.enums.AlarmType;
+import com.teamlms.backend.domain.alarm.service.AlarmCommandService;
 import com.teamlms.backend.domain.competency.repository.CompetencyRepository;
 import com.teamlms.backend.domain.extracurricular.api.dto.ExtraCurricularOfferingCreateRequest;
 import com.teamlms.backend.domain.extracurricular.api.dto.ExtraCurricularOfferingPatchRequest;
@@ -22,10 +28,10 @@ import com.teamlms.backend.domain.extracurricular.api.dto.ExtraOfferingCompetenc
 import com.teamlms.backend.domain.extracurricular.api.dto.ExtraOfferingCompetencyMappingPatchRequest;
 import com.teamlms.backend.domain.extracurricular.entity.ExtraCurricularOffering;
 import com.teamlms.backend.domain.extracurricular.enums.ExtraOfferingStatus;
-import com.teamlms.backend.domain.extracurricular.repository.ExtraCurricularApplicationRepository;
+import com.teamlms.backend.domain.extracurricular.repository.ExtraCompletionEvaluationRepository;
+import com.teamlms.backend.domain.extracurricular.repository.ExtraCompletionEvaluationRepository.EvaluatedApplication;
 import com.teamlms.backend.domain.extracurricular.repository.ExtraCurricularOfferingCompetencyMapRepository;
 import com.teamlms.backend.domain.extracurricular.repository.ExtraCurricularOfferingRepository;
-import com.teamlms.backend.domain.extracurricular.repository.ExtraCurricularSessionCompletionRepository;
 import com.teamlms.backend.domain.extracurricular.repository.ExtraCurricularSessionRepository;
 import com.teamlms.backend.global.exception.base.BusinessException;
 import com.teamlms.backend.global.exception.code.ErrorCode;
@@ -41,13 +47,13 @@ class ExtraCurricularOfferingCommandServiceTest {
         @Mock
         private ExtraCurricularSessionRepository sessionRepository;
         @Mock
-        private ExtraCurricularSessionCompletionRepository completionRepository;
-        @Mock
-        private ExtraCurricularApplicationRepository applicationRepository;
+        private ExtraCompletionEvaluationRepository completionEvaluationRepository;
         @Mock
         private CompetencyRepository competencyRepository;
         @Mock
         private ExtraCurricularOfferingCompetencyMapRepository competencyMapRepository;
+        @Mock
+        private AlarmCommandService alarmCommandService;
 
         @Test
         @DisplayName("개설 생성 성공")
@@ -197,4 +203,55 @@ class ExtraCurricularOfferingCommandServiceTest {
                 verify(competencyMapRepository).deleteByIdExtraOfferingId(id);
                 verify(competencyMapRepository).saveAll(anyList());
         }
+
+        @Test
+        @DisplayName("상태 변경 성공 - IN_PROGRESS to COMPLETED, 신청 2000명 판정 UPDATE 1건 + 결과별 알림 INSERT 1건")
+        void changeStatus_Completed_EvaluatesInOneStatement() {
+                // given
+                Long id = 1L;
+                ExtraCurricularOffering offering = ExtraCurricularOffering.builder()
+                                .extraOfferingId(id)
+                                .extraOfferingName("리더십 캠프")
+                                .rewardPointDefault(10L)
+                                .recognizedHoursDefault(5L)
+                                .status(ExtraOfferingStatus.IN_PROGRESS)
+                                .build();
+
+                List<EvaluatedApplication> evaluated = new ArrayList<>();
+                for (int i = 0; i < 2_000; i++) {
+                        evaluated.add(new EvaluatedApplication(i + 1, 10_000L + i, i % 4 != 0)); // 1500 PASSED, 500 FAILED
+                }
+
+                when(offeringRepository.findById(id)).thenReturn(Optional.of(offering));
+                when(sessionRepository.sumRewardPointByOfferingId(id)).thenReturn(10L);
+                when(sessionRepository.sumRecognizedHoursByOfferingId(id)).thenReturn(5L);
+                when(competencyMapRepository.countByIdExtraOfferingId(id)).thenReturn(6L);
+                when(competencyMapRepository.countDistinctWeight1to6(id)).thenReturn(6L);
+                when(sessionRepository.findValidSessionIds(id)).thenReturn(List.of(11L, 12L, 13L));
+                when(completionEvaluationRepository.evaluate(eq(id), any(LocalDateTime.class))).thenReturn(evaluated);
+
+                // when
+                extraCurricularOfferingCommandService.changeStatus(id, ExtraOfferingStatus.COMPLETED);
+
+                // then
+                assertEquals(ExtraOfferingStatus.COMPLETED, offering.getStatus());
+                verify(completionEvaluationRepository, times(1)).evaluate(eq(id), any(LocalDateTime.class));
+                verify(alarmCommandService).createAlarmsI18n(
+                                eq(AlarmType.EXTRA_OFFERING_COMPLETED),
+                                eq("extra.curricular.alarm.completed.title"),
+                                eq("extra.curricular.alarm.completed.passed"),
+                                argThat(m -> m.size() == 1_500),
+                                eq("/extra-curricular/grade-reports"),
+                                isNull(),
+                                isNull());
+                verify(alarmCommandService).createAlarmsI18n(
+                                eq(AlarmType.EXTRA_OFFERING_COMPLETED),
+                                eq("extra.curricular.alarm.completed.title"),
+                                eq("extra.curricular.alarm.completed.failed"),
+                                argThat(m -> m.size() == 500),
+                                eq("/extra-curricular/grade-reports"),
+                                isNull(),
+                                isNull());
+                verifyNoMoreInteractions(alarmCommandService);
+        }
 }
@@ -0,0 +1,350 @@
+package com.teamlms.backend.domain.extracurricular.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import com.teamlms.backend.domain.competency.event.StudentCompetencyChangedEvent;
+import com.teamlms.backend.domain.extracurricular.api.dto.ExtraSessionWatchInfo;
+import com.teamlms.backend.domain.extracurricular.api.dto.ExtraSessionWatchProgressResponse;
+import com.teamlms.backend.domain.extracurricular.enums.ExtraSessionStatus;
+import com.teamlms.backend.domain.extracurricular.repository.ExtraSessionWatchRepository;
+import com.teamlms.backend.domain.extracurricular.repository.ExtraSessionWatchRepository.CompletionWrite;
+import com.teamlms.backend.domain.extracurricular.repository.ExtraSessionWatchRepository.StoredCoverage;
+import com.teamlms.backend.domain.extracurricular.repository.ExtraSessionWatchRepository.ViewerState;
+import com.teamlms.backend.global.exception.base.BusinessException;
+import com.teamlms.backend.global.exception.code.ErrorCode;
+
+@ExtendWith(MockitoExtension.class)
+class ExtraSessionWatchProgressServiceTest {
+
+    private static final Logger log = LoggerFactory.getLogger(ExtraSessionWatchProgressServiceTest.class);
+    private static final Long OFFERING_ID = 1L;
+    private static final Long SESSION_ID = 10L;
+    private static final Long STUDENT_ID = 100L;
+    private static final String VIDEO_KEY = "extra/video-1.mp4";
+
+    @InjectMocks
+    private ExtraSessionWatchProgressService watchProgressService;
+
+    @Mock
+    private ExtraSessionWatchTable watchTable;
+
+    @Mock
+    private ExtraSessionWatchRepository watchRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(watchProgressService, "requiredCoveragePercent", 95);
+        ReflectionTestUtils.setField(watchProgressService, "maxPlaybackRate", 2.0);
+        ReflectionTestUtils.setField(watchProgressService, "burstSeconds", 100_000);
+        ReflectionTestUtils.setField(watchProgressService, "maxViewers", 20_000);
+        ReflectionTestUtils.setField(watchProgressService, "idleEvictMinutes", 30L);
+        ReflectionTestUtils.setField(watchProgressService, "enforceCoverage", true);
+    }
+
+    @Test
+    @DisplayName("heartbeat - 겹치는 구간은 한 번만 세고, 시청자 상태는 첫 heartbeat 에만 조회")
+    void heartbeat_MergesOverlappingSegmentsOnce() {
+        givenSession(600);
+        givenApplied();
+
+        watchProgressService.heartbeat(STUDENT_ID, OFFERING_ID, SESSION_ID, new int[] {0, 100, 50, 150});
+        ExtraSessionWatchProgressResponse res =
+                watchProgressService.heartbeat(STUDENT_ID, OFFERING_ID, SESSION_ID, new int[] {100, 200});
+
+        assertEquals(200, res.coveredSeconds());
+        assertEquals(570, res.requiredSeconds());
+        assertFalse(res.attended());
+        verify(watchRepository, times(1)).findViewerState(OFFERING_ID, SESSION_ID, STUDENT_ID);
+        verify(watchRepository, never()).batchUpsertCompletions(anyList(), any());
+    }
+
+    @Test
+    @DisplayName("heartbeat - 재생 속도 상한으로 적립한 초까지만 인정 (구간 건너뛰기 방지)")
+    void heartbeat_ThrottlesSkippedSegments() {
+        ReflectionTestUtils.setField(watchProgressService, "burstSeconds", 60);
+        givenSession(600);
+        givenApplied();
+
+        ExtraSessionWatchProgressResponse res =
+                watchProgressService.heartbeat(STUDENT_ID, OFFERING_ID, SESSION_ID, new int[] {0, 600});
+
+        assertEquals(60, res.coveredSeconds());
+        assertFalse(res.attended());
+    }
+
+    @Test
+    @DisplayName("기준 시청 비율 도달 - 자동 출석, flush 시 1회 저장 + 역량 재계산 이벤트")
+    void heartbeat_GrantsAttendanceAndFlushesOnce() {
+        givenSession(100);
+        givenApplied();
+        when(watchTable.find(SESSION_ID)).thenReturn(info(100));
+
+        ExtraSessionWatchProgressResponse res =
+                watchProgressService.heartbeat(STUDENT_ID, OFFERING_ID, SESSION_ID, new int[] {0, 95});
+        watchProgressService.flush();
+        watchProgressService.flush(); // 변경 없음
+
+        assertTrue(res.attended());
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<CompletionWrite>> captor = ArgumentCaptor.forClass(List.class);
+        verify(watchRepository, times(1)).batchUpsertCompletions(captor.capture(), any(LocalDateTime.class));
+        CompletionWrite write = captor.getValue().get(0);
+        assertTrue(write.attended());
+        assertEquals(95, write.watchedSeconds());
+        assertEquals(10L, write.earnedPoint());
+        assertEquals(STUDENT_ID + 1, write.applicationId());
+        verify(eventPublisher, times(1)).publishEvent(any(StudentCompetencyChangedEvent.class));
+    }
+
+    @Test
+    @DisplayName("출석 요청 - 서버 시청 구간이 기준 미달이면 EXTRA_SESSION_WATCH_NOT_COMPLETED")
+    void completeAttendance_NotEnoughCoverage() {
+        givenSession(600);
+        givenApplied();
+        watchProgressService.heartbeat(STUDENT_ID, OFFERING_ID, SESSION_ID, new int[] {0, 300});
+
+        BusinessException ex = assertThrows(BusinessException.class,
+                () -> watchProgressService.completeAttendance(STUDENT_ID, OFFERING_ID, SESSION_ID, 600));
+
+        assertEquals(ErrorCode.EXTRA_SESSION_WATCH_NOT_COMPLETED, ex.getErrorCode());
+        verify(watchRepository, never()).batchUpsertCompletions(anyList(), any());
+    }
+
+    @Test
+    @DisplayName("출석 요청 - enforce-coverage=false 면 heartbeat 없는 이전 클라이언트의 보고 시청 초로 출석")
+    void completeAttendance_LegacyClientWhenNotEnforced() {
+        ReflectionTestUtils.setField(watchProgressService, "enforceCoverage", false);
+        givenSession(600);
+        givenApplied();
+
+        assertThrows(BusinessException.class,
+                () -> watchProgressService.completeAttendance(STUDENT_ID, OFFERING_ID, SESSION_ID, 500));
+        watchProgressService.completeAttendance(STUDENT_ID, OFFERING_ID, SESSION_ID, 599);
+
+        verify(watchRepository, times(1)).batchUpsertCompletions(anyList(), any(LocalDateTime.class));
+        verify(eventPublisher, times(1)).publishEvent(any(StudentCompetencyChangedEvent.class));
+    }
+
+    @Test
+    @DisplayName("출석 요청 - 이전에 저장된 시청 구간으로 출석 확정, 이미 출석했으면 다시 저장하지 않음")
+    void completeAttendance_UsesStoredCoverage() {
+        givenSession(16);
+        String stored = "1111111111111111"; // 16초 모두 시청
+        when(watchRepository.findViewerState(OFFERING_ID, SESSION_ID, STUDENT_ID))
+                .thenReturn(Optional.of(new ViewerState(STUDENT_ID + 1, stored, VIDEO_KEY, false)));
+
+        watchProgressService.completeAttendance(STUDENT_ID, OFFERING_ID, SESSION_ID, null);
+        watchProgressService.completeAttendance(STUDENT_ID, OFFERING_ID, SESSION_ID, null);
+
+        verify(watchRepository, times(1)).batchUpsertCompletions(anyList(), any(LocalDateTime.class));
+        verify(eventPublisher, times(1)).publishEvent(any(StudentCompetencyChangedEvent.class));
+    }
+
+    @Test
+    @DisplayName("여러 인스턴스 - 저장 후 다시 읽은 병합 구간으로 기준에 닿으면 다음 flush 에서 출석 저장")
+    void flush_AbsorbsCoverageMergedByOtherInstances() {
+        givenSession(100);
+        givenApplied();
+        when(watchTable.find(SESSION_ID)).thenReturn(info(100));
+        // 이 인스턴스는 0~50초, 다른 인스턴스가 50~100초를 저장해 둔 상태
+        when(watchRepository.findCoverages(List.of(SESSION_ID), List.of(STUDENT_ID + 1)))
+                .thenReturn(List.of(new StoredCoverage(SESSION_ID, STUDENT_ID + 1, "1".repeat(100), VIDEO_KEY, false)));
+
+        ExtraSessionWatchProgressResponse res =
+                watchProgressService.heartbeat(STUDENT_ID, OFFERING_ID, SESSION_ID, new int[] {0, 50});
+        watchProgressService.flush();
+        watchProgressService.flush();
+
+        assertFalse(res.attended());
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<CompletionWrite>> captor = ArgumentCaptor.forClass(List.class);
+        verify(watchRepository, times(2)).batchUpsertCompletions(captor.capture(), any(LocalDateTime.class));
+        CompletionWrite second = captor.getAllValues().get(1).get(0);
+        assertTrue(second.attended());
+        assertEquals(100, second.watchedSeconds());
+        verify(eventPublisher, times(1)).publishEvent(any(StudentCompetencyChangedEvent.class));
+    }
+
+    @Test
+    @DisplayName("동영상 교체 후 이전 동영상 기준 저장이 거절되면 - 이벤트 없이 시청자를 버리고 새 동영상으로 다시 적재")
+    void flush_DropsViewerWhenVideoReplaced() {
+        when(watchTable.get(OFFERING_ID, SESSION_ID)).thenReturn(info(100), info(100, "extra/video-2.mp4"));
+        givenApplied();
+        when(watchTable.find(SESSION_ID)).thenReturn(info(100));
+        when(watchRepository.batchUpsertCompletions(anyList(), any(LocalDateTime.class)))
+                .thenAnswer(inv -> inv.getArgument(0));
+
+        watchProgressService.heartbeat(STUDENT_ID, OFFERING_ID, SESSION_ID, new int[] {0, 95});
+        watchProgressService.flush();
+        ExtraSessionWatchProgressResponse res =
+                watchProgressService.heartbeat(STUDENT_ID, OFFERING_ID, SESSION_ID, new int[] {0, 10});
+
+        assertEquals(10, res.coveredSeconds());
+        assertFalse(res.attended());
+        verify(watchTable).invalidate(SESSION_ID);
+        verify(eventPublisher, never()).publishEvent(any());
+        verify(watchRepository, times(2)).findViewerState(OFFERING_ID, SESSION_ID, STUDENT_ID);
+    }
+
+    @Test
+    @DisplayName("회차 동영상 교체 - 회차 정보 무효화 + 시청 구간 초기화 (다음 heartbeat 에 다시 조회)")
+    void onSessionChanged_ResetsProgress() {
+        givenSession(600);
+        givenApplied();
+        watchProgressService.heartbeat(STUDENT_ID, OFFERING_ID, SESSION_ID, new int[] {0, 300});
+
+        watchProgressService.onSessionChanged(SESSION_ID, true);
+        ExtraSessionWatchProgressResponse res =
+                watchProgressService.heartbeat(STUDENT_ID, OFFERING_ID, SESSION_ID, new int[] {0, 10});
+
+        assertEquals(10, res.coveredSeconds());
+        verify(watchTable).invalidate(SESSION_ID);
+        verify(watchRepository, times(2)).findViewerState(OFFERING_ID, SESSION_ID, STUDENT_ID);
+    }
+
+    @Test
+    @DisplayName("heartbeat 가 락을 기다리는 사이 시청자가 제거되면 - 새 시청자를 다시 조회해 구간 반영")
+    void heartbeat_RetriesWhenViewerRemovedBeforeLock() throws Exception {
+        givenSession(600);
+        givenApplied();
+        watchProgressService.heartbeat(STUDENT_ID, OFFERING_ID, SESSION_ID, new int[] {0, 10});
+        Map<?, ?> viewers = (Map<?, ?>) ReflectionTestUtils.getField(watchProgressService, "viewers");
+        Map.Entry<?, ?> entry = viewers.entrySet().iterator().next();
+        Object stale = entry.getValue();
+
+        AtomicReference<ExtraSessionWatchProgressResponse> result = new AtomicReference<>();
+        Thread heartbeat;
+        synchronized (stale) {
+            heartbeat = new Thread(() -> result.set(
+                    watchProgressService.heartbeat(STUDENT_ID, OFFERING_ID, SESSION_ID, new int[] {10, 30})));
+            heartbeat.start();
+            while (heartbeat.getState() != Thread.State.BLOCKED) {
+                Thread.onSpinWait();
+            }
+            ReflectionTestUtils.invokeMethod(watchProgressService, "discard", entry.getKey(), stale);
+        }
+        heartbeat.join(TimeUnit.SECONDS.toMillis(5));
+
+        assertEquals(20, result.get().coveredSeconds());
+        assertNotSame(stale, viewers.values().iterator().next());
+        verify(watchRepository, times(2)).findViewerState(OFFERING_ID, SESSION_ID, STUDENT_ID);
+    }
+
+    @Test
+    @DisplayName("부하 - 시청자 3000명 동시 heartbeat, 전원 출석 + 저장은 batch 로 시청자당 1건")
+    void heartbeat_ManyConcurrentViewers() throws Exception {
+        int viewers = 3_000;
+        int heartbeatsPerViewer = 10;
+        int threads = 64;
+        givenSession(600);
+        givenApplied();
+        when(watchTable.find(SESSION_ID)).thenReturn(info(600));
+
+        AtomicInteger failures = new AtomicInteger();
+        CountDownLatch startGate = new CountDownLatch(1);
+        ExecutorService pool = Executors.newFixedThreadPool(threads);
+        List<Future<?>> futures = new ArrayList<>(viewers);
+        for (int i = 0; i < viewers; i++) {
+            long studentId = 10_000L + i;
+            futures.add(pool.submit(() -> {
+                startGate.await();
+                for (int h = 0; h < heartbeatsPerViewer; h++) {
+                    int from = h * 60;
+                    try {
+                        // 직전 구간과 5초씩 겹치게 전송
+                        watchProgressService.heartbeat(studentId, OFFERING_ID, SESSION_ID,
+                                new int[] {Math.max(from - 5, 0), from + 60});
+                    } catch (RuntimeException e) {
+                        failures.incrementAndGet();
+                    }
+                }
+                return null;
+            }));
+        }
+
+        long start = System.nanoTime();
+        startGate.countDown();
+        for (Future<?> f : futures) {
+            f.get(30, TimeUnit.SECONDS);
+        }
+        long elapsedNanos = System.nanoTime() - start;
+        pool.shutdown();
+
+        watchProgressService.flush();
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<CompletionWrite>> captor = ArgumentCaptor.forClass(List.class);
+        verify(watchRepository, atLeastOnce()).batchUpsertCompletions(captor.capture(), any(LocalDateTime.class));
+        int written = 0;
+        for (List<CompletionWrite> batch : captor.getAllValues()) {
+            assertTrue(batch.size() <= 500);
+            for (CompletionWrite write : batch) {
+                assertTrue(write.attended());
+                assertEquals(600, write.watchedSeconds());
+                written++;
+            }
+        }
+        assertEquals(0, failures.get());
+        assertEquals(viewers, written);
+        verify(watchRepository, times(viewers)).findViewerState(eq(OFFERING_ID), eq(SESSION_ID), anyLong());
+        verify(eventPublisher, times(viewers)).publishEvent(any(StudentCompetencyChangedEvent.class));
+        log.info("watch heartbeat load: viewers={}, heartbeats={}, threads={}, batches={}, elapsed={} ms, throughput={} req/s",
+                viewers, viewers * heartbeatsPerViewer, threads, captor.getAllValues().size(),
+                TimeUnit.NANOSECONDS.toMillis(elapsedNanos),
+                viewers * heartbeatsPerViewer * 1_000_000_000L / Math.max(1, elapsedNanos));
+    }
+
+    private void givenSession(int durationSeconds) {
+        when(watchTable.get(OFFERING_ID, SESSION_ID)).thenReturn(info(durationSeconds));
+    }
+
+    // 신청 ID = 학생 ID + 1, 이수 기록 없음
+    private void givenApplied() {
+        when(watchRepository.findViewerState(eq(OFFERING_ID), eq(SESSION_ID), anyLong()))
+                .thenAnswer(inv -> Optional.of(new ViewerState((Long) inv.getArgument(2) + 1, null, null, false)));
+    }
+
+    private static ExtraSessionWatchInfo info(int durationSeconds) {
+        return info(durationSeconds, VIDEO_KEY);
+    }
+
+    private static ExtraSessionWatchInfo info(int durationSeconds, String videoKey) {
+        return new ExtraSessionWatchInfo(
+                SESSION_ID, OFFERING_ID, ExtraSessionStatus.OPEN, durationSeconds, videoKey, 10L, 2L, 3L);
+    }
+}
@@ -4,10 +4,16 @@ import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.Mockito.*;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.zip.GZIPInputStream;
 
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -15,10 +21,13 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.teamlms.backend.domain.log.api.dto.LogExportRequest;
 import com.teamlms.backend.domain.log.entity.AccountAccessLog;
+import com.teamlms.backend.domain.log.repository.AccessLogExportRepository;
+import com.teamlms.backend.domain.log.repository.AccessLogExportRepository.AccessLogExportRow;
 import com.teamlms.backend.domain.log.repository.AccountAccessLogRepository;
 import com.teamlms.backend.global.exception.base.BusinessException;
 import com.teamlms.backend.global.exception.code.ErrorCode;
@@ -35,6 +44,9 @@ class ExcelDownloadServiceTest {
     @Mock
     private AccountAccessLogRepository accountAccessLogRepository;
 
+    @Mock
+    private AccessLogExportRepository accessLogExportRepository;
+
     @Mock
     private ObjectMapper objectMapper;
 
@@ -130,6 +142,100 @@ class ExcelDownloadServiceTest {
         verify(logCommandService).saveExcelDownloadLog(eq(actorAccountId), eq("ACCESS_LOG"), eq("정기 감사"), anyString());
     }
 
+    @Test
+    @DisplayName("스트리밍 CSV 다운로드 - 감사 로그는 즉시 저장, 본문은 커서 행을 그대로 기록")
+    void streamLogsAsCsv_WritesRowsAndAuditLog() throws Exception {
+        // given
+        Long actorAccountId = 1L;
+        LocalDateTime from = LocalDateTime.of(2024, 1, 1, 0, 0);
+        LocalDateTime to = LocalDateTime.of(2024, 1, 31, 23, 59);
+        LogExportRequest request = streamRequest(from, to);
+        when(objectMapper.writeValueAsString(any())).thenReturn("{}");
+        stubStreamRows(from, to, List.of(
+                new AccessLogExportRow(1L, 10L, from, "/api/a?x=1,2", "127.0.0.1", "Windows", "Mozilla"),
+                new AccessLogExportRow(2L, 11L, from, "/api/b", "127.0.0.2", "macOS", "say \"hi\"")));
+
+        // when
+        StreamingResponseBody body = excelDownloadService.streamLogsAsCsv(actorAccountId, request, false);
+
+        // then: 본문 기록 전에 감사 로그 저장
+        verify(logCommandService).saveExcelDownloadLog(eq(actorAccountId), eq("ACCESS_LOG"), eq("대량 감사"), anyString());
+        verifyNoInteractions(accessLogExportRepository);
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        body.writeTo(out);
+        String[] lines = out.toString(StandardCharsets.UTF_8).split("\n");
+        assertEquals(3, lines.length);
+        assertEquals("logId,accountId,accessedAt,accessUrl,ip,os,userAgent", lines[0]);
+        assertEquals("1,10,2024-01-01T00:00,\"/api/a?x=1,2\",127.0.0.1,Windows,Mozilla", lines[1]);
+        assertEquals("2,11,2024-01-01T00:00,/api/b,127.0.0.2,macOS,\"say \"\"hi\"\"\"", lines[2]);
+        verify(accountAccessLogRepository, never()).findForExport(any(), any(), anyInt());
+    }
+
+    @Test
+    @DisplayName("스트리밍 CSV 다운로드 - gzip 압축")
+    void streamLogsAsCsv_Gzip() throws Exception {
+        // given
+        LocalDateTime from = LocalDateTime.of(2024, 1, 1, 0, 0);
+        LocalDateTime to = LocalDateTime.of(2024, 1, 31, 23, 59);
+        when(objectMapper.writeValueAsString(any())).thenReturn("{}");
+        stubStreamRows(from, to, List.of(
+                new AccessLogExportRow(1L, 10L, from, "/api/a", "127.0.0.1", "Windows", "Mozilla")));
+
+        // when
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        excelDownloadService.streamLogsAsCsv(1L, streamRequest(from, to), true).writeTo(out);
+
+        // then
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(out.toByteArray()))) {
+            String csv = new String(in.readAllBytes(), StandardCharsets.UTF_8);
+            assertTrue(csv.startsWith("logId,accountId,accessedAt,accessUrl,ip,os,userAgent\n"));
+            assertTrue(csv.contains("1,10,2024-01-01T00:00,/api/a,127.0.0.1,Windows,Mozilla\n"));
+        }
+    }
+
+    private LogExportRequest streamRequest(LocalDateTime from, LocalDateTime to) {
+        return LogExportRequest.builder()
+                .resourceCode("ACCESS_LOG")
+                .reason("대량 감사")
+                .filter(LogExportRequest.Filter.builder().from(from).to(to).build())
+                .build();
+    }
+
+    private void stubStreamRows(LocalDateTime from, LocalDateTime to, List<AccessLogExportRow> rows) {
+        when(accessLogExportRepository.findAccessLogPage(eq(from), eq(to), isNull(), isNull(), anyInt()))
+                .thenReturn(rows);
+    }
+
+    @Test
+    @DisplayName("스트리밍 CSV 다운로드 - 페이지가 가득 차면 마지막 행을 커서로 다음 페이지 조회")
+    void streamLogsAsCsv_PagesWithKeysetCursor() throws Exception {
+        // given
+        LocalDateTime from = LocalDateTime.of(2024, 1, 1, 0, 0);
+        LocalDateTime to = LocalDateTime.of(2024, 1, 31, 23, 59);
+        when(objectMapper.writeValueAsString(any())).thenReturn("{}");
+        List<AccessLogExportRow> fullPage = new ArrayList<>();
+        for (long id = 2_000; id > 1_000; id--) {
+            fullPage.add(new AccessLogExportRow(id, 10L, to, "/api/a", "127.0.0.1", "Windows", "Mozilla"));
+        }
+        AccessLogExportRow cursor = fullPage.get(fullPage.size() - 1);
+        AccessLogExportRow lastRow = new AccessLogExportRow(1L, 10L, from, "/api/z", "127.0.0.1", "Windows", "Mozilla");
+        when(accessLogExportRepository.findAccessLogPage(eq(from), eq(to), isNull(), isNull(), eq(1_000)))
+                .thenReturn(fullPage);
+        when(accessLogExportRepository.findAccessLogPage(from, to, null, cursor, 1_000))
+                .thenReturn(List.of(lastRow));
+
+        // when
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        excelDownloadService.streamLogsAsCsv(1L, streamRequest(from, to), false).writeTo(out);
+
+        // then
+        String[] lines = out.toString(StandardCharsets.UTF_8).split("\n");
+        assertEquals(1 + 1_000 + 1, lines.length);
+        assertTrue(lines[lines.length - 1].startsWith("1,10,2024-01-01T00:00,/api/z"));
+        verify(accessLogExportRepository, times(2)).findAccessLogPage(any(), any(), any(), any(), anyInt());
+    }
+
     @Test
     @DisplayName("로그 엑셀(CSV) 다운로드 실패 - 필터 누락")
     void exportLogsAsCsv_Fail_FilterRequired() {
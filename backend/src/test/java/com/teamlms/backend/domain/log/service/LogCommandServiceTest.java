@@ -35,6 +35,9 @@ class LogCommandServiceTest {
     @Mock
     private ExcelDownloadLogRepository excelDownloadLogRepository;
 
+    @Mock
+    private PresenceTracker presenceTracker;
+
     @Test
     @DisplayName("UserActivity Upsert 성공")
     void upsertUserActivity_Success() {
@@ -55,6 +58,7 @@ class LogCommandServiceTest {
                 eq("/api/test"),
                 eq("127.0.0.1"),
                 eq("TestAgent"));
+        verify(presenceTracker).touch(eq(accountId), any(LocalDateTime.class));
     }
 
     @Test
@@ -0,0 +1,148 @@
+package com.teamlms.backend.domain.log.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.teamlms.backend.domain.log.api.dto.LogIngestionStatsResponse;
+import com.teamlms.backend.domain.log.repository.LogBulkRepository;
+
+@ExtendWith(MockitoExtension.class)
+class LogIngestionPipelineTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2026, 3, 2, 9, 0);
+
+    @InjectMocks
+    private LogIngestionPipeline pipeline;
+
+    @Mock
+    private LogBulkRepository logBulkRepository;
+
+    @Mock
+    private PresenceTracker presenceTracker;
+
+    private void start(int capacity, int batchSize) {
+        ReflectionTestUtils.setField(pipeline, "capacity", capacity);
+        ReflectionTestUtils.setField(pipeline, "batchSize", batchSize);
+        ReflectionTestUtils.setField(pipeline, "flushIntervalMs", 60_000L); // 테스트에서는 직접 flush
+        pipeline.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        pipeline.shutdown();
+    }
+
+    @Test
+    @DisplayName("flush - 접근 로그는 batch insert, 사용자 활동은 계정별 1건으로 병합")
+    void flush_BatchesAccessLogsAndCoalescesActivities() {
+        // given
+        start(64, 1_000);
+        pipeline.submit(accessLog(1L, "/api/v1/student/a"));
+        pipeline.submit(accessLog(2L, "/api/v1/student/b"));
+        pipeline.submit(activity(1L, NOW, "/api/a"));
+        pipeline.submit(activity(1L, NOW.plusSeconds(5), "/api/b"));
+        pipeline.submit(activity(2L, NOW.plusSeconds(1), "/api/c"));
+        pipeline.submit(activity(1L, NOW.plusSeconds(3), "/api/late")); // 늦게 도착한 과거 요청
+
+        // when
+        pipeline.flush();
+
+        // then
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<LogRecord.AccessLog>> logs = ArgumentCaptor.forClass(List.class);
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<LogRecord.UserActivity>> activities = ArgumentCaptor.forClass(List.class);
+        verify(logBulkRepository).batchInsertAccessLogs(logs.capture());
+        verify(logBulkRepository).batchUpsertUserActivities(activities.capture());
+
+        assertEquals(2, logs.getValue().size());
+        assertEquals(List.of(1L, 2L), activities.getValue().stream().map(LogRecord.UserActivity::accountId).toList());
+        LogRecord.UserActivity merged = activities.getValue().get(0);
+        assertEquals(NOW, merged.firstActivityAt());
+        assertEquals(NOW.plusSeconds(5), merged.lastActivityAt());
+        assertEquals("/api/b", merged.path());
+        verify(presenceTracker).markPersisted(1L, NOW.plusSeconds(5));
+        verify(presenceTracker).markPersisted(2L, NOW.plusSeconds(1));
+
+        LogIngestionStatsResponse stats = pipeline.getStats();
+        assertEquals(0, stats.queueDepth());
+        assertEquals(2, stats.userActivitiesWritten());
+        assertEquals(2, stats.userActivitiesCoalesced());
+        assertEquals(1, stats.flushCount());
+    }
+
+    @Test
+    @DisplayName("submit - 버퍼가 가득 차면 요청 스레드는 대기 없이 버리고 drop 카운트 증가")
+    void submit_DropsWhenFull() {
+        start(4, 1_000);
+
+        for (int i = 0; i < 4; i++) {
+            assertTrue(pipeline.submit(accessLog(1L, "/api/v1/admin/" + i)));
+        }
+        assertFalse(pipeline.submit(accessLog(1L, "/api/v1/admin/overflow")));
+
+        LogIngestionStatsResponse stats = pipeline.getStats();
+        assertEquals(4, stats.queueDepth());
+        assertEquals(1, stats.droppedCount());
+    }
+
+    @Test
+    @DisplayName("flush - 저장 실패 시 실패 건수만 기록하고 다음 flush 는 계속 진행")
+    void flush_CountsFailuresAndContinues() {
+        start(64, 1_000);
+        doThrow(new IllegalStateException("db down")).when(logBulkRepository).batchInsertAccessLogs(anyList());
+
+        pipeline.submit(accessLog(1L, "/api/v1/student/a"));
+        pipeline.flush();
+
+        assertEquals(1, pipeline.getStats().writeFailureCount());
+        assertEquals(0, pipeline.getStats().queueDepth());
+    }
+
+    @Test
+    @DisplayName("flush - 사용자 활동 upsert 가 실패하면 presence 반영 시각을 전진시키지 않음")
+    void flush_DoesNotMarkPersistedOnFailure() {
+        start(64, 1_000);
+        doThrow(new IllegalStateException("db down")).when(logBulkRepository).batchUpsertUserActivities(anyList());
+
+        pipeline.submit(activity(1L, NOW, "/api/a"));
+        pipeline.flush();
+
+        assertEquals(1, pipeline.getStats().writeFailureCount());
+        verifyNoInteractions(presenceTracker);
+    }
+
+    @Test
+    @DisplayName("종료 - 남은 레코드를 모두 저장")
+    void shutdown_DrainsRemainingRecords() {
+        start(64, 1_000);
+        pipeline.submit(accessLog(1L, "/api/v1/student/a"));
+
+        pipeline.shutdown();
+
+        verify(logBulkRepository).batchInsertAccessLogs(anyList());
+        assertEquals(0, pipeline.getStats().queueDepth());
+    }
+
+    private LogRecord.AccessLog accessLog(Long accountId, String url) {
+        return new LogRecord.AccessLog(accountId, NOW, url, "127.0.0.1", "Windows", "TestAgent");
+    }
+
+    private LogRecord.UserActivity activity(Long accountId, LocalDateTime at, String path) {
+        return new LogRecord.UserActivity(accountId, at, at, path, "127.0.0.1", "TestAgent");
+    }
+}
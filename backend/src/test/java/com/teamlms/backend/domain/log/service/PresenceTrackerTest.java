@@ -0,0 +1,153 @@
+package com.teamlms.backend.domain.log.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.teamlms.backend.domain.log.repository.LogBulkRepository;
+
+@ExtendWith(MockitoExtension.class)
+class PresenceTrackerTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2026, 3, 2, 9, 0);
+
+    @InjectMocks
+    private PresenceTracker presenceTracker;
+
+    @Mock
+    private LogBulkRepository logBulkRepository;
+
+    private boolean started;
+
+    private void start(List<PresenceTracker.LastSeen> persisted) {
+        ReflectionTestUtils.setField(presenceTracker, "onlineWindowSeconds", 300L);
+        ReflectionTestUtils.setField(presenceTracker, "persistIntervalSeconds", 3_600L); // 테스트에서는 직접 sync
+        when(logBulkRepository.findActivitiesSince(any(LocalDateTime.class))).thenReturn(persisted);
+        presenceTracker.start();
+        started = true;
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (started) {
+            presenceTracker.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("touch - 계정당 persist-interval 에 한 번만 upsert 대상")
+    void touch_RequestsPersistOncePerInterval() {
+        start(List.of());
+
+        assertTrue(presenceTracker.touch(1L, NOW));
+        assertFalse(presenceTracker.touch(1L, NOW.plusSeconds(10)));
+        assertFalse(presenceTracker.touch(1L, NOW.plusMinutes(59)));
+        assertTrue(presenceTracker.touch(1L, NOW.plusHours(1)));
+
+        assertEquals(NOW.plusHours(1), presenceTracker.lastSeenAt(1L));
+        assertNull(presenceTracker.lastSeenAt(2L));
+    }
+
+    @Test
+    @DisplayName("온라인 수/목록 - 온라인 창 안에서 활동한 계정만")
+    void onlineCount_CountsWithinWindow() {
+        start(List.of());
+        presenceTracker.touch(1L, NOW.minusMinutes(1));
+        presenceTracker.touch(2L, NOW.minusMinutes(4));
+        presenceTracker.touch(3L, NOW.minusMinutes(6));
+
+        assertEquals(2, presenceTracker.onlineCount(NOW));
+        assertEquals(List.of(1L, 2L), presenceTracker.onlineAccountIds(NOW).stream().sorted().toList());
+        assertTrue(presenceTracker.isOnline(NOW.minusMinutes(5), NOW));
+        assertFalse(presenceTracker.isOnline(NOW.minusMinutes(5).minusSeconds(1), NOW));
+        assertFalse(presenceTracker.isOnline(null, NOW));
+    }
+
+    @Test
+    @DisplayName("기동 - 온라인 창 안의 user_activity 를 적재해 재시작 직후에도 온라인 유지")
+    void start_WarmsUpFromDb() {
+        LocalDateTime recent = LocalDateTime.now().minusMinutes(1);
+        start(List.of(new PresenceTracker.LastSeen(7L, recent)));
+
+        assertEquals(recent, presenceTracker.lastSeenAt(7L));
+        assertEquals(1, presenceTracker.onlineCount(LocalDateTime.now()));
+        assertFalse(presenceTracker.touch(7L, recent.plusSeconds(5))); // 이미 DB 반영된 계정
+    }
+
+    @Test
+    @DisplayName("sync - DB 보다 최신인 활동만 last_activity_at upsert, 만료 항목은 메모리에서 제거")
+    void sync_PersistsDirtyAndEvictsStale() {
+        start(List.of());
+        presenceTracker.touch(2L, NOW.minusMinutes(1));
+        presenceTracker.markPersisted(2L, NOW.minusMinutes(1));
+        presenceTracker.touch(2L, NOW); // persist 대기 중인 활동
+        presenceTracker.touch(1L, NOW.minusMinutes(10));
+        presenceTracker.markPersisted(1L, NOW.minusMinutes(10)); // 반영 완료 + 온라인 창 만료
+
+        presenceTracker.sync(NOW);
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<PresenceTracker.LastSeen>> captor = ArgumentCaptor.forClass(List.class);
+        verify(logBulkRepository).batchUpsertLastActivityAt(captor.capture());
+        assertEquals(List.of(new PresenceTracker.LastSeen(2L, NOW)), captor.getValue());
+        assertNull(presenceTracker.lastSeenAt(1L));
+
+        // 반영 후 다시 sync 하면 쓸 것이 없음
+        presenceTracker.sync(NOW);
+        verify(logBulkRepository).findActivitiesSince(any(LocalDateTime.class));
+        verifyNoMoreInteractions(logBulkRepository);
+    }
+
+    @Test
+    @DisplayName("sync - upsert 요청만 하고 쓰기가 성공하지 않은 신규 계정도 반영, 실패하면 다음 주기에 재시도")
+    void sync_RetriesUntilWriteSucceeds() {
+        start(List.of());
+        assertTrue(presenceTracker.touch(3L, NOW)); // 파이프라인 upsert 가 유실/실패했다고 가정 (markPersisted 없음)
+        doThrow(new IllegalStateException("db down"))
+                .doNothing()
+                .when(logBulkRepository).batchUpsertLastActivityAt(anyList());
+
+        assertThrows(IllegalStateException.class, () -> presenceTracker.sync(NOW));
+        presenceTracker.sync(NOW);
+        presenceTracker.sync(NOW);
+
+        verify(logBulkRepository, times(2)).batchUpsertLastActivityAt(List.of(new PresenceTracker.LastSeen(3L, NOW)));
+        assertFalse(presenceTracker.touch(3L, NOW.plusSeconds(5))); // 전체 upsert 요청 주기는 쓰기 결과와 무관
+    }
+
+    @Test
+    @DisplayName("ConcurrentLongLongMap - 확장/삭제 후에도 모든 키 조회 가능")
+    void map_GrowsAndRemovesWithoutLosingKeys() {
+        ConcurrentLongLongMap map = new ConcurrentLongLongMap();
+        int n = 20_000;
+        for (long key = 1; key <= n; key++) {
+            assertTrue(map.advance(key, key * 10, 0));
+        }
+        for (long key = 1; key <= n; key += 2) {
+            assertTrue(map.remove(key, key * 10));
+        }
+
+        assertEquals(n / 2, map.size());
+        for (long key = 1; key <= n; key++) {
+            long expected = key % 2 == 0 ? key * 10 : ConcurrentLongLongMap.NO_VALUE;
+            assertEquals(expected, map.get(key));
+        }
+        assertFalse(map.remove(2L, 999L));
+        assertFalse(map.advance(2L, 15L, 0)); // 과거 값으로 덮어쓰지 않음
+        assertEquals(n / 2 - 500, map.countAtLeast(10_001L)); // 짝수 키 2..1000 제외
+    }
+}
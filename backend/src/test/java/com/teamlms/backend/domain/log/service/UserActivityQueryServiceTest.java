@@ -2,7 +2,9 @@ package com.teamlms.backend.domain.log.service;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.Mockito.*;
 
 import java.time.LocalDate;
@@ -46,6 +48,9 @@ class UserActivityQueryServiceTest {
     @Mock
     private AccountAccessLogRepository accountAccessLogRepository;
 
+    @Mock
+    private PresenceTracker presenceTracker;
+
     @Test
     @DisplayName("사용자 접속자 리스트 조회")
     void list_Success() {
@@ -94,6 +99,70 @@ class UserActivityQueryServiceTest {
         assertEquals(20L, result.onlineAccounts());
     }
 
+    @Test
+    @DisplayName("사용자 접속자 리스트 조회 - DB 보다 최신인 presence 활동 시각 병합")
+    void list_MergesLivePresence() {
+        // given
+        Pageable pageable = PageRequest.of(0, 10);
+        LocalDateTime dbLast = LocalDateTime.now().minusMinutes(30);
+        LocalDateTime liveLast = LocalDateTime.now().minusSeconds(10);
+
+        UserActivityRow mockRow = mock(UserActivityRow.class);
+        when(mockRow.getAccountId()).thenReturn(1L);
+        when(mockRow.getLastActivityAt()).thenReturn(dbLast);
+        when(mockRow.getIsOnline()).thenReturn(false);
+
+        when(userActivityListRepository.findUserActivityRows(isNull(), eq(pageable)))
+                .thenReturn(new PageImpl<>(List.of(mockRow), pageable, 1));
+        when(presenceTracker.lastSeenAt(1L)).thenReturn(liveLast);
+        when(presenceTracker.isOnline(eq(liveLast), any(LocalDateTime.class))).thenReturn(true);
+
+        // when
+        UserActivityListItem item = userActivityQueryService.list(null, pageable).getContent().get(0);
+
+        // then
+        assertEquals(liveLast, item.lastActivityAt());
+        assertTrue(item.isOnline());
+    }
+
+    @Test
+    @DisplayName("계정 요약 조회 - 키워드 없으면 온라인 수는 presence 메모리 기준")
+    void summary_OnlineCountFromPresence() {
+        // given
+        UserActivitySummaryRow summaryRow = mock(UserActivitySummaryRow.class);
+        when(summaryRow.getTotalAccounts()).thenReturn(100L);
+        when(summaryRow.getOnlineAccounts()).thenReturn(3L);
+        when(userActivityListRepository.findSummary(isNull())).thenReturn(summaryRow);
+        when(presenceTracker.onlineCount(any(LocalDateTime.class))).thenReturn(7L);
+
+        // when
+        UserActivitySummary result = userActivityQueryService.summary(null);
+
+        // then
+        assertEquals(100L, result.totalAccounts());
+        assertEquals(7L, result.onlineAccounts());
+        verify(userActivityListRepository, never()).countByKeywordAndAccountIdIn(any(), anyList());
+    }
+
+    @Test
+    @DisplayName("계정 요약 조회 - 키워드가 있으면 presence 온라인 계정 중 일치 수만 DB 집계")
+    void summary_KeywordCountsOnlineIdsInDb() {
+        // given
+        String keyword = "kim";
+        UserActivitySummaryRow summaryRow = mock(UserActivitySummaryRow.class);
+        when(summaryRow.getTotalAccounts()).thenReturn(10L);
+        when(summaryRow.getOnlineAccounts()).thenReturn(0L);
+        when(userActivityListRepository.findSummary(keyword)).thenReturn(summaryRow);
+        when(presenceTracker.onlineAccountIds(any(LocalDateTime.class))).thenReturn(List.of(1L, 2L, 3L));
+        when(userActivityListRepository.countByKeywordAndAccountIdIn(keyword, List.of(1L, 2L, 3L))).thenReturn(2L);
+
+        // when
+        UserActivitySummary result = userActivityQueryService.summary(keyword);
+
+        // then
+        assertEquals(2L, result.onlineAccounts());
+    }
+
     @Test
     @DisplayName("상세 접속 로그 조회 성공")
     void accessLogsDetail_Success() {
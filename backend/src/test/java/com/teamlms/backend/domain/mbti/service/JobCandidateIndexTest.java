@@ -0,0 +1,274 @@
+package com.teamlms.backend.domain.mbti.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.teamlms.backend.domain.mbti.entity.InterestKeywordMaster;
+import com.teamlms.backend.domain.mbti.entity.JobCatalog;
+import com.teamlms.backend.domain.mbti.repository.JobCatalogRepository;
+
+@ExtendWith(MockitoExtension.class)
+class JobCandidateIndexTest {
+
+    private static final Logger log = LoggerFactory.getLogger(JobCandidateIndexTest.class);
+    private static final int CANDIDATE_SIZE = 40;
+
+    private static List<JobCatalog> catalog2025;
+    private static List<InterestKeywordMaster> keywords;
+
+    @InjectMocks
+    private JobCandidateIndexCache indexCache;
+
+    @Mock
+    private JobCatalogRepository jobCatalogRepository;
+
+    @BeforeAll
+    static void loadSeeds() throws IOException {
+        List<List<String>> jobRows = seedRows("db/migration/V46__seed_job_catalog_2025.sql");
+        catalog2025 = new ArrayList<>();
+        for (int i = 0; i < jobRows.size(); i++) {
+            List<String> r = jobRows.get(i);
+            catalog2025.add(JobCatalog.builder()
+                    .id((long) i + 1)
+                    .version(r.get(0))
+                    .jobCode(r.get(1))
+                    .majorName(r.get(2))
+                    .middleName(r.get(3))
+                    .minorName(r.get(4))
+                    .jobName(r.get(5))
+                    .searchText(r.get(6))
+                    .build());
+        }
+
+        List<List<String>> keywordRows = seedRows("db/migration/V47__seed_interest_keyword_master.sql");
+        keywords = new ArrayList<>();
+        for (int i = 0; i < keywordRows.size(); i++) {
+            keywords.add(InterestKeywordMaster.builder()
+                    .id((long) i + 1)
+                    .keyword(keywordRows.get(i).get(0))
+                    .category(keywordRows.get(i).get(1))
+                    .active(true)
+                    .build());
+        }
+    }
+
+    @Test
+    @DisplayName("2025 카탈로그 전체 - 인덱스 순위가 기존 선정 로직과 동일")
+    void topCandidates_MatchesLegacyRanking() {
+        JobCandidateIndex index = JobCandidateIndex.build("2025", catalog2025);
+        List<List<InterestKeywordMaster>> selections = selections();
+
+        for (List<InterestKeywordMaster> selection : selections) {
+            assertEquals(legacyRanking(selection), ranking(index.topCandidates(selection, CANDIDATE_SIZE)),
+                    () -> "keywords=" + selection.stream().map(InterestKeywordMaster::getKeyword).toList());
+        }
+        assertTrue(catalog2025.size() > 400);
+        assertEquals(50, keywords.size());
+    }
+
+    @Test
+    @DisplayName("벤치마크 - 기존 전체 스캔 vs 역색인 (순위 동일 확인 포함)")
+    void benchmark_IndexVersusLegacy() {
+        JobCandidateIndex index = JobCandidateIndex.build("2025", catalog2025);
+        List<List<InterestKeywordMaster>> selections = selections();
+
+        for (int i = 0; i < 3; i++) { // warm-up
+            selections.forEach(s -> legacyRanking(s));
+            selections.forEach(s -> index.topCandidates(s, CANDIDATE_SIZE));
+        }
+
+        long start = System.nanoTime();
+        List<List<String>> legacy = new ArrayList<>();
+        for (List<InterestKeywordMaster> s : selections) {
+            legacy.add(legacyRanking(s));
+        }
+        long legacyNanos = System.nanoTime() - start;
+
+        start = System.nanoTime();
+        List<List<String>> indexed = new ArrayList<>();
+        for (List<InterestKeywordMaster> s : selections) {
+            indexed.add(ranking(index.topCandidates(s, CANDIDATE_SIZE)));
+        }
+        long indexNanos = System.nanoTime() - start;
+
+        assertEquals(legacy, indexed);
+        log.info("mbti candidate selection ({} jobs, {} requests): legacy={} us/req, index={} us/req",
+                catalog2025.size(), selections.size(),
+                legacyNanos / 1_000 / selections.size(), indexNanos / 1_000 / selections.size());
+    }
+
+    @Test
+    @DisplayName("인덱스 캐시 - 버전이 같으면 재사용, 바뀌면 다시 만듦")
+    void cache_RebuildsOnVersionChange() {
+        when(jobCatalogRepository.findLatestVersion()).thenReturn("2025", "2025", "2026");
+        when(jobCatalogRepository.findByVersionOrderByIdAsc("2025")).thenReturn(catalog2025);
+        when(jobCatalogRepository.findByVersionOrderByIdAsc("2026")).thenReturn(catalog2025.subList(0, 10));
+
+        JobCandidateIndex first = indexCache.current();
+        JobCandidateIndex second = indexCache.current();
+        JobCandidateIndex third = indexCache.current();
+
+        assertSame(first, second);
+        assertEquals("2026", third.version());
+        assertEquals(10, third.size());
+        verify(jobCatalogRepository, times(1)).findByVersionOrderByIdAsc("2025");
+    }
+
+    @Test
+    @DisplayName("매칭 없는 키워드 - 점수 0 직업을 ID 순으로 채움")
+    void topCandidates_NoMatchFillsById() {
+        JobCandidateIndex index = JobCandidateIndex.build("2025", catalog2025);
+        InterestKeywordMaster none = InterestKeywordMaster.builder().id(999L).keyword("zzzz-없음").build();
+
+        List<JobCandidateIndex.RankedJob> top = index.topCandidates(List.of(none), CANDIDATE_SIZE);
+
+        assertEquals(CANDIDATE_SIZE, top.size());
+        assertEquals(1L, top.get(0).jobId());
+        assertTrue(top.stream().allMatch(r -> r.score() == 0 && r.matchedKeywords().isEmpty()));
+    }
+
+    // 단일 키워드 전부 + 연속 2개 + 고정 시드 무작위 3~5개 조합
+    private static List<List<InterestKeywordMaster>> selections() {
+        List<List<InterestKeywordMaster>> result = new ArrayList<>();
+        for (InterestKeywordMaster k : keywords) {
+            result.add(List.of(k));
+        }
+        for (int i = 0; i + 1 < keywords.size(); i++) {
+            result.add(List.of(keywords.get(i), keywords.get(i + 1)));
+        }
+        Random random = new Random(42);
+        for (int i = 0; i < 200; i++) {
+            int n = 3 + random.nextInt(3);
+            List<InterestKeywordMaster> selection = new ArrayList<>();
+            for (int j = 0; j < n; j++) {
+                selection.add(keywords.get(random.nextInt(keywords.size())));
+            }
+            result.add(selection);
+        }
+        return result;
+    }
+
+    private static List<String> ranking(List<JobCandidateIndex.RankedJob> ranked) {
+        return ranked.stream().map(r -> r.jobId() + ":" + r.score() + ":" + r.matchedKeywords()).toList();
+    }
+
+    /**
+     * 기존 MbtiRecommendationCandidateSelector 선정 로직 (전체 스캔 + 전체 정렬)
+     */
+    private static List<String> legacyRanking(List<InterestKeywordMaster> selectedKeywords) {
+        List<MbtiRecommendationCandidate> scored = new ArrayList<>();
+        for (JobCatalog job : catalog2025) {
+            int score = 0;
+            Set<String> matched = new LinkedHashSet<>();
+            String searchText = lower(job.getSearchText());
+            String jobName = lower(job.getJobName());
+            String major = lower(job.getMajorName());
+            String middle = lower(job.getMiddleName());
+            String minor = lower(job.getMinorName());
+
+            for (InterestKeywordMaster keyword : selectedKeywords) {
+                String kw = lower(keyword.getKeyword());
+                if (kw.isBlank()) {
+                    continue;
+                }
+                boolean hit = false;
+                if (searchText.contains(kw)) {
+                    score += 4;
+                    hit = true;
+                }
+                if (jobName.contains(kw)) {
+                    score += 5;
+                    hit = true;
+                }
+                if (major.contains(kw) || middle.contains(kw) || minor.contains(kw)) {
+                    score += 2;
+                    hit = true;
+                }
+                if (hit) {
+                    matched.add(keyword.getKeyword());
+                }
+            }
+            scored.add(new MbtiRecommendationCandidate(job, score, new ArrayList<>(matched)));
+        }
+
+        scored.sort(Comparator
+                .comparingInt(MbtiRecommendationCandidate::score).reversed()
+                .thenComparing((MbtiRecommendationCandidate c) -> c.matchedKeywords().size(), Comparator.reverseOrder())
+                .thenComparing(c -> c.job().getId()));
+
+        return scored.subList(0, Math.min(CANDIDATE_SIZE, scored.size())).stream()
+                .map(c -> c.job().getId() + ":" + c.score() + ":" + c.matchedKeywords())
+                .toList();
+    }
+
+    private static String lower(String value) {
+        return value == null ? "" : value.toLowerCase();
+    }
+
+    /**
+     * Flyway seed 의 VALUES 튜플 파싱 ('' 이스케이프 처리, 숫자 값은 문자열로)
+     */
+    private static List<List<String>> seedRows(String resource) throws IOException {
+        String sql;
+        try (InputStream in = JobCandidateIndexTest.class.getClassLoader().getResourceAsStream(resource)) {
+            assertNotNull(in, resource);
+            sql = new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        }
+
+        List<List<String>> rows = new ArrayList<>();
+        for (String line : sql.split("\n")) {
+            String trimmed = line.trim();
+            if (!trimmed.startsWith("(")) {
+                continue;
+            }
+            List<String> values = new ArrayList<>();
+            StringBuilder current = new StringBuilder();
+            boolean quoted = false;
+            for (int i = 1; i < trimmed.length(); i++) {
+                char c = trimmed.charAt(i);
+                if (quoted) {
+                    if (c == '\'' && i + 1 < trimmed.length() && trimmed.charAt(i + 1) == '\'') {
+                        current.append('\'');
+                        i++;
+                    } else if (c == '\'') {
+                        quoted = false;
+                    } else {
+                        current.append(c);
+                    }
+                } else if (c == '\'') {
+                    quoted = true;
+                } else if (c == ',' || c == ')') {
+                    values.add(current.toString().trim());
+                    current.setLength(0);
+                    if (c == ')') {
+                        break;
+                    }
+                } else {
+                    current.append(c);
+                }
+            }
+            rows.add(values);
+        }
+        return rows;
+    }
+}
@@ -21,7 +21,6 @@ import com.teamlms.backend.domain.mbti.entity.MbtiChoice;
 import com.teamlms.backend.domain.mbti.entity.MbtiQuestion;
 import com.teamlms.backend.domain.mbti.entity.MbtiResult;
 import com.teamlms.backend.domain.mbti.enums.MbtiDimension;
-import com.teamlms.backend.domain.mbti.repository.MbtiChoiceRepository;
 import com.teamlms.backend.domain.mbti.repository.MbtiJobRecommendationRepository;
 import com.teamlms.backend.domain.mbti.repository.MbtiResultRepository;
 import com.teamlms.backend.global.exception.base.BusinessException;
@@ -33,7 +32,7 @@ class MbtiCommandServiceTest {
     private MbtiCommandService mbtiCommandService;
 
     @Mock
-    private MbtiChoiceRepository choiceRepository;
+    private MbtiScoringTableCache scoringTableCache;
 
     @Mock
     private MbtiResultRepository resultRepository;
@@ -50,17 +49,18 @@ class MbtiCommandServiceTest {
         MbtiSubmitCommand command = new MbtiSubmitCommand(accountId, choiceIds);
 
         // Mock questions & choices to yield ESTJ
-        MbtiQuestion q1 = MbtiQuestion.builder().dimension(MbtiDimension.EI).build();
-        MbtiQuestion q2 = MbtiQuestion.builder().dimension(MbtiDimension.SN).build();
-        MbtiQuestion q3 = MbtiQuestion.builder().dimension(MbtiDimension.TF).build();
-        MbtiQuestion q4 = MbtiQuestion.builder().dimension(MbtiDimension.JP).build();
+        MbtiQuestion q1 = MbtiQuestion.builder().questionId(11L).dimension(MbtiDimension.EI).build();
+        MbtiQuestion q2 = MbtiQuestion.builder().questionId(12L).dimension(MbtiDimension.SN).build();
+        MbtiQuestion q3 = MbtiQuestion.builder().questionId(13L).dimension(MbtiDimension.TF).build();
+        MbtiQuestion q4 = MbtiQuestion.builder().questionId(14L).dimension(MbtiDimension.JP).build();
 
-        MbtiChoice c1 = MbtiChoice.builder().question(q1).scoreA(3).scoreB(0).build(); // E
-        MbtiChoice c2 = MbtiChoice.builder().question(q2).scoreA(3).scoreB(0).build(); // S
-        MbtiChoice c3 = MbtiChoice.builder().question(q3).scoreA(3).scoreB(0).build(); // T
-        MbtiChoice c4 = MbtiChoice.builder().question(q4).scoreA(3).scoreB(0).build(); // J
+        MbtiChoice c1 = MbtiChoice.builder().choiceId(1L).question(q1).scoreA(3).scoreB(0).build(); // E
+        MbtiChoice c2 = MbtiChoice.builder().choiceId(2L).question(q2).scoreA(3).scoreB(0).build(); // S
+        MbtiChoice c3 = MbtiChoice.builder().choiceId(3L).question(q3).scoreA(3).scoreB(0).build(); // T
+        MbtiChoice c4 = MbtiChoice.builder().choiceId(4L).question(q4).scoreA(3).scoreB(0).build(); // J
 
-        when(choiceRepository.findAllById(choiceIds)).thenReturn(Arrays.asList(c1, c2, c3, c4));
+        when(scoringTableCache.current()).thenReturn(MbtiScoringTable.build(
+                "v1", List.of(q1, q2, q3, q4), Arrays.asList(c1, c2, c3, c4), MbtiScoringTableCache.LOCALES));
 
         MbtiResult savedResult = MbtiResult.builder()
                 .accountId(accountId).mbtiType("ESTJ")
@@ -81,6 +81,19 @@ class MbtiCommandServiceTest {
         verify(resultRepository, times(1)).save(any(MbtiResult.class));
     }
 
+    @Test
+    @DisplayName("MBTI 제출 실패 - 같은 선택지 중복 제출")
+    void submitMbti_Fail_DuplicateChoice() {
+        MbtiQuestion q1 = MbtiQuestion.builder().questionId(11L).dimension(MbtiDimension.EI).build();
+        MbtiChoice c1 = MbtiChoice.builder().choiceId(1L).question(q1).scoreA(1).scoreB(0).build();
+        when(scoringTableCache.current()).thenReturn(MbtiScoringTable.build(
+                "v1", List.of(q1), List.of(c1), MbtiScoringTableCache.LOCALES));
+
+        assertThrows(BusinessException.class,
+                () -> mbtiCommandService.submitMbti(new MbtiSubmitCommand(1L, List.of(1L, 1L))));
+        verifyNoInteractions(resultRepository);
+    }
+
     @Test
     @DisplayName("MBTI 제출 실패 - 명령어 혹은 계정 ID 누락")
     void submitMbti_Fail_NullCommandOrAccountId() {
@@ -98,9 +111,11 @@ class MbtiCommandServiceTest {
         List<Long> choiceIds = Arrays.asList(1L, 2L);
         MbtiSubmitCommand command = new MbtiSubmitCommand(accountId, choiceIds);
 
-        MbtiChoice c1 = MbtiChoice.builder().scoreA(1).scoreB(0).build();
-        // DB returns only 1 choice instead of 2
-        when(choiceRepository.findAllById(choiceIds)).thenReturn(List.of(c1));
+        MbtiQuestion q1 = MbtiQuestion.builder().questionId(11L).dimension(MbtiDimension.EI).build();
+        MbtiChoice c1 = MbtiChoice.builder().choiceId(1L).question(q1).scoreA(1).scoreB(0).build();
+        // 채점표에 choice 2 가 없음
+        when(scoringTableCache.current()).thenReturn(MbtiScoringTable.build(
+                "v1", List.of(q1), List.of(c1), MbtiScoringTableCache.LOCALES));
 
         assertThrows(BusinessException.class, () -> mbtiCommandService.submitMbti(command));
     }
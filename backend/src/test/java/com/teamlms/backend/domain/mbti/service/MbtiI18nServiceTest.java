@@ -1,6 +1,7 @@
 package com.teamlms.backend.domain.mbti.service;
 
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.*;
 
 import java.util.List;
@@ -18,6 +19,7 @@ import com.teamlms.backend.domain.mbti.entity.InterestKeywordMaster;
 import com.teamlms.backend.domain.mbti.entity.JobCatalog;
 import com.teamlms.backend.domain.mbti.entity.MbtiChoice;
 import com.teamlms.backend.domain.mbti.entity.MbtiQuestion;
+import com.teamlms.backend.domain.mbti.enums.MbtiDimension;
 import com.teamlms.backend.domain.mbti.repository.InterestKeywordMasterRepository;
 import com.teamlms.backend.domain.mbti.repository.JobCatalogRepository;
 import com.teamlms.backend.domain.mbti.repository.MbtiChoiceRepository;
@@ -41,21 +43,25 @@ class MbtiI18nServiceTest {
     @Mock
     private InterestKeywordMasterRepository interestKeywordRepository;
 
+    @Mock
+    private MbtiScoringTableCache scoringTableCache;
+
     @Test
     @DisplayName("다국어 처리 - MBTI 전체 질문 및 선택지 변환 (한국어)")
     void getAllQuestionsWithI18nAsDto_ko_Success() {
         MbtiQuestion q1 = mock(MbtiQuestion.class);
         when(q1.getQuestionId()).thenReturn(1L);
-        when(q1.getContentByLocale("ko")).thenReturn("질문1");
+        when(q1.getDimension()).thenReturn(MbtiDimension.EI);
+        when(q1.getContentByLocale(anyString())).thenAnswer(inv -> "ko".equals(inv.getArgument(0)) ? "질문1" : "Question1");
         when(q1.getSortOrder()).thenReturn(1);
 
         MbtiChoice c1 = mock(MbtiChoice.class);
         when(c1.getChoiceId()).thenReturn(100L);
         when(c1.getQuestion()).thenReturn(q1);
-        when(c1.getContentByLocale("ko")).thenReturn("선택지1");
+        when(c1.getContentByLocale(anyString())).thenAnswer(inv -> "ko".equals(inv.getArgument(0)) ? "선택지1" : "Choice1");
 
-        when(questionRepository.findAllOrderBySortOrder()).thenReturn(List.of(q1));
-        when(choiceRepository.findByQuestionIdsOrderByQuestionAndChoiceId(List.of(1L))).thenReturn(List.of(c1));
+        when(scoringTableCache.current()).thenReturn(MbtiScoringTable.build(
+                "v1", List.of(q1), List.of(c1), MbtiScoringTableCache.LOCALES));
 
         List<MbtiQuestionResponse> responses = mbtiI18nService.getAllQuestionsWithI18nAsDto("ko");
 
@@ -63,6 +69,8 @@ class MbtiI18nServiceTest {
         assertEquals("질문1", responses.get(0).content());
         assertEquals(1, responses.get(0).choices().size());
         assertEquals("선택지1", responses.get(0).choices().get(0).content());
+        assertEquals("Choice1", mbtiI18nService.getAllQuestionsWithI18nAsDto("en-US").get(0).choices().get(0).content());
+        verifyNoInteractions(questionRepository, choiceRepository);
     }
 
     @Test
@@ -0,0 +1,183 @@
+package com.teamlms.backend.domain.mbti.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.teamlms.backend.domain.mbti.api.dto.MbtiJobRecommendationResponse;
+import com.teamlms.backend.domain.mbti.api.dto.MbtiRecommendationJobResponse;
+import com.teamlms.backend.domain.mbti.entity.InterestKeywordMaster;
+import com.teamlms.backend.domain.mbti.entity.MbtiResult;
+import com.teamlms.backend.domain.mbti.service.MbtiRecommendationService.GeneratedItem;
+import com.teamlms.backend.domain.mbti.service.MbtiRecommendationService.GeneratedRecommendation;
+import com.teamlms.backend.domain.mbti.service.MbtiRecommendationService.GenerationInput;
+import com.teamlms.backend.global.exception.base.BusinessException;
+
+@ExtendWith(MockitoExtension.class)
+class MbtiRecommendationJobServiceTest {
+
+    @InjectMocks
+    private MbtiRecommendationJobService jobService;
+
+    @Mock
+    private MbtiRecommendationService recommendationService;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(jobService, "workerThreads", 1);
+        ReflectionTestUtils.setField(jobService, "queueCapacity", 10);
+        ReflectionTestUtils.setField(jobService, "cacheSize", 10);
+        ReflectionTestUtils.setField(jobService, "jobTtlMinutes", 30L);
+        jobService.start();
+
+        // 계정별 입력: 같은 MBTI 유형/키워드 집합 (순서만 다름)
+        when(recommendationService.prepareGeneration(anyLong(), anyList(), anyString())).thenAnswer(inv -> {
+            Long accountId = inv.getArgument(0);
+            List<Long> keywordIds = inv.getArgument(1);
+            return input(accountId, "ENFJ", keywordIds);
+        });
+        lenient().when(recommendationService.saveGenerated(any(), any())).thenAnswer(inv -> {
+            GenerationInput input = inv.getArgument(0);
+            return new MbtiJobRecommendationResponse(input.accountId() * 10, 1L, "ENFJ", List.of(), List.of(),
+                    LocalDateTime.now());
+        });
+    }
+
+    @AfterEach
+    void tearDown() {
+        jobService.shutdown();
+    }
+
+    @Test
+    @DisplayName("동일 조건 동시 요청 - AI 생성 1회 공유, 계정별로 각각 저장")
+    void submit_CoalescesIdenticalRequests() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        when(recommendationService.generate(any())).thenAnswer(inv -> {
+            release.await(5, TimeUnit.SECONDS);
+            return generated(false);
+        });
+
+        MbtiRecommendationJobResponse first = jobService.submit(1L, List.of(10L, 20L), "ko");
+        MbtiRecommendationJobResponse second = jobService.submit(2L, List.of(20L, 10L), "ko");
+        assertNotEquals("DONE", first.status());
+        assertNotEquals("DONE", second.status());
+
+        release.countDown();
+        MbtiRecommendationJobResponse firstDone = await(1L, first.jobId());
+        MbtiRecommendationJobResponse secondDone = await(2L, second.jobId());
+
+        assertEquals("DONE", firstDone.status());
+        assertEquals(10L, firstDone.result().recommendationId());
+        assertEquals("DONE", secondDone.status());
+        assertEquals(20L, secondDone.result().recommendationId());
+        verify(recommendationService, times(1)).generate(any());
+        verify(recommendationService, times(2)).saveGenerated(any(), any());
+    }
+
+    @Test
+    @DisplayName("캐시 적중 - AI 호출 없이 저장 후 바로 DONE")
+    void submit_ServesFromCache() throws Exception {
+        when(recommendationService.generate(any())).thenReturn(generated(false));
+
+        MbtiRecommendationJobResponse first = jobService.submit(1L, List.of(10L, 20L), "ko");
+        await(1L, first.jobId());
+
+        MbtiRecommendationJobResponse cached = jobService.submit(3L, List.of(20L, 10L), "ko");
+
+        assertEquals("DONE", cached.status());
+        assertTrue(cached.cached());
+        assertEquals(30L, cached.result().recommendationId());
+        verify(recommendationService, times(1)).generate(any());
+    }
+
+    @Test
+    @DisplayName("템플릿 대체 결과 - 캐시하지 않고 다음 요청에서 다시 생성")
+    void submit_DoesNotCacheFallback() throws Exception {
+        when(recommendationService.generate(any())).thenReturn(generated(true));
+
+        await(1L, jobService.submit(1L, List.of(10L, 20L), "ko").jobId());
+        MbtiRecommendationJobResponse second = jobService.submit(2L, List.of(10L, 20L), "ko");
+        await(2L, second.jobId());
+
+        assertFalse(second.cached());
+        verify(recommendationService, times(2)).generate(any());
+    }
+
+    @Test
+    @DisplayName("생성 실패 - FAILED 와 오류 메시지, 다른 계정은 작업 조회 불가")
+    void submit_FailsJobOnGenerationError() throws Exception {
+        when(recommendationService.generate(any())).thenThrow(new IllegalStateException("ai down"));
+
+        MbtiRecommendationJobResponse job = jobService.submit(1L, List.of(10L, 20L), "ko");
+        MbtiRecommendationJobResponse failed = await(1L, job.jobId());
+
+        assertEquals("FAILED", failed.status());
+        assertEquals("ai down", failed.errorMessage());
+        assertNull(failed.result());
+        assertThrows(BusinessException.class, () -> jobService.getJob(2L, job.jobId()));
+        verify(recommendationService, never()).saveGenerated(any(), any());
+    }
+
+    @Test
+    @DisplayName("동기 생성 - 준비/생성/저장을 각각 프록시 호출로 분리 (AI 호출은 트랜잭션 밖), 결과 캐시 공유")
+    void generate_RunsStepsSeparatelyAndCaches() {
+        when(recommendationService.generate(any())).thenReturn(generated(false));
+
+        MbtiJobRecommendationResponse first = jobService.generate(1L, List.of(10L, 20L), "ko");
+        MbtiJobRecommendationResponse second = jobService.generate(2L, List.of(20L, 10L), "ko");
+
+        assertEquals(10L, first.recommendationId());
+        assertEquals(20L, second.recommendationId());
+        InOrder inOrder = inOrder(recommendationService);
+        inOrder.verify(recommendationService).prepareGeneration(eq(1L), anyList(), eq("ko"));
+        inOrder.verify(recommendationService).generate(any());
+        inOrder.verify(recommendationService).saveGenerated(any(), any());
+        verify(recommendationService, times(1)).generate(any());
+    }
+
+    private MbtiRecommendationJobResponse await(Long accountId, String jobId) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        MbtiRecommendationJobResponse job = jobService.getJob(accountId, jobId);
+        while (job.finishedAt() == null && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+            job = jobService.getJob(accountId, jobId);
+        }
+        return job;
+    }
+
+    private static GenerationInput input(Long accountId, String mbtiType, List<Long> keywordIds) {
+        MbtiResult mbtiResult = MbtiResult.builder().mbtiType(mbtiType).build();
+        ReflectionTestUtils.setField(mbtiResult, "resultId", accountId);
+        List<InterestKeywordMaster> keywords = keywordIds.stream()
+                .map(id -> InterestKeywordMaster.builder().id(id).keyword("k" + id).build())
+                .toList();
+        return new GenerationInput(accountId, mbtiResult, keywords, List.of(), "2025", "ko");
+    }
+
+    private static GeneratedRecommendation generated(boolean fallback) {
+        return new GeneratedRecommendation(
+                List.of("J01"),
+                List.of(new GeneratedItem(101L, "J01", "백엔드", "이유")),
+                fallback);
+    }
+}
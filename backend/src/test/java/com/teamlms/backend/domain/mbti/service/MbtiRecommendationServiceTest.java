@@ -2,9 +2,12 @@ package com.teamlms.backend.domain.mbti.service;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.Mockito.*;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 
@@ -25,6 +28,9 @@ import com.teamlms.backend.domain.mbti.entity.MbtiResult;
 import com.teamlms.backend.domain.mbti.repository.JobCatalogRepository;
 import com.teamlms.backend.domain.mbti.repository.MbtiJobRecommendationRepository;
 import com.teamlms.backend.domain.mbti.repository.MbtiResultRepository;
+import com.teamlms.backend.domain.mbti.service.MbtiRecommendationService.GeneratedItem;
+import com.teamlms.backend.domain.mbti.service.MbtiRecommendationService.GeneratedRecommendation;
+import com.teamlms.backend.domain.mbti.service.MbtiRecommendationService.GenerationInput;
 
 @ExtendWith(MockitoExtension.class)
 class MbtiRecommendationServiceTest {
@@ -64,59 +70,73 @@ class MbtiRecommendationServiceTest {
     @DisplayName("MBTI 및 직업 추천 생성 - AI 클라이언트 미지원에 의한 Fallback 템플릿 반환 검사")
     void generateRecommendation_FallbackSuccess() {
         Long accountId = 100L;
-        String locale = "ko";
-
-        MbtiResult mbtiResult = MbtiResult.builder().mbtiType("ENFJ").build();
-        ReflectionTestUtils.setField(mbtiResult, "resultId", 1L);
-        when(mbtiResultRepository.findTopByAccountIdOrderByCreatedAtDesc(accountId))
-                .thenReturn(Optional.of(mbtiResult));
-
-        InterestKeywordMaster keyword = InterestKeywordMaster.builder()
-                .keyword("코딩")
-                .build();
-        ReflectionTestUtils.setField(keyword, "id", 10L);
-        when(keywordService.getValidatedKeywords(any())).thenReturn(List.of(keyword));
-
-        JobCatalog job1 = JobCatalog.builder().jobCode("J01").jobName("백엔드").build();
-        JobCatalog job2 = JobCatalog.builder().jobCode("J02").jobName("프론트").build();
-        JobCatalog job3 = JobCatalog.builder().jobCode("J03").jobName("DBA").build();
-        JobCatalog job4 = JobCatalog.builder().jobCode("J04").jobName("데브옵스").build();
-        JobCatalog job5 = JobCatalog.builder().jobCode("J05").jobName("보안").build();
-        ReflectionTestUtils.setField(job1, "id", 101L);
-        ReflectionTestUtils.setField(job2, "id", 102L);
-        ReflectionTestUtils.setField(job3, "id", 103L);
-        ReflectionTestUtils.setField(job4, "id", 104L);
-        ReflectionTestUtils.setField(job5, "id", 105L);
-
-        MbtiRecommendationCandidate can1 = new MbtiRecommendationCandidate(job1, 100, List.of("코딩"));
-        MbtiRecommendationCandidate can2 = new MbtiRecommendationCandidate(job2, 90, List.of("코딩"));
-        MbtiRecommendationCandidate can3 = new MbtiRecommendationCandidate(job3, 80, List.of("코딩"));
-        MbtiRecommendationCandidate can4 = new MbtiRecommendationCandidate(job4, 70, List.of("코딩"));
-        MbtiRecommendationCandidate can5 = new MbtiRecommendationCandidate(job5, 60, List.of("코딩"));
-
-        List<MbtiRecommendationCandidate> candidates = List.of(can1, can2, can3, can4, can5);
-        when(candidateSelector.selectCandidates(any())).thenReturn(candidates);
-
+        MbtiResult mbtiResult = stubGenerationInput(accountId);
         when(aiClient.isAvailable()).thenReturn(false);
 
         MbtiJobRecommendation recommendation = MbtiJobRecommendation.create(
                 accountId, mbtiResult, List.of(10L), List.of("J01"), "fallback-model", "test-version",
                 LocalDateTime.now());
         ReflectionTestUtils.setField(recommendation, "recommendationId", 500L);
+        when(mbtiResultRepository.findById(1L)).thenReturn(Optional.of(mbtiResult));
         when(recommendationRepository.findByAccountId(accountId)).thenReturn(Optional.empty());
         when(recommendationRepository.save(any(MbtiJobRecommendation.class))).thenReturn(recommendation);
-
-        when(jobCatalogRepository.findAllById(any())).thenReturn(List.of(job1));
+        when(jobCatalogRepository.findAllById(any())).thenReturn(List.of());
 
         // When
-        MbtiJobRecommendationResponse response = recommendationService.generateRecommendation(accountId, List.of(10L),
-                locale);
+        GenerationInput input = recommendationService.prepareGeneration(accountId, List.of(10L), "ko");
+        GeneratedRecommendation generated = recommendationService.generate(input);
+        MbtiJobRecommendationResponse response = recommendationService.saveGenerated(input, generated);
 
         // Then
+        assertTrue(generated.fallback());
+        assertEquals(List.of("J01", "J02", "J03", "J04", "J05"),
+                generated.items().stream().map(GeneratedItem::jobCode).toList());
         assertNotNull(response);
         verify(recommendationRepository, times(1)).save(any(MbtiJobRecommendation.class));
     }
 
+    @Test
+    @DisplayName("AI 추천 생성 - 스텁 AI 응답을 후보 직업으로 검증해 사용, 생성 단계에서는 DB 접근 없음")
+    void generate_UsesAiResponseWithoutTouchingDb() throws Exception {
+        Long accountId = 100L;
+        stubGenerationInput(accountId);
+        ReflectionTestUtils.setField(recommendationService, "objectMapper", new ObjectMapper());
+        when(aiClient.isAvailable()).thenReturn(true);
+        when(aiClient.requestRecommendationJson(any(), any(), any(), any(), eq("ko"))).thenReturn(aiJson(
+                "J05", "J03", "J01", "J02", "J04"));
+
+        GenerationInput input = recommendationService.prepareGeneration(accountId, List.of(10L), "ko");
+        clearInvocations(mbtiResultRepository, keywordService, candidateSelector);
+
+        GeneratedRecommendation generated = recommendationService.generate(input);
+
+        assertFalse(generated.fallback());
+        assertEquals(List.of("J05", "J03", "J01", "J02", "J04"),
+                generated.items().stream().map(GeneratedItem::jobCode).toList());
+        assertEquals(105L, generated.items().get(0).jobCatalogId());
+        verifyNoInteractions(mbtiResultRepository, recommendationRepository, jobCatalogRepository,
+                keywordService, candidateSelector);
+    }
+
+    @Test
+    @DisplayName("AI 추천 생성 - 후보 밖 직업 응답은 오류 힌트와 함께 재시도, 모두 실패하면 템플릿 대체")
+    void generate_RetriesThenFallsBack() throws Exception {
+        Long accountId = 100L;
+        stubGenerationInput(accountId);
+        ReflectionTestUtils.setField(recommendationService, "objectMapper", new ObjectMapper());
+        when(aiClient.isAvailable()).thenReturn(true);
+        when(aiClient.requestRecommendationJson(any(), any(), any(), any(), eq("ko")))
+                .thenReturn(aiJson("J01", "J02", "J03", "J04", "X99"));
+
+        GenerationInput input = recommendationService.prepareGeneration(accountId, List.of(10L), "ko");
+        GeneratedRecommendation generated = recommendationService.generate(input);
+
+        assertTrue(generated.fallback());
+        verify(aiClient).requestRecommendationJson(any(), any(), any(), isNull(), eq("ko"));
+        verify(aiClient, times(2)).requestRecommendationJson(any(), any(), any(),
+                eq("jobCode is outside candidates"), eq("ko"));
+    }
+
     @Test
     @DisplayName("생성된 추천 정보 단건 조회 성공")
     void getLatestRecommendation_Success() {
@@ -134,4 +154,41 @@ class MbtiRecommendationServiceTest {
         assertNotNull(response);
         assertEquals(200L, response.recommendationId());
     }
+
+    // 최신 MBTI 결과(ID 1) + 키워드 "코딩"(ID 10) + 후보 직업 J01~J05(ID 101~105)
+    private MbtiResult stubGenerationInput(Long accountId) {
+        MbtiResult mbtiResult = MbtiResult.builder().mbtiType("ENFJ").build();
+        ReflectionTestUtils.setField(mbtiResult, "resultId", 1L);
+        when(mbtiResultRepository.findTopByAccountIdOrderByCreatedAtDesc(accountId))
+                .thenReturn(Optional.of(mbtiResult));
+
+        InterestKeywordMaster keyword = InterestKeywordMaster.builder()
+                .keyword("코딩")
+                .build();
+        ReflectionTestUtils.setField(keyword, "id", 10L);
+        when(keywordService.getValidatedKeywords(any())).thenReturn(List.of(keyword));
+
+        String[] names = {"백엔드", "프론트", "DBA", "데브옵스", "보안"};
+        List<MbtiRecommendationCandidate> candidates = new ArrayList<>();
+        for (int i = 0; i < names.length; i++) {
+            JobCatalog job = JobCatalog.builder().jobCode("J0" + (i + 1)).jobName(names[i]).build();
+            ReflectionTestUtils.setField(job, "id", 101L + i);
+            candidates.add(new MbtiRecommendationCandidate(job, 100 - i * 10, List.of("코딩")));
+        }
+        when(candidateSelector.selectCandidates(any())).thenReturn(candidates);
+        return mbtiResult;
+    }
+
+    private static String aiJson(String... jobCodes) {
+        StringBuilder json = new StringBuilder("{\"recommendations\":[");
+        for (int i = 0; i < jobCodes.length; i++) {
+            if (i > 0) {
+                json.append(',');
+            }
+            json.append("{\"jobCode\":\"").append(jobCodes[i]).append("\",\"reason\":\"")
+                    .append("코딩에 대한 관심과 ENFJ 성향의 협업 방식이 이 직무의 문제 해결 과정과 잘 맞아 꾸준히 성장하기 좋습니다.")
+                    .append("\"}");
+        }
+        return json.append("]}").toString();
+    }
 }
@@ -0,0 +1,78 @@
+package com.teamlms.backend.domain.mbti.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import com.teamlms.backend.domain.mbti.entity.MbtiChoice;
+import com.teamlms.backend.domain.mbti.entity.MbtiQuestion;
+import com.teamlms.backend.domain.mbti.enums.MbtiDimension;
+import com.teamlms.backend.domain.mbti.repository.MbtiChoiceRepository;
+import com.teamlms.backend.domain.mbti.repository.MbtiQuestionRepository;
+
+@ExtendWith(MockitoExtension.class)
+class MbtiScoringTableCacheTest {
+
+    @InjectMocks
+    private MbtiScoringTableCache scoringTableCache;
+
+    @Mock
+    private MbtiQuestionRepository questionRepository;
+
+    @Mock
+    private MbtiChoiceRepository choiceRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Test
+    @DisplayName("채점표 - 차원별 A/B 점수 합산, 없는 선택지는 null")
+    void score_SumsByDimension() {
+        MbtiQuestion ei = MbtiQuestion.builder().questionId(1L).dimension(MbtiDimension.EI).sortOrder(1).build();
+        MbtiQuestion jp = MbtiQuestion.builder().questionId(2L).dimension(MbtiDimension.JP).sortOrder(2).build();
+        List<MbtiChoice> choices = List.of(
+                MbtiChoice.builder().choiceId(30L).question(ei).scoreA(2).scoreB(0).build(),
+                MbtiChoice.builder().choiceId(10L).question(ei).scoreA(0).scoreB(3).build(),
+                MbtiChoice.builder().choiceId(20L).question(jp).scoreA(1).scoreB(4).build());
+
+        MbtiScoringTable table = MbtiScoringTable.build("v1", List.of(ei, jp), choices, MbtiScoringTableCache.LOCALES);
+
+        assertArrayEquals(new int[] {2, 3, 0, 0, 0, 0, 1, 4}, table.score(List.of(30L, 10L, 20L)));
+        assertNull(table.score(List.of(30L, 99L)));
+        assertEquals(3, table.choiceCount());
+        assertEquals(List.of(10L, 30L), table.questions("ja").get(0).choices().stream()
+                .map(c -> c.choiceId()).sorted().toList());
+    }
+
+    @Test
+    @DisplayName("캐시 - 시그니처가 같으면 재사용, 바뀌면 다시 적재")
+    void refresh_ReloadsOnlyWhenSignatureChanges() {
+        MbtiQuestion ei = MbtiQuestion.builder().questionId(1L).dimension(MbtiDimension.EI).sortOrder(1).build();
+        when(questionRepository.findScoringTableSignature()).thenReturn("a", "a", "b");
+        when(questionRepository.findAllOrderBySortOrder()).thenReturn(List.of(ei));
+        when(choiceRepository.findByQuestionIdsOrderByQuestionAndChoiceId(anyList())).thenReturn(List.of(
+                MbtiChoice.builder().choiceId(1L).question(ei).scoreA(1).scoreB(0).build()));
+
+        MbtiScoringTable first = scoringTableCache.current();
+        MbtiScoringTable same = scoringTableCache.refresh();
+        assertSame(first, scoringTableCache.current()); // 요청 경로는 DB 조회 없음
+        MbtiScoringTable changed = scoringTableCache.refresh();
+
+        assertSame(first, same);
+        assertNotSame(first, changed);
+        assertSame(changed, scoringTableCache.current());
+        assertEquals("b", changed.version());
+        verify(questionRepository, times(3)).findScoringTableSignature();
+        verify(questionRepository, times(2)).findAllOrderBySortOrder();
+    }
+}
@@ -18,6 +18,7 @@ import com.teamlms.backend.domain.competency.repository.DiagnosisRunRepository;
 import com.teamlms.backend.domain.competency.repository.SemesterCompetencyCohortStatRepository;
 import com.teamlms.backend.domain.competency.repository.SemesterStudentCompetencySummaryRepository;
 import com.teamlms.backend.domain.curricular.repository.CurricularOfferingRepository;
+import com.teamlms.backend.domain.curricular.service.StudentTimetableCache;
 import com.teamlms.backend.domain.extracurricular.repository.ExtraCurricularOfferingRepository;
 import com.teamlms.backend.domain.mentoring.repository.MentoringRecruitmentRepository;
 import com.teamlms.backend.domain.semester.entity.Semester;
@@ -54,6 +55,9 @@ class SemesterCommandServiceTest {
     @Mock
     private SemesterCompetencyCohortStatRepository semesterCompetencyCohortStatRepository;
 
+    @Mock
+    private StudentTimetableCache studentTimetableCache;
+
     @Test
     @DisplayName("학기 생성 성공")
     void create_Success() {
@@ -127,6 +131,7 @@ class SemesterCommandServiceTest {
 
         // then
         assertEquals(status, semester.getStatus());
+        verify(studentTimetableCache).evictSemester(semesterId);
     }
 
     @Test
@@ -6,8 +6,6 @@ import static org.mockito.Mockito.*;
 
 import java.time.LocalDate;
 import java.time.LocalTime;
-import java.util.Collections;
-import java.util.List;
 import java.util.Optional;
 
 import org.junit.jupiter.api.DisplayName;
@@ -45,6 +43,9 @@ class StudyRentalCommandServiceTest {
     @Mock
     private AccountRepository accountRepository;
 
+    @Mock
+    private StudyRoomAvailabilityEngine availabilityEngine;
+
     @Test
     @DisplayName("예약 신청 성공")
     void applyRental_Success() {
@@ -65,14 +66,14 @@ class StudyRentalCommandServiceTest {
         ReflectionTestUtils.setField(room, "id", 100L);
         when(roomRepository.findById(100L)).thenReturn(Optional.of(room));
 
-        when(rentalRepository.findOverlappingRentals(anyLong(), any(), any(), any()))
-                .thenReturn(Collections.emptyList());
+        when(availabilityEngine.hasApprovedOverlap(eq(100L), any(), any(), isNull())).thenReturn(false);
 
         // when
         studyRentalCommandService.applyRental(principal, request);
 
         // then
         verify(rentalRepository).save(any(StudyRoomRental.class));
+        verify(availabilityEngine).onChanged(any(StudyRoomRental.class));
     }
 
     @Test
@@ -95,9 +96,7 @@ class StudyRentalCommandServiceTest {
         ReflectionTestUtils.setField(room, "id", 100L);
         when(roomRepository.findById(100L)).thenReturn(Optional.of(room));
 
-        StudyRoomRental overlappedRental = StudyRoomRental.builder().build();
-        when(rentalRepository.findOverlappingRentals(anyLong(), any(), any(), any()))
-                .thenReturn(List.of(overlappedRental));
+        when(availabilityEngine.hasApprovedOverlap(eq(100L), any(), any(), isNull())).thenReturn(true);
 
         // when & then
         assertThrows(BusinessException.class, () -> studyRentalCommandService.applyRental(principal, request));
@@ -152,8 +151,8 @@ class StudyRentalCommandServiceTest {
         ReflectionTestUtils.setField(rental, "id", 1L);
 
         when(rentalRepository.findById(1L)).thenReturn(Optional.of(rental));
-        when(rentalRepository.findOverlappingRentals(anyLong(), any(), any(), any()))
-                .thenReturn(Collections.emptyList());
+        when(rentalRepository.existsOverlappingRentals(eq(100L), eq(RentalStatus.APPROVED), any(), any(), eq(1L)))
+                .thenReturn(false);
 
         // when
         studyRentalCommandService.processRental(principal, 1L, request);
@@ -161,6 +160,8 @@ class StudyRentalCommandServiceTest {
         // then
         assertEquals(RentalStatus.APPROVED, rental.getStatus());
         assertEquals(processor, rental.getProcessor());
+        verify(roomRepository).findByIdForUpdate(100L); // 같은 룸 승인 직렬화
+        verify(availabilityEngine).onChanged(rental);
     }
 
     @Test
@@ -217,13 +218,13 @@ class StudyRentalCommandServiceTest {
 
         when(rentalRepository.findById(1L)).thenReturn(Optional.of(rental));
 
-        StudyRoomRental overlappedRental = StudyRoomRental.builder().build();
-        when(rentalRepository.findOverlappingRentals(anyLong(), any(), any(), any()))
-                .thenReturn(List.of(overlappedRental));
+        when(rentalRepository.existsOverlappingRentals(eq(100L), eq(RentalStatus.APPROVED), any(), any(), eq(1L)))
+                .thenReturn(true);
 
         // when & then
         assertThrows(BusinessException.class, () -> studyRentalCommandService.processRental(principal, 1L, request));
         assertEquals(RentalStatus.REQUESTED, rental.getStatus());
+        verify(availabilityEngine, never()).onChanged(any());
     }
 
     @Test
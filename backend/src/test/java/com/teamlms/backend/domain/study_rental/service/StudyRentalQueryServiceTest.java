@@ -2,12 +2,14 @@ package com.teamlms.backend.domain.study_rental.service;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.Mockito.*;
 
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -26,12 +28,17 @@ import com.teamlms.backend.domain.account.repository.ProfessorProfileRepository;
 import com.teamlms.backend.domain.account.repository.StudentProfileRepository;
 import com.teamlms.backend.domain.dept.repository.DeptRepository;
 
+import com.teamlms.backend.domain.study_rental.api.dto.RentalCursorPage;
 import com.teamlms.backend.domain.study_rental.api.dto.RentalResponse;
+import com.teamlms.backend.domain.study_rental.dto.RentalCursor;
 import com.teamlms.backend.domain.study_rental.dto.RentalSearchCondition;
 import com.teamlms.backend.domain.study_rental.entity.StudyRoom;
 import com.teamlms.backend.domain.study_rental.entity.StudyRoomRental;
 import com.teamlms.backend.domain.study_rental.entity.StudySpace;
+import com.teamlms.backend.domain.study_rental.repository.StudyRentalSearchRepository;
 import com.teamlms.backend.domain.study_rental.repository.StudyRoomRentalRepository;
+import com.teamlms.backend.global.exception.base.BusinessException;
+import com.teamlms.backend.global.exception.code.ErrorCode;
 import com.teamlms.backend.global.security.principal.AuthUser;
 
 @ExtendWith(MockitoExtension.class)
@@ -52,6 +59,14 @@ class StudyRentalQueryServiceTest {
     @Mock
     private DeptRepository deptRepository;
 
+    @Mock
+    private StudyRentalSearchRepository searchRepository;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(studyRentalQueryService, "exactCountLimit", 1000L);
+    }
+
     @Test
     @DisplayName("예약 목록 조회 성공 (관리자용)")
     void getRentalList_Success() {
@@ -140,4 +155,75 @@ class StudyRentalQueryServiceTest {
 
         assertEquals("홍길동", result.getApplicant().getName());
     }
+
+    @Test
+    @DisplayName("예약 목록 커서 조회 - ID 순서 유지, 다음 커서 생성, 첫 페이지 정확한 건수")
+    void getRentalListByCursor_FirstPage() {
+        RentalSearchCondition condition = RentalSearchCondition.builder().spaceId(1L).build();
+        StudyRoomRental newer = rental(300L, LocalDateTime.of(2026, 3, 2, 15, 0));
+        StudyRoomRental older = rental(200L, LocalDateTime.of(2026, 3, 2, 9, 0));
+
+        when(searchRepository.findIds(condition, null, 3)).thenReturn(List.of(300L, 200L, 100L));
+        when(rentalRepository.findAllWithDetailsByIdIn(List.of(300L, 200L))).thenReturn(List.of(older, newer));
+        when(searchRepository.countUpTo(condition, 1000L)).thenReturn(42L);
+
+        RentalCursorPage result = studyRentalQueryService.getRentalListByCursor(condition, null, 2);
+
+        assertEquals(List.of(300L, 200L), result.content().stream().map(RentalResponse::getRentalId).toList());
+        assertTrue(result.hasNext());
+        assertEquals(new RentalCursor(older.getStartAt(), 200L), RentalCursor.decode(result.nextCursor()));
+        assertEquals(42L, result.totalElements());
+        assertTrue(result.totalExact());
+        verify(searchRepository, never()).estimateCount(any());
+        verify(studentProfileRepository, times(1)).findAllById(any());
+    }
+
+    @Test
+    @DisplayName("예약 목록 커서 조회 - 건수 상한을 넘으면 통계 기반 예상값, 다음 페이지는 건수 생략")
+    void getRentalListByCursor_EstimateAndNextPage() {
+        RentalSearchCondition condition = RentalSearchCondition.builder().build();
+        StudyRoomRental first = rental(500L, LocalDateTime.of(2026, 3, 2, 15, 0));
+
+        when(searchRepository.findIds(condition, null, 2)).thenReturn(List.of(500L, 400L));
+        when(rentalRepository.findAllWithDetailsByIdIn(List.of(500L))).thenReturn(List.of(first));
+        when(searchRepository.countUpTo(condition, 1000L)).thenReturn(1001L);
+        when(searchRepository.estimateCount(condition)).thenReturn(1_000_000L);
+
+        RentalCursorPage page1 = studyRentalQueryService.getRentalListByCursor(condition, null, 1);
+        assertEquals(1_000_000L, page1.totalElements());
+        assertFalse(page1.totalExact());
+
+        RentalCursor cursor = RentalCursor.decode(page1.nextCursor());
+        when(searchRepository.findIds(condition, cursor, 2)).thenReturn(List.of());
+
+        RentalCursorPage page2 = studyRentalQueryService.getRentalListByCursor(condition, page1.nextCursor(), 1);
+        assertTrue(page2.content().isEmpty());
+        assertFalse(page2.hasNext());
+        assertNull(page2.nextCursor());
+        assertNull(page2.totalElements());
+        verify(searchRepository, times(1)).countUpTo(any(), anyLong());
+    }
+
+    @Test
+    @DisplayName("예약 목록 커서 조회 실패 - 잘못된 커서")
+    void getRentalListByCursor_InvalidCursor() {
+        BusinessException ex = assertThrows(BusinessException.class,
+                () -> studyRentalQueryService.getRentalListByCursor(
+                        RentalSearchCondition.builder().build(), "not-a-cursor", 20));
+
+        assertEquals(ErrorCode.VALIDATION_ERROR, ex.getErrorCode());
+        verifyNoInteractions(searchRepository);
+    }
+
+    private static StudyRoomRental rental(Long id, LocalDateTime startAt) {
+        Account applicant = mock(Account.class);
+        when(applicant.getAccountId()).thenReturn(1L);
+        StudyRoomRental rental = StudyRoomRental.builder()
+                .applicant(applicant)
+                .startAt(startAt)
+                .endAt(startAt.plusHours(2))
+                .build();
+        ReflectionTestUtils.setField(rental, "id", id);
+        return rental;
+    }
 }
@@ -0,0 +1,184 @@
+package com.teamlms.backend.domain.study_rental.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.teamlms.backend.domain.study_rental.dto.RentalSlot;
+import com.teamlms.backend.domain.study_rental.entity.StudyRoom;
+import com.teamlms.backend.domain.study_rental.entity.StudyRoomRental;
+import com.teamlms.backend.domain.study_rental.enums.RentalStatus;
+import com.teamlms.backend.domain.study_rental.repository.StudyRoomRentalRepository;
+import com.teamlms.backend.domain.study_rental.service.StudyRoomAvailabilityEngine.RoomAvailability;
+import com.teamlms.backend.domain.study_rental.service.StudyRoomAvailabilityEngine.TimeRange;
+
+@ExtendWith(MockitoExtension.class)
+class StudyRoomAvailabilityEngineTest {
+
+    private static final LocalDate DAY = LocalDate.of(2026, 3, 2);
+
+    @InjectMocks
+    private StudyRoomAvailabilityEngine engine;
+
+    @Mock
+    private StudyRoomRentalRepository rentalRepository;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(engine, "maxEntries", 100);
+        ReflectionTestUtils.setField(engine, "ttlSeconds", 300L);
+    }
+
+    @Test
+    @DisplayName("겹침 확인 - 승인 구간만 대상, 끝과 시작이 맞닿으면 겹치지 않음, 자기 자신 제외")
+    void hasApprovedOverlap_UsesApprovedSlotsOnly() {
+        when(rentalRepository.findSlotsInWindow(any(), any(), any(), any())).thenReturn(List.of(
+                slot(1L, 100L, 9, 11, RentalStatus.APPROVED),
+                slot(2L, 100L, 8, 18, RentalStatus.APPROVED),
+                slot(3L, 100L, 13, 14, RentalStatus.REQUESTED)));
+
+        assertTrue(engine.hasApprovedOverlap(100L, at(17), at(19), null));  // 긴 구간(8~18)과 겹침
+        assertFalse(engine.hasApprovedOverlap(100L, at(18), at(20), null));
+        assertFalse(engine.hasApprovedOverlap(100L, at(6), at(8), null));
+        assertTrue(engine.hasApprovedOverlap(100L, at(10), at(12), 2L));    // 2 제외해도 1과 겹침
+        assertFalse(engine.hasApprovedOverlap(100L, at(12), at(13), 2L));
+
+        verify(rentalRepository, times(1)).findSlotsInWindow(any(), any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("신청/승인/취소 반영 - 적재된 날짜만 갱신 (트랜잭션 밖이면 즉시 반영)")
+    void onChanged_UpdatesLoadedDay() {
+        when(rentalRepository.findSlotsInWindow(any(), any(), any(), any())).thenReturn(List.of());
+        StudyRoom room = room(100L);
+        assertFalse(engine.hasApprovedOverlap(100L, at(10), at(11), null));
+
+        StudyRoomRental rental = StudyRoomRental.builder()
+                .studyRoom(room).startAt(at(10)).endAt(at(12)).status(RentalStatus.REQUESTED).build();
+        ReflectionTestUtils.setField(rental, "id", 5L);
+
+        engine.onChanged(rental);
+        assertFalse(engine.hasApprovedOverlap(100L, at(10), at(11), null));
+        assertEquals(List.of(new TimeRange(at(10), at(12))), engine.availability(room, DAY).requested());
+
+        rental.process(RentalStatus.APPROVED, null, null);
+        engine.onChanged(rental);
+        assertTrue(engine.hasApprovedOverlap(100L, at(11), at(13), null));
+        assertTrue(engine.availability(room, DAY).requested().isEmpty());
+
+        rental.cancel();
+        engine.onChanged(rental);
+        assertFalse(engine.hasApprovedOverlap(100L, at(11), at(13), null));
+
+        verify(rentalRepository, times(1)).findSlotsInWindow(any(), any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("공간 예약 현황 - 여러 룸을 쿼리 1건으로 적재, 예약 가능 시간 안의 빈 시간 계산")
+    void availability_LoadsRoomsInOneQuery() {
+        StudyRoom room1 = room(100L);
+        StudyRoom room2 = room(200L);
+        when(rentalRepository.findSlotsInWindow(any(), any(), any(), any())).thenReturn(List.of(
+                slot(1L, 100L, 7, 10, RentalStatus.APPROVED),
+                slot(2L, 100L, 12, 13, RentalStatus.APPROVED),
+                slot(3L, 200L, 14, 15, RentalStatus.REQUESTED)));
+
+        Map<Long, RoomAvailability> result = engine.availability(List.of(room1, room2), DAY);
+
+        assertEquals(List.of(100L, 200L), List.copyOf(result.keySet()));
+        assertEquals(List.of(new TimeRange(at(9), at(10)), new TimeRange(at(12), at(13))),
+                result.get(100L).approved());
+        assertEquals(List.of(new TimeRange(at(10), at(12)), new TimeRange(at(13), at(18))),
+                result.get(100L).free());
+        assertEquals(List.of(new TimeRange(at(9), at(18))), result.get(200L).free());
+        assertEquals(1, result.get(200L).requested().size());
+
+        // 다시 조회하면 캐시 사용
+        engine.availability(List.of(room1, room2), DAY);
+        verify(rentalRepository, times(1)).findSlotsInWindow(any(), any(), any(), any());
+        assertEquals(2, engine.size());
+    }
+
+    @Test
+    @DisplayName("운영 기간이 아닌 날짜 - 빈 시간 없음")
+    void availability_OutsideOperationPeriod() {
+        when(rentalRepository.findSlotsInWindow(any(), any(), any(), any())).thenReturn(List.of());
+
+        RoomAvailability result = engine.availability(room(100L), DAY.plusYears(1));
+
+        assertTrue(result.free().isEmpty());
+    }
+
+    @Test
+    @DisplayName("적재 쿼리 도중 변경 반영 - 조회 결과는 캐시하지 않고 다음 조회에서 다시 적재")
+    void day_SkipsCachingWhenChangedDuringLoad() {
+        StudyRoomRental rental = StudyRoomRental.builder()
+                .studyRoom(room(100L)).startAt(at(10)).endAt(at(12)).status(RentalStatus.APPROVED).build();
+        ReflectionTestUtils.setField(rental, "id", 5L);
+        when(rentalRepository.findSlotsInWindow(any(), any(), any(), any()))
+                .thenAnswer(invocation -> {
+                    engine.onChanged(rental); // 쿼리가 읽은 뒤 커밋된 승인
+                    return List.of();
+                })
+                .thenReturn(List.of(slot(5L, 100L, 10, 12, RentalStatus.APPROVED)));
+
+        assertFalse(engine.hasApprovedOverlap(100L, at(10), at(11), null));
+        assertEquals(0, engine.size());
+
+        assertTrue(engine.hasApprovedOverlap(100L, at(10), at(11), null));
+        assertEquals(1, engine.size());
+        verify(rentalRepository, times(2)).findSlotsInWindow(any(), any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("동시 적재 - 먼저 적재된 유효 항목을 늦게 끝난 조회 결과로 덮어쓰지 않음")
+    void day_KeepsEntryLoadedByOtherRequest() {
+        when(rentalRepository.findSlotsInWindow(any(), any(), any(), any()))
+                .thenAnswer(invocation -> {
+                    // 이 조회가 끝나기 전에 다른 요청이 최신 현황을 적재
+                    assertTrue(engine.hasApprovedOverlap(100L, at(10), at(11), null));
+                    return List.of();
+                })
+                .thenReturn(List.of(slot(5L, 100L, 10, 12, RentalStatus.APPROVED)));
+
+        assertTrue(engine.hasApprovedOverlap(100L, at(10), at(11), null));
+        assertTrue(engine.hasApprovedOverlap(100L, at(10), at(11), null));
+        verify(rentalRepository, times(2)).findSlotsInWindow(any(), any(), any(), any());
+    }
+
+    private static LocalDateTime at(int hour) {
+        return DAY.atTime(hour, 0);
+    }
+
+    private static RentalSlot slot(Long rentalId, Long roomId, int startHour, int endHour, RentalStatus status) {
+        return new RentalSlot(rentalId, roomId, at(startHour), at(endHour), status);
+    }
+
+    private static StudyRoom room(Long roomId) {
+        StudyRoom room = StudyRoom.builder()
+                .roomName("룸 " + roomId)
+                .maxPeople(4)
+                .operationStartDate(DAY.minusMonths(1))
+                .operationEndDate(DAY.plusMonths(1))
+                .rentableStartTime(LocalTime.of(9, 0))
+                .rentableEndTime(LocalTime.of(18, 0))
+                .build();
+        ReflectionTestUtils.setField(room, "id", roomId);
+        return room;
+    }
+}
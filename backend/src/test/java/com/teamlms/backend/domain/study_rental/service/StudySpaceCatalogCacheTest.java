@@ -0,0 +1,81 @@
+package com.teamlms.backend.domain.study_rental.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.teamlms.backend.domain.study_rental.entity.StudySpace;
+import com.teamlms.backend.domain.study_rental.repository.StudyRoomRepository;
+import com.teamlms.backend.domain.study_rental.repository.StudySpaceImageRepository;
+import com.teamlms.backend.domain.study_rental.repository.StudySpaceRepository;
+import com.teamlms.backend.domain.study_rental.repository.StudySpaceRuleRepository;
+
+@ExtendWith(MockitoExtension.class)
+class StudySpaceCatalogCacheTest {
+
+    @InjectMocks
+    private StudySpaceCatalogCache catalogCache;
+
+    @Mock
+    private StudySpaceRepository spaceRepository;
+
+    @Mock
+    private StudyRoomRepository roomRepository;
+
+    @Mock
+    private StudySpaceImageRepository imageRepository;
+
+    @Mock
+    private StudySpaceRuleRepository ruleRepository;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(catalogCache, "ttlSeconds", 300L);
+    }
+
+    @Test
+    @DisplayName("카탈로그 적재 - 전체 조회 4건으로 적재 후 재사용, 무효화되면 다시 적재")
+    void current_LoadsOnceUntilInvalidated() {
+        StudySpace space = StudySpace.builder().spaceName("열람실").location("도서관").build();
+        ReflectionTestUtils.setField(space, "id", 1L);
+        when(spaceRepository.findAll()).thenReturn(List.of(space));
+        when(roomRepository.findAllForCatalog()).thenReturn(List.of());
+        when(imageRepository.findAllForCatalog()).thenReturn(List.of());
+        when(ruleRepository.findAllForCatalog()).thenReturn(List.of());
+
+        StudySpaceCatalog first = catalogCache.current();
+        assertSame(first, catalogCache.current());
+        assertNotNull(first.space(1L));
+        verify(spaceRepository, times(1)).findAll();
+
+        catalogCache.invalidate(); // 트랜잭션 밖이면 즉시 무효화
+        StudySpaceCatalog reloaded = catalogCache.current();
+
+        assertNotSame(first, reloaded);
+        assertEquals(first.contentHash(), reloaded.contentHash()); // 내용이 같으면 ETag 유지
+        verify(spaceRepository, times(2)).findAll();
+        verify(roomRepository, times(2)).findAllForCatalog();
+    }
+
+    @Test
+    @DisplayName("ttl 이 지나면 다시 적재")
+    void current_ReloadsAfterTtl() {
+        ReflectionTestUtils.setField(catalogCache, "ttlSeconds", 0L);
+        when(spaceRepository.findAll()).thenReturn(List.of());
+
+        catalogCache.current();
+        catalogCache.current();
+
+        verify(spaceRepository, times(2)).findAll();
+    }
+}
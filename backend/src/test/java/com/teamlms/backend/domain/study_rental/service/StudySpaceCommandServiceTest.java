@@ -53,6 +53,9 @@ class StudySpaceCommandServiceTest {
     @Mock
     private S3Service s3Service;
 
+    @Mock
+    private StudySpaceCatalogCache catalogCache;
+
     @Test
     @DisplayName("학습공간 생성 성공")
     void createSpace_Success() throws Exception {
@@ -78,6 +81,7 @@ class StudySpaceCommandServiceTest {
         assertNotNull(spaceId);
         assertEquals(1L, spaceId);
         verify(spaceRepository).save(any(StudySpace.class));
+        verify(catalogCache).invalidate();
 
     }
 
@@ -1,13 +1,13 @@
 package com.teamlms.backend.domain.study_rental.service;
 
 import static org.junit.jupiter.api.Assertions.*;
-import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.*;
 
 import java.time.LocalDate;
+import java.time.LocalTime;
 import java.util.Arrays;
 import java.util.List;
-import java.util.Optional;
+import java.util.Map;
 
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -16,12 +16,12 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.test.util.ReflectionTestUtils;
 
 import com.teamlms.backend.domain.study_rental.api.dto.RoomDetailResponse;
+import com.teamlms.backend.domain.study_rental.api.dto.SpaceAvailabilityResponse;
 import com.teamlms.backend.domain.study_rental.api.dto.SpaceDetailResponse;
 import com.teamlms.backend.domain.study_rental.api.dto.SpaceListResponse;
 import com.teamlms.backend.domain.study_rental.dto.SpaceSearchCondition;
@@ -30,9 +30,11 @@ import com.teamlms.backend.domain.study_rental.entity.StudySpace;
 import com.teamlms.backend.domain.study_rental.entity.StudySpaceImage;
 import com.teamlms.backend.domain.study_rental.entity.StudySpaceRule;
 import com.teamlms.backend.domain.study_rental.repository.StudyRoomRepository;
-import com.teamlms.backend.domain.study_rental.repository.StudySpaceImageRepository;
 import com.teamlms.backend.domain.study_rental.repository.StudySpaceRepository;
-import com.teamlms.backend.domain.study_rental.repository.StudySpaceRuleRepository;
+import com.teamlms.backend.domain.study_rental.service.StudyRoomAvailabilityEngine.RoomAvailability;
+import com.teamlms.backend.domain.study_rental.service.StudyRoomAvailabilityEngine.TimeRange;
+import com.teamlms.backend.global.exception.base.BusinessException;
+import com.teamlms.backend.global.exception.code.ErrorCode;
 
 @ExtendWith(MockitoExtension.class)
 class StudySpaceQueryServiceTest {
@@ -47,45 +49,26 @@ class StudySpaceQueryServiceTest {
     private StudyRoomRepository roomRepository;
 
     @Mock
-    private StudySpaceImageRepository imageRepository;
+    private StudySpaceCatalogCache catalogCache;
 
     @Mock
-    private StudySpaceRuleRepository ruleRepository;
+    private StudyRoomAvailabilityEngine availabilityEngine;
 
     @Test
-    @DisplayName("학습공간 목록 조회 성공")
+    @DisplayName("학습공간 목록 조회 성공 - 카탈로그에서 활성 룸 기준 인원/대표 이미지 계산")
     void getSpaceList_Success() {
         // given
         SpaceSearchCondition condition = SpaceSearchCondition.builder().build(); // 필요에 따라 설정
         Pageable pageable = PageRequest.of(0, 10);
 
-        StudySpace space = StudySpace.builder()
-                .spaceName("테스트 공간")
-                .location("장소 1")
-                .isActive(true)
-                .build();
-        ReflectionTestUtils.setField(space, "id", 1L);
+        StudySpace space = space(1L, "테스트 공간", "장소 1", true);
+        StudyRoom room1 = room(space, 10L, "룸 1", 2, 4, true);
+        StudyRoom room2 = room(space, 20L, "룸 2", 4, 8, true);
+        StudyRoom inactive = room(space, 30L, "룸 3", 1, 20, false);
+        StudySpaceImage image = StudySpaceImage.builder().studySpace(space).imageUrl("http://test.image").build();
 
-        Page<StudySpace> spacePage = new PageImpl<>(List.of(space));
-        when(spaceRepository.search(any(), any())).thenReturn(spacePage);
-
-        StudyRoom room1 = StudyRoom.builder()
-                .minPeople(2)
-                .maxPeople(4)
-                .operationStartDate(LocalDate.now().minusDays(1))
-                .operationEndDate(LocalDate.now().plusDays(10))
-                .build();
-        StudyRoom room2 = StudyRoom.builder()
-                .minPeople(4)
-                .maxPeople(8)
-                .operationStartDate(LocalDate.now().minusDays(1))
-                .operationEndDate(LocalDate.now().plusDays(10))
-                .build();
-
-        when(roomRepository.findByStudySpaceIdAndIsActiveTrue(1L)).thenReturn(Arrays.asList(room1, room2));
-
-        StudySpaceImage image = StudySpaceImage.builder().imageUrl("http://test.image").build();
-        when(imageRepository.findByStudySpaceIdOrderBySortOrderAsc(1L)).thenReturn(List.of(image));
+        when(catalogCache.current()).thenReturn(StudySpaceCatalog.build(List.of(space),
+                List.of(room1, room2, inactive), List.of(image), List.of(), 0L));
 
         // when
         Page<SpaceListResponse> result = studySpaceQueryService.getSpaceList(condition, pageable);
@@ -98,7 +81,32 @@ class StudySpaceQueryServiceTest {
         assertEquals("테스트 공간", response.getSpaceName());
         assertEquals(2, response.getMinPeople());
         assertEquals(8, response.getMaxPeople());
+        assertTrue(response.getIsRentable());
         assertEquals("http://test.image", response.getMainImageUrl());
+        verifyNoInteractions(spaceRepository, roomRepository);
+    }
+
+    @Test
+    @DisplayName("학습공간 목록 조회 - 키워드/활성 여부 필터와 페이지 나누기")
+    void getSpaceList_FilterAndPage() {
+        StudySpace a = space(1L, "열람실 A", "도서관 1층", true);
+        StudySpace b = space(2L, "세미나실", "도서관 2층", true);
+        StudySpace c = space(3L, "열람실 C", "본관", false);
+        when(catalogCache.current()).thenReturn(StudySpaceCatalog.build(List.of(a, b, c),
+                List.of(), List.of(), List.of(), 0L));
+
+        Page<SpaceListResponse> activeOnly = studySpaceQueryService.getSpaceList(
+                SpaceSearchCondition.builder().keyword("열람실").isActiveOnly(true).build(), PageRequest.of(0, 10));
+        assertEquals(List.of(1L), activeOnly.getContent().stream().map(SpaceListResponse::getSpaceId).toList());
+
+        Page<SpaceListResponse> all = studySpaceQueryService.getSpaceList(
+                SpaceSearchCondition.builder().isActiveOnly(false).build(), PageRequest.of(1, 2));
+        assertEquals(3, all.getTotalElements());
+        assertEquals(List.of(1L), all.getContent().stream().map(SpaceListResponse::getSpaceId).toList());
+
+        Page<SpaceListResponse> byLocation = studySpaceQueryService.getSpaceList(
+                SpaceSearchCondition.builder().keyword("도서관").isActiveOnly(true).build(), PageRequest.of(0, 10));
+        assertEquals(List.of(2L, 1L), byLocation.getContent().stream().map(SpaceListResponse::getSpaceId).toList());
     }
 
     @Test
@@ -106,28 +114,16 @@ class StudySpaceQueryServiceTest {
     void getSpaceDetail_Success() {
         // given
         Long spaceId = 1L;
-        StudySpace space = StudySpace.builder()
-                .spaceName("테스트 공간")
-                .location("장소 1")
-                .description("설명")
-                .build();
-        ReflectionTestUtils.setField(space, "id", spaceId);
+        StudySpace space = space(spaceId, "테스트 공간", "장소 1", true);
 
-        when(spaceRepository.findById(spaceId)).thenReturn(Optional.of(space));
-
-        StudySpaceImage image = StudySpaceImage.builder().imageUrl("img.jpg").sortOrder(1).build();
+        StudySpaceImage image = StudySpaceImage.builder().studySpace(space).imageUrl("img.jpg").sortOrder(1).build();
         ReflectionTestUtils.setField(image, "id", 10L);
-        when(imageRepository.findByStudySpaceIdOrderBySortOrderAsc(spaceId)).thenReturn(List.of(image));
-
-        StudySpaceRule rule = StudySpaceRule.builder().content("규칙 1").sortOrder(1).build();
+        StudySpaceRule rule = StudySpaceRule.builder().studySpace(space).content("규칙 1").sortOrder(1).build();
         ReflectionTestUtils.setField(rule, "id", 20L);
-        when(ruleRepository.findByStudySpaceIdOrderBySortOrderAsc(spaceId)).thenReturn(List.of(rule));
+        StudyRoom room = room(space, 30L, "룸 1", 1, 4, true);
 
-        StudyRoom room = StudyRoom.builder()
-                .operationStartDate(LocalDate.now().minusDays(1))
-                .operationEndDate(LocalDate.now().plusDays(10))
-                .build();
-        when(roomRepository.findByStudySpaceIdAndIsActiveTrue(spaceId)).thenReturn(List.of(room));
+        when(catalogCache.current()).thenReturn(StudySpaceCatalog.build(List.of(space),
+                List.of(room), List.of(image), List.of(rule), 0L));
 
         // when
         SpaceDetailResponse result = studySpaceQueryService.getSpaceDetail(spaceId);
@@ -136,48 +132,125 @@ class StudySpaceQueryServiceTest {
         assertNotNull(result);
         assertEquals(spaceId, result.getSpaceId());
         assertEquals("테스트 공간", result.getSpaceName());
+        assertTrue(result.getIsRentable());
         assertEquals(1, result.getImages().size());
         assertEquals(1, result.getRules().size());
+        assertEquals("규칙 1", result.getRules().get(0).getContent());
     }
 
     @Test
-    @DisplayName("관리자용 룸 목록 조회 성공 (전체 조회)")
-    void getAdminRooms_Success() {
+    @DisplayName("학습공간 상세 조회 실패 - 카탈로그에 없음")
+    void getSpaceDetail_Fail_NotFound() {
+        when(catalogCache.current()).thenReturn(StudySpaceCatalog.build(List.of(), List.of(), List.of(), List.of(), 0L));
+
+        BusinessException ex = assertThrows(BusinessException.class,
+                () -> studySpaceQueryService.getSpaceDetail(1L));
+
+        assertEquals(ErrorCode.STUDY_RENTAL_NOT_FOUND, ex.getErrorCode());
+    }
+
+    @Test
+    @DisplayName("관리자용 룸 목록 조회 성공 (전체 조회) / 학생용 (Active Only)")
+    void getRooms_Success() {
         // given
         Long spaceId = 1L;
-        StudyRoom room1 = StudyRoom.builder().roomName("룸 1").build();
-        ReflectionTestUtils.setField(room1, "id", 10L);
-        StudyRoom room2 = StudyRoom.builder().roomName("룸 2").isActive(false).build();
-        ReflectionTestUtils.setField(room2, "id", 20L);
+        StudySpace space = space(spaceId, "테스트 공간", "장소 1", true);
+        StudyRoom room1 = room(space, 10L, "룸 1", 1, 4, true);
+        StudyRoom room2 = room(space, 20L, "룸 2", 1, 4, false);
 
-        when(roomRepository.findByStudySpaceId(spaceId)).thenReturn(Arrays.asList(room1, room2));
+        when(catalogCache.current()).thenReturn(StudySpaceCatalog.build(List.of(space),
+                Arrays.asList(room1, room2), List.of(), List.of(), 0L));
 
         // when
-        List<RoomDetailResponse> result = studySpaceQueryService.getAdminRooms(spaceId);
+        List<RoomDetailResponse> admin = studySpaceQueryService.getAdminRooms(spaceId);
+        List<RoomDetailResponse> student = studySpaceQueryService.getAvailableRooms(spaceId);
 
         // then
-        assertNotNull(result);
-        assertEquals(2, result.size());
-        assertEquals("룸 1", result.get(0).getRoomName());
-        assertEquals("룸 2", result.get(1).getRoomName());
+        assertEquals(List.of("룸 1", "룸 2"), admin.stream().map(RoomDetailResponse::getRoomName).toList());
+        assertEquals(List.of("룸 1"), student.stream().map(RoomDetailResponse::getRoomName).toList());
+        assertTrue(studySpaceQueryService.getAvailableRooms(99L).isEmpty());
+    }
+
+    @Test
+    @DisplayName("카탈로그 ETag - 내용이 같으면 같은 값, 바뀌면 다른 값")
+    void getCatalogETag_ChangesWithContent() {
+        StudySpace space = space(1L, "테스트 공간", "장소 1", true);
+        StudySpaceCatalog first = StudySpaceCatalog.build(List.of(space), List.of(), List.of(), List.of(), 0L);
+        StudySpaceCatalog reloaded = StudySpaceCatalog.build(List.of(space), List.of(), List.of(), List.of(), 1000L);
+        when(catalogCache.current()).thenReturn(first, reloaded);
+
+        String etag = studySpaceQueryService.getCatalogETag(false);
+        assertEquals(etag, studySpaceQueryService.getCatalogETag(false));
+        assertTrue(etag.startsWith("W/\""));
+
+        space.update("이름 변경", "장소 1", null);
+        StudySpaceCatalog changed = StudySpaceCatalog.build(List.of(space), List.of(), List.of(), List.of(), 2000L);
+        assertNotEquals(first.contentHash(), changed.contentHash());
+        assertNotEquals(first.etag(LocalDate.now(), false), first.etag(LocalDate.now(), true));
     }
 
     @Test
-    @DisplayName("학생용 룸 목록 조회 성공 (Active Only)")
-    void getAvailableRooms_Success() {
+    @DisplayName("공간 예약 현황 조회 성공 - 룸별 승인/대기/빈 시간")
+    void getSpaceAvailability_Success() {
         // given
         Long spaceId = 1L;
+        LocalDate date = LocalDate.of(2026, 3, 2);
         StudyRoom room1 = StudyRoom.builder().roomName("룸 1").build();
         ReflectionTestUtils.setField(room1, "id", 10L);
 
+        when(spaceRepository.existsById(spaceId)).thenReturn(true);
         when(roomRepository.findByStudySpaceIdAndIsActiveTrue(spaceId)).thenReturn(List.of(room1));
+        when(availabilityEngine.availability(List.of(room1), date)).thenReturn(Map.of(10L, new RoomAvailability(
+                10L,
+                List.of(new TimeRange(date.atTime(9, 0), date.atTime(10, 0))),
+                List.of(),
+                List.of(new TimeRange(date.atTime(10, 0), date.atTime(18, 0))))));
 
         // when
-        List<RoomDetailResponse> result = studySpaceQueryService.getAvailableRooms(spaceId);
+        SpaceAvailabilityResponse result = studySpaceQueryService.getSpaceAvailability(spaceId, date);
 
         // then
-        assertNotNull(result);
-        assertEquals(1, result.size());
-        assertEquals("룸 1", result.get(0).getRoomName());
+        assertEquals(1, result.getRooms().size());
+        SpaceAvailabilityResponse.RoomAvailabilityResponse room = result.getRooms().get(0);
+        assertEquals("룸 1", room.getRoomName());
+        assertEquals(LocalTime.of(9, 0), room.getApproved().get(0).getStartTime());
+        assertEquals(LocalTime.of(18, 0), room.getFree().get(0).getEndTime());
+        assertTrue(room.getRequested().isEmpty());
+    }
+
+    @Test
+    @DisplayName("공간 예약 현황 조회 실패 - 공간 없음")
+    void getSpaceAvailability_Fail_SpaceNotFound() {
+        when(spaceRepository.existsById(1L)).thenReturn(false);
+
+        BusinessException ex = assertThrows(BusinessException.class,
+                () -> studySpaceQueryService.getSpaceAvailability(1L, LocalDate.of(2026, 3, 2)));
+
+        assertEquals(ErrorCode.STUDY_RENTAL_SPACE_NOT_FOUND, ex.getErrorCode());
+        verifyNoInteractions(availabilityEngine);
+    }
+
+    private static StudySpace space(Long id, String name, String location, boolean active) {
+        StudySpace space = StudySpace.builder()
+                .spaceName(name)
+                .location(location)
+                .isActive(active)
+                .build();
+        ReflectionTestUtils.setField(space, "id", id);
+        return space;
+    }
+
+    private static StudyRoom room(StudySpace space, Long id, String name, int minPeople, int maxPeople, boolean active) {
+        StudyRoom room = StudyRoom.builder()
+                .studySpace(space)
+                .roomName(name)
+                .minPeople(minPeople)
+                .maxPeople(maxPeople)
+                .operationStartDate(LocalDate.now().minusDays(1))
+                .operationEndDate(LocalDate.now().plusDays(10))
+                .isActive(active)
+                .build();
+        ReflectionTestUtils.setField(room, "id", id);
+        return room;
     }
 }
@@ -0,0 +1,181 @@
+package com.teamlms.backend.global.admission;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.teamlms.backend.global.admission.EnrollmentAdmissionGate.AdmissionStats;
+import com.teamlms.backend.global.exception.base.RetryableBusinessException;
+import com.teamlms.backend.global.exception.code.ErrorCode;
+
+class EnrollmentAdmissionGateTest {
+
+    private static final Logger log = LoggerFactory.getLogger(EnrollmentAdmissionGateTest.class);
+
+    @Test
+    @DisplayName("수강신청 오픈 폭주 재현 - 동시 처리 한도 유지, 초과분은 대기 후 입장 또는 Retry-After 와 함께 즉시 실패")
+    void burst_KeepsConcurrencyWithinPool() throws Exception {
+        EnrollmentAdmissionGate gate = gate(10, 2, 100, 2_000, 2_000);
+        int requests = 3_000;
+        int threads = 200;
+
+        AtomicInteger inService = new AtomicInteger();
+        AtomicInteger peakInService = new AtomicInteger();
+        AtomicInteger admitted = new AtomicInteger();
+        AtomicInteger rejected = new AtomicInteger();
+        List<Long> retryAfters = Collections.synchronizedList(new ArrayList<>());
+        CountDownLatch startGate = new CountDownLatch(1);
+
+        ExecutorService pool = Executors.newFixedThreadPool(threads);
+        List<Future<?>> futures = new ArrayList<>(requests);
+        for (int i = 0; i < requests; i++) {
+            // 절반은 인기 교과 1개, 나머지는 30개 교과에 분산
+            long offeringId = i % 2 == 0 ? 1L : 2L + (i % 30);
+            futures.add(pool.submit(() -> {
+                startGate.await();
+                try (EnrollmentAdmissionGate.Ticket ignored = gate.admit(EnrollmentAdmissionGate.curricularKey(offeringId))) {
+                    int now = inService.incrementAndGet();
+                    peakInService.accumulateAndGet(now, Math::max);
+                    Thread.sleep(1); // 신청 처리 (DB 커넥션 사용 구간)
+                    inService.decrementAndGet();
+                    admitted.incrementAndGet();
+                } catch (RetryableBusinessException e) {
+                    rejected.incrementAndGet();
+                    retryAfters.add(e.getRetryAfterSeconds());
+                }
+                return null;
+            }));
+        }
+
+        long start = System.nanoTime();
+        startGate.countDown();
+        for (Future<?> f : futures) {
+            f.get(60, TimeUnit.SECONDS);
+        }
+        long elapsedNanos = System.nanoTime() - start;
+        pool.shutdown();
+
+        AdmissionStats stats = gate.getStats();
+        assertTrue(peakInService.get() <= 8, "peak=" + peakInService.get());
+        assertEquals(requests, admitted.get() + rejected.get());
+        assertEquals(admitted.get(), stats.admittedImmediately() + stats.admittedAfterWait());
+        assertEquals(rejected.get(), stats.rejectedQueueFull() + stats.rejectedTimeout());
+        assertTrue(retryAfters.stream().allMatch(s -> s >= 1 && s <= 30));
+        assertEquals(0, stats.active());
+        assertEquals(0, stats.waiting());
+        log.info("enrollment admission burst: requests={}, threads={}, admitted={}, rejected={}, peakWaiting={}, "
+                        + "p99Wait={} ms, rejectRate={}, elapsed={} ms, throughput={} req/s",
+                requests, threads, admitted.get(), rejected.get(), stats.peakWaiting(), stats.p99WaitMillis(),
+                String.format("%.3f", stats.rejectRate()), TimeUnit.NANOSECONDS.toMillis(elapsedNanos),
+                requests * 1_000_000_000L / Math.max(1, elapsedNanos));
+    }
+
+    @Test
+    @DisplayName("교과 대기열 가득 참 - 대기 없이 QUEUE_FULL + Retry-After")
+    void admit_RejectsWhenOfferingQueueFull() throws Exception {
+        EnrollmentAdmissionGate gate = gate(1, 0, 1, 100, 5_000);
+        String key = EnrollmentAdmissionGate.curricularKey(1L);
+        EnrollmentAdmissionGate.Ticket holder = gate.admit(key);
+
+        ExecutorService pool = Executors.newSingleThreadExecutor();
+        Future<Integer> queued = pool.submit(() -> {
+            try (EnrollmentAdmissionGate.Ticket t = gate.admit(key)) {
+                return t.queuePosition();
+            }
+        });
+        awaitWaiting(gate, 1);
+
+        long start = System.nanoTime();
+        RetryableBusinessException e = assertThrows(RetryableBusinessException.class, () -> gate.admit(key));
+        assertTrue(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start) < 1_000);
+        assertEquals(ErrorCode.ENROLLMENT_ADMISSION_QUEUE_FULL, e.getErrorCode());
+        assertTrue(e.getRetryAfterSeconds() >= 1);
+
+        holder.close();
+        assertEquals(1, queued.get(5, TimeUnit.SECONDS));
+        pool.shutdown();
+        assertEquals(1, gate.getStats().rejectedQueueFull());
+    }
+
+    @Test
+    @DisplayName("최대 대기 시간 초과 - TIMEOUT, 대기열에서 제거")
+    void admit_TimesOut() {
+        EnrollmentAdmissionGate gate = gate(1, 0, 10, 100, 50);
+        EnrollmentAdmissionGate.Ticket holder = gate.admit(EnrollmentAdmissionGate.extraCurricularKey(1L));
+
+        RetryableBusinessException e = assertThrows(RetryableBusinessException.class,
+                () -> gate.admit(EnrollmentAdmissionGate.extraCurricularKey(1L)));
+
+        assertEquals(ErrorCode.ENROLLMENT_ADMISSION_TIMEOUT, e.getErrorCode());
+        assertEquals(0, gate.getStats().waiting());
+        assertTrue(gate.getStats().topQueues().isEmpty());
+        holder.close();
+        holder.close(); // 중복 close 무시
+        assertEquals(0, gate.getStats().active());
+    }
+
+    @Test
+    @DisplayName("대기 교과를 돌아가며 입장 - 교과 안에서는 FIFO")
+    void release_RoundRobinAcrossOfferings() throws Exception {
+        EnrollmentAdmissionGate gate = gate(1, 0, 10, 100, 5_000);
+        EnrollmentAdmissionGate.Ticket holder = gate.admit("hold");
+        List<String> order = Collections.synchronizedList(new ArrayList<>());
+
+        ExecutorService pool = Executors.newFixedThreadPool(4);
+        List<Future<?>> futures = new ArrayList<>();
+        String[][] arrivals = {{"A", "A1"}, {"A", "A2"}, {"A", "A3"}, {"B", "B1"}};
+        for (int i = 0; i < arrivals.length; i++) {
+            String key = arrivals[i][0];
+            String name = arrivals[i][1];
+            futures.add(pool.submit(() -> {
+                try (EnrollmentAdmissionGate.Ticket ignored = gate.admit(key)) {
+                    order.add(name);
+                }
+                return null;
+            }));
+            awaitWaiting(gate, i + 1);
+        }
+
+        holder.close();
+        for (Future<?> f : futures) {
+            f.get(5, TimeUnit.SECONDS);
+        }
+        pool.shutdown();
+
+        assertEquals(List.of("A1", "B1", "A2", "A3"), order);
+    }
+
+    private static EnrollmentAdmissionGate gate(int poolSize, int reserved, int maxQueuePerOffering,
+            int maxWaiting, long maxWaitMillis) {
+        EnrollmentAdmissionGate gate = new EnrollmentAdmissionGate();
+        ReflectionTestUtils.setField(gate, "connectionPoolSize", poolSize);
+        ReflectionTestUtils.setField(gate, "reservedConnections", reserved);
+        ReflectionTestUtils.setField(gate, "maxQueuePerOffering", maxQueuePerOffering);
+        ReflectionTestUtils.setField(gate, "maxWaiting", maxWaiting);
+        ReflectionTestUtils.setField(gate, "maxWaitMillis", maxWaitMillis);
+        gate.init();
+        return gate;
+    }
+
+    private static void awaitWaiting(EnrollmentAdmissionGate gate, int expected) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (gate.getStats().waiting() < expected && System.nanoTime() < deadline) {
+            Thread.sleep(1);
+        }
+        assertEquals(expected, gate.getStats().waiting());
+    }
+}
@@ -0,0 +1,113 @@
+package com.teamlms.backend.global.security;
+
+import static org.springframework.security.test.web.servlet.setup.SecurityMockMvcConfigurers.springSecurity;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.junit.jupiter.web.SpringJUnitWebConfig;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.WebApplicationContext;
+import org.springframework.web.servlet.config.annotation.EnableWebMvc;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import com.teamlms.backend.global.security.jwt.JwtAuthenticationCache;
+import com.teamlms.backend.global.security.jwt.JwtTokenProvider;
+
+@SpringJUnitWebConfig(classes = { SecurityConfig.class, SecurityConfigAsyncDispatchTest.TestConfig.class })
+class SecurityConfigAsyncDispatchTest {
+
+    private static final String SECRET = "THIS_IS_A_LONG_SECRET_KEY_FOR_JWT_32_CHARS_MIN";
+
+    @Autowired
+    private WebApplicationContext context;
+
+    @Autowired
+    private JwtTokenProvider tokenProvider;
+
+    @Autowired
+    private StreamController streamController;
+
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        mockMvc = MockMvcBuilders.webAppContextSetup(context).apply(springSecurity()).build();
+    }
+
+    @Test
+    @DisplayName("SSE 종료 후 비동기 재디스패치 - JWT 필터를 건너뛰어도 인가 실패 없이 완료")
+    void sseCompletion_AsyncDispatchPermitted() throws Exception {
+        String token = tokenProvider.createAccessToken(7L, "STUDENT", Set.of());
+
+        MvcResult result = mockMvc.perform(get("/api/v1/test/stream")
+                        .header("Authorization", "Bearer " + token)
+                        .accept(MediaType.TEXT_EVENT_STREAM))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        streamController.emitter.get().complete();
+
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    @DisplayName("토큰 없는 SSE 요청 - 최초 요청에서 거부")
+    void sseWithoutToken_Rejected() throws Exception {
+        mockMvc.perform(get("/api/v1/test/stream").accept(MediaType.TEXT_EVENT_STREAM))
+                .andExpect(request().asyncNotStarted())
+                .andExpect(status().isForbidden());
+    }
+
+    @Configuration
+    @EnableWebMvc
+    static class TestConfig {
+
+        @Bean
+        JwtTokenProvider jwtTokenProvider() {
+            return new JwtTokenProvider(SECRET, 3600);
+        }
+
+        @Bean
+        JwtAuthenticationCache jwtAuthenticationCache(JwtTokenProvider jwtTokenProvider) {
+            JwtAuthenticationCache cache = new JwtAuthenticationCache(jwtTokenProvider);
+            ReflectionTestUtils.setField(cache, "maxEntries", 100);
+            return cache;
+        }
+
+        @Bean
+        StreamController streamController() {
+            return new StreamController();
+        }
+    }
+
+    @RestController
+    static class StreamController {
+
+        private final AtomicReference<SseEmitter> emitter = new AtomicReference<>();
+
+        @GetMapping(value = "/api/v1/test/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+        SseEmitter stream() {
+            SseEmitter created = new SseEmitter(60_000L);
+            emitter.set(created);
+            return created;
+        }
+    }
+}
@@ -0,0 +1,165 @@
+package com.teamlms.backend.global.security.jwt;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.teamlms.backend.global.security.SecurityConfig;
+import com.teamlms.backend.global.security.jwt.JwtAuthenticationCache.JwtAuthCacheStats;
+import com.teamlms.backend.global.security.principal.AuthUser;
+
+class JwtAuthenticationFilterTest {
+
+    private static final Logger log = LoggerFactory.getLogger(JwtAuthenticationFilterTest.class);
+    private static final String SECRET = "THIS_IS_A_LONG_SECRET_KEY_FOR_JWT_32_CHARS_MIN";
+
+    private JwtTokenProvider tokenProvider;
+    private JwtAuthenticationCache cache;
+    private JwtAuthenticationFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        tokenProvider = new JwtTokenProvider(SECRET, 3600);
+        cache = newCache(10_000);
+        filter = new JwtAuthenticationFilter(cache, SecurityConfig.PUBLIC_PATHS);
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    @DisplayName("같은 토큰 재요청 - 캐시 적중, 같은 Authentication 재사용")
+    void sameToken_HitsCache() throws Exception {
+        String token = tokenProvider.createAccessToken(7L, "ADMIN", permissions("LOG_MANAGE", "DEPT_MANAGE"));
+
+        Authentication first = filterRequest("/api/v1/admin/logs", token);
+        Authentication second = filterRequest("/api/v1/admin/logs", token);
+
+        assertNotNull(first);
+        assertSame(first, second);
+        AuthUser principal = (AuthUser) first.getPrincipal();
+        assertEquals(7L, principal.getAccountId());
+        assertEquals("ADMIN", principal.getAccountType());
+        assertEquals(List.of("ROLE_ADMIN", "LOG_MANAGE", "DEPT_MANAGE"),
+                first.getAuthorities().stream().map(GrantedAuthority::getAuthority).toList());
+
+        JwtAuthCacheStats stats = cache.getStats();
+        assertEquals(1, stats.hitCount());
+        assertEquals(1, stats.missCount());
+        assertEquals(0.5, stats.hitRate());
+        assertEquals(1, stats.size());
+    }
+
+    @Test
+    @DisplayName("권한 객체 - 권한 문자열별로 하나의 인스턴스를 공유")
+    void authorities_AreShared() {
+        Authentication a = cache.authenticate(tokenProvider.createAccessToken(1L, "STUDENT", permissions("MBTI_READ")));
+        Authentication b = cache.authenticate(tokenProvider.createAccessToken(2L, "STUDENT", permissions("MBTI_READ")));
+
+        List<GrantedAuthority> aAuthorities = List.copyOf(a.getAuthorities());
+        List<GrantedAuthority> bAuthorities = List.copyOf(b.getAuthorities());
+        assertSame(aAuthorities.get(0), bAuthorities.get(0));
+        assertSame(aAuthorities.get(1), bAuthorities.get(1));
+        assertEquals(2, cache.getStats().sharedAuthorities());
+    }
+
+    @Test
+    @DisplayName("공개 경로 - 필터를 건너뛰어 토큰 검증/캐시 조회 없음")
+    void publicPath_SkipsFilter() throws Exception {
+        String token = tokenProvider.createAccessToken(7L, "ADMIN", permissions());
+
+        assertNull(filterRequest("/api/v1/auth/login", token));
+        assertNull(filterRequest("/swagger-ui/index.html", token));
+        assertEquals(0, cache.getStats().missCount());
+    }
+
+    @Test
+    @DisplayName("위조 토큰 - 인증 없음, 캐시하지 않음")
+    void invalidToken_ClearsContext() throws Exception {
+        String token = tokenProvider.createAccessToken(7L, "ADMIN", permissions());
+        String tampered = token.substring(0, token.length() - 2) + (token.endsWith("AA") ? "BB" : "AA");
+
+        assertNull(filterRequest("/api/v1/admin/logs", tampered));
+        assertEquals(1, cache.getStats().invalidTokenCount());
+        assertEquals(0, cache.getStats().size());
+    }
+
+    @Test
+    @DisplayName("max-entries 초과 - 캐시하지 않고 검증 경로로 인증")
+    void full_RejectsNewEntries() {
+        JwtAuthenticationCache small = newCache(1);
+
+        small.authenticate(tokenProvider.createAccessToken(1L, "STUDENT", permissions()));
+        Authentication second = small.authenticate(tokenProvider.createAccessToken(2L, "STUDENT", permissions()));
+
+        assertNotNull(second);
+        assertEquals(1, small.getStats().size());
+        assertEquals(1, small.getStats().rejectedPutCount());
+    }
+
+    @Test
+    @DisplayName("요청당 필터 비용 측정 - 캐시 적중 vs 매번 서명 검증")
+    void benchmark_FilterCostPerRequest() throws Exception {
+        String token = tokenProvider.createAccessToken(7L, "ADMIN",
+                permissions("LOG_MANAGE", "DEPT_MANAGE", "ACCOUNT_MANAGE", "NOTICE_MANAGE", "SEMESTER_MANAGE"));
+        int warmUp = 2_000;
+        int iterations = 20_000;
+
+        for (int i = 0; i < warmUp; i++) {
+            tokenProvider.parseClaims(token);
+            filterRequest("/api/v1/admin/logs", token);
+        }
+
+        long start = System.nanoTime();
+        for (int i = 0; i < iterations; i++) {
+            tokenProvider.parseClaims(token);
+        }
+        long parseNanos = System.nanoTime() - start;
+
+        start = System.nanoTime();
+        for (int i = 0; i < iterations; i++) {
+            filterRequest("/api/v1/admin/logs", token);
+        }
+        long cachedNanos = System.nanoTime() - start;
+
+        log.info("jwt filter cost per request: verify={} ns, cached filter={} ns, hitRate={}",
+                parseNanos / iterations, cachedNanos / iterations, cache.getStats().hitRate());
+        assertEquals(1, cache.getStats().missCount());
+    }
+
+    private Authentication filterRequest(String uri, String token) throws Exception {
+        SecurityContextHolder.clearContext();
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", uri);
+        request.addHeader("Authorization", "Bearer " + token);
+        filter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+        return SecurityContextHolder.getContext().getAuthentication();
+    }
+
+    private JwtAuthenticationCache newCache(int maxEntries) {
+        JwtAuthenticationCache c = new JwtAuthenticationCache(tokenProvider);
+        ReflectionTestUtils.setField(c, "maxEntries", maxEntries);
+        return c;
+    }
+
+    private static Set<String> permissions(String... codes) {
+        return new LinkedHashSet<>(List.of(codes));
+    }
+}
@@ -0,0 +1,35 @@
+import { NextRequest } from "next/server";
+import { proxyToBackend } from "@/lib/bff";
+import { revalidateTag } from "next/cache";
+
+const TAG = "student:extra-curricular-session";
+const ADMIN_TAG = "admin:extra-curricular-offering";
+
+export async function POST(
+  req: NextRequest,
+  { params }: { params: { offeringId: string; sessionId: string } }
+) {
+  const body = await req.json();
+
+  const res = await proxyToBackend(
+    req,
+    `/api/v1/student/extra-curricular/offerings/${params.offeringId}/sessions/${params.sessionId}/watch-progress`,
+    {
+      method: "POST",
+      body,
+      cache: "no-store",
+    }
+  );
+
+  // heartbeat 는 자주 오므로 출석이 확정된 응답에서만 캐시 무효화
+  if (res.ok) {
+    const json = await res.clone().json().catch(() => null);
+    if (json?.data?.attended) {
+      revalidateTag(TAG);
+      revalidateTag(ADMIN_TAG);
+      revalidateTag("student:mypage");
+    }
+  }
+
+  return res;
+}
@@ -7,6 +7,7 @@ import {
   ExtraCurricularOfferingUserListResponse,
   ExtraSessionDetailResponse,
   ExtraSessionListResponse,
+  ExtraSessionWatchProgressResponse,
   StudentExtraCompletionListResponse,
   StudentExtraGradeDetailHeaderResponse,
 } from "./types";
@@ -176,3 +177,21 @@ export async function markStudentExtraSessionAttendance(
     cache: "no-store",
   });
 }
+
+/**
+ * 시청 구간 heartbeat
+ * @param segments [시작초, 종료초, ...] (종료초 미포함)
+ */
+export async function postStudentExtraSessionWatchProgress(
+  offeringId: number,
+  sessionId: number,
+  segments: number[]
+) {
+  const url = `/api/student/extra-curricular/offerings/${offeringId}/sessions/${sessionId}/watch-progress`;
+  return getJson<ExtraSessionWatchProgressResponse>(url, {
+    method: "POST",
+    headers: { "Content-Type": "application/json" },
+    body: JSON.stringify({ segments }),
+    cache: "no-store",
+  });
+}
@@ -164,3 +164,12 @@ export type StudentExtraCompletionListResponse = ApiResponse<
 >;
 export type ExtraSessionListResponse = ApiResponse<ExtraSessionListItemDto[], PageMeta>;
 export type ExtraSessionDetailResponse = ApiResponse<ExtraSessionDetailDto, null>;
+
+export type ExtraSessionWatchProgressDto = {
+  coveredSeconds: number;
+  durationSeconds: number;
+  requiredSeconds: number;
+  attended: boolean;
+};
+
+export type ExtraSessionWatchProgressResponse = ApiResponse<ExtraSessionWatchProgressDto, null>;
@@ -9,6 +9,7 @@ import toast from "react-hot-toast";
 import styles from "@/features/admin/extra-curricular/offerings/components/detail/components/ExtraSessionDetailPanel.module.css";
 import { markStudentExtraSessionAttendance } from "../../../api/extraCurricularApi";
 import { useStudentExtraSessionDetail } from "../../../hooks/useExtraCurricularOfferingList";
+import { useExtraSessionWatchHeartbeat } from "../../../hooks/useExtraSessionWatchHeartbeat";
 
 type Props = {
   offeringId: number;
@@ -35,6 +36,20 @@ export function StudentExtraSessionDetailPanel({
   const [watchedSeconds, setWatchedSeconds] = useState(0);
 
   const videoRef = useRef<HTMLVideoElement | null>(null);
+  const attendedNotifiedRef = useRef(false);
+
+  // 시청 구간을 서버로 보내고, 서버가 출석을 확정하면 바로 반영
+  const heartbeat = useExtraSessionWatchHeartbeat(
+    offeringId,
+    sessionId,
+    showPlayer && !isAttended,
+    (progress) => {
+      if (!progress.attended || attendedNotifiedRef.current) return;
+      attendedNotifiedRef.current = true;
+      toast.success(t("messages.attendanceSuccess"));
+      void onAttended?.();
+    }
+  );
 
   const previewUrl = data?.video?.previewUrl ?? "";
   const canPlay = Boolean(previewUrl);
@@ -63,10 +78,13 @@ export function StudentExtraSessionDetailPanel({
     setConfirmOpen(false);
     setConfirmLoading(false);
     setWatchedSeconds(0);
+    attendedNotifiedRef.current = false;
   }, [sessionId]);
 
-  const handleEnded = () => {
-    if (isAttended) return;
+  const handleEnded = async () => {
+    if (isAttended || attendedNotifiedRef.current) return;
+    const progress = await heartbeat.flush();
+    if (progress?.attended) return;
     const current = videoRef.current?.currentTime ?? 0;
     const duration = data?.video?.durationSeconds ?? 0;
     const watched = Math.max(Math.ceil(current), duration);
@@ -153,7 +171,10 @@ export function StudentExtraSessionDetailPanel({
                 playsInline
                 preload="metadata"
                 onContextMenu={(e) => e.preventDefault()}
-                onEnded={handleEnded}
+                onTimeUpdate={heartbeat.handlers.onTimeUpdate}
+                onSeeking={heartbeat.handlers.onSeeking}
+                onPause={heartbeat.handlers.onPause}
+                onEnded={() => void handleEnded()}
                 className={styles.video}
               />
             )}
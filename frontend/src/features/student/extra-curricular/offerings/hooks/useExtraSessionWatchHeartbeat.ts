@@ -0,0 +1,101 @@
+"use client";
+
+import { useCallback, useEffect, useRef, type SyntheticEvent } from "react";
+import type { ExtraSessionWatchProgressDto } from "../api/types";
+import { postStudentExtraSessionWatchProgress } from "../api/extraCurricularApi";
+
+const HEARTBEAT_INTERVAL_MS = 15_000;
+const SEEK_THRESHOLD_SECONDS = 2; // timeupdate 간격보다 크게 건너뛰면 새 구간
+const MAX_SEGMENTS_PER_REQUEST = 64; // 서버 한도 128 (시작초/종료초 쌍)
+
+/**
+ * 회차 동영상 시청 구간 heartbeat
+ * - 실제로 재생된 구간만 [시작초, 종료초) 로 모아 주기적으로 서버에 전송 (출석 판단은 서버가 함)
+ * - 일시정지/종료/언마운트 시에도 남은 구간 전송
+ */
+export function useExtraSessionWatchHeartbeat(
+  offeringId: number,
+  sessionId: number,
+  enabled: boolean,
+  onProgress?: (progress: ExtraSessionWatchProgressDto) => void
+) {
+  const segmentsRef = useRef<number[]>([]);
+  const startRef = useRef<number | null>(null);
+  const lastTimeRef = useRef(0);
+  const sendingRef = useRef<Promise<ExtraSessionWatchProgressDto | null> | null>(null);
+  const onProgressRef = useRef(onProgress);
+  onProgressRef.current = onProgress;
+
+  // 진행 중인 구간을 닫음 (재생 위치가 이어지면 다음 구간 시작점으로 유지)
+  const closeSegment = useCallback((keepOpen: boolean) => {
+    const start = startRef.current;
+    if (start === null) return;
+    const end = Math.floor(lastTimeRef.current);
+    if (end > start) {
+      segmentsRef.current.push(start, end);
+    }
+    startRef.current = keepOpen ? end : null;
+  }, []);
+
+  const flush = useCallback(async (): Promise<ExtraSessionWatchProgressDto | null> => {
+    if (sendingRef.current) {
+      await sendingRef.current;
+    }
+    closeSegment(true);
+    if (!enabled || segmentsRef.current.length === 0) return null;
+
+    const segments = segmentsRef.current.splice(0, MAX_SEGMENTS_PER_REQUEST * 2);
+    const sending = postStudentExtraSessionWatchProgress(offeringId, sessionId, segments)
+      .then((res) => {
+        onProgressRef.current?.(res.data);
+        return res.data;
+      })
+      .catch((e) => {
+        console.error("[useExtraSessionWatchHeartbeat]", e);
+        segmentsRef.current.unshift(...segments); // 다음 전송에 다시 포함
+        return null;
+      })
+      .finally(() => {
+        sendingRef.current = null;
+      });
+    sendingRef.current = sending;
+    return sending;
+  }, [closeSegment, enabled, offeringId, sessionId]);
+
+  const onTimeUpdate = useCallback((e: SyntheticEvent<HTMLVideoElement>) => {
+    const current = e.currentTarget.currentTime;
+    if (startRef.current === null) {
+      startRef.current = Math.floor(current);
+    } else if (Math.abs(current - lastTimeRef.current) > SEEK_THRESHOLD_SECONDS) {
+      closeSegment(false);
+      startRef.current = Math.floor(current);
+    }
+    lastTimeRef.current = current;
+  }, [closeSegment]);
+
+  const onSeeking = useCallback(() => {
+    closeSegment(false);
+  }, [closeSegment]);
+
+  const onPause = useCallback(() => {
+    closeSegment(false);
+    void flush();
+  }, [closeSegment, flush]);
+
+  useEffect(() => {
+    segmentsRef.current = [];
+    startRef.current = null;
+    lastTimeRef.current = 0;
+  }, [sessionId]);
+
+  useEffect(() => {
+    if (!enabled) return;
+    const timer = window.setInterval(() => void flush(), HEARTBEAT_INTERVAL_MS);
+    return () => {
+      window.clearInterval(timer);
+      void flush();
+    };
+  }, [enabled, flush]);
+
+  return { handlers: { onTimeUpdate, onSeeking, onPause }, flush };
+}